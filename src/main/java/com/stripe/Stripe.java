@@ -20,6 +20,12 @@ public abstract class Stripe {
   public static volatile String clientId;
   public static volatile boolean enableTelemetry = true;
 
+  /**
+   * The fraction of requests, between 0 and 1, whose metrics are reported as telemetry with a later
+   * request when {@link #enableTelemetry} is set. By default every request is reported.
+   */
+  public static volatile double telemetrySampleRate = 1.0;
+
   // Note that URLConnection reserves the value of 0 to mean "infinite
   // timeout", so we use -1 here to represent an unset value which should
   // fall back to a default.
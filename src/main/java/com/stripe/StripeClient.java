@@ -41,6 +41,34 @@ public class StripeClient {
     return responseGetter;
   }
 
+  /**
+   * Prepares this client so that its first requests are as fast as the following ones, e.g. before
+   * an application reports itself as ready. This opens connections to Stripe ahead of time, and
+   * loads the model classes and builds their deserializers, which would otherwise happen on their
+   * first use.
+   *
+   * @param options the warm-up settings
+   * @throws StripeException if a connection to Stripe could not be opened
+   */
+  public void warmUp(WarmUpOptions options) throws StripeException {
+    for (Class<?> modelClass : options.getModelClasses()) {
+      // Gson builds and caches the type adapters of a class and of its fields on first use.
+      // Responses are deserialized with INTERNAL_GSON, which has its own cache.
+      ApiResource.INTERNAL_GSON.getAdapter(modelClass);
+    }
+    this.responseGetter.warmUp(options);
+  }
+
+  /**
+   * Prepares this client with the default {@link WarmUpOptions}.
+   *
+   * @throws StripeException if a connection to Stripe could not be opened
+   * @see #warmUp(WarmUpOptions)
+   */
+  public void warmUp() throws StripeException {
+    this.warmUp(WarmUpOptions.builder().build());
+  }
+
   /**
    * Returns an StripeEvent instance using the provided JSON payload. Throws a JsonSyntaxException
    * if the payload is not valid JSON, and a SignatureVerificationException if the signature
@@ -433,6 +461,45 @@ public class StripeClient {
     @Getter(onMethod_ = {@Override})
     private final String stripeContext;
 
+    @Getter(onMethod_ = {@Override})
+    private final RetryPolicy retryPolicy;
+
+    @Getter(onMethod_ = {@Override})
+    private final AdaptiveRateLimiter rateLimiter;
+
+    @Getter(onMethod_ = {@Override})
+    private final AdaptiveConcurrencyLimiter concurrencyLimiter;
+
+    @Getter(onMethod_ = {@Override})
+    private final CircuitBreaker circuitBreaker;
+
+    @Getter(onMethod_ = {@Override})
+    private final HedgingPolicy hedgingPolicy;
+
+    @Getter(onMethod_ = {@Override})
+    private final RequestScheduler requestScheduler;
+
+    @Getter(onMethod_ = {@Override})
+    private final AccountBulkheads accountBulkheads;
+
+    private final boolean stacklessBusinessExceptions;
+
+    @Getter(onMethod_ = {@Override})
+    private final IdempotencyKeyGenerator idempotencyKeyGenerator;
+
+    @Getter(onMethod_ = {@Override})
+    private final RequestTimingsListener requestTimingsListener;
+
+    @Getter(onMethod_ = {@Override})
+    private final StripeMetricsListener metricsListener;
+
+    @Getter(onMethod_ = {@Override})
+    private final ExchangeLog exchangeLog;
+
+    private final boolean streamingDeserialization;
+
+    private final boolean leanResponses;
+
     ClientStripeResponseGetterOptions(
         Authenticator authenticator,
         String clientId,
@@ -445,7 +512,21 @@ public class StripeClient {
         String filesBase,
         String connectBase,
         String meterEventsBase,
-        String stripeContext) {
+        String stripeContext,
+        RetryPolicy retryPolicy,
+        AdaptiveRateLimiter rateLimiter,
+        AdaptiveConcurrencyLimiter concurrencyLimiter,
+        CircuitBreaker circuitBreaker,
+        HedgingPolicy hedgingPolicy,
+        RequestScheduler requestScheduler,
+        AccountBulkheads accountBulkheads,
+        boolean stacklessBusinessExceptions,
+        IdempotencyKeyGenerator idempotencyKeyGenerator,
+        RequestTimingsListener requestTimingsListener,
+        StripeMetricsListener metricsListener,
+        ExchangeLog exchangeLog,
+        boolean streamingDeserialization,
+        boolean leanResponses) {
       this.authenticator = authenticator;
       this.clientId = clientId;
       this.connectTimeout = connectTimeout;
@@ -458,6 +539,36 @@ public class StripeClient {
       this.connectBase = connectBase;
       this.meterEventsBase = meterEventsBase;
       this.stripeContext = stripeContext;
+      this.retryPolicy = retryPolicy;
+      this.rateLimiter = rateLimiter;
+      this.concurrencyLimiter = concurrencyLimiter;
+      this.circuitBreaker = circuitBreaker;
+      this.hedgingPolicy = hedgingPolicy;
+      this.requestScheduler = requestScheduler;
+      this.accountBulkheads = accountBulkheads;
+      this.stacklessBusinessExceptions = stacklessBusinessExceptions;
+      this.idempotencyKeyGenerator = idempotencyKeyGenerator;
+      this.requestTimingsListener = requestTimingsListener;
+      this.metricsListener = metricsListener;
+      this.exchangeLog = exchangeLog;
+      this.streamingDeserialization = streamingDeserialization;
+      this.leanResponses = leanResponses;
+    }
+
+    // Lombok would name the getters of these boolean fields getX(), see lombok.config.
+    @Override
+    public boolean isStacklessBusinessExceptions() {
+      return this.stacklessBusinessExceptions;
+    }
+
+    @Override
+    public boolean isStreamingDeserialization() {
+      return this.streamingDeserialization;
+    }
+
+    @Override
+    public boolean isLeanResponses() {
+      return this.leanResponses;
     }
   }
 
@@ -482,6 +593,23 @@ public class StripeClient {
     private String connectBase = Stripe.CONNECT_API_BASE;
     private String meterEventsBase = Stripe.METER_EVENTS_API_BASE;
     private String stripeContext;
+    private HttpClient httpClient;
+    private ConnectionPool connectionPool;
+    private RetryPolicy retryPolicy;
+    private AdaptiveRateLimiter rateLimiter;
+    private AdaptiveConcurrencyLimiter concurrencyLimiter;
+    private CircuitBreaker circuitBreaker;
+    private HedgingPolicy hedgingPolicy;
+    private RequestScheduler requestScheduler;
+    private AccountBulkheads accountBulkheads;
+    private boolean stacklessBusinessExceptions;
+    private IdempotencyKeyGenerator idempotencyKeyGenerator;
+    private RequestTimingsListener requestTimingsListener;
+    private StripeMetricsListener metricsListener;
+    private ExchangeLog exchangeLog;
+    private boolean streamingDeserialization;
+    private boolean leanResponses;
+    private boolean coalesceGetRequests;
 
     /**
      * Constructs a request options builder with the global parameters (API key and client ID) as
@@ -676,9 +804,333 @@ public class StripeClient {
       return this.stripeContext;
     }
 
+    /**
+     * Set the HTTP client used to send requests. By default this is a {@link
+     * HttpURLConnectionClient}.
+     *
+     * <p>On Java 11 or later, a {@link JdkHttpClient} can be used to multiplex concurrent requests
+     * over HTTP/2 connections.
+     *
+     * @param httpClient the HTTP client
+     */
+    public StripeClientBuilder setHttpClient(HttpClient httpClient) {
+      this.httpClient = httpClient;
+      return this;
+    }
+
+    public HttpClient getHttpClient() {
+      return this.httpClient;
+    }
+
+    /**
+     * Set the pool managing the connections of the default {@link HttpURLConnectionClient}. By
+     * default, connections are kept alive by the JDK in a cache shared by the whole process.
+     *
+     * <p>This cannot be combined with {@link #setHttpClient}; pass the pool to the constructor of
+     * the {@link HttpURLConnectionClient} instead.
+     *
+     * @param connectionPool the connection pool
+     */
+    public StripeClientBuilder setConnectionPool(ConnectionPool connectionPool) {
+      this.connectionPool = connectionPool;
+      return this;
+    }
+
+    public ConnectionPool getConnectionPool() {
+      return this.connectionPool;
+    }
+
+    /**
+     * Set the policy deciding whether, and after how long, failed requests are retried. By default
+     * this is a {@link DefaultRetryPolicy}, which retries up to {@link #setMaxNetworkRetries}
+     * times.
+     *
+     * <p>Use {@link DefaultRetryPolicy#builder()} to give requests a total time budget or to retry
+     * rate limited requests while honoring the {@code Retry-After} header.
+     *
+     * @param retryPolicy the retry policy
+     */
+    public StripeClientBuilder setRetryPolicy(RetryPolicy retryPolicy) {
+      this.retryPolicy = retryPolicy;
+      return this;
+    }
+
+    public RetryPolicy getRetryPolicy() {
+      return this.retryPolicy;
+    }
+
+    /**
+     * Set a client-side limiter for the rate of requests. By default requests are not limited.
+     *
+     * <p>The limiter adapts to the rate limits of the API, so that bursts of requests wait on the
+     * client rather than being rejected with a {@link com.stripe.exception.RateLimitException}.
+     *
+     * @param rateLimiter the rate limiter
+     */
+    public StripeClientBuilder setRateLimiter(AdaptiveRateLimiter rateLimiter) {
+      this.rateLimiter = rateLimiter;
+      return this;
+    }
+
+    public AdaptiveRateLimiter getRateLimiter() {
+      return this.rateLimiter;
+    }
+
+    /**
+     * Set a limiter for the number of requests in flight. By default the number of requests in
+     * flight is not limited.
+     *
+     * <p>The limit adapts to the observed latency. Requests over the limit fail immediately with a
+     * {@link com.stripe.exception.ConcurrencyLimitException}. A limiter should not be shared by
+     * several clients.
+     *
+     * @param concurrencyLimiter the concurrency limiter
+     */
+    public StripeClientBuilder setConcurrencyLimiter(
+        AdaptiveConcurrencyLimiter concurrencyLimiter) {
+      this.concurrencyLimiter = concurrencyLimiter;
+      return this;
+    }
+
+    public AdaptiveConcurrencyLimiter getConcurrencyLimiter() {
+      return this.concurrencyLimiter;
+    }
+
+    /**
+     * Set a circuit breaker for each base address (API, files, Connect and meter events). By
+     * default requests are always sent.
+     *
+     * <p>While most recent requests to a base address fail, further requests to it fail immediately
+     * with a {@link com.stripe.exception.CircuitBreakerOpenException}, so that a degraded host does
+     * not hold up threads used for requests to the other hosts.
+     *
+     * @param circuitBreaker the circuit breaker
+     */
+    public StripeClientBuilder setCircuitBreaker(CircuitBreaker circuitBreaker) {
+      this.circuitBreaker = circuitBreaker;
+      return this;
+    }
+
+    public CircuitBreaker getCircuitBreaker() {
+      return this.circuitBreaker;
+    }
+
+    /**
+     * Set a policy sending a second copy of slow {@code GET} requests, using whichever response
+     * arrives first. By default requests are never hedged.
+     *
+     * <p>Requests with other methods, which may have side effects, are never hedged.
+     *
+     * @param hedgingPolicy the hedging policy
+     */
+    public StripeClientBuilder setHedgingPolicy(HedgingPolicy hedgingPolicy) {
+      this.hedgingPolicy = hedgingPolicy;
+      return this;
+    }
+
+    public HedgingPolicy getHedgingPolicy() {
+      return this.hedgingPolicy;
+    }
+
+    /**
+     * Set a scheduler dispatching requests in order of {@link RequestPriority priority} once the
+     * client is saturated. By default requests are sent as soon as they are made.
+     *
+     * <p>The priority of a request is set with {@link
+     * RequestOptions.RequestOptionsBuilder#setPriority}.
+     *
+     * @param requestScheduler the request scheduler
+     */
+    public StripeClientBuilder setRequestScheduler(RequestScheduler requestScheduler) {
+      this.requestScheduler = requestScheduler;
+      return this;
+    }
+
+    public RequestScheduler getRequestScheduler() {
+      return this.requestScheduler;
+    }
+
+    /**
+     * Set bulkheads isolating the requests made on behalf of each connected account, so that an
+     * account sending many requests cannot starve the others. By default the requests of all
+     * accounts are sent alike.
+     *
+     * @param accountBulkheads the account bulkheads
+     */
+    public StripeClientBuilder setAccountBulkheads(AccountBulkheads accountBulkheads) {
+      this.accountBulkheads = accountBulkheads;
+      return this;
+    }
+
+    public AccountBulkheads getAccountBulkheads() {
+      return this.accountBulkheads;
+    }
+
+    /**
+     * Set whether the exceptions for expected business errors are constructed without a stack
+     * trace, which is the most expensive part of handling them. This applies to {@link
+     * com.stripe.exception.CardException}, {@link com.stripe.exception.IdempotencyException} and
+     * {@link com.stripe.exception.InvalidRequestException}, whose stack traces then are empty. By
+     * default exceptions have a stack trace.
+     *
+     * <p>This is useful when card declines are a frequent outcome, e.g. for high-volume payments.
+     *
+     * @param stacklessBusinessExceptions whether business exceptions have no stack trace
+     */
+    public StripeClientBuilder setStacklessBusinessExceptions(boolean stacklessBusinessExceptions) {
+      this.stacklessBusinessExceptions = stacklessBusinessExceptions;
+      return this;
+    }
+
+    public boolean isStacklessBusinessExceptions() {
+      return this.stacklessBusinessExceptions;
+    }
+
+    /**
+     * Set the generator of the idempotency keys of {@code POST} requests sent without one. By
+     * default this is a {@link RandomIdempotencyKeyGenerator}.
+     *
+     * <p>To derive the key of a request from a business key, so that replaying the request reuses
+     * its key, set a {@link DeterministicIdempotencyKeyGenerator} on the options of that request
+     * with {@link RequestOptions.RequestOptionsBuilder#setIdempotencyKeyGenerator}.
+     *
+     * @param idempotencyKeyGenerator the idempotency key generator
+     */
+    public StripeClientBuilder setIdempotencyKeyGenerator(
+        IdempotencyKeyGenerator idempotencyKeyGenerator) {
+      this.idempotencyKeyGenerator = idempotencyKeyGenerator;
+      return this;
+    }
+
+    public IdempotencyKeyGenerator getIdempotencyKeyGenerator() {
+      return this.idempotencyKeyGenerator;
+    }
+
+    /**
+     * Set a listener receiving the time spent in each phase of every request, e.g. waiting for a
+     * connection, waiting for the response or deserializing it. By default timings are only
+     * available on the responses, through {@code getLastResponse().timings()}.
+     *
+     * @param requestTimingsListener the request timings listener
+     */
+    public StripeClientBuilder setRequestTimingsListener(
+        RequestTimingsListener requestTimingsListener) {
+      this.requestTimingsListener = requestTimingsListener;
+      return this;
+    }
+
+    public RequestTimingsListener getRequestTimingsListener() {
+      return this.requestTimingsListener;
+    }
+
+    /**
+     * Set a listener receiving the endpoint, status, attempts, sizes and timings of every request,
+     * e.g. to feed them to a metrics library. Use a {@link HistogramMetricsListener} to keep
+     * per-endpoint latency histograms in memory instead. By default no metrics are reported.
+     *
+     * @param metricsListener the metrics listener
+     */
+    public StripeClientBuilder setMetricsListener(StripeMetricsListener metricsListener) {
+      this.metricsListener = metricsListener;
+      return this;
+    }
+
+    public StripeMetricsListener getMetricsListener() {
+      return this.metricsListener;
+    }
+
+    /**
+     * Set a log keeping the last requests and their responses in memory, to read them redacted when
+     * debugging an incident. By default no exchange is kept.
+     *
+     * @param exchangeLog the exchange log
+     */
+    public StripeClientBuilder setExchangeLog(ExchangeLog exchangeLog) {
+      this.exchangeLog = exchangeLog;
+      return this;
+    }
+
+    public ExchangeLog getExchangeLog() {
+      return this.exchangeLog;
+    }
+
+    /**
+     * Set whether successful responses are deserialized straight from the connection, instead of
+     * being read into a string first, which keeps large responses such as expanded lists from being
+     * held in memory several times over. By default responses are read into a string.
+     *
+     * <p>The raw body is then not retained: {@code getLastResponse().body()} is empty and {@code
+     * getRawJsonObject()} returns {@code null} on the returned objects. Error responses, requests
+     * sent asynchronously and hedged requests are still read into a string. This requires an {@link
+     * HttpClient} that implements {@link HttpClient#requestStream}, as the default ones do.
+     *
+     * @param streamingDeserialization whether responses are deserialized from the connection
+     */
+    public StripeClientBuilder setStreamingDeserialization(boolean streamingDeserialization) {
+      this.streamingDeserialization = streamingDeserialization;
+      return this;
+    }
+
+    public boolean isStreamingDeserialization() {
+      return this.streamingDeserialization;
+    }
+
+    /**
+     * Set whether the objects returned by the client keep only the metadata of their response, i.e.
+     * its status code, request ID, idempotency key, number of retries and timings, rather than its
+     * full body and headers. By default objects keep the whole response.
+     *
+     * <p>This reduces the memory retained by objects that are kept around, e.g. in caches. The
+     * returned objects then have an empty {@code getLastResponse().body()} and their {@code
+     * getRawJsonObject()} returns {@code null}. This can be overridden for a single request with
+     * {@link RequestOptions.RequestOptionsBuilder#setLeanResponses}.
+     *
+     * @param leanResponses whether objects keep only the metadata of their response
+     */
+    public StripeClientBuilder setLeanResponses(boolean leanResponses) {
+      this.leanResponses = leanResponses;
+      return this;
+    }
+
+    public boolean isLeanResponses() {
+      return this.leanResponses;
+    }
+
+    /**
+     * Set whether identical {@code GET} requests sent concurrently are coalesced into a single
+     * request, whose result all callers receive. By default requests are never coalesced.
+     *
+     * <p>Callers of coalesced requests receive the same object, which should be treated as
+     * read-only. See {@link CoalescingStripeResponseGetter}.
+     *
+     * @param coalesceGetRequests whether to coalesce identical concurrent {@code GET} requests
+     */
+    public StripeClientBuilder setCoalesceGetRequests(boolean coalesceGetRequests) {
+      this.coalesceGetRequests = coalesceGetRequests;
+      return this;
+    }
+
+    public boolean isCoalesceGetRequests() {
+      return this.coalesceGetRequests;
+    }
+
     /** Constructs a {@link StripeResponseGetterOptions} with the specified values. */
     public StripeClient build() {
-      return new StripeClient(new LiveStripeResponseGetter(buildOptions(), null));
+      HttpClient httpClient = this.httpClient;
+      if (this.connectionPool != null) {
+        if (httpClient != null) {
+          throw new IllegalArgumentException(
+              "setConnectionPool cannot be combined with setHttpClient. Pass the pool to the "
+                  + "HttpURLConnectionClient constructor instead.");
+        }
+        httpClient = new HttpURLConnectionClient(this.connectionPool);
+      }
+      StripeResponseGetter responseGetter =
+          new LiveStripeResponseGetter(buildOptions(), httpClient);
+      if (this.coalesceGetRequests) {
+        responseGetter = new CoalescingStripeResponseGetter(responseGetter);
+      }
+      return new StripeClient(responseGetter);
     }
 
     StripeResponseGetterOptions buildOptions() {
@@ -698,7 +1150,21 @@ public class StripeClient {
           filesBase,
           connectBase,
           meterEventsBase,
-          this.stripeContext);
+          this.stripeContext,
+          this.retryPolicy,
+          this.rateLimiter,
+          this.concurrencyLimiter,
+          this.circuitBreaker,
+          this.hedgingPolicy,
+          this.requestScheduler,
+          this.accountBulkheads,
+          this.stacklessBusinessExceptions,
+          this.idempotencyKeyGenerator,
+          this.requestTimingsListener,
+          this.metricsListener,
+          this.exchangeLog,
+          this.streamingDeserialization,
+          this.leanResponses);
     }
   }
 
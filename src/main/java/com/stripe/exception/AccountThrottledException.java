@@ -0,0 +1,26 @@
+package com.stripe.exception;
+
+/**
+ * Raised when a request is not sent because its connected account already has as many requests in
+ * flight and queued as its bulkhead allows, or because it waited too long for its turn. See {@link
+ * com.stripe.net.AccountBulkheads}.
+ */
+public class AccountThrottledException extends ConcurrencyLimitException {
+  private static final long serialVersionUID = 2L;
+
+  private final String stripeAccount;
+
+  public AccountThrottledException(String message, String stripeAccount) {
+    super(message);
+    this.stripeAccount = stripeAccount;
+  }
+
+  /**
+   * Returns the connected account the request was made for.
+   *
+   * @return the ID of the connected account, or {@code null} for the platform account
+   */
+  public String getStripeAccount() {
+    return this.stripeAccount;
+  }
+}
@@ -0,0 +1,27 @@
+package com.stripe.exception;
+
+import com.stripe.net.BaseAddress;
+
+/**
+ * Raised when a request is not sent because the circuit breaker of its base address is open, i.e.
+ * recent requests to that address mostly failed. See {@link com.stripe.net.CircuitBreaker}.
+ */
+public class CircuitBreakerOpenException extends ApiConnectionException {
+  private static final long serialVersionUID = 2L;
+
+  private final BaseAddress baseAddress;
+
+  public CircuitBreakerOpenException(String message, BaseAddress baseAddress) {
+    super(message);
+    this.baseAddress = baseAddress;
+  }
+
+  /**
+   * Returns the base address whose circuit breaker is open.
+   *
+   * @return the base address
+   */
+  public BaseAddress getBaseAddress() {
+    return this.baseAddress;
+  }
+}
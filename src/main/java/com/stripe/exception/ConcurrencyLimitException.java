@@ -0,0 +1,14 @@
+package com.stripe.exception;
+
+/**
+ * Raised when a request is not sent because the client already has as many requests in flight as
+ * its concurrency limit allows, or because it waited too long for its turn. See {@link
+ * com.stripe.net.AdaptiveConcurrencyLimiter} and {@link com.stripe.net.RequestScheduler}.
+ */
+public class ConcurrencyLimitException extends ApiConnectionException {
+  private static final long serialVersionUID = 2L;
+
+  public ConcurrencyLimitException(String message) {
+    super(message);
+  }
+}
@@ -4,12 +4,16 @@ import com.google.gson.JsonObject;
 import com.stripe.model.StripeError;
 import com.stripe.net.ApiMode;
 import com.stripe.net.StripeResponseGetter;
+import java.util.function.Supplier;
 import lombok.Getter;
 
 @Getter
 public abstract class StripeException extends Exception {
   private static final long serialVersionUID = 2L;
 
+  /** Set while constructing exceptions that should not capture a stack trace. */
+  private static final ThreadLocal<Boolean> omitStackTrace = new ThreadLocal<>();
+
   /** The error resource returned by Stripe's API that caused the exception. */
   // transient so the exception can be serialized, as StripeObject does not
   // implement Serializable
@@ -63,6 +67,33 @@ public abstract class StripeException extends Exception {
     this.statusCode = statusCode;
   }
 
+  /**
+   * Constructs an exception without capturing the stack trace of the current thread, which is the
+   * most expensive part of constructing an exception. The resulting exception has an empty stack
+   * trace.
+   *
+   * <p>This method is used internally and may change in a non-major version of the SDK.
+   *
+   * @param constructor constructs the exception
+   * @return the constructed exception
+   */
+  public static <E extends StripeException> E withoutStackTrace(Supplier<E> constructor) {
+    omitStackTrace.set(Boolean.TRUE);
+    try {
+      return constructor.get();
+    } finally {
+      omitStackTrace.remove();
+    }
+  }
+
+  @Override
+  public synchronized Throwable fillInStackTrace() {
+    if (omitStackTrace.get() != null) {
+      return this;
+    }
+    return super.fillInStackTrace();
+  }
+
   /**
    * Returns a description of the exception, including the HTTP status code and request ID (if
    * applicable).
@@ -0,0 +1,135 @@
+package com.stripe.model;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+import java.lang.reflect.Type;
+
+/**
+ * Base class of the type adapters generated for the model classes, which read and write the fields
+ * of a model directly instead of through reflection.
+ *
+ * <p>The generated adapters behave like the reflective adapters of Gson: unknown fields are
+ * skipped, {@code null} values are kept, and the values of the fields are read with the adapters
+ * registered for their types. Strings, integers and booleans are read inline, with the same
+ * coercions as the adapters built into Gson.
+ *
+ * @param <T> the model class
+ */
+public abstract class ModelTypeAdapter<T> extends TypeAdapter<T> {
+  private final Gson gson;
+
+  protected ModelTypeAdapter(Gson gson) {
+    this.gson = gson;
+  }
+
+  /** Returns a new, empty instance of the model class. */
+  protected abstract T newInstance();
+
+  /**
+   * Reads the value of the field with the given JSON name into the model.
+   *
+   * @return {@code false} if the model has no such field, in which case the value is not read
+   */
+  protected abstract boolean readField(JsonReader in, String name, T model) throws IOException;
+
+  /** Writes the name and value of each field of the model. */
+  protected abstract void writeFields(JsonWriter out, T model) throws IOException;
+
+  @Override
+  public T read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    T model = newInstance();
+    try {
+      in.beginObject();
+      while (in.hasNext()) {
+        if (!readField(in, in.nextName(), model)) {
+          in.skipValue();
+        }
+      }
+    } catch (IllegalStateException e) {
+      throw new JsonSyntaxException(e);
+    }
+    in.endObject();
+    return model;
+  }
+
+  @Override
+  public void write(JsonWriter out, T model) throws IOException {
+    if (model == null) {
+      out.nullValue();
+      return;
+    }
+    out.beginObject();
+    writeFields(out, model);
+    out.endObject();
+  }
+
+  /** Writes a value with the adapter of its runtime type, for fields declared with an interface. */
+  @SuppressWarnings("unchecked")
+  protected <V> void writeRuntimeType(JsonWriter out, TypeAdapter<V> adapter, V value)
+      throws IOException {
+    if (value == null) {
+      adapter.write(out, null);
+    } else {
+      ((TypeAdapter<V>) this.gson.getAdapter(value.getClass())).write(out, value);
+    }
+  }
+
+  protected static String readString(JsonReader in) throws IOException {
+    JsonToken peek = in.peek();
+    if (peek == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    // Booleans are coerced to strings, as Gson does.
+    if (peek == JsonToken.BOOLEAN) {
+      return Boolean.toString(in.nextBoolean());
+    }
+    return in.nextString();
+  }
+
+  protected static Long readLong(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    try {
+      return in.nextLong();
+    } catch (NumberFormatException e) {
+      throw new JsonSyntaxException(e);
+    }
+  }
+
+  protected static Boolean readBoolean(JsonReader in) throws IOException {
+    JsonToken peek = in.peek();
+    if (peek == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    // Strings are coerced to booleans, as Gson does.
+    if (peek == JsonToken.STRING) {
+      return Boolean.parseBoolean(in.nextString());
+    }
+    return in.nextBoolean();
+  }
+
+  /** Returns the adapter of the given type, e.g. a parameterized type built with {@link #type}. */
+  @SuppressWarnings({"TypeParameterUnusedInFormals", "unchecked"})
+  protected static <V> TypeAdapter<V> adapter(Gson gson, Type type) {
+    return (TypeAdapter<V>) gson.getAdapter(TypeToken.get(type));
+  }
+
+  /** Returns the parameterized type with the given raw type and type arguments. */
+  protected static Type type(Class<?> rawType, Type... typeArguments) {
+    return TypeToken.getParameterized(rawType, typeArguments).getType();
+  }
+}
@@ -76,7 +76,14 @@ public class PagingIterator<T extends HasId> extends ApiResource implements Iter
 
   private StripeCollectionInterface<T> list(
       final Map<String, Object> params, final RequestOptions options) throws Exception {
-    ApiRequest request = new ApiRequest(BaseAddress.API, RequestMethod.GET, url, params, options);
+    // Fetching further pages is background work, which must not hold up interactive requests.
+    ApiRequest request =
+        new ApiRequest(
+            BaseAddress.API,
+            RequestMethod.GET,
+            url,
+            params,
+            RequestOptions.withDefaultPriority(options, RequestPriority.BULK));
     return getResponseGetter().request(request, pageType);
   }
 }
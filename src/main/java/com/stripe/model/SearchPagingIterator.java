@@ -76,7 +76,14 @@ public class SearchPagingIterator<T> extends ApiResource implements Iterator<T>
 
   private StripeSearchResultInterface<T> search(
       final Map<String, Object> params, final RequestOptions options) throws Exception {
-    ApiRequest request = new ApiRequest(BaseAddress.API, RequestMethod.GET, url, params, options);
+    // Fetching further pages is background work, which must not hold up interactive requests.
+    ApiRequest request =
+        new ApiRequest(
+            BaseAddress.API,
+            RequestMethod.GET,
+            url,
+            params,
+            RequestOptions.withDefaultPriority(options, RequestPriority.BULK));
     return getResponseGetter().request(request, pageType);
   }
 }
@@ -55,11 +55,17 @@ public abstract class StripeObject implements StripeObjectInterface {
    * Java library might move off Gson in the future and this method would be removed or change
    * significantly.
    *
+   * <p>The JsonObject is parsed from the body of the last response the first time this method is
+   * called, and kept alongside this object afterwards. It is {@code null} if the response body was
+   * not retained, e.g. when the object was returned by a client with lean responses.
+   *
    * @return The raw JsonObject.
    */
   public JsonObject getRawJsonObject() {
     // Lazily initialize this the first time the getter is called.
-    if ((this.rawJsonObject == null) && (this.getLastResponse() != null)) {
+    if ((this.rawJsonObject == null)
+        && (this.getLastResponse() != null)
+        && !this.getLastResponse().body().isEmpty()) {
       this.rawJsonObject =
           ApiResource.INTERNAL_GSON.fromJson(this.getLastResponse().body(), JsonObject.class);
     }
@@ -97,7 +97,7 @@ public class StripeCollection<T extends StripeObjectInterface> extends StripeObj
                   ApiResource.RequestMethod.GET,
                   nextPageUrl,
                   new HashMap<>(),
-                  this.options),
+                  RequestOptions.withDefaultPriority(this.options, RequestPriority.BULK)),
               StripeCollection.this.pageTypeToken);
       return new Page<T>(response.getData(), response.getNextPageUrl());
     }
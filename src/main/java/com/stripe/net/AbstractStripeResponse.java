@@ -5,7 +5,6 @@ import static java.util.Objects.requireNonNull;
 import java.time.Instant;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
-import java.util.Optional;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
@@ -36,23 +35,40 @@ abstract class AbstractStripeResponse<T> {
     return this.body;
   }
 
-  /** Number of times the request was retried. Used for internal tests only. */
+  /** Number of times the request was retried. */
   @NonFinal
   @Getter(AccessLevel.PACKAGE)
   @Setter(AccessLevel.PACKAGE)
   int numRetries;
 
+  /** The time spent in each phase of the request. */
+  @NonFinal RequestTimings timings = RequestTimings.NONE;
+
+  /**
+   * Gets the time spent in each phase of the request, e.g. to find out where the latency of slow
+   * requests comes from.
+   *
+   * @return the timings of the request
+   */
+  public RequestTimings timings() {
+    return this.timings;
+  }
+
+  void timings(RequestTimings timings) {
+    this.timings = timings;
+  }
+
   /**
    * Gets the date of the request, as returned by Stripe.
    *
    * @return the date of the request, as returned by Stripe
    */
   public Instant date() {
-    Optional<String> dateStr = this.headers.firstValue("Date");
-    if (!dateStr.isPresent()) {
+    String dateStr = this.headers.firstValueOrNull("Date");
+    if (dateStr == null) {
       return null;
     }
-    return ZonedDateTime.parse(dateStr.get(), DateTimeFormatter.RFC_1123_DATE_TIME).toInstant();
+    return ZonedDateTime.parse(dateStr, DateTimeFormatter.RFC_1123_DATE_TIME).toInstant();
   }
 
   /**
@@ -61,7 +77,7 @@ abstract class AbstractStripeResponse<T> {
    * @return the idempotency key of the request, as returned by Stripe
    */
   public String idempotencyKey() {
-    return this.headers.firstValue("Idempotency-Key").orElse(null);
+    return this.headers.firstValueOrNull("Idempotency-Key");
   }
 
   /**
@@ -70,7 +86,23 @@ abstract class AbstractStripeResponse<T> {
    * @return the ID of the request, as returned by Stripe
    */
   public String requestId() {
-    return this.headers.firstValue("Request-Id").orElse(null);
+    return this.headers.firstValueOrNull("Request-Id");
+  }
+
+  /**
+   * Returns the size of the body announced by the {@code Content-Length} header, or {@code -1} if
+   * the header is absent or invalid.
+   */
+  long contentLength() {
+    String value = this.headers.firstValueOrNull("Content-Length");
+    if (value == null) {
+      return -1;
+    }
+    try {
+      return Long.parseLong(value.trim());
+    } catch (NumberFormatException e) {
+      return -1;
+    }
   }
 
   protected AbstractStripeResponse(int code, HttpHeaders headers, T body) {
@@ -0,0 +1,391 @@
+package com.stripe.net;
+
+import com.stripe.exception.AccountThrottledException;
+import com.stripe.exception.StripeException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Isolates the requests made on behalf of each connected account, so that an account sending many
+ * requests (e.g. running a large export) cannot starve the others on a shared client.
+ *
+ * <p>Each {@code Stripe-Account}, and the platform account for requests without one, has its own
+ * bulkhead: at most {@link AccountBulkheadsBuilder#setMaxInFlightPerAccount maxInFlightPerAccount}
+ * of its requests are in flight at once, and at most {@link
+ * AccountBulkheadsBuilder#setMaxQueuedPerAccount maxQueuedPerAccount} more wait for their turn.
+ * Requests beyond that, and requests that wait longer than {@link
+ * AccountBulkheadsBuilder#setMaxQueueWait maxQueueWait}, fail with an {@link
+ * AccountThrottledException}.
+ *
+ * <p>The accounts also share {@link AccountBulkheadsBuilder#setMaxConcurrentRequests
+ * maxConcurrentRequests} requests in flight for the whole client. When a request completes, the
+ * next waiting request is picked from the accounts in weighted round-robin order: an account with
+ * weight {@code n} gets {@code n} requests dispatched for each request of an account with weight 1.
+ *
+ * <p>{@link #getThrottledAccounts()}, {@link #getThrottledCount} and {@link #getRejectedCount}
+ * report which accounts are being throttled. Like the bulkheads themselves, the counts of an
+ * account are only kept while it has requests in flight or waiting. Bulkheads are enabled with
+ * {@code StripeClient.builder().setAccountBulkheads(...)}.
+ */
+public class AccountBulkheads {
+  private final int maxConcurrentRequests;
+  private final int maxInFlightPerAccount;
+  private final int maxQueuedPerAccount;
+  private final long maxQueueWaitNanos;
+  private final int defaultWeight;
+  private final Map<String, Integer> weights;
+
+  /** Bulkheads of the accounts with requests in flight or waiting. */
+  private final Map<String, Lane> lanes = new HashMap<>();
+
+  /** Bulkheads with waiting requests, in round-robin order. */
+  private final ArrayDeque<Lane> ready = new ArrayDeque<>();
+
+  private int inFlight;
+
+  private AccountBulkheads(AccountBulkheadsBuilder builder) {
+    this.maxConcurrentRequests = builder.maxConcurrentRequests;
+    this.maxInFlightPerAccount = builder.maxInFlightPerAccount;
+    this.maxQueuedPerAccount = builder.maxQueuedPerAccount;
+    this.maxQueueWaitNanos = builder.maxQueueWait.toNanos();
+    this.defaultWeight = builder.defaultWeight;
+    this.weights = new HashMap<>(builder.weights);
+  }
+
+  public static AccountBulkheadsBuilder builder() {
+    return new AccountBulkheadsBuilder();
+  }
+
+  /**
+   * Returns the accounts that currently have requests waiting for their turn.
+   *
+   * @return the IDs of the throttled accounts, containing {@code null} for the platform account
+   */
+  public synchronized Set<String> getThrottledAccounts() {
+    Set<String> accounts = new LinkedHashSet<>();
+    for (Lane lane : this.ready) {
+      accounts.add(lane.stripeAccount);
+    }
+    return Collections.unmodifiableSet(accounts);
+  }
+
+  /**
+   * Returns the number of requests of the given account that had to wait for their turn, since the
+   * account last had no requests in flight or waiting.
+   *
+   * @param stripeAccount the ID of the connected account, or {@code null} for the platform account
+   * @return the number of throttled requests
+   */
+  public synchronized long getThrottledCount(String stripeAccount) {
+    Lane lane = this.lanes.get(stripeAccount);
+    return (lane != null) ? lane.throttled : 0;
+  }
+
+  /**
+   * Returns the number of requests of the given account that failed because its queue was full or
+   * they waited too long, since the account last had no requests in flight or waiting.
+   *
+   * @param stripeAccount the ID of the connected account, or {@code null} for the platform account
+   * @return the number of rejected requests
+   */
+  public synchronized long getRejectedCount(String stripeAccount) {
+    Lane lane = this.lanes.get(stripeAccount);
+    return (lane != null) ? lane.rejected : 0;
+  }
+
+  /**
+   * Returns the number of requests of the given account currently in flight.
+   *
+   * @param stripeAccount the ID of the connected account, or {@code null} for the platform account
+   * @return the number of requests in flight
+   */
+  public synchronized int getInFlight(String stripeAccount) {
+    Lane lane = this.lanes.get(stripeAccount);
+    return (lane != null) ? lane.inFlight : 0;
+  }
+
+  /**
+   * Waits for the turn of a request made on behalf of the given account. Every successful call must
+   * be followed by a call to {@link #release}.
+   *
+   * @throws AccountThrottledException if the queue of the account is full, or the request waited
+   *     longer than the maximum queue wait
+   */
+  void acquire(String stripeAccount) throws StripeException {
+    AsyncSupport.join(this.acquireAsync(stripeAccount));
+  }
+
+  /**
+   * Returns a future completed once it is the turn of a request made on behalf of the given
+   * account, or completed exceptionally with an {@link AccountThrottledException}. No thread is
+   * held while waiting.
+   */
+  @SuppressWarnings("FutureReturnValueIgnored")
+  CompletableFuture<Void> acquireAsync(String stripeAccount) {
+    Waiter waiter;
+    try {
+      waiter = this.tryAcquire(stripeAccount);
+    } catch (AccountThrottledException e) {
+      return AsyncSupport.failedFuture(e);
+    }
+    if (waiter == null) {
+      return CompletableFuture.completedFuture(null);
+    }
+
+    ScheduledFuture<?> timeout =
+        AsyncSupport.scheduler()
+            .schedule(
+                () -> {
+                  if (this.abandon(waiter)) {
+                    waiter.turn.completeExceptionally(
+                        this.rejection(waiter.lane, "waited more than the maximum queue wait"));
+                  }
+                },
+                this.maxQueueWaitNanos,
+                TimeUnit.NANOSECONDS);
+    waiter.turn.whenComplete((ignored, error) -> timeout.cancel(false));
+    return waiter.turn;
+  }
+
+  /** Ends the turn of a request, dispatching the waiting requests that may now proceed. */
+  void release(String stripeAccount) {
+    List<Waiter> dispatched = new ArrayList<>();
+    synchronized (this) {
+      Lane lane = this.lanes.get(stripeAccount);
+      lane.inFlight -= 1;
+      this.inFlight -= 1;
+      this.dispatch(dispatched);
+      this.removeIfIdle(lane);
+    }
+
+    // Complete outside the lock, as completing runs the dependent stages of async requests.
+    for (Waiter waiter : dispatched) {
+      if (!waiter.turn.complete(null)) {
+        // The caller gave up waiting, e.g. when interrupted; hand the turn to the next request.
+        this.release(waiter.lane.stripeAccount);
+      }
+    }
+  }
+
+  /**
+   * Takes a turn if the account and the client have room for another request, or queues the request
+   * otherwise.
+   */
+  private synchronized Waiter tryAcquire(String stripeAccount) throws AccountThrottledException {
+    Lane lane = this.lanes.computeIfAbsent(stripeAccount, Lane::new);
+    if (lane.queue.isEmpty()
+        && lane.inFlight < this.maxInFlightPerAccount
+        && this.inFlight < this.maxConcurrentRequests) {
+      lane.inFlight += 1;
+      this.inFlight += 1;
+      return null;
+    }
+
+    if (lane.queue.size() >= this.maxQueuedPerAccount) {
+      AccountThrottledException e =
+          this.rejection(lane, "has too many requests in flight and waiting");
+      this.removeIfIdle(lane);
+      throw e;
+    }
+
+    Waiter waiter = new Waiter(lane);
+    lane.queue.add(waiter);
+    if (lane.queue.size() == 1) {
+      lane.credits = this.weights.getOrDefault(stripeAccount, this.defaultWeight);
+      this.ready.add(lane);
+    }
+    lane.throttled += 1;
+    return waiter;
+  }
+
+  /** Dispatches waiting requests in weighted round-robin order while the client has room. */
+  private void dispatch(List<Waiter> dispatched) {
+    int skipped = 0;
+    while (this.inFlight < this.maxConcurrentRequests && skipped < this.ready.size()) {
+      Lane lane = this.ready.peekFirst();
+      if (lane.inFlight >= this.maxInFlightPerAccount) {
+        // The account is at its own limit; give the turn to the next one.
+        this.ready.addLast(this.ready.pollFirst());
+        skipped += 1;
+        continue;
+      }
+
+      skipped = 0;
+      lane.inFlight += 1;
+      this.inFlight += 1;
+      dispatched.add(lane.queue.poll());
+
+      if (lane.queue.isEmpty()) {
+        this.ready.pollFirst();
+      } else if (--lane.credits <= 0) {
+        lane.credits = this.weights.getOrDefault(lane.stripeAccount, this.defaultWeight);
+        this.ready.addLast(this.ready.pollFirst());
+      }
+    }
+  }
+
+  /**
+   * Removes a request from its queue, returning {@code false} if it was dispatched in the meantime,
+   * in which case it holds a turn.
+   */
+  private synchronized boolean abandon(Waiter waiter) {
+    Lane lane = waiter.lane;
+    if (!lane.queue.remove(waiter)) {
+      return false;
+    }
+    if (lane.queue.isEmpty()) {
+      this.ready.remove(lane);
+      this.removeIfIdle(lane);
+    }
+    return true;
+  }
+
+  private void removeIfIdle(Lane lane) {
+    if (lane.inFlight == 0 && lane.queue.isEmpty()) {
+      this.lanes.remove(lane.stripeAccount);
+    }
+  }
+
+  private AccountThrottledException rejection(Lane lane, String reason) {
+    synchronized (this) {
+      lane.rejected += 1;
+    }
+    String stripeAccount = lane.stripeAccount;
+    return new AccountThrottledException(
+        String.format(
+            "Request was not sent because the account %s %s.",
+            (stripeAccount != null) ? stripeAccount : "of the platform", reason),
+        stripeAccount);
+  }
+
+  /** The bulkhead of an account. */
+  private static final class Lane {
+    final String stripeAccount;
+    final ArrayDeque<Waiter> queue = new ArrayDeque<>();
+    int inFlight;
+
+    /** Requests left to dispatch before the next account's turn. */
+    int credits;
+
+    long throttled;
+    long rejected;
+
+    Lane(String stripeAccount) {
+      this.stripeAccount = stripeAccount;
+    }
+  }
+
+  private static final class Waiter {
+    final Lane lane;
+    final CompletableFuture<Void> turn = new CompletableFuture<>();
+
+    Waiter(Lane lane) {
+      this.lane = lane;
+    }
+  }
+
+  public static final class AccountBulkheadsBuilder {
+    private int maxConcurrentRequests = 50;
+    private int maxInFlightPerAccount = 10;
+    private int maxQueuedPerAccount = 100;
+    private Duration maxQueueWait = Duration.ofSeconds(30);
+    private int defaultWeight = 1;
+    private final Map<String, Integer> weights = new HashMap<>();
+
+    /** Constructs a builder with the default settings. */
+    public AccountBulkheadsBuilder() {}
+
+    /**
+     * Sets the number of requests the client may have in flight across all accounts. By default
+     * this is 50.
+     *
+     * @param maxConcurrentRequests the number of requests
+     */
+    public AccountBulkheadsBuilder setMaxConcurrentRequests(int maxConcurrentRequests) {
+      this.maxConcurrentRequests = maxConcurrentRequests;
+      return this;
+    }
+
+    /**
+     * Sets the number of requests each account may have in flight. By default this is 10.
+     *
+     * @param maxInFlightPerAccount the number of requests
+     */
+    public AccountBulkheadsBuilder setMaxInFlightPerAccount(int maxInFlightPerAccount) {
+      this.maxInFlightPerAccount = maxInFlightPerAccount;
+      return this;
+    }
+
+    /**
+     * Sets the number of requests of each account that may wait for their turn, beyond which
+     * requests fail immediately. By default this is 100.
+     *
+     * @param maxQueuedPerAccount the number of requests
+     */
+    public AccountBulkheadsBuilder setMaxQueuedPerAccount(int maxQueuedPerAccount) {
+      this.maxQueuedPerAccount = maxQueuedPerAccount;
+      return this;
+    }
+
+    /**
+     * Sets how long a request may wait for its turn before failing. By default this is 30 seconds.
+     *
+     * @param maxQueueWait the maximum wait
+     */
+    public AccountBulkheadsBuilder setMaxQueueWait(Duration maxQueueWait) {
+      this.maxQueueWait = maxQueueWait;
+      return this;
+    }
+
+    /**
+     * Sets the weight of accounts without a weight of their own. By default this is 1.
+     *
+     * @param defaultWeight the weight, at least 1
+     */
+    public AccountBulkheadsBuilder setDefaultWeight(int defaultWeight) {
+      this.defaultWeight = defaultWeight;
+      return this;
+    }
+
+    /**
+     * Sets the weight of an account, i.e. how many of its waiting requests are dispatched in a row
+     * before the next account's turn.
+     *
+     * @param stripeAccount the ID of the connected account, or {@code null} for the platform
+     *     account
+     * @param weight the weight, at least 1
+     */
+    public AccountBulkheadsBuilder setWeight(String stripeAccount, int weight) {
+      this.weights.put(stripeAccount, weight);
+      return this;
+    }
+
+    /** Constructs an {@link AccountBulkheads} with the specified values. */
+    public AccountBulkheads build() {
+      if (this.maxConcurrentRequests < 1 || this.maxInFlightPerAccount < 1) {
+        throw new IllegalArgumentException(
+            "maxConcurrentRequests and maxInFlightPerAccount must be at least 1");
+      }
+      if (this.maxQueuedPerAccount < 0) {
+        throw new IllegalArgumentException("maxQueuedPerAccount must not be negative");
+      }
+      if (this.maxQueueWait == null || this.maxQueueWait.isNegative()) {
+        throw new IllegalArgumentException("maxQueueWait must not be null or negative");
+      }
+      if (this.defaultWeight < 1 || this.weights.values().stream().anyMatch(w -> w < 1)) {
+        throw new IllegalArgumentException("weights must be at least 1");
+      }
+      return new AccountBulkheads(this);
+    }
+  }
+}
@@ -0,0 +1,231 @@
+package com.stripe.net;
+
+import com.stripe.exception.ConcurrencyLimitException;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Limits the number of requests a client has in flight, adapting the limit to the latency observed
+ * by the client.
+ *
+ * <p>The limit follows an additive increase, multiplicative decrease scheme. It grows by one for
+ * each fast response received while the client is using at least half of it, and is cut by the
+ * backoff ratio whenever a request fails to get a response or takes much longer than the fastest
+ * request recently observed. When latency degrades, the limit shrinks and further requests fail
+ * immediately with a {@link ConcurrencyLimitException} rather than piling up on a slow connection.
+ *
+ * <p>A limiter is enabled with {@code StripeClient.builder().setConcurrencyLimiter(...)}.
+ */
+public class AdaptiveConcurrencyLimiter {
+  private final int minLimit;
+  private final int maxLimit;
+  private final double backoffRatio;
+  private final double latencyTolerance;
+  private final int minLatencyWindow;
+
+  private final AtomicInteger inFlight = new AtomicInteger();
+  private final AtomicLong rejected = new AtomicLong();
+
+  private double limit;
+
+  /** Lowest latency observed in the current window, in nanoseconds. */
+  private long minLatency = Long.MAX_VALUE;
+
+  /** Lowest latency observed in the previous window, used while the current one fills up. */
+  private long previousMinLatency = Long.MAX_VALUE;
+
+  private int windowSamples;
+
+  private AdaptiveConcurrencyLimiter(AdaptiveConcurrencyLimiterBuilder builder) {
+    this.limit = builder.initialLimit;
+    this.minLimit = builder.minLimit;
+    this.maxLimit = builder.maxLimit;
+    this.backoffRatio = builder.backoffRatio;
+    this.latencyTolerance = builder.latencyTolerance;
+    this.minLatencyWindow = builder.minLatencyWindow;
+  }
+
+  public static AdaptiveConcurrencyLimiterBuilder builder() {
+    return new AdaptiveConcurrencyLimiterBuilder();
+  }
+
+  /**
+   * Returns the current limit on the number of requests in flight.
+   *
+   * @return the current limit
+   */
+  public synchronized int getLimit() {
+    return (int) this.limit;
+  }
+
+  /**
+   * Returns the number of requests currently in flight.
+   *
+   * @return the number of requests in flight
+   */
+  public int getInFlight() {
+    return this.inFlight.get();
+  }
+
+  /**
+   * Returns the number of requests rejected because the limit was reached.
+   *
+   * @return the number of rejected requests
+   */
+  public long getRejectedCount() {
+    return this.rejected.get();
+  }
+
+  /**
+   * Reserves a slot for a request about to be sent. Every successful call must be followed by a
+   * call to {@link #release}.
+   *
+   * @throws ConcurrencyLimitException if the limit is reached
+   */
+  void acquire() throws ConcurrencyLimitException {
+    int currentLimit = this.getLimit();
+    while (true) {
+      int current = this.inFlight.get();
+      if (current >= currentLimit) {
+        this.rejected.incrementAndGet();
+        throw new ConcurrencyLimitException(
+            String.format(
+                "Request was not sent because %d requests are already in flight, which is the "
+                    + "current concurrency limit of the client.",
+                current));
+      }
+      if (this.inFlight.compareAndSet(current, current + 1)) {
+        return;
+      }
+    }
+  }
+
+  /**
+   * Releases the slot of a completed request and adapts the limit.
+   *
+   * @param latency how long the request took
+   * @param dropped whether the request failed without a usable response, e.g. on a connection error
+   *     or when the API was overloaded
+   */
+  void release(Duration latency, boolean dropped) {
+    int current = this.inFlight.getAndDecrement();
+    this.update(latency.toNanos(), dropped, current);
+  }
+
+  private synchronized void update(long latency, boolean dropped, int current) {
+    if (!dropped) {
+      this.minLatency = Math.min(this.minLatency, latency);
+    }
+    if (++this.windowSamples >= this.minLatencyWindow) {
+      // Start a new window so that the baseline follows lasting changes in latency.
+      this.previousMinLatency = this.minLatency;
+      this.minLatency = Long.MAX_VALUE;
+      this.windowSamples = 0;
+    }
+
+    long baseline = Math.min(this.minLatency, this.previousMinLatency);
+    boolean slow = baseline != Long.MAX_VALUE && latency > baseline * this.latencyTolerance;
+
+    if (dropped || slow) {
+      this.limit = Math.max(this.minLimit, this.limit * this.backoffRatio);
+    } else if (current * 2 >= this.limit) {
+      this.limit = Math.min(this.maxLimit, this.limit + 1);
+    }
+  }
+
+  public static final class AdaptiveConcurrencyLimiterBuilder {
+    private int initialLimit = 20;
+    private int minLimit = 1;
+    private int maxLimit = 200;
+    private double backoffRatio = 0.9;
+    private double latencyTolerance = 2.0;
+    private int minLatencyWindow = 1000;
+
+    /** Constructs a builder with the default settings. */
+    public AdaptiveConcurrencyLimiterBuilder() {}
+
+    /**
+     * Sets the limit before any request has completed. By default this is 20.
+     *
+     * @param initialLimit the initial limit
+     */
+    public AdaptiveConcurrencyLimiterBuilder setInitialLimit(int initialLimit) {
+      this.initialLimit = initialLimit;
+      return this;
+    }
+
+    /**
+     * Sets the lowest value the limit may fall to. By default this is 1.
+     *
+     * @param minLimit the minimum limit
+     */
+    public AdaptiveConcurrencyLimiterBuilder setMinLimit(int minLimit) {
+      this.minLimit = minLimit;
+      return this;
+    }
+
+    /**
+     * Sets the highest value the limit may rise to. By default this is 200.
+     *
+     * @param maxLimit the maximum limit
+     */
+    public AdaptiveConcurrencyLimiterBuilder setMaxLimit(int maxLimit) {
+      this.maxLimit = maxLimit;
+      return this;
+    }
+
+    /**
+     * Sets the factor the limit is multiplied by when a request is dropped or slow. By default this
+     * is 0.9.
+     *
+     * @param backoffRatio a ratio between 0 and 1
+     */
+    public AdaptiveConcurrencyLimiterBuilder setBackoffRatio(double backoffRatio) {
+      this.backoffRatio = backoffRatio;
+      return this;
+    }
+
+    /**
+     * Sets how many times slower than the fastest recent request a request may be before it is
+     * considered slow. By default this is 2.
+     *
+     * @param latencyTolerance the tolerance, greater than 1
+     */
+    public AdaptiveConcurrencyLimiterBuilder setLatencyTolerance(double latencyTolerance) {
+      this.latencyTolerance = latencyTolerance;
+      return this;
+    }
+
+    /**
+     * Sets the number of requests after which the fastest observed latency is measured anew. By
+     * default this is 1000.
+     *
+     * @param minLatencyWindow the number of requests
+     */
+    public AdaptiveConcurrencyLimiterBuilder setMinLatencyWindow(int minLatencyWindow) {
+      this.minLatencyWindow = minLatencyWindow;
+      return this;
+    }
+
+    /** Constructs an {@link AdaptiveConcurrencyLimiter} with the specified values. */
+    public AdaptiveConcurrencyLimiter build() {
+      if (this.minLimit < 1 || this.minLimit > this.maxLimit) {
+        throw new IllegalArgumentException("minLimit must be at least 1 and at most maxLimit");
+      }
+      if (this.initialLimit < this.minLimit || this.initialLimit > this.maxLimit) {
+        throw new IllegalArgumentException("initialLimit must be between minLimit and maxLimit");
+      }
+      if (this.backoffRatio <= 0 || this.backoffRatio >= 1) {
+        throw new IllegalArgumentException("backoffRatio must be between 0 and 1");
+      }
+      if (this.latencyTolerance <= 1) {
+        throw new IllegalArgumentException("latencyTolerance must be greater than 1");
+      }
+      if (this.minLatencyWindow < 1) {
+        throw new IllegalArgumentException("minLatencyWindow must be at least 1");
+      }
+      return new AdaptiveConcurrencyLimiter(this);
+    }
+  }
+}
@@ -0,0 +1,341 @@
+package com.stripe.net;
+
+import com.stripe.exception.ApiConnectionException;
+import com.stripe.exception.RateLimitException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A client-side token bucket that limits the rate of requests sent to Stripe and adapts to the rate
+ * limits enforced by the API.
+ *
+ * <p>Requests are limited separately for each API key and {@code Stripe-Account}. The rate of a
+ * bucket is cut whenever a request is rejected with HTTP 429, and raised again gradually as
+ * requests succeed. A request exceeding the rate waits for its turn before it is built and sent. If
+ * it would have to wait longer than {@link AdaptiveRateLimiterBuilder#setMaxWait}, it fails
+ * immediately with a {@link RateLimitException} instead.
+ *
+ * <p>The bucket of an API key and account that has not sent a request for a minute is dropped, and
+ * its rate starts over at the initial rate.
+ *
+ * <p>A limiter is enabled with {@code StripeClient.builder().setRateLimiter(...)}. It can be shared
+ * by several clients using the same API keys.
+ */
+public class AdaptiveRateLimiter {
+  /** Error code of the {@link RateLimitException} raised when a request is not sent. */
+  public static final String ERROR_CODE = "client_rate_limited";
+
+  /** How long the bucket of an API key and account is kept without requests. */
+  private static final long IDLE_TIMEOUT_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+  private final double initialRate;
+  private final double minRate;
+  private final double maxRate;
+  private final double burst;
+  private final double decreaseFactor;
+  private final double increaseStep;
+  private final long maxWaitNanos;
+
+  private final ConcurrentMap<List<Object>, Bucket> buckets = new ConcurrentHashMap<>();
+
+  /** When idle buckets were last looked for. */
+  private final AtomicLong evictedAt = new AtomicLong(System.nanoTime());
+
+  private AdaptiveRateLimiter(AdaptiveRateLimiterBuilder builder) {
+    this.initialRate = builder.initialRate;
+    this.minRate = builder.minRate;
+    this.maxRate = builder.maxRate;
+    this.burst = builder.burst;
+    this.decreaseFactor = builder.decreaseFactor;
+    this.increaseStep = builder.increaseStep;
+    this.maxWaitNanos = builder.maxWait.toNanos();
+  }
+
+  public static AdaptiveRateLimiterBuilder builder() {
+    return new AdaptiveRateLimiterBuilder();
+  }
+
+  /**
+   * Returns the rate currently allowed for the given API key and account.
+   *
+   * @param apiKey the API key
+   * @param stripeAccount the connected account, or {@code null} for the platform
+   * @return the rate, in requests per second
+   */
+  public double getRate(String apiKey, String stripeAccount) {
+    Bucket bucket = this.buckets.get(Arrays.asList(apiKey, stripeAccount));
+    return (bucket != null) ? bucket.rate() : this.initialRate;
+  }
+
+  /**
+   * Waits until the request described by the given options may be sent.
+   *
+   * @throws RateLimitException if the request would have to wait longer than the maximum wait
+   * @throws ApiConnectionException if the thread is interrupted while waiting
+   */
+  void acquire(RequestOptions options) throws RateLimitException, ApiConnectionException {
+    Bucket bucket = this.bucket(options);
+    long waitNanos = this.reserve(bucket);
+    if (waitNanos <= 0) {
+      return;
+    }
+
+    try {
+      TimeUnit.NANOSECONDS.sleep(waitNanos);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      bucket.release();
+      throw new ApiConnectionException(
+          "Request was not sent because the thread was interrupted while waiting for the "
+              + "client-side rate limit.",
+          e);
+    }
+  }
+
+  /**
+   * Returns a future completed once the request described by the given options may be sent. No
+   * thread is held while waiting.
+   */
+  @SuppressWarnings("FutureReturnValueIgnored")
+  CompletableFuture<Void> acquireAsync(RequestOptions options) {
+    long waitNanos;
+    try {
+      waitNanos = this.reserve(this.bucket(options));
+    } catch (RateLimitException e) {
+      return AsyncSupport.failedFuture(e);
+    }
+
+    if (waitNanos <= 0) {
+      return CompletableFuture.completedFuture(null);
+    }
+
+    CompletableFuture<Void> future = new CompletableFuture<>();
+    AsyncSupport.scheduler().schedule(() -> future.complete(null), waitNanos, TimeUnit.NANOSECONDS);
+    return future;
+  }
+
+  /** Adapts the rate of the bucket of a request once its response is received. */
+  void onResponse(RequestOptions options, int responseCode) {
+    Bucket bucket = this.bucket(options);
+    if (responseCode == 429) {
+      bucket.decrease();
+    } else if (responseCode < 500) {
+      bucket.increase();
+    }
+  }
+
+  private long reserve(Bucket bucket) throws RateLimitException {
+    long waitNanos = bucket.reserve(System.nanoTime());
+    if (waitNanos < 0) {
+      throw new RateLimitException(
+          String.format(
+              "Request was not sent because it would have waited more than %d ms for the "
+                  + "client-side rate limit of %.2f requests per second.",
+              TimeUnit.NANOSECONDS.toMillis(this.maxWaitNanos), bucket.rate()),
+          null,
+          null,
+          ERROR_CODE,
+          null,
+          null);
+    }
+    return waitNanos;
+  }
+
+  private Bucket bucket(RequestOptions options) {
+    long now = System.nanoTime();
+    long evictedAt = this.evictedAt.get();
+    if (now - evictedAt > IDLE_TIMEOUT_NANOS && this.evictedAt.compareAndSet(evictedAt, now)) {
+      this.evictIdle(now);
+    }
+    return this.buckets.computeIfAbsent(
+        Arrays.asList(options.getApiKey(), options.getStripeAccount()), (k) -> new Bucket());
+  }
+
+  /** Drops the buckets that have not been used for a minute at the given time. */
+  void evictIdle(long now) {
+    this.buckets.values().removeIf((bucket) -> bucket.isIdle(now));
+  }
+
+  /** Returns the number of API keys and accounts with a bucket. */
+  int bucketCount() {
+    return this.buckets.size();
+  }
+
+  private final class Bucket {
+    private double rate = initialRate;
+
+    /** Available permits; negative when requests are queued waiting for one. */
+    private double permits = burst;
+
+    private long refilledAt = System.nanoTime();
+
+    synchronized double rate() {
+      return this.rate;
+    }
+
+    /**
+     * Takes a permit, returning how long the caller must wait before using it, or {@code -1} if
+     * that is longer than the maximum wait, in which case no permit is taken.
+     */
+    synchronized long reserve(long now) {
+      this.refill(now);
+
+      if (this.permits >= 1) {
+        this.permits -= 1;
+        return 0;
+      }
+
+      long waitNanos = (long) ((1 - this.permits) / this.rate * TimeUnit.SECONDS.toNanos(1));
+      if (waitNanos > maxWaitNanos) {
+        return -1;
+      }
+
+      this.permits -= 1;
+      return waitNanos;
+    }
+
+    /** Gives back a permit that was taken but not used. */
+    synchronized void release() {
+      this.permits = Math.min(burst, this.permits + 1);
+    }
+
+    synchronized boolean isIdle(long now) {
+      return now - this.refilledAt > IDLE_TIMEOUT_NANOS;
+    }
+
+    synchronized void decrease() {
+      this.refill(System.nanoTime());
+      this.rate = Math.max(minRate, this.rate * decreaseFactor);
+      // Drop the burst allowance so that the lower rate takes effect immediately.
+      this.permits = Math.min(this.permits, 0);
+    }
+
+    synchronized void increase() {
+      this.refill(System.nanoTime());
+      this.rate = Math.min(maxRate, this.rate + increaseStep);
+    }
+
+    private void refill(long now) {
+      double elapsedSeconds = (now - this.refilledAt) / (double) TimeUnit.SECONDS.toNanos(1);
+      this.permits = Math.min(burst, this.permits + elapsedSeconds * this.rate);
+      this.refilledAt = now;
+    }
+  }
+
+  public static final class AdaptiveRateLimiterBuilder {
+    private double initialRate = 25;
+    private double minRate = 1;
+    private double maxRate = 100;
+    private double burst = 10;
+    private double decreaseFactor = 0.5;
+    private double increaseStep = 0.1;
+    private Duration maxWait = Duration.ofSeconds(5);
+
+    /** Constructs a builder with the default settings. */
+    public AdaptiveRateLimiterBuilder() {}
+
+    /**
+     * Sets the rate allowed for an API key and account before any response has been observed. By
+     * default this is 25 requests per second, Stripe's default limit in test mode.
+     *
+     * @param initialRate the initial rate, in requests per second
+     */
+    public AdaptiveRateLimiterBuilder setInitialRate(double initialRate) {
+      this.initialRate = initialRate;
+      return this;
+    }
+
+    /**
+     * Sets the lowest rate the limiter may fall to after repeated rate limiting errors. By default
+     * this is 1 request per second.
+     *
+     * @param minRate the minimum rate, in requests per second
+     */
+    public AdaptiveRateLimiterBuilder setMinRate(double minRate) {
+      this.minRate = minRate;
+      return this;
+    }
+
+    /**
+     * Sets the highest rate the limiter may rise to. By default this is 100 requests per second,
+     * Stripe's default limit in live mode.
+     *
+     * @param maxRate the maximum rate, in requests per second
+     */
+    public AdaptiveRateLimiterBuilder setMaxRate(double maxRate) {
+      this.maxRate = maxRate;
+      return this;
+    }
+
+    /**
+     * Sets the number of requests that may be sent at once after a quiet period. By default this is
+     * 10.
+     *
+     * @param burst the burst size
+     */
+    public AdaptiveRateLimiterBuilder setBurst(double burst) {
+      this.burst = burst;
+      return this;
+    }
+
+    /**
+     * Sets the factor the rate is multiplied by when a request is rate limited. By default this is
+     * 0.5.
+     *
+     * @param decreaseFactor a factor between 0 and 1
+     */
+    public AdaptiveRateLimiterBuilder setDecreaseFactor(double decreaseFactor) {
+      this.decreaseFactor = decreaseFactor;
+      return this;
+    }
+
+    /**
+     * Sets how much the rate grows with each successful request. By default this is 0.1 requests
+     * per second.
+     *
+     * @param increaseStep the increase, in requests per second
+     */
+    public AdaptiveRateLimiterBuilder setIncreaseStep(double increaseStep) {
+      this.increaseStep = increaseStep;
+      return this;
+    }
+
+    /**
+     * Sets how long a request may wait for its turn before failing with a {@link
+     * RateLimitException}. By default this is 5 seconds. Use {@link Duration#ZERO} to fail as soon
+     * as the rate is exceeded.
+     *
+     * @param maxWait the maximum wait
+     */
+    public AdaptiveRateLimiterBuilder setMaxWait(Duration maxWait) {
+      this.maxWait = maxWait;
+      return this;
+    }
+
+    /** Constructs an {@link AdaptiveRateLimiter} with the specified values. */
+    public AdaptiveRateLimiter build() {
+      if (this.minRate <= 0 || this.minRate > this.maxRate) {
+        throw new IllegalArgumentException("minRate must be positive and at most maxRate");
+      }
+      if (this.initialRate < this.minRate || this.initialRate > this.maxRate) {
+        throw new IllegalArgumentException("initialRate must be between minRate and maxRate");
+      }
+      if (this.burst < 1) {
+        throw new IllegalArgumentException("burst must be at least 1");
+      }
+      if (this.decreaseFactor <= 0 || this.decreaseFactor >= 1) {
+        throw new IllegalArgumentException("decreaseFactor must be between 0 and 1");
+      }
+      if (this.maxWait == null || this.maxWait.isNegative()) {
+        throw new IllegalArgumentException("maxWait must not be null or negative");
+      }
+      return new AdaptiveRateLimiter(this);
+    }
+  }
+}
@@ -49,26 +49,33 @@ public abstract class ApiResource extends StripeObject implements StripeActiveOb
 
   private static Gson createGson(boolean shouldSetResponseGetter) {
     GsonBuilder builder =
-        new GsonBuilder()
-            .setFieldNamingPolicy(FieldNamingPolicy.LOWER_CASE_WITH_UNDERSCORES)
-            .registerTypeAdapter(EphemeralKey.class, new EphemeralKeyDeserializer())
-            .registerTypeAdapter(Event.Data.class, new EventDataDeserializer())
-            .registerTypeAdapter(Event.Request.class, new EventRequestDeserializer())
-            .registerTypeAdapter(ExpandableField.class, new ExpandableFieldDeserializer())
-            .registerTypeAdapter(Instant.class, new InstantDeserializer())
-            .registerTypeAdapterFactory(new EventTypeAdapterFactory())
-            .registerTypeAdapter(StripeRawJsonObject.class, new StripeRawJsonObjectDeserializer())
-            .registerTypeAdapterFactory(new StripeCollectionItemTypeSettingFactory())
-            .addReflectionAccessFilter(
-                new ReflectionAccessFilter() {
-                  @Override
-                  public ReflectionAccessFilter.FilterResult check(Class<?> rawClass) {
-                    if (rawClass.getTypeName().startsWith("com.stripe.")) {
-                      return ReflectionAccessFilter.FilterResult.ALLOW;
-                    }
-                    return ReflectionAccessFilter.FilterResult.BLOCK_ALL;
-                  }
-                });
+        new GsonBuilder().setFieldNamingPolicy(FieldNamingPolicy.LOWER_CASE_WITH_UNDERSCORES);
+
+    // The adapters generated for the model classes replace the reflective ones. They are registered
+    // first, so that every adapter registered below takes precedence over them.
+    for (TypeAdapterFactory factory : ApiResourceTypeAdapterFactoryProvider.getModelFactories()) {
+      builder.registerTypeAdapterFactory(factory);
+    }
+
+    builder
+        .registerTypeAdapter(EphemeralKey.class, new EphemeralKeyDeserializer())
+        .registerTypeAdapter(Event.Data.class, new EventDataDeserializer())
+        .registerTypeAdapter(Event.Request.class, new EventRequestDeserializer())
+        .registerTypeAdapter(ExpandableField.class, new ExpandableFieldDeserializer())
+        .registerTypeAdapter(Instant.class, new InstantDeserializer())
+        .registerTypeAdapterFactory(new EventTypeAdapterFactory())
+        .registerTypeAdapter(StripeRawJsonObject.class, new StripeRawJsonObjectDeserializer())
+        .registerTypeAdapterFactory(new StripeCollectionItemTypeSettingFactory())
+        .addReflectionAccessFilter(
+            new ReflectionAccessFilter() {
+              @Override
+              public ReflectionAccessFilter.FilterResult check(Class<?> rawClass) {
+                if (rawClass.getTypeName().startsWith("com.stripe.")) {
+                  return ReflectionAccessFilter.FilterResult.ALLOW;
+                }
+                return ReflectionAccessFilter.FilterResult.BLOCK_ALL;
+              }
+            });
 
     if (shouldSetResponseGetter) {
       builder.registerTypeAdapterFactory(new StripeResponseGetterSettingTypeAdapterFactory());
@@ -4,23 +4,73 @@ package com.stripe.net;
 import com.google.gson.TypeAdapterFactory;
 import com.stripe.model.BalanceTransactionSourceTypeAdapterFactory;
 import com.stripe.model.ExternalAccountTypeAdapterFactory;
+import com.stripe.model.ModelTypeAdapterFactory;
 import com.stripe.model.PaymentSourceTypeAdapterFactory;
+import com.stripe.model.apps.AppsModelTypeAdapterFactory;
+import com.stripe.model.billing.BillingModelTypeAdapterFactory;
+import com.stripe.model.billingportal.BillingPortalModelTypeAdapterFactory;
+import com.stripe.model.checkout.CheckoutModelTypeAdapterFactory;
+import com.stripe.model.climate.ClimateModelTypeAdapterFactory;
+import com.stripe.model.entitlements.EntitlementsModelTypeAdapterFactory;
+import com.stripe.model.financialconnections.FinancialConnectionsModelTypeAdapterFactory;
+import com.stripe.model.forwarding.ForwardingModelTypeAdapterFactory;
+import com.stripe.model.identity.IdentityModelTypeAdapterFactory;
+import com.stripe.model.issuing.IssuingModelTypeAdapterFactory;
+import com.stripe.model.oauth.OAuthModelTypeAdapterFactory;
+import com.stripe.model.radar.RadarModelTypeAdapterFactory;
+import com.stripe.model.reporting.ReportingModelTypeAdapterFactory;
+import com.stripe.model.sigma.SigmaModelTypeAdapterFactory;
+import com.stripe.model.tax.TaxModelTypeAdapterFactory;
+import com.stripe.model.terminal.TerminalModelTypeAdapterFactory;
+import com.stripe.model.testhelpers.TestHelpersModelTypeAdapterFactory;
+import com.stripe.model.treasury.TreasuryModelTypeAdapterFactory;
+import com.stripe.model.v2.V2ModelTypeAdapterFactory;
+import com.stripe.model.v2.billing.V2BillingModelTypeAdapterFactory;
 import java.util.ArrayList;
 import java.util.List;
 
 /**
- * Provider for all {@link TypeAdapterFactory} required for deserializing subtypes of an interface.
+ * Provider for all {@link TypeAdapterFactory} required for deserializing subtypes of an interface,
+ * and for the type adapters generated for the model classes.
  */
 final class ApiResourceTypeAdapterFactoryProvider {
   private static final List<TypeAdapterFactory> factories = new ArrayList<>();
 
+  private static final List<TypeAdapterFactory> modelFactories = new ArrayList<>();
+
   static {
     factories.add(new BalanceTransactionSourceTypeAdapterFactory());
     factories.add(new ExternalAccountTypeAdapterFactory());
     factories.add(new PaymentSourceTypeAdapterFactory());
+
+    modelFactories.add(new ModelTypeAdapterFactory());
+    modelFactories.add(new AppsModelTypeAdapterFactory());
+    modelFactories.add(new BillingModelTypeAdapterFactory());
+    modelFactories.add(new BillingPortalModelTypeAdapterFactory());
+    modelFactories.add(new CheckoutModelTypeAdapterFactory());
+    modelFactories.add(new ClimateModelTypeAdapterFactory());
+    modelFactories.add(new EntitlementsModelTypeAdapterFactory());
+    modelFactories.add(new FinancialConnectionsModelTypeAdapterFactory());
+    modelFactories.add(new ForwardingModelTypeAdapterFactory());
+    modelFactories.add(new IdentityModelTypeAdapterFactory());
+    modelFactories.add(new IssuingModelTypeAdapterFactory());
+    modelFactories.add(new OAuthModelTypeAdapterFactory());
+    modelFactories.add(new RadarModelTypeAdapterFactory());
+    modelFactories.add(new ReportingModelTypeAdapterFactory());
+    modelFactories.add(new SigmaModelTypeAdapterFactory());
+    modelFactories.add(new TaxModelTypeAdapterFactory());
+    modelFactories.add(new TerminalModelTypeAdapterFactory());
+    modelFactories.add(new TestHelpersModelTypeAdapterFactory());
+    modelFactories.add(new TreasuryModelTypeAdapterFactory());
+    modelFactories.add(new V2ModelTypeAdapterFactory());
+    modelFactories.add(new V2BillingModelTypeAdapterFactory());
   }
 
   public static List<TypeAdapterFactory> getAll() {
     return factories;
   }
+
+  public static List<TypeAdapterFactory> getModelFactories() {
+    return modelFactories;
+  }
 }
@@ -4,6 +4,7 @@ import com.stripe.exception.StripeException;
 import com.stripe.model.StripeObjectInterface;
 import java.io.InputStream;
 import java.lang.reflect.Type;
+import java.util.concurrent.CompletableFuture;
 import lombok.AccessLevel;
 import lombok.Getter;
 
@@ -22,7 +23,37 @@ public abstract class ApiService {
     return this.getResponseGetter().request(request.addUsage("stripe_client"), typeToken);
   }
 
+  /**
+   * Sends a request asynchronously. Errors are reported by completing the returned future
+   * exceptionally with a {@link StripeException}.
+   */
+  protected <T extends StripeObjectInterface> CompletableFuture<T> requestAsync(
+      ApiRequest request, Type typeToken) {
+    return this.getResponseGetter().requestAsync(request.addUsage("stripe_client"), typeToken);
+  }
+
+  /**
+   * Builds and sends a request asynchronously. Errors building the request, such as an invalid ID,
+   * are reported through the returned future like any other error, instead of being thrown.
+   */
+  protected <T extends StripeObjectInterface> CompletableFuture<T> requestAsync(
+      ApiRequestSupplier request, Type typeToken) {
+    ApiRequest built;
+    try {
+      built = request.get();
+    } catch (StripeException e) {
+      return AsyncSupport.failedFuture(e);
+    }
+    return this.requestAsync(built, typeToken);
+  }
+
   protected InputStream requestStream(ApiRequest request) throws StripeException {
     return this.getResponseGetter().requestStream(request.addUsage("stripe_client"));
   }
+
+  /** Builds a request, which may fail, e.g. if an ID is invalid. */
+  @FunctionalInterface
+  protected interface ApiRequestSupplier {
+    ApiRequest get() throws StripeException;
+  }
 }
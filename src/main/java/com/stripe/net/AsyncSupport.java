@@ -0,0 +1,168 @@
+package com.stripe.net;
+
+import com.stripe.exception.ApiConnectionException;
+import com.stripe.exception.StripeException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/** Helpers shared by the asynchronous request methods. */
+final class AsyncSupport {
+  private AsyncSupport() {}
+
+  @FunctionalInterface
+  interface StripeSupplier<T> {
+    T get() throws StripeException;
+  }
+
+  @FunctionalInterface
+  interface StripeFunction<T, R> {
+    R apply(T value) throws StripeException;
+  }
+
+  /**
+   * Lazily created pool used to run blocking work (e.g. requests sent by an {@link HttpClient} that
+   * has no non-blocking transport). Threads are daemons so that they never prevent the JVM from
+   * exiting.
+   */
+  private static class DefaultExecutorHolder {
+    static final ExecutorService INSTANCE =
+        Executors.newCachedThreadPool(daemonThreadFactory("stripe-async-"));
+  }
+
+  /**
+   * Lazily created single-threaded scheduler used to resume requests after a delay (e.g. between
+   * retries). Tasks run on this scheduler must never block.
+   */
+  private static class SchedulerHolder {
+    static final ScheduledExecutorService INSTANCE =
+        Executors.newSingleThreadScheduledExecutor(daemonThreadFactory("stripe-scheduler-"));
+  }
+
+  /**
+   * Returns the executor used by default to run blocking work asynchronously.
+   *
+   * @return the default executor
+   */
+  static Executor defaultExecutor() {
+    return DefaultExecutorHolder.INSTANCE;
+  }
+
+  /**
+   * Returns the scheduler shared by all clients to run short, non-blocking tasks after a delay.
+   *
+   * @return the shared scheduler
+   */
+  static ScheduledExecutorService scheduler() {
+    return SchedulerHolder.INSTANCE;
+  }
+
+  static ThreadFactory daemonThreadFactory(String namePrefix) {
+    AtomicInteger count = new AtomicInteger();
+    return runnable -> {
+      Thread thread = new Thread(runnable, namePrefix + count.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    };
+  }
+
+  /**
+   * Runs the given supplier on the given executor, completing the returned future exceptionally
+   * with the thrown {@link StripeException} if any.
+   */
+  static <T> CompletableFuture<T> supplyAsync(StripeSupplier<T> supplier, Executor executor) {
+    CompletableFuture<T> future = new CompletableFuture<>();
+    try {
+      executor.execute(
+          () -> {
+            try {
+              future.complete(supplier.get());
+            } catch (Throwable e) {
+              future.completeExceptionally(e);
+            }
+          });
+    } catch (Throwable e) {
+      future.completeExceptionally(e);
+    }
+    return future;
+  }
+
+  /**
+   * Runs the given supplier on the calling thread, returning a future completed with its result, or
+   * completed exceptionally with the thrown exception.
+   */
+  static <T> CompletableFuture<T> supplyNow(StripeSupplier<CompletableFuture<T>> supplier) {
+    try {
+      return supplier.get();
+    } catch (Throwable e) {
+      return failedFuture(e);
+    }
+  }
+
+  static <T> CompletableFuture<T> failedFuture(Throwable e) {
+    CompletableFuture<T> future = new CompletableFuture<>();
+    future.completeExceptionally(e);
+    return future;
+  }
+
+  /**
+   * Adapts a function that may throw a {@link StripeException} for use with {@link
+   * CompletableFuture#thenApply}. Exceptions are wrapped in a {@link CompletionException}, which
+   * {@link CompletableFuture} propagates as-is to dependent stages; see {@link #unwrap}.
+   */
+  static <T, R> Function<T, R> unchecked(StripeFunction<T, R> function) {
+    return value -> {
+      try {
+        return function.apply(value);
+      } catch (StripeException e) {
+        throw new CompletionException(e);
+      }
+    };
+  }
+
+  /**
+   * Waits for the given future to complete and returns its result, rethrowing the {@link
+   * StripeException} it completed with if any.
+   */
+  static <T> T join(CompletableFuture<T> future) throws StripeException {
+    try {
+      return future.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      future.cancel(false);
+      throw new ApiConnectionException("Interrupted while waiting for the response from Stripe", e);
+    } catch (ExecutionException e) {
+      Throwable cause = unwrap(e);
+      if (cause instanceof StripeException) {
+        throw (StripeException) cause;
+      }
+      if (cause instanceof RuntimeException) {
+        throw (RuntimeException) cause;
+      }
+      if (cause instanceof Error) {
+        throw (Error) cause;
+      }
+      throw new CompletionException(cause);
+    }
+  }
+
+  /**
+   * Returns the exception that caused a future to complete exceptionally, stripping the {@link
+   * CompletionException} and {@link ExecutionException} wrappers added by {@link
+   * CompletableFuture}.
+   */
+  static Throwable unwrap(Throwable e) {
+    while ((e instanceof CompletionException || e instanceof ExecutionException)
+        && e.getCause() != null) {
+      e = e.getCause();
+    }
+    return e;
+  }
+}
@@ -9,11 +9,15 @@ import lombok.EqualsAndHashCode;
 public final class BearerTokenAuthenticator implements Authenticator {
   private final String apiKey;
 
+  /** The value of the {@code Authorization} header, built once. */
+  @EqualsAndHashCode.Exclude private final String authorization;
+
   public BearerTokenAuthenticator(String apiKey) {
     if (apiKey == null) {
       throw new IllegalArgumentException("apiKey should be not-null");
     }
     this.apiKey = apiKey;
+    this.authorization = "Bearer " + apiKey;
   }
 
   public String getApiKey() {
@@ -41,6 +45,6 @@ public final class BearerTokenAuthenticator implements Authenticator {
           null,
           0);
     }
-    return request.withAdditionalHeader("Authorization", String.format("Bearer %s", apiKey));
+    return request.withAdditionalHeader("Authorization", this.authorization);
   }
 }
@@ -0,0 +1,305 @@
+package com.stripe.net;
+
+import com.stripe.exception.CircuitBreakerOpenException;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Stops sending requests to a {@link BaseAddress} while most recent requests to it fail, so that a
+ * degraded host does not tie up threads in connect and read timeouts.
+ *
+ * <p>Each base address has its own breaker, which starts {@link State#CLOSED}. Once at least {@link
+ * CircuitBreakerBuilder#setMinimumRequests minimumRequests} outcomes have been recorded and the
+ * share of failures among the last {@link CircuitBreakerBuilder#setWindowSize windowSize} requests
+ * reaches the failure rate threshold, the breaker {@link State#OPEN opens}: requests fail
+ * immediately with a {@link CircuitBreakerOpenException}. After the open duration, the breaker
+ * becomes {@link State#HALF_OPEN half-open} and lets a few probe requests through; it closes again
+ * if they all succeed, and opens again otherwise.
+ *
+ * <p>Requests that fail to get a response and responses with a 5xx status code count as failures.
+ *
+ * <p>A breaker is enabled with {@code StripeClient.builder().setCircuitBreaker(...)}.
+ */
+public class CircuitBreaker {
+  /** The state of the breaker of a base address. */
+  public enum State {
+    /** Requests are sent. */
+    CLOSED,
+    /** Requests fail without being sent. */
+    OPEN,
+    /** A limited number of probe requests are sent to find out whether the host recovered. */
+    HALF_OPEN
+  }
+
+  private final double failureRateThreshold;
+  private final int windowSize;
+  private final int minimumRequests;
+  private final long openDurationNanos;
+  private final int halfOpenRequests;
+
+  private final Map<BaseAddress, Breaker> breakers = new EnumMap<>(BaseAddress.class);
+
+  private CircuitBreaker(CircuitBreakerBuilder builder) {
+    this.failureRateThreshold = builder.failureRateThreshold;
+    this.windowSize = builder.windowSize;
+    this.minimumRequests = builder.minimumRequests;
+    this.openDurationNanos = builder.openDuration.toNanos();
+    this.halfOpenRequests = builder.halfOpenRequests;
+
+    for (BaseAddress baseAddress : BaseAddress.values()) {
+      this.breakers.put(baseAddress, new Breaker());
+    }
+  }
+
+  public static CircuitBreakerBuilder builder() {
+    return new CircuitBreakerBuilder();
+  }
+
+  /**
+   * Returns the current state of the breaker of the given base address.
+   *
+   * @param baseAddress the base address
+   * @return the state of its breaker
+   */
+  public State getState(BaseAddress baseAddress) {
+    return this.breakers.get(baseAddress).state(System.nanoTime());
+  }
+
+  /**
+   * Checks that a request to the given base address may be sent. Every successful call must be
+   * followed by a call to {@link #onComplete} or {@link #onCancel} with the returned permit.
+   *
+   * @return the permit to send the request
+   * @throws CircuitBreakerOpenException if the breaker of the base address is open
+   */
+  Permit acquire(BaseAddress baseAddress) throws CircuitBreakerOpenException {
+    Permit permit = this.breakers.get(baseAddress).tryAcquire(baseAddress, System.nanoTime());
+    if (permit == null) {
+      throw new CircuitBreakerOpenException(
+          String.format(
+              "Request was not sent because too many recent requests to the %s base address "
+                  + "failed. Requests will be attempted again in at most %d seconds.",
+              baseAddress, Duration.ofNanos(this.openDurationNanos).getSeconds()),
+          baseAddress);
+    }
+    return permit;
+  }
+
+  /**
+   * Records the outcome of a request.
+   *
+   * @param permit the permit the request was sent with
+   * @param failed whether the request failed without a response or with a 5xx status code
+   */
+  void onComplete(Permit permit, boolean failed) {
+    this.breakers.get(permit.baseAddress).record(permit, failed, System.nanoTime());
+  }
+
+  /**
+   * Records that a request allowed by {@link #acquire} was not sent after all.
+   *
+   * @param permit the permit of the request
+   */
+  void onCancel(Permit permit) {
+    this.breakers.get(permit.baseAddress).cancel(permit);
+  }
+
+  /** Allows a request to be sent, see {@link #acquire}. */
+  static final class Permit {
+    private final BaseAddress baseAddress;
+
+    /**
+     * The half-open period the request is a probe of, or 0 if it was sent while the breaker was
+     * closed.
+     */
+    private final long probeOf;
+
+    private Permit(BaseAddress baseAddress, long probeOf) {
+      this.baseAddress = baseAddress;
+      this.probeOf = probeOf;
+    }
+  }
+
+  private final class Breaker {
+    /** Outcomes of the last requests, {@code true} for failures, used as a ring buffer. */
+    private final boolean[] outcomes = new boolean[windowSize];
+
+    private int recorded;
+    private int next;
+    private int failures;
+
+    private State state = State.CLOSED;
+    private long openedAt;
+    /** Counts the half-open periods, so that probes of a previous period are told apart. */
+    private long halfOpenPeriod;
+
+    private int probesInFlight;
+    private int probesSucceeded;
+
+    synchronized State state(long now) {
+      if (this.state == State.OPEN && now - this.openedAt >= openDurationNanos) {
+        this.state = State.HALF_OPEN;
+        this.halfOpenPeriod += 1;
+        this.probesInFlight = 0;
+        this.probesSucceeded = 0;
+      }
+      return this.state;
+    }
+
+    /** Returns a permit to send a request, or {@code null} if none may be sent now. */
+    synchronized Permit tryAcquire(BaseAddress baseAddress, long now) {
+      switch (this.state(now)) {
+        case CLOSED:
+          return new Permit(baseAddress, 0);
+        case HALF_OPEN:
+          if (this.probesInFlight + this.probesSucceeded < halfOpenRequests) {
+            this.probesInFlight += 1;
+            return new Permit(baseAddress, this.halfOpenPeriod);
+          }
+          return null;
+        default:
+          return null;
+      }
+    }
+
+    synchronized void record(Permit permit, boolean failed, long now) {
+      if (this.isCurrentProbe(permit)) {
+        this.probesInFlight -= 1;
+        if (failed) {
+          this.open(now);
+        } else if (++this.probesSucceeded >= halfOpenRequests) {
+          this.close();
+        }
+      } else if (this.state == State.CLOSED) {
+        this.addOutcome(failed);
+        if (this.recorded >= minimumRequests
+            && this.failures >= failureRateThreshold * this.recorded) {
+          this.open(now);
+        }
+      }
+      // Otherwise the request was sent before the breaker last opened, and its outcome no longer
+      // matters.
+    }
+
+    synchronized void cancel(Permit permit) {
+      if (this.isCurrentProbe(permit)) {
+        this.probesInFlight -= 1;
+      }
+    }
+
+    private boolean isCurrentProbe(Permit permit) {
+      return this.state == State.HALF_OPEN && permit.probeOf == this.halfOpenPeriod;
+    }
+
+    private void addOutcome(boolean failed) {
+      if (this.recorded == this.outcomes.length) {
+        if (this.outcomes[this.next]) {
+          this.failures -= 1;
+        }
+      } else {
+        this.recorded += 1;
+      }
+      this.outcomes[this.next] = failed;
+      if (failed) {
+        this.failures += 1;
+      }
+      this.next = (this.next + 1) % this.outcomes.length;
+    }
+
+    private void open(long now) {
+      this.state = State.OPEN;
+      this.openedAt = now;
+    }
+
+    private void close() {
+      this.state = State.CLOSED;
+      this.recorded = 0;
+      this.next = 0;
+      this.failures = 0;
+    }
+  }
+
+  public static final class CircuitBreakerBuilder {
+    private double failureRateThreshold = 0.5;
+    private int windowSize = 100;
+    private int minimumRequests = 20;
+    private Duration openDuration = Duration.ofSeconds(30);
+    private int halfOpenRequests = 3;
+
+    /** Constructs a builder with the default settings. */
+    public CircuitBreakerBuilder() {}
+
+    /**
+     * Sets the share of failed requests at which the breaker opens. By default this is 0.5.
+     *
+     * @param failureRateThreshold a share between 0 and 1
+     */
+    public CircuitBreakerBuilder setFailureRateThreshold(double failureRateThreshold) {
+      this.failureRateThreshold = failureRateThreshold;
+      return this;
+    }
+
+    /**
+     * Sets the number of most recent requests the failure rate is computed over. By default this is
+     * 100.
+     *
+     * @param windowSize the number of requests
+     */
+    public CircuitBreakerBuilder setWindowSize(int windowSize) {
+      this.windowSize = windowSize;
+      return this;
+    }
+
+    /**
+     * Sets the number of requests that must have completed before the breaker may open. By default
+     * this is 20.
+     *
+     * @param minimumRequests the number of requests
+     */
+    public CircuitBreakerBuilder setMinimumRequests(int minimumRequests) {
+      this.minimumRequests = minimumRequests;
+      return this;
+    }
+
+    /**
+     * Sets how long the breaker stays open before letting probe requests through. By default this
+     * is 30 seconds.
+     *
+     * @param openDuration the open duration
+     */
+    public CircuitBreakerBuilder setOpenDuration(Duration openDuration) {
+      this.openDuration = openDuration;
+      return this;
+    }
+
+    /**
+     * Sets the number of probe requests that must succeed while half-open for the breaker to close.
+     * By default this is 3.
+     *
+     * @param halfOpenRequests the number of probe requests
+     */
+    public CircuitBreakerBuilder setHalfOpenRequests(int halfOpenRequests) {
+      this.halfOpenRequests = halfOpenRequests;
+      return this;
+    }
+
+    /** Constructs a {@link CircuitBreaker} with the specified values. */
+    public CircuitBreaker build() {
+      if (this.failureRateThreshold <= 0 || this.failureRateThreshold > 1) {
+        throw new IllegalArgumentException("failureRateThreshold must be between 0 and 1");
+      }
+      if (this.windowSize < 1 || this.minimumRequests < 1 || this.halfOpenRequests < 1) {
+        throw new IllegalArgumentException(
+            "windowSize, minimumRequests and halfOpenRequests must be at least 1");
+      }
+      if (this.minimumRequests > this.windowSize) {
+        throw new IllegalArgumentException("minimumRequests must be at most windowSize");
+      }
+      if (this.openDuration == null || this.openDuration.isNegative()) {
+        throw new IllegalArgumentException("openDuration must not be null or negative");
+      }
+      return new CircuitBreaker(this);
+    }
+  }
+}
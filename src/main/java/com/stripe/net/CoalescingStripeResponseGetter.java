@@ -0,0 +1,192 @@
+package com.stripe.net;
+
+import com.stripe.exception.StripeException;
+import com.stripe.model.StripeObjectInterface;
+import java.io.InputStream;
+import java.lang.reflect.Type;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * A {@link StripeResponseGetter} that coalesces identical {@code GET} requests sent concurrently:
+ * while a request is in flight, callers sending the same request wait for its result instead of
+ * sending their own. A burst of e.g. {@code Customer.retrieve(id)} calls for the same customer thus
+ * results in a single request and a single deserialization.
+ *
+ * <p>Requests are identical when they have the same base address, path, query parameters, response
+ * type, and the same authenticator, {@code Stripe-Account}, {@code Stripe-Context}, API version and
+ * base URL in their request options. Only requests in flight at the same time are coalesced; no
+ * response is ever cached once the request completed. Requests with other methods, streamed and raw
+ * requests are passed to the underlying getter as-is.
+ *
+ * <p>Callers of coalesced requests all receive the same object (or the same exception). Objects
+ * returned by this getter should therefore be treated as read-only.
+ *
+ * <p>Use it with a {@link com.stripe.StripeClient} through {@code
+ * StripeClient.builder().setCoalesceGetRequests(true)}, or for the global configuration with:
+ *
+ * <pre>{@code
+ * ApiResource.setGlobalResponseGetter(
+ *     new CoalescingStripeResponseGetter(ApiResource.getGlobalResponseGetter()));
+ * }</pre>
+ */
+public class CoalescingStripeResponseGetter implements StripeResponseGetter {
+  private final StripeResponseGetter delegate;
+
+  private final ConcurrentMap<List<Object>, CompletableFuture<Object>> inFlight =
+      new ConcurrentHashMap<>();
+
+  /**
+   * Constructs a getter coalescing the requests sent through the given getter.
+   *
+   * @param delegate the getter sending the requests
+   */
+  public CoalescingStripeResponseGetter(StripeResponseGetter delegate) {
+    if (delegate == null) {
+      throw new IllegalArgumentException("delegate must not be null");
+    }
+    this.delegate = delegate;
+  }
+
+  /**
+   * Returns the getter sending the requests.
+   *
+   * @return the underlying getter
+   */
+  public StripeResponseGetter getDelegate() {
+    return this.delegate;
+  }
+
+  /** @deprecated Use {@link #request(ApiRequest, Type)} instead. */
+  @Override
+  @SuppressWarnings("TypeParameterUnusedInFormals")
+  @Deprecated
+  public <T extends StripeObjectInterface> T request(
+      BaseAddress baseAddress,
+      ApiResource.RequestMethod method,
+      String path,
+      Map<String, Object> params,
+      Type typeToken,
+      RequestOptions options,
+      ApiMode apiMode)
+      throws StripeException {
+    return this.request(new ApiRequest(baseAddress, method, path, params, options), typeToken);
+  }
+
+  @Override
+  @SuppressWarnings({"TypeParameterUnusedInFormals", "unchecked"})
+  public <T extends StripeObjectInterface> T request(ApiRequest request, Type typeToken)
+      throws StripeException {
+    if (request.getMethod() != ApiResource.RequestMethod.GET) {
+      return this.delegate.request(request, typeToken);
+    }
+
+    List<Object> key = key(request, typeToken);
+    CompletableFuture<Object> pending = new CompletableFuture<>();
+    CompletableFuture<Object> existing = this.inFlight.putIfAbsent(key, pending);
+    if (existing != null) {
+      // Wait on a dependent future, which join cancels if this thread is interrupted, rather than
+      // on the one shared with the other callers.
+      return (T) AsyncSupport.join(existing.thenApply(value -> value));
+    }
+
+    try {
+      T response = this.delegate.request(request, typeToken);
+      pending.complete(response);
+      return response;
+    } catch (Throwable e) {
+      pending.completeExceptionally(e);
+      throw e;
+    } finally {
+      this.inFlight.remove(key, pending);
+    }
+  }
+
+  @Override
+  @SuppressWarnings({"unchecked", "FutureReturnValueIgnored"})
+  public <T extends StripeObjectInterface> CompletableFuture<T> requestAsync(
+      ApiRequest request, Type typeToken) {
+    if (request.getMethod() != ApiResource.RequestMethod.GET) {
+      return this.delegate.requestAsync(request, typeToken);
+    }
+
+    List<Object> key = key(request, typeToken);
+    CompletableFuture<Object> pending = new CompletableFuture<>();
+    CompletableFuture<Object> existing = this.inFlight.putIfAbsent(key, pending);
+    if (existing == null) {
+      CompletableFuture<T> response;
+      try {
+        response = this.delegate.requestAsync(request, typeToken);
+      } catch (Throwable e) {
+        response = AsyncSupport.failedFuture(e);
+      }
+      response.whenComplete(
+          (value, error) -> {
+            this.inFlight.remove(key, pending);
+            if (error == null) {
+              pending.complete(value);
+            } else {
+              pending.completeExceptionally(AsyncSupport.unwrap(error));
+            }
+          });
+      existing = pending;
+    }
+
+    // Hand out a dependent future, so that a caller cancelling its future does not affect others.
+    return existing.thenApply(value -> (T) value);
+  }
+
+  /** @deprecated Use {@link #requestStream(ApiRequest)} instead. */
+  @Override
+  @SuppressWarnings("TypeParameterUnusedInFormals")
+  @Deprecated
+  public InputStream requestStream(
+      BaseAddress baseAddress,
+      ApiResource.RequestMethod method,
+      String path,
+      Map<String, Object> params,
+      RequestOptions options,
+      ApiMode apiMode)
+      throws StripeException {
+    return this.delegate.requestStream(baseAddress, method, path, params, options, apiMode);
+  }
+
+  @Override
+  public InputStream requestStream(ApiRequest request) throws StripeException {
+    return this.delegate.requestStream(request);
+  }
+
+  @Override
+  public StripeResponse rawRequest(RawApiRequest request) throws StripeException {
+    return this.delegate.rawRequest(request);
+  }
+
+  @Override
+  public void validateRequestOptions(RequestOptions options) {
+    this.delegate.validateRequestOptions(options);
+  }
+
+  @Override
+  public void warmUp(WarmUpOptions options) throws StripeException {
+    this.delegate.warmUp(options);
+  }
+
+  private static List<Object> key(ApiRequest request, Type typeToken) {
+    RequestOptions options =
+        (request.getOptions() != null) ? request.getOptions() : RequestOptions.getDefault();
+    return Arrays.asList(
+        request.getBaseAddress(),
+        request.getPath(),
+        request.getParams(),
+        typeToken,
+        options.getAuthenticator(),
+        options.getStripeAccount(),
+        options.getStripeContext(),
+        options.getStripeVersion(),
+        options.getBaseUrl());
+  }
+}
@@ -0,0 +1,353 @@
+package com.stripe.net;
+
+import com.stripe.exception.ApiConnectionException;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.Value;
+
+/**
+ * Bounds and ages the connections a {@link HttpURLConnectionClient} opens to Stripe.
+ *
+ * <p>The sockets themselves stay in the JDK's keep-alive cache, which {@code HttpURLConnection}
+ * does not let callers manage directly. Instead, the pool hands out connection slots: a request
+ * leases a slot for as long as it uses a connection, and each slot stands for at most one socket.
+ * Closing a slot disconnects the last {@code HttpURLConnection} sent through it, which closes an
+ * idle socket to the same host, though not necessarily the one that connection used.
+ *
+ * <p>The pool lets at most {@link ConnectionPoolBuilder#setMaxConnectionsPerHost
+ * maxConnectionsPerHost} requests hold slots for the same host at once; further requests wait for a
+ * slot to be returned, for up to the connect timeout of the request. Returned slots are kept for
+ * reuse until they have been idle for longer than {@link ConnectionPoolBuilder#setIdleTimeout
+ * idleTimeout}, and are closed rather than reused once they are older than {@link
+ * ConnectionPoolBuilder#setTimeToLive timeToLive}, e.g. so that DNS changes are picked up.
+ *
+ * <p>{@code HttpURLConnection} still keeps at most {@code http.maxConnections} (5 by default) idle
+ * sockets per host; set this system property to at least {@code maxConnectionsPerHost} to reuse all
+ * of them.
+ *
+ * <p>Use it with a {@link com.stripe.StripeClient} through {@code
+ * StripeClient.builder().setConnectionPool(...)}, and keep a reference to monitor it with {@link
+ * #getStats()}.
+ */
+public class ConnectionPool {
+  private final int maxConnectionsPerHost;
+  private final long idleTimeoutNanos;
+  private final long timeToLiveNanos;
+
+  private final Map<String, Route> routes = new HashMap<>();
+
+  private long createdSlots;
+  private long evictedSlots;
+
+  private ConnectionPool(ConnectionPoolBuilder builder) {
+    this.maxConnectionsPerHost = builder.maxConnectionsPerHost;
+    this.idleTimeoutNanos = builder.idleTimeout.toNanos();
+    this.timeToLiveNanos = builder.timeToLive.toNanos();
+  }
+
+  public static ConnectionPoolBuilder builder() {
+    return new ConnectionPoolBuilder();
+  }
+
+  /**
+   * A snapshot of the state of a {@link ConnectionPool}, counted in connection slots rather than
+   * sockets.
+   */
+  @Value
+  public static class Stats {
+    /** The number of slots currently leased by requests. */
+    int leasedSlots;
+
+    /** The number of slots waiting to be reused. */
+    int idleSlots;
+
+    /**
+     * The number of slots created since the pool was created, an upper bound on the number of
+     * connections opened.
+     */
+    long createdSlots;
+
+    /** The number of slots closed because they were idle, too old or not reusable. */
+    long evictedSlots;
+  }
+
+  /**
+   * Returns the current state of the pool.
+   *
+   * @return a snapshot of the state of the pool
+   */
+  public Stats getStats() {
+    List<Connection> expired;
+    Stats stats;
+    synchronized (this) {
+      expired = this.evictExpired(System.nanoTime());
+      int leased = 0;
+      int idle = 0;
+      for (Route route : this.routes.values()) {
+        leased += route.leased;
+        idle += route.idle.size();
+      }
+      stats = new Stats(leased, idle, this.createdSlots, this.evictedSlots);
+    }
+    closeAll(expired);
+    return stats;
+  }
+
+  /**
+   * Leases a connection to the host of the given URL, waiting if all connections to the host are in
+   * use. Every lease must be returned with {@link #release} or through the stream returned by
+   * {@link #track}.
+   *
+   * @param url the URL of the request
+   * @param maxWaitMillis how long to wait for a connection, or {@code 0} to wait indefinitely
+   * @throws ApiConnectionException if no connection was returned in time
+   */
+  Connection lease(URL url, int maxWaitMillis) throws ApiConnectionException {
+    String key = routeKey(url);
+    long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(maxWaitMillis);
+    List<Connection> expired = new ArrayList<>();
+    try {
+      synchronized (this) {
+        while (true) {
+          long now = System.nanoTime();
+          expired.addAll(this.evictExpired(now));
+          Route route = this.routes.computeIfAbsent(key, k -> new Route());
+          Connection connection = route.idle.pollFirst();
+          if (connection == null && route.leased < this.maxConnectionsPerHost) {
+            connection = new Connection(key, now);
+            this.createdSlots += 1;
+          }
+          if (connection != null) {
+            // Idle connections are reused most recently returned first, so that the others expire
+            // when they are not needed.
+            route.leased += 1;
+            return connection;
+          }
+
+          long remainingMillis = TimeUnit.NANOSECONDS.toMillis(deadline - now);
+          if (maxWaitMillis > 0 && remainingMillis <= 0) {
+            throw new ApiConnectionException(
+                String.format(
+                    "Timed out after %d ms waiting for one of the %d connections to %s to be "
+                        + "returned to the pool.",
+                    maxWaitMillis, this.maxConnectionsPerHost, key));
+          }
+          try {
+            this.wait((maxWaitMillis > 0) ? remainingMillis : 0);
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ApiConnectionException(
+                String.format("Interrupted while waiting for a connection to %s.", key), e);
+          }
+        }
+      }
+    } finally {
+      closeAll(expired);
+    }
+  }
+
+  /**
+   * Returns a leased connection to the pool.
+   *
+   * @param connection the lease
+   * @param conn the {@code HttpURLConnection} last sent over the connection, or {@code null} if the
+   *     request failed before it was opened
+   * @param reusable whether the response was fully read, so that the connection may be reused
+   */
+  void release(Connection connection, HttpURLConnection conn, boolean reusable) {
+    boolean close;
+    synchronized (this) {
+      long now = System.nanoTime();
+      Route route = this.routes.get(connection.route);
+      route.leased -= 1;
+      close = !reusable || conn == null || now - connection.createdAt >= this.timeToLiveNanos;
+      if (close) {
+        this.evictedSlots += 1;
+      } else {
+        connection.conn = conn;
+        connection.idleSince = now;
+        route.idle.addFirst(connection);
+      }
+      this.notifyAll();
+    }
+    if (close && conn != null) {
+      conn.disconnect();
+    }
+  }
+
+  /**
+   * Wraps the response body of a leased connection so that the connection is returned to the pool
+   * once the body is closed.
+   *
+   * @param connection the lease
+   * @param conn the {@code HttpURLConnection} the response was received on
+   * @param body the response body
+   * @return the wrapped response body
+   */
+  InputStream track(Connection connection, HttpURLConnection conn, InputStream body) {
+    if (body == null) {
+      this.release(connection, conn, true);
+      return null;
+    }
+    return new TrackedInputStream(body, connection, conn);
+  }
+
+  /** Removes the connections that expired from the pool; they must be closed outside the lock. */
+  private List<Connection> evictExpired(long now) {
+    List<Connection> expired = new ArrayList<>();
+    Iterator<Route> routes = this.routes.values().iterator();
+    while (routes.hasNext()) {
+      Route route = routes.next();
+      Iterator<Connection> idle = route.idle.iterator();
+      while (idle.hasNext()) {
+        Connection connection = idle.next();
+        if (now - connection.idleSince >= this.idleTimeoutNanos
+            || now - connection.createdAt >= this.timeToLiveNanos) {
+          idle.remove();
+          expired.add(connection);
+        }
+      }
+      if (route.leased == 0 && route.idle.isEmpty()) {
+        routes.remove();
+      }
+    }
+    this.evictedSlots += expired.size();
+    return expired;
+  }
+
+  private static void closeAll(List<Connection> connections) {
+    for (Connection connection : connections) {
+      // Once its response has been read, disconnecting a HttpURLConnection closes an idle socket
+      // to the same host held in the keep-alive cache.
+      connection.conn.disconnect();
+    }
+  }
+
+  private static String routeKey(URL url) {
+    int port = (url.getPort() != -1) ? url.getPort() : url.getDefaultPort();
+    return url.getProtocol() + "://" + url.getHost() + ":" + port;
+  }
+
+  private static final class Route {
+    int leased;
+    final ArrayDeque<Connection> idle = new ArrayDeque<>();
+  }
+
+  /** A connection leased from the pool. */
+  static final class Connection {
+    final String route;
+    final long createdAt;
+    long idleSince;
+    HttpURLConnection conn;
+
+    Connection(String route, long createdAt) {
+      this.route = route;
+      this.createdAt = createdAt;
+    }
+  }
+
+  private final class TrackedInputStream extends FilterInputStream {
+    private final Connection connection;
+    private final HttpURLConnection conn;
+    private final AtomicBoolean released = new AtomicBoolean();
+    private boolean exhausted;
+
+    TrackedInputStream(InputStream in, Connection connection, HttpURLConnection conn) {
+      super(in);
+      this.connection = connection;
+      this.conn = conn;
+    }
+
+    @Override
+    public int read() throws IOException {
+      int b = super.read();
+      this.exhausted |= (b == -1);
+      return b;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+      int n = super.read(b, off, len);
+      this.exhausted |= (n == -1);
+      return n;
+    }
+
+    @Override
+    public void close() throws IOException {
+      try {
+        super.close();
+      } finally {
+        if (this.released.compareAndSet(false, true)) {
+          // A connection whose response was not read to the end cannot be reused.
+          ConnectionPool.this.release(this.connection, this.conn, this.exhausted);
+        }
+      }
+    }
+  }
+
+  public static final class ConnectionPoolBuilder {
+    private int maxConnectionsPerHost = 20;
+    private Duration idleTimeout = Duration.ofSeconds(30);
+    private Duration timeToLive = Duration.ofMinutes(5);
+
+    /** Constructs a builder with the default settings. */
+    public ConnectionPoolBuilder() {}
+
+    /**
+     * Sets the number of connections that may be used at once to the same host, e.g. to {@code
+     * api.stripe.com}. By default this is 20.
+     *
+     * @param maxConnectionsPerHost the number of connections
+     */
+    public ConnectionPoolBuilder setMaxConnectionsPerHost(int maxConnectionsPerHost) {
+      this.maxConnectionsPerHost = maxConnectionsPerHost;
+      return this;
+    }
+
+    /**
+     * Sets how long a connection may stay idle before it is closed. By default this is 30 seconds.
+     *
+     * @param idleTimeout the idle timeout
+     */
+    public ConnectionPoolBuilder setIdleTimeout(Duration idleTimeout) {
+      this.idleTimeout = idleTimeout;
+      return this;
+    }
+
+    /**
+     * Sets how long a connection may be reused after it was opened. By default this is 5 minutes.
+     *
+     * @param timeToLive the maximum lifetime of a connection
+     */
+    public ConnectionPoolBuilder setTimeToLive(Duration timeToLive) {
+      this.timeToLive = timeToLive;
+      return this;
+    }
+
+    /** Constructs a {@link ConnectionPool} with the specified values. */
+    public ConnectionPool build() {
+      if (this.maxConnectionsPerHost < 1) {
+        throw new IllegalArgumentException("maxConnectionsPerHost must be at least 1");
+      }
+      if (this.idleTimeout == null || this.idleTimeout.isNegative()) {
+        throw new IllegalArgumentException("idleTimeout must not be null or negative");
+      }
+      if (this.timeToLive == null || this.timeToLive.isNegative()) {
+        throw new IllegalArgumentException("timeToLive must not be null or negative");
+      }
+      return new ConnectionPool(this);
+    }
+  }
+}
@@ -0,0 +1,223 @@
+package com.stripe.net;
+
+import java.net.ConnectException;
+import java.net.SocketTimeoutException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * The {@link RetryPolicy} used when none is configured.
+ *
+ * <p>Requests are retried up to {@link RequestOptions#getMaxNetworkRetries()} times on connection
+ * errors, conflicts and server errors, unless the API says otherwise with the {@code
+ * Stripe-Should-Retry} header. Retries wait for an exponential backoff with jitter, or for the
+ * duration requested by the {@code Retry-After} header if that is longer.
+ */
+public class DefaultRetryPolicy implements RetryPolicy {
+  private final Duration minDelay;
+  private final Duration maxDelay;
+  private final boolean retryOnRateLimit;
+  private final Duration totalTimeout;
+
+  private DefaultRetryPolicy(
+      Duration minDelay, Duration maxDelay, boolean retryOnRateLimit, Duration totalTimeout) {
+    this.minDelay = minDelay;
+    this.maxDelay = maxDelay;
+    this.retryOnRateLimit = retryOnRateLimit;
+    this.totalTimeout = totalTimeout;
+  }
+
+  public static DefaultRetryPolicyBuilder builder() {
+    return new DefaultRetryPolicyBuilder();
+  }
+
+  @Override
+  public Duration retryDelay(Attempt attempt) {
+    if (!this.shouldRetry(attempt)) {
+      return null;
+    }
+
+    Duration delay = this.backoff(attempt.numRetries() + 1);
+
+    // Never retry earlier than the API asked us to.
+    Duration retryAfter = parseRetryAfter(attempt.responseHeaders());
+    if (retryAfter != null && retryAfter.compareTo(delay) > 0) {
+      delay = retryAfter;
+    }
+
+    return delay;
+  }
+
+  @Override
+  public Duration totalTimeout() {
+    return this.totalTimeout;
+  }
+
+  private boolean shouldRetry(Attempt attempt) {
+    // Do not retry if we are out of retries.
+    if (attempt.numRetries() >= attempt.request().options().getMaxNetworkRetries()) {
+      return false;
+    }
+
+    // Retry on connection error.
+    Throwable cause = (attempt.exception() != null) ? attempt.exception().getCause() : null;
+    if (cause instanceof ConnectException || cause instanceof SocketTimeoutException) {
+      return true;
+    }
+
+    // The API may ask us not to retry (eg; if doing so would be a no-op)
+    // or advise us to retry (eg; in cases of lock timeouts); we defer to that.
+    if (attempt.responseHeaders() != null) {
+      String value = attempt.responseHeaders().firstValueOrNull("Stripe-Should-Retry");
+
+      if ("true".equals(value)) {
+        return true;
+      }
+
+      if ("false".equals(value)) {
+        return false;
+      }
+    }
+
+    // Retry on conflict errors.
+    if (attempt.responseCode() == 409) {
+      return true;
+    }
+
+    // Retry on rate limiting errors, if enabled.
+    if (attempt.responseCode() == 429 && this.retryOnRateLimit) {
+      return true;
+    }
+
+    // Retry on 500, 503, and other internal errors.
+    //
+    // Note that we expect the Stripe-Should-Retry header to be false
+    // in most cases when a 500 is returned, since our idempotency framework
+    // would typically replay it anyway.
+    if (attempt.responseCode() >= 500) {
+      return true;
+    }
+
+    return false;
+  }
+
+  private Duration backoff(int numRetries) {
+    // Apply exponential backoff with minDelay on the number of numRetries so far as inputs.
+    Duration delay =
+        Duration.ofNanos((long) (this.minDelay.toNanos() * Math.pow(2, numRetries - 1)));
+
+    // Do not allow the number to exceed maxDelay
+    if (delay.compareTo(this.maxDelay) > 0) {
+      delay = this.maxDelay;
+    }
+
+    // Apply some jitter by randomizing the value in the range of 75%-100%.
+    double jitter = ThreadLocalRandom.current().nextDouble(0.75, 1.0);
+    delay = Duration.ofNanos((long) (delay.toNanos() * jitter));
+
+    // But never sleep less than the base sleep seconds.
+    if (delay.compareTo(this.minDelay) < 0) {
+      delay = this.minDelay;
+    }
+
+    return delay;
+  }
+
+  /**
+   * Parses the value of the {@code Retry-After} header, which is either a number of seconds or an
+   * HTTP date.
+   */
+  static Duration parseRetryAfter(HttpHeaders headers) {
+    if (headers == null) {
+      return null;
+    }
+
+    String value = headers.firstValueOrNull("Retry-After");
+    if (value == null) {
+      return null;
+    }
+
+    value = value.trim();
+    try {
+      return Duration.ofSeconds(Math.max(0, Long.parseLong(value)));
+    } catch (NumberFormatException e) {
+      // Not a number of seconds, try parsing it as a date.
+    }
+
+    try {
+      Instant date = ZonedDateTime.parse(value, DateTimeFormatter.RFC_1123_DATE_TIME).toInstant();
+      Duration delay = Duration.between(Instant.now(), date);
+      return delay.isNegative() ? Duration.ZERO : delay;
+    } catch (DateTimeParseException e) {
+      return null;
+    }
+  }
+
+  public static final class DefaultRetryPolicyBuilder {
+    private Duration minDelay = HttpClient.minNetworkRetriesDelay;
+    private Duration maxDelay = HttpClient.maxNetworkRetriesDelay;
+    private boolean retryOnRateLimit;
+    private Duration totalTimeout;
+
+    /** Constructs a builder with the default settings. */
+    public DefaultRetryPolicyBuilder() {}
+
+    /**
+     * Sets the delay before the first retry. Subsequent retries wait exponentially longer. By
+     * default this is 500 milliseconds.
+     *
+     * @param minDelay the minimum delay between attempts
+     */
+    public DefaultRetryPolicyBuilder setMinDelay(Duration minDelay) {
+      this.minDelay = minDelay;
+      return this;
+    }
+
+    /**
+     * Sets the maximum backoff between attempts. By default this is 5 seconds. A longer {@code
+     * Retry-After} returned by the API takes precedence.
+     *
+     * @param maxDelay the maximum backoff between attempts
+     */
+    public DefaultRetryPolicyBuilder setMaxDelay(Duration maxDelay) {
+      this.maxDelay = maxDelay;
+      return this;
+    }
+
+    /**
+     * Sets whether requests rejected because of rate limiting (HTTP 429) are retried. By default
+     * they are not, unless the API sends {@code Stripe-Should-Retry: true}.
+     *
+     * @param retryOnRateLimit whether to retry rate limited requests
+     */
+    public DefaultRetryPolicyBuilder setRetryOnRateLimit(boolean retryOnRateLimit) {
+      this.retryOnRateLimit = retryOnRateLimit;
+      return this;
+    }
+
+    /**
+     * Sets the time budget of a request across all of its attempts. By default requests have no
+     * budget beyond the connect and read timeouts of each attempt.
+     *
+     * @param totalTimeout the total timeout, or {@code null} for none
+     * @see RetryPolicy#totalTimeout()
+     */
+    public DefaultRetryPolicyBuilder setTotalTimeout(Duration totalTimeout) {
+      this.totalTimeout = totalTimeout;
+      return this;
+    }
+
+    /** Constructs a {@link DefaultRetryPolicy} with the specified values. */
+    public DefaultRetryPolicy build() {
+      if (this.minDelay == null || this.maxDelay == null) {
+        throw new IllegalArgumentException("minDelay and maxDelay must not be null");
+      }
+      return new DefaultRetryPolicy(
+          this.minDelay, this.maxDelay, this.retryOnRateLimit, this.totalTimeout);
+    }
+  }
+}
@@ -0,0 +1,88 @@
+package com.stripe.net;
+
+import static java.util.Objects.requireNonNull;
+
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * An {@link IdempotencyKeyGenerator} deriving the key from a business key chosen by the caller,
+ * such as the ID of an order, and from a hash of the request. Sending the same request for the same
+ * business key again, e.g. when replaying work after the process crashed, reuses the same
+ * idempotency key, so that Stripe returns the result of the first request instead of performing it
+ * twice.
+ *
+ * <p>The key is {@code <businessKey>-<hash>}, where {@code hash} is the hex-encoded SHA-256 of the
+ * method, the path and the encoded body of the request. Requests made for the same business key to
+ * different endpoints or with different parameters therefore get different keys. The body of a file
+ * upload contains a random multipart boundary, so file uploads get a new key each time.
+ *
+ * <p>As the business key applies to a single operation, set the generator on the options of each
+ * request rather than on the client:
+ *
+ * <pre>{@code
+ * RequestOptions options = RequestOptions.builder()
+ *     .setIdempotencyKeyGenerator(new DeterministicIdempotencyKeyGenerator("order_1234"))
+ *     .build();
+ * client.paymentIntents().create(params, options);
+ * }</pre>
+ */
+public class DeterministicIdempotencyKeyGenerator implements IdempotencyKeyGenerator {
+  /** The maximum length of a business key, so that keys fit in Stripe's limit of 255 characters. */
+  public static final int MAX_BUSINESS_KEY_LENGTH = 255 - 65;
+
+  private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+  private final String businessKey;
+
+  /**
+   * Constructs a generator deriving keys from the given business key.
+   *
+   * @param businessKey the business key, at most {@link #MAX_BUSINESS_KEY_LENGTH} characters long
+   * @throws IllegalArgumentException if the business key is empty or too long
+   */
+  public DeterministicIdempotencyKeyGenerator(String businessKey) {
+    requireNonNull(businessKey);
+    if (businessKey.isEmpty() || businessKey.length() > MAX_BUSINESS_KEY_LENGTH) {
+      throw new IllegalArgumentException(
+          String.format(
+              "businessKey must be between 1 and %d characters long", MAX_BUSINESS_KEY_LENGTH));
+    }
+    this.businessKey = businessKey;
+  }
+
+  @Override
+  public String generate(ApiResource.RequestMethod method, URL url, HttpContent content) {
+    MessageDigest digest = sha256();
+    digest.update(method.name().getBytes(StandardCharsets.UTF_8));
+    digest.update((byte) ' ');
+    digest.update(url.getPath().getBytes(StandardCharsets.UTF_8));
+    if (url.getQuery() != null) {
+      digest.update((byte) '?');
+      digest.update(url.getQuery().getBytes(StandardCharsets.UTF_8));
+    }
+    if (content != null) {
+      digest.update((byte) '\n');
+      digest.update(content.byteArrayContent());
+    }
+    byte[] hash = digest.digest();
+
+    StringBuilder sb = new StringBuilder(this.businessKey.length() + 1 + 2 * hash.length);
+    sb.append(this.businessKey).append('-');
+    for (byte b : hash) {
+      sb.append(HEX_DIGITS[(b >> 4) & 0xf]).append(HEX_DIGITS[b & 0xf]);
+    }
+    return sb.toString();
+  }
+
+  private static MessageDigest sha256() {
+    try {
+      return MessageDigest.getInstance("SHA-256");
+    } catch (NoSuchAlgorithmException e) {
+      // Every Java platform is required to support SHA-256.
+      throw new IllegalStateException(e);
+    }
+  }
+}
@@ -0,0 +1,70 @@
+package com.stripe.net;
+
+/** Turns the paths of requests into endpoint templates, for {@link StripeMetricsListener}. */
+final class EndpointTemplates {
+  /** The placeholder replacing the IDs of objects in paths. */
+  static final String ID_PLACEHOLDER = "{id}";
+
+  private EndpointTemplates() {}
+
+  /**
+   * Returns the template of the given path, e.g. {@code /v1/customers/{id}/sources} for {@code
+   * /v1/customers/cus_123/sources}.
+   *
+   * <p>The static segments of Stripe's paths are made of lowercase letters and underscores only,
+   * while IDs also contain digits or uppercase letters, so every other segment after the version is
+   * replaced by a placeholder. IDs chosen by users, such as those of products, may not follow this
+   * rule and are kept as is.
+   *
+   * @param path the path of the request, possibly followed by a query string
+   * @return the template of the path
+   */
+  static String of(String path) {
+    int end = path.indexOf('?');
+    if (end == -1) {
+      end = path.length();
+    }
+
+    StringBuilder sb = null;
+    int segmentStart = 0;
+    int segmentIndex = 0;
+    for (int i = 0; i <= end; i++) {
+      if (i < end && path.charAt(i) != '/') {
+        continue;
+      }
+      // Paths start with a slash, so segment 0 is empty and segment 1 is the API version.
+      boolean isId = segmentIndex > 1 && isId(path, segmentStart, i);
+      if (isId && sb == null) {
+        sb = new StringBuilder(end);
+        sb.append(path, 0, segmentStart);
+      }
+      if (sb != null) {
+        if (isId) {
+          sb.append(ID_PLACEHOLDER);
+        } else {
+          sb.append(path, segmentStart, i);
+        }
+        if (i < end) {
+          sb.append('/');
+        }
+      }
+      segmentStart = i + 1;
+      segmentIndex += 1;
+    }
+
+    if (sb != null) {
+      return sb.toString();
+    }
+    return (end == path.length()) ? path : path.substring(0, end);
+  }
+
+  private static boolean isId(String path, int start, int end) {
+    for (int i = start; i < end; i++) {
+      char c = path.charAt(i);
+      if (!((c >= 'a' && c <= 'z') || c == '_')) {
+        return true;
+      }
+    }
+    return false;
+  }
+}
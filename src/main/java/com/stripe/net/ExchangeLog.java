@@ -0,0 +1,265 @@
+package com.stripe.net;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.regex.Pattern;
+import lombok.Value;
+
+/**
+ * Keeps the last requests sent by a client and their responses in memory, to see what led to an
+ * incident, e.g. when an unexpected exception is thrown.
+ *
+ * <p>Recording an exchange only stores references to the request and its response in a ring buffer,
+ * overwriting the oldest one, without locking. Bodies are only redacted, truncated and formatted
+ * when the log is read with {@link #snapshot()} or {@link #dump()}, on the calling thread. The
+ * buffer keeps the bodies of the last {@link ExchangeLogBuilder#setCapacity capacity} responses
+ * alive until they are overwritten.
+ *
+ * <p>Redaction replaces card numbers and security codes, client secrets, passwords, bank account
+ * and identity numbers, as well as anything that looks like an API key or a webhook secret, with
+ * {@code [REDACTED]}. Fields that merely share a sensitive name, such as the {@code number} of an
+ * invoice, are redacted too. Request headers, which include the API key, are never kept.
+ *
+ * <p>Use it with a {@link com.stripe.StripeClient} through {@code
+ * StripeClient.builder().setExchangeLog(...)}, and keep a reference to read it.
+ */
+public class ExchangeLog {
+  private static final String REDACTED = "[REDACTED]";
+
+  private static final String SENSITIVE_NAMES =
+      "number|cvc|client_secret|secret|password|account_number|id_number|ssn_last_4|iban";
+
+  /** Sensitive fields of form-encoded bodies and query strings, e.g. {@code card[number]=...}. */
+  private static final Pattern SENSITIVE_FORM_FIELD =
+      Pattern.compile("(^|&)((?:[^=&]*\\[)?(?:" + SENSITIVE_NAMES + ")\\]?)=[^&]*");
+
+  /** Sensitive fields of JSON bodies, e.g. {@code "number": "..."}. */
+  private static final Pattern SENSITIVE_JSON_FIELD =
+      Pattern.compile("(\"(?:" + SENSITIVE_NAMES + ")\"\\s*:\\s*)\"(?:[^\"\\\\]|\\\\.)*\"");
+
+  /** API keys, webhook secrets and the secret part of client secrets, wherever they appear. */
+  private static final Pattern SECRET_VALUE =
+      Pattern.compile("\\b(?:sk|rk)_(?:live|test)_[0-9A-Za-z]+|\\bwhsec_[0-9A-Za-z]+|_secret_\\w+");
+
+  private final int maxBodyLength;
+
+  private final AtomicReferenceArray<Entry> entries;
+  private final AtomicLong recorded = new AtomicLong();
+
+  private ExchangeLog(ExchangeLogBuilder builder) {
+    this.maxBodyLength = builder.maxBodyLength;
+    this.entries = new AtomicReferenceArray<>(builder.capacity);
+  }
+
+  public static ExchangeLogBuilder builder() {
+    return new ExchangeLogBuilder();
+  }
+
+  /** A request and its response, as recorded in an {@link ExchangeLog}. */
+  @Value
+  public static class Exchange {
+    /** When the request completed. */
+    Instant time;
+
+    /** The HTTP method of the request. */
+    ApiResource.RequestMethod method;
+
+    /** The path and redacted query string of the request. */
+    String path;
+
+    /** The HTTP status code of the response, or {@code 0} if no response was received. */
+    int statusCode;
+
+    /** The ID of the request, or {@code null} if no response was received. */
+    String requestId;
+
+    /** The time from the moment the request was made until its response was processed. */
+    Duration duration;
+
+    /** The redacted and truncated request body, or {@code null} if there is none. */
+    String requestBody;
+
+    /**
+     * The redacted and truncated response body, or {@code null} if there is none or if it was
+     * streamed to the caller.
+     */
+    String responseBody;
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder();
+      sb.append(this.time).append(' ').append(this.method).append(' ').append(this.path);
+      sb.append(" -> ").append(this.statusCode);
+      if (this.requestId != null) {
+        sb.append(" (").append(this.requestId).append(')');
+      }
+      sb.append(" in ").append(this.duration.toMillis()).append(" ms");
+      if (this.requestBody != null) {
+        sb.append("\n  request: ").append(this.requestBody);
+      }
+      if (this.responseBody != null) {
+        sb.append("\n  response: ").append(this.responseBody);
+      }
+      return sb.toString();
+    }
+  }
+
+  /**
+   * Returns the exchanges in the log, oldest first. Exchanges recorded while the snapshot is taken
+   * may be left out.
+   *
+   * @return the redacted exchanges
+   */
+  public List<Exchange> snapshot() {
+    int capacity = this.entries.length();
+    long end = this.recorded.get();
+    long start = Math.max(0, end - capacity);
+    List<Exchange> exchanges = new ArrayList<>((int) (end - start));
+    for (long sequence = start; sequence < end; sequence++) {
+      Entry entry = this.entries.get((int) (sequence % capacity));
+      // The slot may not be written yet, or may already hold a newer exchange.
+      if (entry != null && entry.sequence == sequence) {
+        exchanges.add(this.toExchange(entry));
+      }
+    }
+    return Collections.unmodifiableList(exchanges);
+  }
+
+  /**
+   * Returns the exchanges in the log formatted as text, oldest first, e.g. to write them to a log
+   * when an exception is thrown.
+   *
+   * @return the redacted exchanges, one or more lines each
+   */
+  public String dump() {
+    StringBuilder sb = new StringBuilder();
+    for (Exchange exchange : this.snapshot()) {
+      sb.append(exchange).append('\n');
+    }
+    return sb.toString();
+  }
+
+  /**
+   * Records a request and its response.
+   *
+   * @param request the request
+   * @param response the response, or {@code null} if none was received
+   * @param duration the time from the moment the request was made until it completed
+   */
+  void record(StripeRequest request, AbstractStripeResponse<?> response, Duration duration) {
+    long sequence = this.recorded.getAndIncrement();
+    this.entries.set(
+        (int) (sequence % this.entries.length()),
+        new Entry(sequence, System.currentTimeMillis(), request, response, duration));
+  }
+
+  private Exchange toExchange(Entry entry) {
+    StripeRequest request = entry.request;
+    AbstractStripeResponse<?> response = entry.response;
+    String path = request.url().getPath();
+    if (request.url().getQuery() != null) {
+      path += "?" + redact(request.url().getQuery());
+    }
+    HttpContent content = request.content();
+    String requestBody =
+        (content != null) ? new String(content.byteArrayContent(), StandardCharsets.UTF_8) : null;
+    String responseBody =
+        (response != null && response.body() instanceof String) ? (String) response.body() : null;
+    return new Exchange(
+        Instant.ofEpochMilli(entry.timeMillis),
+        request.method(),
+        path,
+        (response != null) ? response.code() : 0,
+        (response != null) ? response.requestId() : null,
+        entry.duration,
+        this.truncate(redact(requestBody)),
+        this.truncate(redact(responseBody)));
+  }
+
+  /** Redacts the sensitive values of a form-encoded or JSON string. */
+  static String redact(String text) {
+    if (text == null) {
+      return null;
+    }
+    String redacted = SENSITIVE_FORM_FIELD.matcher(text).replaceAll("$1$2=" + REDACTED);
+    redacted = SENSITIVE_JSON_FIELD.matcher(redacted).replaceAll("$1\"" + REDACTED + "\"");
+    return SECRET_VALUE.matcher(redacted).replaceAll(REDACTED);
+  }
+
+  private String truncate(String text) {
+    if (text == null || text.length() <= this.maxBodyLength) {
+      return text;
+    }
+    return text.substring(0, this.maxBodyLength)
+        + "... ("
+        + (text.length() - this.maxBodyLength)
+        + " more characters)";
+  }
+
+  private static final class Entry {
+    final long sequence;
+    final long timeMillis;
+    final StripeRequest request;
+    final AbstractStripeResponse<?> response;
+    final Duration duration;
+
+    Entry(
+        long sequence,
+        long timeMillis,
+        StripeRequest request,
+        AbstractStripeResponse<?> response,
+        Duration duration) {
+      this.sequence = sequence;
+      this.timeMillis = timeMillis;
+      this.request = request;
+      this.response = response;
+      this.duration = duration;
+    }
+  }
+
+  public static final class ExchangeLogBuilder {
+    private int capacity = 100;
+    private int maxBodyLength = 2048;
+
+    /** Constructs a builder with the default settings. */
+    public ExchangeLogBuilder() {}
+
+    /**
+     * Sets the number of exchanges kept in the log. By default this is 100.
+     *
+     * @param capacity the number of exchanges
+     */
+    public ExchangeLogBuilder setCapacity(int capacity) {
+      this.capacity = capacity;
+      return this;
+    }
+
+    /**
+     * Sets the number of characters of each body kept when the log is read, after redaction. By
+     * default this is 2048.
+     *
+     * @param maxBodyLength the number of characters
+     */
+    public ExchangeLogBuilder setMaxBodyLength(int maxBodyLength) {
+      this.maxBodyLength = maxBodyLength;
+      return this;
+    }
+
+    /** Constructs an {@link ExchangeLog} with the specified values. */
+    public ExchangeLog build() {
+      if (this.capacity < 1) {
+        throw new IllegalArgumentException("capacity must be at least 1");
+      }
+      if (this.maxBodyLength < 0) {
+        throw new IllegalArgumentException("maxBodyLength must not be negative");
+      }
+      return new ExchangeLog(this);
+    }
+  }
+}
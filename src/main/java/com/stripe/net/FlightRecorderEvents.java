@@ -0,0 +1,100 @@
+package com.stripe.net;
+
+import java.lang.reflect.Type;
+import java.time.Duration;
+
+/**
+ * Emits Java Flight Recorder events for API requests, retries, webhook verifications and
+ * deserializations, so that they can be correlated with garbage collections, lock contention and
+ * other JVM events in the same recording.
+ *
+ * <p>Java 8 has no public API to define events, so this version records nothing. The Java 11
+ * version of this class, packaged in the multi-release section of the library's JAR, emits the
+ * events when a recording that enables them is running.
+ *
+ * <p>Events that have a duration are begun with a {@code begin} method, which returns an opaque
+ * handle, or {@code null} if the event is not recorded, and completed with the matching {@code
+ * commit} method.
+ */
+final class FlightRecorderEvents {
+  private FlightRecorderEvents() {}
+
+  /**
+   * Begins the event of an API request.
+   *
+   * @return the event, or {@code null} if it is not recorded
+   */
+  static Object beginRequest() {
+    return null;
+  }
+
+  /**
+   * Completes the event of an API request.
+   *
+   * @param event the event returned by {@link #beginRequest}, or {@code null}
+   * @param endpoint the endpoint template of the request
+   * @param method the HTTP method of the request
+   * @param statusCode the HTTP status code of the response, or {@code 0} if there is none
+   * @param requestId the ID of the request, or {@code null} if there is no response
+   * @param attempts the number of times the request was sent, or {@code 0} if not known
+   * @param requestBytes the size of the request body in bytes
+   * @param responseBytes the size of the response body in bytes, or {@code -1} if not known
+   */
+  static void commitRequest(
+      Object event,
+      String endpoint,
+      ApiResource.RequestMethod method,
+      int statusCode,
+      String requestId,
+      int attempts,
+      long requestBytes,
+      long responseBytes) {}
+
+  /**
+   * Records that a request is about to be retried.
+   *
+   * @param request the request
+   * @param retry the number of the retry, starting at 1
+   * @param statusCode the HTTP status code of the failed attempt, or {@code 0} if there is none
+   * @param requestId the ID of the failed attempt, or {@code null} if there is none
+   * @param delay how long to wait before the retry
+   */
+  static void retry(
+      StripeRequest request, int retry, int statusCode, String requestId, Duration delay) {}
+
+  /**
+   * Begins the event of a webhook signature verification.
+   *
+   * @return the event, or {@code null} if it is not recorded
+   */
+  static Object beginWebhookVerification() {
+    return null;
+  }
+
+  /**
+   * Completes the event of a webhook signature verification.
+   *
+   * @param event the event returned by {@link #beginWebhookVerification}, or {@code null}
+   * @param payload the payload of the webhook
+   * @param verified whether the signature is valid
+   */
+  static void commitWebhookVerification(Object event, String payload, boolean verified) {}
+
+  /**
+   * Begins the event of the deserialization of a Stripe object.
+   *
+   * @return the event, or {@code null} if it is not recorded
+   */
+  static Object beginDeserialization() {
+    return null;
+  }
+
+  /**
+   * Completes the event of the deserialization of a Stripe object.
+   *
+   * @param event the event returned by {@link #beginDeserialization}, or {@code null}
+   * @param type the type the payload was deserialized to
+   * @param payload the JSON payload, or {@code null} if it was read from a stream
+   */
+  static void commitDeserialization(Object event, Type type, String payload) {}
+}
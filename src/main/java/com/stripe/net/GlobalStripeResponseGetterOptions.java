@@ -12,14 +12,23 @@ public class GlobalStripeResponseGetterOptions extends StripeResponseGetterOptio
   public static final GlobalStripeResponseGetterOptions INSTANCE =
       new GlobalStripeResponseGetterOptions();
 
+  /** The authenticator for the last API key set, reused until the key changes. */
+  private volatile BearerTokenAuthenticator authenticator;
+
   private GlobalStripeResponseGetterOptions() {}
 
   @Override
   public Authenticator getAuthenticator() {
-    if (Stripe.apiKey == null) {
+    String apiKey = Stripe.apiKey;
+    if (apiKey == null) {
       return null;
     }
-    return new BearerTokenAuthenticator(Stripe.apiKey);
+    BearerTokenAuthenticator authenticator = this.authenticator;
+    if (authenticator == null || !authenticator.getApiKey().equals(apiKey)) {
+      authenticator = new BearerTokenAuthenticator(apiKey);
+      this.authenticator = authenticator;
+    }
+    return authenticator;
   }
 
   @Override
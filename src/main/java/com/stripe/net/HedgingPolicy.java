@@ -0,0 +1,401 @@
+package com.stripe.net;
+
+import com.stripe.exception.StripeException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Sends a second, identical copy of slow {@code GET} requests and uses whichever response arrives
+ * first, trimming the latency tail caused by occasional slow responses.
+ *
+ * <p>A hedge is sent when the original request has not completed after the hedging delay. The delay
+ * is either fixed, or follows a percentile of the latencies recently observed (e.g. the 95th
+ * percentile, so that only the slowest 5% of requests are hedged). To bound the extra load, no more
+ * hedges are sent than {@link HedgingPolicyBuilder#setMaxHedgeRatio maxHedgeRatio} times the number
+ * of requests. Once a response is received, the other request is cancelled on a best-effort basis:
+ * its result is discarded, but whether it is aborted in flight depends on the {@link HttpClient}.
+ *
+ * <p>Hedges are subject to the same limits as any other request, such as the concurrency limiter
+ * and the bulkhead of the account. A hedge of a blocking request is sent on the calling thread,
+ * which would otherwise only wait for the response.
+ *
+ * <p>Hedging only ever applies to {@code GET} requests, which have no side effects. It is enabled
+ * with {@code StripeClient.builder().setHedgingPolicy(...)}.
+ */
+public class HedgingPolicy {
+  private static final int SAMPLE_COUNT = 1000;
+  private static final int SAMPLES_BETWEEN_UPDATES = 100;
+
+  private final long delayNanos;
+  private final double delayPercentile;
+  private final double maxHedgeRatio;
+
+  private final AtomicLong requests = new AtomicLong();
+  private final AtomicLong hedges = new AtomicLong();
+
+  private final long[] samples = new long[SAMPLE_COUNT];
+  private int sampled;
+  private int sinceUpdate;
+  private volatile long percentileNanos = -1;
+
+  private HedgingPolicy(HedgingPolicyBuilder builder) {
+    this.delayNanos = builder.delay.toNanos();
+    this.delayPercentile = builder.delayPercentile;
+    this.maxHedgeRatio = builder.maxHedgeRatio;
+  }
+
+  public static HedgingPolicyBuilder builder() {
+    return new HedgingPolicyBuilder();
+  }
+
+  /**
+   * Returns the delay after which a request is currently hedged.
+   *
+   * @return the hedging delay
+   */
+  public Duration getCurrentDelay() {
+    return Duration.ofNanos(this.currentDelayNanos());
+  }
+
+  /**
+   * Returns the number of requests sent through this policy.
+   *
+   * @return the number of requests
+   */
+  public long getRequestCount() {
+    return this.requests.get();
+  }
+
+  /**
+   * Returns the number of hedges sent.
+   *
+   * @return the number of hedges
+   */
+  public long getHedgeCount() {
+    return this.hedges.get();
+  }
+
+  /**
+   * Sends the request, hedging it if it is slow.
+   *
+   * @param request the request, which must be a {@code GET} request
+   * @param send the function sending the request
+   * @param hedger sends the hedge
+   * @return a future completed with the first response, or exceptionally once all copies failed
+   */
+  @SuppressWarnings("FutureReturnValueIgnored")
+  <T> CompletableFuture<T> send(
+      StripeRequest request, Function<StripeRequest, CompletableFuture<T>> send, Hedger<T> hedger) {
+    this.requests.incrementAndGet();
+
+    Race<T> race = new Race<>();
+    race.start(request, send);
+
+    ScheduledFuture<?> timer =
+        AsyncSupport.scheduler()
+            .schedule(
+                () -> {
+                  if (!race.result.isDone() && this.tryTakeBudget()) {
+                    race.start(request, (copy) -> hedgeAsync(copy, hedger, race.result));
+                  }
+                },
+                this.currentDelayNanos(),
+                TimeUnit.NANOSECONDS);
+    race.result.whenComplete((response, error) -> timer.cancel(false));
+
+    return race.result;
+  }
+
+  /**
+   * Sends the request and waits for the first response, hedging it if it is slow. Rather than only
+   * waiting, the calling thread sends the hedge once it is admitted, and thus returns once the
+   * hedge completed even if the original request completed first.
+   *
+   * @param request the request, which must be a {@code GET} request
+   * @param send the function sending the request
+   * @param hedger sends the hedge
+   * @return the first response
+   * @throws StripeException if all copies failed
+   */
+  @SuppressWarnings("FutureReturnValueIgnored")
+  <T> T sendAndWait(
+      StripeRequest request, Function<StripeRequest, CompletableFuture<T>> send, Hedger<T> hedger)
+      throws StripeException {
+    this.requests.incrementAndGet();
+
+    Race<T> race = new Race<>();
+    race.start(request, send);
+
+    if (!await(race.result, this.currentDelayNanos()) && this.tryTakeBudget()) {
+      // The admission must not block: the calling thread may hold a permit the hedge waits for.
+      CompletableFuture<Void> admission = hedger.admit(request);
+      await(CompletableFuture.anyOf(race.result, admission), Long.MAX_VALUE);
+      if (admission.isDone() && !race.result.isDone() && !Thread.currentThread().isInterrupted()) {
+        race.start(
+            request,
+            (copy) ->
+                admission.isCompletedExceptionally()
+                    ? admission.<T>thenApply((ignored) -> null)
+                    : AsyncSupport.supplyNow(
+                        () -> CompletableFuture.completedFuture(hedger.send(copy))));
+      } else {
+        admission.thenRun(() -> hedger.release(request));
+      }
+    }
+    return AsyncSupport.join(race.result);
+  }
+
+  /** Sends a hedge once it is admitted, unless a response was received in the meantime. */
+  @SuppressWarnings("FutureReturnValueIgnored")
+  private static <T> CompletableFuture<T> hedgeAsync(
+      StripeRequest request, Hedger<T> hedger, CompletableFuture<T> result) {
+    // Not derived from the admission, so that cancelling the hedge cannot leak an admission.
+    CompletableFuture<T> hedge = new CompletableFuture<>();
+    hedger
+        .admit(request)
+        .whenComplete(
+            (ignored, error) -> {
+              if (error != null) {
+                hedge.completeExceptionally(AsyncSupport.unwrap(error));
+              } else if (result.isDone() || hedge.isDone()) {
+                hedger.release(request);
+                hedge.cancel(false);
+              } else {
+                hedger
+                    .sendAsync(request)
+                    .whenComplete(
+                        (response, e) -> {
+                          if (e != null) {
+                            hedge.completeExceptionally(AsyncSupport.unwrap(e));
+                          } else {
+                            hedge.complete(response);
+                          }
+                        });
+              }
+            });
+    return hedge;
+  }
+
+  /**
+   * Waits for the future to complete, successfully or not, for at most the given time.
+   *
+   * @return whether the future completed
+   */
+  private static boolean await(CompletableFuture<?> future, long nanos) {
+    try {
+      future.get(nanos, TimeUnit.NANOSECONDS);
+    } catch (InterruptedException e) {
+      // Left for AsyncSupport.join to report.
+      Thread.currentThread().interrupt();
+    } catch (ExecutionException | TimeoutException e) {
+      // Only completion matters here.
+    }
+    return future.isDone();
+  }
+
+  private long currentDelayNanos() {
+    long percentile = this.percentileNanos;
+    return (percentile >= 0) ? percentile : this.delayNanos;
+  }
+
+  private boolean tryTakeBudget() {
+    while (true) {
+      long sent = this.hedges.get();
+      if (sent + 1 > this.maxHedgeRatio * this.requests.get()) {
+        return false;
+      }
+      if (this.hedges.compareAndSet(sent, sent + 1)) {
+        return true;
+      }
+    }
+  }
+
+  private void recordLatency(long nanos) {
+    if (this.delayPercentile <= 0) {
+      return;
+    }
+
+    long[] snapshot = null;
+    synchronized (this.samples) {
+      this.samples[this.sampled % SAMPLE_COUNT] = nanos;
+      this.sampled += 1;
+      if (this.sampled >= SAMPLES_BETWEEN_UPDATES
+          && ++this.sinceUpdate >= SAMPLES_BETWEEN_UPDATES) {
+        this.sinceUpdate = 0;
+        snapshot = Arrays.copyOf(this.samples, Math.min(this.sampled, SAMPLE_COUNT));
+      }
+      // Avoid overflowing the counter while keeping the ring buffer position.
+      if (this.sampled == 2 * SAMPLE_COUNT) {
+        this.sampled = SAMPLE_COUNT;
+      }
+    }
+
+    if (snapshot != null) {
+      Arrays.sort(snapshot);
+      int index = (int) Math.ceil(this.delayPercentile * snapshot.length) - 1;
+      this.percentileNanos = snapshot[Math.max(0, Math.min(index, snapshot.length - 1))];
+    }
+  }
+
+  /**
+   * Sends hedges through the same limits as any other request. A hedge is first admitted, then
+   * either sent, or released if a response was received in the meantime.
+   *
+   * @param <T> the type of the response
+   */
+  interface Hedger<T> {
+    /**
+     * Waits for a hedge to be allowed to be sent, without blocking the calling thread.
+     *
+     * @param request the hedge
+     * @return a future completed once the hedge may be sent, or exceptionally if it may not be sent
+     */
+    CompletableFuture<Void> admit(StripeRequest request);
+
+    /**
+     * Sends an admitted hedge, and releases it once its response was received.
+     *
+     * @param request the hedge
+     * @return the response
+     */
+    T send(StripeRequest request) throws StripeException;
+
+    /**
+     * Sends an admitted hedge without blocking the calling thread, and releases it once its
+     * response was received.
+     *
+     * @param request the hedge
+     * @return a future completed with the response
+     */
+    CompletableFuture<T> sendAsync(StripeRequest request);
+
+    /**
+     * Releases an admitted hedge that was not sent.
+     *
+     * @param request the hedge
+     */
+    void release(StripeRequest request);
+  }
+
+  /** The copies of a request racing to complete first. */
+  private final class Race<T> {
+    final CompletableFuture<T> result = new CompletableFuture<>();
+    private final CompletableFuture<?>[] attempts = new CompletableFuture<?>[2];
+    private int started;
+    private int failed;
+
+    @SuppressWarnings("FutureReturnValueIgnored")
+    void start(StripeRequest request, Function<StripeRequest, CompletableFuture<T>> send) {
+      // Count the copy as started before sending it, as a hedge sent on the calling thread only
+      // returns once it completed.
+      int index;
+      synchronized (this) {
+        index = this.started++;
+      }
+
+      long startedAt = System.nanoTime();
+      CompletableFuture<T> attempt;
+      try {
+        attempt = send.apply(request);
+      } catch (Throwable e) {
+        attempt = AsyncSupport.failedFuture(e);
+      }
+
+      synchronized (this) {
+        this.attempts[index] = attempt;
+      }
+
+      attempt.whenComplete(
+          (response, error) -> {
+            if (error == null) {
+              recordLatency(System.nanoTime() - startedAt);
+              if (this.result.complete(response)) {
+                this.cancelOthers();
+              }
+              return;
+            }
+
+            boolean allFailed;
+            synchronized (this) {
+              this.failed += 1;
+              // Only fail once every copy sent so far has failed.
+              allFailed = this.failed == this.started;
+            }
+            if (allFailed) {
+              this.result.completeExceptionally(AsyncSupport.unwrap(error));
+            }
+          });
+    }
+
+    private synchronized void cancelOthers() {
+      for (int i = 0; i < this.started; i++) {
+        if (this.attempts[i] != null && !this.attempts[i].isDone()) {
+          this.attempts[i].cancel(false);
+        }
+      }
+    }
+  }
+
+  public static final class HedgingPolicyBuilder {
+    private Duration delay = Duration.ofMillis(500);
+    private double delayPercentile;
+    private double maxHedgeRatio = 0.05;
+
+    /** Constructs a builder with the default settings. */
+    public HedgingPolicyBuilder() {}
+
+    /**
+     * Sets the delay after which a request is hedged. When a delay percentile is set, this delay is
+     * only used until enough latencies have been observed. By default this is 500 milliseconds.
+     *
+     * @param delay the hedging delay
+     */
+    public HedgingPolicyBuilder setDelay(Duration delay) {
+      this.delay = delay;
+      return this;
+    }
+
+    /**
+     * Hedges requests that take longer than the given percentile of recently observed latencies,
+     * e.g. {@code 0.95} for the 95th percentile. By default a fixed delay is used.
+     *
+     * @param delayPercentile the percentile, between 0 and 1
+     */
+    public HedgingPolicyBuilder setDelayPercentile(double delayPercentile) {
+      this.delayPercentile = delayPercentile;
+      return this;
+    }
+
+    /**
+     * Sets the maximum number of hedges as a share of the number of requests. By default this is
+     * 0.05, i.e. at most one hedge for every 20 requests.
+     *
+     * @param maxHedgeRatio the share, between 0 and 1
+     */
+    public HedgingPolicyBuilder setMaxHedgeRatio(double maxHedgeRatio) {
+      this.maxHedgeRatio = maxHedgeRatio;
+      return this;
+    }
+
+    /** Constructs a {@link HedgingPolicy} with the specified values. */
+    public HedgingPolicy build() {
+      if (this.delay == null || this.delay.isNegative()) {
+        throw new IllegalArgumentException("delay must not be null or negative");
+      }
+      if (this.delayPercentile < 0 || this.delayPercentile >= 1) {
+        throw new IllegalArgumentException("delayPercentile must be between 0 and 1");
+      }
+      if (this.maxHedgeRatio <= 0 || this.maxHedgeRatio > 1) {
+        throw new IllegalArgumentException("maxHedgeRatio must be between 0 and 1");
+      }
+      return new HedgingPolicy(this);
+    }
+  }
+}
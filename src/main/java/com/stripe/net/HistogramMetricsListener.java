@@ -0,0 +1,106 @@
+package com.stripe.net;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.Value;
+
+/**
+ * A {@link StripeMetricsListener} that keeps, for each endpoint, a {@link LatencyHistogram} of the
+ * total duration of requests along with counters of requests, errors, retries and bytes, without
+ * locking.
+ *
+ * <p>Endpoints are identified by their method and template, e.g. {@code GET /v1/customers/{id}}.
+ * Keep a reference to the listener to read its statistics with {@link #getStats()}.
+ */
+public class HistogramMetricsListener implements StripeMetricsListener {
+  private final ConcurrentHashMap<String, Endpoint> endpoints = new ConcurrentHashMap<>();
+
+  @Override
+  public void onRequest(RequestMetrics metrics) {
+    String key = metrics.method() + " " + metrics.endpoint();
+    Endpoint endpoint = this.endpoints.get(key);
+    if (endpoint == null) {
+      endpoint = this.endpoints.computeIfAbsent(key, k -> new Endpoint());
+    }
+    endpoint.record(metrics);
+  }
+
+  /**
+   * Returns the statistics of each endpoint a request was sent to, sorted by endpoint.
+   *
+   * @return a snapshot of the statistics, by method and endpoint template
+   */
+  public Map<String, EndpointStats> getStats() {
+    Map<String, EndpointStats> stats = new TreeMap<>();
+    for (Map.Entry<String, Endpoint> entry : this.endpoints.entrySet()) {
+      stats.put(entry.getKey(), entry.getValue().snapshot());
+    }
+    return Collections.unmodifiableMap(stats);
+  }
+
+  /** Clears the statistics of all endpoints. */
+  public void reset() {
+    this.endpoints.clear();
+  }
+
+  /** A snapshot of the statistics of an endpoint. */
+  @Value
+  public static class EndpointStats {
+    /** The number of requests sent to the endpoint. */
+    long requests;
+
+    /** The number of requests that returned an error or failed without a response. */
+    long errors;
+
+    /** The number of times requests were retried. */
+    long retries;
+
+    /** The total size of the request bodies in bytes. */
+    long requestBytes;
+
+    /** The total size of the response bodies in bytes, for those whose size is known. */
+    long responseBytes;
+
+    /** The distribution of the total duration of requests. */
+    LatencyHistogram.Snapshot latency;
+  }
+
+  private static final class Endpoint {
+    final LatencyHistogram latency = new LatencyHistogram();
+    final LongAdder requests = new LongAdder();
+    final LongAdder errors = new LongAdder();
+    final LongAdder retries = new LongAdder();
+    final LongAdder requestBytes = new LongAdder();
+    final LongAdder responseBytes = new LongAdder();
+
+    void record(RequestMetrics metrics) {
+      this.requests.increment();
+      if (metrics.statusCode() == 0 || metrics.statusCode() >= 400) {
+        this.errors.increment();
+      }
+      if (metrics.attempts() > 1) {
+        this.retries.add(metrics.attempts() - 1);
+      }
+      this.requestBytes.add(metrics.requestBytes());
+      if (metrics.responseBytes() > 0) {
+        this.responseBytes.add(metrics.responseBytes());
+      }
+      if (metrics.timings().total() != null) {
+        this.latency.record(metrics.timings().total());
+      }
+    }
+
+    EndpointStats snapshot() {
+      return new EndpointStats(
+          this.requests.sum(),
+          this.errors.sum(),
+          this.retries.sum(),
+          this.requestBytes.sum(),
+          this.responseBytes.sum(),
+          this.latency.snapshot());
+    }
+  }
+}
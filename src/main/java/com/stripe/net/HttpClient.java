@@ -3,12 +3,16 @@ package com.stripe.net;
 import com.stripe.Stripe;
 import com.stripe.exception.ApiConnectionException;
 import com.stripe.exception.StripeException;
-import java.net.ConnectException;
-import java.net.SocketTimeoutException;
+import com.stripe.util.Stopwatch;
 import java.time.Duration;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.concurrent.ThreadLocalRandom;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 
 /** Base abstract class for HTTP clients used to send requests to Stripe's API. */
 public abstract class HttpClient {
@@ -21,6 +25,8 @@ public abstract class HttpClient {
   /** A value indicating whether the client should sleep between automatic request retries. */
   boolean networkRetriesSleep = true;
 
+  private static volatile UserAgentHeaders cachedUserAgentHeaders;
+
   /** Initializes a new instance of the {@link HttpClient} class. */
   protected HttpClient() {}
 
@@ -44,6 +50,21 @@ public abstract class HttpClient {
     throw new UnsupportedOperationException("requestStream is unimplemented for this HttpClient");
   }
 
+  /**
+   * Sends the given request to Stripe's API asynchronously, buffering the response body into
+   * memory.
+   *
+   * <p>The default implementation calls {@link #request(StripeRequest)} on a background thread.
+   * Clients backed by a non-blocking transport should override this method.
+   *
+   * @param request the request
+   * @return a future completed with the response, or completed exceptionally with a {@link
+   *     StripeException} if the request fails for any reason
+   */
+  public CompletableFuture<StripeResponse> requestAsync(StripeRequest request) {
+    return AsyncSupport.supplyAsync(() -> this.request(request), AsyncSupport.defaultExecutor());
+  }
+
   @FunctionalInterface
   private interface RequestSendFunction<R> {
     R apply(StripeRequest request) throws StripeException;
@@ -73,6 +94,8 @@ public abstract class HttpClient {
 
   public <T extends AbstractStripeResponse<?>> T sendWithRetries(
       StripeRequest request, RequestSendFunction<T> send) throws StripeException {
+    RetryPolicy policy = retryPolicy(request);
+    Stopwatch stopwatch = Stopwatch.startNew();
     ApiConnectionException requestException = null;
     T response = null;
     int retry = 0;
@@ -81,19 +104,21 @@ public abstract class HttpClient {
       requestException = null;
 
       try {
-        response = send.apply(request);
+        response = send.apply(withinBudget(request, policy, stopwatch.getElapsed()));
       } catch (ApiConnectionException e) {
         requestException = e;
       }
 
-      if (!this.shouldRetry(retry, requestException, request, response)) {
+      Duration delay =
+          this.retryDelay(policy, request, retry, requestException, response, stopwatch);
+      if (delay == null) {
         break;
       }
 
       retry += 1;
 
       try {
-        Thread.sleep(this.sleepTime(retry).toMillis());
+        Thread.sleep(delay.toMillis());
       } catch (InterruptedException e) {
         Thread.currentThread().interrupt();
       }
@@ -108,6 +133,75 @@ public abstract class HttpClient {
     return response;
   }
 
+  /**
+   * Asynchronous counterpart of {@link #sendWithRetries}. Instead of sleeping between attempts, the
+   * next attempt is scheduled on a shared scheduler, so that no thread is held while waiting. The
+   * retry rules are the same as for the blocking version.
+   */
+  private <T extends AbstractStripeResponse<?>> CompletableFuture<T> sendWithRetriesAsync(
+      StripeRequest request, Function<StripeRequest, CompletableFuture<T>> send) {
+    CompletableFuture<T> result = new CompletableFuture<>();
+    attemptAsync(request, send, retryPolicy(request), Stopwatch.startNew(), 0, result);
+    return result;
+  }
+
+  @SuppressWarnings("FutureReturnValueIgnored")
+  private <T extends AbstractStripeResponse<?>> void attemptAsync(
+      StripeRequest request,
+      Function<StripeRequest, CompletableFuture<T>> send,
+      RetryPolicy policy,
+      Stopwatch stopwatch,
+      int retry,
+      CompletableFuture<T> result) {
+    // The caller may have cancelled the request while we were waiting.
+    if (result.isDone()) {
+      return;
+    }
+
+    CompletableFuture<T> attempt;
+    try {
+      attempt = send.apply(withinBudget(request, policy, stopwatch.getElapsed()));
+    } catch (Throwable e) {
+      attempt = AsyncSupport.failedFuture(e);
+    }
+
+    attempt.whenComplete(
+        (response, error) -> {
+          ApiConnectionException requestException = null;
+          if (error != null) {
+            Throwable cause = AsyncSupport.unwrap(error);
+            if (!(cause instanceof ApiConnectionException)) {
+              result.completeExceptionally(cause);
+              return;
+            }
+            requestException = (ApiConnectionException) cause;
+          }
+
+          Duration delay =
+              this.retryDelay(policy, request, retry, requestException, response, stopwatch);
+          if (delay == null) {
+            if (requestException != null) {
+              result.completeExceptionally(requestException);
+            } else {
+              response.numRetries(retry);
+              result.complete(response);
+            }
+            return;
+          }
+
+          int nextRetry = retry + 1;
+          try {
+            AsyncSupport.scheduler()
+                .schedule(
+                    () -> attemptAsync(request, send, policy, stopwatch, nextRetry, result),
+                    delay.toMillis(),
+                    TimeUnit.MILLISECONDS);
+          } catch (Throwable e) {
+            result.completeExceptionally(e);
+          }
+        });
+  }
+
   /**
    * Sends the given request to Stripe's API, retrying the request in cases of intermittent
    * problems.
@@ -120,6 +214,18 @@ public abstract class HttpClient {
     return sendWithRetries(request, (r) -> this.request(r));
   }
 
+  /**
+   * Sends the given request to Stripe's API asynchronously, retrying the request in cases of
+   * intermittent problems. Waiting between attempts does not hold any thread.
+   *
+   * @param request the request
+   * @return a future completed with the response, or completed exceptionally with a {@link
+   *     StripeException} if the request fails for any reason
+   */
+  public CompletableFuture<StripeResponse> requestWithRetriesAsync(StripeRequest request) {
+    return sendWithRetriesAsync(request, (r) -> this.requestAsync(r));
+  }
+
   /**
    * Sends the given request to Stripe's API, streaming the response, retrying the request in cases
    * of intermittent problems.
@@ -139,15 +245,8 @@ public abstract class HttpClient {
    * @return a string containing the value of the {@code User-Agent} header
    */
   protected static String buildUserAgentString(StripeRequest request) {
-    String apiMode = request.apiMode() == ApiMode.V2 ? "v2" : "v1";
-
-    String userAgent = String.format("Stripe/%s JavaBindings/%s", apiMode, Stripe.VERSION);
-
-    if (Stripe.getAppInfo() != null) {
-      userAgent += " " + formatAppInfo(Stripe.getAppInfo());
-    }
-
-    return userAgent;
+    UserAgentHeaders headers = userAgentHeaders();
+    return (request.apiMode() == ApiMode.V2) ? headers.v2UserAgent : headers.v1UserAgent;
   }
 
   /**
@@ -156,6 +255,46 @@ public abstract class HttpClient {
    * @return a string containing the value of the {@code X-Stripe-Client-User-Agent} header
    */
   protected static String buildXStripeClientUserAgentString() {
+    return userAgentHeaders().xStripeClientUserAgent;
+  }
+
+  /**
+   * Returns the {@code User-Agent} and {@code X-Stripe-Client-User-Agent} headers sent with
+   * requests of the given API mode.
+   *
+   * @param apiMode the API mode of the request
+   * @return an unmodifiable map of the headers
+   */
+  static Map<String, List<String>> userAgentHeaderMap(ApiMode apiMode) {
+    UserAgentHeaders headers = userAgentHeaders();
+    return (apiMode == ApiMode.V2) ? headers.v2HeaderMap : headers.v1HeaderMap;
+  }
+
+  /**
+   * Returns the user agent headers, which are only built again when the app info changed. The
+   * system properties they contain are read once.
+   */
+  private static UserAgentHeaders userAgentHeaders() {
+    Map<String, String> appInfo = Stripe.getAppInfo();
+    UserAgentHeaders headers = cachedUserAgentHeaders;
+    if (headers == null || !Objects.equals(headers.appInfo, appInfo)) {
+      headers = new UserAgentHeaders(appInfo);
+      cachedUserAgentHeaders = headers;
+    }
+    return headers;
+  }
+
+  private static String buildUserAgentString(String apiMode, Map<String, String> appInfo) {
+    String userAgent = String.format("Stripe/%s JavaBindings/%s", apiMode, Stripe.VERSION);
+
+    if (appInfo != null) {
+      userAgent += " " + formatAppInfo(appInfo);
+    }
+
+    return userAgent;
+  }
+
+  private static String buildXStripeClientUserAgentString(Map<String, String> appInfo) {
     String[] propertyNames = {
       "os.name",
       "os.version",
@@ -173,13 +312,21 @@ public abstract class HttpClient {
     propertyMap.put("bindings.version", Stripe.VERSION);
     propertyMap.put("lang", "Java");
     propertyMap.put("publisher", "Stripe");
-    if (Stripe.getAppInfo() != null) {
-      propertyMap.put("application", ApiResource.INTERNAL_GSON.toJson(Stripe.getAppInfo()));
+    if (appInfo != null) {
+      propertyMap.put("application", ApiResource.INTERNAL_GSON.toJson(appInfo));
     }
 
     return ApiResource.INTERNAL_GSON.toJson(propertyMap);
   }
 
+  private static Map<String, List<String>> buildUserAgentHeaderMap(
+      String userAgent, String xStripeClientUserAgent) {
+    Map<String, List<String>> headerMap = new HashMap<>();
+    headerMap.put("User-Agent", Collections.singletonList(userAgent));
+    headerMap.put("X-Stripe-Client-User-Agent", Collections.singletonList(xStripeClientUserAgent));
+    return Collections.unmodifiableMap(headerMap);
+  }
+
   private static String formatAppInfo(Map<String, String> info) {
     String str = info.get("name");
 
@@ -194,77 +341,111 @@ public abstract class HttpClient {
     return str;
   }
 
-  private <T extends AbstractStripeResponse<?>> boolean shouldRetry(
-      int numRetries, StripeException exception, StripeRequest request, T response) {
-    // Do not retry if we are out of retries.
-    if (numRetries >= request.options().getMaxNetworkRetries()) {
-      return false;
-    }
-
-    // Retry on connection error.
-    if ((exception != null)
-        && (exception.getCause() != null)
-        && (exception.getCause() instanceof ConnectException
-            || exception.getCause() instanceof SocketTimeoutException)) {
-      return true;
+  /** The user agent headers built for a given app info. */
+  private static final class UserAgentHeaders {
+    final Map<String, String> appInfo;
+    final String v1UserAgent;
+    final String v2UserAgent;
+    final String xStripeClientUserAgent;
+    final Map<String, List<String>> v1HeaderMap;
+    final Map<String, List<String>> v2HeaderMap;
+
+    UserAgentHeaders(Map<String, String> appInfo) {
+      // Stripe.setAppInfo updates the map in place, so keep a copy to detect changes.
+      this.appInfo = (appInfo != null) ? new HashMap<>(appInfo) : null;
+      this.v1UserAgent = buildUserAgentString("v1", this.appInfo);
+      this.v2UserAgent = buildUserAgentString("v2", this.appInfo);
+      this.xStripeClientUserAgent = buildXStripeClientUserAgentString(this.appInfo);
+      this.v1HeaderMap = buildUserAgentHeaderMap(this.v1UserAgent, this.xStripeClientUserAgent);
+      this.v2HeaderMap = buildUserAgentHeaderMap(this.v2UserAgent, this.xStripeClientUserAgent);
     }
+  }
 
-    // The API may ask us not to retry (eg; if doing so would be a no-op)
-    // or advise us to retry (eg; in cases of lock timeouts); we defer to that.
-    if ((response != null) && (response.headers() != null)) {
-      String value = response.headers().firstValue("Stripe-Should-Retry").orElse(null);
+  private static RetryPolicy retryPolicy(StripeRequest request) {
+    RetryPolicy policy = request.options().getRetryPolicy();
+    return (policy != null) ? policy : DefaultRetryPolicyHolder.INSTANCE;
+  }
 
-      if ("true".equals(value)) {
-        return true;
-      }
+  private static class DefaultRetryPolicyHolder {
+    static final RetryPolicy INSTANCE = DefaultRetryPolicy.builder().build();
+  }
 
-      if ("false".equals(value)) {
-        return false;
-      }
+  /**
+   * Returns how long to wait before retrying the request, or {@code null} if it should not be
+   * retried, either because the policy says so or because the retry would not start before the
+   * total timeout of the policy expires.
+   */
+  private <T extends AbstractStripeResponse<?>> Duration retryDelay(
+      RetryPolicy policy,
+      StripeRequest request,
+      int numRetries,
+      ApiConnectionException exception,
+      T response,
+      Stopwatch stopwatch) {
+    Duration elapsed = stopwatch.getElapsed();
+    Duration delay =
+        policy.retryDelay(
+            new RetryPolicy.Attempt(
+                request,
+                numRetries,
+                (response != null) ? response.code() : 0,
+                (response != null) ? response.headers() : null,
+                exception,
+                elapsed));
+    if (delay == null) {
+      return null;
     }
 
-    // Retry on conflict errors.
-    if ((response != null) && (response.code() == 409)) {
-      return true;
+    // We disable sleeping in some cases for tests.
+    if (!this.networkRetriesSleep) {
+      delay = Duration.ZERO;
     }
 
-    // Retry on 500, 503, and other internal errors.
-    //
-    // Note that we expect the Stripe-Should-Retry header to be false
-    // in most cases when a 500 is returned, since our idempotency framework
-    // would typically replay it anyway.
-    if ((response != null) && (response.code() >= 500)) {
-      return true;
+    Duration totalTimeout = policy.totalTimeout();
+    if (totalTimeout != null && elapsed.plus(delay).compareTo(totalTimeout) >= 0) {
+      return null;
     }
 
-    return false;
+    FlightRecorderEvents.retry(
+        request,
+        numRetries + 1,
+        (response != null) ? response.code() : 0,
+        (response != null) ? response.requestId() : null,
+        delay);
+    return delay;
   }
 
-  private Duration sleepTime(int numRetries) {
-    // We disable sleeping in some cases for tests.
-    if (!this.networkRetriesSleep) {
-      return Duration.ZERO;
+  /**
+   * Shortens the timeouts of the request so that the attempt does not outlive the total timeout of
+   * the retry policy.
+   */
+  private StripeRequest withinBudget(StripeRequest request, RetryPolicy policy, Duration elapsed) {
+    Duration totalTimeout = policy.totalTimeout();
+    if (totalTimeout == null) {
+      return request;
     }
 
-    // Apply exponential backoff with MinNetworkRetriesDelay on the number of numRetries
-    // so far as inputs.
-    Duration delay =
-        Duration.ofNanos((long) (minNetworkRetriesDelay.toNanos() * Math.pow(2, numRetries - 1)));
-
-    // Do not allow the number to exceed MaxNetworkRetriesDelay
-    if (delay.compareTo(maxNetworkRetriesDelay) > 0) {
-      delay = maxNetworkRetriesDelay;
-    }
+    // Always leave the attempt at least a millisecond; a zero timeout would mean no timeout.
+    long remaining = Math.max(1, totalTimeout.minus(elapsed).toMillis());
+    return capTimeouts(request, remaining);
+  }
 
-    // Apply some jitter by randomizing the value in the range of 75%-100%.
-    double jitter = ThreadLocalRandom.current().nextDouble(0.75, 1.0);
-    delay = Duration.ofNanos((long) (delay.toNanos() * jitter));
+  /**
+   * Caps the timeouts of the request to the given number of milliseconds. By default both the
+   * connect and the read timeout are capped.
+   */
+  StripeRequest capTimeouts(StripeRequest request, long remaining) {
+    RequestOptions options = request.options();
+    int connectTimeout = capTimeout(options.getConnectTimeout(), remaining);
+    int readTimeout = capTimeout(options.getReadTimeout(), remaining);
+    return request.withOptions(options.withTimeouts(connectTimeout, readTimeout));
+  }
 
-    // But never sleep less than the base sleep seconds.
-    if (delay.compareTo(minNetworkRetriesDelay) < 0) {
-      delay = minNetworkRetriesDelay;
+  static int capTimeout(Integer timeout, long remaining) {
+    // Timeouts of zero mean waiting indefinitely.
+    if (timeout == null || timeout <= 0) {
+      return (int) Math.min(remaining, Integer.MAX_VALUE);
     }
-
-    return delay;
+    return (int) Math.min(timeout, remaining);
   }
 }
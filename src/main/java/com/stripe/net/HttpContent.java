@@ -2,6 +2,7 @@ package com.stripe.net;
 
 import static java.util.Objects.requireNonNull;
 
+import com.stripe.util.StringUtils;
 import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileInputStream;
@@ -9,7 +10,6 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
 import java.util.Collection;
-import java.util.UUID;
 import lombok.Value;
 import lombok.experimental.Accessors;
 
@@ -78,7 +78,7 @@ public class HttpContent {
    */
   public static HttpContent buildMultipartFormDataContent(
       Collection<KeyValuePair<String, Object>> nameValueCollection) throws IOException {
-    String boundary = UUID.randomUUID().toString();
+    String boundary = StringUtils.randomUuid();
     return buildMultipartFormDataContent(nameValueCollection, boundary);
   }
 
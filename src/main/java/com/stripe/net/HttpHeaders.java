@@ -2,26 +2,45 @@ package com.stripe.net;
 
 import static java.util.Objects.requireNonNull;
 
-import com.stripe.util.CaseInsensitiveMap;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
 import java.util.Arrays;
 import java.util.Collections;
-import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Optional;
-import lombok.EqualsAndHashCode;
+import java.util.Set;
 
 /**
  * A read-only view of a set of HTTP headers.
  *
  * <p>This class mimics the {@code java.net.http.HttpHeaders} added in Java 11.
+ *
+ * <p>Header names are case-insensitive. The headers are stored in parallel arrays along with a
+ * precomputed case-insensitive hash of each name, so that looking up a header does not allocate;
+ * the {@link Map} returned by {@link #map()} is a view over these arrays, created on first use.
  */
-@EqualsAndHashCode
 public class HttpHeaders {
-  private CaseInsensitiveMap<List<String>> headerMap;
+  private static final HttpHeaders EMPTY =
+      new HttpHeaders(new String[0], new int[0], newValuesArray(0));
+
+  /** The header names, in the case they were last set with. */
+  private final String[] names;
+
+  /** The case-insensitive hashes of the header names. */
+  private final int[] hashes;
+
+  /** The unmodifiable values of the headers. */
+  private final List<String>[] values;
+
+  private Map<String, List<String>> mapView;
 
-  private HttpHeaders(CaseInsensitiveMap<List<String>> headerMap) {
-    this.headerMap = headerMap;
+  private HttpHeaders(String[] names, int[] hashes, List<String>[] values) {
+    this.names = names;
+    this.hashes = hashes;
+    this.values = values;
   }
 
   /**
@@ -33,7 +52,7 @@ public class HttpHeaders {
    */
   public static HttpHeaders of(Map<String, List<String>> headerMap) {
     requireNonNull(headerMap);
-    return new HttpHeaders(CaseInsensitiveMap.of(headerMap));
+    return EMPTY.with(headerMap);
   }
 
   /**
@@ -48,7 +67,7 @@ public class HttpHeaders {
   public HttpHeaders withAdditionalHeader(String name, String value) {
     requireNonNull(name);
     requireNonNull(value);
-    return this.withAdditionalHeader(name, Arrays.asList(value));
+    return this.withAdditionalHeader(name, Collections.singletonList(value));
   }
 
   /**
@@ -63,9 +82,7 @@ public class HttpHeaders {
   public HttpHeaders withAdditionalHeader(String name, List<String> values) {
     requireNonNull(name);
     requireNonNull(values);
-    Map<String, List<String>> headerMap = new HashMap<>();
-    headerMap.put(name, values);
-    return this.withAdditionalHeaders(headerMap);
+    return this.with(Collections.singletonMap(name, values));
   }
 
   /**
@@ -78,9 +95,7 @@ public class HttpHeaders {
    */
   public HttpHeaders withAdditionalHeaders(Map<String, List<String>> headerMap) {
     requireNonNull(headerMap);
-    Map<String, List<String>> newHeaderMap = new HashMap<>(this.map());
-    newHeaderMap.putAll(headerMap);
-    return HttpHeaders.of(newHeaderMap);
+    return this.with(headerMap);
   }
 
   /**
@@ -91,13 +106,8 @@ public class HttpHeaders {
    * @return a List of headers string values
    */
   public List<String> allValues(String name) {
-    if (this.headerMap.containsKey(name)) {
-      List<String> values = this.headerMap.get(name);
-      if ((values != null) && (values.size() > 0)) {
-        return Collections.unmodifiableList(values);
-      }
-    }
-    return Collections.emptyList();
+    int index = indexOf(this.names, this.hashes, this.names.length, name, hash(name));
+    return (index != -1) ? this.values[index] : Collections.emptyList();
   }
 
   /**
@@ -109,13 +119,16 @@ public class HttpHeaders {
    * @return an {@code Optional<String>} containing the first named header string value, if present
    */
   public Optional<String> firstValue(String name) {
-    if (this.headerMap.containsKey(name)) {
-      List<String> values = this.headerMap.get(name);
-      if ((values != null) && (values.size() > 0)) {
-        return Optional.of(values.get(0));
-      }
-    }
-    return Optional.empty();
+    return Optional.ofNullable(this.firstValueOrNull(name));
+  }
+
+  /**
+   * Returns the first value of the given header, or {@code null} if the header is not present.
+   * Unlike {@link #firstValue}, this does not allocate.
+   */
+  String firstValueOrNull(String name) {
+    List<String> values = this.allValues(name);
+    return values.isEmpty() ? null : values.get(0);
   }
 
   /**
@@ -124,7 +137,48 @@ public class HttpHeaders {
    * @return the Map
    */
   public Map<String, List<String>> map() {
-    return Collections.unmodifiableMap(this.headerMap);
+    Map<String, List<String>> view = this.mapView;
+    if (view == null) {
+      // The view only reads final fields, so racing threads may at worst create it twice.
+      view = new MapView();
+      this.mapView = view;
+    }
+    return view;
+  }
+
+  /**
+   * Returns whether the given object is an {@link HttpHeaders} instance with the same headers, with
+   * names compared case-insensitively.
+   */
+  @Override
+  public boolean equals(Object o) {
+    if (o == this) {
+      return true;
+    }
+    if (!(o instanceof HttpHeaders)) {
+      return false;
+    }
+    HttpHeaders other = (HttpHeaders) o;
+    if (other.names.length != this.names.length) {
+      return false;
+    }
+    for (int i = 0; i < this.names.length; i++) {
+      int index =
+          indexOf(other.names, other.hashes, other.names.length, this.names[i], this.hashes[i]);
+      if (index == -1 || !this.values[i].equals(other.values[index])) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @Override
+  public int hashCode() {
+    int hashCode = 0;
+    for (int i = 0; i < this.names.length; i++) {
+      hashCode += this.hashes[i] ^ this.values[i].hashCode();
+    }
+    return hashCode;
   }
 
   /**
@@ -141,4 +195,139 @@ public class HttpHeaders {
     sb.append(" }");
     return sb.toString();
   }
+
+  /** Returns a copy of these headers with the given headers added or replaced. */
+  private HttpHeaders with(Map<String, List<String>> headerMap) {
+    int capacity = this.names.length + headerMap.size();
+    String[] names = Arrays.copyOf(this.names, capacity);
+    int[] hashes = Arrays.copyOf(this.hashes, capacity);
+    List<String>[] values = Arrays.copyOf(this.values, capacity);
+
+    int count = this.names.length;
+    for (Map.Entry<String, List<String>> entry : headerMap.entrySet()) {
+      String name = entry.getKey();
+      int hash = hash(name);
+      int index = indexOf(names, hashes, count, name, hash);
+      if (index == -1) {
+        index = count;
+        count += 1;
+      }
+      names[index] = name;
+      hashes[index] = hash;
+      values[index] = immutableCopy(entry.getValue());
+    }
+
+    if (count < capacity) {
+      // Some headers replaced existing ones.
+      names = Arrays.copyOf(names, count);
+      hashes = Arrays.copyOf(hashes, count);
+      values = Arrays.copyOf(values, count);
+    }
+    return new HttpHeaders(names, hashes, values);
+  }
+
+  private static int indexOf(String[] names, int[] hashes, int count, String name, int hash) {
+    for (int i = 0; i < count; i++) {
+      if (hashes[i] == hash
+          && ((name == null) ? (names[i] == null) : name.equalsIgnoreCase(names[i]))) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  /** Returns a hash of the given header name that is the same regardless of its case. */
+  private static int hash(String name) {
+    if (name == null) {
+      return 0;
+    }
+    int hash = 0;
+    for (int i = 0; i < name.length(); i++) {
+      // Fold the case the same way as String.equalsIgnoreCase.
+      hash = 31 * hash + Character.toLowerCase(Character.toUpperCase(name.charAt(i)));
+    }
+    return hash;
+  }
+
+  private static List<String> immutableCopy(List<String> values) {
+    if (values == null || values.isEmpty()) {
+      return Collections.emptyList();
+    }
+    if (values.size() == 1) {
+      return Collections.singletonList(values.get(0));
+    }
+    return Collections.unmodifiableList(Arrays.asList(values.toArray(new String[0])));
+  }
+
+  @SuppressWarnings("unchecked")
+  private static List<String>[] newValuesArray(int length) {
+    return (List<String>[]) new List<?>[length];
+  }
+
+  /** A read-only, case-insensitive map view of the headers. */
+  private final class MapView extends AbstractMap<String, List<String>> {
+    @Override
+    public int size() {
+      return HttpHeaders.this.names.length;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+      return (key == null || key instanceof String) && this.indexOf(key) != -1;
+    }
+
+    @Override
+    public List<String> get(Object key) {
+      if (key != null && !(key instanceof String)) {
+        return null;
+      }
+      int index = this.indexOf(key);
+      return (index != -1) ? HttpHeaders.this.values[index] : null;
+    }
+
+    @Override
+    public Set<Map.Entry<String, List<String>>> entrySet() {
+      return new AbstractSet<Map.Entry<String, List<String>>>() {
+        @Override
+        public int size() {
+          return HttpHeaders.this.names.length;
+        }
+
+        @Override
+        public Iterator<Map.Entry<String, List<String>>> iterator() {
+          return new EntryIterator();
+        }
+      };
+    }
+
+    private int indexOf(Object key) {
+      String name = (String) key;
+      return HttpHeaders.indexOf(
+          HttpHeaders.this.names,
+          HttpHeaders.this.hashes,
+          HttpHeaders.this.names.length,
+          name,
+          hash(name));
+    }
+  }
+
+  private final class EntryIterator implements Iterator<Map.Entry<String, List<String>>> {
+    private int next;
+
+    @Override
+    public boolean hasNext() {
+      return this.next < HttpHeaders.this.names.length;
+    }
+
+    @Override
+    public Map.Entry<String, List<String>> next() {
+      if (!this.hasNext()) {
+        throw new NoSuchElementException();
+      }
+      int index = this.next;
+      this.next += 1;
+      return new AbstractMap.SimpleImmutableEntry<>(
+          HttpHeaders.this.names[index], HttpHeaders.this.values[index]);
+    }
+  }
 }
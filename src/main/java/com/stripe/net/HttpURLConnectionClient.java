@@ -5,19 +5,38 @@ import com.stripe.exception.ApiConnectionException;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
-import java.net.Authenticator;
 import java.net.HttpURLConnection;
-import java.net.PasswordAuthentication;
-import java.util.Arrays;
-import java.util.HashMap;
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
 import lombok.Cleanup;
 
 public class HttpURLConnectionClient extends HttpClient {
+  private final ConnectionPool connectionPool;
+
   /** Initializes a new instance of the {@link HttpURLConnectionClient}. */
   public HttpURLConnectionClient() {
+    this(null);
+  }
+
+  /**
+   * Initializes a new instance of the {@link HttpURLConnectionClient} that manages its connections
+   * with the given pool.
+   *
+   * @param connectionPool the connection pool, or {@code null} to use the JDK's keep-alive cache
+   */
+  public HttpURLConnectionClient(ConnectionPool connectionPool) {
     super();
+    this.connectionPool = connectionPool;
+  }
+
+  /**
+   * Returns the pool managing the connections of this client.
+   *
+   * @return the connection pool, or {@code null} if none was set
+   */
+  public ConnectionPool getConnectionPool() {
+    return this.connectionPool;
   }
 
   /**
@@ -29,20 +48,47 @@ public class HttpURLConnectionClient extends HttpClient {
    */
   @Override
   public StripeResponseStream requestStream(StripeRequest request) throws ApiConnectionException {
+    final long startNanos = System.nanoTime();
+    final ConnectionPool.Connection lease =
+        (this.connectionPool != null)
+            ? this.connectionPool.lease(request.url(), request.options().getConnectTimeout())
+            : null;
+    final long leasedNanos = System.nanoTime();
+    HttpURLConnection conn = null;
+    boolean leaseTracked = false;
     try {
-      final HttpURLConnection conn = createStripeConnection(request);
+      conn = createStripeConnection(request);
+
+      // Connect explicitly rather than when the body is written, so that opening the connection
+      // is timed apart from the rest of the request.
+      conn.connect();
+      final long connectedNanos = System.nanoTime();
+
+      writeContent(conn, request);
 
       // Calling `getResponseCode()` triggers the request.
       final int responseCode = conn.getResponseCode();
+      final long firstByteNanos = System.nanoTime();
 
       final HttpHeaders headers = HttpHeaders.of(conn.getHeaderFields());
 
-      final InputStream responseStream =
+      InputStream responseStream =
           (responseCode >= 200 && responseCode < 300)
               ? conn.getInputStream()
               : conn.getErrorStream();
-
-      return new StripeResponseStream(responseCode, headers, responseStream);
+      if (lease != null) {
+        responseStream = this.connectionPool.track(lease, conn, responseStream);
+        leaseTracked = true;
+      }
+
+      StripeResponseStream response =
+          new StripeResponseStream(responseCode, headers, responseStream);
+      response.timings(
+          RequestTimings.NONE
+              .withQueue((lease != null) ? Duration.ofNanos(leasedNanos - startNanos) : null)
+              .withConnect(Duration.ofNanos(connectedNanos - leasedNanos))
+              .withTimeToFirstByte(Duration.ofNanos(firstByteNanos - connectedNanos)));
+      return response;
 
     } catch (IOException e) {
       throw new ApiConnectionException(
@@ -53,6 +99,10 @@ public class HttpURLConnectionClient extends HttpClient {
                   + " or let us know at support@stripe.com.",
               Stripe.getApiBase(), e.getMessage()),
           e);
+    } finally {
+      if (lease != null && !leaseTracked) {
+        this.connectionPool.release(lease, conn, false);
+      }
     }
   }
 
@@ -81,13 +131,7 @@ public class HttpURLConnectionClient extends HttpClient {
   }
 
   static HttpHeaders getHeaders(StripeRequest request) {
-    Map<String, List<String>> userAgentHeadersMap = new HashMap<>();
-
-    userAgentHeadersMap.put("User-Agent", Arrays.asList(buildUserAgentString(request)));
-    userAgentHeadersMap.put(
-        "X-Stripe-Client-User-Agent", Arrays.asList(buildXStripeClientUserAgentString()));
-
-    return request.headers().withAdditionalHeaders(userAgentHeadersMap);
+    return request.headers().withAdditionalHeaders(userAgentHeaderMap(request.apiMode()));
   }
 
   private static HttpURLConnection createStripeConnection(StripeRequest request)
@@ -97,13 +141,7 @@ public class HttpURLConnectionClient extends HttpClient {
     if (request.options().getConnectionProxy() != null) {
       conn =
           (HttpURLConnection) request.url().openConnection(request.options().getConnectionProxy());
-      Authenticator.setDefault(
-          new Authenticator() {
-            @Override
-            protected PasswordAuthentication getPasswordAuthentication() {
-              return request.options().getProxyCredential();
-            }
-          });
+      ProxyAuthentication.apply(conn, request.options().getProxyCredential());
     } else {
       conn = (HttpURLConnection) request.url().openConnection();
     }
@@ -120,11 +158,16 @@ public class HttpURLConnectionClient extends HttpClient {
     if (request.content() != null) {
       conn.setDoOutput(true);
       conn.setRequestProperty("Content-Type", request.content().contentType());
+    }
 
+    return conn;
+  }
+
+  private static void writeContent(HttpURLConnection conn, StripeRequest request)
+      throws IOException {
+    if (request.content() != null) {
       @Cleanup OutputStream output = conn.getOutputStream();
       output.write(request.content().byteArrayContent());
     }
-
-    return conn;
   }
 }
@@ -0,0 +1,28 @@
+package com.stripe.net;
+
+import java.net.URL;
+
+/**
+ * Generates the idempotency key of the requests that are sent without one, i.e. {@code POST}
+ * requests and v2 {@code DELETE} requests.
+ *
+ * <p>A generator can be set for all requests of a client with {@code
+ * StripeClient.builder().setIdempotencyKeyGenerator(...)}, or for a single request with {@link
+ * RequestOptions.RequestOptionsBuilder#setIdempotencyKeyGenerator}. When no generator is set, a
+ * {@link RandomIdempotencyKeyGenerator} is used. A key set with {@link
+ * RequestOptions.RequestOptionsBuilder#setIdempotencyKey} always takes precedence.
+ *
+ * <p>The key is generated once per request and reused by its retries.
+ */
+@FunctionalInterface
+public interface IdempotencyKeyGenerator {
+  /**
+   * Returns the idempotency key of a request. Keys are at most 255 characters long.
+   *
+   * @param method the HTTP method of the request
+   * @param url the URL of the request
+   * @param content the body of the request, or {@code null} if it has none
+   * @return the idempotency key
+   */
+  String generate(ApiResource.RequestMethod method, URL url, HttpContent content);
+}
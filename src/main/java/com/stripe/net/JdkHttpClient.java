@@ -0,0 +1,57 @@
+package com.stripe.net;
+
+import com.stripe.exception.StripeException;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * An {@link HttpClient} backed by the {@code java.net.http.HttpClient} added in Java 11. Concurrent
+ * requests to the same host are multiplexed over a small number of HTTP/2 connections instead of
+ * each occupying its own socket.
+ *
+ * <p>Requests through a SOCKS proxy, which {@code java.net.http.HttpClient} does not support, are
+ * sent with an {@link HttpURLConnectionClient} instead.
+ *
+ * <p>The implementation of this class is shipped in the multi-release section of the library's JAR
+ * and is only available when running on Java 11 or later. On older runtimes, this class cannot be
+ * instantiated; use {@link #isSupported()} to check for availability and fall back to {@link
+ * HttpURLConnectionClient}.
+ */
+public class JdkHttpClient extends HttpClient {
+  /**
+   * Initializes a new instance of the {@link JdkHttpClient}.
+   *
+   * @throws UnsupportedOperationException if the current runtime is older than Java 11
+   */
+  public JdkHttpClient() {
+    super();
+    throw new UnsupportedOperationException("JdkHttpClient requires Java 11 or later");
+  }
+
+  /**
+   * Returns whether {@link JdkHttpClient} can be used on the current runtime.
+   *
+   * @return {@code true} if running on Java 11 or later, {@code false} otherwise
+   */
+  public static boolean isSupported() {
+    return false;
+  }
+
+  @Override
+  public StripeResponse request(StripeRequest request) throws StripeException {
+    throw new UnsupportedOperationException("JdkHttpClient requires Java 11 or later");
+  }
+
+  @Override
+  public CompletableFuture<StripeResponse> requestAsync(StripeRequest request) {
+    throw new UnsupportedOperationException("JdkHttpClient requires Java 11 or later");
+  }
+
+  @Override
+  public StripeResponseStream requestStream(StripeRequest request) throws StripeException {
+    throw new UnsupportedOperationException("JdkHttpClient requires Java 11 or later");
+  }
+
+  int clientCount() {
+    throw new UnsupportedOperationException("JdkHttpClient requires Java 11 or later");
+  }
+}
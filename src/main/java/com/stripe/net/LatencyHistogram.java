@@ -0,0 +1,127 @@
+package com.stripe.net;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import lombok.Value;
+import lombok.experimental.Accessors;
+
+/**
+ * A histogram of durations that can be recorded from many threads at once without locking.
+ *
+ * <p>Durations are counted in buckets whose width grows with the duration, so that any duration is
+ * reported with a relative error of at most 1/16 (about 6%), from a microsecond up to days, in a
+ * fixed amount of memory.
+ */
+public class LatencyHistogram {
+  /** The number of buckets for each power of two, as a power of two. */
+  private static final int SUB_BUCKET_BITS = 4;
+
+  private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+
+  private static final int BUCKET_COUNT = (64 - SUB_BUCKET_BITS) * SUB_BUCKET_COUNT;
+
+  /** The counts of the buckets, of values in microseconds. */
+  private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+
+  private final AtomicLong totalCount = new AtomicLong();
+  private final AtomicLong totalMicros = new AtomicLong();
+  private final AtomicLong maxMicros = new AtomicLong();
+
+  /**
+   * Records a duration.
+   *
+   * @param duration the duration
+   */
+  public void record(Duration duration) {
+    long micros = Math.max(0, duration.toNanos() / 1000);
+    this.counts.incrementAndGet(bucketIndex(micros));
+    this.totalCount.incrementAndGet();
+    this.totalMicros.addAndGet(micros);
+    long max;
+    do {
+      max = this.maxMicros.get();
+    } while (micros > max && !this.maxMicros.compareAndSet(max, micros));
+  }
+
+  /**
+   * Returns the statistics of the durations recorded so far. Durations recorded while the snapshot
+   * is taken may be only partially accounted for.
+   *
+   * @return a snapshot of the histogram
+   */
+  public Snapshot snapshot() {
+    long[] counts = new long[BUCKET_COUNT];
+    long count = 0;
+    for (int i = 0; i < BUCKET_COUNT; i++) {
+      counts[i] = this.counts.get(i);
+      count += counts[i];
+    }
+    long max = this.maxMicros.get();
+    return new Snapshot(
+        count,
+        (count > 0) ? Duration.ofNanos(this.totalMicros.get() / count * 1000) : Duration.ZERO,
+        Duration.ofNanos(max * 1000),
+        percentile(counts, count, 0.5, max),
+        percentile(counts, count, 0.99, max),
+        percentile(counts, count, 0.999, max));
+  }
+
+  /** Statistics of the durations recorded in a {@link LatencyHistogram}. */
+  @Value
+  @Accessors(fluent = true)
+  public static class Snapshot {
+    /** The number of durations recorded. */
+    long count;
+
+    /** The mean of the durations. */
+    Duration mean;
+
+    /** The longest duration. */
+    Duration max;
+
+    /** The median of the durations. */
+    Duration p50;
+
+    /** The 99th percentile of the durations. */
+    Duration p99;
+
+    /** The 99.9th percentile of the durations. */
+    Duration p999;
+  }
+
+  private static Duration percentile(long[] counts, long count, double quantile, long max) {
+    if (count == 0) {
+      return Duration.ZERO;
+    }
+    long rank = Math.max(1, (long) Math.ceil(quantile * count));
+    long seen = 0;
+    for (int i = 0; i < counts.length; i++) {
+      seen += counts[i];
+      if (seen >= rank) {
+        return Duration.ofNanos(Math.min(bucketUpperBound(i), max) * 1000);
+      }
+    }
+    return Duration.ofNanos(max * 1000);
+  }
+
+  static int bucketIndex(long value) {
+    if (value < 2 * SUB_BUCKET_COUNT) {
+      return (int) value;
+    }
+    int exponent = 63 - Long.numberOfLeadingZeros(value);
+    int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKET_COUNT - 1);
+    return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKET_COUNT + subBucket;
+  }
+
+  /** Returns the largest value counted in the given bucket. */
+  static long bucketUpperBound(int index) {
+    if (index < 2 * SUB_BUCKET_COUNT) {
+      return index;
+    }
+    int exponent = index / SUB_BUCKET_COUNT + SUB_BUCKET_BITS - 1;
+    long subBucket = index % SUB_BUCKET_COUNT;
+    long width = 1L << (exponent - SUB_BUCKET_BITS);
+    return (SUB_BUCKET_COUNT + subBucket) * width + width - 1;
+  }
+}
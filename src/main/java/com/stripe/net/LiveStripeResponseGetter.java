@@ -1,9 +1,12 @@
 package com.stripe.net;
 
 import com.google.gson.JsonElement;
+import com.google.gson.JsonIOException;
 import com.google.gson.JsonObject;
-import com.google.gson.JsonPrimitive;
+import com.google.gson.JsonParseException;
 import com.google.gson.JsonSyntaxException;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
 import com.stripe.Stripe;
 import com.stripe.exception.*;
 import com.stripe.exception.oauth.InvalidClientException;
@@ -15,39 +18,409 @@ import com.stripe.exception.oauth.UnsupportedResponseTypeException;
 import com.stripe.model.*;
 import com.stripe.model.oauth.OAuthError;
 import com.stripe.util.Stopwatch;
+import com.stripe.util.StringUtils;
+import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.StringReader;
 import java.lang.reflect.Type;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 public class LiveStripeResponseGetter implements StripeResponseGetter {
+  /** The size of the buffer used to read a response deserialized from the connection. */
+  private static final int DEFAULT_STREAM_BUFFER_SIZE = 8 * 1024;
+
+  /** The largest buffer used to read a response deserialized from the connection. */
+  private static final int MAX_STREAM_BUFFER_SIZE = 64 * 1024;
+
   private final HttpClient httpClient;
   private final StripeResponseGetterOptions options;
+  private final AdaptiveRateLimiter rateLimiter;
+  private final AdaptiveConcurrencyLimiter concurrencyLimiter;
+  private final CircuitBreaker circuitBreaker;
+  private final HedgingPolicy hedgingPolicy;
+  private final RequestScheduler requestScheduler;
+  private final AccountBulkheads accountBulkheads;
+  private final boolean stacklessBusinessExceptions;
+  private final RequestTimingsListener requestTimingsListener;
+  private final StripeMetricsListener metricsListener;
+  private final ExchangeLog exchangeLog;
+  private final boolean streamingDeserialization;
 
   private final RequestTelemetry requestTelemetry = new RequestTelemetry();
 
   @FunctionalInterface
   private interface RequestSendFunction<R> {
-    R apply(StripeRequest request) throws StripeException;
+    R apply(BaseApiRequest apiRequest, StripeRequest request) throws StripeException;
   }
 
   private <T extends AbstractStripeResponse<?>> T sendWithTelemetry(
-      StripeRequest request, List<String> usage, RequestSendFunction<T> send)
-      throws StripeException {
+      RequestTimer timer, RequestSendFunction<T> send) throws StripeException {
+    BaseApiRequest apiRequest = timer.apiRequest;
+    StripeRequest request = timer.request;
+    CircuitBreaker.Permit permit = acquireSlot(apiRequest);
 
     Stopwatch stopwatch = Stopwatch.startNew();
 
-    T response = send.apply(request);
-
-    stopwatch.stop();
+    T response = null;
+    try {
+      response = send.apply(apiRequest, request);
+    } finally {
+      stopwatch.stop();
+      onComplete(permit, request, response, stopwatch.getElapsed());
+      if (response == null) {
+        recordFailure(timer);
+      }
+    }
 
-    requestTelemetry.maybeEnqueueMetrics(response, stopwatch.getElapsed(), usage);
+    requestTelemetry.maybeEnqueueMetrics(response, stopwatch.getElapsed(), apiRequest.getUsage());
 
     return response;
   }
 
+  /**
+   * Sends a request whose response is buffered into memory, hedging it if it is a {@code GET}
+   * request and a hedging policy is set.
+   */
+  private StripeResponse send(BaseApiRequest apiRequest, StripeRequest request)
+      throws StripeException {
+    if (isHedged(apiRequest)) {
+      return this.hedgingPolicy.sendAndWait(
+          request, httpClient::requestWithRetriesAsync, new LimitedHedger(apiRequest));
+    }
+    return httpClient.requestWithRetries(request);
+  }
+
+  private CompletableFuture<StripeResponse> sendAsync(
+      BaseApiRequest apiRequest, StripeRequest request) {
+    if (isHedged(apiRequest)) {
+      return this.hedgingPolicy.send(
+          request, httpClient::requestWithRetriesAsync, new LimitedHedger(apiRequest));
+    }
+    return httpClient.requestWithRetriesAsync(request);
+  }
+
+  private boolean isHedged(BaseApiRequest apiRequest) {
+    // Only requests without side effects may be sent twice.
+    return this.hedgingPolicy != null && apiRequest.getMethod() == ApiResource.RequestMethod.GET;
+  }
+
+  /**
+   * Waits for the turn of the request in the bulkhead of its account and in the scheduler, then
+   * until the rate limiter lets the request be built and sent, for those that are set. Every
+   * successful call must be followed by a call to {@link #releasePermit}.
+   */
+  private void acquirePermit(RequestOptions mergedOptions) throws StripeException {
+    if (this.accountBulkheads != null) {
+      this.accountBulkheads.acquire(mergedOptions.getStripeAccount());
+    }
+    if (this.requestScheduler != null) {
+      try {
+        this.requestScheduler.acquire(mergedOptions.getPriority(), concurrencyLimit());
+      } catch (StripeException e) {
+        releaseBulkhead(mergedOptions);
+        throw e;
+      }
+    }
+    if (this.rateLimiter != null) {
+      try {
+        this.rateLimiter.acquire(mergedOptions);
+      } catch (StripeException e) {
+        releasePermit(mergedOptions);
+        throw e;
+      }
+    }
+  }
+
+  private CompletableFuture<Void> acquirePermitAsync(RequestOptions mergedOptions) {
+    CompletableFuture<Void> permit =
+        (this.accountBulkheads != null)
+            ? this.accountBulkheads.acquireAsync(mergedOptions.getStripeAccount())
+            : CompletableFuture.completedFuture(null);
+    if (this.requestScheduler != null) {
+      permit =
+          permit.thenCompose(
+              (ignored) ->
+                  this.requestScheduler
+                      .acquireAsync(mergedOptions.getPriority(), concurrencyLimit())
+                      .whenComplete(
+                          (turn, error) -> {
+                            if (error != null) {
+                              releaseBulkhead(mergedOptions);
+                            }
+                          }));
+    }
+    if (this.rateLimiter != null) {
+      permit =
+          permit.thenCompose(
+              (ignored) ->
+                  this.rateLimiter
+                      .acquireAsync(mergedOptions)
+                      .whenComplete(
+                          (turn, error) -> {
+                            if (error != null) {
+                              releasePermit(mergedOptions);
+                            }
+                          }));
+    }
+    return permit;
+  }
+
+  /** Ends the turn of a request, once its response has been received. */
+  private void releasePermit(RequestOptions mergedOptions) {
+    if (this.requestScheduler != null) {
+      this.requestScheduler.release(concurrencyLimit());
+    }
+    releaseBulkhead(mergedOptions);
+  }
+
+  private void releaseBulkhead(RequestOptions mergedOptions) {
+    if (this.accountBulkheads != null) {
+      this.accountBulkheads.release(mergedOptions.getStripeAccount());
+    }
+  }
+
+  private int concurrencyLimit() {
+    return (this.concurrencyLimiter != null)
+        ? this.concurrencyLimiter.getLimit()
+        : Integer.MAX_VALUE;
+  }
+
+  /**
+   * Checks with the circuit breaker and the concurrency limiter, if any, that a request may be sent
+   * now, reserving a slot for it.
+   *
+   * @return the permit of the circuit breaker, or {@code null} if there is none, to pass to {@link
+   *     #onComplete}
+   */
+  private CircuitBreaker.Permit acquireSlot(BaseApiRequest apiRequest) throws StripeException {
+    CircuitBreaker.Permit permit = null;
+    if (this.circuitBreaker != null) {
+      permit = this.circuitBreaker.acquire(apiRequest.getBaseAddress());
+    }
+    if (this.concurrencyLimiter != null) {
+      try {
+        this.concurrencyLimiter.acquire();
+      } catch (StripeException e) {
+        if (permit != null) {
+          this.circuitBreaker.onCancel(permit);
+        }
+        throw e;
+      }
+    }
+    return permit;
+  }
+
+  /**
+   * Feeds the outcome of a request to the limiters. {@code response} is {@code null} if the request
+   * failed without a response.
+   */
+  private void onComplete(
+      CircuitBreaker.Permit permit,
+      StripeRequest request,
+      AbstractStripeResponse<?> response,
+      Duration elapsed) {
+    if (permit != null) {
+      boolean failed = response == null || response.code() >= 500;
+      this.circuitBreaker.onComplete(permit, failed);
+    }
+    if (this.concurrencyLimiter != null) {
+      boolean dropped = response == null || response.code() == 429 || response.code() == 503;
+      this.concurrencyLimiter.release(elapsed, dropped);
+    }
+    if (this.rateLimiter != null && response != null) {
+      this.rateLimiter.onResponse(request.options(), response.code());
+    }
+  }
+
+  /**
+   * Sends hedges through the same limits as the requests they copy: the bulkhead, scheduler and
+   * rate limiter admit them, then the circuit breaker and the concurrency limiter.
+   */
+  private final class LimitedHedger implements HedgingPolicy.Hedger<StripeResponse> {
+    private final BaseApiRequest apiRequest;
+
+    LimitedHedger(BaseApiRequest apiRequest) {
+      this.apiRequest = apiRequest;
+    }
+
+    @Override
+    public CompletableFuture<Void> admit(StripeRequest request) {
+      return acquirePermitAsync(request.options());
+    }
+
+    @Override
+    public StripeResponse send(StripeRequest request) throws StripeException {
+      try {
+        CircuitBreaker.Permit permit = acquireSlot(this.apiRequest);
+        Stopwatch stopwatch = Stopwatch.startNew();
+        StripeResponse response = null;
+        try {
+          response = httpClient.requestWithRetries(request);
+        } finally {
+          stopwatch.stop();
+          onComplete(permit, request, response, stopwatch.getElapsed());
+        }
+        return response;
+      } finally {
+        releasePermit(request.options());
+      }
+    }
+
+    @Override
+    public CompletableFuture<StripeResponse> sendAsync(StripeRequest request) {
+      CircuitBreaker.Permit permit;
+      try {
+        permit = acquireSlot(this.apiRequest);
+      } catch (StripeException e) {
+        releasePermit(request.options());
+        return AsyncSupport.failedFuture(e);
+      }
+      Stopwatch stopwatch = Stopwatch.startNew();
+      return httpClient
+          .requestWithRetriesAsync(request)
+          .whenComplete(
+              (response, error) -> {
+                stopwatch.stop();
+                onComplete(permit, request, response, stopwatch.getElapsed());
+                releasePermit(request.options());
+              });
+    }
+
+    @Override
+    public void release(StripeRequest request) {
+      releasePermit(request.options());
+    }
+  }
+
+  /** Measures a request from the moment it was made, until its response has been processed. */
+  private static final class RequestTimer {
+    final long startNanos = System.nanoTime();
+
+    final BaseApiRequest apiRequest;
+
+    /** The Java Flight Recorder event of the request, or {@code null} if it is not recorded. */
+    final Object flightRecorderEvent = FlightRecorderEvents.beginRequest();
+
+    /** The time spent waiting for a permit to send the request. */
+    Duration queue;
+
+    /** The request, once built. */
+    StripeRequest request;
+
+    RequestTimer(BaseApiRequest apiRequest) {
+      this.apiRequest = apiRequest;
+    }
+
+    Duration elapsed() {
+      return Duration.ofNanos(System.nanoTime() - this.startNanos);
+    }
+  }
+
+  /**
+   * Completes the timings recorded by the HTTP client with the time spent waiting for a permit,
+   * processing the response and in total, then reports them to the listeners, the exchange log and
+   * Java Flight Recorder, if enabled.
+   *
+   * @param parse the time spent processing the response, or {@code null} if it was not processed
+   */
+  private void recordTimings(
+      RequestTimer timer, AbstractStripeResponse<?> response, Duration parse) {
+    RequestTimings timings =
+        response
+            .timings()
+            .withQueue(RequestTimings.plus(timer.queue, response.timings().queue()))
+            .withParse(parse)
+            .withTotal(timer.elapsed())
+            .withNumRetries(response.numRetries());
+    response.timings(timings);
+    if (this.requestTimingsListener != null) {
+      this.requestTimingsListener.onRequestTimed(timer.request, response.code(), timings);
+    }
+    if (this.exchangeLog != null) {
+      this.exchangeLog.record(timer.request, response, timings.total());
+    }
+    if (this.metricsListener != null || timer.flightRecorderEvent != null) {
+      reportCompletion(
+          timer,
+          response.code(),
+          response.numRetries() + 1,
+          response.requestId(),
+          responseBytes(response),
+          timings);
+    }
+  }
+
+  /**
+   * Reports a request that failed without a response to the exchange log, the metrics listener and
+   * Java Flight Recorder, if enabled.
+   */
+  private void recordFailure(RequestTimer timer) {
+    if (this.exchangeLog != null) {
+      this.exchangeLog.record(timer.request, null, timer.elapsed());
+    }
+    if (this.metricsListener != null || timer.flightRecorderEvent != null) {
+      RequestTimings timings =
+          RequestTimings.NONE.withQueue(timer.queue).withTotal(timer.elapsed());
+      reportCompletion(timer, 0, 0, null, -1, timings);
+    }
+  }
+
+  private void reportCompletion(
+      RequestTimer timer,
+      int statusCode,
+      int attempts,
+      String requestId,
+      long responseBytes,
+      RequestTimings timings) {
+    BaseApiRequest apiRequest = timer.apiRequest;
+    String endpoint = EndpointTemplates.of(apiRequest.getPath());
+    HttpContent content = timer.request.content();
+    long requestBytes = (content != null) ? content.byteArrayContent().length : 0;
+    if (this.metricsListener != null) {
+      this.metricsListener.onRequest(
+          new StripeMetricsListener.RequestMetrics(
+              endpoint,
+              apiRequest.getMethod(),
+              apiRequest.getBaseAddress(),
+              statusCode,
+              attempts,
+              requestBytes,
+              responseBytes,
+              timings));
+    }
+    FlightRecorderEvents.commitRequest(
+        timer.flightRecorderEvent,
+        endpoint,
+        apiRequest.getMethod(),
+        statusCode,
+        requestId,
+        attempts,
+        requestBytes,
+        responseBytes);
+  }
+
+  /**
+   * Returns the size of the body of the given response in bytes, or {@code -1} if it was streamed
+   * without a valid {@code Content-Length}.
+   */
+  private static long responseBytes(AbstractStripeResponse<?> response) {
+    long contentLength = response.contentLength();
+    if (contentLength >= 0) {
+      return contentLength;
+    }
+    if (response.body() instanceof String) {
+      return StringUtils.utf8Length((String) response.body());
+    }
+    return -1;
+  }
+
   /**
    * Initializes a new instance of the {@link LiveStripeResponseGetter} class with default
    * parameters.
@@ -74,6 +447,17 @@ public class LiveStripeResponseGetter implements StripeResponseGetter {
   public LiveStripeResponseGetter(StripeResponseGetterOptions options, HttpClient httpClient) {
     this.options = options != null ? options : GlobalStripeResponseGetterOptions.INSTANCE;
     this.httpClient = (httpClient != null) ? httpClient : buildDefaultHttpClient();
+    this.rateLimiter = this.options.getRateLimiter();
+    this.concurrencyLimiter = this.options.getConcurrencyLimiter();
+    this.circuitBreaker = this.options.getCircuitBreaker();
+    this.hedgingPolicy = this.options.getHedgingPolicy();
+    this.requestScheduler = this.options.getRequestScheduler();
+    this.accountBulkheads = this.options.getAccountBulkheads();
+    this.stacklessBusinessExceptions = this.options.isStacklessBusinessExceptions();
+    this.requestTimingsListener = this.options.getRequestTimingsListener();
+    this.metricsListener = this.options.getMetricsListener();
+    this.exchangeLog = this.options.getExchangeLog();
+    this.streamingDeserialization = this.options.isStreamingDeserialization();
   }
 
   private StripeRequest toStripeRequest(ApiRequest apiRequest, RequestOptions mergedOptions)
@@ -117,7 +501,7 @@ public class LiveStripeResponseGetter implements StripeResponseGetter {
   }
 
   @Override
-  @SuppressWarnings({"TypeParameterUnusedInFormals", "unchecked"})
+  @SuppressWarnings("TypeParameterUnusedInFormals")
   public <T extends StripeObjectInterface> T request(ApiRequest apiRequest, Type typeToken)
       throws StripeException {
 
@@ -127,10 +511,92 @@ public class LiveStripeResponseGetter implements StripeResponseGetter {
       apiRequest = apiRequest.addUsage("unsafe_stripe_version_override");
     }
 
-    StripeRequest request = toStripeRequest(apiRequest, mergedOptions);
-    StripeResponse response =
-        sendWithTelemetry(request, apiRequest.getUsage(), r -> httpClient.requestWithRetries(r));
+    RequestTimer timer = new RequestTimer(apiRequest);
+    acquirePermit(mergedOptions);
+    timer.queue = timer.elapsed();
+    AbstractStripeResponse<?> response;
+    try {
+      timer.request = toStripeRequest(apiRequest, mergedOptions);
+      if (this.streamingDeserialization && !isHedged(apiRequest)) {
+        response = sendWithTelemetry(timer, (a, r) -> httpClient.requestStreamWithRetries(r));
+      } else {
+        response = sendWithTelemetry(timer, this::send);
+      }
+    } finally {
+      releasePermit(mergedOptions);
+    }
 
+    if (response instanceof StripeResponseStream) {
+      return processResponseStream((StripeResponseStream) response, apiRequest, typeToken, timer);
+    }
+    return processResponse((StripeResponse) response, apiRequest, typeToken, timer);
+  }
+
+  @Override
+  public <T extends StripeObjectInterface> CompletableFuture<T> requestAsync(
+      ApiRequest apiRequest, Type typeToken) {
+    RequestOptions mergedOptions = RequestOptions.merge(this.options, apiRequest.getOptions());
+
+    ApiRequest trackedApiRequest =
+        (RequestOptions.unsafeGetStripeVersionOverride(mergedOptions) != null)
+            ? apiRequest.addUsage("unsafe_stripe_version_override")
+            : apiRequest;
+
+    RequestTimer timer = new RequestTimer(trackedApiRequest);
+    return acquirePermitAsync(mergedOptions)
+        .thenCompose(
+            (ignored) ->
+                AsyncSupport.supplyNow(
+                        () -> {
+                          timer.queue = timer.elapsed();
+                          StripeRequest request = toStripeRequest(trackedApiRequest, mergedOptions);
+                          timer.request = request;
+                          CircuitBreaker.Permit permit = acquireSlot(trackedApiRequest);
+                          Stopwatch stopwatch = Stopwatch.startNew();
+
+                          return sendAsync(trackedApiRequest, request)
+                              .whenComplete(
+                                  (response, error) -> {
+                                    stopwatch.stop();
+                                    onComplete(permit, request, response, stopwatch.getElapsed());
+                                    if (response != null) {
+                                      requestTelemetry.maybeEnqueueMetrics(
+                                          response,
+                                          stopwatch.getElapsed(),
+                                          trackedApiRequest.getUsage());
+                                    } else {
+                                      recordFailure(timer);
+                                    }
+                                  });
+                        })
+                    .whenComplete((response, error) -> releasePermit(mergedOptions)))
+        .thenApply(
+            AsyncSupport.unchecked(
+                response ->
+                    this.<T>processResponse(response, trackedApiRequest, typeToken, timer)));
+  }
+
+  /**
+   * Turns a buffered response into a Stripe object, throwing the appropriate {@link
+   * StripeException} if the response is an error, and records the timings of the request.
+   */
+  @SuppressWarnings("TypeParameterUnusedInFormals")
+  private <T extends StripeObjectInterface> T processResponse(
+      StripeResponse response, ApiRequest apiRequest, Type typeToken, RequestTimer timer)
+      throws StripeException {
+    long parseStartNanos = System.nanoTime();
+    try {
+      return this.<T>deserializeResponse(
+          response, apiRequest, typeToken, isLeanResponse(timer.request));
+    } finally {
+      recordTimings(timer, response, Duration.ofNanos(System.nanoTime() - parseStartNanos));
+    }
+  }
+
+  @SuppressWarnings({"TypeParameterUnusedInFormals", "unchecked"})
+  private <T extends StripeObjectInterface> T deserializeResponse(
+      StripeResponse response, ApiRequest apiRequest, Type typeToken, boolean leanResponse)
+      throws StripeException {
     int responseCode = response.code();
     String responseBody = response.body();
     String requestId = response.requestId();
@@ -140,12 +606,97 @@ public class LiveStripeResponseGetter implements StripeResponseGetter {
     }
 
     T resource = null;
+    Object flightRecorderEvent = FlightRecorderEvents.beginDeserialization();
     try {
       resource = (T) ApiResource.deserializeStripeObject(responseBody, typeToken, this);
     } catch (JsonSyntaxException e) {
       throw makeMalformedJsonError(responseBody, responseCode, requestId, e);
     }
+    FlightRecorderEvents.commitDeserialization(flightRecorderEvent, typeToken, responseBody);
+
+    prepareResource(resource, apiRequest, response, leanResponse);
+    return resource;
+  }
+
+  /**
+   * Turns a successful streamed response into a Stripe object, reading it straight from the
+   * connection without retaining its body, and records the timings of the request. Error responses
+   * are read into a string and handled by {@link #processResponse}.
+   */
+  @SuppressWarnings({"TypeParameterUnusedInFormals", "unchecked"})
+  private <T extends StripeObjectInterface> T processResponseStream(
+      StripeResponseStream responseStream,
+      ApiRequest apiRequest,
+      Type typeToken,
+      RequestTimer timer)
+      throws StripeException {
+    int responseCode = responseStream.code();
+    if (responseCode < 200 || responseCode >= 300) {
+      return processResponse(unstream(responseStream), apiRequest, typeToken, timer);
+    }
+
+    // The last response of the object keeps the metadata of the response, but not its body.
+    StripeResponse response = new StripeResponse(responseCode, responseStream.headers(), "");
+    response.numRetries(responseStream.numRetries());
+    response.timings(responseStream.timings());
+    long parseStartNanos = System.nanoTime();
+    try {
+      T resource = (T) this.deserializeStream(responseStream, typeToken);
+      prepareResource(resource, apiRequest, response, isLeanResponse(timer.request));
+      return resource;
+    } finally {
+      // Reading the body is part of parsing it, so the download phase is left unmeasured.
+      recordTimings(timer, response, Duration.ofNanos(System.nanoTime() - parseStartNanos));
+    }
+  }
+
+  /**
+   * Deserializes the body of a response from its stream, through a buffer sized from the {@code
+   * Content-Length} of the response when it is known, and closes the stream.
+   */
+  private StripeObject deserializeStream(StripeResponseStream responseStream, Type typeToken)
+      throws StripeException {
+    long contentLength = responseStream.contentLength();
+    int bufferSize =
+        (contentLength > 0)
+            ? (int) Math.min(contentLength, MAX_STREAM_BUFFER_SIZE)
+            : DEFAULT_STREAM_BUFFER_SIZE;
+    Object flightRecorderEvent = FlightRecorderEvents.beginDeserialization();
+    try (JsonReader reader =
+        new JsonReader(
+            new BufferedReader(
+                new InputStreamReader(responseStream.body(), ApiResource.CHARSET), bufferSize))) {
+      StripeObject object = ApiResource.INTERNAL_GSON.fromJson(reader, typeToken);
+      // Reading until the end also lets the connection be reused.
+      if (reader.peek() != JsonToken.END_DOCUMENT) {
+        throw makeMalformedJsonError(
+            "(streamed)",
+            responseStream.code(),
+            responseStream.requestId(),
+            new JsonSyntaxException("Unexpected content after the end of the response"));
+      }
+      if (object instanceof StripeActiveObject) {
+        ((StripeActiveObject) object).setResponseGetter(this);
+      }
+      FlightRecorderEvents.commitDeserialization(flightRecorderEvent, typeToken, null);
+      return object;
+    } catch (JsonSyntaxException e) {
+      throw makeMalformedJsonError(
+          "(streamed)", responseStream.code(), responseStream.requestId(), e);
+    } catch (JsonIOException | IOException e) {
+      throw makeConnectionError(e);
+    }
+  }
 
+  /**
+   * Passes the options and parameters of the request to the collections that can fetch further
+   * pages, and attaches the response, or only its metadata for a lean response, to the resource.
+   */
+  private static void prepareResource(
+      StripeObjectInterface resource,
+      ApiRequest apiRequest,
+      StripeResponse response,
+      boolean leanResponse) {
     if (resource instanceof StripeCollectionInterface<?>) {
       ((StripeCollectionInterface<?>) resource).setRequestOptions(apiRequest.getOptions());
       ((StripeCollectionInterface<?>) resource).setRequestParams(apiRequest.getParams());
@@ -156,9 +707,32 @@ public class LiveStripeResponseGetter implements StripeResponseGetter {
           .setRequestOptions(apiRequest.getOptions());
     }
 
-    resource.setLastResponse(response);
+    resource.setLastResponse(leanResponse ? response.lean() : response);
+  }
 
-    return resource;
+  /** Returns whether the object returned by the given request keeps only its response metadata. */
+  private static boolean isLeanResponse(StripeRequest request) {
+    return Boolean.TRUE.equals(request.options().getLeanResponses());
+  }
+
+  private static StripeResponse unstream(StripeResponseStream responseStream)
+      throws ApiConnectionException {
+    try {
+      return responseStream.unstream();
+    } catch (IOException e) {
+      throw makeConnectionError(e);
+    }
+  }
+
+  private static ApiConnectionException makeConnectionError(Exception e) {
+    return new ApiConnectionException(
+        String.format(
+            "IOException during API request to Stripe (%s): %s "
+                + "Please check your internet connection and try again. If this problem persists,"
+                + "you should check Stripe's service status at https://twitter.com/stripestatus,"
+                + " or let us know at support@stripe.com.",
+            Stripe.getApiBase(), e.getMessage()),
+        e);
   }
 
   @Override
@@ -169,30 +743,30 @@ public class LiveStripeResponseGetter implements StripeResponseGetter {
       apiRequest = apiRequest.addUsage("unsafe_stripe_version_override");
     }
 
-    StripeRequest request = toStripeRequest(apiRequest, mergedOptions);
-    StripeResponseStream responseStream =
-        sendWithTelemetry(
-            request, apiRequest.getUsage(), r -> httpClient.requestStreamWithRetries(r));
+    RequestTimer timer = new RequestTimer(apiRequest);
+    acquirePermit(mergedOptions);
+    timer.queue = timer.elapsed();
+    StripeResponseStream responseStream;
+    try {
+      timer.request = toStripeRequest(apiRequest, mergedOptions);
+      responseStream = sendWithTelemetry(timer, (a, r) -> httpClient.requestStreamWithRetries(r));
+    } finally {
+      releasePermit(mergedOptions);
+    }
 
     int responseCode = responseStream.code();
 
     if (responseCode < 200 || responseCode >= 300) {
-      StripeResponse response;
+      StripeResponse response = unstream(responseStream);
+      long parseStartNanos = System.nanoTime();
       try {
-        response = responseStream.unstream();
-      } catch (IOException e) {
-        throw new ApiConnectionException(
-            String.format(
-                "IOException during API request to Stripe (%s): %s "
-                    + "Please check your internet connection and try again. If this problem persists,"
-                    + "you should check Stripe's service status at https://twitter.com/stripestatus,"
-                    + " or let us know at support@stripe.com.",
-                Stripe.getApiBase(), e.getMessage()),
-            e);
+        handleError(response, apiRequest.getApiMode());
+      } finally {
+        recordTimings(timer, response, Duration.ofNanos(System.nanoTime() - parseStartNanos));
       }
-      handleError(response, apiRequest.getApiMode());
     }
 
+    recordTimings(timer, responseStream, null);
     return responseStream.body();
   }
 
@@ -204,25 +778,38 @@ public class LiveStripeResponseGetter implements StripeResponseGetter {
       apiRequest = apiRequest.addUsage("unsafe_stripe_version_override");
     }
 
-    StripeRequest request = toRawStripeRequest(apiRequest, mergedOptions);
+    RequestTimer timer = new RequestTimer(apiRequest);
+    acquirePermit(mergedOptions);
+    timer.queue = timer.elapsed();
+    StripeResponse response;
+    try {
+      StripeRequest request = toRawStripeRequest(apiRequest, mergedOptions);
 
-    Map<String, String> additionalHeaders = apiRequest.getOptions().getAdditionalHeaders();
+      Map<String, String> additionalHeaders = apiRequest.getOptions().getAdditionalHeaders();
 
-    if (additionalHeaders != null) {
-      for (Map.Entry<String, String> entry : additionalHeaders.entrySet()) {
-        String key = entry.getKey();
-        String value = entry.getValue();
-        request = request.withAdditionalHeader(key, value);
+      if (additionalHeaders != null) {
+        for (Map.Entry<String, String> entry : additionalHeaders.entrySet()) {
+          String key = entry.getKey();
+          String value = entry.getValue();
+          request = request.withAdditionalHeader(key, value);
+        }
       }
-    }
 
-    StripeResponse response =
-        sendWithTelemetry(request, apiRequest.getUsage(), r -> httpClient.requestWithRetries(r));
+      timer.request = request;
+      response = sendWithTelemetry(timer, this::send);
+    } finally {
+      releasePermit(mergedOptions);
+    }
 
     int responseCode = response.code();
 
-    if (responseCode < 200 || responseCode >= 300) {
-      handleError(response, apiRequest.getApiMode());
+    long parseStartNanos = System.nanoTime();
+    try {
+      if (responseCode < 200 || responseCode >= 300) {
+        handleError(response, apiRequest.getApiMode());
+      }
+    } finally {
+      recordTimings(timer, response, Duration.ofNanos(System.nanoTime() - parseStartNanos));
     }
 
     return response;
@@ -272,116 +859,113 @@ public class LiveStripeResponseGetter implements StripeResponseGetter {
         e);
   }
 
-  private StripeError parseStripeError(
-      String body, int code, String requestId, Class<? extends StripeError> klass)
-      throws StripeException {
-    StripeError ret;
-    try {
-      JsonObject jsonObject =
-          ApiResource.GSON.fromJson(body, JsonObject.class).getAsJsonObject("error");
-      ret = (StripeError) StripeObject.deserializeStripeObject(jsonObject, klass, this);
-      if (ret != null) return ret;
-    } catch (JsonSyntaxException e) {
-      throw makeMalformedJsonError(body, code, requestId, e);
-    }
-    throw makeMalformedJsonError(body, code, requestId, null);
-  }
-
   private void handleError(StripeResponse response, ApiMode apiMode) throws StripeException {
-    try {
-      /*
-      OAuth errors are JSON objects where `error` is a string. In
-      contrast, in API errors, `error` is a hash with sub-keys. We use
-      this property to distinguish between OAuth and API errors.
-      */
-      JsonObject responseBody = ApiResource.GSON.fromJson(response.body(), JsonObject.class);
-      if (responseBody.has("error") && responseBody.get("error").isJsonPrimitive()) {
-        JsonPrimitive error = responseBody.getAsJsonPrimitive("error");
-        if (error.isString()) {
+    // The body is read in a single pass, decoding the `error` field straight into its model rather
+    // than through an intermediate JSON tree.
+    try (JsonReader reader = new JsonReader(new StringReader(response.body()))) {
+      reader.setLenient(true);
+      reader.beginObject();
+      while (reader.hasNext()) {
+        if (!"error".equals(reader.nextName())) {
+          reader.skipValue();
+          continue;
+        }
+
+        /*
+        OAuth errors are JSON objects where `error` is a string. In
+        contrast, in API errors, `error` is a hash with sub-keys. We use
+        this property to distinguish between OAuth and API errors.
+        */
+        if (reader.peek() == JsonToken.STRING) {
           handleOAuthError(response);
+        } else if (apiMode == ApiMode.V2) {
+          handleV2ApiError(response, ApiResource.GSON.fromJson(reader, JsonObject.class));
+        } else {
+          handleV1ApiError(response, ApiResource.INTERNAL_GSON.fromJson(reader, StripeError.class));
         }
-      } else if (apiMode == ApiMode.V2) {
-        handleV2ApiError(response);
-      } else {
-        handleV1ApiError(response);
       }
-    } catch (JsonSyntaxException e) {
+    } catch (IOException | IllegalStateException | JsonParseException e) {
       throw makeMalformedJsonError(response.body(), response.code(), response.requestId(), e);
     }
-  }
 
-  private void handleV1ApiError(StripeResponse response) throws StripeException {
-    StripeException exception = null;
+    // The body has no `error` field.
+    if (apiMode == ApiMode.V2) {
+      handleV2ApiError(response, null);
+    }
+    throw makeMalformedJsonError(response.body(), response.code(), response.requestId(), null);
+  }
 
-    StripeError error =
-        parseStripeError(response.body(), response.code(), response.requestId(), StripeError.class);
+  private void handleV1ApiError(StripeResponse response, StripeError error) throws StripeException {
+    if (error == null) {
+      throw makeMalformedJsonError(response.body(), response.code(), response.requestId(), null);
+    }
 
     error.setLastResponse(response);
+    StripeException exception;
+    if (this.stacklessBusinessExceptions && isBusinessError(response.code())) {
+      exception = StripeException.withoutStackTrace(() -> makeV1ApiException(response, error));
+    } else {
+      exception = makeV1ApiException(response, error);
+    }
+    exception.setStripeError(error);
+
+    throw exception;
+  }
+
+  /**
+   * Returns whether errors with the given status code are an expected outcome of the request, such
+   * as a declined card, rather than a fault of the integration or of Stripe.
+   */
+  private static boolean isBusinessError(int responseCode) {
+    return responseCode == 400 || responseCode == 402 || responseCode == 404;
+  }
+
+  private static StripeException makeV1ApiException(StripeResponse response, StripeError error) {
     switch (response.code()) {
       case 400:
       case 404:
         if ("idempotency_error".equals(error.getType())) {
-          exception =
-              new IdempotencyException(
-                  error.getMessage(), response.requestId(), error.getCode(), response.code());
-        } else {
-          exception =
-              new InvalidRequestException(
-                  error.getMessage(),
-                  error.getParam(),
-                  response.requestId(),
-                  error.getCode(),
-                  response.code(),
-                  null);
+          return new IdempotencyException(
+              error.getMessage(), response.requestId(), error.getCode(), response.code());
         }
-        break;
+        return new InvalidRequestException(
+            error.getMessage(),
+            error.getParam(),
+            response.requestId(),
+            error.getCode(),
+            response.code(),
+            null);
       case 401:
-        exception =
-            new AuthenticationException(
-                error.getMessage(), response.requestId(), error.getCode(), response.code());
-        break;
+        return new AuthenticationException(
+            error.getMessage(), response.requestId(), error.getCode(), response.code());
       case 402:
-        exception =
-            new CardException(
-                error.getMessage(),
-                response.requestId(),
-                error.getCode(),
-                error.getParam(),
-                error.getDeclineCode(),
-                error.getCharge(),
-                response.code(),
-                null);
-        break;
+        return new CardException(
+            error.getMessage(),
+            response.requestId(),
+            error.getCode(),
+            error.getParam(),
+            error.getDeclineCode(),
+            error.getCharge(),
+            response.code(),
+            null);
       case 403:
-        exception =
-            new PermissionException(
-                error.getMessage(), response.requestId(), error.getCode(), response.code());
-        break;
+        return new PermissionException(
+            error.getMessage(), response.requestId(), error.getCode(), response.code());
       case 429:
-        exception =
-            new RateLimitException(
-                error.getMessage(),
-                error.getParam(),
-                response.requestId(),
-                error.getCode(),
-                response.code(),
-                null);
-        break;
+        return new RateLimitException(
+            error.getMessage(),
+            error.getParam(),
+            response.requestId(),
+            error.getCode(),
+            response.code(),
+            null);
       default:
-        exception =
-            new ApiException(
-                error.getMessage(), response.requestId(), error.getCode(), response.code(), null);
-        break;
+        return new ApiException(
+            error.getMessage(), response.requestId(), error.getCode(), response.code(), null);
     }
-    exception.setStripeError(error);
-
-    throw exception;
   }
 
-  private void handleV2ApiError(StripeResponse response) throws StripeException {
-    JsonObject body =
-        ApiResource.GSON.fromJson(response.body(), JsonObject.class).getAsJsonObject("error");
-
+  private void handleV2ApiError(StripeResponse response, JsonObject body) throws StripeException {
     JsonElement typeElement = body == null ? null : body.get("type");
     JsonElement codeElement = body == null ? null : body.get("code");
     String type = typeElement == null ? "<no_type>" : typeElement.getAsString();
@@ -393,12 +977,15 @@ public class LiveStripeResponseGetter implements StripeResponseGetter {
       throw exception;
     }
 
-    StripeError error;
-    try {
-      error =
-          parseStripeError(
-              response.body(), response.code(), response.requestId(), StripeError.class);
-    } catch (ApiException e) {
+    StripeError error = null;
+    if (body != null) {
+      try {
+        error = (StripeError) StripeObject.deserializeStripeObject(body, StripeError.class, this);
+      } catch (JsonSyntaxException e) {
+        // Reported as an unrecognized error below.
+      }
+    }
+    if (error == null) {
       String message = "Unrecognized error type '" + type + "'";
       JsonElement messageField = body == null ? null : body.get("message");
       if (messageField != null && messageField.isJsonPrimitive()) {
@@ -485,6 +1072,34 @@ public class LiveStripeResponseGetter implements StripeResponseGetter {
     }
   }
 
+  /**
+   * Opens connections to the requested base addresses by sending requests to their health check
+   * endpoint, which also loads the code building requests. The status of the responses is ignored;
+   * only failing to connect makes warming up fail. These requests bypass the rate limiter, the
+   * scheduler and the bulkheads.
+   */
+  @Override
+  public void warmUp(WarmUpOptions warmUpOptions) throws StripeException {
+    RequestOptions mergedOptions = RequestOptions.merge(this.options, null);
+
+    List<CompletableFuture<StripeResponse>> responses = new ArrayList<>();
+    for (BaseAddress baseAddress : warmUpOptions.getBaseAddresses()) {
+      ApiRequest apiRequest =
+          new ApiRequest(
+              baseAddress, ApiResource.RequestMethod.GET, "/healthcheck", null, mergedOptions);
+      StripeRequest request =
+          StripeRequest.create(
+              ApiResource.RequestMethod.GET, fullUrl(apiRequest), null, mergedOptions, ApiMode.V1);
+      // Send the requests at once, so that each of them opens its own connection.
+      for (int i = 0; i < warmUpOptions.getConnectionsPerBaseAddress(); i++) {
+        responses.add(this.httpClient.requestAsync(request));
+      }
+    }
+    for (CompletableFuture<StripeResponse> response : responses) {
+      AsyncSupport.join(response);
+    }
+  }
+
   private String fullUrl(BaseApiRequest apiRequest) {
     BaseAddress baseAddress = apiRequest.getBaseAddress();
     RequestOptions options = apiRequest.getOptions();
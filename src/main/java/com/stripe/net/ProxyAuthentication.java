@@ -0,0 +1,40 @@
+package com.stripe.net;
+
+import java.net.Authenticator;
+import java.net.HttpURLConnection;
+import java.net.PasswordAuthentication;
+
+/**
+ * Supplies the proxy credential of a request to the {@code HttpURLConnection} sending it.
+ *
+ * <p>Java 8 has no way to authenticate a single connection, so this version installs the credential
+ * as the process-wide default {@link Authenticator}. It only does so when the credential changes,
+ * and thus the last credential used wins when clients use different ones. The Java 11 version of
+ * this class, packaged in the multi-release section of the library's JAR, sets the credential on
+ * the connection instead.
+ */
+final class ProxyAuthentication {
+  private static PasswordAuthentication installed;
+
+  private ProxyAuthentication() {}
+
+  /**
+   * Makes the given connection authenticate to its proxy with the given credential.
+   *
+   * @param conn the connection, not yet connected
+   * @param credential the proxy credential, or {@code null} if the proxy requires none
+   */
+  static synchronized void apply(HttpURLConnection conn, PasswordAuthentication credential) {
+    if (credential == null || credential == installed) {
+      return;
+    }
+    Authenticator.setDefault(
+        new Authenticator() {
+          @Override
+          protected PasswordAuthentication getPasswordAuthentication() {
+            return credential;
+          }
+        });
+    installed = credential;
+  }
+}
@@ -0,0 +1,20 @@
+package com.stripe.net;
+
+import com.stripe.util.StringUtils;
+import java.net.URL;
+
+/**
+ * The default {@link IdempotencyKeyGenerator}, which generates a random version 4 UUID for each
+ * request.
+ *
+ * <p>Unlike {@link java.util.UUID#randomUUID()}, the UUIDs are drawn from a {@link
+ * java.util.concurrent.ThreadLocalRandom} rather than from a {@link java.security.SecureRandom}
+ * shared by all threads, so generating them never blocks. Idempotency keys only need to be unique,
+ * not unpredictable.
+ */
+public class RandomIdempotencyKeyGenerator implements IdempotencyKeyGenerator {
+  @Override
+  public String generate(ApiResource.RequestMethod method, URL url, HttpContent content) {
+    return StringUtils.randomUuid();
+  }
+}
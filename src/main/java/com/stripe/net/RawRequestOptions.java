@@ -20,6 +20,10 @@ public class RawRequestOptions extends RequestOptions {
       Integer maxNetworkRetries,
       Proxy connectionProxy,
       PasswordAuthentication proxyCredential,
+      RetryPolicy retryPolicy,
+      RequestPriority priority,
+      IdempotencyKeyGenerator idempotencyKeyGenerator,
+      Boolean leanResponses,
       Map<String, String> additionalHeaders) {
     super(
         authenticator,
@@ -33,10 +37,30 @@ public class RawRequestOptions extends RequestOptions {
         readTimeout,
         maxNetworkRetries,
         connectionProxy,
-        proxyCredential);
+        proxyCredential,
+        retryPolicy,
+        priority,
+        idempotencyKeyGenerator,
+        leanResponses);
     this.additionalHeaders = additionalHeaders;
   }
 
+  /** Copies the given options, with the given timeouts and priority. */
+  protected RawRequestOptions(
+      RawRequestOptions other,
+      Integer connectTimeout,
+      Integer readTimeout,
+      RequestPriority priority) {
+    super(other, connectTimeout, readTimeout, priority);
+    this.additionalHeaders = other.additionalHeaders;
+  }
+
+  @Override
+  protected RawRequestOptions copy(
+      Integer connectTimeout, Integer readTimeout, RequestPriority priority) {
+    return new RawRequestOptions(this, connectTimeout, readTimeout, priority);
+  }
+
   public Map<String, String> getAdditionalHeaders() {
     return additionalHeaders;
   }
@@ -123,6 +147,31 @@ public class RawRequestOptions extends RequestOptions {
       return this;
     }
 
+    @Override
+    public RawRequestOptionsBuilder setRetryPolicy(RetryPolicy retryPolicy) {
+      super.setRetryPolicy(retryPolicy);
+      return this;
+    }
+
+    @Override
+    public RawRequestOptionsBuilder setPriority(RequestPriority priority) {
+      super.setPriority(priority);
+      return this;
+    }
+
+    @Override
+    public RawRequestOptionsBuilder setIdempotencyKeyGenerator(
+        IdempotencyKeyGenerator idempotencyKeyGenerator) {
+      super.setIdempotencyKeyGenerator(idempotencyKeyGenerator);
+      return this;
+    }
+
+    @Override
+    public RawRequestOptionsBuilder setLeanResponses(Boolean leanResponses) {
+      super.setLeanResponses(leanResponses);
+      return this;
+    }
+
     @Override
     public RawRequestOptions build() {
       return new RawRequestOptions(
@@ -138,6 +187,10 @@ public class RawRequestOptions extends RequestOptions {
           maxNetworkRetries,
           connectionProxy,
           proxyCredential,
+          retryPolicy,
+          priority,
+          idempotencyKeyGenerator,
+          leanResponses,
           additionalHeaders);
     }
   }
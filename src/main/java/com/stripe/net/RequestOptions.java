@@ -29,10 +29,15 @@ public class RequestOptions {
   private final Integer maxNetworkRetries;
   private final Proxy connectionProxy;
   private final PasswordAuthentication proxyCredential;
+  private final RetryPolicy retryPolicy;
+  private final RequestPriority priority;
+  private final IdempotencyKeyGenerator idempotencyKeyGenerator;
+  private final Boolean leanResponses;
 
   public static RequestOptions getDefault() {
     return new RequestOptions(
-        null, null, null, null, null, null, null, null, null, null, null, null);
+        null, null, null, null, null, null, null, null, null, null, null, null, null, null, null,
+        null);
   }
 
   protected RequestOptions(
@@ -47,7 +52,11 @@ public class RequestOptions {
       Integer readTimeout,
       Integer maxNetworkRetries,
       Proxy connectionProxy,
-      PasswordAuthentication proxyCredential) {
+      PasswordAuthentication proxyCredential,
+      RetryPolicy retryPolicy,
+      RequestPriority priority,
+      IdempotencyKeyGenerator idempotencyKeyGenerator,
+      Boolean leanResponses) {
     this.authenticator = authenticator;
     this.clientId = clientId;
     this.idempotencyKey = idempotencyKey;
@@ -60,6 +69,32 @@ public class RequestOptions {
     this.maxNetworkRetries = maxNetworkRetries;
     this.connectionProxy = connectionProxy;
     this.proxyCredential = proxyCredential;
+    this.retryPolicy = retryPolicy;
+    this.priority = priority;
+    this.idempotencyKeyGenerator = idempotencyKeyGenerator;
+    this.leanResponses = leanResponses;
+  }
+
+  /** Copies the given options, with the given timeouts and priority. */
+  protected RequestOptions(
+      RequestOptions other, Integer connectTimeout, Integer readTimeout, RequestPriority priority) {
+    this(
+        other.authenticator,
+        other.clientId,
+        other.idempotencyKey,
+        other.stripeContext,
+        other.stripeAccount,
+        other.stripeVersionOverride,
+        other.baseUrl,
+        connectTimeout,
+        readTimeout,
+        other.maxNetworkRetries,
+        other.connectionProxy,
+        other.proxyCredential,
+        other.retryPolicy,
+        priority,
+        other.idempotencyKeyGenerator,
+        other.leanResponses);
   }
 
   public Authenticator getAuthenticator() {
@@ -122,6 +157,60 @@ public class RequestOptions {
     return baseUrl;
   }
 
+  public RetryPolicy getRetryPolicy() {
+    return retryPolicy;
+  }
+
+  public RequestPriority getPriority() {
+    return priority;
+  }
+
+  public IdempotencyKeyGenerator getIdempotencyKeyGenerator() {
+    return idempotencyKeyGenerator;
+  }
+
+  public Boolean getLeanResponses() {
+    return leanResponses;
+  }
+
+  /**
+   * Returns a copy of these options with the given timeouts. Used to fit each attempt of a request
+   * within the total timeout of its {@link RetryPolicy}.
+   */
+  RequestOptions withTimeouts(Integer connectTimeout, Integer readTimeout) {
+    return this.copy(connectTimeout, readTimeout, this.priority);
+  }
+
+  /**
+   * Returns a copy of these options with the given timeouts and priority. Subclasses override this
+   * method so that the copy keeps their type and their own settings.
+   */
+  protected RequestOptions copy(
+      Integer connectTimeout, Integer readTimeout, RequestPriority priority) {
+    return new RequestOptions(this, connectTimeout, readTimeout, priority);
+  }
+
+  /**
+   * Returns the given options with the given priority, unless they already have one. Used by
+   * auto-pagination to send its requests with {@link RequestPriority#BULK} priority.
+   *
+   * @param options the request options, may be {@code null}
+   * @param priority the priority to use if the options have none
+   * @return options with a priority
+   */
+  public static RequestOptions withDefaultPriority(
+      RequestOptions options, RequestPriority priority) {
+    if (options == null) {
+      return new RequestOptions(
+          null, null, null, null, null, null, null, null, null, null, null, null, null, priority,
+          null, null);
+    }
+    if (options.priority != null) {
+      return options;
+    }
+    return options.copy(options.connectTimeout, options.readTimeout, priority);
+  }
+
   public static RequestOptionsBuilder builder() {
     return new RequestOptionsBuilder();
   }
@@ -152,12 +241,17 @@ public class RequestOptions {
             .setBaseUrl(this.baseUrl)
             .setClientId(this.clientId)
             .setIdempotencyKey(this.idempotencyKey)
+            .setStripeContext(this.stripeContext)
             .setStripeAccount(this.stripeAccount)
             .setConnectTimeout(this.connectTimeout)
             .setReadTimeout(this.readTimeout)
             .setMaxNetworkRetries(this.maxNetworkRetries)
             .setConnectionProxy(this.connectionProxy)
-            .setProxyCredential(this.proxyCredential),
+            .setProxyCredential(this.proxyCredential)
+            .setRetryPolicy(this.retryPolicy)
+            .setPriority(this.priority)
+            .setIdempotencyKeyGenerator(this.idempotencyKeyGenerator)
+            .setLeanResponses(this.leanResponses),
         stripeVersionOverride);
   }
 
@@ -174,6 +268,10 @@ public class RequestOptions {
     protected Proxy connectionProxy;
     protected PasswordAuthentication proxyCredential;
     protected String baseUrl;
+    protected RetryPolicy retryPolicy;
+    protected RequestPriority priority;
+    protected IdempotencyKeyGenerator idempotencyKeyGenerator;
+    protected Boolean leanResponses;
 
     /**
      * Constructs a request options builder with the global parameters (API key and client ID) as
@@ -310,6 +408,72 @@ public class RequestOptions {
       return this;
     }
 
+    public RetryPolicy getRetryPolicy() {
+      return retryPolicy;
+    }
+
+    /**
+     * Sets the policy deciding whether, and after how long, the request is retried after a failure.
+     * Takes precedence over the client's retry policy.
+     *
+     * @param retryPolicy the retry policy
+     */
+    public RequestOptionsBuilder setRetryPolicy(RetryPolicy retryPolicy) {
+      this.retryPolicy = retryPolicy;
+      return this;
+    }
+
+    public RequestPriority getPriority() {
+      return priority;
+    }
+
+    /**
+     * Sets the priority of the request. When the client's {@link RequestScheduler} is saturated,
+     * waiting requests are sent in order of priority. By default requests have {@link
+     * RequestPriority#DEFAULT} priority.
+     *
+     * @param priority the priority of the request
+     */
+    public RequestOptionsBuilder setPriority(RequestPriority priority) {
+      this.priority = priority;
+      return this;
+    }
+
+    public IdempotencyKeyGenerator getIdempotencyKeyGenerator() {
+      return idempotencyKeyGenerator;
+    }
+
+    /**
+     * Sets the generator of the idempotency key of the request, used when no key is set with {@link
+     * #setIdempotencyKey}. Takes precedence over the client's generator.
+     *
+     * <p>A {@link DeterministicIdempotencyKeyGenerator} derives the key from a business key, such
+     * as an order ID, so that replaying the request after a crash reuses the same key.
+     *
+     * @param idempotencyKeyGenerator the idempotency key generator
+     */
+    public RequestOptionsBuilder setIdempotencyKeyGenerator(
+        IdempotencyKeyGenerator idempotencyKeyGenerator) {
+      this.idempotencyKeyGenerator = idempotencyKeyGenerator;
+      return this;
+    }
+
+    public Boolean getLeanResponses() {
+      return leanResponses;
+    }
+
+    /**
+     * Sets whether the object returned by the request keeps only the metadata of its response, i.e.
+     * its status code, request ID, idempotency key, number of retries and timings, rather than its
+     * full body and headers. Takes precedence over the client's setting.
+     *
+     * @param leanResponses whether the returned object keeps only the metadata of its response
+     */
+    public RequestOptionsBuilder setLeanResponses(Boolean leanResponses) {
+      this.leanResponses = leanResponses;
+      return this;
+    }
+
     public RequestOptionsBuilder clearIdempotencyKey() {
       this.idempotencyKey = null;
       return this;
@@ -367,7 +531,11 @@ public class RequestOptions {
           readTimeout,
           maxNetworkRetries,
           connectionProxy,
-          proxyCredential);
+          proxyCredential,
+          retryPolicy,
+          priority,
+          idempotencyKeyGenerator,
+          leanResponses);
     }
   }
 
@@ -469,7 +637,11 @@ public class RequestOptions {
           clientOptions.getReadTimeout(), // readTimeout
           clientOptions.getMaxNetworkRetries(), // maxNetworkRetries
           clientOptions.getConnectionProxy(), // connectionProxy
-          clientOptions.getProxyCredential() // proxyCredential
+          clientOptions.getProxyCredential(), // proxyCredential
+          clientOptions.getRetryPolicy(), // retryPolicy
+          null, // priority
+          clientOptions.getIdempotencyKeyGenerator(), // idempotencyKeyGenerator
+          clientOptions.isLeanResponses() // leanResponses
           );
     }
     return new RequestOptions(
@@ -498,7 +670,17 @@ public class RequestOptions {
             : clientOptions.getConnectionProxy(),
         options.getProxyCredential() != null
             ? options.getProxyCredential()
-            : clientOptions.getProxyCredential());
+            : clientOptions.getProxyCredential(),
+        options.getRetryPolicy() != null
+            ? options.getRetryPolicy()
+            : clientOptions.getRetryPolicy(),
+        options.getPriority(),
+        options.getIdempotencyKeyGenerator() != null
+            ? options.getIdempotencyKeyGenerator()
+            : clientOptions.getIdempotencyKeyGenerator(),
+        options.getLeanResponses() != null
+            ? options.getLeanResponses()
+            : clientOptions.isLeanResponses());
   }
 
   public static class InvalidRequestOptionsException extends RuntimeException {
@@ -0,0 +1,14 @@
+package com.stripe.net;
+
+/**
+ * The priority of a request, deciding the order in which the client's {@link RequestScheduler}
+ * sends waiting requests once it is saturated.
+ */
+public enum RequestPriority {
+  /** Latency-critical requests, e.g. made while a customer is waiting for a payment to confirm. */
+  INTERACTIVE,
+  /** Requests without a priority set. */
+  DEFAULT,
+  /** Background work, e.g. exports or backfills. Used by auto-pagination. */
+  BULK
+}
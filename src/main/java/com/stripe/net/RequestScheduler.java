@@ -0,0 +1,226 @@
+package com.stripe.net;
+
+import com.stripe.exception.ConcurrencyLimitException;
+import com.stripe.exception.StripeException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Dispatches the requests of a client in order of {@link RequestPriority priority} once the client
+ * is saturated, so that latency-critical requests are not stuck behind background work.
+ *
+ * <p>The scheduler lets at most {@link RequestSchedulerBuilder#setMaxConcurrentRequests
+ * maxConcurrentRequests} requests proceed at once, or fewer if the client's {@link
+ * AdaptiveConcurrencyLimiter} currently allows fewer. A request holds its turn while it waits for
+ * the client's {@link AdaptiveRateLimiter}, if any, and until its response is received. Further
+ * requests wait in a queue and are dispatched highest priority first, then in the order they
+ * arrived. A request that waits longer than {@link RequestSchedulerBuilder#setMaxQueueWait
+ * maxQueueWait} fails with a {@link ConcurrencyLimitException}; this also bounds how long
+ * lower-priority requests can be held back by a steady stream of higher-priority ones.
+ *
+ * <p>The priority of a request is set with {@link
+ * RequestOptions.RequestOptionsBuilder#setPriority}. Auto-pagination requests use {@link
+ * RequestPriority#BULK} unless a priority is set on the options of the list request. A scheduler is
+ * enabled with {@code StripeClient.builder().setRequestScheduler(...)}.
+ */
+public class RequestScheduler {
+  private static final Comparator<Waiter> DISPATCH_ORDER =
+      Comparator.<Waiter>comparingInt(w -> w.priority.ordinal()).thenComparingLong(w -> w.sequence);
+
+  private final int maxConcurrentRequests;
+  private final long maxQueueWaitNanos;
+
+  private final PriorityQueue<Waiter> queue = new PriorityQueue<>(DISPATCH_ORDER);
+  private final AtomicLong rejected = new AtomicLong();
+
+  private int inFlight;
+  private long nextSequence;
+
+  private RequestScheduler(RequestSchedulerBuilder builder) {
+    this.maxConcurrentRequests = builder.maxConcurrentRequests;
+    this.maxQueueWaitNanos = builder.maxQueueWait.toNanos();
+  }
+
+  public static RequestSchedulerBuilder builder() {
+    return new RequestSchedulerBuilder();
+  }
+
+  /**
+   * Returns the number of requests currently dispatched.
+   *
+   * @return the number of dispatched requests
+   */
+  public synchronized int getInFlight() {
+    return this.inFlight;
+  }
+
+  /**
+   * Returns the number of requests waiting to be dispatched.
+   *
+   * @return the number of waiting requests
+   */
+  public synchronized int getQueueLength() {
+    return this.queue.size();
+  }
+
+  /**
+   * Returns the number of requests that failed because they waited too long to be dispatched.
+   *
+   * @return the number of rejected requests
+   */
+  public long getRejectedCount() {
+    return this.rejected.get();
+  }
+
+  /**
+   * Waits for the turn of a request. Every successful call must be followed by a call to {@link
+   * #release}.
+   *
+   * @param priority the priority of the request, or {@code null} for the default priority
+   * @param limit the current limit of the concurrency limiter, or {@link Integer#MAX_VALUE}
+   * @throws ConcurrencyLimitException if the request waited longer than the maximum queue wait
+   */
+  void acquire(RequestPriority priority, int limit) throws StripeException {
+    AsyncSupport.join(this.acquireAsync(priority, limit));
+  }
+
+  /**
+   * Returns a future completed once it is the turn of a request, or completed exceptionally with a
+   * {@link ConcurrencyLimitException} if the request waited longer than the maximum queue wait. No
+   * thread is held while waiting.
+   */
+  @SuppressWarnings("FutureReturnValueIgnored")
+  CompletableFuture<Void> acquireAsync(RequestPriority priority, int limit) {
+    Waiter waiter = this.tryAcquire(priority, limit);
+    if (waiter == null) {
+      return CompletableFuture.completedFuture(null);
+    }
+
+    ScheduledFuture<?> timeout =
+        AsyncSupport.scheduler()
+            .schedule(
+                () -> {
+                  if (this.abandon(waiter)) {
+                    waiter.turn.completeExceptionally(this.rejection());
+                  }
+                },
+                this.maxQueueWaitNanos,
+                TimeUnit.NANOSECONDS);
+    waiter.turn.whenComplete((ignored, error) -> timeout.cancel(false));
+    return waiter.turn;
+  }
+
+  /**
+   * Ends the turn of a request, dispatching the waiting requests that may now proceed.
+   *
+   * @param limit the current limit of the concurrency limiter, or {@link Integer#MAX_VALUE}
+   */
+  void release(int limit) {
+    List<Waiter> dispatched = new ArrayList<>();
+    synchronized (this) {
+      this.inFlight -= 1;
+      int capacity = Math.min(this.maxConcurrentRequests, limit);
+      while (this.inFlight < capacity && !this.queue.isEmpty()) {
+        this.inFlight += 1;
+        dispatched.add(this.queue.poll());
+      }
+    }
+
+    // Complete outside the lock, as completing runs the dependent stages of async requests.
+    for (Waiter waiter : dispatched) {
+      if (!waiter.turn.complete(null)) {
+        // The caller gave up waiting, e.g. when interrupted; hand the turn to the next request.
+        this.release(limit);
+      }
+    }
+  }
+
+  /** Takes a turn if one is free and no request is waiting, or queues the request otherwise. */
+  private synchronized Waiter tryAcquire(RequestPriority priority, int limit) {
+    if (this.queue.isEmpty() && this.inFlight < Math.min(this.maxConcurrentRequests, limit)) {
+      this.inFlight += 1;
+      return null;
+    }
+
+    Waiter waiter =
+        new Waiter((priority != null) ? priority : RequestPriority.DEFAULT, this.nextSequence++);
+    this.queue.add(waiter);
+    return waiter;
+  }
+
+  /**
+   * Removes a request from the queue, returning {@code false} if it was dispatched in the meantime,
+   * in which case it holds a turn.
+   */
+  private synchronized boolean abandon(Waiter waiter) {
+    return this.queue.remove(waiter);
+  }
+
+  private ConcurrencyLimitException rejection() {
+    this.rejected.incrementAndGet();
+    return new ConcurrencyLimitException(
+        String.format(
+            "Request was not sent because it waited more than %d ms for the %d requests in flight "
+                + "to complete.",
+            TimeUnit.NANOSECONDS.toMillis(this.maxQueueWaitNanos), this.getInFlight()));
+  }
+
+  private static final class Waiter {
+    final RequestPriority priority;
+    final long sequence;
+    final CompletableFuture<Void> turn = new CompletableFuture<>();
+
+    Waiter(RequestPriority priority, long sequence) {
+      this.priority = priority;
+      this.sequence = sequence;
+    }
+  }
+
+  public static final class RequestSchedulerBuilder {
+    private int maxConcurrentRequests = 20;
+    private Duration maxQueueWait = Duration.ofSeconds(30);
+
+    /** Constructs a builder with the default settings. */
+    public RequestSchedulerBuilder() {}
+
+    /**
+     * Sets the number of requests that may proceed at once before further requests are queued. By
+     * default this is 20.
+     *
+     * @param maxConcurrentRequests the number of requests
+     */
+    public RequestSchedulerBuilder setMaxConcurrentRequests(int maxConcurrentRequests) {
+      this.maxConcurrentRequests = maxConcurrentRequests;
+      return this;
+    }
+
+    /**
+     * Sets how long a request may wait in the queue before failing with a {@link
+     * ConcurrencyLimitException}. By default this is 30 seconds.
+     *
+     * @param maxQueueWait the maximum wait
+     */
+    public RequestSchedulerBuilder setMaxQueueWait(Duration maxQueueWait) {
+      this.maxQueueWait = maxQueueWait;
+      return this;
+    }
+
+    /** Constructs a {@link RequestScheduler} with the specified values. */
+    public RequestScheduler build() {
+      if (this.maxConcurrentRequests < 1) {
+        throw new IllegalArgumentException("maxConcurrentRequests must be at least 1");
+      }
+      if (this.maxQueueWait == null || this.maxQueueWait.isNegative()) {
+        throw new IllegalArgumentException("maxQueueWait must not be null or negative");
+      }
+      return new RequestScheduler(this);
+    }
+  }
+}
@@ -1,25 +1,24 @@
 package com.stripe.net;
 
-import com.google.gson.Gson;
-import com.google.gson.annotations.SerializedName;
 import com.stripe.Stripe;
 import java.time.Duration;
 import java.util.List;
 import java.util.Optional;
-import java.util.concurrent.ConcurrentLinkedQueue;
-import lombok.Data;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 /** Helper class used by {@link LiveStripeResponseGetter} to manage request telemetry. */
 class RequestTelemetry {
   /** The name of the header used to send request telemetry in requests. */
   public static final String HEADER_NAME = "X-Stripe-Client-Telemetry";
 
-  private static final int MAX_REQUEST_METRICS_QUEUE_SIZE = 100;
+  /** The number of payloads waiting to be sent, as a power of two. */
+  private static final int MAX_REQUEST_METRICS_QUEUE_SIZE = 128;
 
-  private static final Gson gson = new Gson();
-
-  private static ConcurrentLinkedQueue<RequestMetrics> prevRequestMetrics =
-      new ConcurrentLinkedQueue<RequestMetrics>();
+  private static final PayloadQueue prevRequestMetrics =
+      new PayloadQueue(MAX_REQUEST_METRICS_QUEUE_SIZE);
 
   /**
    * Returns an {@link Optional} containing the value of the {@code X-Stripe-Telemetry} header to
@@ -31,7 +30,7 @@ class RequestTelemetry {
    */
   @Deprecated
   public Optional<String> getHeaderValue(HttpHeaders headers) {
-    if (headers.firstValue(HEADER_NAME).isPresent()) {
+    if (headers.firstValueOrNull(HEADER_NAME) != null) {
       return Optional.empty();
     }
 
@@ -39,8 +38,8 @@ class RequestTelemetry {
   }
 
   public Optional<String> pollPayload() {
-    RequestMetrics requestMetrics = prevRequestMetrics.poll();
-    if (requestMetrics == null) {
+    String payload = prevRequestMetrics.poll();
+    if (payload == null) {
       return Optional.empty();
     }
 
@@ -48,13 +47,13 @@ class RequestTelemetry {
       return Optional.empty();
     }
 
-    ClientTelemetryPayload payload = new ClientTelemetryPayload(requestMetrics);
-    return Optional.of(gson.toJson(payload));
+    return Optional.of(payload);
   }
 
   /**
-   * If telemetry is enabled and the queue is not full, then enqueue a new metrics item; otherwise,
-   * do nothing.
+   * If telemetry is enabled, the request is sampled and the queue is not full, then enqueue a new
+   * metrics item; otherwise, do nothing. The item is serialized here, so that sending it with a
+   * later request costs nothing.
    *
    * @param response the Stripe response
    * @param duration the request duration
@@ -66,37 +65,131 @@ class RequestTelemetry {
       return;
     }
 
-    if (response.requestId() == null) {
+    double sampleRate = Stripe.telemetrySampleRate;
+    if (sampleRate < 1.0 && ThreadLocalRandom.current().nextDouble() >= sampleRate) {
       return;
     }
 
-    if (prevRequestMetrics.size() >= MAX_REQUEST_METRICS_QUEUE_SIZE) {
+    String requestId = response.requestId();
+    if (requestId == null) {
       return;
     }
 
-    if (usage != null && usage.size() == 0) {
-      usage = null;
+    if (prevRequestMetrics.isFull()) {
+      return;
     }
 
-    RequestMetrics metrics = new RequestMetrics(response.requestId(), duration.toMillis(), usage);
-    prevRequestMetrics.add(metrics);
+    prevRequestMetrics.offer(serializePayload(requestId, duration.toMillis(), usage));
+  }
+
+  /**
+   * Serializes the telemetry payload of a request, e.g. {@code
+   * {"last_request_metrics":{"request_id":"req_123","request_duration_ms":42}}}.
+   */
+  static String serializePayload(String requestId, long requestDurationMs, List<String> usage) {
+    StringBuilder sb = new StringBuilder(96);
+    sb.append("{\"last_request_metrics\":{\"request_id\":");
+    appendJsonString(sb, requestId);
+    sb.append(",\"request_duration_ms\":").append(requestDurationMs);
+    if (usage != null && !usage.isEmpty()) {
+      sb.append(",\"usage\":[");
+      for (int i = 0; i < usage.size(); i++) {
+        if (i > 0) {
+          sb.append(',');
+        }
+        appendJsonString(sb, usage.get(i));
+      }
+      sb.append(']');
+    }
+    sb.append("}}");
+    return sb.toString();
   }
 
-  @Data
-  private static class ClientTelemetryPayload {
-    @SerializedName("last_request_metrics")
-    private final RequestMetrics lastRequestMetrics;
+  private static void appendJsonString(StringBuilder sb, String value) {
+    sb.append('"');
+    for (int i = 0; i < value.length(); i++) {
+      char c = value.charAt(i);
+      if (c == '"' || c == '\\') {
+        sb.append('\\').append(c);
+      } else if (c < 0x20) {
+        sb.append(String.format("\\u%04x", (int) c));
+      } else {
+        sb.append(c);
+      }
+    }
+    sb.append('"');
   }
 
-  @Data
-  private static class RequestMetrics {
-    @SerializedName("request_id")
-    private final String requestId;
+  /**
+   * A bounded, lock-free queue of telemetry payloads shared by all threads, whose operations run in
+   * constant time.
+   *
+   * <p>Each slot has a sequence number telling whether it is ready to be written to or read from
+   * for a given position, so that producers and consumers only contend on the position counters.
+   */
+  private static final class PayloadQueue {
+    private final int mask;
+    private final AtomicReferenceArray<String> payloads;
+    private final AtomicLongArray sequences;
+    private final AtomicLong head = new AtomicLong();
+    private final AtomicLong tail = new AtomicLong();
+
+    PayloadQueue(int capacity) {
+      this.mask = capacity - 1;
+      this.payloads = new AtomicReferenceArray<>(capacity);
+      this.sequences = new AtomicLongArray(capacity);
+      for (int i = 0; i < capacity; i++) {
+        this.sequences.set(i, i);
+      }
+    }
 
-    @SerializedName("request_duration_ms")
-    private final long requestDurationMs;
+    /** Returns whether the queue was full at some point during the call. */
+    boolean isFull() {
+      return this.tail.get() - this.head.get() > this.mask;
+    }
+
+    /** Adds a payload to the queue, unless it is full. */
+    boolean offer(String payload) {
+      long position = this.tail.get();
+      while (true) {
+        int index = (int) (position & this.mask);
+        long difference = this.sequences.get(index) - position;
+        if (difference == 0) {
+          if (this.tail.compareAndSet(position, position + 1)) {
+            this.payloads.set(index, payload);
+            this.sequences.set(index, position + 1);
+            return true;
+          }
+          position = this.tail.get();
+        } else if (difference < 0) {
+          // The slot still holds the payload of the previous lap, which has not been read yet.
+          return false;
+        } else {
+          position = this.tail.get();
+        }
+      }
+    }
 
-    @SerializedName("usage")
-    private final List<String> usage;
+    /** Removes the oldest payload from the queue, or returns {@code null} if it is empty. */
+    String poll() {
+      long position = this.head.get();
+      while (true) {
+        int index = (int) (position & this.mask);
+        long difference = this.sequences.get(index) - (position + 1);
+        if (difference == 0) {
+          if (this.head.compareAndSet(position, position + 1)) {
+            String payload = this.payloads.getAndSet(index, null);
+            this.sequences.set(index, position + this.mask + 1);
+            return payload;
+          }
+          position = this.head.get();
+        } else if (difference < 0) {
+          // The slot has not been written to yet in this lap.
+          return null;
+        } else {
+          position = this.head.get();
+        }
+      }
+    }
   }
 }
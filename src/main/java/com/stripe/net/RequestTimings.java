@@ -0,0 +1,66 @@
+package com.stripe.net;
+
+import java.time.Duration;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Value;
+import lombok.With;
+import lombok.experimental.Accessors;
+
+/**
+ * The time spent in each phase of a request, from the moment it was made until its response was
+ * deserialized. A phase is {@code null} when it was not measured, e.g. because the {@link
+ * HttpClient} in use cannot observe it.
+ *
+ * <p>The transport phases ({@link #connect}, {@link #timeToFirstByte} and {@link #download})
+ * describe the last attempt to send the request. The time spent in failed attempts and waiting
+ * between them only counts towards the {@link #total}.
+ */
+@Value
+// The withers generated by Lombok return the same instance when given the same duration.
+@SuppressWarnings("ReferenceEquality")
+@With(AccessLevel.PACKAGE)
+@AllArgsConstructor(access = AccessLevel.PACKAGE)
+@Accessors(fluent = true)
+public class RequestTimings {
+  /** Timings with no phase measured. */
+  static final RequestTimings NONE = new RequestTimings(null, null, null, null, null, null, 0);
+
+  /**
+   * The time spent waiting before the request could be sent, for the bulkheads, the request
+   * scheduler, the rate limiter and the connection pool that are set.
+   */
+  Duration queue;
+
+  /**
+   * The time spent opening a connection, including the DNS lookup and the TCP and TLS handshakes.
+   * This is close to zero when an open connection was reused.
+   */
+  Duration connect;
+
+  /**
+   * The time from the moment the connection was open until the response headers were received,
+   * which includes uploading the request body and the time taken by Stripe to process the request.
+   */
+  Duration timeToFirstByte;
+
+  /** The time spent reading the response body, or {@code null} if it was streamed to the caller. */
+  Duration download;
+
+  /** The time spent deserializing the response body, or decoding the error it contains. */
+  Duration parse;
+
+  /** The time from the moment the request was made until its response was deserialized. */
+  Duration total;
+
+  /** The number of times the request was retried. */
+  int numRetries;
+
+  /** Returns the sum of the given durations, either of which may be {@code null}. */
+  static Duration plus(Duration a, Duration b) {
+    if (a == null) {
+      return b;
+    }
+    return (b == null) ? a : a.plus(b);
+  }
+}
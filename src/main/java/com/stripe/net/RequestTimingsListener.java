@@ -0,0 +1,22 @@
+package com.stripe.net;
+
+/**
+ * Receives the {@link RequestTimings} of each request sent by a client, e.g. to chart where the
+ * latency of requests comes from.
+ *
+ * <p>A listener is set with {@code StripeClient.builder().setRequestTimingsListener(...)}. It is
+ * called on the thread that processed the response, so it should return quickly and must be safe to
+ * call from several threads at once.
+ */
+@FunctionalInterface
+public interface RequestTimingsListener {
+  /**
+   * Called once the response to a request has been processed, whether or not it is an error.
+   * Requests that failed without a response are not reported.
+   *
+   * @param request the request
+   * @param statusCode the HTTP status code of the response
+   * @param timings the time spent in each phase of the request
+   */
+  void onRequestTimed(StripeRequest request, int statusCode, RequestTimings timings);
+}
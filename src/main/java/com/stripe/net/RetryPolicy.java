@@ -0,0 +1,60 @@
+package com.stripe.net;
+
+import com.stripe.exception.ApiConnectionException;
+import java.time.Duration;
+import lombok.Value;
+import lombok.experimental.Accessors;
+
+/**
+ * Decides whether, and after how long, a request should be retried.
+ *
+ * <p>A policy can be set for all requests of a client with {@code
+ * StripeClient.builder().setRetryPolicy(...)}, or for a single request with {@link
+ * RequestOptions.RequestOptionsBuilder#setRetryPolicy}. When no policy is set, a {@link
+ * DefaultRetryPolicy} is used.
+ */
+public interface RetryPolicy {
+  /**
+   * Returns how long to wait before retrying the request, or {@code null} if the request should not
+   * be retried.
+   *
+   * @param attempt the attempt that just completed
+   * @return the delay before the next attempt, or {@code null} to stop retrying
+   */
+  Duration retryDelay(Attempt attempt);
+
+  /**
+   * Returns the time budget of a request across all of its attempts and the waits between them, or
+   * {@code null} if the request has no budget. The connect and read timeouts of each attempt are
+   * shortened so that they do not exceed the remaining budget, and no retry is made once the budget
+   * is spent.
+   *
+   * @return the total timeout, or {@code null}
+   */
+  default Duration totalTimeout() {
+    return null;
+  }
+
+  /** Describes an attempt to send a request that has just completed. */
+  @Value
+  @Accessors(fluent = true)
+  class Attempt {
+    /** The request that was sent. */
+    StripeRequest request;
+
+    /** Number of retries made so far. This is {@code 0} after the first attempt. */
+    int numRetries;
+
+    /** The HTTP status code of the response, or {@code 0} if no response was received. */
+    int responseCode;
+
+    /** The HTTP headers of the response, or {@code null} if no response was received. */
+    HttpHeaders responseHeaders;
+
+    /** The exception raised while sending the request, or {@code null} if there was none. */
+    ApiConnectionException exception;
+
+    /** The time elapsed since the first attempt started. */
+    Duration elapsed;
+  }
+}
@@ -0,0 +1,62 @@
+package com.stripe.net;
+
+import lombok.Value;
+import lombok.experimental.Accessors;
+
+/**
+ * Receives metrics about each request sent by a client, e.g. to feed them to a metrics library. The
+ * library itself does not depend on any.
+ *
+ * <p>A listener is set with {@code StripeClient.builder().setMetricsListener(...)}. It is called on
+ * the thread that completed the request, so it should return quickly and must be safe to call from
+ * several threads at once. {@link HistogramMetricsListener} keeps latency histograms in memory for
+ * applications without a metrics library.
+ */
+@FunctionalInterface
+public interface StripeMetricsListener {
+  /**
+   * Called once a request has completed, whether it succeeded, returned an error or failed without
+   * a response.
+   *
+   * @param metrics the metrics of the request
+   */
+  void onRequest(RequestMetrics metrics);
+
+  /** Describes a request that has completed. */
+  @Value
+  @Accessors(fluent = true)
+  class RequestMetrics {
+    /**
+     * The path of the request with the IDs of objects replaced by placeholders, e.g. {@code
+     * /v1/customers/{id}}, so that it identifies the endpoint rather than the request.
+     */
+    String endpoint;
+
+    /** The HTTP method of the request. */
+    ApiResource.RequestMethod method;
+
+    /** The base address the request was sent to. */
+    BaseAddress baseAddress;
+
+    /** The HTTP status code of the response, or {@code 0} if no response was received. */
+    int statusCode;
+
+    /**
+     * The number of times the request was sent, including retries, or {@code 0} if no response was
+     * received, in which case the number of attempts is not known.
+     */
+    int attempts;
+
+    /** The size of the request body in bytes. */
+    long requestBytes;
+
+    /**
+     * The size of the response body in bytes, or {@code -1} if it is not known, e.g. because the
+     * response was streamed to the caller without a {@code Content-Length}.
+     */
+    long responseBytes;
+
+    /** The time spent in each phase of the request. */
+    RequestTimings timings;
+  }
+}
@@ -17,6 +17,14 @@ import lombok.experimental.Accessors;
 @AllArgsConstructor(access = AccessLevel.PROTECTED)
 @Accessors(fluent = true)
 public class StripeRequest {
+  private static final List<String> ACCEPT = Collections.singletonList("application/json");
+
+  private static final List<String> ACCEPT_CHARSET =
+      Collections.singletonList(ApiResource.CHARSET.name());
+
+  private static final IdempotencyKeyGenerator DEFAULT_IDEMPOTENCY_KEY_GENERATOR =
+      new RandomIdempotencyKeyGenerator();
+
   /** The HTTP method for the request (GET, POST or DELETE). */
   ApiResource.RequestMethod method;
 
@@ -72,7 +80,7 @@ public class StripeRequest {
       this.options = (options != null) ? options : RequestOptions.getDefault();
       this.method = method;
       this.url = buildURL(method, url, params, apiMode);
-      this.headers = buildHeaders(method, this.options, this.content, apiMode);
+      this.headers = buildHeaders(method, this.url, this.options, this.content, apiMode);
       this.apiMode = apiMode;
     } catch (IOException e) {
       throw new ApiConnectionException(
@@ -109,7 +117,7 @@ public class StripeRequest {
       this.method = method;
       this.url = buildURL(method, url, params, apiMode);
       this.content = buildContent(method, params, apiMode);
-      this.headers = buildHeaders(method, this.options, this.content, apiMode);
+      this.headers = buildHeaders(method, this.url, this.options, this.content, apiMode);
       this.apiMode = apiMode;
     } catch (IOException e) {
       throw new ApiConnectionException(
@@ -218,33 +226,44 @@ public class StripeRequest {
         this.apiMode);
   }
 
+  /**
+   * Returns a new {@link StripeRequest} instance with different options. The headers built from the
+   * original options are kept as is, so this must only be used to change settings that do not
+   * affect them, such as timeouts.
+   */
+  StripeRequest withOptions(RequestOptions options) {
+    return new StripeRequest(
+        this.method, this.url, this.content, this.headers, this.params, options, this.apiMode);
+  }
+
   private static URL buildURL(
       ApiResource.RequestMethod method, String spec, Map<String, Object> params, ApiMode apiMode)
       throws IOException {
-    StringBuilder sb = new StringBuilder();
-
-    sb.append(spec);
-
-    URL specUrl = new URL(spec);
-    String specQueryString = specUrl.getQuery();
-
-    if ((method != ApiResource.RequestMethod.POST) && (params != null)) {
-      String queryString =
-          FormEncoder.createQueryString(params, apiMode == ApiMode.V2 ? true : false);
+    if ((method == ApiResource.RequestMethod.POST) || (params == null)) {
+      return new URL(spec);
+    }
 
-      if (queryString != null && !queryString.isEmpty()) {
-        if (specQueryString != null && !specQueryString.isEmpty()) {
-          sb.append("&");
-        } else {
-          sb.append("?");
-        }
-        sb.append(queryString);
-      }
+    String queryString = FormEncoder.createQueryString(params, apiMode == ApiMode.V2);
+    if (queryString == null || queryString.isEmpty()) {
+      return new URL(spec);
     }
 
+    // The URL is only parsed once complete, so the separator is chosen by looking at the spec.
+    StringBuilder sb = new StringBuilder(spec.length() + queryString.length() + 1);
+    sb.append(spec);
+    sb.append(hasQuery(spec) ? '&' : '?');
+    sb.append(queryString);
     return new URL(sb.toString());
   }
 
+  /** Returns whether the given URL spec has a non-empty query, as {@link URL#getQuery} would. */
+  private static boolean hasQuery(String spec) {
+    int fragmentStart = spec.indexOf('#');
+    int end = (fragmentStart != -1) ? fragmentStart : spec.length();
+    int queryStart = spec.indexOf('?');
+    return queryStart != -1 && queryStart < end - 1;
+  }
+
   private static HttpContent buildContent(
       ApiResource.RequestMethod method, Map<String, Object> params, ApiMode apiMode)
       throws IOException {
@@ -292,23 +311,25 @@ public class StripeRequest {
 
   private static HttpHeaders buildHeaders(
       ApiResource.RequestMethod method,
+      URL url,
       RequestOptions options,
       HttpContent content,
       ApiMode apiMode) {
     Map<String, List<String>> headerMap = new HashMap<String, List<String>>();
 
     // Accept
-    headerMap.put("Accept", Arrays.asList("application/json"));
+    headerMap.put("Accept", ACCEPT);
 
     // Accept-Charset
-    headerMap.put("Accept-Charset", Arrays.asList(ApiResource.CHARSET.name()));
+    headerMap.put("Accept-Charset", ACCEPT_CHARSET);
 
     // Stripe-Version
     if (RequestOptions.unsafeGetStripeVersionOverride(options) != null) {
       headerMap.put(
-          "Stripe-Version", Arrays.asList(RequestOptions.unsafeGetStripeVersionOverride(options)));
+          "Stripe-Version",
+          Collections.singletonList(RequestOptions.unsafeGetStripeVersionOverride(options)));
     } else if (options.getStripeVersion() != null) {
-      headerMap.put("Stripe-Version", Arrays.asList(options.getStripeVersion()));
+      headerMap.put("Stripe-Version", Collections.singletonList(options.getStripeVersion()));
     }
 
     if (apiMode == ApiMode.V1) {
@@ -317,24 +338,29 @@ public class StripeRequest {
       }
     } else {
       if (options.getStripeContext() != null) {
-        headerMap.put("Stripe-Context", Arrays.asList(options.getStripeContext()));
+        headerMap.put("Stripe-Context", Collections.singletonList(options.getStripeContext()));
       }
       if (content != null) {
-        headerMap.put("Content-Type", Arrays.asList(content.contentType()));
+        headerMap.put("Content-Type", Collections.singletonList(content.contentType()));
       }
     }
 
     // Stripe-Account
     if (options.getStripeAccount() != null) {
-      headerMap.put("Stripe-Account", Arrays.asList(options.getStripeAccount()));
+      headerMap.put("Stripe-Account", Collections.singletonList(options.getStripeAccount()));
     }
 
     // Idempotency-Key
     if (options.getIdempotencyKey() != null) {
-      headerMap.put("Idempotency-Key", Arrays.asList(options.getIdempotencyKey()));
+      headerMap.put("Idempotency-Key", Collections.singletonList(options.getIdempotencyKey()));
     } else if (method == ApiResource.RequestMethod.POST
         || (apiMode == ApiMode.V2 && method == ApiResource.RequestMethod.DELETE)) {
-      headerMap.put("Idempotency-Key", Arrays.asList(UUID.randomUUID().toString()));
+      IdempotencyKeyGenerator generator =
+          (options.getIdempotencyKeyGenerator() != null)
+              ? options.getIdempotencyKeyGenerator()
+              : DEFAULT_IDEMPOTENCY_KEY_GENERATOR;
+      headerMap.put(
+          "Idempotency-Key", Collections.singletonList(generator.generate(method, url, content)));
     }
 
     return HttpHeaders.of(headerMap);
@@ -1,7 +1,14 @@
 package com.stripe.net;
 
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 /** A response from Stripe's API, with body represented as a String. */
 public class StripeResponse extends AbstractStripeResponse<String> {
+  /** The headers kept by a lean response. */
+  private static final String[] LEAN_HEADERS = {"Request-Id", "Idempotency-Key"};
+
   /**
    * Initializes a new instance of the {@link StripeResponse} class.
    *
@@ -13,4 +20,22 @@ public class StripeResponse extends AbstractStripeResponse<String> {
   public StripeResponse(int code, HttpHeaders headers, String body) {
     super(code, headers, body);
   }
+
+  /**
+   * Returns a copy of this response that only keeps its metadata: the status code, the request ID
+   * and idempotency key headers, the number of retries and the timings. Its body is empty.
+   */
+  StripeResponse lean() {
+    Map<String, List<String>> headerMap = new HashMap<>();
+    for (String name : LEAN_HEADERS) {
+      List<String> values = this.headers.allValues(name);
+      if (!values.isEmpty()) {
+        headerMap.put(name, values);
+      }
+    }
+    StripeResponse response = new StripeResponse(this.code, HttpHeaders.of(headerMap), "");
+    response.numRetries(this.numRetries);
+    response.timings(this.timings);
+    return response;
+  }
 }
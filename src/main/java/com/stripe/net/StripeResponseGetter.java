@@ -5,6 +5,7 @@ import com.stripe.model.StripeObjectInterface;
 import java.io.InputStream;
 import java.lang.reflect.Type;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 public interface StripeResponseGetter {
   /** @deprecated Use {@link #request(ApiRequest, Type)} instead. */
@@ -33,6 +34,23 @@ public interface StripeResponseGetter {
         request.getApiMode());
   };
 
+  /**
+   * Sends a request asynchronously.
+   *
+   * <p>The default implementation calls {@link #request(ApiRequest, Type)} on a background thread.
+   * Implementations able to send requests without blocking should override this method.
+   *
+   * @param request the request
+   * @param typeToken the type of the object to deserialize the response into
+   * @return a future completed with the deserialized object, or completed exceptionally with a
+   *     {@link StripeException} if the request fails for any reason
+   */
+  default <T extends StripeObjectInterface> CompletableFuture<T> requestAsync(
+      ApiRequest request, Type typeToken) {
+    return AsyncSupport.supplyAsync(
+        () -> this.<T>request(request, typeToken), AsyncSupport.defaultExecutor());
+  }
+
   /** @deprecated Use {@link #requestStream(ApiRequest)} instead. */
   @SuppressWarnings("TypeParameterUnusedInFormals")
   @Deprecated
@@ -65,4 +83,13 @@ public interface StripeResponseGetter {
    * by the ResponseGetter or from the RequestOptions passed in.
    */
   default void validateRequestOptions(RequestOptions options) {}
+
+  /**
+   * Prepares this getter to send requests, e.g. by opening connections ahead of time. The default
+   * implementation does nothing.
+   *
+   * @param options the warm-up settings
+   * @throws StripeException if warming up fails, e.g. because a connection could not be opened
+   */
+  default void warmUp(WarmUpOptions options) throws StripeException {}
 }
@@ -30,4 +30,101 @@ public abstract class StripeResponseGetterOptions {
   public abstract int getReadTimeout();
 
   public abstract String getStripeContext();
+
+  /**
+   * Returns the policy deciding whether failed requests are retried, or {@code null} to use a
+   * {@link DefaultRetryPolicy}.
+   *
+   * <p>Unlike the other settings, this one is not abstract so that existing subclasses keep
+   * compiling.
+   */
+  public RetryPolicy getRetryPolicy() {
+    return null;
+  }
+
+  /**
+   * Returns the generator of the idempotency keys of requests sent without one, or {@code null} to
+   * use a {@link RandomIdempotencyKeyGenerator}.
+   */
+  public IdempotencyKeyGenerator getIdempotencyKeyGenerator() {
+    return null;
+  }
+
+  /**
+   * Returns the limiter applied to the rate of requests, or {@code null} if requests are not
+   * limited.
+   */
+  public AdaptiveRateLimiter getRateLimiter() {
+    return null;
+  }
+
+  /**
+   * Returns the limiter applied to the number of requests in flight, or {@code null} if the number
+   * of requests in flight is not limited.
+   */
+  public AdaptiveConcurrencyLimiter getConcurrencyLimiter() {
+    return null;
+  }
+
+  /**
+   * Returns the circuit breaker guarding each base address, or {@code null} if requests are always
+   * sent.
+   */
+  public CircuitBreaker getCircuitBreaker() {
+    return null;
+  }
+
+  /** Returns the policy hedging slow {@code GET} requests, or {@code null} to never hedge. */
+  public HedgingPolicy getHedgingPolicy() {
+    return null;
+  }
+
+  /**
+   * Returns the scheduler dispatching requests in order of priority, or {@code null} if requests
+   * are sent as soon as they are made.
+   */
+  public RequestScheduler getRequestScheduler() {
+    return null;
+  }
+
+  /**
+   * Returns the bulkheads isolating the requests of each connected account, or {@code null} if the
+   * requests of all accounts are sent alike.
+   */
+  public AccountBulkheads getAccountBulkheads() {
+    return null;
+  }
+
+  /**
+   * Returns whether the exceptions for expected business errors, such as card declines, are
+   * constructed without a stack trace.
+   */
+  public boolean isStacklessBusinessExceptions() {
+    return false;
+  }
+
+  /** Returns the listener receiving the timings of requests, or {@code null} if there is none. */
+  public RequestTimingsListener getRequestTimingsListener() {
+    return null;
+  }
+
+  /** Returns the listener receiving the metrics of requests, or {@code null} if there is none. */
+  public StripeMetricsListener getMetricsListener() {
+    return null;
+  }
+
+  /** Returns the log keeping the last requests and responses, or {@code null} if there is none. */
+  public ExchangeLog getExchangeLog() {
+    return null;
+  }
+
+  /** Returns whether successful responses are deserialized straight from the connection. */
+  public boolean isStreamingDeserialization() {
+    return false;
+  }
+
+  /** Returns whether returned objects keep only the metadata of their response. */
+  public boolean isLeanResponses() {
+    return false;
+  }
 }
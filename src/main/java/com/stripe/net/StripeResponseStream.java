@@ -3,6 +3,7 @@ package com.stripe.net;
 import com.stripe.util.StreamUtils;
 import java.io.IOException;
 import java.io.InputStream;
+import java.time.Duration;
 
 public class StripeResponseStream extends AbstractStripeResponse<InputStream> {
   /**
@@ -23,8 +24,13 @@ public class StripeResponseStream extends AbstractStripeResponse<InputStream> {
    * @return the StripeResponse
    */
   StripeResponse unstream() throws IOException {
-    final String bodyString = StreamUtils.readToEnd(this.body, ApiResource.CHARSET);
+    long startNanos = System.nanoTime();
+    final String bodyString =
+        StreamUtils.readToEnd(this.body, ApiResource.CHARSET, this.contentLength());
     this.body.close();
-    return new StripeResponse(this.code, this.headers, bodyString);
+    StripeResponse response = new StripeResponse(this.code, this.headers, bodyString);
+    response.numRetries(this.numRetries);
+    response.timings(this.timings.withDownload(Duration.ofNanos(System.nanoTime() - startNanos)));
+    return response;
   }
 }
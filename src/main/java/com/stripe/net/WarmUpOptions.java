@@ -0,0 +1,137 @@
+package com.stripe.net;
+
+import com.stripe.model.EventDataClassLookup;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Settings of {@link com.stripe.StripeClient#warmUp(WarmUpOptions)}, which prepares a client so
+ * that its first requests are as fast as the following ones.
+ *
+ * <p>By default, warming up opens one connection to {@link BaseAddress#API} and prepares the
+ * deserialization of every model class that can be the object of an event, which covers the
+ * resources returned by the API.
+ */
+public class WarmUpOptions {
+  private final Set<BaseAddress> baseAddresses;
+  private final int connectionsPerBaseAddress;
+  private final List<Class<?>> modelClasses;
+
+  private WarmUpOptions(WarmUpOptionsBuilder builder) {
+    this.baseAddresses = Collections.unmodifiableSet(EnumSet.copyOf(builder.baseAddresses));
+    this.connectionsPerBaseAddress = builder.connectionsPerBaseAddress;
+    this.modelClasses = Collections.unmodifiableList(new ArrayList<>(builder.modelClasses));
+  }
+
+  public static WarmUpOptionsBuilder builder() {
+    return new WarmUpOptionsBuilder();
+  }
+
+  /**
+   * Returns the base addresses to open connections to.
+   *
+   * @return the base addresses
+   */
+  public Set<BaseAddress> getBaseAddresses() {
+    return this.baseAddresses;
+  }
+
+  /**
+   * Returns the number of connections to open to each base address.
+   *
+   * @return the number of connections
+   */
+  public int getConnectionsPerBaseAddress() {
+    return this.connectionsPerBaseAddress;
+  }
+
+  /**
+   * Returns the model classes whose deserialization is prepared.
+   *
+   * @return the model classes
+   */
+  public List<Class<?>> getModelClasses() {
+    return this.modelClasses;
+  }
+
+  public static final class WarmUpOptionsBuilder {
+    private Set<BaseAddress> baseAddresses = EnumSet.of(BaseAddress.API);
+    private int connectionsPerBaseAddress = 1;
+    private Collection<Class<?>> modelClasses = allModelClasses();
+
+    /** Constructs a builder with the default settings. */
+    public WarmUpOptionsBuilder() {}
+
+    /**
+     * Sets the base addresses to open connections to. By default this is {@link BaseAddress#API}
+     * only. Pass no base address to open no connection.
+     *
+     * @param baseAddresses the base addresses
+     */
+    public WarmUpOptionsBuilder setBaseAddresses(BaseAddress... baseAddresses) {
+      this.baseAddresses = EnumSet.noneOf(BaseAddress.class);
+      this.baseAddresses.addAll(Arrays.asList(baseAddresses));
+      return this;
+    }
+
+    /**
+     * Sets the number of connections to open to each base address, e.g. the number of requests
+     * expected to be sent at once right after startup. By default this is 1.
+     *
+     * <p>With a {@link JdkHttpClient}, concurrent requests share the same HTTP/2 connection, so a
+     * single connection is opened regardless of this setting.
+     *
+     * @param connectionsPerBaseAddress the number of connections
+     */
+    public WarmUpOptionsBuilder setConnectionsPerBaseAddress(int connectionsPerBaseAddress) {
+      this.connectionsPerBaseAddress = connectionsPerBaseAddress;
+      return this;
+    }
+
+    /**
+     * Sets the model classes whose deserialization is prepared, e.g. {@code PaymentIntent.class}.
+     * By default these are all the classes of {@link EventDataClassLookup}. Pass no class to skip
+     * this step.
+     *
+     * @param modelClasses the model classes
+     */
+    public WarmUpOptionsBuilder setModelClasses(Class<?>... modelClasses) {
+      return this.setModelClasses(Arrays.asList(modelClasses));
+    }
+
+    /**
+     * Sets the model classes whose deserialization is prepared. By default these are all the
+     * classes of {@link EventDataClassLookup}.
+     *
+     * @param modelClasses the model classes
+     */
+    public WarmUpOptionsBuilder setModelClasses(Collection<Class<?>> modelClasses) {
+      this.modelClasses = modelClasses;
+      return this;
+    }
+
+    /** Constructs a {@link WarmUpOptions} with the specified values. */
+    public WarmUpOptions build() {
+      if (this.connectionsPerBaseAddress < 1) {
+        throw new IllegalArgumentException("connectionsPerBaseAddress must be at least 1");
+      }
+      if (this.modelClasses == null) {
+        throw new IllegalArgumentException("modelClasses must not be null");
+      }
+      return new WarmUpOptions(this);
+    }
+
+    private static Collection<Class<?>> allModelClasses() {
+      Set<Class<?>> classes = new LinkedHashSet<>();
+      classes.addAll(EventDataClassLookup.classLookup.values());
+      classes.addAll(com.stripe.model.v2.EventDataClassLookup.classLookup.values());
+      return classes;
+    }
+  }
+}
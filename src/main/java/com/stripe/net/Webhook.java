@@ -69,9 +69,11 @@ public final class Webhook {
   public static Event constructEvent(
       String payload, String sigHeader, String secret, long tolerance, Clock clock)
       throws SignatureVerificationException {
+    Object flightRecorderEvent = FlightRecorderEvents.beginDeserialization();
     Event event =
         StripeObject.deserializeStripeObject(
             payload, Event.class, ApiResource.getGlobalResponseGetter());
+    FlightRecorderEvents.commitDeserialization(flightRecorderEvent, Event.class, payload);
     Signature.verifyHeader(payload, sigHeader, secret, tolerance, clock);
     // StripeObjects source their raw JSON object from their last response, but constructed webhooks
     // don't have that
@@ -119,6 +121,19 @@ public final class Webhook {
     public static boolean verifyHeader(
         String payload, String sigHeader, String secret, long tolerance, Clock clock)
         throws SignatureVerificationException {
+      Object flightRecorderEvent = FlightRecorderEvents.beginWebhookVerification();
+      boolean verified = false;
+      try {
+        verified = verify(payload, sigHeader, secret, tolerance, clock);
+        return verified;
+      } finally {
+        FlightRecorderEvents.commitWebhookVerification(flightRecorderEvent, payload, verified);
+      }
+    }
+
+    private static boolean verify(
+        String payload, String sigHeader, String secret, long tolerance, Clock clock)
+        throws SignatureVerificationException {
       // Get timestamp and signatures from header
       long timestamp = getTimestamp(sigHeader);
       List<String> signatures = getSignatures(sigHeader, EXPECTED_SCHEME);
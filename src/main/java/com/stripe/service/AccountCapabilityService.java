@@ -15,6 +15,7 @@ import com.stripe.net.StripeResponseGetter;
 import com.stripe.param.AccountCapabilityListParams;
 import com.stripe.param.AccountCapabilityRetrieveParams;
 import com.stripe.param.AccountCapabilityUpdateParams;
+import java.util.concurrent.CompletableFuture;
 
 public final class AccountCapabilityService extends ApiService {
   public AccountCapabilityService(StripeResponseGetter responseGetter) {
@@ -61,6 +62,25 @@ public final class AccountCapabilityService extends ApiService {
             options);
     return this.request(request, new TypeToken<StripeCollection<Capability>>() {}.getType());
   }
+  /**
+   * Returns a list of capabilities associated with the account. The capabilities are returned
+   * sorted by creation date, with the most recent capability appearing first.
+   */
+  public CompletableFuture<StripeCollection<Capability>> listAsync(
+      String account, AccountCapabilityListParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path =
+              String.format("/v1/accounts/%s/capabilities", ApiResource.urlEncodeId(account));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.GET,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        new TypeToken<StripeCollection<Capability>>() {}.getType());
+  }
   /** Retrieves information about the specified Account Capability. */
   public Capability retrieve(
       String account, String capability, AccountCapabilityRetrieveParams params)
@@ -97,6 +117,27 @@ public final class AccountCapabilityService extends ApiService {
             options);
     return this.request(request, Capability.class);
   }
+  /** Retrieves information about the specified Account Capability. */
+  public CompletableFuture<Capability> retrieveAsync(
+      String account,
+      String capability,
+      AccountCapabilityRetrieveParams params,
+      RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path =
+              String.format(
+                  "/v1/accounts/%s/capabilities/%s",
+                  ApiResource.urlEncodeId(account), ApiResource.urlEncodeId(capability));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.GET,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        Capability.class);
+  }
   /**
    * Updates an existing Account Capability. Request or remove a capability by updating its {@code
    * requested} parameter.
@@ -143,4 +184,28 @@ public final class AccountCapabilityService extends ApiService {
             options);
     return this.request(request, Capability.class);
   }
+  /**
+   * Updates an existing Account Capability. Request or remove a capability by updating its {@code
+   * requested} parameter.
+   */
+  public CompletableFuture<Capability> updateAsync(
+      String account,
+      String capability,
+      AccountCapabilityUpdateParams params,
+      RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path =
+              String.format(
+                  "/v1/accounts/%s/capabilities/%s",
+                  ApiResource.urlEncodeId(account), ApiResource.urlEncodeId(capability));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.POST,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        Capability.class);
+  }
 }
@@ -16,6 +16,7 @@ import com.stripe.param.AccountExternalAccountCreateParams;
 import com.stripe.param.AccountExternalAccountListParams;
 import com.stripe.param.AccountExternalAccountRetrieveParams;
 import com.stripe.param.AccountExternalAccountUpdateParams;
+import java.util.concurrent.CompletableFuture;
 
 public final class AccountExternalAccountService extends ApiService {
   public AccountExternalAccountService(StripeResponseGetter responseGetter) {
@@ -37,6 +38,20 @@ public final class AccountExternalAccountService extends ApiService {
         new ApiRequest(BaseAddress.API, ApiResource.RequestMethod.DELETE, path, null, options);
     return this.request(request, ExternalAccount.class);
   }
+  /** Delete a specified external account for a given account. */
+  public CompletableFuture<ExternalAccount> deleteAsync(
+      String account, String id, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path =
+              String.format(
+                  "/v1/accounts/%s/external_accounts/%s",
+                  ApiResource.urlEncodeId(account), ApiResource.urlEncodeId(id));
+          return new ApiRequest(
+              BaseAddress.API, ApiResource.RequestMethod.DELETE, path, null, options);
+        },
+        ExternalAccount.class);
+  }
   /** Retrieve a specified external account for a given account. */
   public ExternalAccount retrieve(
       String account, String id, AccountExternalAccountRetrieveParams params)
@@ -73,6 +88,27 @@ public final class AccountExternalAccountService extends ApiService {
             options);
     return this.request(request, ExternalAccount.class);
   }
+  /** Retrieve a specified external account for a given account. */
+  public CompletableFuture<ExternalAccount> retrieveAsync(
+      String account,
+      String id,
+      AccountExternalAccountRetrieveParams params,
+      RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path =
+              String.format(
+                  "/v1/accounts/%s/external_accounts/%s",
+                  ApiResource.urlEncodeId(account), ApiResource.urlEncodeId(id));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.GET,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        ExternalAccount.class);
+  }
   /**
    * Updates the metadata, account holder name, account holder type of a bank account belonging to a
    * connected account and optionally sets it as the default for its currency. Other bank account
@@ -152,6 +188,39 @@ public final class AccountExternalAccountService extends ApiService {
             options);
     return this.request(request, ExternalAccount.class);
   }
+  /**
+   * Updates the metadata, account holder name, account holder type of a bank account belonging to a
+   * connected account and optionally sets it as the default for its currency. Other bank account
+   * details are not editable by design.
+   *
+   * <p>You can only update bank accounts when <a
+   * href="https://stripe.com/api/accounts/object#account_object-controller-requirement_collection">account.controller.requirement_collection</a>
+   * is {@code application}, which includes <a
+   * href="https://stripe.com/connect/custom-accounts">Custom accounts</a>.
+   *
+   * <p>You can re-enable a disabled bank account by performing an update call without providing any
+   * arguments or changes.
+   */
+  public CompletableFuture<ExternalAccount> updateAsync(
+      String account,
+      String id,
+      AccountExternalAccountUpdateParams params,
+      RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path =
+              String.format(
+                  "/v1/accounts/%s/external_accounts/%s",
+                  ApiResource.urlEncodeId(account), ApiResource.urlEncodeId(id));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.POST,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        ExternalAccount.class);
+  }
   /** List external accounts for an account. */
   public StripeCollection<ExternalAccount> list(
       String account, AccountExternalAccountListParams params) throws StripeException {
@@ -181,6 +250,22 @@ public final class AccountExternalAccountService extends ApiService {
             options);
     return this.request(request, new TypeToken<StripeCollection<ExternalAccount>>() {}.getType());
   }
+  /** List external accounts for an account. */
+  public CompletableFuture<StripeCollection<ExternalAccount>> listAsync(
+      String account, AccountExternalAccountListParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path =
+              String.format("/v1/accounts/%s/external_accounts", ApiResource.urlEncodeId(account));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.GET,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        new TypeToken<StripeCollection<ExternalAccount>>() {}.getType());
+  }
   /** Create an external account for a given account. */
   public ExternalAccount create(String account, AccountExternalAccountCreateParams params)
       throws StripeException {
@@ -201,4 +286,20 @@ public final class AccountExternalAccountService extends ApiService {
             options);
     return this.request(request, ExternalAccount.class);
   }
+  /** Create an external account for a given account. */
+  public CompletableFuture<ExternalAccount> createAsync(
+      String account, AccountExternalAccountCreateParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path =
+              String.format("/v1/accounts/%s/external_accounts", ApiResource.urlEncodeId(account));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.POST,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        ExternalAccount.class);
+  }
 }
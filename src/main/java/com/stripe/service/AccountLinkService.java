@@ -11,6 +11,7 @@ import com.stripe.net.BaseAddress;
 import com.stripe.net.RequestOptions;
 import com.stripe.net.StripeResponseGetter;
 import com.stripe.param.AccountLinkCreateParams;
+import java.util.concurrent.CompletableFuture;
 
 public final class AccountLinkService extends ApiService {
   public AccountLinkService(StripeResponseGetter responseGetter) {
@@ -40,4 +41,20 @@ public final class AccountLinkService extends ApiService {
             options);
     return this.request(request, AccountLink.class);
   }
+  /**
+   * Creates an AccountLink object that includes a single-use Stripe URL that the platform can
+   * redirect their user to in order to take them through the Connect Onboarding flow.
+   */
+  public CompletableFuture<AccountLink> createAsync(
+      AccountLinkCreateParams params, RequestOptions options) {
+    String path = "/v1/account_links";
+    ApiRequest request =
+        new ApiRequest(
+            BaseAddress.API,
+            ApiResource.RequestMethod.POST,
+            path,
+            ApiRequestParams.paramsToMap(params),
+            options);
+    return this.requestAsync(request, AccountLink.class);
+  }
 }
@@ -11,6 +11,7 @@ import com.stripe.net.BaseAddress;
 import com.stripe.net.RequestOptions;
 import com.stripe.net.StripeResponseGetter;
 import com.stripe.param.AccountLoginLinkCreateParams;
+import java.util.concurrent.CompletableFuture;
 
 public final class AccountLoginLinkService extends ApiService {
   public AccountLoginLinkService(StripeResponseGetter responseGetter) {
@@ -68,4 +69,26 @@ public final class AccountLoginLinkService extends ApiService {
             options);
     return this.request(request, LoginLink.class);
   }
+  /**
+   * Creates a login link for a connected account to access the Express Dashboard.
+   *
+   * <p><strong>You can only create login links for accounts that use the <a
+   * href="https://stripe.com/connect/express-dashboard">Express Dashboard</a> and are connected to
+   * your platform</strong>.
+   */
+  public CompletableFuture<LoginLink> createAsync(
+      String account, AccountLoginLinkCreateParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path =
+              String.format("/v1/accounts/%s/login_links", ApiResource.urlEncodeId(account));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.POST,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        LoginLink.class);
+  }
 }
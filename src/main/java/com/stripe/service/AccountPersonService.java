@@ -16,6 +16,7 @@ import com.stripe.param.AccountPersonCreateParams;
 import com.stripe.param.AccountPersonListParams;
 import com.stripe.param.AccountPersonRetrieveParams;
 import com.stripe.param.AccountPersonUpdateParams;
+import java.util.concurrent.CompletableFuture;
 
 public final class AccountPersonService extends ApiService {
   public AccountPersonService(StripeResponseGetter responseGetter) {
@@ -47,6 +48,25 @@ public final class AccountPersonService extends ApiService {
         new ApiRequest(BaseAddress.API, ApiResource.RequestMethod.DELETE, path, null, options);
     return this.request(request, Person.class);
   }
+  /**
+   * Deletes an existing person’s relationship to the account’s legal entity. Any person with a
+   * relationship for an account can be deleted through the API, except if the person is the {@code
+   * account_opener}. If your integration is using the {@code executive} parameter, you cannot
+   * delete the only verified {@code executive} on file.
+   */
+  public CompletableFuture<Person> deleteAsync(
+      String account, String person, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path =
+              String.format(
+                  "/v1/accounts/%s/persons/%s",
+                  ApiResource.urlEncodeId(account), ApiResource.urlEncodeId(person));
+          return new ApiRequest(
+              BaseAddress.API, ApiResource.RequestMethod.DELETE, path, null, options);
+        },
+        Person.class);
+  }
   /** Retrieves an existing person. */
   public Person retrieve(String account, String person, AccountPersonRetrieveParams params)
       throws StripeException {
@@ -78,6 +98,24 @@ public final class AccountPersonService extends ApiService {
             options);
     return this.request(request, Person.class);
   }
+  /** Retrieves an existing person. */
+  public CompletableFuture<Person> retrieveAsync(
+      String account, String person, AccountPersonRetrieveParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path =
+              String.format(
+                  "/v1/accounts/%s/persons/%s",
+                  ApiResource.urlEncodeId(account), ApiResource.urlEncodeId(person));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.GET,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        Person.class);
+  }
   /** Updates an existing person. */
   public Person update(String account, String person, AccountPersonUpdateParams params)
       throws StripeException {
@@ -109,6 +147,24 @@ public final class AccountPersonService extends ApiService {
             options);
     return this.request(request, Person.class);
   }
+  /** Updates an existing person. */
+  public CompletableFuture<Person> updateAsync(
+      String account, String person, AccountPersonUpdateParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path =
+              String.format(
+                  "/v1/accounts/%s/persons/%s",
+                  ApiResource.urlEncodeId(account), ApiResource.urlEncodeId(person));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.POST,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        Person.class);
+  }
   /**
    * Returns a list of people associated with the account’s legal entity. The people are returned
    * sorted by creation date, with the most recent people appearing first.
@@ -149,6 +205,24 @@ public final class AccountPersonService extends ApiService {
             options);
     return this.request(request, new TypeToken<StripeCollection<Person>>() {}.getType());
   }
+  /**
+   * Returns a list of people associated with the account’s legal entity. The people are returned
+   * sorted by creation date, with the most recent people appearing first.
+   */
+  public CompletableFuture<StripeCollection<Person>> listAsync(
+      String account, AccountPersonListParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path = String.format("/v1/accounts/%s/persons", ApiResource.urlEncodeId(account));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.GET,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        new TypeToken<StripeCollection<Person>>() {}.getType());
+  }
   /** Creates a new person. */
   public Person create(String account, AccountPersonCreateParams params) throws StripeException {
     return create(account, params, (RequestOptions) null);
@@ -174,4 +248,19 @@ public final class AccountPersonService extends ApiService {
             options);
     return this.request(request, Person.class);
   }
+  /** Creates a new person. */
+  public CompletableFuture<Person> createAsync(
+      String account, AccountPersonCreateParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path = String.format("/v1/accounts/%s/persons", ApiResource.urlEncodeId(account));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.POST,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        Person.class);
+  }
 }
@@ -18,6 +18,7 @@ import com.stripe.param.AccountRejectParams;
 import com.stripe.param.AccountRetrieveCurrentParams;
 import com.stripe.param.AccountRetrieveParams;
 import com.stripe.param.AccountUpdateParams;
+import java.util.concurrent.CompletableFuture;
 
 public final class AccountService extends ApiService {
   public AccountService(StripeResponseGetter responseGetter) {
@@ -61,6 +62,29 @@ public final class AccountService extends ApiService {
         new ApiRequest(BaseAddress.API, ApiResource.RequestMethod.DELETE, path, null, options);
     return this.request(request, Account.class);
   }
+  /**
+   * With <a href="https://stripe.com/connect">Connect</a>, you can delete accounts you manage.
+   *
+   * <p>Test-mode accounts can be deleted at any time.
+   *
+   * <p>Live-mode accounts where Stripe is responsible for negative account balances cannot be
+   * deleted, which includes Standard accounts. Live-mode accounts where your platform is liable for
+   * negative account balances, which includes Custom and Express accounts, can be deleted when all
+   * <a href="https://stripe.com/api/balance/balance_object">balances</a> are zero.
+   *
+   * <p>If you want to delete your own account, use the <a
+   * href="https://dashboard.stripe.com/settings/account">account information tab in your account
+   * settings</a> instead.
+   */
+  public CompletableFuture<Account> deleteAsync(String account, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path = String.format("/v1/accounts/%s", ApiResource.urlEncodeId(account));
+          return new ApiRequest(
+              BaseAddress.API, ApiResource.RequestMethod.DELETE, path, null, options);
+        },
+        Account.class);
+  }
   /** Retrieves the details of an account. */
   public Account retrieve(String account, AccountRetrieveParams params) throws StripeException {
     return retrieve(account, params, (RequestOptions) null);
@@ -86,6 +110,21 @@ public final class AccountService extends ApiService {
             options);
     return this.request(request, Account.class);
   }
+  /** Retrieves the details of an account. */
+  public CompletableFuture<Account> retrieveAsync(
+      String account, AccountRetrieveParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path = String.format("/v1/accounts/%s", ApiResource.urlEncodeId(account));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.GET,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        Account.class);
+  }
   /**
    * Updates a <a href="https://stripe.com/connect/accounts">connected account</a> by setting the
    * values of the parameters passed. Any parameters not provided are left unchanged.
@@ -191,6 +230,41 @@ public final class AccountService extends ApiService {
             options);
     return this.request(request, Account.class);
   }
+  /**
+   * Updates a <a href="https://stripe.com/connect/accounts">connected account</a> by setting the
+   * values of the parameters passed. Any parameters not provided are left unchanged.
+   *
+   * <p>For accounts where <a
+   * href="https://stripe.com/api/accounts/object#account_object-controller-requirement_collection">controller.requirement_collection</a>
+   * is {@code application}, which includes Custom accounts, you can update any information on the
+   * account.
+   *
+   * <p>For accounts where <a
+   * href="https://stripe.com/api/accounts/object#account_object-controller-requirement_collection">controller.requirement_collection</a>
+   * is {@code stripe}, which includes Standard and Express accounts, you can update all information
+   * until you create an <a href="https://stripe.com/api/account_links">Account Link</a> or <a
+   * href="https://stripe.com/api/account_sessions">Account Session</a> to start Connect onboarding,
+   * after which some properties can no longer be updated.
+   *
+   * <p>To update your own account, use the <a
+   * href="https://dashboard.stripe.com/settings/account">Dashboard</a>. Refer to our <a
+   * href="https://stripe.com/docs/connect/updating-accounts">Connect</a> documentation to learn
+   * more about updating accounts.
+   */
+  public CompletableFuture<Account> updateAsync(
+      String account, AccountUpdateParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path = String.format("/v1/accounts/%s", ApiResource.urlEncodeId(account));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.POST,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        Account.class);
+  }
   /** Retrieves the details of an account. */
   public Account retrieveCurrent(AccountRetrieveCurrentParams params) throws StripeException {
     return retrieveCurrent(params, (RequestOptions) null);
@@ -216,6 +290,19 @@ public final class AccountService extends ApiService {
             options);
     return this.request(request, Account.class);
   }
+  /** Retrieves the details of an account. */
+  public CompletableFuture<Account> retrieveCurrentAsync(
+      AccountRetrieveCurrentParams params, RequestOptions options) {
+    String path = "/v1/account";
+    ApiRequest request =
+        new ApiRequest(
+            BaseAddress.API,
+            ApiResource.RequestMethod.GET,
+            path,
+            ApiRequestParams.paramsToMap(params),
+            options);
+    return this.requestAsync(request, Account.class);
+  }
   /**
    * Returns a list of accounts connected to your platform via <a
    * href="https://stripe.com/docs/connect">Connect</a>. If you’re not a platform, the list is
@@ -257,6 +344,23 @@ public final class AccountService extends ApiService {
             options);
     return this.request(request, new TypeToken<StripeCollection<Account>>() {}.getType());
   }
+  /**
+   * Returns a list of accounts connected to your platform via <a
+   * href="https://stripe.com/docs/connect">Connect</a>. If you’re not a platform, the list is
+   * empty.
+   */
+  public CompletableFuture<StripeCollection<Account>> listAsync(
+      AccountListParams params, RequestOptions options) {
+    String path = "/v1/accounts";
+    ApiRequest request =
+        new ApiRequest(
+            BaseAddress.API,
+            ApiResource.RequestMethod.GET,
+            path,
+            ApiRequestParams.paramsToMap(params),
+            options);
+    return this.requestAsync(request, new TypeToken<StripeCollection<Account>>() {}.getType());
+  }
   /**
    * With <a href="https://stripe.com/docs/connect">Connect</a>, you can create Stripe accounts for
    * your users. To do this, you’ll first need to <a
@@ -317,6 +421,28 @@ public final class AccountService extends ApiService {
             options);
     return this.request(request, Account.class);
   }
+  /**
+   * With <a href="https://stripe.com/docs/connect">Connect</a>, you can create Stripe accounts for
+   * your users. To do this, you’ll first need to <a
+   * href="https://dashboard.stripe.com/account/applications/settings">register your platform</a>.
+   *
+   * <p>If you’ve already collected information for your connected accounts, you <a
+   * href="https://stripe.com/docs/connect/best-practices#onboarding">can prefill that
+   * information</a> when creating the account. Connect Onboarding won’t ask for the prefilled
+   * information during account onboarding. You can prefill any information on the account.
+   */
+  public CompletableFuture<Account> createAsync(
+      AccountCreateParams params, RequestOptions options) {
+    String path = "/v1/accounts";
+    ApiRequest request =
+        new ApiRequest(
+            BaseAddress.API,
+            ApiResource.RequestMethod.POST,
+            path,
+            ApiRequestParams.paramsToMap(params),
+            options);
+    return this.requestAsync(request, Account.class);
+  }
   /**
    * With <a href="https://stripe.com/connect">Connect</a>, you can reject accounts that you have
    * flagged as suspicious.
@@ -348,6 +474,28 @@ public final class AccountService extends ApiService {
             options);
     return this.request(request, Account.class);
   }
+  /**
+   * With <a href="https://stripe.com/connect">Connect</a>, you can reject accounts that you have
+   * flagged as suspicious.
+   *
+   * <p>Only accounts where your platform is liable for negative account balances, which includes
+   * Custom and Express accounts, can be rejected. Test-mode accounts can be rejected at any time.
+   * Live-mode accounts can only be rejected after all balances are zero.
+   */
+  public CompletableFuture<Account> rejectAsync(
+      String account, AccountRejectParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path = String.format("/v1/accounts/%s/reject", ApiResource.urlEncodeId(account));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.POST,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        Account.class);
+  }
 
   public com.stripe.service.AccountCapabilityService capabilities() {
     return new com.stripe.service.AccountCapabilityService(this.getResponseGetter());
@@ -11,6 +11,7 @@ import com.stripe.net.BaseAddress;
 import com.stripe.net.RequestOptions;
 import com.stripe.net.StripeResponseGetter;
 import com.stripe.param.AccountSessionCreateParams;
+import java.util.concurrent.CompletableFuture;
 
 public final class AccountSessionService extends ApiService {
   public AccountSessionService(StripeResponseGetter responseGetter) {
@@ -40,4 +41,20 @@ public final class AccountSessionService extends ApiService {
             options);
     return this.request(request, AccountSession.class);
   }
+  /**
+   * Creates a AccountSession object that includes a single-use token that the platform can use on
+   * their front-end to grant client-side API access.
+   */
+  public CompletableFuture<AccountSession> createAsync(
+      AccountSessionCreateParams params, RequestOptions options) {
+    String path = "/v1/account_sessions";
+    ApiRequest request =
+        new ApiRequest(
+            BaseAddress.API,
+            ApiResource.RequestMethod.POST,
+            path,
+            ApiRequestParams.paramsToMap(params),
+            options);
+    return this.requestAsync(request, AccountSession.class);
+  }
 }
@@ -15,6 +15,7 @@ import com.stripe.net.StripeResponseGetter;
 import com.stripe.param.ApplePayDomainCreateParams;
 import com.stripe.param.ApplePayDomainListParams;
 import com.stripe.param.ApplePayDomainRetrieveParams;
+import java.util.concurrent.CompletableFuture;
 
 public final class ApplePayDomainService extends ApiService {
   public ApplePayDomainService(StripeResponseGetter responseGetter) {
@@ -32,6 +33,16 @@ public final class ApplePayDomainService extends ApiService {
         new ApiRequest(BaseAddress.API, ApiResource.RequestMethod.DELETE, path, null, options);
     return this.request(request, ApplePayDomain.class);
   }
+  /** Delete an apple pay domain. */
+  public CompletableFuture<ApplePayDomain> deleteAsync(String domain, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path = String.format("/v1/apple_pay/domains/%s", ApiResource.urlEncodeId(domain));
+          return new ApiRequest(
+              BaseAddress.API, ApiResource.RequestMethod.DELETE, path, null, options);
+        },
+        ApplePayDomain.class);
+  }
   /** Retrieve an apple pay domain. */
   public ApplePayDomain retrieve(String domain, ApplePayDomainRetrieveParams params)
       throws StripeException {
@@ -59,6 +70,21 @@ public final class ApplePayDomainService extends ApiService {
             options);
     return this.request(request, ApplePayDomain.class);
   }
+  /** Retrieve an apple pay domain. */
+  public CompletableFuture<ApplePayDomain> retrieveAsync(
+      String domain, ApplePayDomainRetrieveParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path = String.format("/v1/apple_pay/domains/%s", ApiResource.urlEncodeId(domain));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.GET,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        ApplePayDomain.class);
+  }
   /** List apple pay domains. */
   public StripeCollection<ApplePayDomain> list(ApplePayDomainListParams params)
       throws StripeException {
@@ -85,6 +111,20 @@ public final class ApplePayDomainService extends ApiService {
             options);
     return this.request(request, new TypeToken<StripeCollection<ApplePayDomain>>() {}.getType());
   }
+  /** List apple pay domains. */
+  public CompletableFuture<StripeCollection<ApplePayDomain>> listAsync(
+      ApplePayDomainListParams params, RequestOptions options) {
+    String path = "/v1/apple_pay/domains";
+    ApiRequest request =
+        new ApiRequest(
+            BaseAddress.API,
+            ApiResource.RequestMethod.GET,
+            path,
+            ApiRequestParams.paramsToMap(params),
+            options);
+    return this.requestAsync(
+        request, new TypeToken<StripeCollection<ApplePayDomain>>() {}.getType());
+  }
   /** Create an apple pay domain. */
   public ApplePayDomain create(ApplePayDomainCreateParams params) throws StripeException {
     return create(params, (RequestOptions) null);
@@ -102,4 +142,17 @@ public final class ApplePayDomainService extends ApiService {
             options);
     return this.request(request, ApplePayDomain.class);
   }
+  /** Create an apple pay domain. */
+  public CompletableFuture<ApplePayDomain> createAsync(
+      ApplePayDomainCreateParams params, RequestOptions options) {
+    String path = "/v1/apple_pay/domains";
+    ApiRequest request =
+        new ApiRequest(
+            BaseAddress.API,
+            ApiResource.RequestMethod.POST,
+            path,
+            ApiRequestParams.paramsToMap(params),
+            options);
+    return this.requestAsync(request, ApplePayDomain.class);
+  }
 }
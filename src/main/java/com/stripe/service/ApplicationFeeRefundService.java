@@ -16,6 +16,7 @@ import com.stripe.param.ApplicationFeeRefundCreateParams;
 import com.stripe.param.ApplicationFeeRefundListParams;
 import com.stripe.param.ApplicationFeeRefundRetrieveParams;
 import com.stripe.param.ApplicationFeeRefundUpdateParams;
+import java.util.concurrent.CompletableFuture;
 
 public final class ApplicationFeeRefundService extends ApiService {
   public ApplicationFeeRefundService(StripeResponseGetter responseGetter) {
@@ -68,6 +69,28 @@ public final class ApplicationFeeRefundService extends ApiService {
             options);
     return this.request(request, FeeRefund.class);
   }
+  /**
+   * By default, you can see the 10 most recent refunds stored directly on the application fee
+   * object, but you can also retrieve details about a specific refund stored on the application
+   * fee.
+   */
+  public CompletableFuture<FeeRefund> retrieveAsync(
+      String fee, String id, ApplicationFeeRefundRetrieveParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path =
+              String.format(
+                  "/v1/application_fees/%s/refunds/%s",
+                  ApiResource.urlEncodeId(fee), ApiResource.urlEncodeId(id));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.GET,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        FeeRefund.class);
+  }
   /**
    * Updates the specified application fee refund by setting the values of the parameters passed.
    * Any parameters not provided will be left unchanged.
@@ -118,6 +141,29 @@ public final class ApplicationFeeRefundService extends ApiService {
             options);
     return this.request(request, FeeRefund.class);
   }
+  /**
+   * Updates the specified application fee refund by setting the values of the parameters passed.
+   * Any parameters not provided will be left unchanged.
+   *
+   * <p>This request only accepts metadata as an argument.
+   */
+  public CompletableFuture<FeeRefund> updateAsync(
+      String fee, String id, ApplicationFeeRefundUpdateParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path =
+              String.format(
+                  "/v1/application_fees/%s/refunds/%s",
+                  ApiResource.urlEncodeId(fee), ApiResource.urlEncodeId(id));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.POST,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        FeeRefund.class);
+  }
   /**
    * You can see a list of the refunds belonging to a specific application fee. Note that the 10
    * most recent refunds are always available by default on the application fee object. If you need
@@ -166,6 +212,27 @@ public final class ApplicationFeeRefundService extends ApiService {
             options);
     return this.request(request, new TypeToken<StripeCollection<FeeRefund>>() {}.getType());
   }
+  /**
+   * You can see a list of the refunds belonging to a specific application fee. Note that the 10
+   * most recent refunds are always available by default on the application fee object. If you need
+   * more than those 10, you can use this API method and the {@code limit} and {@code
+   * starting_after} parameters to page through additional refunds.
+   */
+  public CompletableFuture<StripeCollection<FeeRefund>> listAsync(
+      String id, ApplicationFeeRefundListParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path =
+              String.format("/v1/application_fees/%s/refunds", ApiResource.urlEncodeId(id));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.GET,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        new TypeToken<StripeCollection<FeeRefund>>() {}.getType());
+  }
   /**
    * Refunds an application fee that has previously been collected but not yet refunded. Funds will
    * be refunded to the Stripe account from which the fee was originally collected.
@@ -233,4 +300,30 @@ public final class ApplicationFeeRefundService extends ApiService {
             options);
     return this.request(request, FeeRefund.class);
   }
+  /**
+   * Refunds an application fee that has previously been collected but not yet refunded. Funds will
+   * be refunded to the Stripe account from which the fee was originally collected.
+   *
+   * <p>You can optionally refund only part of an application fee. You can do so multiple times,
+   * until the entire fee has been refunded.
+   *
+   * <p>Once entirely refunded, an application fee can’t be refunded again. This method will raise
+   * an error when called on an already-refunded application fee, or when trying to refund more
+   * money than is left on an application fee.
+   */
+  public CompletableFuture<FeeRefund> createAsync(
+      String id, ApplicationFeeRefundCreateParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path =
+              String.format("/v1/application_fees/%s/refunds", ApiResource.urlEncodeId(id));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.POST,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        FeeRefund.class);
+  }
 }
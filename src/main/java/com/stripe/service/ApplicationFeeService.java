@@ -14,6 +14,7 @@ import com.stripe.net.RequestOptions;
 import com.stripe.net.StripeResponseGetter;
 import com.stripe.param.ApplicationFeeListParams;
 import com.stripe.param.ApplicationFeeRetrieveParams;
+import java.util.concurrent.CompletableFuture;
 
 public final class ApplicationFeeService extends ApiService {
   public ApplicationFeeService(StripeResponseGetter responseGetter) {
@@ -58,6 +59,23 @@ public final class ApplicationFeeService extends ApiService {
             options);
     return this.request(request, new TypeToken<StripeCollection<ApplicationFee>>() {}.getType());
   }
+  /**
+   * Returns a list of application fees you’ve previously collected. The application fees are
+   * returned in sorted order, with the most recent fees appearing first.
+   */
+  public CompletableFuture<StripeCollection<ApplicationFee>> listAsync(
+      ApplicationFeeListParams params, RequestOptions options) {
+    String path = "/v1/application_fees";
+    ApiRequest request =
+        new ApiRequest(
+            BaseAddress.API,
+            ApiResource.RequestMethod.GET,
+            path,
+            ApiRequestParams.paramsToMap(params),
+            options);
+    return this.requestAsync(
+        request, new TypeToken<StripeCollection<ApplicationFee>>() {}.getType());
+  }
   /**
    * Retrieves the details of an application fee that your account has collected. The same
    * information is returned when refunding the application fee.
@@ -97,6 +115,24 @@ public final class ApplicationFeeService extends ApiService {
             options);
     return this.request(request, ApplicationFee.class);
   }
+  /**
+   * Retrieves the details of an application fee that your account has collected. The same
+   * information is returned when refunding the application fee.
+   */
+  public CompletableFuture<ApplicationFee> retrieveAsync(
+      String id, ApplicationFeeRetrieveParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path = String.format("/v1/application_fees/%s", ApiResource.urlEncodeId(id));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.GET,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        ApplicationFee.class);
+  }
 
   public com.stripe.service.ApplicationFeeRefundService refunds() {
     return new com.stripe.service.ApplicationFeeRefundService(this.getResponseGetter());
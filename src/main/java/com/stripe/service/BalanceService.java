@@ -11,6 +11,7 @@ import com.stripe.net.BaseAddress;
 import com.stripe.net.RequestOptions;
 import com.stripe.net.StripeResponseGetter;
 import com.stripe.param.BalanceRetrieveParams;
+import java.util.concurrent.CompletableFuture;
 
 public final class BalanceService extends ApiService {
   public BalanceService(StripeResponseGetter responseGetter) {
@@ -62,4 +63,22 @@ public final class BalanceService extends ApiService {
             options);
     return this.request(request, Balance.class);
   }
+  /**
+   * Retrieves the current account balance, based on the authentication that was used to make the
+   * request. For a sample request, see <a
+   * href="https://stripe.com/docs/connect/account-balances#accounting-for-negative-balances">Accounting
+   * for negative balances</a>.
+   */
+  public CompletableFuture<Balance> retrieveAsync(
+      BalanceRetrieveParams params, RequestOptions options) {
+    String path = "/v1/balance";
+    ApiRequest request =
+        new ApiRequest(
+            BaseAddress.API,
+            ApiResource.RequestMethod.GET,
+            path,
+            ApiRequestParams.paramsToMap(params),
+            options);
+    return this.requestAsync(request, Balance.class);
+  }
 }
@@ -14,6 +14,7 @@ import com.stripe.net.RequestOptions;
 import com.stripe.net.StripeResponseGetter;
 import com.stripe.param.BalanceTransactionListParams;
 import com.stripe.param.BalanceTransactionRetrieveParams;
+import java.util.concurrent.CompletableFuture;
 
 public final class BalanceTransactionService extends ApiService {
   public BalanceTransactionService(StripeResponseGetter responseGetter) {
@@ -75,6 +76,27 @@ public final class BalanceTransactionService extends ApiService {
     return this.request(
         request, new TypeToken<StripeCollection<BalanceTransaction>>() {}.getType());
   }
+  /**
+   * Returns a list of transactions that have contributed to the Stripe account balance (e.g.,
+   * charges, transfers, and so forth). The transactions are returned in sorted order, with the most
+   * recent transactions appearing first.
+   *
+   * <p>Note that this endpoint was previously called “Balance history” and used the path {@code
+   * /v1/balance/history}.
+   */
+  public CompletableFuture<StripeCollection<BalanceTransaction>> listAsync(
+      BalanceTransactionListParams params, RequestOptions options) {
+    String path = "/v1/balance_transactions";
+    ApiRequest request =
+        new ApiRequest(
+            BaseAddress.API,
+            ApiResource.RequestMethod.GET,
+            path,
+            ApiRequestParams.paramsToMap(params),
+            options);
+    return this.requestAsync(
+        request, new TypeToken<StripeCollection<BalanceTransaction>>() {}.getType());
+  }
   /**
    * Retrieves the balance transaction with the given ID.
    *
@@ -118,4 +140,23 @@ public final class BalanceTransactionService extends ApiService {
             options);
     return this.request(request, BalanceTransaction.class);
   }
+  /**
+   * Retrieves the balance transaction with the given ID.
+   *
+   * <p>Note that this endpoint previously used the path {@code /v1/balance/history/:id}.
+   */
+  public CompletableFuture<BalanceTransaction> retrieveAsync(
+      String id, BalanceTransactionRetrieveParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path = String.format("/v1/balance_transactions/%s", ApiResource.urlEncodeId(id));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.GET,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        BalanceTransaction.class);
+  }
 }
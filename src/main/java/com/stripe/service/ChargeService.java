@@ -19,6 +19,7 @@ import com.stripe.param.ChargeListParams;
 import com.stripe.param.ChargeRetrieveParams;
 import com.stripe.param.ChargeSearchParams;
 import com.stripe.param.ChargeUpdateParams;
+import java.util.concurrent.CompletableFuture;
 
 public final class ChargeService extends ApiService {
   public ChargeService(StripeResponseGetter responseGetter) {
@@ -62,6 +63,22 @@ public final class ChargeService extends ApiService {
             options);
     return this.request(request, new TypeToken<StripeCollection<Charge>>() {}.getType());
   }
+  /**
+   * Returns a list of charges you’ve previously created. The charges are returned in sorted order,
+   * with the most recent charges appearing first.
+   */
+  public CompletableFuture<StripeCollection<Charge>> listAsync(
+      ChargeListParams params, RequestOptions options) {
+    String path = "/v1/charges";
+    ApiRequest request =
+        new ApiRequest(
+            BaseAddress.API,
+            ApiResource.RequestMethod.GET,
+            path,
+            ApiRequestParams.paramsToMap(params),
+            options);
+    return this.requestAsync(request, new TypeToken<StripeCollection<Charge>>() {}.getType());
+  }
   /**
    * This method is no longer recommended—use the <a
    * href="https://stripe.com/docs/api/payment_intents">Payment Intents API</a> to initiate a new
@@ -106,6 +123,23 @@ public final class ChargeService extends ApiService {
             options);
     return this.request(request, Charge.class);
   }
+  /**
+   * This method is no longer recommended—use the <a
+   * href="https://stripe.com/docs/api/payment_intents">Payment Intents API</a> to initiate a new
+   * payment instead. Confirmation of the PaymentIntent creates the {@code Charge} object used to
+   * request payment.
+   */
+  public CompletableFuture<Charge> createAsync(ChargeCreateParams params, RequestOptions options) {
+    String path = "/v1/charges";
+    ApiRequest request =
+        new ApiRequest(
+            BaseAddress.API,
+            ApiResource.RequestMethod.POST,
+            path,
+            ApiRequestParams.paramsToMap(params),
+            options);
+    return this.requestAsync(request, Charge.class);
+  }
   /**
    * Retrieves the details of a charge that has previously been created. Supply the unique charge ID
    * that was returned from your previous request, and Stripe will return the corresponding charge
@@ -147,6 +181,25 @@ public final class ChargeService extends ApiService {
             options);
     return this.request(request, Charge.class);
   }
+  /**
+   * Retrieves the details of a charge that has previously been created. Supply the unique charge ID
+   * that was returned from your previous request, and Stripe will return the corresponding charge
+   * information. The same information is returned when creating or refunding the charge.
+   */
+  public CompletableFuture<Charge> retrieveAsync(
+      String charge, ChargeRetrieveParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path = String.format("/v1/charges/%s", ApiResource.urlEncodeId(charge));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.GET,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        Charge.class);
+  }
   /**
    * Updates the specified charge by setting the values of the parameters passed. Any parameters not
    * provided will be left unchanged.
@@ -184,6 +237,24 @@ public final class ChargeService extends ApiService {
             options);
     return this.request(request, Charge.class);
   }
+  /**
+   * Updates the specified charge by setting the values of the parameters passed. Any parameters not
+   * provided will be left unchanged.
+   */
+  public CompletableFuture<Charge> updateAsync(
+      String charge, ChargeUpdateParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path = String.format("/v1/charges/%s", ApiResource.urlEncodeId(charge));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.POST,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        Charge.class);
+  }
   /**
    * Search for charges you’ve previously created using Stripe’s <a
    * href="https://stripe.com/docs/search#search-query-language">Search Query Language</a>. Don’t
@@ -215,6 +286,26 @@ public final class ChargeService extends ApiService {
             options);
     return this.request(request, new TypeToken<StripeSearchResult<Charge>>() {}.getType());
   }
+  /**
+   * Search for charges you’ve previously created using Stripe’s <a
+   * href="https://stripe.com/docs/search#search-query-language">Search Query Language</a>. Don’t
+   * use search in read-after-write flows where strict consistency is necessary. Under normal
+   * operating conditions, data is searchable in less than a minute. Occasionally, propagation of
+   * new or updated data can be up to an hour behind during outages. Search functionality is not
+   * available to merchants in India.
+   */
+  public CompletableFuture<StripeSearchResult<Charge>> searchAsync(
+      ChargeSearchParams params, RequestOptions options) {
+    String path = "/v1/charges/search";
+    ApiRequest request =
+        new ApiRequest(
+            BaseAddress.API,
+            ApiResource.RequestMethod.GET,
+            path,
+            ApiRequestParams.paramsToMap(params),
+            options);
+    return this.requestAsync(request, new TypeToken<StripeSearchResult<Charge>>() {}.getType());
+  }
   /**
    * Capture the payment of an existing, uncaptured charge that was created with the {@code capture}
    * option set to false.
@@ -280,4 +371,29 @@ public final class ChargeService extends ApiService {
             options);
     return this.request(request, Charge.class);
   }
+  /**
+   * Capture the payment of an existing, uncaptured charge that was created with the {@code capture}
+   * option set to false.
+   *
+   * <p>Uncaptured payments expire a set number of days after they are created (<a
+   * href="https://stripe.com/docs/charges/placing-a-hold">7 by default</a>), after which they are
+   * marked as refunded and capture attempts will fail.
+   *
+   * <p>Don’t use this method to capture a PaymentIntent-initiated charge. Use <a
+   * href="https://stripe.com/docs/api/payment_intents/capture">Capture a PaymentIntent</a>.
+   */
+  public CompletableFuture<Charge> captureAsync(
+      String charge, ChargeCaptureParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path = String.format("/v1/charges/%s/capture", ApiResource.urlEncodeId(charge));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.POST,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        Charge.class);
+  }
 }
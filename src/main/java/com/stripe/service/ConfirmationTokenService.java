@@ -11,6 +11,7 @@ import com.stripe.net.BaseAddress;
 import com.stripe.net.RequestOptions;
 import com.stripe.net.StripeResponseGetter;
 import com.stripe.param.ConfirmationTokenRetrieveParams;
+import java.util.concurrent.CompletableFuture;
 
 public final class ConfirmationTokenService extends ApiService {
   public ConfirmationTokenService(StripeResponseGetter responseGetter) {
@@ -47,4 +48,21 @@ public final class ConfirmationTokenService extends ApiService {
             options);
     return this.request(request, ConfirmationToken.class);
   }
+  /** Retrieves an existing ConfirmationToken object. */
+  public CompletableFuture<ConfirmationToken> retrieveAsync(
+      String confirmationToken, ConfirmationTokenRetrieveParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path =
+              String.format(
+                  "/v1/confirmation_tokens/%s", ApiResource.urlEncodeId(confirmationToken));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.GET,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        ConfirmationToken.class);
+  }
 }
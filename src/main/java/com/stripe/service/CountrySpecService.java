@@ -14,6 +14,7 @@ import com.stripe.net.RequestOptions;
 import com.stripe.net.StripeResponseGetter;
 import com.stripe.param.CountrySpecListParams;
 import com.stripe.param.CountrySpecRetrieveParams;
+import java.util.concurrent.CompletableFuture;
 
 public final class CountrySpecService extends ApiService {
   public CountrySpecService(StripeResponseGetter responseGetter) {
@@ -45,6 +46,19 @@ public final class CountrySpecService extends ApiService {
             options);
     return this.request(request, new TypeToken<StripeCollection<CountrySpec>>() {}.getType());
   }
+  /** Lists all Country Spec objects available in the API. */
+  public CompletableFuture<StripeCollection<CountrySpec>> listAsync(
+      CountrySpecListParams params, RequestOptions options) {
+    String path = "/v1/country_specs";
+    ApiRequest request =
+        new ApiRequest(
+            BaseAddress.API,
+            ApiResource.RequestMethod.GET,
+            path,
+            ApiRequestParams.paramsToMap(params),
+            options);
+    return this.requestAsync(request, new TypeToken<StripeCollection<CountrySpec>>() {}.getType());
+  }
   /** Returns a Country Spec for a given Country code. */
   public CountrySpec retrieve(String country, CountrySpecRetrieveParams params)
       throws StripeException {
@@ -72,4 +86,19 @@ public final class CountrySpecService extends ApiService {
             options);
     return this.request(request, CountrySpec.class);
   }
+  /** Returns a Country Spec for a given Country code. */
+  public CompletableFuture<CountrySpec> retrieveAsync(
+      String country, CountrySpecRetrieveParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path = String.format("/v1/country_specs/%s", ApiResource.urlEncodeId(country));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.GET,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        CountrySpec.class);
+  }
 }
@@ -16,6 +16,7 @@ import com.stripe.param.CouponCreateParams;
 import com.stripe.param.CouponListParams;
 import com.stripe.param.CouponRetrieveParams;
 import com.stripe.param.CouponUpdateParams;
+import java.util.concurrent.CompletableFuture;
 
 public final class CouponService extends ApiService {
   public CouponService(StripeResponseGetter responseGetter) {
@@ -43,6 +44,21 @@ public final class CouponService extends ApiService {
         new ApiRequest(BaseAddress.API, ApiResource.RequestMethod.DELETE, path, null, options);
     return this.request(request, Coupon.class);
   }
+  /**
+   * You can delete coupons via the <a href="https://dashboard.stripe.com/coupons">coupon
+   * management</a> page of the Stripe dashboard. However, deleting a coupon does not affect any
+   * customers who have already applied the coupon; it means that new customers can’t redeem the
+   * coupon. You can also delete coupons via the API.
+   */
+  public CompletableFuture<Coupon> deleteAsync(String coupon, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path = String.format("/v1/coupons/%s", ApiResource.urlEncodeId(coupon));
+          return new ApiRequest(
+              BaseAddress.API, ApiResource.RequestMethod.DELETE, path, null, options);
+        },
+        Coupon.class);
+  }
   /** Retrieves the coupon with the given ID. */
   public Coupon retrieve(String coupon, CouponRetrieveParams params) throws StripeException {
     return retrieve(coupon, params, (RequestOptions) null);
@@ -68,6 +84,21 @@ public final class CouponService extends ApiService {
             options);
     return this.request(request, Coupon.class);
   }
+  /** Retrieves the coupon with the given ID. */
+  public CompletableFuture<Coupon> retrieveAsync(
+      String coupon, CouponRetrieveParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path = String.format("/v1/coupons/%s", ApiResource.urlEncodeId(coupon));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.GET,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        Coupon.class);
+  }
   /**
    * Updates the metadata of a coupon. Other coupon details (currency, duration, amount_off) are, by
    * design, not editable.
@@ -105,6 +136,24 @@ public final class CouponService extends ApiService {
             options);
     return this.request(request, Coupon.class);
   }
+  /**
+   * Updates the metadata of a coupon. Other coupon details (currency, duration, amount_off) are, by
+   * design, not editable.
+   */
+  public CompletableFuture<Coupon> updateAsync(
+      String coupon, CouponUpdateParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path = String.format("/v1/coupons/%s", ApiResource.urlEncodeId(coupon));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.POST,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        Coupon.class);
+  }
   /** Returns a list of your coupons. */
   public StripeCollection<Coupon> list(CouponListParams params) throws StripeException {
     return list(params, (RequestOptions) null);
@@ -130,6 +179,19 @@ public final class CouponService extends ApiService {
             options);
     return this.request(request, new TypeToken<StripeCollection<Coupon>>() {}.getType());
   }
+  /** Returns a list of your coupons. */
+  public CompletableFuture<StripeCollection<Coupon>> listAsync(
+      CouponListParams params, RequestOptions options) {
+    String path = "/v1/coupons";
+    ApiRequest request =
+        new ApiRequest(
+            BaseAddress.API,
+            ApiResource.RequestMethod.GET,
+            path,
+            ApiRequestParams.paramsToMap(params),
+            options);
+    return this.requestAsync(request, new TypeToken<StripeCollection<Coupon>>() {}.getType());
+  }
   /**
    * You can create coupons easily via the <a href="https://dashboard.stripe.com/coupons">coupon
    * management</a> page of the Stripe dashboard. Coupon creation is also accessible via the API if
@@ -194,4 +256,26 @@ public final class CouponService extends ApiService {
             options);
     return this.request(request, Coupon.class);
   }
+  /**
+   * You can create coupons easily via the <a href="https://dashboard.stripe.com/coupons">coupon
+   * management</a> page of the Stripe dashboard. Coupon creation is also accessible via the API if
+   * you need to create coupons on the fly.
+   *
+   * <p>A coupon has either a {@code percent_off} or an {@code amount_off} and {@code currency}. If
+   * you set an {@code amount_off}, that amount will be subtracted from any invoice’s subtotal. For
+   * example, an invoice with a subtotal of 100 will have a final total of 0 if a coupon with an
+   * {@code amount_off} of 200 is applied to it and an invoice with a subtotal of 300 will have a
+   * final total of 100 if a coupon with an {@code amount_off} of 200 is applied to it.
+   */
+  public CompletableFuture<Coupon> createAsync(CouponCreateParams params, RequestOptions options) {
+    String path = "/v1/coupons";
+    ApiRequest request =
+        new ApiRequest(
+            BaseAddress.API,
+            ApiResource.RequestMethod.POST,
+            path,
+            ApiRequestParams.paramsToMap(params),
+            options);
+    return this.requestAsync(request, Coupon.class);
+  }
 }
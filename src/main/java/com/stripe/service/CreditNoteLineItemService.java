@@ -13,6 +13,7 @@ import com.stripe.net.BaseAddress;
 import com.stripe.net.RequestOptions;
 import com.stripe.net.StripeResponseGetter;
 import com.stripe.param.CreditNoteLineItemListParams;
+import java.util.concurrent.CompletableFuture;
 
 public final class CreditNoteLineItemService extends ApiService {
   public CreditNoteLineItemService(StripeResponseGetter responseGetter) {
@@ -64,4 +65,24 @@ public final class CreditNoteLineItemService extends ApiService {
     return this.request(
         request, new TypeToken<StripeCollection<CreditNoteLineItem>>() {}.getType());
   }
+  /**
+   * When retrieving a credit note, you’ll get a <strong>lines</strong> property containing the
+   * first handful of those items. There is also a URL where you can retrieve the full (paginated)
+   * list of line items.
+   */
+  public CompletableFuture<StripeCollection<CreditNoteLineItem>> listAsync(
+      String creditNote, CreditNoteLineItemListParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path =
+              String.format("/v1/credit_notes/%s/lines", ApiResource.urlEncodeId(creditNote));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.GET,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        new TypeToken<StripeCollection<CreditNoteLineItem>>() {}.getType());
+  }
 }
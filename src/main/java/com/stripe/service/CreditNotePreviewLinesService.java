@@ -13,6 +13,7 @@ import com.stripe.net.BaseAddress;
 import com.stripe.net.RequestOptions;
 import com.stripe.net.StripeResponseGetter;
 import com.stripe.param.CreditNotePreviewLinesListParams;
+import java.util.concurrent.CompletableFuture;
 
 public final class CreditNotePreviewLinesService extends ApiService {
   public CreditNotePreviewLinesService(StripeResponseGetter responseGetter) {
@@ -46,4 +47,22 @@ public final class CreditNotePreviewLinesService extends ApiService {
     return this.request(
         request, new TypeToken<StripeCollection<CreditNoteLineItem>>() {}.getType());
   }
+  /**
+   * When retrieving a credit note preview, you’ll get a <strong>lines</strong> property containing
+   * the first handful of those items. This URL you can retrieve the full (paginated) list of line
+   * items.
+   */
+  public CompletableFuture<StripeCollection<CreditNoteLineItem>> listAsync(
+      CreditNotePreviewLinesListParams params, RequestOptions options) {
+    String path = "/v1/credit_notes/preview/lines";
+    ApiRequest request =
+        new ApiRequest(
+            BaseAddress.API,
+            ApiResource.RequestMethod.GET,
+            path,
+            ApiRequestParams.paramsToMap(params),
+            options);
+    return this.requestAsync(
+        request, new TypeToken<StripeCollection<CreditNoteLineItem>>() {}.getType());
+  }
 }
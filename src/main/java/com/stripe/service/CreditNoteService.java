@@ -18,6 +18,7 @@ import com.stripe.param.CreditNotePreviewParams;
 import com.stripe.param.CreditNoteRetrieveParams;
 import com.stripe.param.CreditNoteUpdateParams;
 import com.stripe.param.CreditNoteVoidCreditNoteParams;
+import java.util.concurrent.CompletableFuture;
 
 public final class CreditNoteService extends ApiService {
   public CreditNoteService(StripeResponseGetter responseGetter) {
@@ -49,6 +50,19 @@ public final class CreditNoteService extends ApiService {
             options);
     return this.request(request, new TypeToken<StripeCollection<CreditNote>>() {}.getType());
   }
+  /** Returns a list of credit notes. */
+  public CompletableFuture<StripeCollection<CreditNote>> listAsync(
+      CreditNoteListParams params, RequestOptions options) {
+    String path = "/v1/credit_notes";
+    ApiRequest request =
+        new ApiRequest(
+            BaseAddress.API,
+            ApiResource.RequestMethod.GET,
+            path,
+            ApiRequestParams.paramsToMap(params),
+            options);
+    return this.requestAsync(request, new TypeToken<StripeCollection<CreditNote>>() {}.getType());
+  }
   /**
    * Issue a credit note to adjust the amount of a finalized invoice. For a {@code status=open}
    * invoice, a credit note reduces its {@code amount_due}. For a {@code status=paid} invoice, a
@@ -112,6 +126,42 @@ public final class CreditNoteService extends ApiService {
             options);
     return this.request(request, CreditNote.class);
   }
+  /**
+   * Issue a credit note to adjust the amount of a finalized invoice. For a {@code status=open}
+   * invoice, a credit note reduces its {@code amount_due}. For a {@code status=paid} invoice, a
+   * credit note does not affect its {@code amount_due}. Instead, it can result in any combination
+   * of the following:
+   *
+   * <p>
+   *
+   * <ul>
+   *   <li>Refund: create a new refund (using {@code refund_amount}) or link an existing refund
+   *       (using {@code refund}).
+   *   <li>Customer balance credit: credit the customer’s balance (using {@code credit_amount})
+   *       which will be automatically applied to their next invoice when it’s finalized.
+   *   <li>Outside of Stripe credit: record the amount that is or will be credited outside of Stripe
+   *       (using {@code out_of_band_amount}).
+   * </ul>
+   *
+   * <p>For post-payment credit notes the sum of the refund, credit and outside of Stripe amounts
+   * must equal the credit note total.
+   *
+   * <p>You may issue multiple credit notes for an invoice. Each credit note will increment the
+   * invoice’s {@code pre_payment_credit_notes_amount} or {@code post_payment_credit_notes_amount}
+   * depending on its {@code status} at the time of credit note creation.
+   */
+  public CompletableFuture<CreditNote> createAsync(
+      CreditNoteCreateParams params, RequestOptions options) {
+    String path = "/v1/credit_notes";
+    ApiRequest request =
+        new ApiRequest(
+            BaseAddress.API,
+            ApiResource.RequestMethod.POST,
+            path,
+            ApiRequestParams.paramsToMap(params),
+            options);
+    return this.requestAsync(request, CreditNote.class);
+  }
   /** Retrieves the credit note object with the given identifier. */
   public CreditNote retrieve(String id, CreditNoteRetrieveParams params) throws StripeException {
     return retrieve(id, params, (RequestOptions) null);
@@ -137,6 +187,21 @@ public final class CreditNoteService extends ApiService {
             options);
     return this.request(request, CreditNote.class);
   }
+  /** Retrieves the credit note object with the given identifier. */
+  public CompletableFuture<CreditNote> retrieveAsync(
+      String id, CreditNoteRetrieveParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path = String.format("/v1/credit_notes/%s", ApiResource.urlEncodeId(id));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.GET,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        CreditNote.class);
+  }
   /** Updates an existing credit note. */
   public CreditNote update(String id, CreditNoteUpdateParams params) throws StripeException {
     return update(id, params, (RequestOptions) null);
@@ -162,6 +227,21 @@ public final class CreditNoteService extends ApiService {
             options);
     return this.request(request, CreditNote.class);
   }
+  /** Updates an existing credit note. */
+  public CompletableFuture<CreditNote> updateAsync(
+      String id, CreditNoteUpdateParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path = String.format("/v1/credit_notes/%s", ApiResource.urlEncodeId(id));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.POST,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        CreditNote.class);
+  }
   /** Get a preview of a credit note without creating it. */
   public CreditNote preview(CreditNotePreviewParams params) throws StripeException {
     return preview(params, (RequestOptions) null);
@@ -179,6 +259,19 @@ public final class CreditNoteService extends ApiService {
             options);
     return this.request(request, CreditNote.class);
   }
+  /** Get a preview of a credit note without creating it. */
+  public CompletableFuture<CreditNote> previewAsync(
+      CreditNotePreviewParams params, RequestOptions options) {
+    String path = "/v1/credit_notes/preview";
+    ApiRequest request =
+        new ApiRequest(
+            BaseAddress.API,
+            ApiResource.RequestMethod.GET,
+            path,
+            ApiRequestParams.paramsToMap(params),
+            options);
+    return this.requestAsync(request, CreditNote.class);
+  }
   /**
    * Marks a credit note as void. Learn more about <a
    * href="https://stripe.com/docs/billing/invoices/credit-notes#voiding">voiding credit notes</a>.
@@ -218,6 +311,24 @@ public final class CreditNoteService extends ApiService {
             options);
     return this.request(request, CreditNote.class);
   }
+  /**
+   * Marks a credit note as void. Learn more about <a
+   * href="https://stripe.com/docs/billing/invoices/credit-notes#voiding">voiding credit notes</a>.
+   */
+  public CompletableFuture<CreditNote> voidCreditNoteAsync(
+      String id, CreditNoteVoidCreditNoteParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path = String.format("/v1/credit_notes/%s/void", ApiResource.urlEncodeId(id));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.POST,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        CreditNote.class);
+  }
 
   public com.stripe.service.CreditNoteLineItemService lineItems() {
     return new com.stripe.service.CreditNoteLineItemService(this.getResponseGetter());
@@ -16,6 +16,7 @@ import com.stripe.param.CustomerBalanceTransactionCreateParams;
 import com.stripe.param.CustomerBalanceTransactionListParams;
 import com.stripe.param.CustomerBalanceTransactionRetrieveParams;
 import com.stripe.param.CustomerBalanceTransactionUpdateParams;
+import java.util.concurrent.CompletableFuture;
 
 public final class CustomerBalanceTransactionService extends ApiService {
   public CustomerBalanceTransactionService(StripeResponseGetter responseGetter) {
@@ -64,6 +65,26 @@ public final class CustomerBalanceTransactionService extends ApiService {
     return this.request(
         request, new TypeToken<StripeCollection<CustomerBalanceTransaction>>() {}.getType());
   }
+  /**
+   * Returns a list of transactions that updated the customer’s <a
+   * href="https://stripe.com/docs/billing/customer/balance">balances</a>.
+   */
+  public CompletableFuture<StripeCollection<CustomerBalanceTransaction>> listAsync(
+      String customer, CustomerBalanceTransactionListParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path =
+              String.format(
+                  "/v1/customers/%s/balance_transactions", ApiResource.urlEncodeId(customer));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.GET,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        new TypeToken<StripeCollection<CustomerBalanceTransaction>>() {}.getType());
+  }
   /**
    * Creates an immutable transaction that updates the customer’s credit <a
    * href="https://stripe.com/docs/billing/customer/balance">balance</a>.
@@ -90,6 +111,26 @@ public final class CustomerBalanceTransactionService extends ApiService {
             options);
     return this.request(request, CustomerBalanceTransaction.class);
   }
+  /**
+   * Creates an immutable transaction that updates the customer’s credit <a
+   * href="https://stripe.com/docs/billing/customer/balance">balance</a>.
+   */
+  public CompletableFuture<CustomerBalanceTransaction> createAsync(
+      String customer, CustomerBalanceTransactionCreateParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path =
+              String.format(
+                  "/v1/customers/%s/balance_transactions", ApiResource.urlEncodeId(customer));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.POST,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        CustomerBalanceTransaction.class);
+  }
   /**
    * Retrieves a specific customer balance transaction that updated the customer’s <a
    * href="https://stripe.com/docs/billing/customer/balance">balances</a>.
@@ -143,6 +184,30 @@ public final class CustomerBalanceTransactionService extends ApiService {
             options);
     return this.request(request, CustomerBalanceTransaction.class);
   }
+  /**
+   * Retrieves a specific customer balance transaction that updated the customer’s <a
+   * href="https://stripe.com/docs/billing/customer/balance">balances</a>.
+   */
+  public CompletableFuture<CustomerBalanceTransaction> retrieveAsync(
+      String customer,
+      String transaction,
+      CustomerBalanceTransactionRetrieveParams params,
+      RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path =
+              String.format(
+                  "/v1/customers/%s/balance_transactions/%s",
+                  ApiResource.urlEncodeId(customer), ApiResource.urlEncodeId(transaction));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.GET,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        CustomerBalanceTransaction.class);
+  }
   /**
    * Most credit balance transaction fields are immutable, but you may update its {@code
    * description} and {@code metadata}.
@@ -195,4 +260,28 @@ public final class CustomerBalanceTransactionService extends ApiService {
             options);
     return this.request(request, CustomerBalanceTransaction.class);
   }
+  /**
+   * Most credit balance transaction fields are immutable, but you may update its {@code
+   * description} and {@code metadata}.
+   */
+  public CompletableFuture<CustomerBalanceTransaction> updateAsync(
+      String customer,
+      String transaction,
+      CustomerBalanceTransactionUpdateParams params,
+      RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path =
+              String.format(
+                  "/v1/customers/%s/balance_transactions/%s",
+                  ApiResource.urlEncodeId(customer), ApiResource.urlEncodeId(transaction));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.POST,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        CustomerBalanceTransaction.class);
+  }
 }
@@ -12,6 +12,7 @@ import com.stripe.net.RequestOptions;
 import com.stripe.net.StripeResponseGetter;
 import com.stripe.param.CustomerCashBalanceRetrieveParams;
 import com.stripe.param.CustomerCashBalanceUpdateParams;
+import java.util.concurrent.CompletableFuture;
 
 public final class CustomerCashBalanceService extends ApiService {
   public CustomerCashBalanceService(StripeResponseGetter responseGetter) {
@@ -45,6 +46,22 @@ public final class CustomerCashBalanceService extends ApiService {
             options);
     return this.request(request, CashBalance.class);
   }
+  /** Retrieves a customer’s cash balance. */
+  public CompletableFuture<CashBalance> retrieveAsync(
+      String customer, CustomerCashBalanceRetrieveParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path =
+              String.format("/v1/customers/%s/cash_balance", ApiResource.urlEncodeId(customer));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.GET,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        CashBalance.class);
+  }
   /** Changes the settings on a customer’s cash balance. */
   public CashBalance update(String customer, CustomerCashBalanceUpdateParams params)
       throws StripeException {
@@ -72,4 +89,20 @@ public final class CustomerCashBalanceService extends ApiService {
             options);
     return this.request(request, CashBalance.class);
   }
+  /** Changes the settings on a customer’s cash balance. */
+  public CompletableFuture<CashBalance> updateAsync(
+      String customer, CustomerCashBalanceUpdateParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path =
+              String.format("/v1/customers/%s/cash_balance", ApiResource.urlEncodeId(customer));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.POST,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        CashBalance.class);
+  }
 }
@@ -14,6 +14,7 @@ import com.stripe.net.RequestOptions;
 import com.stripe.net.StripeResponseGetter;
 import com.stripe.param.CustomerCashBalanceTransactionListParams;
 import com.stripe.param.CustomerCashBalanceTransactionRetrieveParams;
+import java.util.concurrent.CompletableFuture;
 
 public final class CustomerCashBalanceTransactionService extends ApiService {
   public CustomerCashBalanceTransactionService(StripeResponseGetter responseGetter) {
@@ -64,6 +65,26 @@ public final class CustomerCashBalanceTransactionService extends ApiService {
     return this.request(
         request, new TypeToken<StripeCollection<CustomerCashBalanceTransaction>>() {}.getType());
   }
+  /**
+   * Returns a list of transactions that modified the customer’s <a
+   * href="https://stripe.com/docs/payments/customer-balance">cash balance</a>.
+   */
+  public CompletableFuture<StripeCollection<CustomerCashBalanceTransaction>> listAsync(
+      String customer, CustomerCashBalanceTransactionListParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path =
+              String.format(
+                  "/v1/customers/%s/cash_balance_transactions", ApiResource.urlEncodeId(customer));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.GET,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        new TypeToken<StripeCollection<CustomerCashBalanceTransaction>>() {}.getType());
+  }
   /**
    * Retrieves a specific cash balance transaction, which updated the customer’s <a
    * href="https://stripe.com/docs/payments/customer-balance">cash balance</a>.
@@ -117,4 +138,28 @@ public final class CustomerCashBalanceTransactionService extends ApiService {
             options);
     return this.request(request, CustomerCashBalanceTransaction.class);
   }
+  /**
+   * Retrieves a specific cash balance transaction, which updated the customer’s <a
+   * href="https://stripe.com/docs/payments/customer-balance">cash balance</a>.
+   */
+  public CompletableFuture<CustomerCashBalanceTransaction> retrieveAsync(
+      String customer,
+      String transaction,
+      CustomerCashBalanceTransactionRetrieveParams params,
+      RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path =
+              String.format(
+                  "/v1/customers/%s/cash_balance_transactions/%s",
+                  ApiResource.urlEncodeId(customer), ApiResource.urlEncodeId(transaction));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.GET,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        CustomerCashBalanceTransaction.class);
+  }
 }
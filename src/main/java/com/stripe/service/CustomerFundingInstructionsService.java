@@ -11,6 +11,7 @@ import com.stripe.net.BaseAddress;
 import com.stripe.net.RequestOptions;
 import com.stripe.net.StripeResponseGetter;
 import com.stripe.param.CustomerFundingInstructionsCreateParams;
+import java.util.concurrent.CompletableFuture;
 
 public final class CustomerFundingInstructionsService extends ApiService {
   public CustomerFundingInstructionsService(StripeResponseGetter responseGetter) {
@@ -47,4 +48,26 @@ public final class CustomerFundingInstructionsService extends ApiService {
             options);
     return this.request(request, FundingInstructions.class);
   }
+  /**
+   * Retrieve funding instructions for a customer cash balance. If funding instructions do not yet
+   * exist for the customer, new funding instructions will be created. If funding instructions have
+   * already been created for a given customer, the same funding instructions will be retrieved. In
+   * other words, we will return the same funding instructions each time.
+   */
+  public CompletableFuture<FundingInstructions> createAsync(
+      String customer, CustomerFundingInstructionsCreateParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path =
+              String.format(
+                  "/v1/customers/%s/funding_instructions", ApiResource.urlEncodeId(customer));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.POST,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        FundingInstructions.class);
+  }
 }
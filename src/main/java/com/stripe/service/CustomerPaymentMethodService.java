@@ -14,6 +14,7 @@ import com.stripe.net.RequestOptions;
 import com.stripe.net.StripeResponseGetter;
 import com.stripe.param.CustomerPaymentMethodListParams;
 import com.stripe.param.CustomerPaymentMethodRetrieveParams;
+import java.util.concurrent.CompletableFuture;
 
 public final class CustomerPaymentMethodService extends ApiService {
   public CustomerPaymentMethodService(StripeResponseGetter responseGetter) {
@@ -49,6 +50,22 @@ public final class CustomerPaymentMethodService extends ApiService {
             options);
     return this.request(request, new TypeToken<StripeCollection<PaymentMethod>>() {}.getType());
   }
+  /** Returns a list of PaymentMethods for a given Customer. */
+  public CompletableFuture<StripeCollection<PaymentMethod>> listAsync(
+      String customer, CustomerPaymentMethodListParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path =
+              String.format("/v1/customers/%s/payment_methods", ApiResource.urlEncodeId(customer));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.GET,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        new TypeToken<StripeCollection<PaymentMethod>>() {}.getType());
+  }
   /** Retrieves a PaymentMethod object for a given Customer. */
   public PaymentMethod retrieve(
       String customer, String paymentMethod, CustomerPaymentMethodRetrieveParams params)
@@ -85,4 +102,25 @@ public final class CustomerPaymentMethodService extends ApiService {
             options);
     return this.request(request, PaymentMethod.class);
   }
+  /** Retrieves a PaymentMethod object for a given Customer. */
+  public CompletableFuture<PaymentMethod> retrieveAsync(
+      String customer,
+      String paymentMethod,
+      CustomerPaymentMethodRetrieveParams params,
+      RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path =
+              String.format(
+                  "/v1/customers/%s/payment_methods/%s",
+                  ApiResource.urlEncodeId(customer), ApiResource.urlEncodeId(paymentMethod));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.GET,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        PaymentMethod.class);
+  }
 }
@@ -19,6 +19,7 @@ import com.stripe.param.CustomerPaymentSourceListParams;
 import com.stripe.param.CustomerPaymentSourceRetrieveParams;
 import com.stripe.param.CustomerPaymentSourceUpdateParams;
 import com.stripe.param.CustomerPaymentSourceVerifyParams;
+import java.util.concurrent.CompletableFuture;
 
 public final class CustomerPaymentSourceService extends ApiService {
   public CustomerPaymentSourceService(StripeResponseGetter responseGetter) {
@@ -53,6 +54,22 @@ public final class CustomerPaymentSourceService extends ApiService {
             options);
     return this.request(request, new TypeToken<StripeCollection<PaymentSource>>() {}.getType());
   }
+  /** List sources for a specified customer. */
+  public CompletableFuture<StripeCollection<PaymentSource>> listAsync(
+      String customer, CustomerPaymentSourceListParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path =
+              String.format("/v1/customers/%s/sources", ApiResource.urlEncodeId(customer));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.GET,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        new TypeToken<StripeCollection<PaymentSource>>() {}.getType());
+  }
   /**
    * When you create a new credit card, you must specify a customer or recipient on which to create
    * it.
@@ -88,6 +105,30 @@ public final class CustomerPaymentSourceService extends ApiService {
             options);
     return this.request(request, PaymentSource.class);
   }
+  /**
+   * When you create a new credit card, you must specify a customer or recipient on which to create
+   * it.
+   *
+   * <p>If the card’s owner has no default card, then the new card will become the default. However,
+   * if the owner already has a default, then it will not change. To change the default, you should
+   * <a href="https://stripe.com/docs/api#update_customer">update the customer</a> to have a new
+   * {@code default_source}.
+   */
+  public CompletableFuture<PaymentSource> createAsync(
+      String customer, CustomerPaymentSourceCreateParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path =
+              String.format("/v1/customers/%s/sources", ApiResource.urlEncodeId(customer));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.POST,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        PaymentSource.class);
+  }
   /** Retrieve a specified source for a given customer. */
   public PaymentSource retrieve(
       String customer, String id, CustomerPaymentSourceRetrieveParams params)
@@ -124,6 +165,27 @@ public final class CustomerPaymentSourceService extends ApiService {
             options);
     return this.request(request, PaymentSource.class);
   }
+  /** Retrieve a specified source for a given customer. */
+  public CompletableFuture<PaymentSource> retrieveAsync(
+      String customer,
+      String id,
+      CustomerPaymentSourceRetrieveParams params,
+      RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path =
+              String.format(
+                  "/v1/customers/%s/sources/%s",
+                  ApiResource.urlEncodeId(customer), ApiResource.urlEncodeId(id));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.GET,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        PaymentSource.class);
+  }
   /** Update a specified source for a given customer. */
   public PaymentSource update(String customer, String id, CustomerPaymentSourceUpdateParams params)
       throws StripeException {
@@ -155,6 +217,27 @@ public final class CustomerPaymentSourceService extends ApiService {
             options);
     return this.request(request, PaymentSource.class);
   }
+  /** Update a specified source for a given customer. */
+  public CompletableFuture<PaymentSource> updateAsync(
+      String customer,
+      String id,
+      CustomerPaymentSourceUpdateParams params,
+      RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path =
+              String.format(
+                  "/v1/customers/%s/sources/%s",
+                  ApiResource.urlEncodeId(customer), ApiResource.urlEncodeId(id));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.POST,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        PaymentSource.class);
+  }
   /** Delete a specified source for a given customer. */
   public PaymentSource delete(String customer, String id, CustomerPaymentSourceDeleteParams params)
       throws StripeException {
@@ -186,6 +269,27 @@ public final class CustomerPaymentSourceService extends ApiService {
             options);
     return this.request(request, PaymentSource.class);
   }
+  /** Delete a specified source for a given customer. */
+  public CompletableFuture<PaymentSource> deleteAsync(
+      String customer,
+      String id,
+      CustomerPaymentSourceDeleteParams params,
+      RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path =
+              String.format(
+                  "/v1/customers/%s/sources/%s",
+                  ApiResource.urlEncodeId(customer), ApiResource.urlEncodeId(id));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.DELETE,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        PaymentSource.class);
+  }
   /** Verify a specified bank account for a given customer. */
   public BankAccount verify(String customer, String id, CustomerPaymentSourceVerifyParams params)
       throws StripeException {
@@ -217,4 +321,25 @@ public final class CustomerPaymentSourceService extends ApiService {
             options);
     return this.request(request, BankAccount.class);
   }
+  /** Verify a specified bank account for a given customer. */
+  public CompletableFuture<BankAccount> verifyAsync(
+      String customer,
+      String id,
+      CustomerPaymentSourceVerifyParams params,
+      RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path =
+              String.format(
+                  "/v1/customers/%s/sources/%s/verify",
+                  ApiResource.urlEncodeId(customer), ApiResource.urlEncodeId(id));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.POST,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        BankAccount.class);
+  }
 }
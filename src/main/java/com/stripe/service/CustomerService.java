@@ -19,6 +19,7 @@ import com.stripe.param.CustomerListParams;
 import com.stripe.param.CustomerRetrieveParams;
 import com.stripe.param.CustomerSearchParams;
 import com.stripe.param.CustomerUpdateParams;
+import java.util.concurrent.CompletableFuture;
 
 public final class CustomerService extends ApiService {
   public CustomerService(StripeResponseGetter responseGetter) {
@@ -42,6 +43,19 @@ public final class CustomerService extends ApiService {
         new ApiRequest(BaseAddress.API, ApiResource.RequestMethod.DELETE, path, null, options);
     return this.request(request, Customer.class);
   }
+  /**
+   * Permanently deletes a customer. It cannot be undone. Also immediately cancels any active
+   * subscriptions on the customer.
+   */
+  public CompletableFuture<Customer> deleteAsync(String customer, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path = String.format("/v1/customers/%s", ApiResource.urlEncodeId(customer));
+          return new ApiRequest(
+              BaseAddress.API, ApiResource.RequestMethod.DELETE, path, null, options);
+        },
+        Customer.class);
+  }
   /** Retrieves a Customer object. */
   public Customer retrieve(String customer, CustomerRetrieveParams params) throws StripeException {
     return retrieve(customer, params, (RequestOptions) null);
@@ -67,6 +81,21 @@ public final class CustomerService extends ApiService {
             options);
     return this.request(request, Customer.class);
   }
+  /** Retrieves a Customer object. */
+  public CompletableFuture<Customer> retrieveAsync(
+      String customer, CustomerRetrieveParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path = String.format("/v1/customers/%s", ApiResource.urlEncodeId(customer));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.GET,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        Customer.class);
+  }
   /**
    * Updates the specified customer by setting the values of the parameters passed. Any parameters
    * not provided will be left unchanged. For example, if you pass the <strong>source</strong>
@@ -144,6 +173,34 @@ public final class CustomerService extends ApiService {
             options);
     return this.request(request, Customer.class);
   }
+  /**
+   * Updates the specified customer by setting the values of the parameters passed. Any parameters
+   * not provided will be left unchanged. For example, if you pass the <strong>source</strong>
+   * parameter, that becomes the customer’s active source (e.g., a card) to be used for all charges
+   * in the future. When you update a customer to a new valid card source by passing the
+   * <strong>source</strong> parameter: for each of the customer’s current subscriptions, if the
+   * subscription bills automatically and is in the {@code past_due} state, then the latest open
+   * invoice for the subscription with automatic collection enabled will be retried. This retry will
+   * not count as an automatic retry, and will not affect the next regularly scheduled payment for
+   * the invoice. Changing the <strong>default_source</strong> for a customer will not trigger this
+   * behavior.
+   *
+   * <p>This request accepts mostly the same arguments as the customer creation call.
+   */
+  public CompletableFuture<Customer> updateAsync(
+      String customer, CustomerUpdateParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path = String.format("/v1/customers/%s", ApiResource.urlEncodeId(customer));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.POST,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        Customer.class);
+  }
   /** Removes the currently applied discount on a customer. */
   public Discount deleteDiscount(String customer) throws StripeException {
     return deleteDiscount(customer, (RequestOptions) null);
@@ -155,6 +212,17 @@ public final class CustomerService extends ApiService {
         new ApiRequest(BaseAddress.API, ApiResource.RequestMethod.DELETE, path, null, options);
     return this.request(request, Discount.class);
   }
+  /** Removes the currently applied discount on a customer. */
+  public CompletableFuture<Discount> deleteDiscountAsync(String customer, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path =
+              String.format("/v1/customers/%s/discount", ApiResource.urlEncodeId(customer));
+          return new ApiRequest(
+              BaseAddress.API, ApiResource.RequestMethod.DELETE, path, null, options);
+        },
+        Discount.class);
+  }
   /**
    * Returns a list of your customers. The customers are returned sorted by creation date, with the
    * most recent customers appearing first.
@@ -192,6 +260,22 @@ public final class CustomerService extends ApiService {
             options);
     return this.request(request, new TypeToken<StripeCollection<Customer>>() {}.getType());
   }
+  /**
+   * Returns a list of your customers. The customers are returned sorted by creation date, with the
+   * most recent customers appearing first.
+   */
+  public CompletableFuture<StripeCollection<Customer>> listAsync(
+      CustomerListParams params, RequestOptions options) {
+    String path = "/v1/customers";
+    ApiRequest request =
+        new ApiRequest(
+            BaseAddress.API,
+            ApiResource.RequestMethod.GET,
+            path,
+            ApiRequestParams.paramsToMap(params),
+            options);
+    return this.requestAsync(request, new TypeToken<StripeCollection<Customer>>() {}.getType());
+  }
   /** Creates a new customer object. */
   public Customer create(CustomerCreateParams params) throws StripeException {
     return create(params, (RequestOptions) null);
@@ -217,6 +301,19 @@ public final class CustomerService extends ApiService {
             options);
     return this.request(request, Customer.class);
   }
+  /** Creates a new customer object. */
+  public CompletableFuture<Customer> createAsync(
+      CustomerCreateParams params, RequestOptions options) {
+    String path = "/v1/customers";
+    ApiRequest request =
+        new ApiRequest(
+            BaseAddress.API,
+            ApiResource.RequestMethod.POST,
+            path,
+            ApiRequestParams.paramsToMap(params),
+            options);
+    return this.requestAsync(request, Customer.class);
+  }
   /**
    * Search for customers you’ve previously created using Stripe’s <a
    * href="https://stripe.com/docs/search#search-query-language">Search Query Language</a>. Don’t
@@ -248,6 +345,26 @@ public final class CustomerService extends ApiService {
             options);
     return this.request(request, new TypeToken<StripeSearchResult<Customer>>() {}.getType());
   }
+  /**
+   * Search for customers you’ve previously created using Stripe’s <a
+   * href="https://stripe.com/docs/search#search-query-language">Search Query Language</a>. Don’t
+   * use search in read-after-write flows where strict consistency is necessary. Under normal
+   * operating conditions, data is searchable in less than a minute. Occasionally, propagation of
+   * new or updated data can be up to an hour behind during outages. Search functionality is not
+   * available to merchants in India.
+   */
+  public CompletableFuture<StripeSearchResult<Customer>> searchAsync(
+      CustomerSearchParams params, RequestOptions options) {
+    String path = "/v1/customers/search";
+    ApiRequest request =
+        new ApiRequest(
+            BaseAddress.API,
+            ApiResource.RequestMethod.GET,
+            path,
+            ApiRequestParams.paramsToMap(params),
+            options);
+    return this.requestAsync(request, new TypeToken<StripeSearchResult<Customer>>() {}.getType());
+  }
 
   public com.stripe.service.CustomerBalanceTransactionService balanceTransactions() {
     return new com.stripe.service.CustomerBalanceTransactionService(this.getResponseGetter());
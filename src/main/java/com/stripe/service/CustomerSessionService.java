@@ -11,6 +11,7 @@ import com.stripe.net.BaseAddress;
 import com.stripe.net.RequestOptions;
 import com.stripe.net.StripeResponseGetter;
 import com.stripe.param.CustomerSessionCreateParams;
+import java.util.concurrent.CompletableFuture;
 
 public final class CustomerSessionService extends ApiService {
   public CustomerSessionService(StripeResponseGetter responseGetter) {
@@ -40,4 +41,20 @@ public final class CustomerSessionService extends ApiService {
             options);
     return this.request(request, CustomerSession.class);
   }
+  /**
+   * Creates a Customer Session object that includes a single-use client secret that you can use on
+   * your front-end to grant client-side API access for certain customer resources.
+   */
+  public CompletableFuture<CustomerSession> createAsync(
+      CustomerSessionCreateParams params, RequestOptions options) {
+    String path = "/v1/customer_sessions";
+    ApiRequest request =
+        new ApiRequest(
+            BaseAddress.API,
+            ApiResource.RequestMethod.POST,
+            path,
+            ApiRequestParams.paramsToMap(params),
+            options);
+    return this.requestAsync(request, CustomerSession.class);
+  }
 }
@@ -15,6 +15,7 @@ import com.stripe.net.StripeResponseGetter;
 import com.stripe.param.CustomerTaxIdCreateParams;
 import com.stripe.param.CustomerTaxIdListParams;
 import com.stripe.param.CustomerTaxIdRetrieveParams;
+import java.util.concurrent.CompletableFuture;
 
 public final class CustomerTaxIdService extends ApiService {
   public CustomerTaxIdService(StripeResponseGetter responseGetter) {
@@ -35,6 +36,19 @@ public final class CustomerTaxIdService extends ApiService {
         new ApiRequest(BaseAddress.API, ApiResource.RequestMethod.DELETE, path, null, options);
     return this.request(request, TaxId.class);
   }
+  /** Deletes an existing {@code tax_id} object. */
+  public CompletableFuture<TaxId> deleteAsync(String customer, String id, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path =
+              String.format(
+                  "/v1/customers/%s/tax_ids/%s",
+                  ApiResource.urlEncodeId(customer), ApiResource.urlEncodeId(id));
+          return new ApiRequest(
+              BaseAddress.API, ApiResource.RequestMethod.DELETE, path, null, options);
+        },
+        TaxId.class);
+  }
   /** Retrieves the {@code tax_id} object with the given identifier. */
   public TaxId retrieve(String customer, String id, CustomerTaxIdRetrieveParams params)
       throws StripeException {
@@ -65,6 +79,24 @@ public final class CustomerTaxIdService extends ApiService {
             options);
     return this.request(request, TaxId.class);
   }
+  /** Retrieves the {@code tax_id} object with the given identifier. */
+  public CompletableFuture<TaxId> retrieveAsync(
+      String customer, String id, CustomerTaxIdRetrieveParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path =
+              String.format(
+                  "/v1/customers/%s/tax_ids/%s",
+                  ApiResource.urlEncodeId(customer), ApiResource.urlEncodeId(id));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.GET,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        TaxId.class);
+  }
   /** Returns a list of tax IDs for a customer. */
   public StripeCollection<TaxId> list(String customer, CustomerTaxIdListParams params)
       throws StripeException {
@@ -93,6 +125,22 @@ public final class CustomerTaxIdService extends ApiService {
             options);
     return this.request(request, new TypeToken<StripeCollection<TaxId>>() {}.getType());
   }
+  /** Returns a list of tax IDs for a customer. */
+  public CompletableFuture<StripeCollection<TaxId>> listAsync(
+      String customer, CustomerTaxIdListParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path =
+              String.format("/v1/customers/%s/tax_ids", ApiResource.urlEncodeId(customer));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.GET,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        new TypeToken<StripeCollection<TaxId>>() {}.getType());
+  }
   /** Creates a new {@code tax_id} object for a customer. */
   public TaxId create(String customer, CustomerTaxIdCreateParams params) throws StripeException {
     return create(customer, params, (RequestOptions) null);
@@ -110,4 +158,20 @@ public final class CustomerTaxIdService extends ApiService {
             options);
     return this.request(request, TaxId.class);
   }
+  /** Creates a new {@code tax_id} object for a customer. */
+  public CompletableFuture<TaxId> createAsync(
+      String customer, CustomerTaxIdCreateParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path =
+              String.format("/v1/customers/%s/tax_ids", ApiResource.urlEncodeId(customer));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.POST,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        TaxId.class);
+  }
 }
@@ -16,6 +16,7 @@ import com.stripe.param.DisputeCloseParams;
 import com.stripe.param.DisputeListParams;
 import com.stripe.param.DisputeRetrieveParams;
 import com.stripe.param.DisputeUpdateParams;
+import java.util.concurrent.CompletableFuture;
 
 public final class DisputeService extends ApiService {
   public DisputeService(StripeResponseGetter responseGetter) {
@@ -47,6 +48,19 @@ public final class DisputeService extends ApiService {
             options);
     return this.request(request, new TypeToken<StripeCollection<Dispute>>() {}.getType());
   }
+  /** Returns a list of your disputes. */
+  public CompletableFuture<StripeCollection<Dispute>> listAsync(
+      DisputeListParams params, RequestOptions options) {
+    String path = "/v1/disputes";
+    ApiRequest request =
+        new ApiRequest(
+            BaseAddress.API,
+            ApiResource.RequestMethod.GET,
+            path,
+            ApiRequestParams.paramsToMap(params),
+            options);
+    return this.requestAsync(request, new TypeToken<StripeCollection<Dispute>>() {}.getType());
+  }
   /** Retrieves the dispute with the given ID. */
   public Dispute retrieve(String dispute, DisputeRetrieveParams params) throws StripeException {
     return retrieve(dispute, params, (RequestOptions) null);
@@ -72,6 +86,21 @@ public final class DisputeService extends ApiService {
             options);
     return this.request(request, Dispute.class);
   }
+  /** Retrieves the dispute with the given ID. */
+  public CompletableFuture<Dispute> retrieveAsync(
+      String dispute, DisputeRetrieveParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path = String.format("/v1/disputes/%s", ApiResource.urlEncodeId(dispute));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.GET,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        Dispute.class);
+  }
   /**
    * When you get a dispute, contacting your customer is always the best first step. If that doesn’t
    * work, you can submit evidence to help us resolve the dispute in your favor. You can do this in
@@ -133,6 +162,30 @@ public final class DisputeService extends ApiService {
             options);
     return this.request(request, Dispute.class);
   }
+  /**
+   * When you get a dispute, contacting your customer is always the best first step. If that doesn’t
+   * work, you can submit evidence to help us resolve the dispute in your favor. You can do this in
+   * your <a href="https://dashboard.stripe.com/disputes">dashboard</a>, but if you prefer, you can
+   * use the API to submit evidence programmatically.
+   *
+   * <p>Depending on your dispute type, different evidence fields will give you a better chance of
+   * winning your dispute. To figure out which evidence fields to provide, see our <a
+   * href="https://stripe.com/docs/disputes/categories">guide to dispute types</a>.
+   */
+  public CompletableFuture<Dispute> updateAsync(
+      String dispute, DisputeUpdateParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path = String.format("/v1/disputes/%s", ApiResource.urlEncodeId(dispute));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.POST,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        Dispute.class);
+  }
   /**
    * Closing the dispute for a charge indicates that you do not have any evidence to submit and are
    * essentially dismissing the dispute, acknowledging it as lost.
@@ -182,4 +235,25 @@ public final class DisputeService extends ApiService {
             options);
     return this.request(request, Dispute.class);
   }
+  /**
+   * Closing the dispute for a charge indicates that you do not have any evidence to submit and are
+   * essentially dismissing the dispute, acknowledging it as lost.
+   *
+   * <p>The status of the dispute will change from {@code needs_response} to {@code lost}.
+   * <em>Closing a dispute is irreversible</em>.
+   */
+  public CompletableFuture<Dispute> closeAsync(
+      String dispute, DisputeCloseParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path = String.format("/v1/disputes/%s/close", ApiResource.urlEncodeId(dispute));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.POST,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        Dispute.class);
+  }
 }
@@ -12,6 +12,7 @@ import com.stripe.net.RequestOptions;
 import com.stripe.net.StripeResponseGetter;
 import com.stripe.param.EphemeralKeyCreateParams;
 import com.stripe.param.EphemeralKeyDeleteParams;
+import java.util.concurrent.CompletableFuture;
 
 public final class EphemeralKeyService extends ApiService {
   public EphemeralKeyService(StripeResponseGetter responseGetter) {
@@ -43,6 +44,21 @@ public final class EphemeralKeyService extends ApiService {
             options);
     return this.request(request, EphemeralKey.class);
   }
+  /** Invalidates a short-lived API key for a given resource. */
+  public CompletableFuture<EphemeralKey> deleteAsync(
+      String key, EphemeralKeyDeleteParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path = String.format("/v1/ephemeral_keys/%s", ApiResource.urlEncodeId(key));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.DELETE,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        EphemeralKey.class);
+  }
   /** Creates a short-lived API key for a given resource. */
   public EphemeralKey create(EphemeralKeyCreateParams params) throws StripeException {
     return create(params, (RequestOptions) null);
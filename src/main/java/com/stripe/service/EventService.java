@@ -14,6 +14,7 @@ import com.stripe.net.RequestOptions;
 import com.stripe.net.StripeResponseGetter;
 import com.stripe.param.EventListParams;
 import com.stripe.param.EventRetrieveParams;
+import java.util.concurrent.CompletableFuture;
 
 public final class EventService extends ApiService {
   public EventService(StripeResponseGetter responseGetter) {
@@ -65,6 +66,24 @@ public final class EventService extends ApiService {
             options);
     return this.request(request, new TypeToken<StripeCollection<Event>>() {}.getType());
   }
+  /**
+   * List events, going back up to 30 days. Each event data is rendered according to Stripe API
+   * version at its creation time, specified in <a
+   * href="https://docs.stripe.com/api/events/object">event object</a> {@code api_version} attribute
+   * (not according to your current Stripe API version or {@code Stripe-Version} header).
+   */
+  public CompletableFuture<StripeCollection<Event>> listAsync(
+      EventListParams params, RequestOptions options) {
+    String path = "/v1/events";
+    ApiRequest request =
+        new ApiRequest(
+            BaseAddress.API,
+            ApiResource.RequestMethod.GET,
+            path,
+            ApiRequestParams.paramsToMap(params),
+            options);
+    return this.requestAsync(request, new TypeToken<StripeCollection<Event>>() {}.getType());
+  }
   /**
    * Retrieves the details of an event if it was created in the last 30 days. Supply the unique
    * identifier of the event, which you might have received in a webhook.
@@ -102,4 +121,22 @@ public final class EventService extends ApiService {
             options);
     return this.request(request, Event.class);
   }
+  /**
+   * Retrieves the details of an event if it was created in the last 30 days. Supply the unique
+   * identifier of the event, which you might have received in a webhook.
+   */
+  public CompletableFuture<Event> retrieveAsync(
+      String id, EventRetrieveParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path = String.format("/v1/events/%s", ApiResource.urlEncodeId(id));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.GET,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        Event.class);
+  }
 }
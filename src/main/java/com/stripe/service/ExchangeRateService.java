@@ -14,6 +14,7 @@ import com.stripe.net.RequestOptions;
 import com.stripe.net.StripeResponseGetter;
 import com.stripe.param.ExchangeRateListParams;
 import com.stripe.param.ExchangeRateRetrieveParams;
+import java.util.concurrent.CompletableFuture;
 
 public final class ExchangeRateService extends ApiService {
   public ExchangeRateService(StripeResponseGetter responseGetter) {
@@ -57,6 +58,22 @@ public final class ExchangeRateService extends ApiService {
             options);
     return this.request(request, new TypeToken<StripeCollection<ExchangeRate>>() {}.getType());
   }
+  /**
+   * Returns a list of objects that contain the rates at which foreign currencies are converted to
+   * one another. Only shows the currencies for which Stripe supports.
+   */
+  public CompletableFuture<StripeCollection<ExchangeRate>> listAsync(
+      ExchangeRateListParams params, RequestOptions options) {
+    String path = "/v1/exchange_rates";
+    ApiRequest request =
+        new ApiRequest(
+            BaseAddress.API,
+            ApiResource.RequestMethod.GET,
+            path,
+            ApiRequestParams.paramsToMap(params),
+            options);
+    return this.requestAsync(request, new TypeToken<StripeCollection<ExchangeRate>>() {}.getType());
+  }
   /** Retrieves the exchange rates from the given currency to every supported currency. */
   public ExchangeRate retrieve(String rateId, ExchangeRateRetrieveParams params)
       throws StripeException {
@@ -84,4 +101,19 @@ public final class ExchangeRateService extends ApiService {
             options);
     return this.request(request, ExchangeRate.class);
   }
+  /** Retrieves the exchange rates from the given currency to every supported currency. */
+  public CompletableFuture<ExchangeRate> retrieveAsync(
+      String rateId, ExchangeRateRetrieveParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path = String.format("/v1/exchange_rates/%s", ApiResource.urlEncodeId(rateId));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.GET,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        ExchangeRate.class);
+  }
 }
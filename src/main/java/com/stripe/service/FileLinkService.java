@@ -16,6 +16,7 @@ import com.stripe.param.FileLinkCreateParams;
 import com.stripe.param.FileLinkListParams;
 import com.stripe.param.FileLinkRetrieveParams;
 import com.stripe.param.FileLinkUpdateParams;
+import java.util.concurrent.CompletableFuture;
 
 public final class FileLinkService extends ApiService {
   public FileLinkService(StripeResponseGetter responseGetter) {
@@ -47,6 +48,19 @@ public final class FileLinkService extends ApiService {
             options);
     return this.request(request, new TypeToken<StripeCollection<FileLink>>() {}.getType());
   }
+  /** Returns a list of file links. */
+  public CompletableFuture<StripeCollection<FileLink>> listAsync(
+      FileLinkListParams params, RequestOptions options) {
+    String path = "/v1/file_links";
+    ApiRequest request =
+        new ApiRequest(
+            BaseAddress.API,
+            ApiResource.RequestMethod.GET,
+            path,
+            ApiRequestParams.paramsToMap(params),
+            options);
+    return this.requestAsync(request, new TypeToken<StripeCollection<FileLink>>() {}.getType());
+  }
   /** Creates a new file link object. */
   public FileLink create(FileLinkCreateParams params) throws StripeException {
     return create(params, (RequestOptions) null);
@@ -64,6 +78,19 @@ public final class FileLinkService extends ApiService {
             options);
     return this.request(request, FileLink.class);
   }
+  /** Creates a new file link object. */
+  public CompletableFuture<FileLink> createAsync(
+      FileLinkCreateParams params, RequestOptions options) {
+    String path = "/v1/file_links";
+    ApiRequest request =
+        new ApiRequest(
+            BaseAddress.API,
+            ApiResource.RequestMethod.POST,
+            path,
+            ApiRequestParams.paramsToMap(params),
+            options);
+    return this.requestAsync(request, FileLink.class);
+  }
   /** Retrieves the file link with the given ID. */
   public FileLink retrieve(String link, FileLinkRetrieveParams params) throws StripeException {
     return retrieve(link, params, (RequestOptions) null);
@@ -89,6 +116,21 @@ public final class FileLinkService extends ApiService {
             options);
     return this.request(request, FileLink.class);
   }
+  /** Retrieves the file link with the given ID. */
+  public CompletableFuture<FileLink> retrieveAsync(
+      String link, FileLinkRetrieveParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path = String.format("/v1/file_links/%s", ApiResource.urlEncodeId(link));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.GET,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        FileLink.class);
+  }
   /** Updates an existing file link object. Expired links can no longer be updated. */
   public FileLink update(String link, FileLinkUpdateParams params) throws StripeException {
     return update(link, params, (RequestOptions) null);
@@ -114,4 +156,19 @@ public final class FileLinkService extends ApiService {
             options);
     return this.request(request, FileLink.class);
   }
+  /** Updates an existing file link object. Expired links can no longer be updated. */
+  public CompletableFuture<FileLink> updateAsync(
+      String link, FileLinkUpdateParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path = String.format("/v1/file_links/%s", ApiResource.urlEncodeId(link));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.POST,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        FileLink.class);
+  }
 }
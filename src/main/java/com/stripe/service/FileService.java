@@ -15,6 +15,7 @@ import com.stripe.net.StripeResponseGetter;
 import com.stripe.param.FileCreateParams;
 import com.stripe.param.FileListParams;
 import com.stripe.param.FileRetrieveParams;
+import java.util.concurrent.CompletableFuture;
 
 public final class FileService extends ApiService {
   public FileService(StripeResponseGetter responseGetter) {
@@ -58,6 +59,22 @@ public final class FileService extends ApiService {
             options);
     return this.request(request, new TypeToken<StripeCollection<File>>() {}.getType());
   }
+  /**
+   * Returns a list of the files that your account has access to. Stripe sorts and returns the files
+   * by their creation dates, placing the most recently created files at the top.
+   */
+  public CompletableFuture<StripeCollection<File>> listAsync(
+      FileListParams params, RequestOptions options) {
+    String path = "/v1/files";
+    ApiRequest request =
+        new ApiRequest(
+            BaseAddress.API,
+            ApiResource.RequestMethod.GET,
+            path,
+            ApiRequestParams.paramsToMap(params),
+            options);
+    return this.requestAsync(request, new TypeToken<StripeCollection<File>>() {}.getType());
+  }
   /**
    * To upload a file to Stripe, you need to send a request of type {@code multipart/form-data}.
    * Include the file you want to upload in the request, and the parameters for creating a file.
@@ -86,6 +103,24 @@ public final class FileService extends ApiService {
             options);
     return this.request(request, File.class);
   }
+  /**
+   * To upload a file to Stripe, you need to send a request of type {@code multipart/form-data}.
+   * Include the file you want to upload in the request, and the parameters for creating a file.
+   *
+   * <p>All of Stripe’s officially supported Client libraries support sending {@code
+   * multipart/form-data}.
+   */
+  public CompletableFuture<File> createAsync(FileCreateParams params, RequestOptions options) {
+    String path = "/v1/files";
+    ApiRequest request =
+        new ApiRequest(
+            BaseAddress.FILES,
+            ApiResource.RequestMethod.POST,
+            path,
+            ApiRequestParams.paramsToMap(params),
+            options);
+    return this.requestAsync(request, File.class);
+  }
   /**
    * Retrieves the details of an existing file object. After you supply a unique file ID, Stripe
    * returns the corresponding file object. Learn how to <a
@@ -127,4 +162,23 @@ public final class FileService extends ApiService {
             options);
     return this.request(request, File.class);
   }
+  /**
+   * Retrieves the details of an existing file object. After you supply a unique file ID, Stripe
+   * returns the corresponding file object. Learn how to <a
+   * href="https://stripe.com/docs/file-upload#download-file-contents">access file contents</a>.
+   */
+  public CompletableFuture<File> retrieveAsync(
+      String file, FileRetrieveParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path = String.format("/v1/files/%s", ApiResource.urlEncodeId(file));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.GET,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        File.class);
+  }
 }
@@ -16,6 +16,7 @@ import com.stripe.param.InvoiceItemCreateParams;
 import com.stripe.param.InvoiceItemListParams;
 import com.stripe.param.InvoiceItemRetrieveParams;
 import com.stripe.param.InvoiceItemUpdateParams;
+import java.util.concurrent.CompletableFuture;
 
 public final class InvoiceItemService extends ApiService {
   public InvoiceItemService(StripeResponseGetter responseGetter) {
@@ -39,6 +40,19 @@ public final class InvoiceItemService extends ApiService {
         new ApiRequest(BaseAddress.API, ApiResource.RequestMethod.DELETE, path, null, options);
     return this.request(request, InvoiceItem.class);
   }
+  /**
+   * Deletes an invoice item, removing it from an invoice. Deleting invoice items is only possible
+   * when they’re not attached to invoices, or if it’s attached to a draft invoice.
+   */
+  public CompletableFuture<InvoiceItem> deleteAsync(String invoiceitem, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path = String.format("/v1/invoiceitems/%s", ApiResource.urlEncodeId(invoiceitem));
+          return new ApiRequest(
+              BaseAddress.API, ApiResource.RequestMethod.DELETE, path, null, options);
+        },
+        InvoiceItem.class);
+  }
   /** Retrieves the invoice item with the given ID. */
   public InvoiceItem retrieve(String invoiceitem, InvoiceItemRetrieveParams params)
       throws StripeException {
@@ -66,6 +80,21 @@ public final class InvoiceItemService extends ApiService {
             options);
     return this.request(request, InvoiceItem.class);
   }
+  /** Retrieves the invoice item with the given ID. */
+  public CompletableFuture<InvoiceItem> retrieveAsync(
+      String invoiceitem, InvoiceItemRetrieveParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path = String.format("/v1/invoiceitems/%s", ApiResource.urlEncodeId(invoiceitem));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.GET,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        InvoiceItem.class);
+  }
   /**
    * Updates the amount or description of an invoice item on an upcoming invoice. Updating an
    * invoice item is only possible before the invoice it’s attached to is closed.
@@ -105,6 +134,24 @@ public final class InvoiceItemService extends ApiService {
             options);
     return this.request(request, InvoiceItem.class);
   }
+  /**
+   * Updates the amount or description of an invoice item on an upcoming invoice. Updating an
+   * invoice item is only possible before the invoice it’s attached to is closed.
+   */
+  public CompletableFuture<InvoiceItem> updateAsync(
+      String invoiceitem, InvoiceItemUpdateParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path = String.format("/v1/invoiceitems/%s", ApiResource.urlEncodeId(invoiceitem));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.POST,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        InvoiceItem.class);
+  }
   /**
    * Returns a list of your invoice items. Invoice items are returned sorted by creation date, with
    * the most recently created invoice items appearing first.
@@ -142,6 +189,22 @@ public final class InvoiceItemService extends ApiService {
             options);
     return this.request(request, new TypeToken<StripeCollection<InvoiceItem>>() {}.getType());
   }
+  /**
+   * Returns a list of your invoice items. Invoice items are returned sorted by creation date, with
+   * the most recently created invoice items appearing first.
+   */
+  public CompletableFuture<StripeCollection<InvoiceItem>> listAsync(
+      InvoiceItemListParams params, RequestOptions options) {
+    String path = "/v1/invoiceitems";
+    ApiRequest request =
+        new ApiRequest(
+            BaseAddress.API,
+            ApiResource.RequestMethod.GET,
+            path,
+            ApiRequestParams.paramsToMap(params),
+            options);
+    return this.requestAsync(request, new TypeToken<StripeCollection<InvoiceItem>>() {}.getType());
+  }
   /**
    * Creates an item to be added to a draft invoice (up to 250 items per invoice). If no invoice is
    * specified, the item will be on the next invoice created for the customer specified.
@@ -165,4 +228,20 @@ public final class InvoiceItemService extends ApiService {
             options);
     return this.request(request, InvoiceItem.class);
   }
+  /**
+   * Creates an item to be added to a draft invoice (up to 250 items per invoice). If no invoice is
+   * specified, the item will be on the next invoice created for the customer specified.
+   */
+  public CompletableFuture<InvoiceItem> createAsync(
+      InvoiceItemCreateParams params, RequestOptions options) {
+    String path = "/v1/invoiceitems";
+    ApiRequest request =
+        new ApiRequest(
+            BaseAddress.API,
+            ApiResource.RequestMethod.POST,
+            path,
+            ApiRequestParams.paramsToMap(params),
+            options);
+    return this.requestAsync(request, InvoiceItem.class);
+  }
 }
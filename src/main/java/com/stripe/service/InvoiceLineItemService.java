@@ -14,6 +14,7 @@ import com.stripe.net.RequestOptions;
 import com.stripe.net.StripeResponseGetter;
 import com.stripe.param.InvoiceLineItemListParams;
 import com.stripe.param.InvoiceLineItemUpdateParams;
+import java.util.concurrent.CompletableFuture;
 
 public final class InvoiceLineItemService extends ApiService {
   public InvoiceLineItemService(StripeResponseGetter responseGetter) {
@@ -64,6 +65,25 @@ public final class InvoiceLineItemService extends ApiService {
             options);
     return this.request(request, new TypeToken<StripeCollection<InvoiceLineItem>>() {}.getType());
   }
+  /**
+   * When retrieving an invoice, you’ll get a <strong>lines</strong> property containing the total
+   * count of line items and the first handful of those items. There is also a URL where you can
+   * retrieve the full (paginated) list of line items.
+   */
+  public CompletableFuture<StripeCollection<InvoiceLineItem>> listAsync(
+      String invoice, InvoiceLineItemListParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path = String.format("/v1/invoices/%s/lines", ApiResource.urlEncodeId(invoice));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.GET,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        new TypeToken<StripeCollection<InvoiceLineItem>>() {}.getType());
+  }
   /**
    * Updates an invoice’s line item. Some fields, such as {@code tax_amounts}, only live on the
    * invoice line item, so they can only be updated through this endpoint. Other fields, such as
@@ -120,4 +140,31 @@ public final class InvoiceLineItemService extends ApiService {
             options);
     return this.request(request, InvoiceLineItem.class);
   }
+  /**
+   * Updates an invoice’s line item. Some fields, such as {@code tax_amounts}, only live on the
+   * invoice line item, so they can only be updated through this endpoint. Other fields, such as
+   * {@code amount}, live on both the invoice item and the invoice line item, so updates on this
+   * endpoint will propagate to the invoice item as well. Updating an invoice’s line item is only
+   * possible before the invoice is finalized.
+   */
+  public CompletableFuture<InvoiceLineItem> updateAsync(
+      String invoice,
+      String lineItemId,
+      InvoiceLineItemUpdateParams params,
+      RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path =
+              String.format(
+                  "/v1/invoices/%s/lines/%s",
+                  ApiResource.urlEncodeId(invoice), ApiResource.urlEncodeId(lineItemId));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.POST,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        InvoiceLineItem.class);
+  }
 }
@@ -16,6 +16,7 @@ import com.stripe.param.InvoiceRenderingTemplateArchiveParams;
 import com.stripe.param.InvoiceRenderingTemplateListParams;
 import com.stripe.param.InvoiceRenderingTemplateRetrieveParams;
 import com.stripe.param.InvoiceRenderingTemplateUnarchiveParams;
+import java.util.concurrent.CompletableFuture;
 
 public final class InvoiceRenderingTemplateService extends ApiService {
   public InvoiceRenderingTemplateService(StripeResponseGetter responseGetter) {
@@ -62,6 +63,23 @@ public final class InvoiceRenderingTemplateService extends ApiService {
     return this.request(
         request, new TypeToken<StripeCollection<InvoiceRenderingTemplate>>() {}.getType());
   }
+  /**
+   * List all templates, ordered by creation date, with the most recently created template appearing
+   * first.
+   */
+  public CompletableFuture<StripeCollection<InvoiceRenderingTemplate>> listAsync(
+      InvoiceRenderingTemplateListParams params, RequestOptions options) {
+    String path = "/v1/invoice_rendering_templates";
+    ApiRequest request =
+        new ApiRequest(
+            BaseAddress.API,
+            ApiResource.RequestMethod.GET,
+            path,
+            ApiRequestParams.paramsToMap(params),
+            options);
+    return this.requestAsync(
+        request, new TypeToken<StripeCollection<InvoiceRenderingTemplate>>() {}.getType());
+  }
   /**
    * Retrieves an invoice rendering template with the given ID. It by default returns the latest
    * version of the template. Optionally, specify a version to see previous versions.
@@ -103,6 +121,26 @@ public final class InvoiceRenderingTemplateService extends ApiService {
             options);
     return this.request(request, InvoiceRenderingTemplate.class);
   }
+  /**
+   * Retrieves an invoice rendering template with the given ID. It by default returns the latest
+   * version of the template. Optionally, specify a version to see previous versions.
+   */
+  public CompletableFuture<InvoiceRenderingTemplate> retrieveAsync(
+      String template, InvoiceRenderingTemplateRetrieveParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path =
+              String.format(
+                  "/v1/invoice_rendering_templates/%s", ApiResource.urlEncodeId(template));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.GET,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        InvoiceRenderingTemplate.class);
+  }
   /**
    * Updates the status of an invoice rendering template to ‘archived’ so no new Stripe objects
    * (customers, invoices, etc.) can reference it. The template can also no longer be updated.
@@ -153,6 +191,28 @@ public final class InvoiceRenderingTemplateService extends ApiService {
             options);
     return this.request(request, InvoiceRenderingTemplate.class);
   }
+  /**
+   * Updates the status of an invoice rendering template to ‘archived’ so no new Stripe objects
+   * (customers, invoices, etc.) can reference it. The template can also no longer be updated.
+   * However, if the template is already set on a Stripe object, it will continue to be applied on
+   * invoices generated by it.
+   */
+  public CompletableFuture<InvoiceRenderingTemplate> archiveAsync(
+      String template, InvoiceRenderingTemplateArchiveParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path =
+              String.format(
+                  "/v1/invoice_rendering_templates/%s/archive", ApiResource.urlEncodeId(template));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.POST,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        InvoiceRenderingTemplate.class);
+  }
   /** Unarchive an invoice rendering template so it can be used on new Stripe objects again. */
   public InvoiceRenderingTemplate unarchive(
       String template, InvoiceRenderingTemplateUnarchiveParams params) throws StripeException {
@@ -184,4 +244,22 @@ public final class InvoiceRenderingTemplateService extends ApiService {
             options);
     return this.request(request, InvoiceRenderingTemplate.class);
   }
+  /** Unarchive an invoice rendering template so it can be used on new Stripe objects again. */
+  public CompletableFuture<InvoiceRenderingTemplate> unarchiveAsync(
+      String template, InvoiceRenderingTemplateUnarchiveParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path =
+              String.format(
+                  "/v1/invoice_rendering_templates/%s/unarchive",
+                  ApiResource.urlEncodeId(template));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.POST,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        InvoiceRenderingTemplate.class);
+  }
 }
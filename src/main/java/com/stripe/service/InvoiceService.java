@@ -28,6 +28,7 @@ import com.stripe.param.InvoiceUpcomingParams;
 import com.stripe.param.InvoiceUpdateLinesParams;
 import com.stripe.param.InvoiceUpdateParams;
 import com.stripe.param.InvoiceVoidInvoiceParams;
+import java.util.concurrent.CompletableFuture;
 
 public final class InvoiceService extends ApiService {
   public InvoiceService(StripeResponseGetter responseGetter) {
@@ -55,6 +56,21 @@ public final class InvoiceService extends ApiService {
         new ApiRequest(BaseAddress.API, ApiResource.RequestMethod.DELETE, path, null, options);
     return this.request(request, Invoice.class);
   }
+  /**
+   * Permanently deletes a one-off invoice draft. This cannot be undone. Attempts to delete invoices
+   * that are no longer in a draft state will fail; once an invoice has been finalized or if an
+   * invoice is for a subscription, it must be <a
+   * href="https://stripe.com/docs/api#void_invoice">voided</a>.
+   */
+  public CompletableFuture<Invoice> deleteAsync(String invoice, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path = String.format("/v1/invoices/%s", ApiResource.urlEncodeId(invoice));
+          return new ApiRequest(
+              BaseAddress.API, ApiResource.RequestMethod.DELETE, path, null, options);
+        },
+        Invoice.class);
+  }
   /** Retrieves the invoice with the given ID. */
   public Invoice retrieve(String invoice, InvoiceRetrieveParams params) throws StripeException {
     return retrieve(invoice, params, (RequestOptions) null);
@@ -80,6 +96,21 @@ public final class InvoiceService extends ApiService {
             options);
     return this.request(request, Invoice.class);
   }
+  /** Retrieves the invoice with the given ID. */
+  public CompletableFuture<Invoice> retrieveAsync(
+      String invoice, InvoiceRetrieveParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path = String.format("/v1/invoices/%s", ApiResource.urlEncodeId(invoice));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.GET,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        Invoice.class);
+  }
   /**
    * Draft invoices are fully editable. Once an invoice is <a
    * href="https://stripe.com/docs/billing/invoices/workflow#finalized">finalized</a>, monetary
@@ -141,6 +172,30 @@ public final class InvoiceService extends ApiService {
             options);
     return this.request(request, Invoice.class);
   }
+  /**
+   * Draft invoices are fully editable. Once an invoice is <a
+   * href="https://stripe.com/docs/billing/invoices/workflow#finalized">finalized</a>, monetary
+   * values, as well as {@code collection_method}, become uneditable.
+   *
+   * <p>If you would like to stop the Stripe Billing engine from automatically finalizing,
+   * reattempting payments on, sending reminders for, or <a
+   * href="https://stripe.com/docs/billing/invoices/reconciliation">automatically reconciling</a>
+   * invoices, pass {@code auto_advance=false}.
+   */
+  public CompletableFuture<Invoice> updateAsync(
+      String invoice, InvoiceUpdateParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path = String.format("/v1/invoices/%s", ApiResource.urlEncodeId(invoice));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.POST,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        Invoice.class);
+  }
   /**
    * You can list all invoices, or list the invoices for a specific customer. The invoices are
    * returned sorted by creation date, with the most recently created invoices appearing first.
@@ -178,6 +233,22 @@ public final class InvoiceService extends ApiService {
             options);
     return this.request(request, new TypeToken<StripeCollection<Invoice>>() {}.getType());
   }
+  /**
+   * You can list all invoices, or list the invoices for a specific customer. The invoices are
+   * returned sorted by creation date, with the most recently created invoices appearing first.
+   */
+  public CompletableFuture<StripeCollection<Invoice>> listAsync(
+      InvoiceListParams params, RequestOptions options) {
+    String path = "/v1/invoices";
+    ApiRequest request =
+        new ApiRequest(
+            BaseAddress.API,
+            ApiResource.RequestMethod.GET,
+            path,
+            ApiRequestParams.paramsToMap(params),
+            options);
+    return this.requestAsync(request, new TypeToken<StripeCollection<Invoice>>() {}.getType());
+  }
   /**
    * This endpoint creates a draft invoice for a given customer. The invoice remains a draft until
    * you <a href="https://stripe.com/docs/api#finalize_invoice">finalize</a> the invoice, which
@@ -222,6 +293,24 @@ public final class InvoiceService extends ApiService {
             options);
     return this.request(request, Invoice.class);
   }
+  /**
+   * This endpoint creates a draft invoice for a given customer. The invoice remains a draft until
+   * you <a href="https://stripe.com/docs/api#finalize_invoice">finalize</a> the invoice, which
+   * allows you to <a href="https://stripe.com/docs/api#pay_invoice">pay</a> or <a
+   * href="https://stripe.com/docs/api#send_invoice">send</a> the invoice to your customers.
+   */
+  public CompletableFuture<Invoice> createAsync(
+      InvoiceCreateParams params, RequestOptions options) {
+    String path = "/v1/invoices";
+    ApiRequest request =
+        new ApiRequest(
+            BaseAddress.API,
+            ApiResource.RequestMethod.POST,
+            path,
+            ApiRequestParams.paramsToMap(params),
+            options);
+    return this.requestAsync(request, Invoice.class);
+  }
   /**
    * Search for invoices you’ve previously created using Stripe’s <a
    * href="https://stripe.com/docs/search#search-query-language">Search Query Language</a>. Don’t
@@ -253,6 +342,26 @@ public final class InvoiceService extends ApiService {
             options);
     return this.request(request, new TypeToken<StripeSearchResult<Invoice>>() {}.getType());
   }
+  /**
+   * Search for invoices you’ve previously created using Stripe’s <a
+   * href="https://stripe.com/docs/search#search-query-language">Search Query Language</a>. Don’t
+   * use search in read-after-write flows where strict consistency is necessary. Under normal
+   * operating conditions, data is searchable in less than a minute. Occasionally, propagation of
+   * new or updated data can be up to an hour behind during outages. Search functionality is not
+   * available to merchants in India.
+   */
+  public CompletableFuture<StripeSearchResult<Invoice>> searchAsync(
+      InvoiceSearchParams params, RequestOptions options) {
+    String path = "/v1/invoices/search";
+    ApiRequest request =
+        new ApiRequest(
+            BaseAddress.API,
+            ApiResource.RequestMethod.GET,
+            path,
+            ApiRequestParams.paramsToMap(params),
+            options);
+    return this.requestAsync(request, new TypeToken<StripeSearchResult<Invoice>>() {}.getType());
+  }
   /**
    * At any time, you can preview the upcoming invoice for a customer. This will show you all the
    * charges that are pending, including subscription renewal charges, invoice item charges, etc. It
@@ -362,6 +471,40 @@ public final class InvoiceService extends ApiService {
             options);
     return this.request(request, Invoice.class);
   }
+  /**
+   * At any time, you can preview the upcoming invoice for a customer. This will show you all the
+   * charges that are pending, including subscription renewal charges, invoice item charges, etc. It
+   * will also show you any discounts that are applicable to the invoice.
+   *
+   * <p>Note that when you are viewing an upcoming invoice, you are simply viewing a preview – the
+   * invoice has not yet been created. As such, the upcoming invoice will not show up in invoice
+   * listing calls, and you cannot use the API to pay or edit the invoice. If you want to change the
+   * amount that your customer will be billed, you can add, remove, or update pending invoice items,
+   * or update the customer’s discount.
+   *
+   * <p>You can preview the effects of updating a subscription, including a preview of what
+   * proration will take place. To ensure that the actual proration is calculated exactly the same
+   * as the previewed proration, you should pass the {@code subscription_details.proration_date}
+   * parameter when doing the actual subscription update. The recommended way to get only the
+   * prorations being previewed is to consider only proration line items where {@code period[start]}
+   * is equal to the {@code subscription_details.proration_date} value passed in the request.
+   *
+   * <p>Note: Currency conversion calculations use the latest exchange rates. Exchange rates may
+   * vary between the time of the preview and the time of the actual invoice creation. <a
+   * href="https://docs.stripe.com/currencies/conversions">Learn more</a>
+   */
+  public CompletableFuture<Invoice> upcomingAsync(
+      InvoiceUpcomingParams params, RequestOptions options) {
+    String path = "/v1/invoices/upcoming";
+    ApiRequest request =
+        new ApiRequest(
+            BaseAddress.API,
+            ApiResource.RequestMethod.GET,
+            path,
+            ApiRequestParams.paramsToMap(params),
+            options);
+    return this.requestAsync(request, Invoice.class);
+  }
   /**
    * Adds multiple line items to an invoice. This is only possible when an invoice is still a draft.
    */
@@ -383,6 +526,24 @@ public final class InvoiceService extends ApiService {
             options);
     return this.request(request, Invoice.class);
   }
+  /**
+   * Adds multiple line items to an invoice. This is only possible when an invoice is still a draft.
+   */
+  public CompletableFuture<Invoice> addLinesAsync(
+      String invoice, InvoiceAddLinesParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path =
+              String.format("/v1/invoices/%s/add_lines", ApiResource.urlEncodeId(invoice));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.POST,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        Invoice.class);
+  }
   /**
    * Stripe automatically finalizes drafts before sending and attempting payment on invoices.
    * However, if you’d like to finalize a draft invoice manually, you can do so using this method.
@@ -422,6 +583,24 @@ public final class InvoiceService extends ApiService {
             options);
     return this.request(request, Invoice.class);
   }
+  /**
+   * Stripe automatically finalizes drafts before sending and attempting payment on invoices.
+   * However, if you’d like to finalize a draft invoice manually, you can do so using this method.
+   */
+  public CompletableFuture<Invoice> finalizeInvoiceAsync(
+      String invoice, InvoiceFinalizeInvoiceParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path = String.format("/v1/invoices/%s/finalize", ApiResource.urlEncodeId(invoice));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.POST,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        Invoice.class);
+  }
   /**
    * Marking an invoice as uncollectible is useful for keeping track of bad debts that can be
    * written off for accounting purposes.
@@ -462,6 +641,25 @@ public final class InvoiceService extends ApiService {
             options);
     return this.request(request, Invoice.class);
   }
+  /**
+   * Marking an invoice as uncollectible is useful for keeping track of bad debts that can be
+   * written off for accounting purposes.
+   */
+  public CompletableFuture<Invoice> markUncollectibleAsync(
+      String invoice, InvoiceMarkUncollectibleParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path =
+              String.format("/v1/invoices/%s/mark_uncollectible", ApiResource.urlEncodeId(invoice));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.POST,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        Invoice.class);
+  }
   /**
    * Stripe automatically creates and then attempts to collect payment on invoices for customers on
    * subscriptions according to your <a
@@ -511,6 +709,27 @@ public final class InvoiceService extends ApiService {
             options);
     return this.request(request, Invoice.class);
   }
+  /**
+   * Stripe automatically creates and then attempts to collect payment on invoices for customers on
+   * subscriptions according to your <a
+   * href="https://dashboard.stripe.com/account/billing/automatic">subscriptions settings</a>.
+   * However, if you’d like to attempt payment on an invoice out of the normal collection schedule
+   * or for some other reason, you can do so.
+   */
+  public CompletableFuture<Invoice> payAsync(
+      String invoice, InvoicePayParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path = String.format("/v1/invoices/%s/pay", ApiResource.urlEncodeId(invoice));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.POST,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        Invoice.class);
+  }
   /**
    * Removes multiple line items from an invoice. This is only possible when an invoice is still a
    * draft.
@@ -536,6 +755,25 @@ public final class InvoiceService extends ApiService {
             options);
     return this.request(request, Invoice.class);
   }
+  /**
+   * Removes multiple line items from an invoice. This is only possible when an invoice is still a
+   * draft.
+   */
+  public CompletableFuture<Invoice> removeLinesAsync(
+      String invoice, InvoiceRemoveLinesParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path =
+              String.format("/v1/invoices/%s/remove_lines", ApiResource.urlEncodeId(invoice));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.POST,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        Invoice.class);
+  }
   /**
    * Stripe will automatically send invoices to customers according to your <a
    * href="https://dashboard.stripe.com/account/billing/automatic">subscriptions settings</a>.
@@ -599,6 +837,30 @@ public final class InvoiceService extends ApiService {
             options);
     return this.request(request, Invoice.class);
   }
+  /**
+   * Stripe will automatically send invoices to customers according to your <a
+   * href="https://dashboard.stripe.com/account/billing/automatic">subscriptions settings</a>.
+   * However, if you’d like to manually send an invoice to your customer out of the normal schedule,
+   * you can do so. When sending invoices that have already been paid, there will be no reference to
+   * the payment in the email.
+   *
+   * <p>Requests made in test-mode result in no emails being sent, despite sending an {@code
+   * invoice.sent} event.
+   */
+  public CompletableFuture<Invoice> sendInvoiceAsync(
+      String invoice, InvoiceSendInvoiceParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path = String.format("/v1/invoices/%s/send", ApiResource.urlEncodeId(invoice));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.POST,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        Invoice.class);
+  }
   /**
    * Updates multiple line items on an invoice. This is only possible when an invoice is still a
    * draft.
@@ -624,6 +886,25 @@ public final class InvoiceService extends ApiService {
             options);
     return this.request(request, Invoice.class);
   }
+  /**
+   * Updates multiple line items on an invoice. This is only possible when an invoice is still a
+   * draft.
+   */
+  public CompletableFuture<Invoice> updateLinesAsync(
+      String invoice, InvoiceUpdateLinesParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path =
+              String.format("/v1/invoices/%s/update_lines", ApiResource.urlEncodeId(invoice));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.POST,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        Invoice.class);
+  }
   /**
    * Mark a finalized invoice as void. This cannot be undone. Voiding an invoice is similar to <a
    * href="https://stripe.com/docs/api#delete_invoice">deletion</a>, however it only applies to
@@ -691,6 +972,31 @@ public final class InvoiceService extends ApiService {
             options);
     return this.request(request, Invoice.class);
   }
+  /**
+   * Mark a finalized invoice as void. This cannot be undone. Voiding an invoice is similar to <a
+   * href="https://stripe.com/docs/api#delete_invoice">deletion</a>, however it only applies to
+   * finalized invoices and maintains a papertrail where the invoice can still be found.
+   *
+   * <p>Consult with local regulations to determine whether and how an invoice might be amended,
+   * canceled, or voided in the jurisdiction you’re doing business in. You might need to <a
+   * href="https://stripe.com/docs/api#create_invoice">issue another invoice</a> or <a
+   * href="https://stripe.com/docs/api#create_credit_note">credit note</a> instead. Stripe
+   * recommends that you consult with your legal counsel for advice specific to your business.
+   */
+  public CompletableFuture<Invoice> voidInvoiceAsync(
+      String invoice, InvoiceVoidInvoiceParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path = String.format("/v1/invoices/%s/void", ApiResource.urlEncodeId(invoice));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.POST,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        Invoice.class);
+  }
   /**
    * At any time, you can preview the upcoming invoice for a customer. This will show you all the
    * charges that are pending, including subscription renewal charges, invoice item charges, etc. It
@@ -800,6 +1106,40 @@ public final class InvoiceService extends ApiService {
             options);
     return this.request(request, Invoice.class);
   }
+  /**
+   * At any time, you can preview the upcoming invoice for a customer. This will show you all the
+   * charges that are pending, including subscription renewal charges, invoice item charges, etc. It
+   * will also show you any discounts that are applicable to the invoice.
+   *
+   * <p>Note that when you are viewing an upcoming invoice, you are simply viewing a preview – the
+   * invoice has not yet been created. As such, the upcoming invoice will not show up in invoice
+   * listing calls, and you cannot use the API to pay or edit the invoice. If you want to change the
+   * amount that your customer will be billed, you can add, remove, or update pending invoice items,
+   * or update the customer’s discount.
+   *
+   * <p>You can preview the effects of updating a subscription, including a preview of what
+   * proration will take place. To ensure that the actual proration is calculated exactly the same
+   * as the previewed proration, you should pass the {@code subscription_details.proration_date}
+   * parameter when doing the actual subscription update. The recommended way to get only the
+   * prorations being previewed is to consider only proration line items where {@code period[start]}
+   * is equal to the {@code subscription_details.proration_date} value passed in the request.
+   *
+   * <p>Note: Currency conversion calculations use the latest exchange rates. Exchange rates may
+   * vary between the time of the preview and the time of the actual invoice creation. <a
+   * href="https://docs.stripe.com/currencies/conversions">Learn more</a>
+   */
+  public CompletableFuture<Invoice> createPreviewAsync(
+      InvoiceCreatePreviewParams params, RequestOptions options) {
+    String path = "/v1/invoices/create_preview";
+    ApiRequest request =
+        new ApiRequest(
+            BaseAddress.API,
+            ApiResource.RequestMethod.POST,
+            path,
+            ApiRequestParams.paramsToMap(params),
+            options);
+    return this.requestAsync(request, Invoice.class);
+  }
 
   public com.stripe.service.InvoiceLineItemService lineItems() {
     return new com.stripe.service.InvoiceLineItemService(this.getResponseGetter());
@@ -13,6 +13,7 @@ import com.stripe.net.BaseAddress;
 import com.stripe.net.RequestOptions;
 import com.stripe.net.StripeResponseGetter;
 import com.stripe.param.InvoiceUpcomingLinesListParams;
+import java.util.concurrent.CompletableFuture;
 
 public final class InvoiceUpcomingLinesService extends ApiService {
   public InvoiceUpcomingLinesService(StripeResponseGetter responseGetter) {
@@ -61,4 +62,22 @@ public final class InvoiceUpcomingLinesService extends ApiService {
             options);
     return this.request(request, new TypeToken<StripeCollection<InvoiceLineItem>>() {}.getType());
   }
+  /**
+   * When retrieving an upcoming invoice, you’ll get a <strong>lines</strong> property containing
+   * the total count of line items and the first handful of those items. There is also a URL where
+   * you can retrieve the full (paginated) list of line items.
+   */
+  public CompletableFuture<StripeCollection<InvoiceLineItem>> listAsync(
+      InvoiceUpcomingLinesListParams params, RequestOptions options) {
+    String path = "/v1/invoices/upcoming/lines";
+    ApiRequest request =
+        new ApiRequest(
+            BaseAddress.API,
+            ApiResource.RequestMethod.GET,
+            path,
+            ApiRequestParams.paramsToMap(params),
+            options);
+    return this.requestAsync(
+        request, new TypeToken<StripeCollection<InvoiceLineItem>>() {}.getType());
+  }
 }
@@ -11,6 +11,7 @@ import com.stripe.net.BaseAddress;
 import com.stripe.net.RequestOptions;
 import com.stripe.net.StripeResponseGetter;
 import com.stripe.param.MandateRetrieveParams;
+import java.util.concurrent.CompletableFuture;
 
 public final class MandateService extends ApiService {
   public MandateService(StripeResponseGetter responseGetter) {
@@ -42,4 +43,19 @@ public final class MandateService extends ApiService {
             options);
     return this.request(request, Mandate.class);
   }
+  /** Retrieves a Mandate object. */
+  public CompletableFuture<Mandate> retrieveAsync(
+      String mandate, MandateRetrieveParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path = String.format("/v1/mandates/%s", ApiResource.urlEncodeId(mandate));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.GET,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        Mandate.class);
+  }
 }
@@ -24,6 +24,7 @@ import com.stripe.param.PaymentIntentRetrieveParams;
 import com.stripe.param.PaymentIntentSearchParams;
 import com.stripe.param.PaymentIntentUpdateParams;
 import com.stripe.param.PaymentIntentVerifyMicrodepositsParams;
+import java.util.concurrent.CompletableFuture;
 
 public final class PaymentIntentService extends ApiService {
   public PaymentIntentService(StripeResponseGetter responseGetter) {
@@ -56,6 +57,20 @@ public final class PaymentIntentService extends ApiService {
             options);
     return this.request(request, new TypeToken<StripeCollection<PaymentIntent>>() {}.getType());
   }
+  /** Returns a list of PaymentIntents. */
+  public CompletableFuture<StripeCollection<PaymentIntent>> listAsync(
+      PaymentIntentListParams params, RequestOptions options) {
+    String path = "/v1/payment_intents";
+    ApiRequest request =
+        new ApiRequest(
+            BaseAddress.API,
+            ApiResource.RequestMethod.GET,
+            path,
+            ApiRequestParams.paramsToMap(params),
+            options);
+    return this.requestAsync(
+        request, new TypeToken<StripeCollection<PaymentIntent>>() {}.getType());
+  }
   /**
    * Creates a PaymentIntent object.
    *
@@ -97,6 +112,31 @@ public final class PaymentIntentService extends ApiService {
             options);
     return this.request(request, PaymentIntent.class);
   }
+  /**
+   * Creates a PaymentIntent object.
+   *
+   * <p>After the PaymentIntent is created, attach a payment method and <a
+   * href="https://stripe.com/docs/api/payment_intents/confirm">confirm</a> to continue the payment.
+   * Learn more about <a href="https://stripe.com/docs/payments/payment-intents">the available
+   * payment flows with the Payment Intents API</a>.
+   *
+   * <p>When you use {@code confirm=true} during creation, it’s equivalent to creating and
+   * confirming the PaymentIntent in the same call. You can use any parameters available in the <a
+   * href="https://stripe.com/docs/api/payment_intents/confirm">confirm API</a> when you supply
+   * {@code confirm=true}.
+   */
+  public CompletableFuture<PaymentIntent> createAsync(
+      PaymentIntentCreateParams params, RequestOptions options) {
+    String path = "/v1/payment_intents";
+    ApiRequest request =
+        new ApiRequest(
+            BaseAddress.API,
+            ApiResource.RequestMethod.POST,
+            path,
+            ApiRequestParams.paramsToMap(params),
+            options);
+    return this.requestAsync(request, PaymentIntent.class);
+  }
   /**
    * Retrieves the details of a PaymentIntent that has previously been created.
    *
@@ -160,6 +200,30 @@ public final class PaymentIntentService extends ApiService {
             options);
     return this.request(request, PaymentIntent.class);
   }
+  /**
+   * Retrieves the details of a PaymentIntent that has previously been created.
+   *
+   * <p>You can retrieve a PaymentIntent client-side using a publishable key when the {@code
+   * client_secret} is in the query string.
+   *
+   * <p>If you retrieve a PaymentIntent with a publishable key, it only returns a subset of
+   * properties. Refer to the <a href="https://stripe.com/docs/api#payment_intent_object">payment
+   * intent</a> object reference for more details.
+   */
+  public CompletableFuture<PaymentIntent> retrieveAsync(
+      String intent, PaymentIntentRetrieveParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path = String.format("/v1/payment_intents/%s", ApiResource.urlEncodeId(intent));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.GET,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        PaymentIntent.class);
+  }
   /**
    * Updates properties on a PaymentIntent object without confirming.
    *
@@ -219,6 +283,29 @@ public final class PaymentIntentService extends ApiService {
             options);
     return this.request(request, PaymentIntent.class);
   }
+  /**
+   * Updates properties on a PaymentIntent object without confirming.
+   *
+   * <p>Depending on which properties you update, you might need to confirm the PaymentIntent again.
+   * For example, updating the {@code payment_method} always requires you to confirm the
+   * PaymentIntent again. If you prefer to update and confirm at the same time, we recommend
+   * updating properties through the <a
+   * href="https://stripe.com/docs/api/payment_intents/confirm">confirm API</a> instead.
+   */
+  public CompletableFuture<PaymentIntent> updateAsync(
+      String intent, PaymentIntentUpdateParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path = String.format("/v1/payment_intents/%s", ApiResource.urlEncodeId(intent));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.POST,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        PaymentIntent.class);
+  }
   /**
    * Search for PaymentIntents you’ve previously created using Stripe’s <a
    * href="https://stripe.com/docs/search#search-query-language">Search Query Language</a>. Don’t
@@ -251,6 +338,27 @@ public final class PaymentIntentService extends ApiService {
             options);
     return this.request(request, new TypeToken<StripeSearchResult<PaymentIntent>>() {}.getType());
   }
+  /**
+   * Search for PaymentIntents you’ve previously created using Stripe’s <a
+   * href="https://stripe.com/docs/search#search-query-language">Search Query Language</a>. Don’t
+   * use search in read-after-write flows where strict consistency is necessary. Under normal
+   * operating conditions, data is searchable in less than a minute. Occasionally, propagation of
+   * new or updated data can be up to an hour behind during outages. Search functionality is not
+   * available to merchants in India.
+   */
+  public CompletableFuture<StripeSearchResult<PaymentIntent>> searchAsync(
+      PaymentIntentSearchParams params, RequestOptions options) {
+    String path = "/v1/payment_intents/search";
+    ApiRequest request =
+        new ApiRequest(
+            BaseAddress.API,
+            ApiResource.RequestMethod.GET,
+            path,
+            ApiRequestParams.paramsToMap(params),
+            options);
+    return this.requestAsync(
+        request, new TypeToken<StripeSearchResult<PaymentIntent>>() {}.getType());
+  }
   /** Manually reconcile the remaining amount for a {@code customer_balance} PaymentIntent. */
   public PaymentIntent applyCustomerBalance(
       String intent, PaymentIntentApplyCustomerBalanceParams params) throws StripeException {
@@ -282,6 +390,23 @@ public final class PaymentIntentService extends ApiService {
             options);
     return this.request(request, PaymentIntent.class);
   }
+  /** Manually reconcile the remaining amount for a {@code customer_balance} PaymentIntent. */
+  public CompletableFuture<PaymentIntent> applyCustomerBalanceAsync(
+      String intent, PaymentIntentApplyCustomerBalanceParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path =
+              String.format(
+                  "/v1/payment_intents/%s/apply_customer_balance", ApiResource.urlEncodeId(intent));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.POST,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        PaymentIntent.class);
+  }
   /**
    * You can cancel a PaymentIntent object when it’s in one of these statuses: {@code
    * requires_payment_method}, {@code requires_capture}, {@code requires_confirmation}, {@code
@@ -361,6 +486,35 @@ public final class PaymentIntentService extends ApiService {
             options);
     return this.request(request, PaymentIntent.class);
   }
+  /**
+   * You can cancel a PaymentIntent object when it’s in one of these statuses: {@code
+   * requires_payment_method}, {@code requires_capture}, {@code requires_confirmation}, {@code
+   * requires_action} or, <a href="https://stripe.com/docs/payments/intents">in rare cases</a>,
+   * {@code processing}.
+   *
+   * <p>After it’s canceled, no additional charges are made by the PaymentIntent and any operations
+   * on the PaymentIntent fail with an error. For PaymentIntents with a {@code status} of {@code
+   * requires_capture}, the remaining {@code amount_capturable} is automatically refunded.
+   *
+   * <p>You can’t cancel the PaymentIntent for a Checkout Session. <a
+   * href="https://stripe.com/docs/api/checkout/sessions/expire">Expire the Checkout Session</a>
+   * instead.
+   */
+  public CompletableFuture<PaymentIntent> cancelAsync(
+      String intent, PaymentIntentCancelParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path =
+              String.format("/v1/payment_intents/%s/cancel", ApiResource.urlEncodeId(intent));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.POST,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        PaymentIntent.class);
+  }
   /**
    * Capture the funds of an existing uncaptured PaymentIntent when its status is {@code
    * requires_capture}.
@@ -424,6 +578,31 @@ public final class PaymentIntentService extends ApiService {
             options);
     return this.request(request, PaymentIntent.class);
   }
+  /**
+   * Capture the funds of an existing uncaptured PaymentIntent when its status is {@code
+   * requires_capture}.
+   *
+   * <p>Uncaptured PaymentIntents are cancelled a set number of days (7 by default) after their
+   * creation.
+   *
+   * <p>Learn more about <a href="https://stripe.com/docs/payments/capture-later">separate
+   * authorization and capture</a>.
+   */
+  public CompletableFuture<PaymentIntent> captureAsync(
+      String intent, PaymentIntentCaptureParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path =
+              String.format("/v1/payment_intents/%s/capture", ApiResource.urlEncodeId(intent));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.POST,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        PaymentIntent.class);
+  }
   /**
    * Confirm that your customer intends to pay with current or provided payment method. Upon
    * confirmation, the PaymentIntent will attempt to initiate a payment. If the selected payment
@@ -535,6 +714,43 @@ public final class PaymentIntentService extends ApiService {
             options);
     return this.request(request, PaymentIntent.class);
   }
+  /**
+   * Confirm that your customer intends to pay with current or provided payment method. Upon
+   * confirmation, the PaymentIntent will attempt to initiate a payment. If the selected payment
+   * method requires additional authentication steps, the PaymentIntent will transition to the
+   * {@code requires_action} status and suggest additional actions via {@code next_action}. If
+   * payment fails, the PaymentIntent transitions to the {@code requires_payment_method} status or
+   * the {@code canceled} status if the confirmation limit is reached. If payment succeeds, the
+   * PaymentIntent will transition to the {@code succeeded} status (or {@code requires_capture}, if
+   * {@code capture_method} is set to {@code manual}). If the {@code confirmation_method} is {@code
+   * automatic}, payment may be attempted using our <a
+   * href="https://stripe.com/docs/stripe-js/reference#stripe-handle-card-payment">client SDKs</a>
+   * and the PaymentIntent’s <a
+   * href="https://stripe.com/docs/api#payment_intent_object-client_secret">client_secret</a>. After
+   * {@code next_action}s are handled by the client, no additional confirmation is required to
+   * complete the payment. If the {@code confirmation_method} is {@code manual}, all payment
+   * attempts must be initiated using a secret key. If any actions are required for the payment, the
+   * PaymentIntent will return to the {@code requires_confirmation} state after those actions are
+   * completed. Your server needs to then explicitly re-confirm the PaymentIntent to initiate the
+   * next payment attempt. There is a variable upper limit on how many times a PaymentIntent can be
+   * confirmed. After this limit is reached, any further calls to this endpoint will transition the
+   * PaymentIntent to the {@code canceled} state.
+   */
+  public CompletableFuture<PaymentIntent> confirmAsync(
+      String intent, PaymentIntentConfirmParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path =
+              String.format("/v1/payment_intents/%s/confirm", ApiResource.urlEncodeId(intent));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.POST,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        PaymentIntent.class);
+  }
   /**
    * Perform an incremental authorization on an eligible <a
    * href="https://stripe.com/docs/api/payment_intents/object">PaymentIntent</a>. To be eligible,
@@ -608,6 +824,50 @@ public final class PaymentIntentService extends ApiService {
             options);
     return this.request(request, PaymentIntent.class);
   }
+  /**
+   * Perform an incremental authorization on an eligible <a
+   * href="https://stripe.com/docs/api/payment_intents/object">PaymentIntent</a>. To be eligible,
+   * the PaymentIntent’s status must be {@code requires_capture} and <a
+   * href="https://stripe.com/docs/api/charges/object#charge_object-payment_method_details-card_present-incremental_authorization_supported">incremental_authorization_supported</a>
+   * must be {@code true}.
+   *
+   * <p>Incremental authorizations attempt to increase the authorized amount on your customer’s card
+   * to the new, higher {@code amount} provided. Similar to the initial authorization, incremental
+   * authorizations can be declined. A single PaymentIntent can call this endpoint multiple times to
+   * further increase the authorized amount.
+   *
+   * <p>If the incremental authorization succeeds, the PaymentIntent object returns with the updated
+   * <a
+   * href="https://stripe.com/docs/api/payment_intents/object#payment_intent_object-amount">amount</a>.
+   * If the incremental authorization fails, a <a
+   * href="https://stripe.com/docs/error-codes#card-declined">card_declined</a> error returns, and
+   * no other fields on the PaymentIntent or Charge update. The PaymentIntent object remains
+   * capturable for the previously authorized amount.
+   *
+   * <p>Each PaymentIntent can have a maximum of 10 incremental authorization attempts, including
+   * declines. After it’s captured, a PaymentIntent can no longer be incremented.
+   *
+   * <p>Learn more about <a
+   * href="https://stripe.com/docs/terminal/features/incremental-authorizations">incremental
+   * authorizations</a>.
+   */
+  public CompletableFuture<PaymentIntent> incrementAuthorizationAsync(
+      String intent, PaymentIntentIncrementAuthorizationParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path =
+              String.format(
+                  "/v1/payment_intents/%s/increment_authorization",
+                  ApiResource.urlEncodeId(intent));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.POST,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        PaymentIntent.class);
+  }
   /** Verifies microdeposits on a PaymentIntent object. */
   public PaymentIntent verifyMicrodeposits(
       String intent, PaymentIntentVerifyMicrodepositsParams params) throws StripeException {
@@ -639,4 +899,21 @@ public final class PaymentIntentService extends ApiService {
             options);
     return this.request(request, PaymentIntent.class);
   }
+  /** Verifies microdeposits on a PaymentIntent object. */
+  public CompletableFuture<PaymentIntent> verifyMicrodepositsAsync(
+      String intent, PaymentIntentVerifyMicrodepositsParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path =
+              String.format(
+                  "/v1/payment_intents/%s/verify_microdeposits", ApiResource.urlEncodeId(intent));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.POST,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        PaymentIntent.class);
+  }
 }
@@ -13,6 +13,7 @@ import com.stripe.net.BaseAddress;
 import com.stripe.net.RequestOptions;
 import com.stripe.net.StripeResponseGetter;
 import com.stripe.param.PaymentLinkLineItemListParams;
+import java.util.concurrent.CompletableFuture;
 
 public final class PaymentLinkLineItemService extends ApiService {
   public PaymentLinkLineItemService(StripeResponseGetter responseGetter) {
@@ -64,4 +65,25 @@ public final class PaymentLinkLineItemService extends ApiService {
             options);
     return this.request(request, new TypeToken<StripeCollection<LineItem>>() {}.getType());
   }
+  /**
+   * When retrieving a payment link, there is an includable <strong>line_items</strong> property
+   * containing the first handful of those items. There is also a URL where you can retrieve the
+   * full (paginated) list of line items.
+   */
+  public CompletableFuture<StripeCollection<LineItem>> listAsync(
+      String paymentLink, PaymentLinkLineItemListParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path =
+              String.format(
+                  "/v1/payment_links/%s/line_items", ApiResource.urlEncodeId(paymentLink));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.GET,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        new TypeToken<StripeCollection<LineItem>>() {}.getType());
+  }
 }
@@ -16,6 +16,7 @@ import com.stripe.param.PaymentLinkCreateParams;
 import com.stripe.param.PaymentLinkListParams;
 import com.stripe.param.PaymentLinkRetrieveParams;
 import com.stripe.param.PaymentLinkUpdateParams;
+import java.util.concurrent.CompletableFuture;
 
 public final class PaymentLinkService extends ApiService {
   public PaymentLinkService(StripeResponseGetter responseGetter) {
@@ -47,6 +48,19 @@ public final class PaymentLinkService extends ApiService {
             options);
     return this.request(request, new TypeToken<StripeCollection<PaymentLink>>() {}.getType());
   }
+  /** Returns a list of your payment links. */
+  public CompletableFuture<StripeCollection<PaymentLink>> listAsync(
+      PaymentLinkListParams params, RequestOptions options) {
+    String path = "/v1/payment_links";
+    ApiRequest request =
+        new ApiRequest(
+            BaseAddress.API,
+            ApiResource.RequestMethod.GET,
+            path,
+            ApiRequestParams.paramsToMap(params),
+            options);
+    return this.requestAsync(request, new TypeToken<StripeCollection<PaymentLink>>() {}.getType());
+  }
   /** Creates a payment link. */
   public PaymentLink create(PaymentLinkCreateParams params) throws StripeException {
     return create(params, (RequestOptions) null);
@@ -64,6 +78,19 @@ public final class PaymentLinkService extends ApiService {
             options);
     return this.request(request, PaymentLink.class);
   }
+  /** Creates a payment link. */
+  public CompletableFuture<PaymentLink> createAsync(
+      PaymentLinkCreateParams params, RequestOptions options) {
+    String path = "/v1/payment_links";
+    ApiRequest request =
+        new ApiRequest(
+            BaseAddress.API,
+            ApiResource.RequestMethod.POST,
+            path,
+            ApiRequestParams.paramsToMap(params),
+            options);
+    return this.requestAsync(request, PaymentLink.class);
+  }
   /** Retrieve a payment link. */
   public PaymentLink retrieve(String paymentLink, PaymentLinkRetrieveParams params)
       throws StripeException {
@@ -91,6 +118,21 @@ public final class PaymentLinkService extends ApiService {
             options);
     return this.request(request, PaymentLink.class);
   }
+  /** Retrieve a payment link. */
+  public CompletableFuture<PaymentLink> retrieveAsync(
+      String paymentLink, PaymentLinkRetrieveParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path = String.format("/v1/payment_links/%s", ApiResource.urlEncodeId(paymentLink));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.GET,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        PaymentLink.class);
+  }
   /** Updates a payment link. */
   public PaymentLink update(String paymentLink, PaymentLinkUpdateParams params)
       throws StripeException {
@@ -118,6 +160,21 @@ public final class PaymentLinkService extends ApiService {
             options);
     return this.request(request, PaymentLink.class);
   }
+  /** Updates a payment link. */
+  public CompletableFuture<PaymentLink> updateAsync(
+      String paymentLink, PaymentLinkUpdateParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path = String.format("/v1/payment_links/%s", ApiResource.urlEncodeId(paymentLink));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.POST,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        PaymentLink.class);
+  }
 
   public com.stripe.service.PaymentLinkLineItemService lineItems() {
     return new com.stripe.service.PaymentLinkLineItemService(this.getResponseGetter());
@@ -16,6 +16,7 @@ import com.stripe.param.PaymentMethodConfigurationCreateParams;
 import com.stripe.param.PaymentMethodConfigurationListParams;
 import com.stripe.param.PaymentMethodConfigurationRetrieveParams;
 import com.stripe.param.PaymentMethodConfigurationUpdateParams;
+import java.util.concurrent.CompletableFuture;
 
 public final class PaymentMethodConfigurationService extends ApiService {
   public PaymentMethodConfigurationService(StripeResponseGetter responseGetter) {
@@ -50,6 +51,20 @@ public final class PaymentMethodConfigurationService extends ApiService {
     return this.request(
         request, new TypeToken<StripeCollection<PaymentMethodConfiguration>>() {}.getType());
   }
+  /** List payment method configurations. */
+  public CompletableFuture<StripeCollection<PaymentMethodConfiguration>> listAsync(
+      PaymentMethodConfigurationListParams params, RequestOptions options) {
+    String path = "/v1/payment_method_configurations";
+    ApiRequest request =
+        new ApiRequest(
+            BaseAddress.API,
+            ApiResource.RequestMethod.GET,
+            path,
+            ApiRequestParams.paramsToMap(params),
+            options);
+    return this.requestAsync(
+        request, new TypeToken<StripeCollection<PaymentMethodConfiguration>>() {}.getType());
+  }
   /** Creates a payment method configuration. */
   public PaymentMethodConfiguration create(PaymentMethodConfigurationCreateParams params)
       throws StripeException {
@@ -77,6 +92,19 @@ public final class PaymentMethodConfigurationService extends ApiService {
             options);
     return this.request(request, PaymentMethodConfiguration.class);
   }
+  /** Creates a payment method configuration. */
+  public CompletableFuture<PaymentMethodConfiguration> createAsync(
+      PaymentMethodConfigurationCreateParams params, RequestOptions options) {
+    String path = "/v1/payment_method_configurations";
+    ApiRequest request =
+        new ApiRequest(
+            BaseAddress.API,
+            ApiResource.RequestMethod.POST,
+            path,
+            ApiRequestParams.paramsToMap(params),
+            options);
+    return this.requestAsync(request, PaymentMethodConfiguration.class);
+  }
   /** Retrieve payment method configuration. */
   public PaymentMethodConfiguration retrieve(
       String configuration, PaymentMethodConfigurationRetrieveParams params)
@@ -109,6 +137,25 @@ public final class PaymentMethodConfigurationService extends ApiService {
             options);
     return this.request(request, PaymentMethodConfiguration.class);
   }
+  /** Retrieve payment method configuration. */
+  public CompletableFuture<PaymentMethodConfiguration> retrieveAsync(
+      String configuration,
+      PaymentMethodConfigurationRetrieveParams params,
+      RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path =
+              String.format(
+                  "/v1/payment_method_configurations/%s", ApiResource.urlEncodeId(configuration));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.GET,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        PaymentMethodConfiguration.class);
+  }
   /** Update payment method configuration. */
   public PaymentMethodConfiguration update(
       String configuration, PaymentMethodConfigurationUpdateParams params) throws StripeException {
@@ -140,4 +187,21 @@ public final class PaymentMethodConfigurationService extends ApiService {
             options);
     return this.request(request, PaymentMethodConfiguration.class);
   }
+  /** Update payment method configuration. */
+  public CompletableFuture<PaymentMethodConfiguration> updateAsync(
+      String configuration, PaymentMethodConfigurationUpdateParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path =
+              String.format(
+                  "/v1/payment_method_configurations/%s", ApiResource.urlEncodeId(configuration));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.POST,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        PaymentMethodConfiguration.class);
+  }
 }
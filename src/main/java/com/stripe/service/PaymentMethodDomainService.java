@@ -17,6 +17,7 @@ import com.stripe.param.PaymentMethodDomainListParams;
 import com.stripe.param.PaymentMethodDomainRetrieveParams;
 import com.stripe.param.PaymentMethodDomainUpdateParams;
 import com.stripe.param.PaymentMethodDomainValidateParams;
+import java.util.concurrent.CompletableFuture;
 
 public final class PaymentMethodDomainService extends ApiService {
   public PaymentMethodDomainService(StripeResponseGetter responseGetter) {
@@ -50,6 +51,20 @@ public final class PaymentMethodDomainService extends ApiService {
     return this.request(
         request, new TypeToken<StripeCollection<PaymentMethodDomain>>() {}.getType());
   }
+  /** Lists the details of existing payment method domains. */
+  public CompletableFuture<StripeCollection<PaymentMethodDomain>> listAsync(
+      PaymentMethodDomainListParams params, RequestOptions options) {
+    String path = "/v1/payment_method_domains";
+    ApiRequest request =
+        new ApiRequest(
+            BaseAddress.API,
+            ApiResource.RequestMethod.GET,
+            path,
+            ApiRequestParams.paramsToMap(params),
+            options);
+    return this.requestAsync(
+        request, new TypeToken<StripeCollection<PaymentMethodDomain>>() {}.getType());
+  }
   /** Creates a payment method domain. */
   public PaymentMethodDomain create(PaymentMethodDomainCreateParams params) throws StripeException {
     return create(params, (RequestOptions) null);
@@ -67,6 +82,19 @@ public final class PaymentMethodDomainService extends ApiService {
             options);
     return this.request(request, PaymentMethodDomain.class);
   }
+  /** Creates a payment method domain. */
+  public CompletableFuture<PaymentMethodDomain> createAsync(
+      PaymentMethodDomainCreateParams params, RequestOptions options) {
+    String path = "/v1/payment_method_domains";
+    ApiRequest request =
+        new ApiRequest(
+            BaseAddress.API,
+            ApiResource.RequestMethod.POST,
+            path,
+            ApiRequestParams.paramsToMap(params),
+            options);
+    return this.requestAsync(request, PaymentMethodDomain.class);
+  }
   /** Retrieves the details of an existing payment method domain. */
   public PaymentMethodDomain retrieve(
       String paymentMethodDomain, PaymentMethodDomainRetrieveParams params) throws StripeException {
@@ -98,6 +126,25 @@ public final class PaymentMethodDomainService extends ApiService {
             options);
     return this.request(request, PaymentMethodDomain.class);
   }
+  /** Retrieves the details of an existing payment method domain. */
+  public CompletableFuture<PaymentMethodDomain> retrieveAsync(
+      String paymentMethodDomain,
+      PaymentMethodDomainRetrieveParams params,
+      RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path =
+              String.format(
+                  "/v1/payment_method_domains/%s", ApiResource.urlEncodeId(paymentMethodDomain));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.GET,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        PaymentMethodDomain.class);
+  }
   /** Updates an existing payment method domain. */
   public PaymentMethodDomain update(
       String paymentMethodDomain, PaymentMethodDomainUpdateParams params) throws StripeException {
@@ -129,6 +176,23 @@ public final class PaymentMethodDomainService extends ApiService {
             options);
     return this.request(request, PaymentMethodDomain.class);
   }
+  /** Updates an existing payment method domain. */
+  public CompletableFuture<PaymentMethodDomain> updateAsync(
+      String paymentMethodDomain, PaymentMethodDomainUpdateParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path =
+              String.format(
+                  "/v1/payment_method_domains/%s", ApiResource.urlEncodeId(paymentMethodDomain));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.POST,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        PaymentMethodDomain.class);
+  }
   /**
    * Some payment methods such as Apple Pay require additional steps to verify a domain. If the
    * requirements weren’t satisfied when the domain was created, the payment method will be inactive
@@ -212,4 +276,37 @@ public final class PaymentMethodDomainService extends ApiService {
             options);
     return this.request(request, PaymentMethodDomain.class);
   }
+  /**
+   * Some payment methods such as Apple Pay require additional steps to verify a domain. If the
+   * requirements weren’t satisfied when the domain was created, the payment method will be inactive
+   * on the domain. The payment method doesn’t appear in Elements for this domain until it is
+   * active.
+   *
+   * <p>To activate a payment method on an existing payment method domain, complete the required
+   * validation steps specific to the payment method, and then validate the payment method domain
+   * with this endpoint.
+   *
+   * <p>Related guides: <a
+   * href="https://stripe.com/docs/payments/payment-methods/pmd-registration">Payment method
+   * domains</a>.
+   */
+  public CompletableFuture<PaymentMethodDomain> validateAsync(
+      String paymentMethodDomain,
+      PaymentMethodDomainValidateParams params,
+      RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path =
+              String.format(
+                  "/v1/payment_method_domains/%s/validate",
+                  ApiResource.urlEncodeId(paymentMethodDomain));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.POST,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        PaymentMethodDomain.class);
+  }
 }
@@ -18,6 +18,7 @@ import com.stripe.param.PaymentMethodDetachParams;
 import com.stripe.param.PaymentMethodListParams;
 import com.stripe.param.PaymentMethodRetrieveParams;
 import com.stripe.param.PaymentMethodUpdateParams;
+import java.util.concurrent.CompletableFuture;
 
 public final class PaymentMethodService extends ApiService {
   public PaymentMethodService(StripeResponseGetter responseGetter) {
@@ -70,6 +71,25 @@ public final class PaymentMethodService extends ApiService {
             options);
     return this.request(request, new TypeToken<StripeCollection<PaymentMethod>>() {}.getType());
   }
+  /**
+   * Returns a list of PaymentMethods for Treasury flows. If you want to list the PaymentMethods
+   * attached to a Customer for payments, you should use the <a
+   * href="https://stripe.com/docs/api/payment_methods/customer_list">List a Customer’s
+   * PaymentMethods</a> API instead.
+   */
+  public CompletableFuture<StripeCollection<PaymentMethod>> listAsync(
+      PaymentMethodListParams params, RequestOptions options) {
+    String path = "/v1/payment_methods";
+    ApiRequest request =
+        new ApiRequest(
+            BaseAddress.API,
+            ApiResource.RequestMethod.GET,
+            path,
+            ApiRequestParams.paramsToMap(params),
+            options);
+    return this.requestAsync(
+        request, new TypeToken<StripeCollection<PaymentMethod>>() {}.getType());
+  }
   /**
    * Creates a PaymentMethod object. Read the <a
    * href="https://stripe.com/docs/stripe-js/reference#stripe-create-payment-method">Stripe.js
@@ -135,6 +155,29 @@ public final class PaymentMethodService extends ApiService {
             options);
     return this.request(request, PaymentMethod.class);
   }
+  /**
+   * Creates a PaymentMethod object. Read the <a
+   * href="https://stripe.com/docs/stripe-js/reference#stripe-create-payment-method">Stripe.js
+   * reference</a> to learn how to create PaymentMethods via Stripe.js.
+   *
+   * <p>Instead of creating a PaymentMethod directly, we recommend using the <a
+   * href="https://stripe.com/docs/payments/accept-a-payment">PaymentIntents</a> API to accept a
+   * payment immediately or the <a
+   * href="https://stripe.com/docs/payments/save-and-reuse">SetupIntent</a> API to collect payment
+   * method details ahead of a future payment.
+   */
+  public CompletableFuture<PaymentMethod> createAsync(
+      PaymentMethodCreateParams params, RequestOptions options) {
+    String path = "/v1/payment_methods";
+    ApiRequest request =
+        new ApiRequest(
+            BaseAddress.API,
+            ApiResource.RequestMethod.POST,
+            path,
+            ApiRequestParams.paramsToMap(params),
+            options);
+    return this.requestAsync(request, PaymentMethod.class);
+  }
   /**
    * Retrieves a PaymentMethod object attached to the StripeAccount. To retrieve a payment method
    * attached to a Customer, you should use <a
@@ -183,6 +226,27 @@ public final class PaymentMethodService extends ApiService {
             options);
     return this.request(request, PaymentMethod.class);
   }
+  /**
+   * Retrieves a PaymentMethod object attached to the StripeAccount. To retrieve a payment method
+   * attached to a Customer, you should use <a
+   * href="https://stripe.com/docs/api/payment_methods/customer">Retrieve a Customer’s
+   * PaymentMethods</a>
+   */
+  public CompletableFuture<PaymentMethod> retrieveAsync(
+      String paymentMethod, PaymentMethodRetrieveParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path =
+              String.format("/v1/payment_methods/%s", ApiResource.urlEncodeId(paymentMethod));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.GET,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        PaymentMethod.class);
+  }
   /** Updates a PaymentMethod object. A PaymentMethod must be attached a customer to be updated. */
   public PaymentMethod update(String paymentMethod, PaymentMethodUpdateParams params)
       throws StripeException {
@@ -210,6 +274,22 @@ public final class PaymentMethodService extends ApiService {
             options);
     return this.request(request, PaymentMethod.class);
   }
+  /** Updates a PaymentMethod object. A PaymentMethod must be attached a customer to be updated. */
+  public CompletableFuture<PaymentMethod> updateAsync(
+      String paymentMethod, PaymentMethodUpdateParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path =
+              String.format("/v1/payment_methods/%s", ApiResource.urlEncodeId(paymentMethod));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.POST,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        PaymentMethod.class);
+  }
   /**
    * Attaches a PaymentMethod object to a Customer.
    *
@@ -262,6 +342,39 @@ public final class PaymentMethodService extends ApiService {
             options);
     return this.request(request, PaymentMethod.class);
   }
+  /**
+   * Attaches a PaymentMethod object to a Customer.
+   *
+   * <p>To attach a new PaymentMethod to a customer for future payments, we recommend you use a <a
+   * href="https://stripe.com/docs/api/setup_intents">SetupIntent</a> or a PaymentIntent with <a
+   * href="https://stripe.com/docs/api/payment_intents/create#create_payment_intent-setup_future_usage">setup_future_usage</a>.
+   * These approaches will perform any necessary steps to set up the PaymentMethod for future
+   * payments. Using the {@code /v1/payment_methods/:id/attach} endpoint without first using a
+   * SetupIntent or PaymentIntent with {@code setup_future_usage} does not optimize the
+   * PaymentMethod for future use, which makes later declines and payment friction more likely. See
+   * <a href="https://stripe.com/docs/payments/payment-intents#future-usage">Optimizing cards for
+   * future payments</a> for more information about setting up future payments.
+   *
+   * <p>To use this PaymentMethod as the default for invoice or subscription payments, set <a
+   * href="https://stripe.com/docs/api/customers/update#update_customer-invoice_settings-default_payment_method">{@code
+   * invoice_settings.default_payment_method}</a>, on the Customer to the PaymentMethod’s ID.
+   */
+  public CompletableFuture<PaymentMethod> attachAsync(
+      String paymentMethod, PaymentMethodAttachParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path =
+              String.format(
+                  "/v1/payment_methods/%s/attach", ApiResource.urlEncodeId(paymentMethod));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.POST,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        PaymentMethod.class);
+  }
   /**
    * Detaches a PaymentMethod object from a Customer. After a PaymentMethod is detached, it can no
    * longer be used for a payment or re-attached to a Customer.
@@ -302,4 +415,24 @@ public final class PaymentMethodService extends ApiService {
             options);
     return this.request(request, PaymentMethod.class);
   }
+  /**
+   * Detaches a PaymentMethod object from a Customer. After a PaymentMethod is detached, it can no
+   * longer be used for a payment or re-attached to a Customer.
+   */
+  public CompletableFuture<PaymentMethod> detachAsync(
+      String paymentMethod, PaymentMethodDetachParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path =
+              String.format(
+                  "/v1/payment_methods/%s/detach", ApiResource.urlEncodeId(paymentMethod));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.POST,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        PaymentMethod.class);
+  }
 }
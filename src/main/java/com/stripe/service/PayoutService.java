@@ -18,6 +18,7 @@ import com.stripe.param.PayoutListParams;
 import com.stripe.param.PayoutRetrieveParams;
 import com.stripe.param.PayoutReverseParams;
 import com.stripe.param.PayoutUpdateParams;
+import java.util.concurrent.CompletableFuture;
 
 public final class PayoutService extends ApiService {
   public PayoutService(StripeResponseGetter responseGetter) {
@@ -65,6 +66,23 @@ public final class PayoutService extends ApiService {
             options);
     return this.request(request, new TypeToken<StripeCollection<Payout>>() {}.getType());
   }
+  /**
+   * Returns a list of existing payouts sent to third-party bank accounts or payouts that Stripe
+   * sent to you. The payouts return in sorted order, with the most recently created payouts
+   * appearing first.
+   */
+  public CompletableFuture<StripeCollection<Payout>> listAsync(
+      PayoutListParams params, RequestOptions options) {
+    String path = "/v1/payouts";
+    ApiRequest request =
+        new ApiRequest(
+            BaseAddress.API,
+            ApiResource.RequestMethod.GET,
+            path,
+            ApiRequestParams.paramsToMap(params),
+            options);
+    return this.requestAsync(request, new TypeToken<StripeCollection<Payout>>() {}.getType());
+  }
   /**
    * To send funds to your own bank account, create a new payout object. Your <a
    * href="https://stripe.com/docs/api#balance">Stripe balance</a> must cover the payout amount. If
@@ -105,6 +123,30 @@ public final class PayoutService extends ApiService {
             options);
     return this.request(request, Payout.class);
   }
+  /**
+   * To send funds to your own bank account, create a new payout object. Your <a
+   * href="https://stripe.com/docs/api#balance">Stripe balance</a> must cover the payout amount. If
+   * it doesn’t, you receive an “Insufficient Funds” error.
+   *
+   * <p>If your API key is in test mode, money won’t actually be sent, though every other action
+   * occurs as if you’re in live mode.
+   *
+   * <p>If you create a manual payout on a Stripe account that uses multiple payment source types,
+   * you need to specify the source type balance that the payout draws from. The <a
+   * href="https://stripe.com/docs/api#balance_object">balance object</a> details available and
+   * pending amounts by source type.
+   */
+  public CompletableFuture<Payout> createAsync(PayoutCreateParams params, RequestOptions options) {
+    String path = "/v1/payouts";
+    ApiRequest request =
+        new ApiRequest(
+            BaseAddress.API,
+            ApiResource.RequestMethod.POST,
+            path,
+            ApiRequestParams.paramsToMap(params),
+            options);
+    return this.requestAsync(request, Payout.class);
+  }
   /**
    * Retrieves the details of an existing payout. Supply the unique payout ID from either a payout
    * creation request or the payout list. Stripe returns the corresponding payout information.
@@ -142,6 +184,24 @@ public final class PayoutService extends ApiService {
             options);
     return this.request(request, Payout.class);
   }
+  /**
+   * Retrieves the details of an existing payout. Supply the unique payout ID from either a payout
+   * creation request or the payout list. Stripe returns the corresponding payout information.
+   */
+  public CompletableFuture<Payout> retrieveAsync(
+      String payout, PayoutRetrieveParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path = String.format("/v1/payouts/%s", ApiResource.urlEncodeId(payout));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.GET,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        Payout.class);
+  }
   /**
    * Updates the specified payout by setting the values of the parameters you pass. We don’t change
    * parameters that you don’t provide. This request only accepts the metadata as arguments.
@@ -179,6 +239,24 @@ public final class PayoutService extends ApiService {
             options);
     return this.request(request, Payout.class);
   }
+  /**
+   * Updates the specified payout by setting the values of the parameters you pass. We don’t change
+   * parameters that you don’t provide. This request only accepts the metadata as arguments.
+   */
+  public CompletableFuture<Payout> updateAsync(
+      String payout, PayoutUpdateParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path = String.format("/v1/payouts/%s", ApiResource.urlEncodeId(payout));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.POST,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        Payout.class);
+  }
   /**
    * You can cancel a previously created payout if its status is {@code pending}. Stripe refunds the
    * funds to your available balance. You can’t cancel automatic Stripe payouts.
@@ -216,6 +294,24 @@ public final class PayoutService extends ApiService {
             options);
     return this.request(request, Payout.class);
   }
+  /**
+   * You can cancel a previously created payout if its status is {@code pending}. Stripe refunds the
+   * funds to your available balance. You can’t cancel automatic Stripe payouts.
+   */
+  public CompletableFuture<Payout> cancelAsync(
+      String payout, PayoutCancelParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path = String.format("/v1/payouts/%s/cancel", ApiResource.urlEncodeId(payout));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.POST,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        Payout.class);
+  }
   /**
    * Reverses a payout by debiting the destination bank account. At this time, you can only reverse
    * payouts for connected accounts to US bank accounts. If the payout is manual and in the {@code
@@ -273,4 +369,27 @@ public final class PayoutService extends ApiService {
             options);
     return this.request(request, Payout.class);
   }
+  /**
+   * Reverses a payout by debiting the destination bank account. At this time, you can only reverse
+   * payouts for connected accounts to US bank accounts. If the payout is manual and in the {@code
+   * pending} status, use {@code /v1/payouts/:id/cancel} instead.
+   *
+   * <p>By requesting a reversal through {@code /v1/payouts/:id/reverse}, you confirm that the
+   * authorized signatory of the selected bank account authorizes the debit on the bank account and
+   * that no other authorization is required.
+   */
+  public CompletableFuture<Payout> reverseAsync(
+      String payout, PayoutReverseParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path = String.format("/v1/payouts/%s/reverse", ApiResource.urlEncodeId(payout));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.POST,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        Payout.class);
+  }
 }
@@ -16,6 +16,7 @@ import com.stripe.param.PlanCreateParams;
 import com.stripe.param.PlanListParams;
 import com.stripe.param.PlanRetrieveParams;
 import com.stripe.param.PlanUpdateParams;
+import java.util.concurrent.CompletableFuture;
 
 public final class PlanService extends ApiService {
   public PlanService(StripeResponseGetter responseGetter) {
@@ -33,6 +34,16 @@ public final class PlanService extends ApiService {
         new ApiRequest(BaseAddress.API, ApiResource.RequestMethod.DELETE, path, null, options);
     return this.request(request, Plan.class);
   }
+  /** Deleting plans means new subscribers can’t be added. Existing subscribers aren’t affected. */
+  public CompletableFuture<Plan> deleteAsync(String plan, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path = String.format("/v1/plans/%s", ApiResource.urlEncodeId(plan));
+          return new ApiRequest(
+              BaseAddress.API, ApiResource.RequestMethod.DELETE, path, null, options);
+        },
+        Plan.class);
+  }
   /** Retrieves the plan with the given ID. */
   public Plan retrieve(String plan, PlanRetrieveParams params) throws StripeException {
     return retrieve(plan, params, (RequestOptions) null);
@@ -58,6 +69,21 @@ public final class PlanService extends ApiService {
             options);
     return this.request(request, Plan.class);
   }
+  /** Retrieves the plan with the given ID. */
+  public CompletableFuture<Plan> retrieveAsync(
+      String plan, PlanRetrieveParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path = String.format("/v1/plans/%s", ApiResource.urlEncodeId(plan));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.GET,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        Plan.class);
+  }
   /**
    * Updates the specified plan by setting the values of the parameters passed. Any parameters not
    * provided are left unchanged. By design, you cannot change a plan’s ID, amount, currency, or
@@ -99,6 +125,25 @@ public final class PlanService extends ApiService {
             options);
     return this.request(request, Plan.class);
   }
+  /**
+   * Updates the specified plan by setting the values of the parameters passed. Any parameters not
+   * provided are left unchanged. By design, you cannot change a plan’s ID, amount, currency, or
+   * billing cycle.
+   */
+  public CompletableFuture<Plan> updateAsync(
+      String plan, PlanUpdateParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path = String.format("/v1/plans/%s", ApiResource.urlEncodeId(plan));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.POST,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        Plan.class);
+  }
   /** Returns a list of your plans. */
   public StripeCollection<Plan> list(PlanListParams params) throws StripeException {
     return list(params, (RequestOptions) null);
@@ -124,6 +169,19 @@ public final class PlanService extends ApiService {
             options);
     return this.request(request, new TypeToken<StripeCollection<Plan>>() {}.getType());
   }
+  /** Returns a list of your plans. */
+  public CompletableFuture<StripeCollection<Plan>> listAsync(
+      PlanListParams params, RequestOptions options) {
+    String path = "/v1/plans";
+    ApiRequest request =
+        new ApiRequest(
+            BaseAddress.API,
+            ApiResource.RequestMethod.GET,
+            path,
+            ApiRequestParams.paramsToMap(params),
+            options);
+    return this.requestAsync(request, new TypeToken<StripeCollection<Plan>>() {}.getType());
+  }
   /**
    * You can now model subscriptions more flexibly using the <a
    * href="https://stripe.com/docs/api#prices">Prices API</a>. It replaces the Plans API and is
@@ -148,4 +206,20 @@ public final class PlanService extends ApiService {
             options);
     return this.request(request, Plan.class);
   }
+  /**
+   * You can now model subscriptions more flexibly using the <a
+   * href="https://stripe.com/docs/api#prices">Prices API</a>. It replaces the Plans API and is
+   * backwards compatible to simplify your migration.
+   */
+  public CompletableFuture<Plan> createAsync(PlanCreateParams params, RequestOptions options) {
+    String path = "/v1/plans";
+    ApiRequest request =
+        new ApiRequest(
+            BaseAddress.API,
+            ApiResource.RequestMethod.POST,
+            path,
+            ApiRequestParams.paramsToMap(params),
+            options);
+    return this.requestAsync(request, Plan.class);
+  }
 }
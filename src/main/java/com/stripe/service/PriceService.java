@@ -18,6 +18,7 @@ import com.stripe.param.PriceListParams;
 import com.stripe.param.PriceRetrieveParams;
 import com.stripe.param.PriceSearchParams;
 import com.stripe.param.PriceUpdateParams;
+import java.util.concurrent.CompletableFuture;
 
 public final class PriceService extends ApiService {
   public PriceService(StripeResponseGetter responseGetter) {
@@ -65,6 +66,23 @@ public final class PriceService extends ApiService {
             options);
     return this.request(request, new TypeToken<StripeCollection<Price>>() {}.getType());
   }
+  /**
+   * Returns a list of your active prices, excluding <a
+   * href="https://stripe.com/docs/products-prices/pricing-models#inline-pricing">inline prices</a>.
+   * For the list of inactive prices, set {@code active} to false.
+   */
+  public CompletableFuture<StripeCollection<Price>> listAsync(
+      PriceListParams params, RequestOptions options) {
+    String path = "/v1/prices";
+    ApiRequest request =
+        new ApiRequest(
+            BaseAddress.API,
+            ApiResource.RequestMethod.GET,
+            path,
+            ApiRequestParams.paramsToMap(params),
+            options);
+    return this.requestAsync(request, new TypeToken<StripeCollection<Price>>() {}.getType());
+  }
   /** Creates a new price for an existing product. The price can be recurring or one-time. */
   public Price create(PriceCreateParams params) throws StripeException {
     return create(params, (RequestOptions) null);
@@ -81,6 +99,18 @@ public final class PriceService extends ApiService {
             options);
     return this.request(request, Price.class);
   }
+  /** Creates a new price for an existing product. The price can be recurring or one-time. */
+  public CompletableFuture<Price> createAsync(PriceCreateParams params, RequestOptions options) {
+    String path = "/v1/prices";
+    ApiRequest request =
+        new ApiRequest(
+            BaseAddress.API,
+            ApiResource.RequestMethod.POST,
+            path,
+            ApiRequestParams.paramsToMap(params),
+            options);
+    return this.requestAsync(request, Price.class);
+  }
   /** Retrieves the price with the given ID. */
   public Price retrieve(String price, PriceRetrieveParams params) throws StripeException {
     return retrieve(price, params, (RequestOptions) null);
@@ -106,6 +136,21 @@ public final class PriceService extends ApiService {
             options);
     return this.request(request, Price.class);
   }
+  /** Retrieves the price with the given ID. */
+  public CompletableFuture<Price> retrieveAsync(
+      String price, PriceRetrieveParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path = String.format("/v1/prices/%s", ApiResource.urlEncodeId(price));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.GET,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        Price.class);
+  }
   /**
    * Updates the specified price by setting the values of the parameters passed. Any parameters not
    * provided are left unchanged.
@@ -143,6 +188,24 @@ public final class PriceService extends ApiService {
             options);
     return this.request(request, Price.class);
   }
+  /**
+   * Updates the specified price by setting the values of the parameters passed. Any parameters not
+   * provided are left unchanged.
+   */
+  public CompletableFuture<Price> updateAsync(
+      String price, PriceUpdateParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path = String.format("/v1/prices/%s", ApiResource.urlEncodeId(price));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.POST,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        Price.class);
+  }
   /**
    * Search for prices you’ve previously created using Stripe’s <a
    * href="https://stripe.com/docs/search#search-query-language">Search Query Language</a>. Don’t
@@ -174,4 +237,24 @@ public final class PriceService extends ApiService {
             options);
     return this.request(request, new TypeToken<StripeSearchResult<Price>>() {}.getType());
   }
+  /**
+   * Search for prices you’ve previously created using Stripe’s <a
+   * href="https://stripe.com/docs/search#search-query-language">Search Query Language</a>. Don’t
+   * use search in read-after-write flows where strict consistency is necessary. Under normal
+   * operating conditions, data is searchable in less than a minute. Occasionally, propagation of
+   * new or updated data can be up to an hour behind during outages. Search functionality is not
+   * available to merchants in India.
+   */
+  public CompletableFuture<StripeSearchResult<Price>> searchAsync(
+      PriceSearchParams params, RequestOptions options) {
+    String path = "/v1/prices/search";
+    ApiRequest request =
+        new ApiRequest(
+            BaseAddress.API,
+            ApiResource.RequestMethod.GET,
+            path,
+            ApiRequestParams.paramsToMap(params),
+            options);
+    return this.requestAsync(request, new TypeToken<StripeSearchResult<Price>>() {}.getType());
+  }
 }
@@ -15,6 +15,7 @@ import com.stripe.net.StripeResponseGetter;
 import com.stripe.param.ProductFeatureCreateParams;
 import com.stripe.param.ProductFeatureListParams;
 import com.stripe.param.ProductFeatureRetrieveParams;
+import java.util.concurrent.CompletableFuture;
 
 public final class ProductFeatureService extends ApiService {
   public ProductFeatureService(StripeResponseGetter responseGetter) {
@@ -36,6 +37,20 @@ public final class ProductFeatureService extends ApiService {
         new ApiRequest(BaseAddress.API, ApiResource.RequestMethod.DELETE, path, null, options);
     return this.request(request, ProductFeature.class);
   }
+  /** Deletes the feature attachment to a product. */
+  public CompletableFuture<ProductFeature> deleteAsync(
+      String product, String id, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path =
+              String.format(
+                  "/v1/products/%s/features/%s",
+                  ApiResource.urlEncodeId(product), ApiResource.urlEncodeId(id));
+          return new ApiRequest(
+              BaseAddress.API, ApiResource.RequestMethod.DELETE, path, null, options);
+        },
+        ProductFeature.class);
+  }
   /** Retrieves a product_feature, which represents a feature attachment to a product. */
   public ProductFeature retrieve(String product, String id, ProductFeatureRetrieveParams params)
       throws StripeException {
@@ -67,6 +82,24 @@ public final class ProductFeatureService extends ApiService {
             options);
     return this.request(request, ProductFeature.class);
   }
+  /** Retrieves a product_feature, which represents a feature attachment to a product. */
+  public CompletableFuture<ProductFeature> retrieveAsync(
+      String product, String id, ProductFeatureRetrieveParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path =
+              String.format(
+                  "/v1/products/%s/features/%s",
+                  ApiResource.urlEncodeId(product), ApiResource.urlEncodeId(id));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.GET,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        ProductFeature.class);
+  }
   /** Retrieve a list of features for a product. */
   public StripeCollection<ProductFeature> list(String product, ProductFeatureListParams params)
       throws StripeException {
@@ -95,6 +128,21 @@ public final class ProductFeatureService extends ApiService {
             options);
     return this.request(request, new TypeToken<StripeCollection<ProductFeature>>() {}.getType());
   }
+  /** Retrieve a list of features for a product. */
+  public CompletableFuture<StripeCollection<ProductFeature>> listAsync(
+      String product, ProductFeatureListParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path = String.format("/v1/products/%s/features", ApiResource.urlEncodeId(product));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.GET,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        new TypeToken<StripeCollection<ProductFeature>>() {}.getType());
+  }
   /** Creates a product_feature, which represents a feature attachment to a product. */
   public ProductFeature create(String product, ProductFeatureCreateParams params)
       throws StripeException {
@@ -114,4 +162,19 @@ public final class ProductFeatureService extends ApiService {
             options);
     return this.request(request, ProductFeature.class);
   }
+  /** Creates a product_feature, which represents a feature attachment to a product. */
+  public CompletableFuture<ProductFeature> createAsync(
+      String product, ProductFeatureCreateParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path = String.format("/v1/products/%s/features", ApiResource.urlEncodeId(product));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.POST,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        ProductFeature.class);
+  }
 }
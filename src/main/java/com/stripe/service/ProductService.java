@@ -18,6 +18,7 @@ import com.stripe.param.ProductListParams;
 import com.stripe.param.ProductRetrieveParams;
 import com.stripe.param.ProductSearchParams;
 import com.stripe.param.ProductUpdateParams;
+import java.util.concurrent.CompletableFuture;
 
 public final class ProductService extends ApiService {
   public ProductService(StripeResponseGetter responseGetter) {
@@ -43,6 +44,20 @@ public final class ProductService extends ApiService {
         new ApiRequest(BaseAddress.API, ApiResource.RequestMethod.DELETE, path, null, options);
     return this.request(request, Product.class);
   }
+  /**
+   * Delete a product. Deleting a product is only possible if it has no prices associated with it.
+   * Additionally, deleting a product with {@code type=good} is only possible if it has no SKUs
+   * associated with it.
+   */
+  public CompletableFuture<Product> deleteAsync(String id, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path = String.format("/v1/products/%s", ApiResource.urlEncodeId(id));
+          return new ApiRequest(
+              BaseAddress.API, ApiResource.RequestMethod.DELETE, path, null, options);
+        },
+        Product.class);
+  }
   /**
    * Retrieves the details of an existing product. Supply the unique product ID from either a
    * product creation request or the product list, and Stripe will return the corresponding product
@@ -84,6 +99,25 @@ public final class ProductService extends ApiService {
             options);
     return this.request(request, Product.class);
   }
+  /**
+   * Retrieves the details of an existing product. Supply the unique product ID from either a
+   * product creation request or the product list, and Stripe will return the corresponding product
+   * information.
+   */
+  public CompletableFuture<Product> retrieveAsync(
+      String id, ProductRetrieveParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path = String.format("/v1/products/%s", ApiResource.urlEncodeId(id));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.GET,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        Product.class);
+  }
   /**
    * Updates the specific product by setting the values of the parameters passed. Any parameters not
    * provided will be left unchanged.
@@ -121,6 +155,24 @@ public final class ProductService extends ApiService {
             options);
     return this.request(request, Product.class);
   }
+  /**
+   * Updates the specific product by setting the values of the parameters passed. Any parameters not
+   * provided will be left unchanged.
+   */
+  public CompletableFuture<Product> updateAsync(
+      String id, ProductUpdateParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path = String.format("/v1/products/%s", ApiResource.urlEncodeId(id));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.POST,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        Product.class);
+  }
   /**
    * Returns a list of your products. The products are returned sorted by creation date, with the
    * most recently created products appearing first.
@@ -158,6 +210,22 @@ public final class ProductService extends ApiService {
             options);
     return this.request(request, new TypeToken<StripeCollection<Product>>() {}.getType());
   }
+  /**
+   * Returns a list of your products. The products are returned sorted by creation date, with the
+   * most recently created products appearing first.
+   */
+  public CompletableFuture<StripeCollection<Product>> listAsync(
+      ProductListParams params, RequestOptions options) {
+    String path = "/v1/products";
+    ApiRequest request =
+        new ApiRequest(
+            BaseAddress.API,
+            ApiResource.RequestMethod.GET,
+            path,
+            ApiRequestParams.paramsToMap(params),
+            options);
+    return this.requestAsync(request, new TypeToken<StripeCollection<Product>>() {}.getType());
+  }
   /** Creates a new product object. */
   public Product create(ProductCreateParams params) throws StripeException {
     return create(params, (RequestOptions) null);
@@ -174,6 +242,19 @@ public final class ProductService extends ApiService {
             options);
     return this.request(request, Product.class);
   }
+  /** Creates a new product object. */
+  public CompletableFuture<Product> createAsync(
+      ProductCreateParams params, RequestOptions options) {
+    String path = "/v1/products";
+    ApiRequest request =
+        new ApiRequest(
+            BaseAddress.API,
+            ApiResource.RequestMethod.POST,
+            path,
+            ApiRequestParams.paramsToMap(params),
+            options);
+    return this.requestAsync(request, Product.class);
+  }
   /**
    * Search for products you’ve previously created using Stripe’s <a
    * href="https://stripe.com/docs/search#search-query-language">Search Query Language</a>. Don’t
@@ -205,6 +286,26 @@ public final class ProductService extends ApiService {
             options);
     return this.request(request, new TypeToken<StripeSearchResult<Product>>() {}.getType());
   }
+  /**
+   * Search for products you’ve previously created using Stripe’s <a
+   * href="https://stripe.com/docs/search#search-query-language">Search Query Language</a>. Don’t
+   * use search in read-after-write flows where strict consistency is necessary. Under normal
+   * operating conditions, data is searchable in less than a minute. Occasionally, propagation of
+   * new or updated data can be up to an hour behind during outages. Search functionality is not
+   * available to merchants in India.
+   */
+  public CompletableFuture<StripeSearchResult<Product>> searchAsync(
+      ProductSearchParams params, RequestOptions options) {
+    String path = "/v1/products/search";
+    ApiRequest request =
+        new ApiRequest(
+            BaseAddress.API,
+            ApiResource.RequestMethod.GET,
+            path,
+            ApiRequestParams.paramsToMap(params),
+            options);
+    return this.requestAsync(request, new TypeToken<StripeSearchResult<Product>>() {}.getType());
+  }
 
   public com.stripe.service.ProductFeatureService features() {
     return new com.stripe.service.ProductFeatureService(this.getResponseGetter());
@@ -16,6 +16,7 @@ import com.stripe.param.PromotionCodeCreateParams;
 import com.stripe.param.PromotionCodeListParams;
 import com.stripe.param.PromotionCodeRetrieveParams;
 import com.stripe.param.PromotionCodeUpdateParams;
+import java.util.concurrent.CompletableFuture;
 
 public final class PromotionCodeService extends ApiService {
   public PromotionCodeService(StripeResponseGetter responseGetter) {
@@ -48,6 +49,20 @@ public final class PromotionCodeService extends ApiService {
             options);
     return this.request(request, new TypeToken<StripeCollection<PromotionCode>>() {}.getType());
   }
+  /** Returns a list of your promotion codes. */
+  public CompletableFuture<StripeCollection<PromotionCode>> listAsync(
+      PromotionCodeListParams params, RequestOptions options) {
+    String path = "/v1/promotion_codes";
+    ApiRequest request =
+        new ApiRequest(
+            BaseAddress.API,
+            ApiResource.RequestMethod.GET,
+            path,
+            ApiRequestParams.paramsToMap(params),
+            options);
+    return this.requestAsync(
+        request, new TypeToken<StripeCollection<PromotionCode>>() {}.getType());
+  }
   /**
    * A promotion code points to a coupon. You can optionally restrict the code to a specific
    * customer, redemption limit, and expiration date.
@@ -71,6 +86,22 @@ public final class PromotionCodeService extends ApiService {
             options);
     return this.request(request, PromotionCode.class);
   }
+  /**
+   * A promotion code points to a coupon. You can optionally restrict the code to a specific
+   * customer, redemption limit, and expiration date.
+   */
+  public CompletableFuture<PromotionCode> createAsync(
+      PromotionCodeCreateParams params, RequestOptions options) {
+    String path = "/v1/promotion_codes";
+    ApiRequest request =
+        new ApiRequest(
+            BaseAddress.API,
+            ApiResource.RequestMethod.POST,
+            path,
+            ApiRequestParams.paramsToMap(params),
+            options);
+    return this.requestAsync(request, PromotionCode.class);
+  }
   /**
    * Retrieves the promotion code with the given ID. In order to retrieve a promotion code by the
    * customer-facing {@code code} use <a
@@ -115,6 +146,26 @@ public final class PromotionCodeService extends ApiService {
             options);
     return this.request(request, PromotionCode.class);
   }
+  /**
+   * Retrieves the promotion code with the given ID. In order to retrieve a promotion code by the
+   * customer-facing {@code code} use <a
+   * href="https://stripe.com/docs/api/promotion_codes/list">list</a> with the desired {@code code}.
+   */
+  public CompletableFuture<PromotionCode> retrieveAsync(
+      String promotionCode, PromotionCodeRetrieveParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path =
+              String.format("/v1/promotion_codes/%s", ApiResource.urlEncodeId(promotionCode));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.GET,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        PromotionCode.class);
+  }
   /**
    * Updates the specified promotion code by setting the values of the parameters passed. Most
    * fields are, by design, not editable.
@@ -154,4 +205,23 @@ public final class PromotionCodeService extends ApiService {
             options);
     return this.request(request, PromotionCode.class);
   }
+  /**
+   * Updates the specified promotion code by setting the values of the parameters passed. Most
+   * fields are, by design, not editable.
+   */
+  public CompletableFuture<PromotionCode> updateAsync(
+      String promotionCode, PromotionCodeUpdateParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path =
+              String.format("/v1/promotion_codes/%s", ApiResource.urlEncodeId(promotionCode));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.POST,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        PromotionCode.class);
+  }
 }
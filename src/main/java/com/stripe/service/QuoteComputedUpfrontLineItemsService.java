@@ -13,6 +13,7 @@ import com.stripe.net.BaseAddress;
 import com.stripe.net.RequestOptions;
 import com.stripe.net.StripeResponseGetter;
 import com.stripe.param.QuoteComputedUpfrontLineItemsListParams;
+import java.util.concurrent.CompletableFuture;
 
 public final class QuoteComputedUpfrontLineItemsService extends ApiService {
   public QuoteComputedUpfrontLineItemsService(StripeResponseGetter responseGetter) {
@@ -68,4 +69,26 @@ public final class QuoteComputedUpfrontLineItemsService extends ApiService {
             options);
     return this.request(request, new TypeToken<StripeCollection<LineItem>>() {}.getType());
   }
+  /**
+   * When retrieving a quote, there is an includable <a
+   * href="https://stripe.com/docs/api/quotes/object#quote_object-computed-upfront-line_items"><strong>computed.upfront.line_items</strong></a>
+   * property containing the first handful of those items. There is also a URL where you can
+   * retrieve the full (paginated) list of upfront line items.
+   */
+  public CompletableFuture<StripeCollection<LineItem>> listAsync(
+      String quote, QuoteComputedUpfrontLineItemsListParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path =
+              String.format(
+                  "/v1/quotes/%s/computed_upfront_line_items", ApiResource.urlEncodeId(quote));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.GET,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        new TypeToken<StripeCollection<LineItem>>() {}.getType());
+  }
 }
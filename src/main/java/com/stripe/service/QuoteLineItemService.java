@@ -13,6 +13,7 @@ import com.stripe.net.BaseAddress;
 import com.stripe.net.RequestOptions;
 import com.stripe.net.StripeResponseGetter;
 import com.stripe.param.QuoteLineItemListParams;
+import java.util.concurrent.CompletableFuture;
 
 public final class QuoteLineItemService extends ApiService {
   public QuoteLineItemService(StripeResponseGetter responseGetter) {
@@ -62,4 +63,23 @@ public final class QuoteLineItemService extends ApiService {
             options);
     return this.request(request, new TypeToken<StripeCollection<LineItem>>() {}.getType());
   }
+  /**
+   * When retrieving a quote, there is an includable <strong>line_items</strong> property containing
+   * the first handful of those items. There is also a URL where you can retrieve the full
+   * (paginated) list of line items.
+   */
+  public CompletableFuture<StripeCollection<LineItem>> listAsync(
+      String quote, QuoteLineItemListParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path = String.format("/v1/quotes/%s/line_items", ApiResource.urlEncodeId(quote));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.GET,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        new TypeToken<StripeCollection<LineItem>>() {}.getType());
+  }
 }
@@ -21,6 +21,7 @@ import com.stripe.param.QuotePdfParams;
 import com.stripe.param.QuoteRetrieveParams;
 import com.stripe.param.QuoteUpdateParams;
 import java.io.InputStream;
+import java.util.concurrent.CompletableFuture;
 
 public final class QuoteService extends ApiService {
   public QuoteService(StripeResponseGetter responseGetter) {
@@ -52,6 +53,19 @@ public final class QuoteService extends ApiService {
             options);
     return this.request(request, new TypeToken<StripeCollection<Quote>>() {}.getType());
   }
+  /** Returns a list of your quotes. */
+  public CompletableFuture<StripeCollection<Quote>> listAsync(
+      QuoteListParams params, RequestOptions options) {
+    String path = "/v1/quotes";
+    ApiRequest request =
+        new ApiRequest(
+            BaseAddress.API,
+            ApiResource.RequestMethod.GET,
+            path,
+            ApiRequestParams.paramsToMap(params),
+            options);
+    return this.requestAsync(request, new TypeToken<StripeCollection<Quote>>() {}.getType());
+  }
   /**
    * A quote models prices and services for a customer. Default options for {@code header}, {@code
    * description}, {@code footer}, and {@code expires_at} can be set in the dashboard via the <a
@@ -92,6 +106,22 @@ public final class QuoteService extends ApiService {
             options);
     return this.request(request, Quote.class);
   }
+  /**
+   * A quote models prices and services for a customer. Default options for {@code header}, {@code
+   * description}, {@code footer}, and {@code expires_at} can be set in the dashboard via the <a
+   * href="https://dashboard.stripe.com/settings/billing/quote">quote template</a>.
+   */
+  public CompletableFuture<Quote> createAsync(QuoteCreateParams params, RequestOptions options) {
+    String path = "/v1/quotes";
+    ApiRequest request =
+        new ApiRequest(
+            BaseAddress.API,
+            ApiResource.RequestMethod.POST,
+            path,
+            ApiRequestParams.paramsToMap(params),
+            options);
+    return this.requestAsync(request, Quote.class);
+  }
   /** Retrieves the quote with the given ID. */
   public Quote retrieve(String quote, QuoteRetrieveParams params) throws StripeException {
     return retrieve(quote, params, (RequestOptions) null);
@@ -117,6 +147,21 @@ public final class QuoteService extends ApiService {
             options);
     return this.request(request, Quote.class);
   }
+  /** Retrieves the quote with the given ID. */
+  public CompletableFuture<Quote> retrieveAsync(
+      String quote, QuoteRetrieveParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path = String.format("/v1/quotes/%s", ApiResource.urlEncodeId(quote));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.GET,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        Quote.class);
+  }
   /** A quote models prices and services for a customer. */
   public Quote update(String quote, QuoteUpdateParams params) throws StripeException {
     return update(quote, params, (RequestOptions) null);
@@ -142,6 +187,21 @@ public final class QuoteService extends ApiService {
             options);
     return this.request(request, Quote.class);
   }
+  /** A quote models prices and services for a customer. */
+  public CompletableFuture<Quote> updateAsync(
+      String quote, QuoteUpdateParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path = String.format("/v1/quotes/%s", ApiResource.urlEncodeId(quote));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.POST,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        Quote.class);
+  }
   /** Accepts the specified quote. */
   public Quote accept(String quote, QuoteAcceptParams params) throws StripeException {
     return accept(quote, params, (RequestOptions) null);
@@ -167,6 +227,21 @@ public final class QuoteService extends ApiService {
             options);
     return this.request(request, Quote.class);
   }
+  /** Accepts the specified quote. */
+  public CompletableFuture<Quote> acceptAsync(
+      String quote, QuoteAcceptParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path = String.format("/v1/quotes/%s/accept", ApiResource.urlEncodeId(quote));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.POST,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        Quote.class);
+  }
   /** Cancels the quote. */
   public Quote cancel(String quote, QuoteCancelParams params) throws StripeException {
     return cancel(quote, params, (RequestOptions) null);
@@ -192,6 +267,21 @@ public final class QuoteService extends ApiService {
             options);
     return this.request(request, Quote.class);
   }
+  /** Cancels the quote. */
+  public CompletableFuture<Quote> cancelAsync(
+      String quote, QuoteCancelParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path = String.format("/v1/quotes/%s/cancel", ApiResource.urlEncodeId(quote));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.POST,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        Quote.class);
+  }
   /** Finalizes the quote. */
   public Quote finalizeQuote(String quote, QuoteFinalizeQuoteParams params) throws StripeException {
     return finalizeQuote(quote, params, (RequestOptions) null);
@@ -217,6 +307,21 @@ public final class QuoteService extends ApiService {
             options);
     return this.request(request, Quote.class);
   }
+  /** Finalizes the quote. */
+  public CompletableFuture<Quote> finalizeQuoteAsync(
+      String quote, QuoteFinalizeQuoteParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path = String.format("/v1/quotes/%s/finalize", ApiResource.urlEncodeId(quote));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.POST,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        Quote.class);
+  }
   /**
    * Download the PDF for a finalized quote. Explanation for special handling can be found <a
    * href="https://docs.stripe.com/quotes/overview#quote_pdf">here</a>
@@ -17,6 +17,7 @@ import com.stripe.param.RefundCreateParams;
 import com.stripe.param.RefundListParams;
 import com.stripe.param.RefundRetrieveParams;
 import com.stripe.param.RefundUpdateParams;
+import java.util.concurrent.CompletableFuture;
 
 public final class RefundService extends ApiService {
   public RefundService(StripeResponseGetter responseGetter) {
@@ -64,6 +65,23 @@ public final class RefundService extends ApiService {
             options);
     return this.request(request, new TypeToken<StripeCollection<Refund>>() {}.getType());
   }
+  /**
+   * Returns a list of all refunds you created. We return the refunds in sorted order, with the most
+   * recent refunds appearing first. The 10 most recent refunds are always available by default on
+   * the Charge object.
+   */
+  public CompletableFuture<StripeCollection<Refund>> listAsync(
+      RefundListParams params, RequestOptions options) {
+    String path = "/v1/refunds";
+    ApiRequest request =
+        new ApiRequest(
+            BaseAddress.API,
+            ApiResource.RequestMethod.GET,
+            path,
+            ApiRequestParams.paramsToMap(params),
+            options);
+    return this.requestAsync(request, new TypeToken<StripeCollection<Refund>>() {}.getType());
+  }
   /**
    * When you create a new refund, you must specify a Charge or a PaymentIntent object on which to
    * create it.
@@ -140,6 +158,31 @@ public final class RefundService extends ApiService {
             options);
     return this.request(request, Refund.class);
   }
+  /**
+   * When you create a new refund, you must specify a Charge or a PaymentIntent object on which to
+   * create it.
+   *
+   * <p>Creating a new refund will refund a charge that has previously been created but not yet
+   * refunded. Funds will be refunded to the credit or debit card that was originally charged.
+   *
+   * <p>You can optionally refund only part of a charge. You can do so multiple times, until the
+   * entire charge has been refunded.
+   *
+   * <p>Once entirely refunded, a charge can’t be refunded again. This method will raise an error
+   * when called on an already-refunded charge, or when trying to refund more money than is left on
+   * a charge.
+   */
+  public CompletableFuture<Refund> createAsync(RefundCreateParams params, RequestOptions options) {
+    String path = "/v1/refunds";
+    ApiRequest request =
+        new ApiRequest(
+            BaseAddress.API,
+            ApiResource.RequestMethod.POST,
+            path,
+            ApiRequestParams.paramsToMap(params),
+            options);
+    return this.requestAsync(request, Refund.class);
+  }
   /** Retrieves the details of an existing refund. */
   public Refund retrieve(String refund, RefundRetrieveParams params) throws StripeException {
     return retrieve(refund, params, (RequestOptions) null);
@@ -165,6 +208,21 @@ public final class RefundService extends ApiService {
             options);
     return this.request(request, Refund.class);
   }
+  /** Retrieves the details of an existing refund. */
+  public CompletableFuture<Refund> retrieveAsync(
+      String refund, RefundRetrieveParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path = String.format("/v1/refunds/%s", ApiResource.urlEncodeId(refund));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.GET,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        Refund.class);
+  }
   /**
    * Updates the refund that you specify by setting the values of the passed parameters. Any
    * parameters that you don’t provide remain unchanged.
@@ -210,6 +268,26 @@ public final class RefundService extends ApiService {
             options);
     return this.request(request, Refund.class);
   }
+  /**
+   * Updates the refund that you specify by setting the values of the passed parameters. Any
+   * parameters that you don’t provide remain unchanged.
+   *
+   * <p>This request only accepts {@code metadata} as an argument.
+   */
+  public CompletableFuture<Refund> updateAsync(
+      String refund, RefundUpdateParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path = String.format("/v1/refunds/%s", ApiResource.urlEncodeId(refund));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.POST,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        Refund.class);
+  }
   /**
    * Cancels a refund with a status of {@code requires_action}.
    *
@@ -255,4 +333,24 @@ public final class RefundService extends ApiService {
             options);
     return this.request(request, Refund.class);
   }
+  /**
+   * Cancels a refund with a status of {@code requires_action}.
+   *
+   * <p>You can’t cancel refunds in other states. Only refunds for payment methods that require
+   * customer action can enter the {@code requires_action} state.
+   */
+  public CompletableFuture<Refund> cancelAsync(
+      String refund, RefundCancelParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path = String.format("/v1/refunds/%s/cancel", ApiResource.urlEncodeId(refund));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.POST,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        Refund.class);
+  }
 }
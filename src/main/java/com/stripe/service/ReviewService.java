@@ -15,6 +15,7 @@ import com.stripe.net.StripeResponseGetter;
 import com.stripe.param.ReviewApproveParams;
 import com.stripe.param.ReviewListParams;
 import com.stripe.param.ReviewRetrieveParams;
+import java.util.concurrent.CompletableFuture;
 
 public final class ReviewService extends ApiService {
   public ReviewService(StripeResponseGetter responseGetter) {
@@ -62,6 +63,23 @@ public final class ReviewService extends ApiService {
             options);
     return this.request(request, new TypeToken<StripeCollection<Review>>() {}.getType());
   }
+  /**
+   * Returns a list of {@code Review} objects that have {@code open} set to {@code true}. The
+   * objects are sorted in descending order by creation date, with the most recently created object
+   * appearing first.
+   */
+  public CompletableFuture<StripeCollection<Review>> listAsync(
+      ReviewListParams params, RequestOptions options) {
+    String path = "/v1/reviews";
+    ApiRequest request =
+        new ApiRequest(
+            BaseAddress.API,
+            ApiResource.RequestMethod.GET,
+            path,
+            ApiRequestParams.paramsToMap(params),
+            options);
+    return this.requestAsync(request, new TypeToken<StripeCollection<Review>>() {}.getType());
+  }
   /** Retrieves a {@code Review} object. */
   public Review retrieve(String review, ReviewRetrieveParams params) throws StripeException {
     return retrieve(review, params, (RequestOptions) null);
@@ -87,6 +105,21 @@ public final class ReviewService extends ApiService {
             options);
     return this.request(request, Review.class);
   }
+  /** Retrieves a {@code Review} object. */
+  public CompletableFuture<Review> retrieveAsync(
+      String review, ReviewRetrieveParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path = String.format("/v1/reviews/%s", ApiResource.urlEncodeId(review));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.GET,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        Review.class);
+  }
   /** Approves a {@code Review} object, closing it and removing it from the list of reviews. */
   public Review approve(String review, ReviewApproveParams params) throws StripeException {
     return approve(review, params, (RequestOptions) null);
@@ -112,4 +145,19 @@ public final class ReviewService extends ApiService {
             options);
     return this.request(request, Review.class);
   }
+  /** Approves a {@code Review} object, closing it and removing it from the list of reviews. */
+  public CompletableFuture<Review> approveAsync(
+      String review, ReviewApproveParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path = String.format("/v1/reviews/%s/approve", ApiResource.urlEncodeId(review));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.POST,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        Review.class);
+  }
 }
@@ -13,6 +13,7 @@ import com.stripe.net.BaseAddress;
 import com.stripe.net.RequestOptions;
 import com.stripe.net.StripeResponseGetter;
 import com.stripe.param.SetupAttemptListParams;
+import java.util.concurrent.CompletableFuture;
 
 public final class SetupAttemptService extends ApiService {
   public SetupAttemptService(StripeResponseGetter responseGetter) {
@@ -36,4 +37,17 @@ public final class SetupAttemptService extends ApiService {
             options);
     return this.request(request, new TypeToken<StripeCollection<SetupAttempt>>() {}.getType());
   }
+  /** Returns a list of SetupAttempts that associate with a provided SetupIntent. */
+  public CompletableFuture<StripeCollection<SetupAttempt>> listAsync(
+      SetupAttemptListParams params, RequestOptions options) {
+    String path = "/v1/setup_attempts";
+    ApiRequest request =
+        new ApiRequest(
+            BaseAddress.API,
+            ApiResource.RequestMethod.GET,
+            path,
+            ApiRequestParams.paramsToMap(params),
+            options);
+    return this.requestAsync(request, new TypeToken<StripeCollection<SetupAttempt>>() {}.getType());
+  }
 }
@@ -19,6 +19,7 @@ import com.stripe.param.SetupIntentListParams;
 import com.stripe.param.SetupIntentRetrieveParams;
 import com.stripe.param.SetupIntentUpdateParams;
 import com.stripe.param.SetupIntentVerifyMicrodepositsParams;
+import java.util.concurrent.CompletableFuture;
 
 public final class SetupIntentService extends ApiService {
   public SetupIntentService(StripeResponseGetter responseGetter) {
@@ -50,6 +51,19 @@ public final class SetupIntentService extends ApiService {
             options);
     return this.request(request, new TypeToken<StripeCollection<SetupIntent>>() {}.getType());
   }
+  /** Returns a list of SetupIntents. */
+  public CompletableFuture<StripeCollection<SetupIntent>> listAsync(
+      SetupIntentListParams params, RequestOptions options) {
+    String path = "/v1/setup_intents";
+    ApiRequest request =
+        new ApiRequest(
+            BaseAddress.API,
+            ApiResource.RequestMethod.GET,
+            path,
+            ApiRequestParams.paramsToMap(params),
+            options);
+    return this.requestAsync(request, new TypeToken<StripeCollection<SetupIntent>>() {}.getType());
+  }
   /**
    * Creates a SetupIntent object.
    *
@@ -99,6 +113,25 @@ public final class SetupIntentService extends ApiService {
             options);
     return this.request(request, SetupIntent.class);
   }
+  /**
+   * Creates a SetupIntent object.
+   *
+   * <p>After you create the SetupIntent, attach a payment method and <a
+   * href="https://stripe.com/docs/api/setup_intents/confirm">confirm</a> it to collect any required
+   * permissions to charge the payment method later.
+   */
+  public CompletableFuture<SetupIntent> createAsync(
+      SetupIntentCreateParams params, RequestOptions options) {
+    String path = "/v1/setup_intents";
+    ApiRequest request =
+        new ApiRequest(
+            BaseAddress.API,
+            ApiResource.RequestMethod.POST,
+            path,
+            ApiRequestParams.paramsToMap(params),
+            options);
+    return this.requestAsync(request, SetupIntent.class);
+  }
   /**
    * Retrieves the details of a SetupIntent that has previously been created.
    *
@@ -162,6 +195,30 @@ public final class SetupIntentService extends ApiService {
             options);
     return this.request(request, SetupIntent.class);
   }
+  /**
+   * Retrieves the details of a SetupIntent that has previously been created.
+   *
+   * <p>Client-side retrieval using a publishable key is allowed when the {@code client_secret} is
+   * provided in the query string.
+   *
+   * <p>When retrieved with a publishable key, only a subset of properties will be returned. Please
+   * refer to the <a href="https://stripe.com/docs/api#setup_intent_object">SetupIntent</a> object
+   * reference for more details.
+   */
+  public CompletableFuture<SetupIntent> retrieveAsync(
+      String intent, SetupIntentRetrieveParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path = String.format("/v1/setup_intents/%s", ApiResource.urlEncodeId(intent));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.GET,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        SetupIntent.class);
+  }
   /** Updates a SetupIntent object. */
   public SetupIntent update(String intent, SetupIntentUpdateParams params) throws StripeException {
     return update(intent, params, (RequestOptions) null);
@@ -187,6 +244,21 @@ public final class SetupIntentService extends ApiService {
             options);
     return this.request(request, SetupIntent.class);
   }
+  /** Updates a SetupIntent object. */
+  public CompletableFuture<SetupIntent> updateAsync(
+      String intent, SetupIntentUpdateParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path = String.format("/v1/setup_intents/%s", ApiResource.urlEncodeId(intent));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.POST,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        SetupIntent.class);
+  }
   /**
    * You can cancel a SetupIntent object when it’s in one of these statuses: {@code
    * requires_payment_method}, {@code requires_confirmation}, or {@code requires_action}.
@@ -244,6 +316,30 @@ public final class SetupIntentService extends ApiService {
             options);
     return this.request(request, SetupIntent.class);
   }
+  /**
+   * You can cancel a SetupIntent object when it’s in one of these statuses: {@code
+   * requires_payment_method}, {@code requires_confirmation}, or {@code requires_action}.
+   *
+   * <p>After you cancel it, setup is abandoned and any operations on the SetupIntent fail with an
+   * error. You can’t cancel the SetupIntent for a Checkout Session. <a
+   * href="https://stripe.com/docs/api/checkout/sessions/expire">Expire the Checkout Session</a>
+   * instead.
+   */
+  public CompletableFuture<SetupIntent> cancelAsync(
+      String intent, SetupIntentCancelParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path =
+              String.format("/v1/setup_intents/%s/cancel", ApiResource.urlEncodeId(intent));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.POST,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        SetupIntent.class);
+  }
   /**
    * Confirm that your customer intends to set up the current or provided payment method. For
    * example, you would confirm a SetupIntent when a customer hits the “Save” button on a payment
@@ -318,6 +414,34 @@ public final class SetupIntentService extends ApiService {
             options);
     return this.request(request, SetupIntent.class);
   }
+  /**
+   * Confirm that your customer intends to set up the current or provided payment method. For
+   * example, you would confirm a SetupIntent when a customer hits the “Save” button on a payment
+   * method management page on your website.
+   *
+   * <p>If the selected payment method does not require any additional steps from the customer, the
+   * SetupIntent will transition to the {@code succeeded} status.
+   *
+   * <p>Otherwise, it will transition to the {@code requires_action} status and suggest additional
+   * actions via {@code next_action}. If setup fails, the SetupIntent will transition to the {@code
+   * requires_payment_method} status or the {@code canceled} status if the confirmation limit is
+   * reached.
+   */
+  public CompletableFuture<SetupIntent> confirmAsync(
+      String intent, SetupIntentConfirmParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path =
+              String.format("/v1/setup_intents/%s/confirm", ApiResource.urlEncodeId(intent));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.POST,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        SetupIntent.class);
+  }
   /** Verifies microdeposits on a SetupIntent object. */
   public SetupIntent verifyMicrodeposits(String intent, SetupIntentVerifyMicrodepositsParams params)
       throws StripeException {
@@ -348,4 +472,21 @@ public final class SetupIntentService extends ApiService {
             options);
     return this.request(request, SetupIntent.class);
   }
+  /** Verifies microdeposits on a SetupIntent object. */
+  public CompletableFuture<SetupIntent> verifyMicrodepositsAsync(
+      String intent, SetupIntentVerifyMicrodepositsParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path =
+              String.format(
+                  "/v1/setup_intents/%s/verify_microdeposits", ApiResource.urlEncodeId(intent));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.POST,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        SetupIntent.class);
+  }
 }
@@ -16,6 +16,7 @@ import com.stripe.param.ShippingRateCreateParams;
 import com.stripe.param.ShippingRateListParams;
 import com.stripe.param.ShippingRateRetrieveParams;
 import com.stripe.param.ShippingRateUpdateParams;
+import java.util.concurrent.CompletableFuture;
 
 public final class ShippingRateService extends ApiService {
   public ShippingRateService(StripeResponseGetter responseGetter) {
@@ -47,6 +48,19 @@ public final class ShippingRateService extends ApiService {
             options);
     return this.request(request, new TypeToken<StripeCollection<ShippingRate>>() {}.getType());
   }
+  /** Returns a list of your shipping rates. */
+  public CompletableFuture<StripeCollection<ShippingRate>> listAsync(
+      ShippingRateListParams params, RequestOptions options) {
+    String path = "/v1/shipping_rates";
+    ApiRequest request =
+        new ApiRequest(
+            BaseAddress.API,
+            ApiResource.RequestMethod.GET,
+            path,
+            ApiRequestParams.paramsToMap(params),
+            options);
+    return this.requestAsync(request, new TypeToken<StripeCollection<ShippingRate>>() {}.getType());
+  }
   /** Creates a new shipping rate object. */
   public ShippingRate create(ShippingRateCreateParams params) throws StripeException {
     return create(params, (RequestOptions) null);
@@ -64,6 +78,19 @@ public final class ShippingRateService extends ApiService {
             options);
     return this.request(request, ShippingRate.class);
   }
+  /** Creates a new shipping rate object. */
+  public CompletableFuture<ShippingRate> createAsync(
+      ShippingRateCreateParams params, RequestOptions options) {
+    String path = "/v1/shipping_rates";
+    ApiRequest request =
+        new ApiRequest(
+            BaseAddress.API,
+            ApiResource.RequestMethod.POST,
+            path,
+            ApiRequestParams.paramsToMap(params),
+            options);
+    return this.requestAsync(request, ShippingRate.class);
+  }
   /** Returns the shipping rate object with the given ID. */
   public ShippingRate retrieve(String shippingRateToken, ShippingRateRetrieveParams params)
       throws StripeException {
@@ -93,6 +120,22 @@ public final class ShippingRateService extends ApiService {
             options);
     return this.request(request, ShippingRate.class);
   }
+  /** Returns the shipping rate object with the given ID. */
+  public CompletableFuture<ShippingRate> retrieveAsync(
+      String shippingRateToken, ShippingRateRetrieveParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path =
+              String.format("/v1/shipping_rates/%s", ApiResource.urlEncodeId(shippingRateToken));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.GET,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        ShippingRate.class);
+  }
   /** Updates an existing shipping rate object. */
   public ShippingRate update(String shippingRateToken, ShippingRateUpdateParams params)
       throws StripeException {
@@ -122,4 +165,20 @@ public final class ShippingRateService extends ApiService {
             options);
     return this.request(request, ShippingRate.class);
   }
+  /** Updates an existing shipping rate object. */
+  public CompletableFuture<ShippingRate> updateAsync(
+      String shippingRateToken, ShippingRateUpdateParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path =
+              String.format("/v1/shipping_rates/%s", ApiResource.urlEncodeId(shippingRateToken));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.POST,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        ShippingRate.class);
+  }
 }
@@ -16,6 +16,7 @@ import com.stripe.param.SourceDetachParams;
 import com.stripe.param.SourceRetrieveParams;
 import com.stripe.param.SourceUpdateParams;
 import com.stripe.param.SourceVerifyParams;
+import java.util.concurrent.CompletableFuture;
 
 public final class SourceService extends ApiService {
   public SourceService(StripeResponseGetter responseGetter) {
@@ -53,6 +54,24 @@ public final class SourceService extends ApiService {
             options);
     return this.request(request, PaymentSource.class);
   }
+  /** Delete a specified source for a given customer. */
+  public CompletableFuture<PaymentSource> detachAsync(
+      String customer, String id, SourceDetachParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path =
+              String.format(
+                  "/v1/customers/%s/sources/%s",
+                  ApiResource.urlEncodeId(customer), ApiResource.urlEncodeId(id));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.DELETE,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        PaymentSource.class);
+  }
   /**
    * Retrieves an existing source object. Supply the unique source ID from a source creation request
    * and Stripe will return the corresponding up-to-date source object information.
@@ -90,6 +109,24 @@ public final class SourceService extends ApiService {
             options);
     return this.request(request, Source.class);
   }
+  /**
+   * Retrieves an existing source object. Supply the unique source ID from a source creation request
+   * and Stripe will return the corresponding up-to-date source object information.
+   */
+  public CompletableFuture<Source> retrieveAsync(
+      String source, SourceRetrieveParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path = String.format("/v1/sources/%s", ApiResource.urlEncodeId(source));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.GET,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        Source.class);
+  }
   /**
    * Updates the specified source by setting the values of the parameters passed. Any parameters not
    * provided will be left unchanged.
@@ -143,6 +180,28 @@ public final class SourceService extends ApiService {
             options);
     return this.request(request, Source.class);
   }
+  /**
+   * Updates the specified source by setting the values of the parameters passed. Any parameters not
+   * provided will be left unchanged.
+   *
+   * <p>This request accepts the {@code metadata} and {@code owner} as arguments. It is also
+   * possible to update type specific information for selected payment methods. Please refer to our
+   * <a href="https://stripe.com/docs/sources">payment method guides</a> for more detail.
+   */
+  public CompletableFuture<Source> updateAsync(
+      String source, SourceUpdateParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path = String.format("/v1/sources/%s", ApiResource.urlEncodeId(source));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.POST,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        Source.class);
+  }
   /** Creates a new source object. */
   public Source create(SourceCreateParams params) throws StripeException {
     return create(params, (RequestOptions) null);
@@ -167,6 +226,18 @@ public final class SourceService extends ApiService {
             options);
     return this.request(request, Source.class);
   }
+  /** Creates a new source object. */
+  public CompletableFuture<Source> createAsync(SourceCreateParams params, RequestOptions options) {
+    String path = "/v1/sources";
+    ApiRequest request =
+        new ApiRequest(
+            BaseAddress.API,
+            ApiResource.RequestMethod.POST,
+            path,
+            ApiRequestParams.paramsToMap(params),
+            options);
+    return this.requestAsync(request, Source.class);
+  }
   /** Verify a given source. */
   public Source verify(String source, SourceVerifyParams params) throws StripeException {
     return verify(source, params, (RequestOptions) null);
@@ -184,6 +255,21 @@ public final class SourceService extends ApiService {
             options);
     return this.request(request, Source.class);
   }
+  /** Verify a given source. */
+  public CompletableFuture<Source> verifyAsync(
+      String source, SourceVerifyParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path = String.format("/v1/sources/%s/verify", ApiResource.urlEncodeId(source));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.POST,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        Source.class);
+  }
 
   public com.stripe.service.SourceTransactionService transactions() {
     return new com.stripe.service.SourceTransactionService(this.getResponseGetter());
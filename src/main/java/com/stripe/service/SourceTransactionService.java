@@ -13,6 +13,7 @@ import com.stripe.net.BaseAddress;
 import com.stripe.net.RequestOptions;
 import com.stripe.net.StripeResponseGetter;
 import com.stripe.param.SourceTransactionListParams;
+import java.util.concurrent.CompletableFuture;
 
 public final class SourceTransactionService extends ApiService {
   public SourceTransactionService(StripeResponseGetter responseGetter) {
@@ -48,4 +49,20 @@ public final class SourceTransactionService extends ApiService {
             options);
     return this.request(request, new TypeToken<StripeCollection<SourceTransaction>>() {}.getType());
   }
+  /** List source transactions for a given source. */
+  public CompletableFuture<StripeCollection<SourceTransaction>> listAsync(
+      String source, SourceTransactionListParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path =
+              String.format("/v1/sources/%s/source_transactions", ApiResource.urlEncodeId(source));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.GET,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        new TypeToken<StripeCollection<SourceTransaction>>() {}.getType());
+  }
 }
@@ -17,6 +17,7 @@ import com.stripe.param.SubscriptionItemDeleteParams;
 import com.stripe.param.SubscriptionItemListParams;
 import com.stripe.param.SubscriptionItemRetrieveParams;
 import com.stripe.param.SubscriptionItemUpdateParams;
+import java.util.concurrent.CompletableFuture;
 
 public final class SubscriptionItemService extends ApiService {
   public SubscriptionItemService(StripeResponseGetter responseGetter) {
@@ -62,6 +63,24 @@ public final class SubscriptionItemService extends ApiService {
             options);
     return this.request(request, SubscriptionItem.class);
   }
+  /**
+   * Deletes an item from the subscription. Removing a subscription item from a subscription will
+   * not cancel the subscription.
+   */
+  public CompletableFuture<SubscriptionItem> deleteAsync(
+      String item, SubscriptionItemDeleteParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path = String.format("/v1/subscription_items/%s", ApiResource.urlEncodeId(item));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.DELETE,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        SubscriptionItem.class);
+  }
   /** Retrieves the subscription item with the given ID. */
   public SubscriptionItem retrieve(String item, SubscriptionItemRetrieveParams params)
       throws StripeException {
@@ -89,6 +108,21 @@ public final class SubscriptionItemService extends ApiService {
             options);
     return this.request(request, SubscriptionItem.class);
   }
+  /** Retrieves the subscription item with the given ID. */
+  public CompletableFuture<SubscriptionItem> retrieveAsync(
+      String item, SubscriptionItemRetrieveParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path = String.format("/v1/subscription_items/%s", ApiResource.urlEncodeId(item));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.GET,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        SubscriptionItem.class);
+  }
   /** Updates the plan or quantity of an item on a current subscription. */
   public SubscriptionItem update(String item, SubscriptionItemUpdateParams params)
       throws StripeException {
@@ -116,6 +150,21 @@ public final class SubscriptionItemService extends ApiService {
             options);
     return this.request(request, SubscriptionItem.class);
   }
+  /** Updates the plan or quantity of an item on a current subscription. */
+  public CompletableFuture<SubscriptionItem> updateAsync(
+      String item, SubscriptionItemUpdateParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path = String.format("/v1/subscription_items/%s", ApiResource.urlEncodeId(item));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.POST,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        SubscriptionItem.class);
+  }
   /** Returns a list of your subscription items for a given subscription. */
   public StripeCollection<SubscriptionItem> list(SubscriptionItemListParams params)
       throws StripeException {
@@ -134,6 +183,20 @@ public final class SubscriptionItemService extends ApiService {
             options);
     return this.request(request, new TypeToken<StripeCollection<SubscriptionItem>>() {}.getType());
   }
+  /** Returns a list of your subscription items for a given subscription. */
+  public CompletableFuture<StripeCollection<SubscriptionItem>> listAsync(
+      SubscriptionItemListParams params, RequestOptions options) {
+    String path = "/v1/subscription_items";
+    ApiRequest request =
+        new ApiRequest(
+            BaseAddress.API,
+            ApiResource.RequestMethod.GET,
+            path,
+            ApiRequestParams.paramsToMap(params),
+            options);
+    return this.requestAsync(
+        request, new TypeToken<StripeCollection<SubscriptionItem>>() {}.getType());
+  }
   /** Adds a new item to an existing subscription. No existing items will be changed or replaced. */
   public SubscriptionItem create(SubscriptionItemCreateParams params) throws StripeException {
     return create(params, (RequestOptions) null);
@@ -151,6 +214,19 @@ public final class SubscriptionItemService extends ApiService {
             options);
     return this.request(request, SubscriptionItem.class);
   }
+  /** Adds a new item to an existing subscription. No existing items will be changed or replaced. */
+  public CompletableFuture<SubscriptionItem> createAsync(
+      SubscriptionItemCreateParams params, RequestOptions options) {
+    String path = "/v1/subscription_items";
+    ApiRequest request =
+        new ApiRequest(
+            BaseAddress.API,
+            ApiResource.RequestMethod.POST,
+            path,
+            ApiRequestParams.paramsToMap(params),
+            options);
+    return this.requestAsync(request, SubscriptionItem.class);
+  }
 
   public com.stripe.service.SubscriptionItemUsageRecordSummaryService usageRecordSummaries() {
     return new com.stripe.service.SubscriptionItemUsageRecordSummaryService(
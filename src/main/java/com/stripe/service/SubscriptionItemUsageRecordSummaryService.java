@@ -13,6 +13,7 @@ import com.stripe.net.BaseAddress;
 import com.stripe.net.RequestOptions;
 import com.stripe.net.StripeResponseGetter;
 import com.stripe.param.SubscriptionItemUsageRecordSummaryListParams;
+import java.util.concurrent.CompletableFuture;
 
 public final class SubscriptionItemUsageRecordSummaryService extends ApiService {
   public SubscriptionItemUsageRecordSummaryService(StripeResponseGetter responseGetter) {
@@ -93,4 +94,33 @@ public final class SubscriptionItemUsageRecordSummaryService extends ApiService
     return this.request(
         request, new TypeToken<StripeCollection<UsageRecordSummary>>() {}.getType());
   }
+  /**
+   * For the specified subscription item, returns a list of summary objects. Each object in the list
+   * provides usage information that’s been summarized from multiple usage records and over a
+   * subscription billing period (e.g., 15 usage records in the month of September).
+   *
+   * <p>The list is sorted in reverse-chronological order (newest first). The first list item
+   * represents the most current usage period that hasn’t ended yet. Since new usage records can
+   * still be added, the returned summary information for the subscription item’s ID should be seen
+   * as unstable until the subscription billing period ends.
+   */
+  public CompletableFuture<StripeCollection<UsageRecordSummary>> listAsync(
+      String subscriptionItem,
+      SubscriptionItemUsageRecordSummaryListParams params,
+      RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path =
+              String.format(
+                  "/v1/subscription_items/%s/usage_record_summaries",
+                  ApiResource.urlEncodeId(subscriptionItem));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.GET,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        new TypeToken<StripeCollection<UsageRecordSummary>>() {}.getType());
+  }
 }
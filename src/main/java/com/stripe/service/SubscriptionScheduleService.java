@@ -18,6 +18,7 @@ import com.stripe.param.SubscriptionScheduleListParams;
 import com.stripe.param.SubscriptionScheduleReleaseParams;
 import com.stripe.param.SubscriptionScheduleRetrieveParams;
 import com.stripe.param.SubscriptionScheduleUpdateParams;
+import java.util.concurrent.CompletableFuture;
 
 public final class SubscriptionScheduleService extends ApiService {
   public SubscriptionScheduleService(StripeResponseGetter responseGetter) {
@@ -52,6 +53,20 @@ public final class SubscriptionScheduleService extends ApiService {
     return this.request(
         request, new TypeToken<StripeCollection<SubscriptionSchedule>>() {}.getType());
   }
+  /** Retrieves the list of your subscription schedules. */
+  public CompletableFuture<StripeCollection<SubscriptionSchedule>> listAsync(
+      SubscriptionScheduleListParams params, RequestOptions options) {
+    String path = "/v1/subscription_schedules";
+    ApiRequest request =
+        new ApiRequest(
+            BaseAddress.API,
+            ApiResource.RequestMethod.GET,
+            path,
+            ApiRequestParams.paramsToMap(params),
+            options);
+    return this.requestAsync(
+        request, new TypeToken<StripeCollection<SubscriptionSchedule>>() {}.getType());
+  }
   /**
    * Creates a new subscription schedule object. Each customer can have up to 500 active or
    * scheduled subscriptions.
@@ -90,6 +105,22 @@ public final class SubscriptionScheduleService extends ApiService {
             options);
     return this.request(request, SubscriptionSchedule.class);
   }
+  /**
+   * Creates a new subscription schedule object. Each customer can have up to 500 active or
+   * scheduled subscriptions.
+   */
+  public CompletableFuture<SubscriptionSchedule> createAsync(
+      SubscriptionScheduleCreateParams params, RequestOptions options) {
+    String path = "/v1/subscription_schedules";
+    ApiRequest request =
+        new ApiRequest(
+            BaseAddress.API,
+            ApiResource.RequestMethod.POST,
+            path,
+            ApiRequestParams.paramsToMap(params),
+            options);
+    return this.requestAsync(request, SubscriptionSchedule.class);
+  }
   /**
    * Retrieves the details of an existing subscription schedule. You only need to supply the unique
    * subscription schedule identifier that was returned upon subscription schedule creation.
@@ -130,6 +161,25 @@ public final class SubscriptionScheduleService extends ApiService {
             options);
     return this.request(request, SubscriptionSchedule.class);
   }
+  /**
+   * Retrieves the details of an existing subscription schedule. You only need to supply the unique
+   * subscription schedule identifier that was returned upon subscription schedule creation.
+   */
+  public CompletableFuture<SubscriptionSchedule> retrieveAsync(
+      String schedule, SubscriptionScheduleRetrieveParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path =
+              String.format("/v1/subscription_schedules/%s", ApiResource.urlEncodeId(schedule));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.GET,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        SubscriptionSchedule.class);
+  }
   /** Updates an existing subscription schedule. */
   public SubscriptionSchedule update(String schedule, SubscriptionScheduleUpdateParams params)
       throws StripeException {
@@ -158,6 +208,22 @@ public final class SubscriptionScheduleService extends ApiService {
             options);
     return this.request(request, SubscriptionSchedule.class);
   }
+  /** Updates an existing subscription schedule. */
+  public CompletableFuture<SubscriptionSchedule> updateAsync(
+      String schedule, SubscriptionScheduleUpdateParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path =
+              String.format("/v1/subscription_schedules/%s", ApiResource.urlEncodeId(schedule));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.POST,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        SubscriptionSchedule.class);
+  }
   /**
    * Cancels a subscription schedule and its associated subscription immediately (if the
    * subscription schedule has an active subscription). A subscription schedule can only be canceled
@@ -203,6 +269,27 @@ public final class SubscriptionScheduleService extends ApiService {
             options);
     return this.request(request, SubscriptionSchedule.class);
   }
+  /**
+   * Cancels a subscription schedule and its associated subscription immediately (if the
+   * subscription schedule has an active subscription). A subscription schedule can only be canceled
+   * if its status is {@code not_started} or {@code active}.
+   */
+  public CompletableFuture<SubscriptionSchedule> cancelAsync(
+      String schedule, SubscriptionScheduleCancelParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path =
+              String.format(
+                  "/v1/subscription_schedules/%s/cancel", ApiResource.urlEncodeId(schedule));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.POST,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        SubscriptionSchedule.class);
+  }
   /**
    * Releases the subscription schedule immediately, which will stop scheduling of its phases, but
    * leave any existing subscription in place. A schedule can only be released if its status is
@@ -256,4 +343,27 @@ public final class SubscriptionScheduleService extends ApiService {
             options);
     return this.request(request, SubscriptionSchedule.class);
   }
+  /**
+   * Releases the subscription schedule immediately, which will stop scheduling of its phases, but
+   * leave any existing subscription in place. A schedule can only be released if its status is
+   * {@code not_started} or {@code active}. If the subscription schedule is currently associated
+   * with a subscription, releasing it will remove its {@code subscription} property and set the
+   * subscription’s ID to the {@code released_subscription} property.
+   */
+  public CompletableFuture<SubscriptionSchedule> releaseAsync(
+      String schedule, SubscriptionScheduleReleaseParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path =
+              String.format(
+                  "/v1/subscription_schedules/%s/release", ApiResource.urlEncodeId(schedule));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.POST,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        SubscriptionSchedule.class);
+  }
 }
@@ -14,6 +14,7 @@ import com.stripe.net.RequestOptions;
 import com.stripe.net.StripeResponseGetter;
 import com.stripe.param.TaxCodeListParams;
 import com.stripe.param.TaxCodeRetrieveParams;
+import java.util.concurrent.CompletableFuture;
 
 public final class TaxCodeService extends ApiService {
   public TaxCodeService(StripeResponseGetter responseGetter) {
@@ -57,6 +58,22 @@ public final class TaxCodeService extends ApiService {
             options);
     return this.request(request, new TypeToken<StripeCollection<TaxCode>>() {}.getType());
   }
+  /**
+   * A list of <a href="https://stripe.com/docs/tax/tax-categories">all tax codes available</a> to
+   * add to Products in order to allow specific tax calculations.
+   */
+  public CompletableFuture<StripeCollection<TaxCode>> listAsync(
+      TaxCodeListParams params, RequestOptions options) {
+    String path = "/v1/tax_codes";
+    ApiRequest request =
+        new ApiRequest(
+            BaseAddress.API,
+            ApiResource.RequestMethod.GET,
+            path,
+            ApiRequestParams.paramsToMap(params),
+            options);
+    return this.requestAsync(request, new TypeToken<StripeCollection<TaxCode>>() {}.getType());
+  }
   /**
    * Retrieves the details of an existing tax code. Supply the unique tax code ID and Stripe will
    * return the corresponding tax code information.
@@ -94,4 +111,22 @@ public final class TaxCodeService extends ApiService {
             options);
     return this.request(request, TaxCode.class);
   }
+  /**
+   * Retrieves the details of an existing tax code. Supply the unique tax code ID and Stripe will
+   * return the corresponding tax code information.
+   */
+  public CompletableFuture<TaxCode> retrieveAsync(
+      String id, TaxCodeRetrieveParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path = String.format("/v1/tax_codes/%s", ApiResource.urlEncodeId(id));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.GET,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        TaxCode.class);
+  }
 }
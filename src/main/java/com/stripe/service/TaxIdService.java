@@ -15,6 +15,7 @@ import com.stripe.net.StripeResponseGetter;
 import com.stripe.param.TaxIdCreateParams;
 import com.stripe.param.TaxIdListParams;
 import com.stripe.param.TaxIdRetrieveParams;
+import java.util.concurrent.CompletableFuture;
 
 public final class TaxIdService extends ApiService {
   public TaxIdService(StripeResponseGetter responseGetter) {
@@ -32,6 +33,16 @@ public final class TaxIdService extends ApiService {
         new ApiRequest(BaseAddress.API, ApiResource.RequestMethod.DELETE, path, null, options);
     return this.request(request, TaxId.class);
   }
+  /** Deletes an existing account or customer {@code tax_id} object. */
+  public CompletableFuture<TaxId> deleteAsync(String id, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path = String.format("/v1/tax_ids/%s", ApiResource.urlEncodeId(id));
+          return new ApiRequest(
+              BaseAddress.API, ApiResource.RequestMethod.DELETE, path, null, options);
+        },
+        TaxId.class);
+  }
   /** Retrieves an account or customer {@code tax_id} object. */
   public TaxId retrieve(String id, TaxIdRetrieveParams params) throws StripeException {
     return retrieve(id, params, (RequestOptions) null);
@@ -57,6 +68,21 @@ public final class TaxIdService extends ApiService {
             options);
     return this.request(request, TaxId.class);
   }
+  /** Retrieves an account or customer {@code tax_id} object. */
+  public CompletableFuture<TaxId> retrieveAsync(
+      String id, TaxIdRetrieveParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path = String.format("/v1/tax_ids/%s", ApiResource.urlEncodeId(id));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.GET,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        TaxId.class);
+  }
   /** Returns a list of tax IDs. */
   public StripeCollection<TaxId> list(TaxIdListParams params) throws StripeException {
     return list(params, (RequestOptions) null);
@@ -82,6 +108,19 @@ public final class TaxIdService extends ApiService {
             options);
     return this.request(request, new TypeToken<StripeCollection<TaxId>>() {}.getType());
   }
+  /** Returns a list of tax IDs. */
+  public CompletableFuture<StripeCollection<TaxId>> listAsync(
+      TaxIdListParams params, RequestOptions options) {
+    String path = "/v1/tax_ids";
+    ApiRequest request =
+        new ApiRequest(
+            BaseAddress.API,
+            ApiResource.RequestMethod.GET,
+            path,
+            ApiRequestParams.paramsToMap(params),
+            options);
+    return this.requestAsync(request, new TypeToken<StripeCollection<TaxId>>() {}.getType());
+  }
   /** Creates a new account or customer {@code tax_id} object. */
   public TaxId create(TaxIdCreateParams params) throws StripeException {
     return create(params, (RequestOptions) null);
@@ -98,4 +137,16 @@ public final class TaxIdService extends ApiService {
             options);
     return this.request(request, TaxId.class);
   }
+  /** Creates a new account or customer {@code tax_id} object. */
+  public CompletableFuture<TaxId> createAsync(TaxIdCreateParams params, RequestOptions options) {
+    String path = "/v1/tax_ids";
+    ApiRequest request =
+        new ApiRequest(
+            BaseAddress.API,
+            ApiResource.RequestMethod.POST,
+            path,
+            ApiRequestParams.paramsToMap(params),
+            options);
+    return this.requestAsync(request, TaxId.class);
+  }
 }
@@ -16,6 +16,7 @@ import com.stripe.param.TaxRateCreateParams;
 import com.stripe.param.TaxRateListParams;
 import com.stripe.param.TaxRateRetrieveParams;
 import com.stripe.param.TaxRateUpdateParams;
+import java.util.concurrent.CompletableFuture;
 
 public final class TaxRateService extends ApiService {
   public TaxRateService(StripeResponseGetter responseGetter) {
@@ -59,6 +60,22 @@ public final class TaxRateService extends ApiService {
             options);
     return this.request(request, new TypeToken<StripeCollection<TaxRate>>() {}.getType());
   }
+  /**
+   * Returns a list of your tax rates. Tax rates are returned sorted by creation date, with the most
+   * recently created tax rates appearing first.
+   */
+  public CompletableFuture<StripeCollection<TaxRate>> listAsync(
+      TaxRateListParams params, RequestOptions options) {
+    String path = "/v1/tax_rates";
+    ApiRequest request =
+        new ApiRequest(
+            BaseAddress.API,
+            ApiResource.RequestMethod.GET,
+            path,
+            ApiRequestParams.paramsToMap(params),
+            options);
+    return this.requestAsync(request, new TypeToken<StripeCollection<TaxRate>>() {}.getType());
+  }
   /** Creates a new tax rate. */
   public TaxRate create(TaxRateCreateParams params) throws StripeException {
     return create(params, (RequestOptions) null);
@@ -75,6 +92,19 @@ public final class TaxRateService extends ApiService {
             options);
     return this.request(request, TaxRate.class);
   }
+  /** Creates a new tax rate. */
+  public CompletableFuture<TaxRate> createAsync(
+      TaxRateCreateParams params, RequestOptions options) {
+    String path = "/v1/tax_rates";
+    ApiRequest request =
+        new ApiRequest(
+            BaseAddress.API,
+            ApiResource.RequestMethod.POST,
+            path,
+            ApiRequestParams.paramsToMap(params),
+            options);
+    return this.requestAsync(request, TaxRate.class);
+  }
   /** Retrieves a tax rate with the given ID. */
   public TaxRate retrieve(String taxRate, TaxRateRetrieveParams params) throws StripeException {
     return retrieve(taxRate, params, (RequestOptions) null);
@@ -100,6 +130,21 @@ public final class TaxRateService extends ApiService {
             options);
     return this.request(request, TaxRate.class);
   }
+  /** Retrieves a tax rate with the given ID. */
+  public CompletableFuture<TaxRate> retrieveAsync(
+      String taxRate, TaxRateRetrieveParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path = String.format("/v1/tax_rates/%s", ApiResource.urlEncodeId(taxRate));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.GET,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        TaxRate.class);
+  }
   /** Updates an existing tax rate. */
   public TaxRate update(String taxRate, TaxRateUpdateParams params) throws StripeException {
     return update(taxRate, params, (RequestOptions) null);
@@ -125,4 +170,19 @@ public final class TaxRateService extends ApiService {
             options);
     return this.request(request, TaxRate.class);
   }
+  /** Updates an existing tax rate. */
+  public CompletableFuture<TaxRate> updateAsync(
+      String taxRate, TaxRateUpdateParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path = String.format("/v1/tax_rates/%s", ApiResource.urlEncodeId(taxRate));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.POST,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        TaxRate.class);
+  }
 }
@@ -12,6 +12,7 @@ import com.stripe.net.RequestOptions;
 import com.stripe.net.StripeResponseGetter;
 import com.stripe.param.TokenCreateParams;
 import com.stripe.param.TokenRetrieveParams;
+import java.util.concurrent.CompletableFuture;
 
 public final class TokenService extends ApiService {
   public TokenService(StripeResponseGetter responseGetter) {
@@ -43,6 +44,21 @@ public final class TokenService extends ApiService {
             options);
     return this.request(request, Token.class);
   }
+  /** Retrieves the token with the given ID. */
+  public CompletableFuture<Token> retrieveAsync(
+      String token, TokenRetrieveParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path = String.format("/v1/tokens/%s", ApiResource.urlEncodeId(token));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.GET,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        Token.class);
+  }
   /**
    * Creates a single-use token that represents a bank account’s details. You can use this token
    * with any v1 API method in place of a bank account dictionary. You can only use this token once.
@@ -95,4 +111,23 @@ public final class TokenService extends ApiService {
             options);
     return this.request(request, Token.class);
   }
+  /**
+   * Creates a single-use token that represents a bank account’s details. You can use this token
+   * with any v1 API method in place of a bank account dictionary. You can only use this token once.
+   * To do so, attach it to a <a href="https://stripe.com/docs/api#accounts">connected account</a>
+   * where <a
+   * href="https://stripe.com/api/accounts/object#account_object-controller-requirement_collection">controller.requirement_collection</a>
+   * is {@code application}, which includes Custom accounts.
+   */
+  public CompletableFuture<Token> createAsync(TokenCreateParams params, RequestOptions options) {
+    String path = "/v1/tokens";
+    ApiRequest request =
+        new ApiRequest(
+            BaseAddress.API,
+            ApiResource.RequestMethod.POST,
+            path,
+            ApiRequestParams.paramsToMap(params),
+            options);
+    return this.requestAsync(request, Token.class);
+  }
 }
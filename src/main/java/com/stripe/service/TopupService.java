@@ -17,6 +17,7 @@ import com.stripe.param.TopupCreateParams;
 import com.stripe.param.TopupListParams;
 import com.stripe.param.TopupRetrieveParams;
 import com.stripe.param.TopupUpdateParams;
+import java.util.concurrent.CompletableFuture;
 
 public final class TopupService extends ApiService {
   public TopupService(StripeResponseGetter responseGetter) {
@@ -48,6 +49,19 @@ public final class TopupService extends ApiService {
             options);
     return this.request(request, new TypeToken<StripeCollection<Topup>>() {}.getType());
   }
+  /** Returns a list of top-ups. */
+  public CompletableFuture<StripeCollection<Topup>> listAsync(
+      TopupListParams params, RequestOptions options) {
+    String path = "/v1/topups";
+    ApiRequest request =
+        new ApiRequest(
+            BaseAddress.API,
+            ApiResource.RequestMethod.GET,
+            path,
+            ApiRequestParams.paramsToMap(params),
+            options);
+    return this.requestAsync(request, new TypeToken<StripeCollection<Topup>>() {}.getType());
+  }
   /** Top up the balance of an account. */
   public Topup create(TopupCreateParams params) throws StripeException {
     return create(params, (RequestOptions) null);
@@ -64,6 +78,18 @@ public final class TopupService extends ApiService {
             options);
     return this.request(request, Topup.class);
   }
+  /** Top up the balance of an account. */
+  public CompletableFuture<Topup> createAsync(TopupCreateParams params, RequestOptions options) {
+    String path = "/v1/topups";
+    ApiRequest request =
+        new ApiRequest(
+            BaseAddress.API,
+            ApiResource.RequestMethod.POST,
+            path,
+            ApiRequestParams.paramsToMap(params),
+            options);
+    return this.requestAsync(request, Topup.class);
+  }
   /**
    * Retrieves the details of a top-up that has previously been created. Supply the unique top-up ID
    * that was returned from your previous request, and Stripe will return the corresponding top-up
@@ -105,6 +131,25 @@ public final class TopupService extends ApiService {
             options);
     return this.request(request, Topup.class);
   }
+  /**
+   * Retrieves the details of a top-up that has previously been created. Supply the unique top-up ID
+   * that was returned from your previous request, and Stripe will return the corresponding top-up
+   * information.
+   */
+  public CompletableFuture<Topup> retrieveAsync(
+      String topup, TopupRetrieveParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path = String.format("/v1/topups/%s", ApiResource.urlEncodeId(topup));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.GET,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        Topup.class);
+  }
   /** Updates the metadata of a top-up. Other top-up details are not editable by design. */
   public Topup update(String topup, TopupUpdateParams params) throws StripeException {
     return update(topup, params, (RequestOptions) null);
@@ -130,6 +175,21 @@ public final class TopupService extends ApiService {
             options);
     return this.request(request, Topup.class);
   }
+  /** Updates the metadata of a top-up. Other top-up details are not editable by design. */
+  public CompletableFuture<Topup> updateAsync(
+      String topup, TopupUpdateParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path = String.format("/v1/topups/%s", ApiResource.urlEncodeId(topup));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.POST,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        Topup.class);
+  }
   /** Cancels a top-up. Only pending top-ups can be canceled. */
   public Topup cancel(String topup, TopupCancelParams params) throws StripeException {
     return cancel(topup, params, (RequestOptions) null);
@@ -155,4 +215,19 @@ public final class TopupService extends ApiService {
             options);
     return this.request(request, Topup.class);
   }
+  /** Cancels a top-up. Only pending top-ups can be canceled. */
+  public CompletableFuture<Topup> cancelAsync(
+      String topup, TopupCancelParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path = String.format("/v1/topups/%s/cancel", ApiResource.urlEncodeId(topup));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.POST,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        Topup.class);
+  }
 }
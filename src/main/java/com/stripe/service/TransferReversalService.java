@@ -16,6 +16,7 @@ import com.stripe.param.TransferReversalCreateParams;
 import com.stripe.param.TransferReversalListParams;
 import com.stripe.param.TransferReversalRetrieveParams;
 import com.stripe.param.TransferReversalUpdateParams;
+import java.util.concurrent.CompletableFuture;
 
 public final class TransferReversalService extends ApiService {
   public TransferReversalService(StripeResponseGetter responseGetter) {
@@ -69,6 +70,26 @@ public final class TransferReversalService extends ApiService {
             options);
     return this.request(request, new TypeToken<StripeCollection<TransferReversal>>() {}.getType());
   }
+  /**
+   * You can see a list of the reversals belonging to a specific transfer. Note that the 10 most
+   * recent reversals are always available by default on the transfer object. If you need more than
+   * those 10, you can use this API method and the {@code limit} and {@code starting_after}
+   * parameters to page through additional reversals.
+   */
+  public CompletableFuture<StripeCollection<TransferReversal>> listAsync(
+      String id, TransferReversalListParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path = String.format("/v1/transfers/%s/reversals", ApiResource.urlEncodeId(id));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.GET,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        new TypeToken<StripeCollection<TransferReversal>>() {}.getType());
+  }
   /**
    * When you create a new reversal, you must specify a transfer to create it on.
    *
@@ -132,6 +153,30 @@ public final class TransferReversalService extends ApiService {
             options);
     return this.request(request, TransferReversal.class);
   }
+  /**
+   * When you create a new reversal, you must specify a transfer to create it on.
+   *
+   * <p>When reversing transfers, you can optionally reverse part of the transfer. You can do so as
+   * many times as you wish until the entire transfer has been reversed.
+   *
+   * <p>Once entirely reversed, a transfer can’t be reversed again. This method will return an error
+   * when called on an already-reversed transfer, or when trying to reverse more money than is left
+   * on a transfer.
+   */
+  public CompletableFuture<TransferReversal> createAsync(
+      String id, TransferReversalCreateParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path = String.format("/v1/transfers/%s/reversals", ApiResource.urlEncodeId(id));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.POST,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        TransferReversal.class);
+  }
   /**
    * By default, you can see the 10 most recent reversals stored directly on the transfer object,
    * but you can also retrieve details about a specific reversal stored on the transfer.
@@ -175,6 +220,27 @@ public final class TransferReversalService extends ApiService {
             options);
     return this.request(request, TransferReversal.class);
   }
+  /**
+   * By default, you can see the 10 most recent reversals stored directly on the transfer object,
+   * but you can also retrieve details about a specific reversal stored on the transfer.
+   */
+  public CompletableFuture<TransferReversal> retrieveAsync(
+      String transfer, String id, TransferReversalRetrieveParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path =
+              String.format(
+                  "/v1/transfers/%s/reversals/%s",
+                  ApiResource.urlEncodeId(transfer), ApiResource.urlEncodeId(id));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.GET,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        TransferReversal.class);
+  }
   /**
    * Updates the specified reversal by setting the values of the parameters passed. Any parameters
    * not provided will be left unchanged.
@@ -226,4 +292,27 @@ public final class TransferReversalService extends ApiService {
             options);
     return this.request(request, TransferReversal.class);
   }
+  /**
+   * Updates the specified reversal by setting the values of the parameters passed. Any parameters
+   * not provided will be left unchanged.
+   *
+   * <p>This request only accepts metadata and description as arguments.
+   */
+  public CompletableFuture<TransferReversal> updateAsync(
+      String transfer, String id, TransferReversalUpdateParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path =
+              String.format(
+                  "/v1/transfers/%s/reversals/%s",
+                  ApiResource.urlEncodeId(transfer), ApiResource.urlEncodeId(id));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.POST,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        TransferReversal.class);
+  }
 }
@@ -16,6 +16,7 @@ import com.stripe.param.TransferCreateParams;
 import com.stripe.param.TransferListParams;
 import com.stripe.param.TransferRetrieveParams;
 import com.stripe.param.TransferUpdateParams;
+import java.util.concurrent.CompletableFuture;
 
 public final class TransferService extends ApiService {
   public TransferService(StripeResponseGetter responseGetter) {
@@ -59,6 +60,22 @@ public final class TransferService extends ApiService {
             options);
     return this.request(request, new TypeToken<StripeCollection<Transfer>>() {}.getType());
   }
+  /**
+   * Returns a list of existing transfers sent to connected accounts. The transfers are returned in
+   * sorted order, with the most recently created transfers appearing first.
+   */
+  public CompletableFuture<StripeCollection<Transfer>> listAsync(
+      TransferListParams params, RequestOptions options) {
+    String path = "/v1/transfers";
+    ApiRequest request =
+        new ApiRequest(
+            BaseAddress.API,
+            ApiResource.RequestMethod.GET,
+            path,
+            ApiRequestParams.paramsToMap(params),
+            options);
+    return this.requestAsync(request, new TypeToken<StripeCollection<Transfer>>() {}.getType());
+  }
   /**
    * To send funds from your Stripe account to a connected account, you create a new transfer
    * object. Your <a href="https://stripe.com/docs/api#balance">Stripe balance</a> must be able to
@@ -84,6 +101,23 @@ public final class TransferService extends ApiService {
             options);
     return this.request(request, Transfer.class);
   }
+  /**
+   * To send funds from your Stripe account to a connected account, you create a new transfer
+   * object. Your <a href="https://stripe.com/docs/api#balance">Stripe balance</a> must be able to
+   * cover the transfer amount, or you’ll receive an “Insufficient Funds” error.
+   */
+  public CompletableFuture<Transfer> createAsync(
+      TransferCreateParams params, RequestOptions options) {
+    String path = "/v1/transfers";
+    ApiRequest request =
+        new ApiRequest(
+            BaseAddress.API,
+            ApiResource.RequestMethod.POST,
+            path,
+            ApiRequestParams.paramsToMap(params),
+            options);
+    return this.requestAsync(request, Transfer.class);
+  }
   /**
    * Retrieves the details of an existing transfer. Supply the unique transfer ID from either a
    * transfer creation request or the transfer list, and Stripe will return the corresponding
@@ -125,6 +159,25 @@ public final class TransferService extends ApiService {
             options);
     return this.request(request, Transfer.class);
   }
+  /**
+   * Retrieves the details of an existing transfer. Supply the unique transfer ID from either a
+   * transfer creation request or the transfer list, and Stripe will return the corresponding
+   * transfer information.
+   */
+  public CompletableFuture<Transfer> retrieveAsync(
+      String transfer, TransferRetrieveParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path = String.format("/v1/transfers/%s", ApiResource.urlEncodeId(transfer));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.GET,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        Transfer.class);
+  }
   /**
    * Updates the specified transfer by setting the values of the parameters passed. Any parameters
    * not provided will be left unchanged.
@@ -170,6 +223,26 @@ public final class TransferService extends ApiService {
             options);
     return this.request(request, Transfer.class);
   }
+  /**
+   * Updates the specified transfer by setting the values of the parameters passed. Any parameters
+   * not provided will be left unchanged.
+   *
+   * <p>This request accepts only metadata as an argument.
+   */
+  public CompletableFuture<Transfer> updateAsync(
+      String transfer, TransferUpdateParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path = String.format("/v1/transfers/%s", ApiResource.urlEncodeId(transfer));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.POST,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        Transfer.class);
+  }
 
   public com.stripe.service.TransferReversalService reversals() {
     return new com.stripe.service.TransferReversalService(this.getResponseGetter());
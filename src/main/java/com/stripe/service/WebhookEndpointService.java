@@ -16,6 +16,7 @@ import com.stripe.param.WebhookEndpointCreateParams;
 import com.stripe.param.WebhookEndpointListParams;
 import com.stripe.param.WebhookEndpointRetrieveParams;
 import com.stripe.param.WebhookEndpointUpdateParams;
+import java.util.concurrent.CompletableFuture;
 
 public final class WebhookEndpointService extends ApiService {
   public WebhookEndpointService(StripeResponseGetter responseGetter) {
@@ -43,6 +44,22 @@ public final class WebhookEndpointService extends ApiService {
         new ApiRequest(BaseAddress.API, ApiResource.RequestMethod.DELETE, path, null, options);
     return this.request(request, WebhookEndpoint.class);
   }
+  /**
+   * You can also delete webhook endpoints via the <a
+   * href="https://dashboard.stripe.com/account/webhooks">webhook endpoint management</a> page of
+   * the Stripe dashboard.
+   */
+  public CompletableFuture<WebhookEndpoint> deleteAsync(
+      String webhookEndpoint, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path =
+              String.format("/v1/webhook_endpoints/%s", ApiResource.urlEncodeId(webhookEndpoint));
+          return new ApiRequest(
+              BaseAddress.API, ApiResource.RequestMethod.DELETE, path, null, options);
+        },
+        WebhookEndpoint.class);
+  }
   /** Retrieves the webhook endpoint with the given ID. */
   public WebhookEndpoint retrieve(String webhookEndpoint, WebhookEndpointRetrieveParams params)
       throws StripeException {
@@ -72,6 +89,22 @@ public final class WebhookEndpointService extends ApiService {
             options);
     return this.request(request, WebhookEndpoint.class);
   }
+  /** Retrieves the webhook endpoint with the given ID. */
+  public CompletableFuture<WebhookEndpoint> retrieveAsync(
+      String webhookEndpoint, WebhookEndpointRetrieveParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path =
+              String.format("/v1/webhook_endpoints/%s", ApiResource.urlEncodeId(webhookEndpoint));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.GET,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        WebhookEndpoint.class);
+  }
   /**
    * Updates the webhook endpoint. You may edit the {@code url}, the list of {@code enabled_events},
    * and the status of your endpoint.
@@ -113,6 +146,25 @@ public final class WebhookEndpointService extends ApiService {
             options);
     return this.request(request, WebhookEndpoint.class);
   }
+  /**
+   * Updates the webhook endpoint. You may edit the {@code url}, the list of {@code enabled_events},
+   * and the status of your endpoint.
+   */
+  public CompletableFuture<WebhookEndpoint> updateAsync(
+      String webhookEndpoint, WebhookEndpointUpdateParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path =
+              String.format("/v1/webhook_endpoints/%s", ApiResource.urlEncodeId(webhookEndpoint));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.POST,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        WebhookEndpoint.class);
+  }
   /** Returns a list of your webhook endpoints. */
   public StripeCollection<WebhookEndpoint> list(WebhookEndpointListParams params)
       throws StripeException {
@@ -139,6 +191,20 @@ public final class WebhookEndpointService extends ApiService {
             options);
     return this.request(request, new TypeToken<StripeCollection<WebhookEndpoint>>() {}.getType());
   }
+  /** Returns a list of your webhook endpoints. */
+  public CompletableFuture<StripeCollection<WebhookEndpoint>> listAsync(
+      WebhookEndpointListParams params, RequestOptions options) {
+    String path = "/v1/webhook_endpoints";
+    ApiRequest request =
+        new ApiRequest(
+            BaseAddress.API,
+            ApiResource.RequestMethod.GET,
+            path,
+            ApiRequestParams.paramsToMap(params),
+            options);
+    return this.requestAsync(
+        request, new TypeToken<StripeCollection<WebhookEndpoint>>() {}.getType());
+  }
   /**
    * A webhook endpoint must have a {@code url} and a list of {@code enabled_events}. You may
    * optionally specify the Boolean {@code connect} parameter. If set to true, then a Connect
@@ -172,4 +238,25 @@ public final class WebhookEndpointService extends ApiService {
             options);
     return this.request(request, WebhookEndpoint.class);
   }
+  /**
+   * A webhook endpoint must have a {@code url} and a list of {@code enabled_events}. You may
+   * optionally specify the Boolean {@code connect} parameter. If set to true, then a Connect
+   * webhook endpoint that notifies the specified {@code url} about events from all connected
+   * accounts is created; otherwise an account webhook endpoint that notifies the specified {@code
+   * url} only about events from your account is created. You can also create webhook endpoints in
+   * the <a href="https://dashboard.stripe.com/account/webhooks">webhooks settings</a> section of
+   * the Dashboard.
+   */
+  public CompletableFuture<WebhookEndpoint> createAsync(
+      WebhookEndpointCreateParams params, RequestOptions options) {
+    String path = "/v1/webhook_endpoints";
+    ApiRequest request =
+        new ApiRequest(
+            BaseAddress.API,
+            ApiResource.RequestMethod.POST,
+            path,
+            ApiRequestParams.paramsToMap(params),
+            options);
+    return this.requestAsync(request, WebhookEndpoint.class);
+  }
 }
@@ -16,6 +16,7 @@ import com.stripe.param.apps.SecretCreateParams;
 import com.stripe.param.apps.SecretDeleteWhereParams;
 import com.stripe.param.apps.SecretFindParams;
 import com.stripe.param.apps.SecretListParams;
+import java.util.concurrent.CompletableFuture;
 
 public final class SecretService extends ApiService {
   public SecretService(StripeResponseGetter responseGetter) {
@@ -39,6 +40,19 @@ public final class SecretService extends ApiService {
             options);
     return this.request(request, new TypeToken<StripeCollection<Secret>>() {}.getType());
   }
+  /** List all secrets stored on the given scope. */
+  public CompletableFuture<StripeCollection<Secret>> listAsync(
+      SecretListParams params, RequestOptions options) {
+    String path = "/v1/apps/secrets";
+    ApiRequest request =
+        new ApiRequest(
+            BaseAddress.API,
+            ApiResource.RequestMethod.GET,
+            path,
+            ApiRequestParams.paramsToMap(params),
+            options);
+    return this.requestAsync(request, new TypeToken<StripeCollection<Secret>>() {}.getType());
+  }
   /** Create or replace a secret in the secret store. */
   public Secret create(SecretCreateParams params) throws StripeException {
     return create(params, (RequestOptions) null);
@@ -55,6 +69,18 @@ public final class SecretService extends ApiService {
             options);
     return this.request(request, Secret.class);
   }
+  /** Create or replace a secret in the secret store. */
+  public CompletableFuture<Secret> createAsync(SecretCreateParams params, RequestOptions options) {
+    String path = "/v1/apps/secrets";
+    ApiRequest request =
+        new ApiRequest(
+            BaseAddress.API,
+            ApiResource.RequestMethod.POST,
+            path,
+            ApiRequestParams.paramsToMap(params),
+            options);
+    return this.requestAsync(request, Secret.class);
+  }
   /** Finds a secret in the secret store by name and scope. */
   public Secret find(SecretFindParams params) throws StripeException {
     return find(params, (RequestOptions) null);
@@ -71,6 +97,18 @@ public final class SecretService extends ApiService {
             options);
     return this.request(request, Secret.class);
   }
+  /** Finds a secret in the secret store by name and scope. */
+  public CompletableFuture<Secret> findAsync(SecretFindParams params, RequestOptions options) {
+    String path = "/v1/apps/secrets/find";
+    ApiRequest request =
+        new ApiRequest(
+            BaseAddress.API,
+            ApiResource.RequestMethod.GET,
+            path,
+            ApiRequestParams.paramsToMap(params),
+            options);
+    return this.requestAsync(request, Secret.class);
+  }
   /** Deletes a secret from the secret store by name and scope. */
   public Secret deleteWhere(SecretDeleteWhereParams params) throws StripeException {
     return deleteWhere(params, (RequestOptions) null);
@@ -88,4 +126,17 @@ public final class SecretService extends ApiService {
             options);
     return this.request(request, Secret.class);
   }
+  /** Deletes a secret from the secret store by name and scope. */
+  public CompletableFuture<Secret> deleteWhereAsync(
+      SecretDeleteWhereParams params, RequestOptions options) {
+    String path = "/v1/apps/secrets/delete";
+    ApiRequest request =
+        new ApiRequest(
+            BaseAddress.API,
+            ApiResource.RequestMethod.POST,
+            path,
+            ApiRequestParams.paramsToMap(params),
+            options);
+    return this.requestAsync(request, Secret.class);
+  }
 }
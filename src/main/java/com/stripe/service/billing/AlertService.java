@@ -18,6 +18,7 @@ import com.stripe.param.billing.AlertCreateParams;
 import com.stripe.param.billing.AlertDeactivateParams;
 import com.stripe.param.billing.AlertListParams;
 import com.stripe.param.billing.AlertRetrieveParams;
+import java.util.concurrent.CompletableFuture;
 
 public final class AlertService extends ApiService {
   public AlertService(StripeResponseGetter responseGetter) {
@@ -49,6 +50,19 @@ public final class AlertService extends ApiService {
             options);
     return this.request(request, new TypeToken<StripeCollection<Alert>>() {}.getType());
   }
+  /** Lists billing active and inactive alerts. */
+  public CompletableFuture<StripeCollection<Alert>> listAsync(
+      AlertListParams params, RequestOptions options) {
+    String path = "/v1/billing/alerts";
+    ApiRequest request =
+        new ApiRequest(
+            BaseAddress.API,
+            ApiResource.RequestMethod.GET,
+            path,
+            ApiRequestParams.paramsToMap(params),
+            options);
+    return this.requestAsync(request, new TypeToken<StripeCollection<Alert>>() {}.getType());
+  }
   /** Creates a billing alert. */
   public Alert create(AlertCreateParams params) throws StripeException {
     return create(params, (RequestOptions) null);
@@ -65,6 +79,18 @@ public final class AlertService extends ApiService {
             options);
     return this.request(request, Alert.class);
   }
+  /** Creates a billing alert. */
+  public CompletableFuture<Alert> createAsync(AlertCreateParams params, RequestOptions options) {
+    String path = "/v1/billing/alerts";
+    ApiRequest request =
+        new ApiRequest(
+            BaseAddress.API,
+            ApiResource.RequestMethod.POST,
+            path,
+            ApiRequestParams.paramsToMap(params),
+            options);
+    return this.requestAsync(request, Alert.class);
+  }
   /** Retrieves a billing alert given an ID. */
   public Alert retrieve(String id, AlertRetrieveParams params) throws StripeException {
     return retrieve(id, params, (RequestOptions) null);
@@ -90,6 +116,21 @@ public final class AlertService extends ApiService {
             options);
     return this.request(request, Alert.class);
   }
+  /** Retrieves a billing alert given an ID. */
+  public CompletableFuture<Alert> retrieveAsync(
+      String id, AlertRetrieveParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path = String.format("/v1/billing/alerts/%s", ApiResource.urlEncodeId(id));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.GET,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        Alert.class);
+  }
   /** Reactivates this alert, allowing it to trigger again. */
   public Alert activate(String id, AlertActivateParams params) throws StripeException {
     return activate(id, params, (RequestOptions) null);
@@ -115,6 +156,22 @@ public final class AlertService extends ApiService {
             options);
     return this.request(request, Alert.class);
   }
+  /** Reactivates this alert, allowing it to trigger again. */
+  public CompletableFuture<Alert> activateAsync(
+      String id, AlertActivateParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path =
+              String.format("/v1/billing/alerts/%s/activate", ApiResource.urlEncodeId(id));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.POST,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        Alert.class);
+  }
   /** Archives this alert, removing it from the list view and APIs. This is non-reversible. */
   public Alert archive(String id, AlertArchiveParams params) throws StripeException {
     return archive(id, params, (RequestOptions) null);
@@ -140,6 +197,21 @@ public final class AlertService extends ApiService {
             options);
     return this.request(request, Alert.class);
   }
+  /** Archives this alert, removing it from the list view and APIs. This is non-reversible. */
+  public CompletableFuture<Alert> archiveAsync(
+      String id, AlertArchiveParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path = String.format("/v1/billing/alerts/%s/archive", ApiResource.urlEncodeId(id));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.POST,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        Alert.class);
+  }
   /** Deactivates this alert, preventing it from triggering. */
   public Alert deactivate(String id, AlertDeactivateParams params) throws StripeException {
     return deactivate(id, params, (RequestOptions) null);
@@ -165,4 +237,20 @@ public final class AlertService extends ApiService {
             options);
     return this.request(request, Alert.class);
   }
+  /** Deactivates this alert, preventing it from triggering. */
+  public CompletableFuture<Alert> deactivateAsync(
+      String id, AlertDeactivateParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path =
+              String.format("/v1/billing/alerts/%s/deactivate", ApiResource.urlEncodeId(id));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.POST,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        Alert.class);
+  }
 }
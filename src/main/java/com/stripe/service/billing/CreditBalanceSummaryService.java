@@ -11,6 +11,7 @@ import com.stripe.net.BaseAddress;
 import com.stripe.net.RequestOptions;
 import com.stripe.net.StripeResponseGetter;
 import com.stripe.param.billing.CreditBalanceSummaryRetrieveParams;
+import java.util.concurrent.CompletableFuture;
 
 public final class CreditBalanceSummaryService extends ApiService {
   public CreditBalanceSummaryService(StripeResponseGetter responseGetter) {
@@ -35,4 +36,17 @@ public final class CreditBalanceSummaryService extends ApiService {
             options);
     return this.request(request, CreditBalanceSummary.class);
   }
+  /** Retrieves the credit balance summary for a customer. */
+  public CompletableFuture<CreditBalanceSummary> retrieveAsync(
+      CreditBalanceSummaryRetrieveParams params, RequestOptions options) {
+    String path = "/v1/billing/credit_balance_summary";
+    ApiRequest request =
+        new ApiRequest(
+            BaseAddress.API,
+            ApiResource.RequestMethod.GET,
+            path,
+            ApiRequestParams.paramsToMap(params),
+            options);
+    return this.requestAsync(request, CreditBalanceSummary.class);
+  }
 }
@@ -14,6 +14,7 @@ import com.stripe.net.RequestOptions;
 import com.stripe.net.StripeResponseGetter;
 import com.stripe.param.billing.CreditBalanceTransactionListParams;
 import com.stripe.param.billing.CreditBalanceTransactionRetrieveParams;
+import java.util.concurrent.CompletableFuture;
 
 public final class CreditBalanceTransactionService extends ApiService {
   public CreditBalanceTransactionService(StripeResponseGetter responseGetter) {
@@ -39,6 +40,20 @@ public final class CreditBalanceTransactionService extends ApiService {
     return this.request(
         request, new TypeToken<StripeCollection<CreditBalanceTransaction>>() {}.getType());
   }
+  /** Retrieve a list of credit balance transactions. */
+  public CompletableFuture<StripeCollection<CreditBalanceTransaction>> listAsync(
+      CreditBalanceTransactionListParams params, RequestOptions options) {
+    String path = "/v1/billing/credit_balance_transactions";
+    ApiRequest request =
+        new ApiRequest(
+            BaseAddress.API,
+            ApiResource.RequestMethod.GET,
+            path,
+            ApiRequestParams.paramsToMap(params),
+            options);
+    return this.requestAsync(
+        request, new TypeToken<StripeCollection<CreditBalanceTransaction>>() {}.getType());
+  }
   /** Retrieves a credit balance transaction. */
   public CreditBalanceTransaction retrieve(String id, CreditBalanceTransactionRetrieveParams params)
       throws StripeException {
@@ -68,4 +83,21 @@ public final class CreditBalanceTransactionService extends ApiService {
             options);
     return this.request(request, CreditBalanceTransaction.class);
   }
+  /** Retrieves a credit balance transaction. */
+  public CompletableFuture<CreditBalanceTransaction> retrieveAsync(
+      String id, CreditBalanceTransactionRetrieveParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path =
+              String.format(
+                  "/v1/billing/credit_balance_transactions/%s", ApiResource.urlEncodeId(id));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.GET,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        CreditBalanceTransaction.class);
+  }
 }
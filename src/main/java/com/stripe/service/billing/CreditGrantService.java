@@ -18,6 +18,7 @@ import com.stripe.param.billing.CreditGrantListParams;
 import com.stripe.param.billing.CreditGrantRetrieveParams;
 import com.stripe.param.billing.CreditGrantUpdateParams;
 import com.stripe.param.billing.CreditGrantVoidGrantParams;
+import java.util.concurrent.CompletableFuture;
 
 public final class CreditGrantService extends ApiService {
   public CreditGrantService(StripeResponseGetter responseGetter) {
@@ -49,6 +50,19 @@ public final class CreditGrantService extends ApiService {
             options);
     return this.request(request, new TypeToken<StripeCollection<CreditGrant>>() {}.getType());
   }
+  /** Retrieve a list of credit grants. */
+  public CompletableFuture<StripeCollection<CreditGrant>> listAsync(
+      CreditGrantListParams params, RequestOptions options) {
+    String path = "/v1/billing/credit_grants";
+    ApiRequest request =
+        new ApiRequest(
+            BaseAddress.API,
+            ApiResource.RequestMethod.GET,
+            path,
+            ApiRequestParams.paramsToMap(params),
+            options);
+    return this.requestAsync(request, new TypeToken<StripeCollection<CreditGrant>>() {}.getType());
+  }
   /** Creates a credit grant. */
   public CreditGrant create(CreditGrantCreateParams params) throws StripeException {
     return create(params, (RequestOptions) null);
@@ -66,6 +80,19 @@ public final class CreditGrantService extends ApiService {
             options);
     return this.request(request, CreditGrant.class);
   }
+  /** Creates a credit grant. */
+  public CompletableFuture<CreditGrant> createAsync(
+      CreditGrantCreateParams params, RequestOptions options) {
+    String path = "/v1/billing/credit_grants";
+    ApiRequest request =
+        new ApiRequest(
+            BaseAddress.API,
+            ApiResource.RequestMethod.POST,
+            path,
+            ApiRequestParams.paramsToMap(params),
+            options);
+    return this.requestAsync(request, CreditGrant.class);
+  }
   /** Retrieves a credit grant. */
   public CreditGrant retrieve(String id, CreditGrantRetrieveParams params) throws StripeException {
     return retrieve(id, params, (RequestOptions) null);
@@ -91,6 +118,21 @@ public final class CreditGrantService extends ApiService {
             options);
     return this.request(request, CreditGrant.class);
   }
+  /** Retrieves a credit grant. */
+  public CompletableFuture<CreditGrant> retrieveAsync(
+      String id, CreditGrantRetrieveParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path = String.format("/v1/billing/credit_grants/%s", ApiResource.urlEncodeId(id));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.GET,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        CreditGrant.class);
+  }
   /** Updates a credit grant. */
   public CreditGrant update(String id, CreditGrantUpdateParams params) throws StripeException {
     return update(id, params, (RequestOptions) null);
@@ -116,6 +158,21 @@ public final class CreditGrantService extends ApiService {
             options);
     return this.request(request, CreditGrant.class);
   }
+  /** Updates a credit grant. */
+  public CompletableFuture<CreditGrant> updateAsync(
+      String id, CreditGrantUpdateParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path = String.format("/v1/billing/credit_grants/%s", ApiResource.urlEncodeId(id));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.POST,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        CreditGrant.class);
+  }
   /** Expires a credit grant. */
   public CreditGrant expire(String id, CreditGrantExpireParams params) throws StripeException {
     return expire(id, params, (RequestOptions) null);
@@ -141,6 +198,22 @@ public final class CreditGrantService extends ApiService {
             options);
     return this.request(request, CreditGrant.class);
   }
+  /** Expires a credit grant. */
+  public CompletableFuture<CreditGrant> expireAsync(
+      String id, CreditGrantExpireParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path =
+              String.format("/v1/billing/credit_grants/%s/expire", ApiResource.urlEncodeId(id));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.POST,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        CreditGrant.class);
+  }
   /** Voids a credit grant. */
   public CreditGrant voidGrant(String id, CreditGrantVoidGrantParams params)
       throws StripeException {
@@ -167,4 +240,20 @@ public final class CreditGrantService extends ApiService {
             options);
     return this.request(request, CreditGrant.class);
   }
+  /** Voids a credit grant. */
+  public CompletableFuture<CreditGrant> voidGrantAsync(
+      String id, CreditGrantVoidGrantParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path =
+              String.format("/v1/billing/credit_grants/%s/void", ApiResource.urlEncodeId(id));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.POST,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        CreditGrant.class);
+  }
 }
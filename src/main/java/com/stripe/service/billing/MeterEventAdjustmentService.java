@@ -11,6 +11,7 @@ import com.stripe.net.BaseAddress;
 import com.stripe.net.RequestOptions;
 import com.stripe.net.StripeResponseGetter;
 import com.stripe.param.billing.MeterEventAdjustmentCreateParams;
+import java.util.concurrent.CompletableFuture;
 
 public final class MeterEventAdjustmentService extends ApiService {
   public MeterEventAdjustmentService(StripeResponseGetter responseGetter) {
@@ -35,4 +36,17 @@ public final class MeterEventAdjustmentService extends ApiService {
             options);
     return this.request(request, MeterEventAdjustment.class);
   }
+  /** Creates a billing meter event adjustment. */
+  public CompletableFuture<MeterEventAdjustment> createAsync(
+      MeterEventAdjustmentCreateParams params, RequestOptions options) {
+    String path = "/v1/billing/meter_event_adjustments";
+    ApiRequest request =
+        new ApiRequest(
+            BaseAddress.API,
+            ApiResource.RequestMethod.POST,
+            path,
+            ApiRequestParams.paramsToMap(params),
+            options);
+    return this.requestAsync(request, MeterEventAdjustment.class);
+  }
 }
@@ -11,6 +11,7 @@ import com.stripe.net.BaseAddress;
 import com.stripe.net.RequestOptions;
 import com.stripe.net.StripeResponseGetter;
 import com.stripe.param.billing.MeterEventCreateParams;
+import java.util.concurrent.CompletableFuture;
 
 public final class MeterEventService extends ApiService {
   public MeterEventService(StripeResponseGetter responseGetter) {
@@ -34,4 +35,17 @@ public final class MeterEventService extends ApiService {
             options);
     return this.request(request, MeterEvent.class);
   }
+  /** Creates a billing meter event. */
+  public CompletableFuture<MeterEvent> createAsync(
+      MeterEventCreateParams params, RequestOptions options) {
+    String path = "/v1/billing/meter_events";
+    ApiRequest request =
+        new ApiRequest(
+            BaseAddress.API,
+            ApiResource.RequestMethod.POST,
+            path,
+            ApiRequestParams.paramsToMap(params),
+            options);
+    return this.requestAsync(request, MeterEvent.class);
+  }
 }
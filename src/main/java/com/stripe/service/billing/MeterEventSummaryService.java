@@ -13,6 +13,7 @@ import com.stripe.net.BaseAddress;
 import com.stripe.net.RequestOptions;
 import com.stripe.net.StripeResponseGetter;
 import com.stripe.param.billing.MeterEventSummaryListParams;
+import java.util.concurrent.CompletableFuture;
 
 public final class MeterEventSummaryService extends ApiService {
   public MeterEventSummaryService(StripeResponseGetter responseGetter) {
@@ -39,4 +40,20 @@ public final class MeterEventSummaryService extends ApiService {
             options);
     return this.request(request, new TypeToken<StripeCollection<MeterEventSummary>>() {}.getType());
   }
+  /** Retrieve a list of billing meter event summaries. */
+  public CompletableFuture<StripeCollection<MeterEventSummary>> listAsync(
+      String id, MeterEventSummaryListParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path =
+              String.format("/v1/billing/meters/%s/event_summaries", ApiResource.urlEncodeId(id));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.GET,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        new TypeToken<StripeCollection<MeterEventSummary>>() {}.getType());
+  }
 }
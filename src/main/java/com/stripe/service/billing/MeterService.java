@@ -18,6 +18,7 @@ import com.stripe.param.billing.MeterListParams;
 import com.stripe.param.billing.MeterReactivateParams;
 import com.stripe.param.billing.MeterRetrieveParams;
 import com.stripe.param.billing.MeterUpdateParams;
+import java.util.concurrent.CompletableFuture;
 
 public final class MeterService extends ApiService {
   public MeterService(StripeResponseGetter responseGetter) {
@@ -49,6 +50,19 @@ public final class MeterService extends ApiService {
             options);
     return this.request(request, new TypeToken<StripeCollection<Meter>>() {}.getType());
   }
+  /** Retrieve a list of billing meters. */
+  public CompletableFuture<StripeCollection<Meter>> listAsync(
+      MeterListParams params, RequestOptions options) {
+    String path = "/v1/billing/meters";
+    ApiRequest request =
+        new ApiRequest(
+            BaseAddress.API,
+            ApiResource.RequestMethod.GET,
+            path,
+            ApiRequestParams.paramsToMap(params),
+            options);
+    return this.requestAsync(request, new TypeToken<StripeCollection<Meter>>() {}.getType());
+  }
   /** Creates a billing meter. */
   public Meter create(MeterCreateParams params) throws StripeException {
     return create(params, (RequestOptions) null);
@@ -65,6 +79,18 @@ public final class MeterService extends ApiService {
             options);
     return this.request(request, Meter.class);
   }
+  /** Creates a billing meter. */
+  public CompletableFuture<Meter> createAsync(MeterCreateParams params, RequestOptions options) {
+    String path = "/v1/billing/meters";
+    ApiRequest request =
+        new ApiRequest(
+            BaseAddress.API,
+            ApiResource.RequestMethod.POST,
+            path,
+            ApiRequestParams.paramsToMap(params),
+            options);
+    return this.requestAsync(request, Meter.class);
+  }
   /** Retrieves a billing meter given an ID. */
   public Meter retrieve(String id, MeterRetrieveParams params) throws StripeException {
     return retrieve(id, params, (RequestOptions) null);
@@ -90,6 +116,21 @@ public final class MeterService extends ApiService {
             options);
     return this.request(request, Meter.class);
   }
+  /** Retrieves a billing meter given an ID. */
+  public CompletableFuture<Meter> retrieveAsync(
+      String id, MeterRetrieveParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path = String.format("/v1/billing/meters/%s", ApiResource.urlEncodeId(id));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.GET,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        Meter.class);
+  }
   /** Updates a billing meter. */
   public Meter update(String id, MeterUpdateParams params) throws StripeException {
     return update(id, params, (RequestOptions) null);
@@ -115,6 +156,21 @@ public final class MeterService extends ApiService {
             options);
     return this.request(request, Meter.class);
   }
+  /** Updates a billing meter. */
+  public CompletableFuture<Meter> updateAsync(
+      String id, MeterUpdateParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path = String.format("/v1/billing/meters/%s", ApiResource.urlEncodeId(id));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.POST,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        Meter.class);
+  }
   /**
    * When a meter is deactivated, no more meter events will be accepted for this meter. You can’t
    * attach a deactivated meter to a price.
@@ -152,6 +208,25 @@ public final class MeterService extends ApiService {
             options);
     return this.request(request, Meter.class);
   }
+  /**
+   * When a meter is deactivated, no more meter events will be accepted for this meter. You can’t
+   * attach a deactivated meter to a price.
+   */
+  public CompletableFuture<Meter> deactivateAsync(
+      String id, MeterDeactivateParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path =
+              String.format("/v1/billing/meters/%s/deactivate", ApiResource.urlEncodeId(id));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.POST,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        Meter.class);
+  }
   /**
    * When a meter is reactivated, events for this meter can be accepted and you can attach the meter
    * to a price.
@@ -189,6 +264,25 @@ public final class MeterService extends ApiService {
             options);
     return this.request(request, Meter.class);
   }
+  /**
+   * When a meter is reactivated, events for this meter can be accepted and you can attach the meter
+   * to a price.
+   */
+  public CompletableFuture<Meter> reactivateAsync(
+      String id, MeterReactivateParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path =
+              String.format("/v1/billing/meters/%s/reactivate", ApiResource.urlEncodeId(id));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.POST,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        Meter.class);
+  }
 
   public com.stripe.service.billing.MeterEventSummaryService eventSummaries() {
     return new com.stripe.service.billing.MeterEventSummaryService(this.getResponseGetter());
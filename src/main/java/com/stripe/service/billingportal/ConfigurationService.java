@@ -16,6 +16,7 @@ import com.stripe.param.billingportal.ConfigurationCreateParams;
 import com.stripe.param.billingportal.ConfigurationListParams;
 import com.stripe.param.billingportal.ConfigurationRetrieveParams;
 import com.stripe.param.billingportal.ConfigurationUpdateParams;
+import java.util.concurrent.CompletableFuture;
 
 public final class ConfigurationService extends ApiService {
   public ConfigurationService(StripeResponseGetter responseGetter) {
@@ -48,6 +49,20 @@ public final class ConfigurationService extends ApiService {
             options);
     return this.request(request, new TypeToken<StripeCollection<Configuration>>() {}.getType());
   }
+  /** Returns a list of configurations that describe the functionality of the customer portal. */
+  public CompletableFuture<StripeCollection<Configuration>> listAsync(
+      ConfigurationListParams params, RequestOptions options) {
+    String path = "/v1/billing_portal/configurations";
+    ApiRequest request =
+        new ApiRequest(
+            BaseAddress.API,
+            ApiResource.RequestMethod.GET,
+            path,
+            ApiRequestParams.paramsToMap(params),
+            options);
+    return this.requestAsync(
+        request, new TypeToken<StripeCollection<Configuration>>() {}.getType());
+  }
   /** Creates a configuration that describes the functionality and behavior of a PortalSession. */
   public Configuration create(ConfigurationCreateParams params) throws StripeException {
     return create(params, (RequestOptions) null);
@@ -65,6 +80,19 @@ public final class ConfigurationService extends ApiService {
             options);
     return this.request(request, Configuration.class);
   }
+  /** Creates a configuration that describes the functionality and behavior of a PortalSession. */
+  public CompletableFuture<Configuration> createAsync(
+      ConfigurationCreateParams params, RequestOptions options) {
+    String path = "/v1/billing_portal/configurations";
+    ApiRequest request =
+        new ApiRequest(
+            BaseAddress.API,
+            ApiResource.RequestMethod.POST,
+            path,
+            ApiRequestParams.paramsToMap(params),
+            options);
+    return this.requestAsync(request, Configuration.class);
+  }
   /** Retrieves a configuration that describes the functionality of the customer portal. */
   public Configuration retrieve(String configuration, ConfigurationRetrieveParams params)
       throws StripeException {
@@ -95,6 +123,23 @@ public final class ConfigurationService extends ApiService {
             options);
     return this.request(request, Configuration.class);
   }
+  /** Retrieves a configuration that describes the functionality of the customer portal. */
+  public CompletableFuture<Configuration> retrieveAsync(
+      String configuration, ConfigurationRetrieveParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path =
+              String.format(
+                  "/v1/billing_portal/configurations/%s", ApiResource.urlEncodeId(configuration));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.GET,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        Configuration.class);
+  }
   /** Updates a configuration that describes the functionality of the customer portal. */
   public Configuration update(String configuration, ConfigurationUpdateParams params)
       throws StripeException {
@@ -124,4 +169,21 @@ public final class ConfigurationService extends ApiService {
             options);
     return this.request(request, Configuration.class);
   }
+  /** Updates a configuration that describes the functionality of the customer portal. */
+  public CompletableFuture<Configuration> updateAsync(
+      String configuration, ConfigurationUpdateParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path =
+              String.format(
+                  "/v1/billing_portal/configurations/%s", ApiResource.urlEncodeId(configuration));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.POST,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        Configuration.class);
+  }
 }
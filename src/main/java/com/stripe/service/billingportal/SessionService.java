@@ -11,6 +11,7 @@ import com.stripe.net.BaseAddress;
 import com.stripe.net.RequestOptions;
 import com.stripe.net.StripeResponseGetter;
 import com.stripe.param.billingportal.SessionCreateParams;
+import java.util.concurrent.CompletableFuture;
 
 public final class SessionService extends ApiService {
   public SessionService(StripeResponseGetter responseGetter) {
@@ -33,4 +34,17 @@ public final class SessionService extends ApiService {
             options);
     return this.request(request, Session.class);
   }
+  /** Creates a session of the customer portal. */
+  public CompletableFuture<Session> createAsync(
+      SessionCreateParams params, RequestOptions options) {
+    String path = "/v1/billing_portal/sessions";
+    ApiRequest request =
+        new ApiRequest(
+            BaseAddress.API,
+            ApiResource.RequestMethod.POST,
+            path,
+            ApiRequestParams.paramsToMap(params),
+            options);
+    return this.requestAsync(request, Session.class);
+  }
 }
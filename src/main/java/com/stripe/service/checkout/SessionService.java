@@ -17,6 +17,7 @@ import com.stripe.param.checkout.SessionExpireParams;
 import com.stripe.param.checkout.SessionListParams;
 import com.stripe.param.checkout.SessionRetrieveParams;
 import com.stripe.param.checkout.SessionUpdateParams;
+import java.util.concurrent.CompletableFuture;
 
 public final class SessionService extends ApiService {
   public SessionService(StripeResponseGetter responseGetter) {
@@ -48,6 +49,19 @@ public final class SessionService extends ApiService {
             options);
     return this.request(request, new TypeToken<StripeCollection<Session>>() {}.getType());
   }
+  /** Returns a list of Checkout Sessions. */
+  public CompletableFuture<StripeCollection<Session>> listAsync(
+      SessionListParams params, RequestOptions options) {
+    String path = "/v1/checkout/sessions";
+    ApiRequest request =
+        new ApiRequest(
+            BaseAddress.API,
+            ApiResource.RequestMethod.GET,
+            path,
+            ApiRequestParams.paramsToMap(params),
+            options);
+    return this.requestAsync(request, new TypeToken<StripeCollection<Session>>() {}.getType());
+  }
   /** Creates a Session object. */
   public Session create(SessionCreateParams params) throws StripeException {
     return create(params, (RequestOptions) null);
@@ -72,6 +86,19 @@ public final class SessionService extends ApiService {
             options);
     return this.request(request, Session.class);
   }
+  /** Creates a Session object. */
+  public CompletableFuture<Session> createAsync(
+      SessionCreateParams params, RequestOptions options) {
+    String path = "/v1/checkout/sessions";
+    ApiRequest request =
+        new ApiRequest(
+            BaseAddress.API,
+            ApiResource.RequestMethod.POST,
+            path,
+            ApiRequestParams.paramsToMap(params),
+            options);
+    return this.requestAsync(request, Session.class);
+  }
   /** Retrieves a Session object. */
   public Session retrieve(String session, SessionRetrieveParams params) throws StripeException {
     return retrieve(session, params, (RequestOptions) null);
@@ -97,6 +124,21 @@ public final class SessionService extends ApiService {
             options);
     return this.request(request, Session.class);
   }
+  /** Retrieves a Session object. */
+  public CompletableFuture<Session> retrieveAsync(
+      String session, SessionRetrieveParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path = String.format("/v1/checkout/sessions/%s", ApiResource.urlEncodeId(session));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.GET,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        Session.class);
+  }
   /** Updates a Session object. */
   public Session update(String session, SessionUpdateParams params) throws StripeException {
     return update(session, params, (RequestOptions) null);
@@ -122,6 +164,21 @@ public final class SessionService extends ApiService {
             options);
     return this.request(request, Session.class);
   }
+  /** Updates a Session object. */
+  public CompletableFuture<Session> updateAsync(
+      String session, SessionUpdateParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path = String.format("/v1/checkout/sessions/%s", ApiResource.urlEncodeId(session));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.POST,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        Session.class);
+  }
   /**
    * A Session can be expired when it is in one of these statuses: {@code open}
    *
@@ -168,6 +225,27 @@ public final class SessionService extends ApiService {
             options);
     return this.request(request, Session.class);
   }
+  /**
+   * A Session can be expired when it is in one of these statuses: {@code open}
+   *
+   * <p>After it expires, a customer can’t complete a Session and customers loading the Session see
+   * a message saying the Session is expired.
+   */
+  public CompletableFuture<Session> expireAsync(
+      String session, SessionExpireParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path =
+              String.format("/v1/checkout/sessions/%s/expire", ApiResource.urlEncodeId(session));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.POST,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        Session.class);
+  }
 
   public com.stripe.service.checkout.SessionLineItemService lineItems() {
     return new com.stripe.service.checkout.SessionLineItemService(this.getResponseGetter());
@@ -17,6 +17,7 @@ import com.stripe.param.climate.OrderCreateParams;
 import com.stripe.param.climate.OrderListParams;
 import com.stripe.param.climate.OrderRetrieveParams;
 import com.stripe.param.climate.OrderUpdateParams;
+import java.util.concurrent.CompletableFuture;
 
 public final class OrderService extends ApiService {
   public OrderService(StripeResponseGetter responseGetter) {
@@ -60,6 +61,22 @@ public final class OrderService extends ApiService {
             options);
     return this.request(request, new TypeToken<StripeCollection<Order>>() {}.getType());
   }
+  /**
+   * Lists all Climate order objects. The orders are returned sorted by creation date, with the most
+   * recently created orders appearing first.
+   */
+  public CompletableFuture<StripeCollection<Order>> listAsync(
+      OrderListParams params, RequestOptions options) {
+    String path = "/v1/climate/orders";
+    ApiRequest request =
+        new ApiRequest(
+            BaseAddress.API,
+            ApiResource.RequestMethod.GET,
+            path,
+            ApiRequestParams.paramsToMap(params),
+            options);
+    return this.requestAsync(request, new TypeToken<StripeCollection<Order>>() {}.getType());
+  }
   /**
    * Creates a Climate order object for a given Climate product. The order will be processed
    * immediately after creation and payment will be deducted your Stripe balance.
@@ -82,6 +99,21 @@ public final class OrderService extends ApiService {
             options);
     return this.request(request, Order.class);
   }
+  /**
+   * Creates a Climate order object for a given Climate product. The order will be processed
+   * immediately after creation and payment will be deducted your Stripe balance.
+   */
+  public CompletableFuture<Order> createAsync(OrderCreateParams params, RequestOptions options) {
+    String path = "/v1/climate/orders";
+    ApiRequest request =
+        new ApiRequest(
+            BaseAddress.API,
+            ApiResource.RequestMethod.POST,
+            path,
+            ApiRequestParams.paramsToMap(params),
+            options);
+    return this.requestAsync(request, Order.class);
+  }
   /** Retrieves the details of a Climate order object with the given ID. */
   public Order retrieve(String order, OrderRetrieveParams params) throws StripeException {
     return retrieve(order, params, (RequestOptions) null);
@@ -107,6 +139,21 @@ public final class OrderService extends ApiService {
             options);
     return this.request(request, Order.class);
   }
+  /** Retrieves the details of a Climate order object with the given ID. */
+  public CompletableFuture<Order> retrieveAsync(
+      String order, OrderRetrieveParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path = String.format("/v1/climate/orders/%s", ApiResource.urlEncodeId(order));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.GET,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        Order.class);
+  }
   /** Updates the specified order by setting the values of the parameters passed. */
   public Order update(String order, OrderUpdateParams params) throws StripeException {
     return update(order, params, (RequestOptions) null);
@@ -132,6 +179,21 @@ public final class OrderService extends ApiService {
             options);
     return this.request(request, Order.class);
   }
+  /** Updates the specified order by setting the values of the parameters passed. */
+  public CompletableFuture<Order> updateAsync(
+      String order, OrderUpdateParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path = String.format("/v1/climate/orders/%s", ApiResource.urlEncodeId(order));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.POST,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        Order.class);
+  }
   /**
    * Cancels a Climate order. You can cancel an order within 24 hours of creation. Stripe refunds
    * the reservation {@code amount_subtotal}, but not the {@code amount_fees} for user-triggered
@@ -181,4 +243,26 @@ public final class OrderService extends ApiService {
             options);
     return this.request(request, Order.class);
   }
+  /**
+   * Cancels a Climate order. You can cancel an order within 24 hours of creation. Stripe refunds
+   * the reservation {@code amount_subtotal}, but not the {@code amount_fees} for user-triggered
+   * cancellations. Frontier might cancel reservations if suppliers fail to deliver. If Frontier
+   * cancels the reservation, Stripe provides 90 days advance notice and refunds the {@code
+   * amount_total}.
+   */
+  public CompletableFuture<Order> cancelAsync(
+      String order, OrderCancelParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path =
+              String.format("/v1/climate/orders/%s/cancel", ApiResource.urlEncodeId(order));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.POST,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        Order.class);
+  }
 }
@@ -14,6 +14,7 @@ import com.stripe.net.RequestOptions;
 import com.stripe.net.StripeResponseGetter;
 import com.stripe.param.climate.ProductListParams;
 import com.stripe.param.climate.ProductRetrieveParams;
+import java.util.concurrent.CompletableFuture;
 
 public final class ProductService extends ApiService {
   public ProductService(StripeResponseGetter responseGetter) {
@@ -45,6 +46,19 @@ public final class ProductService extends ApiService {
             options);
     return this.request(request, new TypeToken<StripeCollection<Product>>() {}.getType());
   }
+  /** Lists all available Climate product objects. */
+  public CompletableFuture<StripeCollection<Product>> listAsync(
+      ProductListParams params, RequestOptions options) {
+    String path = "/v1/climate/products";
+    ApiRequest request =
+        new ApiRequest(
+            BaseAddress.API,
+            ApiResource.RequestMethod.GET,
+            path,
+            ApiRequestParams.paramsToMap(params),
+            options);
+    return this.requestAsync(request, new TypeToken<StripeCollection<Product>>() {}.getType());
+  }
   /** Retrieves the details of a Climate product with the given ID. */
   public Product retrieve(String product, ProductRetrieveParams params) throws StripeException {
     return retrieve(product, params, (RequestOptions) null);
@@ -70,4 +84,19 @@ public final class ProductService extends ApiService {
             options);
     return this.request(request, Product.class);
   }
+  /** Retrieves the details of a Climate product with the given ID. */
+  public CompletableFuture<Product> retrieveAsync(
+      String product, ProductRetrieveParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path = String.format("/v1/climate/products/%s", ApiResource.urlEncodeId(product));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.GET,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        Product.class);
+  }
 }
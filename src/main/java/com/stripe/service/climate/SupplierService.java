@@ -14,6 +14,7 @@ import com.stripe.net.RequestOptions;
 import com.stripe.net.StripeResponseGetter;
 import com.stripe.param.climate.SupplierListParams;
 import com.stripe.param.climate.SupplierRetrieveParams;
+import java.util.concurrent.CompletableFuture;
 
 public final class SupplierService extends ApiService {
   public SupplierService(StripeResponseGetter responseGetter) {
@@ -45,6 +46,19 @@ public final class SupplierService extends ApiService {
             options);
     return this.request(request, new TypeToken<StripeCollection<Supplier>>() {}.getType());
   }
+  /** Lists all available Climate supplier objects. */
+  public CompletableFuture<StripeCollection<Supplier>> listAsync(
+      SupplierListParams params, RequestOptions options) {
+    String path = "/v1/climate/suppliers";
+    ApiRequest request =
+        new ApiRequest(
+            BaseAddress.API,
+            ApiResource.RequestMethod.GET,
+            path,
+            ApiRequestParams.paramsToMap(params),
+            options);
+    return this.requestAsync(request, new TypeToken<StripeCollection<Supplier>>() {}.getType());
+  }
   /** Retrieves a Climate supplier object. */
   public Supplier retrieve(String supplier, SupplierRetrieveParams params) throws StripeException {
     return retrieve(supplier, params, (RequestOptions) null);
@@ -70,4 +84,20 @@ public final class SupplierService extends ApiService {
             options);
     return this.request(request, Supplier.class);
   }
+  /** Retrieves a Climate supplier object. */
+  public CompletableFuture<Supplier> retrieveAsync(
+      String supplier, SupplierRetrieveParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path =
+              String.format("/v1/climate/suppliers/%s", ApiResource.urlEncodeId(supplier));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.GET,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        Supplier.class);
+  }
 }
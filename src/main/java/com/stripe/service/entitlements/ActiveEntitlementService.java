@@ -14,6 +14,7 @@ import com.stripe.net.RequestOptions;
 import com.stripe.net.StripeResponseGetter;
 import com.stripe.param.entitlements.ActiveEntitlementListParams;
 import com.stripe.param.entitlements.ActiveEntitlementRetrieveParams;
+import java.util.concurrent.CompletableFuture;
 
 public final class ActiveEntitlementService extends ApiService {
   public ActiveEntitlementService(StripeResponseGetter responseGetter) {
@@ -38,6 +39,20 @@ public final class ActiveEntitlementService extends ApiService {
             options);
     return this.request(request, new TypeToken<StripeCollection<ActiveEntitlement>>() {}.getType());
   }
+  /** Retrieve a list of active entitlements for a customer. */
+  public CompletableFuture<StripeCollection<ActiveEntitlement>> listAsync(
+      ActiveEntitlementListParams params, RequestOptions options) {
+    String path = "/v1/entitlements/active_entitlements";
+    ApiRequest request =
+        new ApiRequest(
+            BaseAddress.API,
+            ApiResource.RequestMethod.GET,
+            path,
+            ApiRequestParams.paramsToMap(params),
+            options);
+    return this.requestAsync(
+        request, new TypeToken<StripeCollection<ActiveEntitlement>>() {}.getType());
+  }
   /** Retrieve an active entitlement. */
   public ActiveEntitlement retrieve(String id, ActiveEntitlementRetrieveParams params)
       throws StripeException {
@@ -66,4 +81,20 @@ public final class ActiveEntitlementService extends ApiService {
             options);
     return this.request(request, ActiveEntitlement.class);
   }
+  /** Retrieve an active entitlement. */
+  public CompletableFuture<ActiveEntitlement> retrieveAsync(
+      String id, ActiveEntitlementRetrieveParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path =
+              String.format("/v1/entitlements/active_entitlements/%s", ApiResource.urlEncodeId(id));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.GET,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        ActiveEntitlement.class);
+  }
 }
@@ -16,6 +16,7 @@ import com.stripe.param.entitlements.FeatureCreateParams;
 import com.stripe.param.entitlements.FeatureListParams;
 import com.stripe.param.entitlements.FeatureRetrieveParams;
 import com.stripe.param.entitlements.FeatureUpdateParams;
+import java.util.concurrent.CompletableFuture;
 
 public final class FeatureService extends ApiService {
   public FeatureService(StripeResponseGetter responseGetter) {
@@ -47,6 +48,19 @@ public final class FeatureService extends ApiService {
             options);
     return this.request(request, new TypeToken<StripeCollection<Feature>>() {}.getType());
   }
+  /** Retrieve a list of features. */
+  public CompletableFuture<StripeCollection<Feature>> listAsync(
+      FeatureListParams params, RequestOptions options) {
+    String path = "/v1/entitlements/features";
+    ApiRequest request =
+        new ApiRequest(
+            BaseAddress.API,
+            ApiResource.RequestMethod.GET,
+            path,
+            ApiRequestParams.paramsToMap(params),
+            options);
+    return this.requestAsync(request, new TypeToken<StripeCollection<Feature>>() {}.getType());
+  }
   /** Creates a feature. */
   public Feature create(FeatureCreateParams params) throws StripeException {
     return create(params, (RequestOptions) null);
@@ -63,6 +77,19 @@ public final class FeatureService extends ApiService {
             options);
     return this.request(request, Feature.class);
   }
+  /** Creates a feature. */
+  public CompletableFuture<Feature> createAsync(
+      FeatureCreateParams params, RequestOptions options) {
+    String path = "/v1/entitlements/features";
+    ApiRequest request =
+        new ApiRequest(
+            BaseAddress.API,
+            ApiResource.RequestMethod.POST,
+            path,
+            ApiRequestParams.paramsToMap(params),
+            options);
+    return this.requestAsync(request, Feature.class);
+  }
   /** Retrieves a feature. */
   public Feature retrieve(String id, FeatureRetrieveParams params) throws StripeException {
     return retrieve(id, params, (RequestOptions) null);
@@ -88,6 +115,21 @@ public final class FeatureService extends ApiService {
             options);
     return this.request(request, Feature.class);
   }
+  /** Retrieves a feature. */
+  public CompletableFuture<Feature> retrieveAsync(
+      String id, FeatureRetrieveParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path = String.format("/v1/entitlements/features/%s", ApiResource.urlEncodeId(id));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.GET,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        Feature.class);
+  }
   /** Update a feature’s metadata or permanently deactivate it. */
   public Feature update(String id, FeatureUpdateParams params) throws StripeException {
     return update(id, params, (RequestOptions) null);
@@ -113,4 +155,19 @@ public final class FeatureService extends ApiService {
             options);
     return this.request(request, Feature.class);
   }
+  /** Update a feature’s metadata or permanently deactivate it. */
+  public CompletableFuture<Feature> updateAsync(
+      String id, FeatureUpdateParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path = String.format("/v1/entitlements/features/%s", ApiResource.urlEncodeId(id));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.POST,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        Feature.class);
+  }
 }
@@ -13,6 +13,7 @@ import com.stripe.net.BaseAddress;
 import com.stripe.net.RequestOptions;
 import com.stripe.net.StripeResponseGetter;
 import com.stripe.param.financialconnections.AccountOwnerListParams;
+import java.util.concurrent.CompletableFuture;
 
 public final class AccountOwnerService extends ApiService {
   public AccountOwnerService(StripeResponseGetter responseGetter) {
@@ -40,4 +41,21 @@ public final class AccountOwnerService extends ApiService {
             options);
     return this.request(request, new TypeToken<StripeCollection<AccountOwner>>() {}.getType());
   }
+  /** Lists all owners for a given {@code Account}. */
+  public CompletableFuture<StripeCollection<AccountOwner>> listAsync(
+      String account, AccountOwnerListParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path =
+              String.format(
+                  "/v1/financial_connections/accounts/%s/owners", ApiResource.urlEncodeId(account));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.GET,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        new TypeToken<StripeCollection<AccountOwner>>() {}.getType());
+  }
 }
@@ -18,6 +18,7 @@ import com.stripe.param.financialconnections.AccountRefreshParams;
 import com.stripe.param.financialconnections.AccountRetrieveParams;
 import com.stripe.param.financialconnections.AccountSubscribeParams;
 import com.stripe.param.financialconnections.AccountUnsubscribeParams;
+import java.util.concurrent.CompletableFuture;
 
 public final class AccountService extends ApiService {
   public AccountService(StripeResponseGetter responseGetter) {
@@ -49,6 +50,19 @@ public final class AccountService extends ApiService {
             options);
     return this.request(request, new TypeToken<StripeCollection<Account>>() {}.getType());
   }
+  /** Returns a list of Financial Connections {@code Account} objects. */
+  public CompletableFuture<StripeCollection<Account>> listAsync(
+      AccountListParams params, RequestOptions options) {
+    String path = "/v1/financial_connections/accounts";
+    ApiRequest request =
+        new ApiRequest(
+            BaseAddress.API,
+            ApiResource.RequestMethod.GET,
+            path,
+            ApiRequestParams.paramsToMap(params),
+            options);
+    return this.requestAsync(request, new TypeToken<StripeCollection<Account>>() {}.getType());
+  }
   /** Retrieves the details of an Financial Connections {@code Account}. */
   public Account retrieve(String account, AccountRetrieveParams params) throws StripeException {
     return retrieve(account, params, (RequestOptions) null);
@@ -75,6 +89,23 @@ public final class AccountService extends ApiService {
             options);
     return this.request(request, Account.class);
   }
+  /** Retrieves the details of an Financial Connections {@code Account}. */
+  public CompletableFuture<Account> retrieveAsync(
+      String account, AccountRetrieveParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path =
+              String.format(
+                  "/v1/financial_connections/accounts/%s", ApiResource.urlEncodeId(account));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.GET,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        Account.class);
+  }
   /**
    * Disables your access to a Financial Connections {@code Account}. You will no longer be able to
    * access data associated with the account (e.g. balances, transactions).
@@ -114,6 +145,27 @@ public final class AccountService extends ApiService {
             options);
     return this.request(request, Account.class);
   }
+  /**
+   * Disables your access to a Financial Connections {@code Account}. You will no longer be able to
+   * access data associated with the account (e.g. balances, transactions).
+   */
+  public CompletableFuture<Account> disconnectAsync(
+      String account, AccountDisconnectParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path =
+              String.format(
+                  "/v1/financial_connections/accounts/%s/disconnect",
+                  ApiResource.urlEncodeId(account));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.POST,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        Account.class);
+  }
   /** Refreshes the data associated with a Financial Connections {@code Account}. */
   public Account refresh(String account, AccountRefreshParams params) throws StripeException {
     return refresh(account, params, (RequestOptions) null);
@@ -133,6 +185,24 @@ public final class AccountService extends ApiService {
             options);
     return this.request(request, Account.class);
   }
+  /** Refreshes the data associated with a Financial Connections {@code Account}. */
+  public CompletableFuture<Account> refreshAsync(
+      String account, AccountRefreshParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path =
+              String.format(
+                  "/v1/financial_connections/accounts/%s/refresh",
+                  ApiResource.urlEncodeId(account));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.POST,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        Account.class);
+  }
   /**
    * Subscribes to periodic refreshes of data associated with a Financial Connections {@code
    * Account}.
@@ -158,6 +228,27 @@ public final class AccountService extends ApiService {
             options);
     return this.request(request, Account.class);
   }
+  /**
+   * Subscribes to periodic refreshes of data associated with a Financial Connections {@code
+   * Account}.
+   */
+  public CompletableFuture<Account> subscribeAsync(
+      String account, AccountSubscribeParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path =
+              String.format(
+                  "/v1/financial_connections/accounts/%s/subscribe",
+                  ApiResource.urlEncodeId(account));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.POST,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        Account.class);
+  }
   /**
    * Unsubscribes from periodic refreshes of data associated with a Financial Connections {@code
    * Account}.
@@ -185,6 +276,27 @@ public final class AccountService extends ApiService {
             options);
     return this.request(request, Account.class);
   }
+  /**
+   * Unsubscribes from periodic refreshes of data associated with a Financial Connections {@code
+   * Account}.
+   */
+  public CompletableFuture<Account> unsubscribeAsync(
+      String account, AccountUnsubscribeParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path =
+              String.format(
+                  "/v1/financial_connections/accounts/%s/unsubscribe",
+                  ApiResource.urlEncodeId(account));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.POST,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        Account.class);
+  }
 
   public com.stripe.service.financialconnections.AccountOwnerService owners() {
     return new com.stripe.service.financialconnections.AccountOwnerService(
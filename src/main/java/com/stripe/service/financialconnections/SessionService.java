@@ -12,6 +12,7 @@ import com.stripe.net.RequestOptions;
 import com.stripe.net.StripeResponseGetter;
 import com.stripe.param.financialconnections.SessionCreateParams;
 import com.stripe.param.financialconnections.SessionRetrieveParams;
+import java.util.concurrent.CompletableFuture;
 
 public final class SessionService extends ApiService {
   public SessionService(StripeResponseGetter responseGetter) {
@@ -44,6 +45,23 @@ public final class SessionService extends ApiService {
             options);
     return this.request(request, Session.class);
   }
+  /** Retrieves the details of a Financial Connections {@code Session}. */
+  public CompletableFuture<Session> retrieveAsync(
+      String session, SessionRetrieveParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path =
+              String.format(
+                  "/v1/financial_connections/sessions/%s", ApiResource.urlEncodeId(session));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.GET,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        Session.class);
+  }
   /**
    * To launch the Financial Connections authorization flow, create a {@code Session}. The session’s
    * {@code client_secret} can be used to launch the flow using Stripe.js.
@@ -66,4 +84,20 @@ public final class SessionService extends ApiService {
             options);
     return this.request(request, Session.class);
   }
+  /**
+   * To launch the Financial Connections authorization flow, create a {@code Session}. The session’s
+   * {@code client_secret} can be used to launch the flow using Stripe.js.
+   */
+  public CompletableFuture<Session> createAsync(
+      SessionCreateParams params, RequestOptions options) {
+    String path = "/v1/financial_connections/sessions";
+    ApiRequest request =
+        new ApiRequest(
+            BaseAddress.API,
+            ApiResource.RequestMethod.POST,
+            path,
+            ApiRequestParams.paramsToMap(params),
+            options);
+    return this.requestAsync(request, Session.class);
+  }
 }
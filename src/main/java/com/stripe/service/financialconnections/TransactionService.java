@@ -14,6 +14,7 @@ import com.stripe.net.RequestOptions;
 import com.stripe.net.StripeResponseGetter;
 import com.stripe.param.financialconnections.TransactionListParams;
 import com.stripe.param.financialconnections.TransactionRetrieveParams;
+import java.util.concurrent.CompletableFuture;
 
 public final class TransactionService extends ApiService {
   public TransactionService(StripeResponseGetter responseGetter) {
@@ -37,6 +38,19 @@ public final class TransactionService extends ApiService {
             options);
     return this.request(request, new TypeToken<StripeCollection<Transaction>>() {}.getType());
   }
+  /** Returns a list of Financial Connections {@code Transaction} objects. */
+  public CompletableFuture<StripeCollection<Transaction>> listAsync(
+      TransactionListParams params, RequestOptions options) {
+    String path = "/v1/financial_connections/transactions";
+    ApiRequest request =
+        new ApiRequest(
+            BaseAddress.API,
+            ApiResource.RequestMethod.GET,
+            path,
+            ApiRequestParams.paramsToMap(params),
+            options);
+    return this.requestAsync(request, new TypeToken<StripeCollection<Transaction>>() {}.getType());
+  }
   /** Retrieves the details of a Financial Connections {@code Transaction}. */
   public Transaction retrieve(String transaction, TransactionRetrieveParams params)
       throws StripeException {
@@ -66,4 +80,22 @@ public final class TransactionService extends ApiService {
             options);
     return this.request(request, Transaction.class);
   }
+  /** Retrieves the details of a Financial Connections {@code Transaction}. */
+  public CompletableFuture<Transaction> retrieveAsync(
+      String transaction, TransactionRetrieveParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path =
+              String.format(
+                  "/v1/financial_connections/transactions/%s",
+                  ApiResource.urlEncodeId(transaction));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.GET,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        Transaction.class);
+  }
 }
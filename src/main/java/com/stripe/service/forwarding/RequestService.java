@@ -15,6 +15,7 @@ import com.stripe.net.StripeResponseGetter;
 import com.stripe.param.forwarding.RequestCreateParams;
 import com.stripe.param.forwarding.RequestListParams;
 import com.stripe.param.forwarding.RequestRetrieveParams;
+import java.util.concurrent.CompletableFuture;
 
 public final class RequestService extends ApiService {
   public RequestService(StripeResponseGetter responseGetter) {
@@ -46,6 +47,19 @@ public final class RequestService extends ApiService {
             options);
     return this.request(request, new TypeToken<StripeCollection<Request>>() {}.getType());
   }
+  /** Lists all ForwardingRequest objects. */
+  public CompletableFuture<StripeCollection<Request>> listAsync(
+      RequestListParams params, RequestOptions options) {
+    String path = "/v1/forwarding/requests";
+    ApiRequest request =
+        new ApiRequest(
+            BaseAddress.API,
+            ApiResource.RequestMethod.GET,
+            path,
+            ApiRequestParams.paramsToMap(params),
+            options);
+    return this.requestAsync(request, new TypeToken<StripeCollection<Request>>() {}.getType());
+  }
   /** Creates a ForwardingRequest object. */
   public Request create(RequestCreateParams params) throws StripeException {
     return create(params, (RequestOptions) null);
@@ -62,6 +76,19 @@ public final class RequestService extends ApiService {
             options);
     return this.request(request, Request.class);
   }
+  /** Creates a ForwardingRequest object. */
+  public CompletableFuture<Request> createAsync(
+      RequestCreateParams params, RequestOptions options) {
+    String path = "/v1/forwarding/requests";
+    ApiRequest request =
+        new ApiRequest(
+            BaseAddress.API,
+            ApiResource.RequestMethod.POST,
+            path,
+            ApiRequestParams.paramsToMap(params),
+            options);
+    return this.requestAsync(request, Request.class);
+  }
   /** Retrieves a ForwardingRequest object. */
   public Request retrieve(String id, RequestRetrieveParams params) throws StripeException {
     return retrieve(id, params, (RequestOptions) null);
@@ -87,4 +114,19 @@ public final class RequestService extends ApiService {
             options);
     return this.request(request, Request.class);
   }
+  /** Retrieves a ForwardingRequest object. */
+  public CompletableFuture<Request> retrieveAsync(
+      String id, RequestRetrieveParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path = String.format("/v1/forwarding/requests/%s", ApiResource.urlEncodeId(id));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.GET,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        Request.class);
+  }
 }
@@ -14,6 +14,7 @@ import com.stripe.net.RequestOptions;
 import com.stripe.net.StripeResponseGetter;
 import com.stripe.param.identity.VerificationReportListParams;
 import com.stripe.param.identity.VerificationReportRetrieveParams;
+import java.util.concurrent.CompletableFuture;
 
 public final class VerificationReportService extends ApiService {
   public VerificationReportService(StripeResponseGetter responseGetter) {
@@ -47,6 +48,20 @@ public final class VerificationReportService extends ApiService {
     return this.request(
         request, new TypeToken<StripeCollection<VerificationReport>>() {}.getType());
   }
+  /** List all verification reports. */
+  public CompletableFuture<StripeCollection<VerificationReport>> listAsync(
+      VerificationReportListParams params, RequestOptions options) {
+    String path = "/v1/identity/verification_reports";
+    ApiRequest request =
+        new ApiRequest(
+            BaseAddress.API,
+            ApiResource.RequestMethod.GET,
+            path,
+            ApiRequestParams.paramsToMap(params),
+            options);
+    return this.requestAsync(
+        request, new TypeToken<StripeCollection<VerificationReport>>() {}.getType());
+  }
   /** Retrieves an existing VerificationReport. */
   public VerificationReport retrieve(String report, VerificationReportRetrieveParams params)
       throws StripeException {
@@ -75,4 +90,21 @@ public final class VerificationReportService extends ApiService {
             options);
     return this.request(request, VerificationReport.class);
   }
+  /** Retrieves an existing VerificationReport. */
+  public CompletableFuture<VerificationReport> retrieveAsync(
+      String report, VerificationReportRetrieveParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path =
+              String.format(
+                  "/v1/identity/verification_reports/%s", ApiResource.urlEncodeId(report));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.GET,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        VerificationReport.class);
+  }
 }
@@ -18,6 +18,7 @@ import com.stripe.param.identity.VerificationSessionListParams;
 import com.stripe.param.identity.VerificationSessionRedactParams;
 import com.stripe.param.identity.VerificationSessionRetrieveParams;
 import com.stripe.param.identity.VerificationSessionUpdateParams;
+import java.util.concurrent.CompletableFuture;
 
 public final class VerificationSessionService extends ApiService {
   public VerificationSessionService(StripeResponseGetter responseGetter) {
@@ -51,6 +52,20 @@ public final class VerificationSessionService extends ApiService {
     return this.request(
         request, new TypeToken<StripeCollection<VerificationSession>>() {}.getType());
   }
+  /** Returns a list of VerificationSessions. */
+  public CompletableFuture<StripeCollection<VerificationSession>> listAsync(
+      VerificationSessionListParams params, RequestOptions options) {
+    String path = "/v1/identity/verification_sessions";
+    ApiRequest request =
+        new ApiRequest(
+            BaseAddress.API,
+            ApiResource.RequestMethod.GET,
+            path,
+            ApiRequestParams.paramsToMap(params),
+            options);
+    return this.requestAsync(
+        request, new TypeToken<StripeCollection<VerificationSession>>() {}.getType());
+  }
   /**
    * Creates a VerificationSession object.
    *
@@ -120,6 +135,30 @@ public final class VerificationSessionService extends ApiService {
             options);
     return this.request(request, VerificationSession.class);
   }
+  /**
+   * Creates a VerificationSession object.
+   *
+   * <p>After the VerificationSession is created, display a verification modal using the session
+   * {@code client_secret} or send your users to the session’s {@code url}.
+   *
+   * <p>If your API key is in test mode, verification checks won’t actually process, though
+   * everything else will occur as if in live mode.
+   *
+   * <p>Related guide: <a href="https://stripe.com/docs/identity/verify-identity-documents">Verify
+   * your users’ identity documents</a>.
+   */
+  public CompletableFuture<VerificationSession> createAsync(
+      VerificationSessionCreateParams params, RequestOptions options) {
+    String path = "/v1/identity/verification_sessions";
+    ApiRequest request =
+        new ApiRequest(
+            BaseAddress.API,
+            ApiResource.RequestMethod.POST,
+            path,
+            ApiRequestParams.paramsToMap(params),
+            options);
+    return this.requestAsync(request, VerificationSession.class);
+  }
   /**
    * Retrieves the details of a VerificationSession that was previously created.
    *
@@ -169,6 +208,28 @@ public final class VerificationSessionService extends ApiService {
             options);
     return this.request(request, VerificationSession.class);
   }
+  /**
+   * Retrieves the details of a VerificationSession that was previously created.
+   *
+   * <p>When the session status is {@code requires_input}, you can use this method to retrieve a
+   * valid {@code client_secret} or {@code url} to allow re-submission.
+   */
+  public CompletableFuture<VerificationSession> retrieveAsync(
+      String session, VerificationSessionRetrieveParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path =
+              String.format(
+                  "/v1/identity/verification_sessions/%s", ApiResource.urlEncodeId(session));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.GET,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        VerificationSession.class);
+  }
   /**
    * Updates a VerificationSession object.
    *
@@ -217,6 +278,28 @@ public final class VerificationSessionService extends ApiService {
             options);
     return this.request(request, VerificationSession.class);
   }
+  /**
+   * Updates a VerificationSession object.
+   *
+   * <p>When the session status is {@code requires_input}, you can use this method to update the
+   * verification check and options.
+   */
+  public CompletableFuture<VerificationSession> updateAsync(
+      String session, VerificationSessionUpdateParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path =
+              String.format(
+                  "/v1/identity/verification_sessions/%s", ApiResource.urlEncodeId(session));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.POST,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        VerificationSession.class);
+  }
   /**
    * A VerificationSession object can be canceled when it is in {@code requires_input} <a
    * href="https://stripe.com/docs/identity/how-sessions-work">status</a>.
@@ -270,6 +353,29 @@ public final class VerificationSessionService extends ApiService {
             options);
     return this.request(request, VerificationSession.class);
   }
+  /**
+   * A VerificationSession object can be canceled when it is in {@code requires_input} <a
+   * href="https://stripe.com/docs/identity/how-sessions-work">status</a>.
+   *
+   * <p>Once canceled, future submission attempts are disabled. This cannot be undone. <a
+   * href="https://stripe.com/docs/identity/verification-sessions#cancel">Learn more</a>.
+   */
+  public CompletableFuture<VerificationSession> cancelAsync(
+      String session, VerificationSessionCancelParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path =
+              String.format(
+                  "/v1/identity/verification_sessions/%s/cancel", ApiResource.urlEncodeId(session));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.POST,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        VerificationSession.class);
+  }
   /**
    * Redact a VerificationSession to remove all collected information from Stripe. This will redact
    * the VerificationSession and all objects related to it, including VerificationReports, Events,
@@ -379,4 +485,41 @@ public final class VerificationSessionService extends ApiService {
             options);
     return this.request(request, VerificationSession.class);
   }
+  /**
+   * Redact a VerificationSession to remove all collected information from Stripe. This will redact
+   * the VerificationSession and all objects related to it, including VerificationReports, Events,
+   * request logs, etc.
+   *
+   * <p>A VerificationSession object can be redacted when it is in {@code requires_input} or {@code
+   * verified} <a href="https://stripe.com/docs/identity/how-sessions-work">status</a>. Redacting a
+   * VerificationSession in {@code requires_action} state will automatically cancel it.
+   *
+   * <p>The redaction process may take up to four days. When the redaction process is in progress,
+   * the VerificationSession’s {@code redaction.status} field will be set to {@code processing};
+   * when the process is finished, it will change to {@code redacted} and an {@code
+   * identity.verification_session.redacted} event will be emitted.
+   *
+   * <p>Redaction is irreversible. Redacted objects are still accessible in the Stripe API, but all
+   * the fields that contain personal data will be replaced by the string {@code [redacted]} or a
+   * similar placeholder. The {@code metadata} field will also be erased. Redacted objects cannot be
+   * updated or used for any purpose.
+   *
+   * <p><a href="https://stripe.com/docs/identity/verification-sessions#redact">Learn more</a>.
+   */
+  public CompletableFuture<VerificationSession> redactAsync(
+      String session, VerificationSessionRedactParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path =
+              String.format(
+                  "/v1/identity/verification_sessions/%s/redact", ApiResource.urlEncodeId(session));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.POST,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        VerificationSession.class);
+  }
 }
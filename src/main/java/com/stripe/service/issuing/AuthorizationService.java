@@ -17,6 +17,7 @@ import com.stripe.param.issuing.AuthorizationDeclineParams;
 import com.stripe.param.issuing.AuthorizationListParams;
 import com.stripe.param.issuing.AuthorizationRetrieveParams;
 import com.stripe.param.issuing.AuthorizationUpdateParams;
+import java.util.concurrent.CompletableFuture;
 
 public final class AuthorizationService extends ApiService {
   public AuthorizationService(StripeResponseGetter responseGetter) {
@@ -61,6 +62,23 @@ public final class AuthorizationService extends ApiService {
             options);
     return this.request(request, new TypeToken<StripeCollection<Authorization>>() {}.getType());
   }
+  /**
+   * Returns a list of Issuing {@code Authorization} objects. The objects are sorted in descending
+   * order by creation date, with the most recently created object appearing first.
+   */
+  public CompletableFuture<StripeCollection<Authorization>> listAsync(
+      AuthorizationListParams params, RequestOptions options) {
+    String path = "/v1/issuing/authorizations";
+    ApiRequest request =
+        new ApiRequest(
+            BaseAddress.API,
+            ApiResource.RequestMethod.GET,
+            path,
+            ApiRequestParams.paramsToMap(params),
+            options);
+    return this.requestAsync(
+        request, new TypeToken<StripeCollection<Authorization>>() {}.getType());
+  }
   /** Retrieves an Issuing {@code Authorization} object. */
   public Authorization retrieve(String authorization, AuthorizationRetrieveParams params)
       throws StripeException {
@@ -90,6 +108,23 @@ public final class AuthorizationService extends ApiService {
             options);
     return this.request(request, Authorization.class);
   }
+  /** Retrieves an Issuing {@code Authorization} object. */
+  public CompletableFuture<Authorization> retrieveAsync(
+      String authorization, AuthorizationRetrieveParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path =
+              String.format(
+                  "/v1/issuing/authorizations/%s", ApiResource.urlEncodeId(authorization));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.GET,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        Authorization.class);
+  }
   /**
    * Updates the specified Issuing {@code Authorization} object by setting the values of the
    * parameters passed. Any parameters not provided will be left unchanged.
@@ -130,6 +165,26 @@ public final class AuthorizationService extends ApiService {
             options);
     return this.request(request, Authorization.class);
   }
+  /**
+   * Updates the specified Issuing {@code Authorization} object by setting the values of the
+   * parameters passed. Any parameters not provided will be left unchanged.
+   */
+  public CompletableFuture<Authorization> updateAsync(
+      String authorization, AuthorizationUpdateParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path =
+              String.format(
+                  "/v1/issuing/authorizations/%s", ApiResource.urlEncodeId(authorization));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.POST,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        Authorization.class);
+  }
   /**
    * [Deprecated] Approves a pending Issuing {@code Authorization} object. This request should be
    * made within the timeout window of the <a
@@ -188,6 +243,30 @@ public final class AuthorizationService extends ApiService {
             options);
     return this.request(request, Authorization.class);
   }
+  /**
+   * [Deprecated] Approves a pending Issuing {@code Authorization} object. This request should be
+   * made within the timeout window of the <a
+   * href="https://stripe.com/docs/issuing/controls/real-time-authorizations">real-time
+   * authorization</a> flow. This method is deprecated. Instead, <a
+   * href="https://stripe.com/docs/issuing/controls/real-time-authorizations#authorization-handling">respond
+   * directly to the webhook request to approve an authorization</a>.
+   */
+  public CompletableFuture<Authorization> approveAsync(
+      String authorization, AuthorizationApproveParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path =
+              String.format(
+                  "/v1/issuing/authorizations/%s/approve", ApiResource.urlEncodeId(authorization));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.POST,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        Authorization.class);
+  }
   /**
    * [Deprecated] Declines a pending Issuing {@code Authorization} object. This request should be
    * made within the timeout window of the <a
@@ -246,4 +325,28 @@ public final class AuthorizationService extends ApiService {
             options);
     return this.request(request, Authorization.class);
   }
+  /**
+   * [Deprecated] Declines a pending Issuing {@code Authorization} object. This request should be
+   * made within the timeout window of the <a
+   * href="https://stripe.com/docs/issuing/controls/real-time-authorizations">real time
+   * authorization</a> flow. This method is deprecated. Instead, <a
+   * href="https://stripe.com/docs/issuing/controls/real-time-authorizations#authorization-handling">respond
+   * directly to the webhook request to decline an authorization</a>.
+   */
+  public CompletableFuture<Authorization> declineAsync(
+      String authorization, AuthorizationDeclineParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path =
+              String.format(
+                  "/v1/issuing/authorizations/%s/decline", ApiResource.urlEncodeId(authorization));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.POST,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        Authorization.class);
+  }
 }
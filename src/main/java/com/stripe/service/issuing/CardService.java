@@ -16,6 +16,7 @@ import com.stripe.param.issuing.CardCreateParams;
 import com.stripe.param.issuing.CardListParams;
 import com.stripe.param.issuing.CardRetrieveParams;
 import com.stripe.param.issuing.CardUpdateParams;
+import java.util.concurrent.CompletableFuture;
 
 public final class CardService extends ApiService {
   public CardService(StripeResponseGetter responseGetter) {
@@ -59,6 +60,22 @@ public final class CardService extends ApiService {
             options);
     return this.request(request, new TypeToken<StripeCollection<Card>>() {}.getType());
   }
+  /**
+   * Returns a list of Issuing {@code Card} objects. The objects are sorted in descending order by
+   * creation date, with the most recently created object appearing first.
+   */
+  public CompletableFuture<StripeCollection<Card>> listAsync(
+      CardListParams params, RequestOptions options) {
+    String path = "/v1/issuing/cards";
+    ApiRequest request =
+        new ApiRequest(
+            BaseAddress.API,
+            ApiResource.RequestMethod.GET,
+            path,
+            ApiRequestParams.paramsToMap(params),
+            options);
+    return this.requestAsync(request, new TypeToken<StripeCollection<Card>>() {}.getType());
+  }
   /** Creates an Issuing {@code Card} object. */
   public Card create(CardCreateParams params) throws StripeException {
     return create(params, (RequestOptions) null);
@@ -75,6 +92,18 @@ public final class CardService extends ApiService {
             options);
     return this.request(request, Card.class);
   }
+  /** Creates an Issuing {@code Card} object. */
+  public CompletableFuture<Card> createAsync(CardCreateParams params, RequestOptions options) {
+    String path = "/v1/issuing/cards";
+    ApiRequest request =
+        new ApiRequest(
+            BaseAddress.API,
+            ApiResource.RequestMethod.POST,
+            path,
+            ApiRequestParams.paramsToMap(params),
+            options);
+    return this.requestAsync(request, Card.class);
+  }
   /** Retrieves an Issuing {@code Card} object. */
   public Card retrieve(String card, CardRetrieveParams params) throws StripeException {
     return retrieve(card, params, (RequestOptions) null);
@@ -100,6 +129,21 @@ public final class CardService extends ApiService {
             options);
     return this.request(request, Card.class);
   }
+  /** Retrieves an Issuing {@code Card} object. */
+  public CompletableFuture<Card> retrieveAsync(
+      String card, CardRetrieveParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path = String.format("/v1/issuing/cards/%s", ApiResource.urlEncodeId(card));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.GET,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        Card.class);
+  }
   /**
    * Updates the specified Issuing {@code Card} object by setting the values of the parameters
    * passed. Any parameters not provided will be left unchanged.
@@ -137,4 +181,22 @@ public final class CardService extends ApiService {
             options);
     return this.request(request, Card.class);
   }
+  /**
+   * Updates the specified Issuing {@code Card} object by setting the values of the parameters
+   * passed. Any parameters not provided will be left unchanged.
+   */
+  public CompletableFuture<Card> updateAsync(
+      String card, CardUpdateParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path = String.format("/v1/issuing/cards/%s", ApiResource.urlEncodeId(card));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.POST,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        Card.class);
+  }
 }
@@ -16,6 +16,7 @@ import com.stripe.param.issuing.CardholderCreateParams;
 import com.stripe.param.issuing.CardholderListParams;
 import com.stripe.param.issuing.CardholderRetrieveParams;
 import com.stripe.param.issuing.CardholderUpdateParams;
+import java.util.concurrent.CompletableFuture;
 
 public final class CardholderService extends ApiService {
   public CardholderService(StripeResponseGetter responseGetter) {
@@ -59,6 +60,22 @@ public final class CardholderService extends ApiService {
             options);
     return this.request(request, new TypeToken<StripeCollection<Cardholder>>() {}.getType());
   }
+  /**
+   * Returns a list of Issuing {@code Cardholder} objects. The objects are sorted in descending
+   * order by creation date, with the most recently created object appearing first.
+   */
+  public CompletableFuture<StripeCollection<Cardholder>> listAsync(
+      CardholderListParams params, RequestOptions options) {
+    String path = "/v1/issuing/cardholders";
+    ApiRequest request =
+        new ApiRequest(
+            BaseAddress.API,
+            ApiResource.RequestMethod.GET,
+            path,
+            ApiRequestParams.paramsToMap(params),
+            options);
+    return this.requestAsync(request, new TypeToken<StripeCollection<Cardholder>>() {}.getType());
+  }
   /** Creates a new Issuing {@code Cardholder} object that can be issued cards. */
   public Cardholder create(CardholderCreateParams params) throws StripeException {
     return create(params, (RequestOptions) null);
@@ -76,6 +93,19 @@ public final class CardholderService extends ApiService {
             options);
     return this.request(request, Cardholder.class);
   }
+  /** Creates a new Issuing {@code Cardholder} object that can be issued cards. */
+  public CompletableFuture<Cardholder> createAsync(
+      CardholderCreateParams params, RequestOptions options) {
+    String path = "/v1/issuing/cardholders";
+    ApiRequest request =
+        new ApiRequest(
+            BaseAddress.API,
+            ApiResource.RequestMethod.POST,
+            path,
+            ApiRequestParams.paramsToMap(params),
+            options);
+    return this.requestAsync(request, Cardholder.class);
+  }
   /** Retrieves an Issuing {@code Cardholder} object. */
   public Cardholder retrieve(String cardholder, CardholderRetrieveParams params)
       throws StripeException {
@@ -103,6 +133,22 @@ public final class CardholderService extends ApiService {
             options);
     return this.request(request, Cardholder.class);
   }
+  /** Retrieves an Issuing {@code Cardholder} object. */
+  public CompletableFuture<Cardholder> retrieveAsync(
+      String cardholder, CardholderRetrieveParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path =
+              String.format("/v1/issuing/cardholders/%s", ApiResource.urlEncodeId(cardholder));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.GET,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        Cardholder.class);
+  }
   /**
    * Updates the specified Issuing {@code Cardholder} object by setting the values of the parameters
    * passed. Any parameters not provided will be left unchanged.
@@ -141,4 +187,23 @@ public final class CardholderService extends ApiService {
             options);
     return this.request(request, Cardholder.class);
   }
+  /**
+   * Updates the specified Issuing {@code Cardholder} object by setting the values of the parameters
+   * passed. Any parameters not provided will be left unchanged.
+   */
+  public CompletableFuture<Cardholder> updateAsync(
+      String cardholder, CardholderUpdateParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path =
+              String.format("/v1/issuing/cardholders/%s", ApiResource.urlEncodeId(cardholder));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.POST,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        Cardholder.class);
+  }
 }
@@ -17,6 +17,7 @@ import com.stripe.param.issuing.DisputeListParams;
 import com.stripe.param.issuing.DisputeRetrieveParams;
 import com.stripe.param.issuing.DisputeSubmitParams;
 import com.stripe.param.issuing.DisputeUpdateParams;
+import java.util.concurrent.CompletableFuture;
 
 public final class DisputeService extends ApiService {
   public DisputeService(StripeResponseGetter responseGetter) {
@@ -60,6 +61,22 @@ public final class DisputeService extends ApiService {
             options);
     return this.request(request, new TypeToken<StripeCollection<Dispute>>() {}.getType());
   }
+  /**
+   * Returns a list of Issuing {@code Dispute} objects. The objects are sorted in descending order
+   * by creation date, with the most recently created object appearing first.
+   */
+  public CompletableFuture<StripeCollection<Dispute>> listAsync(
+      DisputeListParams params, RequestOptions options) {
+    String path = "/v1/issuing/disputes";
+    ApiRequest request =
+        new ApiRequest(
+            BaseAddress.API,
+            ApiResource.RequestMethod.GET,
+            path,
+            ApiRequestParams.paramsToMap(params),
+            options);
+    return this.requestAsync(request, new TypeToken<StripeCollection<Dispute>>() {}.getType());
+  }
   /**
    * Creates an Issuing {@code Dispute} object. Individual pieces of evidence within the {@code
    * evidence} object are optional at this point. Stripe only validates that required evidence is
@@ -108,6 +125,25 @@ public final class DisputeService extends ApiService {
             options);
     return this.request(request, Dispute.class);
   }
+  /**
+   * Creates an Issuing {@code Dispute} object. Individual pieces of evidence within the {@code
+   * evidence} object are optional at this point. Stripe only validates that required evidence is
+   * present during submission. Refer to <a
+   * href="https://stripe.com/docs/issuing/purchases/disputes#dispute-reasons-and-evidence">Dispute
+   * reasons and evidence</a> for more details about evidence requirements.
+   */
+  public CompletableFuture<Dispute> createAsync(
+      DisputeCreateParams params, RequestOptions options) {
+    String path = "/v1/issuing/disputes";
+    ApiRequest request =
+        new ApiRequest(
+            BaseAddress.API,
+            ApiResource.RequestMethod.POST,
+            path,
+            ApiRequestParams.paramsToMap(params),
+            options);
+    return this.requestAsync(request, Dispute.class);
+  }
   /** Retrieves an Issuing {@code Dispute} object. */
   public Dispute retrieve(String dispute, DisputeRetrieveParams params) throws StripeException {
     return retrieve(dispute, params, (RequestOptions) null);
@@ -133,6 +169,21 @@ public final class DisputeService extends ApiService {
             options);
     return this.request(request, Dispute.class);
   }
+  /** Retrieves an Issuing {@code Dispute} object. */
+  public CompletableFuture<Dispute> retrieveAsync(
+      String dispute, DisputeRetrieveParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path = String.format("/v1/issuing/disputes/%s", ApiResource.urlEncodeId(dispute));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.GET,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        Dispute.class);
+  }
   /**
    * Updates the specified Issuing {@code Dispute} object by setting the values of the parameters
    * passed. Any parameters not provided will be left unchanged. Properties on the {@code evidence}
@@ -174,6 +225,25 @@ public final class DisputeService extends ApiService {
             options);
     return this.request(request, Dispute.class);
   }
+  /**
+   * Updates the specified Issuing {@code Dispute} object by setting the values of the parameters
+   * passed. Any parameters not provided will be left unchanged. Properties on the {@code evidence}
+   * object can be unset by passing in an empty string.
+   */
+  public CompletableFuture<Dispute> updateAsync(
+      String dispute, DisputeUpdateParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path = String.format("/v1/issuing/disputes/%s", ApiResource.urlEncodeId(dispute));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.POST,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        Dispute.class);
+  }
   /**
    * Submits an Issuing {@code Dispute} to the card network. Stripe validates that all evidence
    * fields required for the dispute’s reason are present. For more details, see <a
@@ -219,4 +289,25 @@ public final class DisputeService extends ApiService {
             options);
     return this.request(request, Dispute.class);
   }
+  /**
+   * Submits an Issuing {@code Dispute} to the card network. Stripe validates that all evidence
+   * fields required for the dispute’s reason are present. For more details, see <a
+   * href="https://stripe.com/docs/issuing/purchases/disputes#dispute-reasons-and-evidence">Dispute
+   * reasons and evidence</a>.
+   */
+  public CompletableFuture<Dispute> submitAsync(
+      String dispute, DisputeSubmitParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path =
+              String.format("/v1/issuing/disputes/%s/submit", ApiResource.urlEncodeId(dispute));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.POST,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        Dispute.class);
+  }
 }
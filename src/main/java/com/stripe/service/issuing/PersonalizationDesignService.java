@@ -16,6 +16,7 @@ import com.stripe.param.issuing.PersonalizationDesignCreateParams;
 import com.stripe.param.issuing.PersonalizationDesignListParams;
 import com.stripe.param.issuing.PersonalizationDesignRetrieveParams;
 import com.stripe.param.issuing.PersonalizationDesignUpdateParams;
+import java.util.concurrent.CompletableFuture;
 
 public final class PersonalizationDesignService extends ApiService {
   public PersonalizationDesignService(StripeResponseGetter responseGetter) {
@@ -62,6 +63,23 @@ public final class PersonalizationDesignService extends ApiService {
     return this.request(
         request, new TypeToken<StripeCollection<PersonalizationDesign>>() {}.getType());
   }
+  /**
+   * Returns a list of personalization design objects. The objects are sorted in descending order by
+   * creation date, with the most recently created object appearing first.
+   */
+  public CompletableFuture<StripeCollection<PersonalizationDesign>> listAsync(
+      PersonalizationDesignListParams params, RequestOptions options) {
+    String path = "/v1/issuing/personalization_designs";
+    ApiRequest request =
+        new ApiRequest(
+            BaseAddress.API,
+            ApiResource.RequestMethod.GET,
+            path,
+            ApiRequestParams.paramsToMap(params),
+            options);
+    return this.requestAsync(
+        request, new TypeToken<StripeCollection<PersonalizationDesign>>() {}.getType());
+  }
   /** Creates a personalization design object. */
   public PersonalizationDesign create(PersonalizationDesignCreateParams params)
       throws StripeException {
@@ -80,6 +98,19 @@ public final class PersonalizationDesignService extends ApiService {
             options);
     return this.request(request, PersonalizationDesign.class);
   }
+  /** Creates a personalization design object. */
+  public CompletableFuture<PersonalizationDesign> createAsync(
+      PersonalizationDesignCreateParams params, RequestOptions options) {
+    String path = "/v1/issuing/personalization_designs";
+    ApiRequest request =
+        new ApiRequest(
+            BaseAddress.API,
+            ApiResource.RequestMethod.POST,
+            path,
+            ApiRequestParams.paramsToMap(params),
+            options);
+    return this.requestAsync(request, PersonalizationDesign.class);
+  }
   /** Retrieves a personalization design object. */
   public PersonalizationDesign retrieve(
       String personalizationDesign, PersonalizationDesignRetrieveParams params)
@@ -115,6 +146,26 @@ public final class PersonalizationDesignService extends ApiService {
             options);
     return this.request(request, PersonalizationDesign.class);
   }
+  /** Retrieves a personalization design object. */
+  public CompletableFuture<PersonalizationDesign> retrieveAsync(
+      String personalizationDesign,
+      PersonalizationDesignRetrieveParams params,
+      RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path =
+              String.format(
+                  "/v1/issuing/personalization_designs/%s",
+                  ApiResource.urlEncodeId(personalizationDesign));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.GET,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        PersonalizationDesign.class);
+  }
   /** Updates a card personalization object. */
   public PersonalizationDesign update(
       String personalizationDesign, PersonalizationDesignUpdateParams params)
@@ -150,4 +201,24 @@ public final class PersonalizationDesignService extends ApiService {
             options);
     return this.request(request, PersonalizationDesign.class);
   }
+  /** Updates a card personalization object. */
+  public CompletableFuture<PersonalizationDesign> updateAsync(
+      String personalizationDesign,
+      PersonalizationDesignUpdateParams params,
+      RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path =
+              String.format(
+                  "/v1/issuing/personalization_designs/%s",
+                  ApiResource.urlEncodeId(personalizationDesign));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.POST,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        PersonalizationDesign.class);
+  }
 }
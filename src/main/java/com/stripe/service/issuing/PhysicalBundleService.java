@@ -14,6 +14,7 @@ import com.stripe.net.RequestOptions;
 import com.stripe.net.StripeResponseGetter;
 import com.stripe.param.issuing.PhysicalBundleListParams;
 import com.stripe.param.issuing.PhysicalBundleRetrieveParams;
+import java.util.concurrent.CompletableFuture;
 
 public final class PhysicalBundleService extends ApiService {
   public PhysicalBundleService(StripeResponseGetter responseGetter) {
@@ -58,6 +59,23 @@ public final class PhysicalBundleService extends ApiService {
             options);
     return this.request(request, new TypeToken<StripeCollection<PhysicalBundle>>() {}.getType());
   }
+  /**
+   * Returns a list of physical bundle objects. The objects are sorted in descending order by
+   * creation date, with the most recently created object appearing first.
+   */
+  public CompletableFuture<StripeCollection<PhysicalBundle>> listAsync(
+      PhysicalBundleListParams params, RequestOptions options) {
+    String path = "/v1/issuing/physical_bundles";
+    ApiRequest request =
+        new ApiRequest(
+            BaseAddress.API,
+            ApiResource.RequestMethod.GET,
+            path,
+            ApiRequestParams.paramsToMap(params),
+            options);
+    return this.requestAsync(
+        request, new TypeToken<StripeCollection<PhysicalBundle>>() {}.getType());
+  }
   /** Retrieves a physical bundle object. */
   public PhysicalBundle retrieve(String physicalBundle, PhysicalBundleRetrieveParams params)
       throws StripeException {
@@ -87,4 +105,21 @@ public final class PhysicalBundleService extends ApiService {
             options);
     return this.request(request, PhysicalBundle.class);
   }
+  /** Retrieves a physical bundle object. */
+  public CompletableFuture<PhysicalBundle> retrieveAsync(
+      String physicalBundle, PhysicalBundleRetrieveParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path =
+              String.format(
+                  "/v1/issuing/physical_bundles/%s", ApiResource.urlEncodeId(physicalBundle));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.GET,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        PhysicalBundle.class);
+  }
 }
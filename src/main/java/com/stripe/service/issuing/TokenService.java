@@ -15,6 +15,7 @@ import com.stripe.net.StripeResponseGetter;
 import com.stripe.param.issuing.TokenListParams;
 import com.stripe.param.issuing.TokenRetrieveParams;
 import com.stripe.param.issuing.TokenUpdateParams;
+import java.util.concurrent.CompletableFuture;
 
 public final class TokenService extends ApiService {
   public TokenService(StripeResponseGetter responseGetter) {
@@ -38,6 +39,19 @@ public final class TokenService extends ApiService {
             options);
     return this.request(request, new TypeToken<StripeCollection<Token>>() {}.getType());
   }
+  /** Lists all Issuing {@code Token} objects for a given card. */
+  public CompletableFuture<StripeCollection<Token>> listAsync(
+      TokenListParams params, RequestOptions options) {
+    String path = "/v1/issuing/tokens";
+    ApiRequest request =
+        new ApiRequest(
+            BaseAddress.API,
+            ApiResource.RequestMethod.GET,
+            path,
+            ApiRequestParams.paramsToMap(params),
+            options);
+    return this.requestAsync(request, new TypeToken<StripeCollection<Token>>() {}.getType());
+  }
   /** Retrieves an Issuing {@code Token} object. */
   public Token retrieve(String token, TokenRetrieveParams params) throws StripeException {
     return retrieve(token, params, (RequestOptions) null);
@@ -63,6 +77,21 @@ public final class TokenService extends ApiService {
             options);
     return this.request(request, Token.class);
   }
+  /** Retrieves an Issuing {@code Token} object. */
+  public CompletableFuture<Token> retrieveAsync(
+      String token, TokenRetrieveParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path = String.format("/v1/issuing/tokens/%s", ApiResource.urlEncodeId(token));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.GET,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        Token.class);
+  }
   /** Attempts to update the specified Issuing {@code Token} object to the status specified. */
   public Token update(String token, TokenUpdateParams params) throws StripeException {
     return update(token, params, (RequestOptions) null);
@@ -80,4 +109,19 @@ public final class TokenService extends ApiService {
             options);
     return this.request(request, Token.class);
   }
+  /** Attempts to update the specified Issuing {@code Token} object to the status specified. */
+  public CompletableFuture<Token> updateAsync(
+      String token, TokenUpdateParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path = String.format("/v1/issuing/tokens/%s", ApiResource.urlEncodeId(token));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.POST,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        Token.class);
+  }
 }
@@ -15,6 +15,7 @@ import com.stripe.net.StripeResponseGetter;
 import com.stripe.param.issuing.TransactionListParams;
 import com.stripe.param.issuing.TransactionRetrieveParams;
 import com.stripe.param.issuing.TransactionUpdateParams;
+import java.util.concurrent.CompletableFuture;
 
 public final class TransactionService extends ApiService {
   public TransactionService(StripeResponseGetter responseGetter) {
@@ -58,6 +59,22 @@ public final class TransactionService extends ApiService {
             options);
     return this.request(request, new TypeToken<StripeCollection<Transaction>>() {}.getType());
   }
+  /**
+   * Returns a list of Issuing {@code Transaction} objects. The objects are sorted in descending
+   * order by creation date, with the most recently created object appearing first.
+   */
+  public CompletableFuture<StripeCollection<Transaction>> listAsync(
+      TransactionListParams params, RequestOptions options) {
+    String path = "/v1/issuing/transactions";
+    ApiRequest request =
+        new ApiRequest(
+            BaseAddress.API,
+            ApiResource.RequestMethod.GET,
+            path,
+            ApiRequestParams.paramsToMap(params),
+            options);
+    return this.requestAsync(request, new TypeToken<StripeCollection<Transaction>>() {}.getType());
+  }
   /** Retrieves an Issuing {@code Transaction} object. */
   public Transaction retrieve(String transaction, TransactionRetrieveParams params)
       throws StripeException {
@@ -86,6 +103,22 @@ public final class TransactionService extends ApiService {
             options);
     return this.request(request, Transaction.class);
   }
+  /** Retrieves an Issuing {@code Transaction} object. */
+  public CompletableFuture<Transaction> retrieveAsync(
+      String transaction, TransactionRetrieveParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path =
+              String.format("/v1/issuing/transactions/%s", ApiResource.urlEncodeId(transaction));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.GET,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        Transaction.class);
+  }
   /**
    * Updates the specified Issuing {@code Transaction} object by setting the values of the
    * parameters passed. Any parameters not provided will be left unchanged.
@@ -126,4 +159,23 @@ public final class TransactionService extends ApiService {
             options);
     return this.request(request, Transaction.class);
   }
+  /**
+   * Updates the specified Issuing {@code Transaction} object by setting the values of the
+   * parameters passed. Any parameters not provided will be left unchanged.
+   */
+  public CompletableFuture<Transaction> updateAsync(
+      String transaction, TransactionUpdateParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path =
+              String.format("/v1/issuing/transactions/%s", ApiResource.urlEncodeId(transaction));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.POST,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        Transaction.class);
+  }
 }
@@ -14,6 +14,7 @@ import com.stripe.net.RequestOptions;
 import com.stripe.net.StripeResponseGetter;
 import com.stripe.param.radar.EarlyFraudWarningListParams;
 import com.stripe.param.radar.EarlyFraudWarningRetrieveParams;
+import java.util.concurrent.CompletableFuture;
 
 public final class EarlyFraudWarningService extends ApiService {
   public EarlyFraudWarningService(StripeResponseGetter responseGetter) {
@@ -46,6 +47,20 @@ public final class EarlyFraudWarningService extends ApiService {
             options);
     return this.request(request, new TypeToken<StripeCollection<EarlyFraudWarning>>() {}.getType());
   }
+  /** Returns a list of early fraud warnings. */
+  public CompletableFuture<StripeCollection<EarlyFraudWarning>> listAsync(
+      EarlyFraudWarningListParams params, RequestOptions options) {
+    String path = "/v1/radar/early_fraud_warnings";
+    ApiRequest request =
+        new ApiRequest(
+            BaseAddress.API,
+            ApiResource.RequestMethod.GET,
+            path,
+            ApiRequestParams.paramsToMap(params),
+            options);
+    return this.requestAsync(
+        request, new TypeToken<StripeCollection<EarlyFraudWarning>>() {}.getType());
+  }
   /**
    * Retrieves the details of an early fraud warning that has previously been created.
    *
@@ -97,4 +112,26 @@ public final class EarlyFraudWarningService extends ApiService {
             options);
     return this.request(request, EarlyFraudWarning.class);
   }
+  /**
+   * Retrieves the details of an early fraud warning that has previously been created.
+   *
+   * <p>Please refer to the <a href="https://stripe.com/docs/api#early_fraud_warning_object">early
+   * fraud warning</a> object reference for more details.
+   */
+  public CompletableFuture<EarlyFraudWarning> retrieveAsync(
+      String earlyFraudWarning, EarlyFraudWarningRetrieveParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path =
+              String.format(
+                  "/v1/radar/early_fraud_warnings/%s", ApiResource.urlEncodeId(earlyFraudWarning));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.GET,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        EarlyFraudWarning.class);
+  }
 }
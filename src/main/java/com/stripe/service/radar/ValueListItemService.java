@@ -15,6 +15,7 @@ import com.stripe.net.StripeResponseGetter;
 import com.stripe.param.radar.ValueListItemCreateParams;
 import com.stripe.param.radar.ValueListItemListParams;
 import com.stripe.param.radar.ValueListItemRetrieveParams;
+import java.util.concurrent.CompletableFuture;
 
 public final class ValueListItemService extends ApiService {
   public ValueListItemService(StripeResponseGetter responseGetter) {
@@ -32,6 +33,17 @@ public final class ValueListItemService extends ApiService {
         new ApiRequest(BaseAddress.API, ApiResource.RequestMethod.DELETE, path, null, options);
     return this.request(request, ValueListItem.class);
   }
+  /** Deletes a {@code ValueListItem} object, removing it from its parent value list. */
+  public CompletableFuture<ValueListItem> deleteAsync(String item, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path =
+              String.format("/v1/radar/value_list_items/%s", ApiResource.urlEncodeId(item));
+          return new ApiRequest(
+              BaseAddress.API, ApiResource.RequestMethod.DELETE, path, null, options);
+        },
+        ValueListItem.class);
+  }
   /** Retrieves a {@code ValueListItem} object. */
   public ValueListItem retrieve(String item, ValueListItemRetrieveParams params)
       throws StripeException {
@@ -59,6 +71,22 @@ public final class ValueListItemService extends ApiService {
             options);
     return this.request(request, ValueListItem.class);
   }
+  /** Retrieves a {@code ValueListItem} object. */
+  public CompletableFuture<ValueListItem> retrieveAsync(
+      String item, ValueListItemRetrieveParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path =
+              String.format("/v1/radar/value_list_items/%s", ApiResource.urlEncodeId(item));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.GET,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        ValueListItem.class);
+  }
   /**
    * Returns a list of {@code ValueListItem} objects. The objects are sorted in descending order by
    * creation date, with the most recently created object appearing first.
@@ -83,6 +111,23 @@ public final class ValueListItemService extends ApiService {
             options);
     return this.request(request, new TypeToken<StripeCollection<ValueListItem>>() {}.getType());
   }
+  /**
+   * Returns a list of {@code ValueListItem} objects. The objects are sorted in descending order by
+   * creation date, with the most recently created object appearing first.
+   */
+  public CompletableFuture<StripeCollection<ValueListItem>> listAsync(
+      ValueListItemListParams params, RequestOptions options) {
+    String path = "/v1/radar/value_list_items";
+    ApiRequest request =
+        new ApiRequest(
+            BaseAddress.API,
+            ApiResource.RequestMethod.GET,
+            path,
+            ApiRequestParams.paramsToMap(params),
+            options);
+    return this.requestAsync(
+        request, new TypeToken<StripeCollection<ValueListItem>>() {}.getType());
+  }
   /**
    * Creates a new {@code ValueListItem} object, which is added to the specified parent value list.
    */
@@ -104,4 +149,19 @@ public final class ValueListItemService extends ApiService {
             options);
     return this.request(request, ValueListItem.class);
   }
+  /**
+   * Creates a new {@code ValueListItem} object, which is added to the specified parent value list.
+   */
+  public CompletableFuture<ValueListItem> createAsync(
+      ValueListItemCreateParams params, RequestOptions options) {
+    String path = "/v1/radar/value_list_items";
+    ApiRequest request =
+        new ApiRequest(
+            BaseAddress.API,
+            ApiResource.RequestMethod.POST,
+            path,
+            ApiRequestParams.paramsToMap(params),
+            options);
+    return this.requestAsync(request, ValueListItem.class);
+  }
 }
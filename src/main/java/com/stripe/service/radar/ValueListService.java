@@ -16,6 +16,7 @@ import com.stripe.param.radar.ValueListCreateParams;
 import com.stripe.param.radar.ValueListListParams;
 import com.stripe.param.radar.ValueListRetrieveParams;
 import com.stripe.param.radar.ValueListUpdateParams;
+import java.util.concurrent.CompletableFuture;
 
 public final class ValueListService extends ApiService {
   public ValueListService(StripeResponseGetter responseGetter) {
@@ -39,6 +40,20 @@ public final class ValueListService extends ApiService {
         new ApiRequest(BaseAddress.API, ApiResource.RequestMethod.DELETE, path, null, options);
     return this.request(request, ValueList.class);
   }
+  /**
+   * Deletes a {@code ValueList} object, also deleting any items contained within the value list. To
+   * be deleted, a value list must not be referenced in any rules.
+   */
+  public CompletableFuture<ValueList> deleteAsync(String valueList, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path =
+              String.format("/v1/radar/value_lists/%s", ApiResource.urlEncodeId(valueList));
+          return new ApiRequest(
+              BaseAddress.API, ApiResource.RequestMethod.DELETE, path, null, options);
+        },
+        ValueList.class);
+  }
   /** Retrieves a {@code ValueList} object. */
   public ValueList retrieve(String valueList, ValueListRetrieveParams params)
       throws StripeException {
@@ -66,6 +81,22 @@ public final class ValueListService extends ApiService {
             options);
     return this.request(request, ValueList.class);
   }
+  /** Retrieves a {@code ValueList} object. */
+  public CompletableFuture<ValueList> retrieveAsync(
+      String valueList, ValueListRetrieveParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path =
+              String.format("/v1/radar/value_lists/%s", ApiResource.urlEncodeId(valueList));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.GET,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        ValueList.class);
+  }
   /**
    * Updates a {@code ValueList} object by setting the values of the parameters passed. Any
    * parameters not provided will be left unchanged. Note that {@code item_type} is immutable.
@@ -103,6 +134,25 @@ public final class ValueListService extends ApiService {
             options);
     return this.request(request, ValueList.class);
   }
+  /**
+   * Updates a {@code ValueList} object by setting the values of the parameters passed. Any
+   * parameters not provided will be left unchanged. Note that {@code item_type} is immutable.
+   */
+  public CompletableFuture<ValueList> updateAsync(
+      String valueList, ValueListUpdateParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path =
+              String.format("/v1/radar/value_lists/%s", ApiResource.urlEncodeId(valueList));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.POST,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        ValueList.class);
+  }
   /**
    * Returns a list of {@code ValueList} objects. The objects are sorted in descending order by
    * creation date, with the most recently created object appearing first.
@@ -140,6 +190,22 @@ public final class ValueListService extends ApiService {
             options);
     return this.request(request, new TypeToken<StripeCollection<ValueList>>() {}.getType());
   }
+  /**
+   * Returns a list of {@code ValueList} objects. The objects are sorted in descending order by
+   * creation date, with the most recently created object appearing first.
+   */
+  public CompletableFuture<StripeCollection<ValueList>> listAsync(
+      ValueListListParams params, RequestOptions options) {
+    String path = "/v1/radar/value_lists";
+    ApiRequest request =
+        new ApiRequest(
+            BaseAddress.API,
+            ApiResource.RequestMethod.GET,
+            path,
+            ApiRequestParams.paramsToMap(params),
+            options);
+    return this.requestAsync(request, new TypeToken<StripeCollection<ValueList>>() {}.getType());
+  }
   /** Creates a new {@code ValueList} object, which can then be referenced in rules. */
   public ValueList create(ValueListCreateParams params) throws StripeException {
     return create(params, (RequestOptions) null);
@@ -157,4 +223,17 @@ public final class ValueListService extends ApiService {
             options);
     return this.request(request, ValueList.class);
   }
+  /** Creates a new {@code ValueList} object, which can then be referenced in rules. */
+  public CompletableFuture<ValueList> createAsync(
+      ValueListCreateParams params, RequestOptions options) {
+    String path = "/v1/radar/value_lists";
+    ApiRequest request =
+        new ApiRequest(
+            BaseAddress.API,
+            ApiResource.RequestMethod.POST,
+            path,
+            ApiRequestParams.paramsToMap(params),
+            options);
+    return this.requestAsync(request, ValueList.class);
+  }
 }
@@ -15,6 +15,7 @@ import com.stripe.net.StripeResponseGetter;
 import com.stripe.param.reporting.ReportRunCreateParams;
 import com.stripe.param.reporting.ReportRunListParams;
 import com.stripe.param.reporting.ReportRunRetrieveParams;
+import java.util.concurrent.CompletableFuture;
 
 public final class ReportRunService extends ApiService {
   public ReportRunService(StripeResponseGetter responseGetter) {
@@ -46,6 +47,19 @@ public final class ReportRunService extends ApiService {
             options);
     return this.request(request, new TypeToken<StripeCollection<ReportRun>>() {}.getType());
   }
+  /** Returns a list of Report Runs, with the most recent appearing first. */
+  public CompletableFuture<StripeCollection<ReportRun>> listAsync(
+      ReportRunListParams params, RequestOptions options) {
+    String path = "/v1/reporting/report_runs";
+    ApiRequest request =
+        new ApiRequest(
+            BaseAddress.API,
+            ApiResource.RequestMethod.GET,
+            path,
+            ApiRequestParams.paramsToMap(params),
+            options);
+    return this.requestAsync(request, new TypeToken<StripeCollection<ReportRun>>() {}.getType());
+  }
   /**
    * Creates a new object and begin running the report. (Certain report types require a <a
    * href="https://stripe.com/docs/keys#test-live-modes">live-mode API key</a>.)
@@ -69,6 +83,22 @@ public final class ReportRunService extends ApiService {
             options);
     return this.request(request, ReportRun.class);
   }
+  /**
+   * Creates a new object and begin running the report. (Certain report types require a <a
+   * href="https://stripe.com/docs/keys#test-live-modes">live-mode API key</a>.)
+   */
+  public CompletableFuture<ReportRun> createAsync(
+      ReportRunCreateParams params, RequestOptions options) {
+    String path = "/v1/reporting/report_runs";
+    ApiRequest request =
+        new ApiRequest(
+            BaseAddress.API,
+            ApiResource.RequestMethod.POST,
+            path,
+            ApiRequestParams.paramsToMap(params),
+            options);
+    return this.requestAsync(request, ReportRun.class);
+  }
   /** Retrieves the details of an existing Report Run. */
   public ReportRun retrieve(String reportRun, ReportRunRetrieveParams params)
       throws StripeException {
@@ -96,4 +126,20 @@ public final class ReportRunService extends ApiService {
             options);
     return this.request(request, ReportRun.class);
   }
+  /** Retrieves the details of an existing Report Run. */
+  public CompletableFuture<ReportRun> retrieveAsync(
+      String reportRun, ReportRunRetrieveParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path =
+              String.format("/v1/reporting/report_runs/%s", ApiResource.urlEncodeId(reportRun));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.GET,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        ReportRun.class);
+  }
 }
@@ -14,6 +14,7 @@ import com.stripe.net.RequestOptions;
 import com.stripe.net.StripeResponseGetter;
 import com.stripe.param.reporting.ReportTypeListParams;
 import com.stripe.param.reporting.ReportTypeRetrieveParams;
+import java.util.concurrent.CompletableFuture;
 
 public final class ReportTypeService extends ApiService {
   public ReportTypeService(StripeResponseGetter responseGetter) {
@@ -45,6 +46,19 @@ public final class ReportTypeService extends ApiService {
             options);
     return this.request(request, new TypeToken<StripeCollection<ReportType>>() {}.getType());
   }
+  /** Returns a full list of Report Types. */
+  public CompletableFuture<StripeCollection<ReportType>> listAsync(
+      ReportTypeListParams params, RequestOptions options) {
+    String path = "/v1/reporting/report_types";
+    ApiRequest request =
+        new ApiRequest(
+            BaseAddress.API,
+            ApiResource.RequestMethod.GET,
+            path,
+            ApiRequestParams.paramsToMap(params),
+            options);
+    return this.requestAsync(request, new TypeToken<StripeCollection<ReportType>>() {}.getType());
+  }
   /**
    * Retrieves the details of a Report Type. (Certain report types require a <a
    * href="https://stripe.com/docs/keys#test-live-modes">live-mode API key</a>.)
@@ -85,4 +99,23 @@ public final class ReportTypeService extends ApiService {
             options);
     return this.request(request, ReportType.class);
   }
+  /**
+   * Retrieves the details of a Report Type. (Certain report types require a <a
+   * href="https://stripe.com/docs/keys#test-live-modes">live-mode API key</a>.)
+   */
+  public CompletableFuture<ReportType> retrieveAsync(
+      String reportType, ReportTypeRetrieveParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path =
+              String.format("/v1/reporting/report_types/%s", ApiResource.urlEncodeId(reportType));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.GET,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        ReportType.class);
+  }
 }
@@ -14,6 +14,7 @@ import com.stripe.net.RequestOptions;
 import com.stripe.net.StripeResponseGetter;
 import com.stripe.param.sigma.ScheduledQueryRunListParams;
 import com.stripe.param.sigma.ScheduledQueryRunRetrieveParams;
+import java.util.concurrent.CompletableFuture;
 
 public final class ScheduledQueryRunService extends ApiService {
   public ScheduledQueryRunService(StripeResponseGetter responseGetter) {
@@ -46,6 +47,20 @@ public final class ScheduledQueryRunService extends ApiService {
             options);
     return this.request(request, new TypeToken<StripeCollection<ScheduledQueryRun>>() {}.getType());
   }
+  /** Returns a list of scheduled query runs. */
+  public CompletableFuture<StripeCollection<ScheduledQueryRun>> listAsync(
+      ScheduledQueryRunListParams params, RequestOptions options) {
+    String path = "/v1/sigma/scheduled_query_runs";
+    ApiRequest request =
+        new ApiRequest(
+            BaseAddress.API,
+            ApiResource.RequestMethod.GET,
+            path,
+            ApiRequestParams.paramsToMap(params),
+            options);
+    return this.requestAsync(
+        request, new TypeToken<StripeCollection<ScheduledQueryRun>>() {}.getType());
+  }
   /** Retrieves the details of an scheduled query run. */
   public ScheduledQueryRun retrieve(
       String scheduledQueryRun, ScheduledQueryRunRetrieveParams params) throws StripeException {
@@ -77,4 +92,21 @@ public final class ScheduledQueryRunService extends ApiService {
             options);
     return this.request(request, ScheduledQueryRun.class);
   }
+  /** Retrieves the details of an scheduled query run. */
+  public CompletableFuture<ScheduledQueryRun> retrieveAsync(
+      String scheduledQueryRun, ScheduledQueryRunRetrieveParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path =
+              String.format(
+                  "/v1/sigma/scheduled_query_runs/%s", ApiResource.urlEncodeId(scheduledQueryRun));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.GET,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        ScheduledQueryRun.class);
+  }
 }
@@ -13,6 +13,7 @@ import com.stripe.net.BaseAddress;
 import com.stripe.net.RequestOptions;
 import com.stripe.net.StripeResponseGetter;
 import com.stripe.param.tax.CalculationLineItemListParams;
+import java.util.concurrent.CompletableFuture;
 
 public final class CalculationLineItemService extends ApiService {
   public CalculationLineItemService(StripeResponseGetter responseGetter) {
@@ -61,4 +62,24 @@ public final class CalculationLineItemService extends ApiService {
     return this.request(
         request, new TypeToken<StripeCollection<CalculationLineItem>>() {}.getType());
   }
+  /**
+   * Retrieves the line items of a tax calculation as a collection, if the calculation hasn’t
+   * expired.
+   */
+  public CompletableFuture<StripeCollection<CalculationLineItem>> listAsync(
+      String calculation, CalculationLineItemListParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path =
+              String.format(
+                  "/v1/tax/calculations/%s/line_items", ApiResource.urlEncodeId(calculation));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.GET,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        new TypeToken<StripeCollection<CalculationLineItem>>() {}.getType());
+  }
 }
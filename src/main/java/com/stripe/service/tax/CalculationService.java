@@ -12,6 +12,7 @@ import com.stripe.net.RequestOptions;
 import com.stripe.net.StripeResponseGetter;
 import com.stripe.param.tax.CalculationCreateParams;
 import com.stripe.param.tax.CalculationRetrieveParams;
+import java.util.concurrent.CompletableFuture;
 
 public final class CalculationService extends ApiService {
   public CalculationService(StripeResponseGetter responseGetter) {
@@ -45,6 +46,22 @@ public final class CalculationService extends ApiService {
             options);
     return this.request(request, Calculation.class);
   }
+  /** Retrieves a Tax {@code Calculation} object, if the calculation hasn’t expired. */
+  public CompletableFuture<Calculation> retrieveAsync(
+      String calculation, CalculationRetrieveParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path =
+              String.format("/v1/tax/calculations/%s", ApiResource.urlEncodeId(calculation));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.GET,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        Calculation.class);
+  }
   /** Calculates tax based on the input and returns a Tax {@code Calculation} object. */
   public Calculation create(CalculationCreateParams params) throws StripeException {
     return create(params, (RequestOptions) null);
@@ -62,6 +79,19 @@ public final class CalculationService extends ApiService {
             options);
     return this.request(request, Calculation.class);
   }
+  /** Calculates tax based on the input and returns a Tax {@code Calculation} object. */
+  public CompletableFuture<Calculation> createAsync(
+      CalculationCreateParams params, RequestOptions options) {
+    String path = "/v1/tax/calculations";
+    ApiRequest request =
+        new ApiRequest(
+            BaseAddress.API,
+            ApiResource.RequestMethod.POST,
+            path,
+            ApiRequestParams.paramsToMap(params),
+            options);
+    return this.requestAsync(request, Calculation.class);
+  }
 
   public com.stripe.service.tax.CalculationLineItemService lineItems() {
     return new com.stripe.service.tax.CalculationLineItemService(this.getResponseGetter());
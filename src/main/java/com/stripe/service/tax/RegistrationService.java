@@ -16,6 +16,7 @@ import com.stripe.param.tax.RegistrationCreateParams;
 import com.stripe.param.tax.RegistrationListParams;
 import com.stripe.param.tax.RegistrationRetrieveParams;
 import com.stripe.param.tax.RegistrationUpdateParams;
+import java.util.concurrent.CompletableFuture;
 
 public final class RegistrationService extends ApiService {
   public RegistrationService(StripeResponseGetter responseGetter) {
@@ -47,6 +48,19 @@ public final class RegistrationService extends ApiService {
             options);
     return this.request(request, new TypeToken<StripeCollection<Registration>>() {}.getType());
   }
+  /** Returns a list of Tax {@code Registration} objects. */
+  public CompletableFuture<StripeCollection<Registration>> listAsync(
+      RegistrationListParams params, RequestOptions options) {
+    String path = "/v1/tax/registrations";
+    ApiRequest request =
+        new ApiRequest(
+            BaseAddress.API,
+            ApiResource.RequestMethod.GET,
+            path,
+            ApiRequestParams.paramsToMap(params),
+            options);
+    return this.requestAsync(request, new TypeToken<StripeCollection<Registration>>() {}.getType());
+  }
   /** Creates a new Tax {@code Registration} object. */
   public Registration create(RegistrationCreateParams params) throws StripeException {
     return create(params, (RequestOptions) null);
@@ -64,6 +78,19 @@ public final class RegistrationService extends ApiService {
             options);
     return this.request(request, Registration.class);
   }
+  /** Creates a new Tax {@code Registration} object. */
+  public CompletableFuture<Registration> createAsync(
+      RegistrationCreateParams params, RequestOptions options) {
+    String path = "/v1/tax/registrations";
+    ApiRequest request =
+        new ApiRequest(
+            BaseAddress.API,
+            ApiResource.RequestMethod.POST,
+            path,
+            ApiRequestParams.paramsToMap(params),
+            options);
+    return this.requestAsync(request, Registration.class);
+  }
   /** Returns a Tax {@code Registration} object. */
   public Registration retrieve(String id, RegistrationRetrieveParams params)
       throws StripeException {
@@ -90,6 +117,21 @@ public final class RegistrationService extends ApiService {
             options);
     return this.request(request, Registration.class);
   }
+  /** Returns a Tax {@code Registration} object. */
+  public CompletableFuture<Registration> retrieveAsync(
+      String id, RegistrationRetrieveParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path = String.format("/v1/tax/registrations/%s", ApiResource.urlEncodeId(id));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.GET,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        Registration.class);
+  }
   /**
    * Updates an existing Tax {@code Registration} object.
    *
@@ -135,4 +177,24 @@ public final class RegistrationService extends ApiService {
             options);
     return this.request(request, Registration.class);
   }
+  /**
+   * Updates an existing Tax {@code Registration} object.
+   *
+   * <p>A registration cannot be deleted after it has been created. If you wish to end a
+   * registration you may do so by setting {@code expires_at}.
+   */
+  public CompletableFuture<Registration> updateAsync(
+      String id, RegistrationUpdateParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path = String.format("/v1/tax/registrations/%s", ApiResource.urlEncodeId(id));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.POST,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        Registration.class);
+  }
 }
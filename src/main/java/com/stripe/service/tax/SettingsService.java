@@ -12,6 +12,7 @@ import com.stripe.net.RequestOptions;
 import com.stripe.net.StripeResponseGetter;
 import com.stripe.param.tax.SettingsRetrieveParams;
 import com.stripe.param.tax.SettingsUpdateParams;
+import java.util.concurrent.CompletableFuture;
 
 public final class SettingsService extends ApiService {
   public SettingsService(StripeResponseGetter responseGetter) {
@@ -43,6 +44,19 @@ public final class SettingsService extends ApiService {
             options);
     return this.request(request, Settings.class);
   }
+  /** Retrieves Tax {@code Settings} for a merchant. */
+  public CompletableFuture<Settings> retrieveAsync(
+      SettingsRetrieveParams params, RequestOptions options) {
+    String path = "/v1/tax/settings";
+    ApiRequest request =
+        new ApiRequest(
+            BaseAddress.API,
+            ApiResource.RequestMethod.GET,
+            path,
+            ApiRequestParams.paramsToMap(params),
+            options);
+    return this.requestAsync(request, Settings.class);
+  }
   /**
    * Updates Tax {@code Settings} parameters used in tax calculations. All parameters are editable
    * but none can be removed once set.
@@ -80,4 +94,20 @@ public final class SettingsService extends ApiService {
             options);
     return this.request(request, Settings.class);
   }
+  /**
+   * Updates Tax {@code Settings} parameters used in tax calculations. All parameters are editable
+   * but none can be removed once set.
+   */
+  public CompletableFuture<Settings> updateAsync(
+      SettingsUpdateParams params, RequestOptions options) {
+    String path = "/v1/tax/settings";
+    ApiRequest request =
+        new ApiRequest(
+            BaseAddress.API,
+            ApiResource.RequestMethod.POST,
+            path,
+            ApiRequestParams.paramsToMap(params),
+            options);
+    return this.requestAsync(request, Settings.class);
+  }
 }
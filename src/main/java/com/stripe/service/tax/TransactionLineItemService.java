@@ -13,6 +13,7 @@ import com.stripe.net.BaseAddress;
 import com.stripe.net.RequestOptions;
 import com.stripe.net.StripeResponseGetter;
 import com.stripe.param.tax.TransactionLineItemListParams;
+import java.util.concurrent.CompletableFuture;
 
 public final class TransactionLineItemService extends ApiService {
   public TransactionLineItemService(StripeResponseGetter responseGetter) {
@@ -49,4 +50,21 @@ public final class TransactionLineItemService extends ApiService {
     return this.request(
         request, new TypeToken<StripeCollection<TransactionLineItem>>() {}.getType());
   }
+  /** Retrieves the line items of a committed standalone transaction as a collection. */
+  public CompletableFuture<StripeCollection<TransactionLineItem>> listAsync(
+      String transaction, TransactionLineItemListParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path =
+              String.format(
+                  "/v1/tax/transactions/%s/line_items", ApiResource.urlEncodeId(transaction));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.GET,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        new TypeToken<StripeCollection<TransactionLineItem>>() {}.getType());
+  }
 }
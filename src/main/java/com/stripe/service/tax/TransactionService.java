@@ -13,6 +13,7 @@ import com.stripe.net.StripeResponseGetter;
 import com.stripe.param.tax.TransactionCreateFromCalculationParams;
 import com.stripe.param.tax.TransactionCreateReversalParams;
 import com.stripe.param.tax.TransactionRetrieveParams;
+import java.util.concurrent.CompletableFuture;
 
 public final class TransactionService extends ApiService {
   public TransactionService(StripeResponseGetter responseGetter) {
@@ -46,6 +47,22 @@ public final class TransactionService extends ApiService {
             options);
     return this.request(request, Transaction.class);
   }
+  /** Retrieves a Tax {@code Transaction} object. */
+  public CompletableFuture<Transaction> retrieveAsync(
+      String transaction, TransactionRetrieveParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path =
+              String.format("/v1/tax/transactions/%s", ApiResource.urlEncodeId(transaction));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.GET,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        Transaction.class);
+  }
   /**
    * Creates a Tax Transaction from a calculation, if that calculation hasn’t expired. Calculations
    * expire after 90 days.
@@ -71,6 +88,22 @@ public final class TransactionService extends ApiService {
             options);
     return this.request(request, Transaction.class);
   }
+  /**
+   * Creates a Tax Transaction from a calculation, if that calculation hasn’t expired. Calculations
+   * expire after 90 days.
+   */
+  public CompletableFuture<Transaction> createFromCalculationAsync(
+      TransactionCreateFromCalculationParams params, RequestOptions options) {
+    String path = "/v1/tax/transactions/create_from_calculation";
+    ApiRequest request =
+        new ApiRequest(
+            BaseAddress.API,
+            ApiResource.RequestMethod.POST,
+            path,
+            ApiRequestParams.paramsToMap(params),
+            options);
+    return this.requestAsync(request, Transaction.class);
+  }
   /** Partially or fully reverses a previously created {@code Transaction}. */
   public Transaction createReversal(TransactionCreateReversalParams params) throws StripeException {
     return createReversal(params, (RequestOptions) null);
@@ -88,6 +121,19 @@ public final class TransactionService extends ApiService {
             options);
     return this.request(request, Transaction.class);
   }
+  /** Partially or fully reverses a previously created {@code Transaction}. */
+  public CompletableFuture<Transaction> createReversalAsync(
+      TransactionCreateReversalParams params, RequestOptions options) {
+    String path = "/v1/tax/transactions/create_reversal";
+    ApiRequest request =
+        new ApiRequest(
+            BaseAddress.API,
+            ApiResource.RequestMethod.POST,
+            path,
+            ApiRequestParams.paramsToMap(params),
+            options);
+    return this.requestAsync(request, Transaction.class);
+  }
 
   public com.stripe.service.tax.TransactionLineItemService lineItems() {
     return new com.stripe.service.tax.TransactionLineItemService(this.getResponseGetter());
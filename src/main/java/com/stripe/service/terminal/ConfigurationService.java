@@ -16,6 +16,7 @@ import com.stripe.param.terminal.ConfigurationCreateParams;
 import com.stripe.param.terminal.ConfigurationListParams;
 import com.stripe.param.terminal.ConfigurationRetrieveParams;
 import com.stripe.param.terminal.ConfigurationUpdateParams;
+import java.util.concurrent.CompletableFuture;
 
 public final class ConfigurationService extends ApiService {
   public ConfigurationService(StripeResponseGetter responseGetter) {
@@ -34,6 +35,19 @@ public final class ConfigurationService extends ApiService {
         new ApiRequest(BaseAddress.API, ApiResource.RequestMethod.DELETE, path, null, options);
     return this.request(request, Configuration.class);
   }
+  /** Deletes a {@code Configuration} object. */
+  public CompletableFuture<Configuration> deleteAsync(
+      String configuration, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path =
+              String.format(
+                  "/v1/terminal/configurations/%s", ApiResource.urlEncodeId(configuration));
+          return new ApiRequest(
+              BaseAddress.API, ApiResource.RequestMethod.DELETE, path, null, options);
+        },
+        Configuration.class);
+  }
   /** Retrieves a {@code Configuration} object. */
   public Configuration retrieve(String configuration, ConfigurationRetrieveParams params)
       throws StripeException {
@@ -63,6 +77,23 @@ public final class ConfigurationService extends ApiService {
             options);
     return this.request(request, Configuration.class);
   }
+  /** Retrieves a {@code Configuration} object. */
+  public CompletableFuture<Configuration> retrieveAsync(
+      String configuration, ConfigurationRetrieveParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path =
+              String.format(
+                  "/v1/terminal/configurations/%s", ApiResource.urlEncodeId(configuration));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.GET,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        Configuration.class);
+  }
   /** Updates a new {@code Configuration} object. */
   public Configuration update(String configuration, ConfigurationUpdateParams params)
       throws StripeException {
@@ -91,6 +122,23 @@ public final class ConfigurationService extends ApiService {
             options);
     return this.request(request, Configuration.class);
   }
+  /** Updates a new {@code Configuration} object. */
+  public CompletableFuture<Configuration> updateAsync(
+      String configuration, ConfigurationUpdateParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path =
+              String.format(
+                  "/v1/terminal/configurations/%s", ApiResource.urlEncodeId(configuration));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.POST,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        Configuration.class);
+  }
   /** Returns a list of {@code Configuration} objects. */
   public StripeCollection<Configuration> list(ConfigurationListParams params)
       throws StripeException {
@@ -117,6 +165,20 @@ public final class ConfigurationService extends ApiService {
             options);
     return this.request(request, new TypeToken<StripeCollection<Configuration>>() {}.getType());
   }
+  /** Returns a list of {@code Configuration} objects. */
+  public CompletableFuture<StripeCollection<Configuration>> listAsync(
+      ConfigurationListParams params, RequestOptions options) {
+    String path = "/v1/terminal/configurations";
+    ApiRequest request =
+        new ApiRequest(
+            BaseAddress.API,
+            ApiResource.RequestMethod.GET,
+            path,
+            ApiRequestParams.paramsToMap(params),
+            options);
+    return this.requestAsync(
+        request, new TypeToken<StripeCollection<Configuration>>() {}.getType());
+  }
   /** Creates a new {@code Configuration} object. */
   public Configuration create(ConfigurationCreateParams params) throws StripeException {
     return create(params, (RequestOptions) null);
@@ -142,4 +204,17 @@ public final class ConfigurationService extends ApiService {
             options);
     return this.request(request, Configuration.class);
   }
+  /** Creates a new {@code Configuration} object. */
+  public CompletableFuture<Configuration> createAsync(
+      ConfigurationCreateParams params, RequestOptions options) {
+    String path = "/v1/terminal/configurations";
+    ApiRequest request =
+        new ApiRequest(
+            BaseAddress.API,
+            ApiResource.RequestMethod.POST,
+            path,
+            ApiRequestParams.paramsToMap(params),
+            options);
+    return this.requestAsync(request, Configuration.class);
+  }
 }
@@ -11,6 +11,7 @@ import com.stripe.net.BaseAddress;
 import com.stripe.net.RequestOptions;
 import com.stripe.net.StripeResponseGetter;
 import com.stripe.param.terminal.ConnectionTokenCreateParams;
+import java.util.concurrent.CompletableFuture;
 
 public final class ConnectionTokenService extends ApiService {
   public ConnectionTokenService(StripeResponseGetter responseGetter) {
@@ -58,4 +59,21 @@ public final class ConnectionTokenService extends ApiService {
             options);
     return this.request(request, ConnectionToken.class);
   }
+  /**
+   * To connect to a reader the Stripe Terminal SDK needs to retrieve a short-lived connection token
+   * from Stripe, proxied through your server. On your backend, add an endpoint that creates and
+   * returns a connection token.
+   */
+  public CompletableFuture<ConnectionToken> createAsync(
+      ConnectionTokenCreateParams params, RequestOptions options) {
+    String path = "/v1/terminal/connection_tokens";
+    ApiRequest request =
+        new ApiRequest(
+            BaseAddress.API,
+            ApiResource.RequestMethod.POST,
+            path,
+            ApiRequestParams.paramsToMap(params),
+            options);
+    return this.requestAsync(request, ConnectionToken.class);
+  }
 }
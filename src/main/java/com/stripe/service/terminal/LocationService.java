@@ -16,6 +16,7 @@ import com.stripe.param.terminal.LocationCreateParams;
 import com.stripe.param.terminal.LocationListParams;
 import com.stripe.param.terminal.LocationRetrieveParams;
 import com.stripe.param.terminal.LocationUpdateParams;
+import java.util.concurrent.CompletableFuture;
 
 public final class LocationService extends ApiService {
   public LocationService(StripeResponseGetter responseGetter) {
@@ -33,6 +34,17 @@ public final class LocationService extends ApiService {
         new ApiRequest(BaseAddress.API, ApiResource.RequestMethod.DELETE, path, null, options);
     return this.request(request, Location.class);
   }
+  /** Deletes a {@code Location} object. */
+  public CompletableFuture<Location> deleteAsync(String location, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path =
+              String.format("/v1/terminal/locations/%s", ApiResource.urlEncodeId(location));
+          return new ApiRequest(
+              BaseAddress.API, ApiResource.RequestMethod.DELETE, path, null, options);
+        },
+        Location.class);
+  }
   /** Retrieves a {@code Location} object. */
   public Location retrieve(String location, LocationRetrieveParams params) throws StripeException {
     return retrieve(location, params, (RequestOptions) null);
@@ -58,6 +70,22 @@ public final class LocationService extends ApiService {
             options);
     return this.request(request, Location.class);
   }
+  /** Retrieves a {@code Location} object. */
+  public CompletableFuture<Location> retrieveAsync(
+      String location, LocationRetrieveParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path =
+              String.format("/v1/terminal/locations/%s", ApiResource.urlEncodeId(location));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.GET,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        Location.class);
+  }
   /**
    * Updates a {@code Location} object by setting the values of the parameters passed. Any
    * parameters not provided will be left unchanged.
@@ -95,6 +123,25 @@ public final class LocationService extends ApiService {
             options);
     return this.request(request, Location.class);
   }
+  /**
+   * Updates a {@code Location} object by setting the values of the parameters passed. Any
+   * parameters not provided will be left unchanged.
+   */
+  public CompletableFuture<Location> updateAsync(
+      String location, LocationUpdateParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path =
+              String.format("/v1/terminal/locations/%s", ApiResource.urlEncodeId(location));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.POST,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        Location.class);
+  }
   /** Returns a list of {@code Location} objects. */
   public StripeCollection<Location> list(LocationListParams params) throws StripeException {
     return list(params, (RequestOptions) null);
@@ -120,6 +167,19 @@ public final class LocationService extends ApiService {
             options);
     return this.request(request, new TypeToken<StripeCollection<Location>>() {}.getType());
   }
+  /** Returns a list of {@code Location} objects. */
+  public CompletableFuture<StripeCollection<Location>> listAsync(
+      LocationListParams params, RequestOptions options) {
+    String path = "/v1/terminal/locations";
+    ApiRequest request =
+        new ApiRequest(
+            BaseAddress.API,
+            ApiResource.RequestMethod.GET,
+            path,
+            ApiRequestParams.paramsToMap(params),
+            options);
+    return this.requestAsync(request, new TypeToken<StripeCollection<Location>>() {}.getType());
+  }
   /**
    * Creates a new {@code Location} object. For further details, including which address fields are
    * required in each country, see the <a
@@ -145,4 +205,21 @@ public final class LocationService extends ApiService {
             options);
     return this.request(request, Location.class);
   }
+  /**
+   * Creates a new {@code Location} object. For further details, including which address fields are
+   * required in each country, see the <a
+   * href="https://stripe.com/docs/terminal/fleet/locations">Manage locations</a> guide.
+   */
+  public CompletableFuture<Location> createAsync(
+      LocationCreateParams params, RequestOptions options) {
+    String path = "/v1/terminal/locations";
+    ApiRequest request =
+        new ApiRequest(
+            BaseAddress.API,
+            ApiResource.RequestMethod.POST,
+            path,
+            ApiRequestParams.paramsToMap(params),
+            options);
+    return this.requestAsync(request, Location.class);
+  }
 }
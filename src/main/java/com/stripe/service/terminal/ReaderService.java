@@ -21,6 +21,7 @@ import com.stripe.param.terminal.ReaderRefundPaymentParams;
 import com.stripe.param.terminal.ReaderRetrieveParams;
 import com.stripe.param.terminal.ReaderSetReaderDisplayParams;
 import com.stripe.param.terminal.ReaderUpdateParams;
+import java.util.concurrent.CompletableFuture;
 
 public final class ReaderService extends ApiService {
   public ReaderService(StripeResponseGetter responseGetter) {
@@ -38,6 +39,16 @@ public final class ReaderService extends ApiService {
         new ApiRequest(BaseAddress.API, ApiResource.RequestMethod.DELETE, path, null, options);
     return this.request(request, Reader.class);
   }
+  /** Deletes a {@code Reader} object. */
+  public CompletableFuture<Reader> deleteAsync(String reader, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path = String.format("/v1/terminal/readers/%s", ApiResource.urlEncodeId(reader));
+          return new ApiRequest(
+              BaseAddress.API, ApiResource.RequestMethod.DELETE, path, null, options);
+        },
+        Reader.class);
+  }
   /** Retrieves a {@code Reader} object. */
   public Reader retrieve(String reader, ReaderRetrieveParams params) throws StripeException {
     return retrieve(reader, params, (RequestOptions) null);
@@ -63,6 +74,21 @@ public final class ReaderService extends ApiService {
             options);
     return this.request(request, Reader.class);
   }
+  /** Retrieves a {@code Reader} object. */
+  public CompletableFuture<Reader> retrieveAsync(
+      String reader, ReaderRetrieveParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path = String.format("/v1/terminal/readers/%s", ApiResource.urlEncodeId(reader));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.GET,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        Reader.class);
+  }
   /**
    * Updates a {@code Reader} object by setting the values of the parameters passed. Any parameters
    * not provided will be left unchanged.
@@ -100,6 +126,24 @@ public final class ReaderService extends ApiService {
             options);
     return this.request(request, Reader.class);
   }
+  /**
+   * Updates a {@code Reader} object by setting the values of the parameters passed. Any parameters
+   * not provided will be left unchanged.
+   */
+  public CompletableFuture<Reader> updateAsync(
+      String reader, ReaderUpdateParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path = String.format("/v1/terminal/readers/%s", ApiResource.urlEncodeId(reader));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.POST,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        Reader.class);
+  }
   /** Returns a list of {@code Reader} objects. */
   public StripeCollection<Reader> list(ReaderListParams params) throws StripeException {
     return list(params, (RequestOptions) null);
@@ -125,6 +169,19 @@ public final class ReaderService extends ApiService {
             options);
     return this.request(request, new TypeToken<StripeCollection<Reader>>() {}.getType());
   }
+  /** Returns a list of {@code Reader} objects. */
+  public CompletableFuture<StripeCollection<Reader>> listAsync(
+      ReaderListParams params, RequestOptions options) {
+    String path = "/v1/terminal/readers";
+    ApiRequest request =
+        new ApiRequest(
+            BaseAddress.API,
+            ApiResource.RequestMethod.GET,
+            path,
+            ApiRequestParams.paramsToMap(params),
+            options);
+    return this.requestAsync(request, new TypeToken<StripeCollection<Reader>>() {}.getType());
+  }
   /** Creates a new {@code Reader} object. */
   public Reader create(ReaderCreateParams params) throws StripeException {
     return create(params, (RequestOptions) null);
@@ -141,6 +198,18 @@ public final class ReaderService extends ApiService {
             options);
     return this.request(request, Reader.class);
   }
+  /** Creates a new {@code Reader} object. */
+  public CompletableFuture<Reader> createAsync(ReaderCreateParams params, RequestOptions options) {
+    String path = "/v1/terminal/readers";
+    ApiRequest request =
+        new ApiRequest(
+            BaseAddress.API,
+            ApiResource.RequestMethod.POST,
+            path,
+            ApiRequestParams.paramsToMap(params),
+            options);
+    return this.requestAsync(request, Reader.class);
+  }
   /** Cancels the current reader action. */
   public Reader cancelAction(String reader, ReaderCancelActionParams params)
       throws StripeException {
@@ -168,6 +237,23 @@ public final class ReaderService extends ApiService {
             options);
     return this.request(request, Reader.class);
   }
+  /** Cancels the current reader action. */
+  public CompletableFuture<Reader> cancelActionAsync(
+      String reader, ReaderCancelActionParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path =
+              String.format(
+                  "/v1/terminal/readers/%s/cancel_action", ApiResource.urlEncodeId(reader));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.POST,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        Reader.class);
+  }
   /** Initiates a payment flow on a Reader. */
   public Reader processPaymentIntent(String reader, ReaderProcessPaymentIntentParams params)
       throws StripeException {
@@ -189,6 +275,24 @@ public final class ReaderService extends ApiService {
             options);
     return this.request(request, Reader.class);
   }
+  /** Initiates a payment flow on a Reader. */
+  public CompletableFuture<Reader> processPaymentIntentAsync(
+      String reader, ReaderProcessPaymentIntentParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path =
+              String.format(
+                  "/v1/terminal/readers/%s/process_payment_intent",
+                  ApiResource.urlEncodeId(reader));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.POST,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        Reader.class);
+  }
   /** Initiates a setup intent flow on a Reader. */
   public Reader processSetupIntent(String reader, ReaderProcessSetupIntentParams params)
       throws StripeException {
@@ -210,6 +314,23 @@ public final class ReaderService extends ApiService {
             options);
     return this.request(request, Reader.class);
   }
+  /** Initiates a setup intent flow on a Reader. */
+  public CompletableFuture<Reader> processSetupIntentAsync(
+      String reader, ReaderProcessSetupIntentParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path =
+              String.format(
+                  "/v1/terminal/readers/%s/process_setup_intent", ApiResource.urlEncodeId(reader));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.POST,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        Reader.class);
+  }
   /** Initiates a refund on a Reader. */
   public Reader refundPayment(String reader, ReaderRefundPaymentParams params)
       throws StripeException {
@@ -238,6 +359,23 @@ public final class ReaderService extends ApiService {
             options);
     return this.request(request, Reader.class);
   }
+  /** Initiates a refund on a Reader. */
+  public CompletableFuture<Reader> refundPaymentAsync(
+      String reader, ReaderRefundPaymentParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path =
+              String.format(
+                  "/v1/terminal/readers/%s/refund_payment", ApiResource.urlEncodeId(reader));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.POST,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        Reader.class);
+  }
   /** Sets reader display to show cart details. */
   public Reader setReaderDisplay(String reader, ReaderSetReaderDisplayParams params)
       throws StripeException {
@@ -259,4 +397,21 @@ public final class ReaderService extends ApiService {
             options);
     return this.request(request, Reader.class);
   }
+  /** Sets reader display to show cart details. */
+  public CompletableFuture<Reader> setReaderDisplayAsync(
+      String reader, ReaderSetReaderDisplayParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path =
+              String.format(
+                  "/v1/terminal/readers/%s/set_reader_display", ApiResource.urlEncodeId(reader));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.POST,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        Reader.class);
+  }
 }
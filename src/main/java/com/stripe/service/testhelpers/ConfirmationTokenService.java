@@ -11,6 +11,7 @@ import com.stripe.net.BaseAddress;
 import com.stripe.net.RequestOptions;
 import com.stripe.net.StripeResponseGetter;
 import com.stripe.param.ConfirmationTokenCreateParams;
+import java.util.concurrent.CompletableFuture;
 
 public final class ConfirmationTokenService extends ApiService {
   public ConfirmationTokenService(StripeResponseGetter responseGetter) {
@@ -42,4 +43,17 @@ public final class ConfirmationTokenService extends ApiService {
             options);
     return this.request(request, ConfirmationToken.class);
   }
+  /** Creates a test mode Confirmation Token server side for your integration tests. */
+  public CompletableFuture<ConfirmationToken> createAsync(
+      ConfirmationTokenCreateParams params, RequestOptions options) {
+    String path = "/v1/test_helpers/confirmation_tokens";
+    ApiRequest request =
+        new ApiRequest(
+            BaseAddress.API,
+            ApiResource.RequestMethod.POST,
+            path,
+            ApiRequestParams.paramsToMap(params),
+            options);
+    return this.requestAsync(request, ConfirmationToken.class);
+  }
 }
@@ -11,6 +11,7 @@ import com.stripe.net.BaseAddress;
 import com.stripe.net.RequestOptions;
 import com.stripe.net.StripeResponseGetter;
 import com.stripe.param.CustomerFundCashBalanceParams;
+import java.util.concurrent.CompletableFuture;
 
 public final class CustomerService extends ApiService {
   public CustomerService(StripeResponseGetter responseGetter) {
@@ -38,4 +39,22 @@ public final class CustomerService extends ApiService {
             options);
     return this.request(request, CustomerCashBalanceTransaction.class);
   }
+  /** Create an incoming testmode bank transfer. */
+  public CompletableFuture<CustomerCashBalanceTransaction> fundCashBalanceAsync(
+      String customer, CustomerFundCashBalanceParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path =
+              String.format(
+                  "/v1/test_helpers/customers/%s/fund_cash_balance",
+                  ApiResource.urlEncodeId(customer));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.POST,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        CustomerCashBalanceTransaction.class);
+  }
 }
@@ -11,6 +11,7 @@ import com.stripe.net.BaseAddress;
 import com.stripe.net.RequestOptions;
 import com.stripe.net.StripeResponseGetter;
 import com.stripe.param.RefundExpireParams;
+import java.util.concurrent.CompletableFuture;
 
 public final class RefundService extends ApiService {
   public RefundService(StripeResponseGetter responseGetter) {
@@ -43,4 +44,20 @@ public final class RefundService extends ApiService {
             options);
     return this.request(request, Refund.class);
   }
+  /** Expire a refund with a status of {@code requires_action}. */
+  public CompletableFuture<Refund> expireAsync(
+      String refund, RefundExpireParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path =
+              String.format("/v1/test_helpers/refunds/%s/expire", ApiResource.urlEncodeId(refund));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.POST,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        Refund.class);
+  }
 }
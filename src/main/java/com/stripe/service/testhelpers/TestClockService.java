@@ -16,6 +16,7 @@ import com.stripe.param.testhelpers.TestClockAdvanceParams;
 import com.stripe.param.testhelpers.TestClockCreateParams;
 import com.stripe.param.testhelpers.TestClockListParams;
 import com.stripe.param.testhelpers.TestClockRetrieveParams;
+import java.util.concurrent.CompletableFuture;
 
 public final class TestClockService extends ApiService {
   public TestClockService(StripeResponseGetter responseGetter) {
@@ -34,6 +35,17 @@ public final class TestClockService extends ApiService {
         new ApiRequest(BaseAddress.API, ApiResource.RequestMethod.DELETE, path, null, options);
     return this.request(request, TestClock.class);
   }
+  /** Deletes a test clock. */
+  public CompletableFuture<TestClock> deleteAsync(String testClock, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path =
+              String.format("/v1/test_helpers/test_clocks/%s", ApiResource.urlEncodeId(testClock));
+          return new ApiRequest(
+              BaseAddress.API, ApiResource.RequestMethod.DELETE, path, null, options);
+        },
+        TestClock.class);
+  }
   /** Retrieves a test clock. */
   public TestClock retrieve(String testClock, TestClockRetrieveParams params)
       throws StripeException {
@@ -62,6 +74,22 @@ public final class TestClockService extends ApiService {
             options);
     return this.request(request, TestClock.class);
   }
+  /** Retrieves a test clock. */
+  public CompletableFuture<TestClock> retrieveAsync(
+      String testClock, TestClockRetrieveParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path =
+              String.format("/v1/test_helpers/test_clocks/%s", ApiResource.urlEncodeId(testClock));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.GET,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        TestClock.class);
+  }
   /** Returns a list of your test clocks. */
   public StripeCollection<TestClock> list(TestClockListParams params) throws StripeException {
     return list(params, (RequestOptions) null);
@@ -87,6 +115,19 @@ public final class TestClockService extends ApiService {
             options);
     return this.request(request, new TypeToken<StripeCollection<TestClock>>() {}.getType());
   }
+  /** Returns a list of your test clocks. */
+  public CompletableFuture<StripeCollection<TestClock>> listAsync(
+      TestClockListParams params, RequestOptions options) {
+    String path = "/v1/test_helpers/test_clocks";
+    ApiRequest request =
+        new ApiRequest(
+            BaseAddress.API,
+            ApiResource.RequestMethod.GET,
+            path,
+            ApiRequestParams.paramsToMap(params),
+            options);
+    return this.requestAsync(request, new TypeToken<StripeCollection<TestClock>>() {}.getType());
+  }
   /** Creates a new test clock that can be attached to new customers and quotes. */
   public TestClock create(TestClockCreateParams params) throws StripeException {
     return create(params, (RequestOptions) null);
@@ -104,6 +145,19 @@ public final class TestClockService extends ApiService {
             options);
     return this.request(request, TestClock.class);
   }
+  /** Creates a new test clock that can be attached to new customers and quotes. */
+  public CompletableFuture<TestClock> createAsync(
+      TestClockCreateParams params, RequestOptions options) {
+    String path = "/v1/test_helpers/test_clocks";
+    ApiRequest request =
+        new ApiRequest(
+            BaseAddress.API,
+            ApiResource.RequestMethod.POST,
+            path,
+            ApiRequestParams.paramsToMap(params),
+            options);
+    return this.requestAsync(request, TestClock.class);
+  }
   /**
    * Starts advancing a test clock to a specified time in the future. Advancement is done when
    * status changes to {@code Ready}.
@@ -129,4 +183,24 @@ public final class TestClockService extends ApiService {
             options);
     return this.request(request, TestClock.class);
   }
+  /**
+   * Starts advancing a test clock to a specified time in the future. Advancement is done when
+   * status changes to {@code Ready}.
+   */
+  public CompletableFuture<TestClock> advanceAsync(
+      String testClock, TestClockAdvanceParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path =
+              String.format(
+                  "/v1/test_helpers/test_clocks/%s/advance", ApiResource.urlEncodeId(testClock));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.POST,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        TestClock.class);
+  }
 }
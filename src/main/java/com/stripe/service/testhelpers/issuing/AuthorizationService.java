@@ -17,6 +17,7 @@ import com.stripe.param.issuing.AuthorizationFinalizeAmountParams;
 import com.stripe.param.issuing.AuthorizationIncrementParams;
 import com.stripe.param.issuing.AuthorizationRespondParams;
 import com.stripe.param.issuing.AuthorizationReverseParams;
+import java.util.concurrent.CompletableFuture;
 
 public final class AuthorizationService extends ApiService {
   public AuthorizationService(StripeResponseGetter responseGetter) {
@@ -40,6 +41,19 @@ public final class AuthorizationService extends ApiService {
             options);
     return this.request(request, Authorization.class);
   }
+  /** Create a test-mode authorization. */
+  public CompletableFuture<Authorization> createAsync(
+      AuthorizationCreateParams params, RequestOptions options) {
+    String path = "/v1/test_helpers/issuing/authorizations";
+    ApiRequest request =
+        new ApiRequest(
+            BaseAddress.API,
+            ApiResource.RequestMethod.POST,
+            path,
+            ApiRequestParams.paramsToMap(params),
+            options);
+    return this.requestAsync(request, Authorization.class);
+  }
   /** Capture a test-mode authorization. */
   public Authorization capture(String authorization, AuthorizationCaptureParams params)
       throws StripeException {
@@ -71,6 +85,24 @@ public final class AuthorizationService extends ApiService {
             options);
     return this.request(request, Authorization.class);
   }
+  /** Capture a test-mode authorization. */
+  public CompletableFuture<Authorization> captureAsync(
+      String authorization, AuthorizationCaptureParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path =
+              String.format(
+                  "/v1/test_helpers/issuing/authorizations/%s/capture",
+                  ApiResource.urlEncodeId(authorization));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.POST,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        Authorization.class);
+  }
   /** Expire a test-mode Authorization. */
   public Authorization expire(String authorization, AuthorizationExpireParams params)
       throws StripeException {
@@ -101,6 +133,24 @@ public final class AuthorizationService extends ApiService {
             options);
     return this.request(request, Authorization.class);
   }
+  /** Expire a test-mode Authorization. */
+  public CompletableFuture<Authorization> expireAsync(
+      String authorization, AuthorizationExpireParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path =
+              String.format(
+                  "/v1/test_helpers/issuing/authorizations/%s/expire",
+                  ApiResource.urlEncodeId(authorization));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.POST,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        Authorization.class);
+  }
   /**
    * Finalize the amount on an Authorization prior to capture, when the initial authorization was
    * for an estimated amount.
@@ -129,6 +179,27 @@ public final class AuthorizationService extends ApiService {
             options);
     return this.request(request, Authorization.class);
   }
+  /**
+   * Finalize the amount on an Authorization prior to capture, when the initial authorization was
+   * for an estimated amount.
+   */
+  public CompletableFuture<Authorization> finalizeAmountAsync(
+      String authorization, AuthorizationFinalizeAmountParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path =
+              String.format(
+                  "/v1/test_helpers/issuing/authorizations/%s/finalize_amount",
+                  ApiResource.urlEncodeId(authorization));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.POST,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        Authorization.class);
+  }
   /**
    * Respond to a fraud challenge on a testmode Issuing authorization, simulating either a
    * confirmation of fraud or a correction of legitimacy.
@@ -157,6 +228,27 @@ public final class AuthorizationService extends ApiService {
             options);
     return this.request(request, Authorization.class);
   }
+  /**
+   * Respond to a fraud challenge on a testmode Issuing authorization, simulating either a
+   * confirmation of fraud or a correction of legitimacy.
+   */
+  public CompletableFuture<Authorization> respondAsync(
+      String authorization, AuthorizationRespondParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path =
+              String.format(
+                  "/v1/test_helpers/issuing/authorizations/%s/fraud_challenges/respond",
+                  ApiResource.urlEncodeId(authorization));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.POST,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        Authorization.class);
+  }
   /** Increment a test-mode Authorization. */
   public Authorization increment(String authorization, AuthorizationIncrementParams params)
       throws StripeException {
@@ -179,6 +271,24 @@ public final class AuthorizationService extends ApiService {
             options);
     return this.request(request, Authorization.class);
   }
+  /** Increment a test-mode Authorization. */
+  public CompletableFuture<Authorization> incrementAsync(
+      String authorization, AuthorizationIncrementParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path =
+              String.format(
+                  "/v1/test_helpers/issuing/authorizations/%s/increment",
+                  ApiResource.urlEncodeId(authorization));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.POST,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        Authorization.class);
+  }
   /** Reverse a test-mode Authorization. */
   public Authorization reverse(String authorization, AuthorizationReverseParams params)
       throws StripeException {
@@ -210,4 +320,22 @@ public final class AuthorizationService extends ApiService {
             options);
     return this.request(request, Authorization.class);
   }
+  /** Reverse a test-mode Authorization. */
+  public CompletableFuture<Authorization> reverseAsync(
+      String authorization, AuthorizationReverseParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path =
+              String.format(
+                  "/v1/test_helpers/issuing/authorizations/%s/reverse",
+                  ApiResource.urlEncodeId(authorization));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.POST,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        Authorization.class);
+  }
 }
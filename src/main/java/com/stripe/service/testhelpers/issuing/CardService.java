@@ -15,6 +15,7 @@ import com.stripe.param.issuing.CardFailCardParams;
 import com.stripe.param.issuing.CardReturnCardParams;
 import com.stripe.param.issuing.CardShipCardParams;
 import com.stripe.param.issuing.CardSubmitCardParams;
+import java.util.concurrent.CompletableFuture;
 
 public final class CardService extends ApiService {
   public CardService(StripeResponseGetter responseGetter) {
@@ -56,6 +57,26 @@ public final class CardService extends ApiService {
             options);
     return this.request(request, Card.class);
   }
+  /**
+   * Updates the shipping status of the specified Issuing {@code Card} object to {@code delivered}.
+   */
+  public CompletableFuture<Card> deliverCardAsync(
+      String card, CardDeliverCardParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path =
+              String.format(
+                  "/v1/test_helpers/issuing/cards/%s/shipping/deliver",
+                  ApiResource.urlEncodeId(card));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.POST,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        Card.class);
+  }
   /**
    * Updates the shipping status of the specified Issuing {@code Card} object to {@code failure}.
    */
@@ -91,6 +112,25 @@ public final class CardService extends ApiService {
             options);
     return this.request(request, Card.class);
   }
+  /**
+   * Updates the shipping status of the specified Issuing {@code Card} object to {@code failure}.
+   */
+  public CompletableFuture<Card> failCardAsync(
+      String card, CardFailCardParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path =
+              String.format(
+                  "/v1/test_helpers/issuing/cards/%s/shipping/fail", ApiResource.urlEncodeId(card));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.POST,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        Card.class);
+  }
   /**
    * Updates the shipping status of the specified Issuing {@code Card} object to {@code returned}.
    */
@@ -126,6 +166,26 @@ public final class CardService extends ApiService {
             options);
     return this.request(request, Card.class);
   }
+  /**
+   * Updates the shipping status of the specified Issuing {@code Card} object to {@code returned}.
+   */
+  public CompletableFuture<Card> returnCardAsync(
+      String card, CardReturnCardParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path =
+              String.format(
+                  "/v1/test_helpers/issuing/cards/%s/shipping/return",
+                  ApiResource.urlEncodeId(card));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.POST,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        Card.class);
+  }
   /**
    * Updates the shipping status of the specified Issuing {@code Card} object to {@code shipped}.
    */
@@ -161,6 +221,25 @@ public final class CardService extends ApiService {
             options);
     return this.request(request, Card.class);
   }
+  /**
+   * Updates the shipping status of the specified Issuing {@code Card} object to {@code shipped}.
+   */
+  public CompletableFuture<Card> shipCardAsync(
+      String card, CardShipCardParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path =
+              String.format(
+                  "/v1/test_helpers/issuing/cards/%s/shipping/ship", ApiResource.urlEncodeId(card));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.POST,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        Card.class);
+  }
   /**
    * Updates the shipping status of the specified Issuing {@code Card} object to {@code submitted}.
    * This method requires Stripe Version ‘2024-09-30.acacia’ or later.
@@ -200,4 +279,25 @@ public final class CardService extends ApiService {
             options);
     return this.request(request, Card.class);
   }
+  /**
+   * Updates the shipping status of the specified Issuing {@code Card} object to {@code submitted}.
+   * This method requires Stripe Version ‘2024-09-30.acacia’ or later.
+   */
+  public CompletableFuture<Card> submitCardAsync(
+      String card, CardSubmitCardParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path =
+              String.format(
+                  "/v1/test_helpers/issuing/cards/%s/shipping/submit",
+                  ApiResource.urlEncodeId(card));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.POST,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        Card.class);
+  }
 }
@@ -13,6 +13,7 @@ import com.stripe.net.StripeResponseGetter;
 import com.stripe.param.issuing.PersonalizationDesignActivateParams;
 import com.stripe.param.issuing.PersonalizationDesignDeactivateParams;
 import com.stripe.param.issuing.PersonalizationDesignRejectParams;
+import java.util.concurrent.CompletableFuture;
 
 public final class PersonalizationDesignService extends ApiService {
   public PersonalizationDesignService(StripeResponseGetter responseGetter) {
@@ -66,6 +67,29 @@ public final class PersonalizationDesignService extends ApiService {
             options);
     return this.request(request, PersonalizationDesign.class);
   }
+  /**
+   * Updates the {@code status} of the specified testmode personalization design object to {@code
+   * active}.
+   */
+  public CompletableFuture<PersonalizationDesign> activateAsync(
+      String personalizationDesign,
+      PersonalizationDesignActivateParams params,
+      RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path =
+              String.format(
+                  "/v1/test_helpers/issuing/personalization_designs/%s/activate",
+                  ApiResource.urlEncodeId(personalizationDesign));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.POST,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        PersonalizationDesign.class);
+  }
   /**
    * Updates the {@code status} of the specified testmode personalization design object to {@code
    * inactive}.
@@ -113,6 +137,29 @@ public final class PersonalizationDesignService extends ApiService {
             options);
     return this.request(request, PersonalizationDesign.class);
   }
+  /**
+   * Updates the {@code status} of the specified testmode personalization design object to {@code
+   * inactive}.
+   */
+  public CompletableFuture<PersonalizationDesign> deactivateAsync(
+      String personalizationDesign,
+      PersonalizationDesignDeactivateParams params,
+      RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path =
+              String.format(
+                  "/v1/test_helpers/issuing/personalization_designs/%s/deactivate",
+                  ApiResource.urlEncodeId(personalizationDesign));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.POST,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        PersonalizationDesign.class);
+  }
   /**
    * Updates the {@code status} of the specified testmode personalization design object to {@code
    * rejected}.
@@ -144,4 +191,27 @@ public final class PersonalizationDesignService extends ApiService {
             options);
     return this.request(request, PersonalizationDesign.class);
   }
+  /**
+   * Updates the {@code status} of the specified testmode personalization design object to {@code
+   * rejected}.
+   */
+  public CompletableFuture<PersonalizationDesign> rejectAsync(
+      String personalizationDesign,
+      PersonalizationDesignRejectParams params,
+      RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path =
+              String.format(
+                  "/v1/test_helpers/issuing/personalization_designs/%s/reject",
+                  ApiResource.urlEncodeId(personalizationDesign));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.POST,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        PersonalizationDesign.class);
+  }
 }
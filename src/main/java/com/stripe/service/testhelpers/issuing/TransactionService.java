@@ -13,6 +13,7 @@ import com.stripe.net.StripeResponseGetter;
 import com.stripe.param.issuing.TransactionCreateForceCaptureParams;
 import com.stripe.param.issuing.TransactionCreateUnlinkedRefundParams;
 import com.stripe.param.issuing.TransactionRefundParams;
+import java.util.concurrent.CompletableFuture;
 
 public final class TransactionService extends ApiService {
   public TransactionService(StripeResponseGetter responseGetter) {
@@ -49,6 +50,24 @@ public final class TransactionService extends ApiService {
             options);
     return this.request(request, Transaction.class);
   }
+  /** Refund a test-mode Transaction. */
+  public CompletableFuture<Transaction> refundAsync(
+      String transaction, TransactionRefundParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path =
+              String.format(
+                  "/v1/test_helpers/issuing/transactions/%s/refund",
+                  ApiResource.urlEncodeId(transaction));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.POST,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        Transaction.class);
+  }
   /** Allows the user to capture an arbitrary amount, also known as a forced capture. */
   public Transaction createForceCapture(TransactionCreateForceCaptureParams params)
       throws StripeException {
@@ -67,6 +86,19 @@ public final class TransactionService extends ApiService {
             options);
     return this.request(request, Transaction.class);
   }
+  /** Allows the user to capture an arbitrary amount, also known as a forced capture. */
+  public CompletableFuture<Transaction> createForceCaptureAsync(
+      TransactionCreateForceCaptureParams params, RequestOptions options) {
+    String path = "/v1/test_helpers/issuing/transactions/create_force_capture";
+    ApiRequest request =
+        new ApiRequest(
+            BaseAddress.API,
+            ApiResource.RequestMethod.POST,
+            path,
+            ApiRequestParams.paramsToMap(params),
+            options);
+    return this.requestAsync(request, Transaction.class);
+  }
   /** Allows the user to refund an arbitrary amount, also known as a unlinked refund. */
   public Transaction createUnlinkedRefund(TransactionCreateUnlinkedRefundParams params)
       throws StripeException {
@@ -85,4 +117,17 @@ public final class TransactionService extends ApiService {
             options);
     return this.request(request, Transaction.class);
   }
+  /** Allows the user to refund an arbitrary amount, also known as a unlinked refund. */
+  public CompletableFuture<Transaction> createUnlinkedRefundAsync(
+      TransactionCreateUnlinkedRefundParams params, RequestOptions options) {
+    String path = "/v1/test_helpers/issuing/transactions/create_unlinked_refund";
+    ApiRequest request =
+        new ApiRequest(
+            BaseAddress.API,
+            ApiResource.RequestMethod.POST,
+            path,
+            ApiRequestParams.paramsToMap(params),
+            options);
+    return this.requestAsync(request, Transaction.class);
+  }
 }
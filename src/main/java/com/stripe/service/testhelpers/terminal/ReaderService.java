@@ -11,6 +11,7 @@ import com.stripe.net.BaseAddress;
 import com.stripe.net.RequestOptions;
 import com.stripe.net.StripeResponseGetter;
 import com.stripe.param.terminal.ReaderPresentPaymentMethodParams;
+import java.util.concurrent.CompletableFuture;
 
 public final class ReaderService extends ApiService {
   public ReaderService(StripeResponseGetter responseGetter) {
@@ -60,4 +61,25 @@ public final class ReaderService extends ApiService {
             options);
     return this.request(request, Reader.class);
   }
+  /**
+   * Presents a payment method on a simulated reader. Can be used to simulate accepting a payment,
+   * saving a card or refunding a transaction.
+   */
+  public CompletableFuture<Reader> presentPaymentMethodAsync(
+      String reader, ReaderPresentPaymentMethodParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path =
+              String.format(
+                  "/v1/test_helpers/terminal/readers/%s/present_payment_method",
+                  ApiResource.urlEncodeId(reader));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.POST,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        Reader.class);
+  }
 }
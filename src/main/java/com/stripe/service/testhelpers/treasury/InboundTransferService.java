@@ -13,6 +13,7 @@ import com.stripe.net.StripeResponseGetter;
 import com.stripe.param.treasury.InboundTransferFailParams;
 import com.stripe.param.treasury.InboundTransferReturnInboundTransferParams;
 import com.stripe.param.treasury.InboundTransferSucceedParams;
+import java.util.concurrent.CompletableFuture;
 
 public final class InboundTransferService extends ApiService {
   public InboundTransferService(StripeResponseGetter responseGetter) {
@@ -58,6 +59,27 @@ public final class InboundTransferService extends ApiService {
             options);
     return this.request(request, InboundTransfer.class);
   }
+  /**
+   * Transitions a test mode created InboundTransfer to the {@code failed} status. The
+   * InboundTransfer must already be in the {@code processing} state.
+   */
+  public CompletableFuture<InboundTransfer> failAsync(
+      String id, InboundTransferFailParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path =
+              String.format(
+                  "/v1/test_helpers/treasury/inbound_transfers/%s/fail",
+                  ApiResource.urlEncodeId(id));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.POST,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        InboundTransfer.class);
+  }
   /**
    * Marks the test mode InboundTransfer object as returned and links the InboundTransfer to a
    * ReceivedDebit. The InboundTransfer must already be in the {@code succeeded} state.
@@ -101,6 +123,27 @@ public final class InboundTransferService extends ApiService {
             options);
     return this.request(request, InboundTransfer.class);
   }
+  /**
+   * Marks the test mode InboundTransfer object as returned and links the InboundTransfer to a
+   * ReceivedDebit. The InboundTransfer must already be in the {@code succeeded} state.
+   */
+  public CompletableFuture<InboundTransfer> returnInboundTransferAsync(
+      String id, InboundTransferReturnInboundTransferParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path =
+              String.format(
+                  "/v1/test_helpers/treasury/inbound_transfers/%s/return",
+                  ApiResource.urlEncodeId(id));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.POST,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        InboundTransfer.class);
+  }
   /**
    * Transitions a test mode created InboundTransfer to the {@code succeeded} status. The
    * InboundTransfer must already be in the {@code processing} state.
@@ -142,4 +185,25 @@ public final class InboundTransferService extends ApiService {
             options);
     return this.request(request, InboundTransfer.class);
   }
+  /**
+   * Transitions a test mode created InboundTransfer to the {@code succeeded} status. The
+   * InboundTransfer must already be in the {@code processing} state.
+   */
+  public CompletableFuture<InboundTransfer> succeedAsync(
+      String id, InboundTransferSucceedParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path =
+              String.format(
+                  "/v1/test_helpers/treasury/inbound_transfers/%s/succeed",
+                  ApiResource.urlEncodeId(id));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.POST,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        InboundTransfer.class);
+  }
 }
@@ -14,6 +14,7 @@ import com.stripe.param.treasury.OutboundPaymentFailParams;
 import com.stripe.param.treasury.OutboundPaymentPostParams;
 import com.stripe.param.treasury.OutboundPaymentReturnOutboundPaymentParams;
 import com.stripe.param.treasury.OutboundPaymentUpdateParams;
+import java.util.concurrent.CompletableFuture;
 
 public final class OutboundPaymentService extends ApiService {
   public OutboundPaymentService(StripeResponseGetter responseGetter) {
@@ -47,6 +48,26 @@ public final class OutboundPaymentService extends ApiService {
             options);
     return this.request(request, OutboundPayment.class);
   }
+  /**
+   * Updates a test mode created OutboundPayment with tracking details. The OutboundPayment must not
+   * be cancelable, and cannot be in the {@code canceled} or {@code failed} states.
+   */
+  public CompletableFuture<OutboundPayment> updateAsync(
+      String id, OutboundPaymentUpdateParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path =
+              String.format(
+                  "/v1/test_helpers/treasury/outbound_payments/%s", ApiResource.urlEncodeId(id));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.POST,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        OutboundPayment.class);
+  }
   /**
    * Transitions a test mode created OutboundPayment to the {@code failed} status. The
    * OutboundPayment must already be in the {@code processing} state.
@@ -86,6 +107,27 @@ public final class OutboundPaymentService extends ApiService {
             options);
     return this.request(request, OutboundPayment.class);
   }
+  /**
+   * Transitions a test mode created OutboundPayment to the {@code failed} status. The
+   * OutboundPayment must already be in the {@code processing} state.
+   */
+  public CompletableFuture<OutboundPayment> failAsync(
+      String id, OutboundPaymentFailParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path =
+              String.format(
+                  "/v1/test_helpers/treasury/outbound_payments/%s/fail",
+                  ApiResource.urlEncodeId(id));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.POST,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        OutboundPayment.class);
+  }
   /**
    * Transitions a test mode created OutboundPayment to the {@code posted} status. The
    * OutboundPayment must already be in the {@code processing} state.
@@ -125,6 +167,27 @@ public final class OutboundPaymentService extends ApiService {
             options);
     return this.request(request, OutboundPayment.class);
   }
+  /**
+   * Transitions a test mode created OutboundPayment to the {@code posted} status. The
+   * OutboundPayment must already be in the {@code processing} state.
+   */
+  public CompletableFuture<OutboundPayment> postAsync(
+      String id, OutboundPaymentPostParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path =
+              String.format(
+                  "/v1/test_helpers/treasury/outbound_payments/%s/post",
+                  ApiResource.urlEncodeId(id));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.POST,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        OutboundPayment.class);
+  }
   /**
    * Transitions a test mode created OutboundPayment to the {@code returned} status. The
    * OutboundPayment must already be in the {@code processing} state.
@@ -168,4 +231,25 @@ public final class OutboundPaymentService extends ApiService {
             options);
     return this.request(request, OutboundPayment.class);
   }
+  /**
+   * Transitions a test mode created OutboundPayment to the {@code returned} status. The
+   * OutboundPayment must already be in the {@code processing} state.
+   */
+  public CompletableFuture<OutboundPayment> returnOutboundPaymentAsync(
+      String id, OutboundPaymentReturnOutboundPaymentParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path =
+              String.format(
+                  "/v1/test_helpers/treasury/outbound_payments/%s/return",
+                  ApiResource.urlEncodeId(id));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.POST,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        OutboundPayment.class);
+  }
 }
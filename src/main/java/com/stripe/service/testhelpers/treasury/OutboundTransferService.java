@@ -14,6 +14,7 @@ import com.stripe.param.treasury.OutboundTransferFailParams;
 import com.stripe.param.treasury.OutboundTransferPostParams;
 import com.stripe.param.treasury.OutboundTransferReturnOutboundTransferParams;
 import com.stripe.param.treasury.OutboundTransferUpdateParams;
+import java.util.concurrent.CompletableFuture;
 
 public final class OutboundTransferService extends ApiService {
   public OutboundTransferService(StripeResponseGetter responseGetter) {
@@ -48,6 +49,27 @@ public final class OutboundTransferService extends ApiService {
             options);
     return this.request(request, OutboundTransfer.class);
   }
+  /**
+   * Updates a test mode created OutboundTransfer with tracking details. The OutboundTransfer must
+   * not be cancelable, and cannot be in the {@code canceled} or {@code failed} states.
+   */
+  public CompletableFuture<OutboundTransfer> updateAsync(
+      String outboundTransfer, OutboundTransferUpdateParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path =
+              String.format(
+                  "/v1/test_helpers/treasury/outbound_transfers/%s",
+                  ApiResource.urlEncodeId(outboundTransfer));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.POST,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        OutboundTransfer.class);
+  }
   /**
    * Transitions a test mode created OutboundTransfer to the {@code failed} status. The
    * OutboundTransfer must already be in the {@code processing} state.
@@ -91,6 +113,27 @@ public final class OutboundTransferService extends ApiService {
             options);
     return this.request(request, OutboundTransfer.class);
   }
+  /**
+   * Transitions a test mode created OutboundTransfer to the {@code failed} status. The
+   * OutboundTransfer must already be in the {@code processing} state.
+   */
+  public CompletableFuture<OutboundTransfer> failAsync(
+      String outboundTransfer, OutboundTransferFailParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path =
+              String.format(
+                  "/v1/test_helpers/treasury/outbound_transfers/%s/fail",
+                  ApiResource.urlEncodeId(outboundTransfer));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.POST,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        OutboundTransfer.class);
+  }
   /**
    * Transitions a test mode created OutboundTransfer to the {@code posted} status. The
    * OutboundTransfer must already be in the {@code processing} state.
@@ -134,6 +177,27 @@ public final class OutboundTransferService extends ApiService {
             options);
     return this.request(request, OutboundTransfer.class);
   }
+  /**
+   * Transitions a test mode created OutboundTransfer to the {@code posted} status. The
+   * OutboundTransfer must already be in the {@code processing} state.
+   */
+  public CompletableFuture<OutboundTransfer> postAsync(
+      String outboundTransfer, OutboundTransferPostParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path =
+              String.format(
+                  "/v1/test_helpers/treasury/outbound_transfers/%s/post",
+                  ApiResource.urlEncodeId(outboundTransfer));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.POST,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        OutboundTransfer.class);
+  }
   /**
    * Transitions a test mode created OutboundTransfer to the {@code returned} status. The
    * OutboundTransfer must already be in the {@code processing} state.
@@ -184,4 +248,27 @@ public final class OutboundTransferService extends ApiService {
             options);
     return this.request(request, OutboundTransfer.class);
   }
+  /**
+   * Transitions a test mode created OutboundTransfer to the {@code returned} status. The
+   * OutboundTransfer must already be in the {@code processing} state.
+   */
+  public CompletableFuture<OutboundTransfer> returnOutboundTransferAsync(
+      String outboundTransfer,
+      OutboundTransferReturnOutboundTransferParams params,
+      RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path =
+              String.format(
+                  "/v1/test_helpers/treasury/outbound_transfers/%s/return",
+                  ApiResource.urlEncodeId(outboundTransfer));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.POST,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        OutboundTransfer.class);
+  }
 }
@@ -11,6 +11,7 @@ import com.stripe.net.BaseAddress;
 import com.stripe.net.RequestOptions;
 import com.stripe.net.StripeResponseGetter;
 import com.stripe.param.treasury.ReceivedCreditCreateParams;
+import java.util.concurrent.CompletableFuture;
 
 public final class ReceivedCreditService extends ApiService {
   public ReceivedCreditService(StripeResponseGetter responseGetter) {
@@ -40,4 +41,20 @@ public final class ReceivedCreditService extends ApiService {
             options);
     return this.request(request, ReceivedCredit.class);
   }
+  /**
+   * Use this endpoint to simulate a test mode ReceivedCredit initiated by a third party. In live
+   * mode, you can’t directly create ReceivedCredits initiated by third parties.
+   */
+  public CompletableFuture<ReceivedCredit> createAsync(
+      ReceivedCreditCreateParams params, RequestOptions options) {
+    String path = "/v1/test_helpers/treasury/received_credits";
+    ApiRequest request =
+        new ApiRequest(
+            BaseAddress.API,
+            ApiResource.RequestMethod.POST,
+            path,
+            ApiRequestParams.paramsToMap(params),
+            options);
+    return this.requestAsync(request, ReceivedCredit.class);
+  }
 }
@@ -11,6 +11,7 @@ import com.stripe.net.BaseAddress;
 import com.stripe.net.RequestOptions;
 import com.stripe.net.StripeResponseGetter;
 import com.stripe.param.treasury.ReceivedDebitCreateParams;
+import java.util.concurrent.CompletableFuture;
 
 public final class ReceivedDebitService extends ApiService {
   public ReceivedDebitService(StripeResponseGetter responseGetter) {
@@ -40,4 +41,20 @@ public final class ReceivedDebitService extends ApiService {
             options);
     return this.request(request, ReceivedDebit.class);
   }
+  /**
+   * Use this endpoint to simulate a test mode ReceivedDebit initiated by a third party. In live
+   * mode, you can’t directly create ReceivedDebits initiated by third parties.
+   */
+  public CompletableFuture<ReceivedDebit> createAsync(
+      ReceivedDebitCreateParams params, RequestOptions options) {
+    String path = "/v1/test_helpers/treasury/received_debits";
+    ApiRequest request =
+        new ApiRequest(
+            BaseAddress.API,
+            ApiResource.RequestMethod.POST,
+            path,
+            ApiRequestParams.paramsToMap(params),
+            options);
+    return this.requestAsync(request, ReceivedDebit.class);
+  }
 }
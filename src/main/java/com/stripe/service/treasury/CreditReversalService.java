@@ -15,6 +15,7 @@ import com.stripe.net.StripeResponseGetter;
 import com.stripe.param.treasury.CreditReversalCreateParams;
 import com.stripe.param.treasury.CreditReversalListParams;
 import com.stripe.param.treasury.CreditReversalRetrieveParams;
+import java.util.concurrent.CompletableFuture;
 
 public final class CreditReversalService extends ApiService {
   public CreditReversalService(StripeResponseGetter responseGetter) {
@@ -39,6 +40,20 @@ public final class CreditReversalService extends ApiService {
             options);
     return this.request(request, new TypeToken<StripeCollection<CreditReversal>>() {}.getType());
   }
+  /** Returns a list of CreditReversals. */
+  public CompletableFuture<StripeCollection<CreditReversal>> listAsync(
+      CreditReversalListParams params, RequestOptions options) {
+    String path = "/v1/treasury/credit_reversals";
+    ApiRequest request =
+        new ApiRequest(
+            BaseAddress.API,
+            ApiResource.RequestMethod.GET,
+            path,
+            ApiRequestParams.paramsToMap(params),
+            options);
+    return this.requestAsync(
+        request, new TypeToken<StripeCollection<CreditReversal>>() {}.getType());
+  }
   /** Reverses a ReceivedCredit and creates a CreditReversal object. */
   public CreditReversal create(CreditReversalCreateParams params) throws StripeException {
     return create(params, (RequestOptions) null);
@@ -56,6 +71,19 @@ public final class CreditReversalService extends ApiService {
             options);
     return this.request(request, CreditReversal.class);
   }
+  /** Reverses a ReceivedCredit and creates a CreditReversal object. */
+  public CompletableFuture<CreditReversal> createAsync(
+      CreditReversalCreateParams params, RequestOptions options) {
+    String path = "/v1/treasury/credit_reversals";
+    ApiRequest request =
+        new ApiRequest(
+            BaseAddress.API,
+            ApiResource.RequestMethod.POST,
+            path,
+            ApiRequestParams.paramsToMap(params),
+            options);
+    return this.requestAsync(request, CreditReversal.class);
+  }
   /**
    * Retrieves the details of an existing CreditReversal by passing the unique CreditReversal ID
    * from either the CreditReversal creation request or CreditReversal list.
@@ -97,4 +125,24 @@ public final class CreditReversalService extends ApiService {
             options);
     return this.request(request, CreditReversal.class);
   }
+  /**
+   * Retrieves the details of an existing CreditReversal by passing the unique CreditReversal ID
+   * from either the CreditReversal creation request or CreditReversal list.
+   */
+  public CompletableFuture<CreditReversal> retrieveAsync(
+      String creditReversal, CreditReversalRetrieveParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path =
+              String.format(
+                  "/v1/treasury/credit_reversals/%s", ApiResource.urlEncodeId(creditReversal));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.GET,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        CreditReversal.class);
+  }
 }
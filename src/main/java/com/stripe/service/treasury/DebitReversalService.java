@@ -15,6 +15,7 @@ import com.stripe.net.StripeResponseGetter;
 import com.stripe.param.treasury.DebitReversalCreateParams;
 import com.stripe.param.treasury.DebitReversalListParams;
 import com.stripe.param.treasury.DebitReversalRetrieveParams;
+import java.util.concurrent.CompletableFuture;
 
 public final class DebitReversalService extends ApiService {
   public DebitReversalService(StripeResponseGetter responseGetter) {
@@ -39,6 +40,20 @@ public final class DebitReversalService extends ApiService {
             options);
     return this.request(request, new TypeToken<StripeCollection<DebitReversal>>() {}.getType());
   }
+  /** Returns a list of DebitReversals. */
+  public CompletableFuture<StripeCollection<DebitReversal>> listAsync(
+      DebitReversalListParams params, RequestOptions options) {
+    String path = "/v1/treasury/debit_reversals";
+    ApiRequest request =
+        new ApiRequest(
+            BaseAddress.API,
+            ApiResource.RequestMethod.GET,
+            path,
+            ApiRequestParams.paramsToMap(params),
+            options);
+    return this.requestAsync(
+        request, new TypeToken<StripeCollection<DebitReversal>>() {}.getType());
+  }
   /** Reverses a ReceivedDebit and creates a DebitReversal object. */
   public DebitReversal create(DebitReversalCreateParams params) throws StripeException {
     return create(params, (RequestOptions) null);
@@ -56,6 +71,19 @@ public final class DebitReversalService extends ApiService {
             options);
     return this.request(request, DebitReversal.class);
   }
+  /** Reverses a ReceivedDebit and creates a DebitReversal object. */
+  public CompletableFuture<DebitReversal> createAsync(
+      DebitReversalCreateParams params, RequestOptions options) {
+    String path = "/v1/treasury/debit_reversals";
+    ApiRequest request =
+        new ApiRequest(
+            BaseAddress.API,
+            ApiResource.RequestMethod.POST,
+            path,
+            ApiRequestParams.paramsToMap(params),
+            options);
+    return this.requestAsync(request, DebitReversal.class);
+  }
   /** Retrieves a DebitReversal object. */
   public DebitReversal retrieve(String debitReversal, DebitReversalRetrieveParams params)
       throws StripeException {
@@ -85,4 +113,21 @@ public final class DebitReversalService extends ApiService {
             options);
     return this.request(request, DebitReversal.class);
   }
+  /** Retrieves a DebitReversal object. */
+  public CompletableFuture<DebitReversal> retrieveAsync(
+      String debitReversal, DebitReversalRetrieveParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path =
+              String.format(
+                  "/v1/treasury/debit_reversals/%s", ApiResource.urlEncodeId(debitReversal));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.GET,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        DebitReversal.class);
+  }
 }
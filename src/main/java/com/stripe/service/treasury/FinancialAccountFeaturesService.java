@@ -12,6 +12,7 @@ import com.stripe.net.RequestOptions;
 import com.stripe.net.StripeResponseGetter;
 import com.stripe.param.treasury.FinancialAccountFeaturesRetrieveParams;
 import com.stripe.param.treasury.FinancialAccountFeaturesUpdateParams;
+import java.util.concurrent.CompletableFuture;
 
 public final class FinancialAccountFeaturesService extends ApiService {
   public FinancialAccountFeaturesService(StripeResponseGetter responseGetter) {
@@ -50,6 +51,26 @@ public final class FinancialAccountFeaturesService extends ApiService {
             options);
     return this.request(request, FinancialAccountFeatures.class);
   }
+  /** Updates the Features associated with a FinancialAccount. */
+  public CompletableFuture<FinancialAccountFeatures> updateAsync(
+      String financialAccount,
+      FinancialAccountFeaturesUpdateParams params,
+      RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path =
+              String.format(
+                  "/v1/treasury/financial_accounts/%s/features",
+                  ApiResource.urlEncodeId(financialAccount));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.POST,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        FinancialAccountFeatures.class);
+  }
   /** Retrieves Features information associated with the FinancialAccount. */
   public FinancialAccountFeatures retrieve(
       String financialAccount, FinancialAccountFeaturesRetrieveParams params)
@@ -85,4 +106,24 @@ public final class FinancialAccountFeaturesService extends ApiService {
             options);
     return this.request(request, FinancialAccountFeatures.class);
   }
+  /** Retrieves Features information associated with the FinancialAccount. */
+  public CompletableFuture<FinancialAccountFeatures> retrieveAsync(
+      String financialAccount,
+      FinancialAccountFeaturesRetrieveParams params,
+      RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path =
+              String.format(
+                  "/v1/treasury/financial_accounts/%s/features",
+                  ApiResource.urlEncodeId(financialAccount));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.GET,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        FinancialAccountFeatures.class);
+  }
 }
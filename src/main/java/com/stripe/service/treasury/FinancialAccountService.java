@@ -17,6 +17,7 @@ import com.stripe.param.treasury.FinancialAccountCreateParams;
 import com.stripe.param.treasury.FinancialAccountListParams;
 import com.stripe.param.treasury.FinancialAccountRetrieveParams;
 import com.stripe.param.treasury.FinancialAccountUpdateParams;
+import java.util.concurrent.CompletableFuture;
 
 public final class FinancialAccountService extends ApiService {
   public FinancialAccountService(StripeResponseGetter responseGetter) {
@@ -49,6 +50,20 @@ public final class FinancialAccountService extends ApiService {
             options);
     return this.request(request, new TypeToken<StripeCollection<FinancialAccount>>() {}.getType());
   }
+  /** Returns a list of FinancialAccounts. */
+  public CompletableFuture<StripeCollection<FinancialAccount>> listAsync(
+      FinancialAccountListParams params, RequestOptions options) {
+    String path = "/v1/treasury/financial_accounts";
+    ApiRequest request =
+        new ApiRequest(
+            BaseAddress.API,
+            ApiResource.RequestMethod.GET,
+            path,
+            ApiRequestParams.paramsToMap(params),
+            options);
+    return this.requestAsync(
+        request, new TypeToken<StripeCollection<FinancialAccount>>() {}.getType());
+  }
   /**
    * Creates a new FinancialAccount. For now, each connected account can only have one
    * FinancialAccount.
@@ -72,6 +87,22 @@ public final class FinancialAccountService extends ApiService {
             options);
     return this.request(request, FinancialAccount.class);
   }
+  /**
+   * Creates a new FinancialAccount. For now, each connected account can only have one
+   * FinancialAccount.
+   */
+  public CompletableFuture<FinancialAccount> createAsync(
+      FinancialAccountCreateParams params, RequestOptions options) {
+    String path = "/v1/treasury/financial_accounts";
+    ApiRequest request =
+        new ApiRequest(
+            BaseAddress.API,
+            ApiResource.RequestMethod.POST,
+            path,
+            ApiRequestParams.paramsToMap(params),
+            options);
+    return this.requestAsync(request, FinancialAccount.class);
+  }
   /** Retrieves the details of a FinancialAccount. */
   public FinancialAccount retrieve(String financialAccount, FinancialAccountRetrieveParams params)
       throws StripeException {
@@ -102,6 +133,23 @@ public final class FinancialAccountService extends ApiService {
             options);
     return this.request(request, FinancialAccount.class);
   }
+  /** Retrieves the details of a FinancialAccount. */
+  public CompletableFuture<FinancialAccount> retrieveAsync(
+      String financialAccount, FinancialAccountRetrieveParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path =
+              String.format(
+                  "/v1/treasury/financial_accounts/%s", ApiResource.urlEncodeId(financialAccount));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.GET,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        FinancialAccount.class);
+  }
   /** Updates the details of a FinancialAccount. */
   public FinancialAccount update(String financialAccount, FinancialAccountUpdateParams params)
       throws StripeException {
@@ -132,6 +180,23 @@ public final class FinancialAccountService extends ApiService {
             options);
     return this.request(request, FinancialAccount.class);
   }
+  /** Updates the details of a FinancialAccount. */
+  public CompletableFuture<FinancialAccount> updateAsync(
+      String financialAccount, FinancialAccountUpdateParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path =
+              String.format(
+                  "/v1/treasury/financial_accounts/%s", ApiResource.urlEncodeId(financialAccount));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.POST,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        FinancialAccount.class);
+  }
   /**
    * Closes a FinancialAccount. A FinancialAccount can only be closed if it has a zero balance, has
    * no pending InboundTransfers, and has canceled all attached Issuing cards.
@@ -174,6 +239,27 @@ public final class FinancialAccountService extends ApiService {
             options);
     return this.request(request, FinancialAccount.class);
   }
+  /**
+   * Closes a FinancialAccount. A FinancialAccount can only be closed if it has a zero balance, has
+   * no pending InboundTransfers, and has canceled all attached Issuing cards.
+   */
+  public CompletableFuture<FinancialAccount> closeAsync(
+      String financialAccount, FinancialAccountCloseParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path =
+              String.format(
+                  "/v1/treasury/financial_accounts/%s/close",
+                  ApiResource.urlEncodeId(financialAccount));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.POST,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        FinancialAccount.class);
+  }
 
   public com.stripe.service.treasury.FinancialAccountFeaturesService features() {
     return new com.stripe.service.treasury.FinancialAccountFeaturesService(
@@ -16,6 +16,7 @@ import com.stripe.param.treasury.InboundTransferCancelParams;
 import com.stripe.param.treasury.InboundTransferCreateParams;
 import com.stripe.param.treasury.InboundTransferListParams;
 import com.stripe.param.treasury.InboundTransferRetrieveParams;
+import java.util.concurrent.CompletableFuture;
 
 public final class InboundTransferService extends ApiService {
   public InboundTransferService(StripeResponseGetter responseGetter) {
@@ -40,6 +41,20 @@ public final class InboundTransferService extends ApiService {
             options);
     return this.request(request, new TypeToken<StripeCollection<InboundTransfer>>() {}.getType());
   }
+  /** Returns a list of InboundTransfers sent from the specified FinancialAccount. */
+  public CompletableFuture<StripeCollection<InboundTransfer>> listAsync(
+      InboundTransferListParams params, RequestOptions options) {
+    String path = "/v1/treasury/inbound_transfers";
+    ApiRequest request =
+        new ApiRequest(
+            BaseAddress.API,
+            ApiResource.RequestMethod.GET,
+            path,
+            ApiRequestParams.paramsToMap(params),
+            options);
+    return this.requestAsync(
+        request, new TypeToken<StripeCollection<InboundTransfer>>() {}.getType());
+  }
   /** Creates an InboundTransfer. */
   public InboundTransfer create(InboundTransferCreateParams params) throws StripeException {
     return create(params, (RequestOptions) null);
@@ -57,6 +72,19 @@ public final class InboundTransferService extends ApiService {
             options);
     return this.request(request, InboundTransfer.class);
   }
+  /** Creates an InboundTransfer. */
+  public CompletableFuture<InboundTransfer> createAsync(
+      InboundTransferCreateParams params, RequestOptions options) {
+    String path = "/v1/treasury/inbound_transfers";
+    ApiRequest request =
+        new ApiRequest(
+            BaseAddress.API,
+            ApiResource.RequestMethod.POST,
+            path,
+            ApiRequestParams.paramsToMap(params),
+            options);
+    return this.requestAsync(request, InboundTransfer.class);
+  }
   /** Retrieves the details of an existing InboundTransfer. */
   public InboundTransfer retrieve(String id, InboundTransferRetrieveParams params)
       throws StripeException {
@@ -84,6 +112,22 @@ public final class InboundTransferService extends ApiService {
             options);
     return this.request(request, InboundTransfer.class);
   }
+  /** Retrieves the details of an existing InboundTransfer. */
+  public CompletableFuture<InboundTransfer> retrieveAsync(
+      String id, InboundTransferRetrieveParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path =
+              String.format("/v1/treasury/inbound_transfers/%s", ApiResource.urlEncodeId(id));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.GET,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        InboundTransfer.class);
+  }
   /** Cancels an InboundTransfer. */
   public InboundTransfer cancel(String inboundTransfer, InboundTransferCancelParams params)
       throws StripeException {
@@ -114,4 +158,22 @@ public final class InboundTransferService extends ApiService {
             options);
     return this.request(request, InboundTransfer.class);
   }
+  /** Cancels an InboundTransfer. */
+  public CompletableFuture<InboundTransfer> cancelAsync(
+      String inboundTransfer, InboundTransferCancelParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path =
+              String.format(
+                  "/v1/treasury/inbound_transfers/%s/cancel",
+                  ApiResource.urlEncodeId(inboundTransfer));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.POST,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        InboundTransfer.class);
+  }
 }
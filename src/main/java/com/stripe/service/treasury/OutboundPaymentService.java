@@ -16,6 +16,7 @@ import com.stripe.param.treasury.OutboundPaymentCancelParams;
 import com.stripe.param.treasury.OutboundPaymentCreateParams;
 import com.stripe.param.treasury.OutboundPaymentListParams;
 import com.stripe.param.treasury.OutboundPaymentRetrieveParams;
+import java.util.concurrent.CompletableFuture;
 
 public final class OutboundPaymentService extends ApiService {
   public OutboundPaymentService(StripeResponseGetter responseGetter) {
@@ -40,6 +41,20 @@ public final class OutboundPaymentService extends ApiService {
             options);
     return this.request(request, new TypeToken<StripeCollection<OutboundPayment>>() {}.getType());
   }
+  /** Returns a list of OutboundPayments sent from the specified FinancialAccount. */
+  public CompletableFuture<StripeCollection<OutboundPayment>> listAsync(
+      OutboundPaymentListParams params, RequestOptions options) {
+    String path = "/v1/treasury/outbound_payments";
+    ApiRequest request =
+        new ApiRequest(
+            BaseAddress.API,
+            ApiResource.RequestMethod.GET,
+            path,
+            ApiRequestParams.paramsToMap(params),
+            options);
+    return this.requestAsync(
+        request, new TypeToken<StripeCollection<OutboundPayment>>() {}.getType());
+  }
   /** Creates an OutboundPayment. */
   public OutboundPayment create(OutboundPaymentCreateParams params) throws StripeException {
     return create(params, (RequestOptions) null);
@@ -57,6 +72,19 @@ public final class OutboundPaymentService extends ApiService {
             options);
     return this.request(request, OutboundPayment.class);
   }
+  /** Creates an OutboundPayment. */
+  public CompletableFuture<OutboundPayment> createAsync(
+      OutboundPaymentCreateParams params, RequestOptions options) {
+    String path = "/v1/treasury/outbound_payments";
+    ApiRequest request =
+        new ApiRequest(
+            BaseAddress.API,
+            ApiResource.RequestMethod.POST,
+            path,
+            ApiRequestParams.paramsToMap(params),
+            options);
+    return this.requestAsync(request, OutboundPayment.class);
+  }
   /**
    * Retrieves the details of an existing OutboundPayment by passing the unique OutboundPayment ID
    * from either the OutboundPayment creation request or OutboundPayment list.
@@ -96,6 +124,25 @@ public final class OutboundPaymentService extends ApiService {
             options);
     return this.request(request, OutboundPayment.class);
   }
+  /**
+   * Retrieves the details of an existing OutboundPayment by passing the unique OutboundPayment ID
+   * from either the OutboundPayment creation request or OutboundPayment list.
+   */
+  public CompletableFuture<OutboundPayment> retrieveAsync(
+      String id, OutboundPaymentRetrieveParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path =
+              String.format("/v1/treasury/outbound_payments/%s", ApiResource.urlEncodeId(id));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.GET,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        OutboundPayment.class);
+  }
   /** Cancel an OutboundPayment. */
   public OutboundPayment cancel(String id, OutboundPaymentCancelParams params)
       throws StripeException {
@@ -124,4 +171,21 @@ public final class OutboundPaymentService extends ApiService {
             options);
     return this.request(request, OutboundPayment.class);
   }
+  /** Cancel an OutboundPayment. */
+  public CompletableFuture<OutboundPayment> cancelAsync(
+      String id, OutboundPaymentCancelParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path =
+              String.format(
+                  "/v1/treasury/outbound_payments/%s/cancel", ApiResource.urlEncodeId(id));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.POST,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        OutboundPayment.class);
+  }
 }
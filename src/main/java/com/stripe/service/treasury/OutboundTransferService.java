@@ -16,6 +16,7 @@ import com.stripe.param.treasury.OutboundTransferCancelParams;
 import com.stripe.param.treasury.OutboundTransferCreateParams;
 import com.stripe.param.treasury.OutboundTransferListParams;
 import com.stripe.param.treasury.OutboundTransferRetrieveParams;
+import java.util.concurrent.CompletableFuture;
 
 public final class OutboundTransferService extends ApiService {
   public OutboundTransferService(StripeResponseGetter responseGetter) {
@@ -40,6 +41,20 @@ public final class OutboundTransferService extends ApiService {
             options);
     return this.request(request, new TypeToken<StripeCollection<OutboundTransfer>>() {}.getType());
   }
+  /** Returns a list of OutboundTransfers sent from the specified FinancialAccount. */
+  public CompletableFuture<StripeCollection<OutboundTransfer>> listAsync(
+      OutboundTransferListParams params, RequestOptions options) {
+    String path = "/v1/treasury/outbound_transfers";
+    ApiRequest request =
+        new ApiRequest(
+            BaseAddress.API,
+            ApiResource.RequestMethod.GET,
+            path,
+            ApiRequestParams.paramsToMap(params),
+            options);
+    return this.requestAsync(
+        request, new TypeToken<StripeCollection<OutboundTransfer>>() {}.getType());
+  }
   /** Creates an OutboundTransfer. */
   public OutboundTransfer create(OutboundTransferCreateParams params) throws StripeException {
     return create(params, (RequestOptions) null);
@@ -57,6 +72,19 @@ public final class OutboundTransferService extends ApiService {
             options);
     return this.request(request, OutboundTransfer.class);
   }
+  /** Creates an OutboundTransfer. */
+  public CompletableFuture<OutboundTransfer> createAsync(
+      OutboundTransferCreateParams params, RequestOptions options) {
+    String path = "/v1/treasury/outbound_transfers";
+    ApiRequest request =
+        new ApiRequest(
+            BaseAddress.API,
+            ApiResource.RequestMethod.POST,
+            path,
+            ApiRequestParams.paramsToMap(params),
+            options);
+    return this.requestAsync(request, OutboundTransfer.class);
+  }
   /**
    * Retrieves the details of an existing OutboundTransfer by passing the unique OutboundTransfer ID
    * from either the OutboundTransfer creation request or OutboundTransfer list.
@@ -99,6 +127,26 @@ public final class OutboundTransferService extends ApiService {
             options);
     return this.request(request, OutboundTransfer.class);
   }
+  /**
+   * Retrieves the details of an existing OutboundTransfer by passing the unique OutboundTransfer ID
+   * from either the OutboundTransfer creation request or OutboundTransfer list.
+   */
+  public CompletableFuture<OutboundTransfer> retrieveAsync(
+      String outboundTransfer, OutboundTransferRetrieveParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path =
+              String.format(
+                  "/v1/treasury/outbound_transfers/%s", ApiResource.urlEncodeId(outboundTransfer));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.GET,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        OutboundTransfer.class);
+  }
   /** An OutboundTransfer can be canceled if the funds have not yet been paid out. */
   public OutboundTransfer cancel(String outboundTransfer, OutboundTransferCancelParams params)
       throws StripeException {
@@ -129,4 +177,22 @@ public final class OutboundTransferService extends ApiService {
             options);
     return this.request(request, OutboundTransfer.class);
   }
+  /** An OutboundTransfer can be canceled if the funds have not yet been paid out. */
+  public CompletableFuture<OutboundTransfer> cancelAsync(
+      String outboundTransfer, OutboundTransferCancelParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path =
+              String.format(
+                  "/v1/treasury/outbound_transfers/%s/cancel",
+                  ApiResource.urlEncodeId(outboundTransfer));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.POST,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        OutboundTransfer.class);
+  }
 }
@@ -14,6 +14,7 @@ import com.stripe.net.RequestOptions;
 import com.stripe.net.StripeResponseGetter;
 import com.stripe.param.treasury.ReceivedCreditListParams;
 import com.stripe.param.treasury.ReceivedCreditRetrieveParams;
+import java.util.concurrent.CompletableFuture;
 
 public final class ReceivedCreditService extends ApiService {
   public ReceivedCreditService(StripeResponseGetter responseGetter) {
@@ -38,6 +39,20 @@ public final class ReceivedCreditService extends ApiService {
             options);
     return this.request(request, new TypeToken<StripeCollection<ReceivedCredit>>() {}.getType());
   }
+  /** Returns a list of ReceivedCredits. */
+  public CompletableFuture<StripeCollection<ReceivedCredit>> listAsync(
+      ReceivedCreditListParams params, RequestOptions options) {
+    String path = "/v1/treasury/received_credits";
+    ApiRequest request =
+        new ApiRequest(
+            BaseAddress.API,
+            ApiResource.RequestMethod.GET,
+            path,
+            ApiRequestParams.paramsToMap(params),
+            options);
+    return this.requestAsync(
+        request, new TypeToken<StripeCollection<ReceivedCredit>>() {}.getType());
+  }
   /**
    * Retrieves the details of an existing ReceivedCredit by passing the unique ReceivedCredit ID
    * from the ReceivedCredit list.
@@ -77,4 +92,23 @@ public final class ReceivedCreditService extends ApiService {
             options);
     return this.request(request, ReceivedCredit.class);
   }
+  /**
+   * Retrieves the details of an existing ReceivedCredit by passing the unique ReceivedCredit ID
+   * from the ReceivedCredit list.
+   */
+  public CompletableFuture<ReceivedCredit> retrieveAsync(
+      String id, ReceivedCreditRetrieveParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path =
+              String.format("/v1/treasury/received_credits/%s", ApiResource.urlEncodeId(id));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.GET,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        ReceivedCredit.class);
+  }
 }
@@ -14,6 +14,7 @@ import com.stripe.net.RequestOptions;
 import com.stripe.net.StripeResponseGetter;
 import com.stripe.param.treasury.ReceivedDebitListParams;
 import com.stripe.param.treasury.ReceivedDebitRetrieveParams;
+import java.util.concurrent.CompletableFuture;
 
 public final class ReceivedDebitService extends ApiService {
   public ReceivedDebitService(StripeResponseGetter responseGetter) {
@@ -38,6 +39,20 @@ public final class ReceivedDebitService extends ApiService {
             options);
     return this.request(request, new TypeToken<StripeCollection<ReceivedDebit>>() {}.getType());
   }
+  /** Returns a list of ReceivedDebits. */
+  public CompletableFuture<StripeCollection<ReceivedDebit>> listAsync(
+      ReceivedDebitListParams params, RequestOptions options) {
+    String path = "/v1/treasury/received_debits";
+    ApiRequest request =
+        new ApiRequest(
+            BaseAddress.API,
+            ApiResource.RequestMethod.GET,
+            path,
+            ApiRequestParams.paramsToMap(params),
+            options);
+    return this.requestAsync(
+        request, new TypeToken<StripeCollection<ReceivedDebit>>() {}.getType());
+  }
   /**
    * Retrieves the details of an existing ReceivedDebit by passing the unique ReceivedDebit ID from
    * the ReceivedDebit list.
@@ -77,4 +92,23 @@ public final class ReceivedDebitService extends ApiService {
             options);
     return this.request(request, ReceivedDebit.class);
   }
+  /**
+   * Retrieves the details of an existing ReceivedDebit by passing the unique ReceivedDebit ID from
+   * the ReceivedDebit list.
+   */
+  public CompletableFuture<ReceivedDebit> retrieveAsync(
+      String id, ReceivedDebitRetrieveParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path =
+              String.format("/v1/treasury/received_debits/%s", ApiResource.urlEncodeId(id));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.GET,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        ReceivedDebit.class);
+  }
 }
@@ -14,6 +14,7 @@ import com.stripe.net.RequestOptions;
 import com.stripe.net.StripeResponseGetter;
 import com.stripe.param.treasury.TransactionEntryListParams;
 import com.stripe.param.treasury.TransactionEntryRetrieveParams;
+import java.util.concurrent.CompletableFuture;
 
 public final class TransactionEntryService extends ApiService {
   public TransactionEntryService(StripeResponseGetter responseGetter) {
@@ -38,6 +39,20 @@ public final class TransactionEntryService extends ApiService {
             options);
     return this.request(request, new TypeToken<StripeCollection<TransactionEntry>>() {}.getType());
   }
+  /** Retrieves a list of TransactionEntry objects. */
+  public CompletableFuture<StripeCollection<TransactionEntry>> listAsync(
+      TransactionEntryListParams params, RequestOptions options) {
+    String path = "/v1/treasury/transaction_entries";
+    ApiRequest request =
+        new ApiRequest(
+            BaseAddress.API,
+            ApiResource.RequestMethod.GET,
+            path,
+            ApiRequestParams.paramsToMap(params),
+            options);
+    return this.requestAsync(
+        request, new TypeToken<StripeCollection<TransactionEntry>>() {}.getType());
+  }
   /** Retrieves a TransactionEntry object. */
   public TransactionEntry retrieve(String id, TransactionEntryRetrieveParams params)
       throws StripeException {
@@ -65,4 +80,20 @@ public final class TransactionEntryService extends ApiService {
             options);
     return this.request(request, TransactionEntry.class);
   }
+  /** Retrieves a TransactionEntry object. */
+  public CompletableFuture<TransactionEntry> retrieveAsync(
+      String id, TransactionEntryRetrieveParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path =
+              String.format("/v1/treasury/transaction_entries/%s", ApiResource.urlEncodeId(id));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.GET,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        TransactionEntry.class);
+  }
 }
@@ -14,6 +14,7 @@ import com.stripe.net.RequestOptions;
 import com.stripe.net.StripeResponseGetter;
 import com.stripe.param.treasury.TransactionListParams;
 import com.stripe.param.treasury.TransactionRetrieveParams;
+import java.util.concurrent.CompletableFuture;
 
 public final class TransactionService extends ApiService {
   public TransactionService(StripeResponseGetter responseGetter) {
@@ -37,6 +38,19 @@ public final class TransactionService extends ApiService {
             options);
     return this.request(request, new TypeToken<StripeCollection<Transaction>>() {}.getType());
   }
+  /** Retrieves a list of Transaction objects. */
+  public CompletableFuture<StripeCollection<Transaction>> listAsync(
+      TransactionListParams params, RequestOptions options) {
+    String path = "/v1/treasury/transactions";
+    ApiRequest request =
+        new ApiRequest(
+            BaseAddress.API,
+            ApiResource.RequestMethod.GET,
+            path,
+            ApiRequestParams.paramsToMap(params),
+            options);
+    return this.requestAsync(request, new TypeToken<StripeCollection<Transaction>>() {}.getType());
+  }
   /** Retrieves the details of an existing Transaction. */
   public Transaction retrieve(String id, TransactionRetrieveParams params) throws StripeException {
     return retrieve(id, params, (RequestOptions) null);
@@ -62,4 +76,19 @@ public final class TransactionService extends ApiService {
             options);
     return this.request(request, Transaction.class);
   }
+  /** Retrieves the details of an existing Transaction. */
+  public CompletableFuture<Transaction> retrieveAsync(
+      String id, TransactionRetrieveParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path = String.format("/v1/treasury/transactions/%s", ApiResource.urlEncodeId(id));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.GET,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        Transaction.class);
+  }
 }
@@ -11,6 +11,7 @@ import com.stripe.net.BaseAddress;
 import com.stripe.net.RequestOptions;
 import com.stripe.net.StripeResponseGetter;
 import com.stripe.param.v2.billing.MeterEventCreateParams;
+import java.util.concurrent.CompletableFuture;
 
 public final class MeterEventService extends ApiService {
   public MeterEventService(StripeResponseGetter responseGetter) {
@@ -42,4 +43,21 @@ public final class MeterEventService extends ApiService {
             options);
     return this.request(request, MeterEvent.class);
   }
+  /**
+   * Creates a meter event. Events are validated synchronously, but are processed asynchronously.
+   * Supports up to 1,000 events per second in livemode. For higher rate-limits, please use meter
+   * event streams instead.
+   */
+  public CompletableFuture<MeterEvent> createAsync(
+      MeterEventCreateParams params, RequestOptions options) {
+    String path = "/v2/billing/meter_events";
+    ApiRequest request =
+        new ApiRequest(
+            BaseAddress.API,
+            ApiResource.RequestMethod.POST,
+            path,
+            ApiRequestParams.paramsToMap(params),
+            options);
+    return this.requestAsync(request, MeterEvent.class);
+  }
 }
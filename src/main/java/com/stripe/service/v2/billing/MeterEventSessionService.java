@@ -9,6 +9,7 @@ import com.stripe.net.ApiService;
 import com.stripe.net.BaseAddress;
 import com.stripe.net.RequestOptions;
 import com.stripe.net.StripeResponseGetter;
+import java.util.concurrent.CompletableFuture;
 
 public final class MeterEventSessionService extends ApiService {
   public MeterEventSessionService(StripeResponseGetter responseGetter) {
@@ -34,4 +35,15 @@ public final class MeterEventSessionService extends ApiService {
         new ApiRequest(BaseAddress.API, ApiResource.RequestMethod.POST, path, null, options);
     return this.request(request, MeterEventSession.class);
   }
+  /**
+   * Creates a meter event session to send usage on the high-throughput meter event stream.
+   * Authentication tokens are only valid for 15 minutes, so you will need to create a new meter
+   * event session when your token expires.
+   */
+  public CompletableFuture<MeterEventSession> createAsync(RequestOptions options) {
+    String path = "/v2/billing/meter_event_session";
+    ApiRequest request =
+        new ApiRequest(BaseAddress.API, ApiResource.RequestMethod.POST, path, null, options);
+    return this.requestAsync(request, MeterEventSession.class);
+  }
 }
@@ -12,6 +12,7 @@ import com.stripe.net.RequestOptions;
 import com.stripe.net.StripeResponseGetter;
 import com.stripe.param.v2.billing.MeterEventStreamCreateParams;
 import com.stripe.v2.EmptyStripeObject;
+import java.util.concurrent.CompletableFuture;
 
 public final class MeterEventStreamService extends ApiService {
   public MeterEventStreamService(StripeResponseGetter responseGetter) {
@@ -44,4 +45,21 @@ public final class MeterEventStreamService extends ApiService {
             options);
     this.request(request, EmptyStripeObject.class);
   }
+  /**
+   * Creates meter events. Events are processed asynchronously, including validation. Requires a
+   * meter event session for authentication. Supports up to 10,000 requests per second in livemode.
+   * For even higher rate-limits, contact sales.
+   */
+  public CompletableFuture<Void> createAsync(
+      MeterEventStreamCreateParams params, RequestOptions options) {
+    String path = "/v2/billing/meter_event_stream";
+    ApiRequest request =
+        new ApiRequest(
+            BaseAddress.METER_EVENTS,
+            ApiResource.RequestMethod.POST,
+            path,
+            ApiRequestParams.paramsToMap(params),
+            options);
+    return this.requestAsync(request, EmptyStripeObject.class).thenAccept(response -> {});
+  }
 }
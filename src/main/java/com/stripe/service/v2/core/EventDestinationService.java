@@ -17,6 +17,7 @@ import com.stripe.param.v2.core.EventDestinationCreateParams;
 import com.stripe.param.v2.core.EventDestinationListParams;
 import com.stripe.param.v2.core.EventDestinationRetrieveParams;
 import com.stripe.param.v2.core.EventDestinationUpdateParams;
+import java.util.concurrent.CompletableFuture;
 
 public final class EventDestinationService extends ApiService {
   public EventDestinationService(StripeResponseGetter responseGetter) {
@@ -40,6 +41,19 @@ public final class EventDestinationService extends ApiService {
             options);
     return this.request(request, EventDestination.class);
   }
+  /** Create a new event destination. */
+  public CompletableFuture<EventDestination> createAsync(
+      EventDestinationCreateParams params, RequestOptions options) {
+    String path = "/v2/core/event_destinations";
+    ApiRequest request =
+        new ApiRequest(
+            BaseAddress.API,
+            ApiResource.RequestMethod.POST,
+            path,
+            ApiRequestParams.paramsToMap(params),
+            options);
+    return this.requestAsync(request, EventDestination.class);
+  }
   /** Delete an event destination. */
   public EventDestination delete(String id) throws StripeException {
     return delete(id, (RequestOptions) null);
@@ -51,6 +65,17 @@ public final class EventDestinationService extends ApiService {
         new ApiRequest(BaseAddress.API, ApiResource.RequestMethod.DELETE, path, null, options);
     return this.request(request, EventDestination.class);
   }
+  /** Delete an event destination. */
+  public CompletableFuture<EventDestination> deleteAsync(String id, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path =
+              String.format("/v2/core/event_destinations/%s", ApiResource.urlEncodeId(id));
+          return new ApiRequest(
+              BaseAddress.API, ApiResource.RequestMethod.DELETE, path, null, options);
+        },
+        EventDestination.class);
+  }
   /** Disable an event destination. */
   public EventDestination disable(String id) throws StripeException {
     return disable(id, (RequestOptions) null);
@@ -63,6 +88,17 @@ public final class EventDestinationService extends ApiService {
         new ApiRequest(BaseAddress.API, ApiResource.RequestMethod.POST, path, null, options);
     return this.request(request, EventDestination.class);
   }
+  /** Disable an event destination. */
+  public CompletableFuture<EventDestination> disableAsync(String id, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path =
+              String.format("/v2/core/event_destinations/%s/disable", ApiResource.urlEncodeId(id));
+          return new ApiRequest(
+              BaseAddress.API, ApiResource.RequestMethod.POST, path, null, options);
+        },
+        EventDestination.class);
+  }
   /** Enable an event destination. */
   public EventDestination enable(String id) throws StripeException {
     return enable(id, (RequestOptions) null);
@@ -75,6 +111,17 @@ public final class EventDestinationService extends ApiService {
         new ApiRequest(BaseAddress.API, ApiResource.RequestMethod.POST, path, null, options);
     return this.request(request, EventDestination.class);
   }
+  /** Enable an event destination. */
+  public CompletableFuture<EventDestination> enableAsync(String id, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path =
+              String.format("/v2/core/event_destinations/%s/enable", ApiResource.urlEncodeId(id));
+          return new ApiRequest(
+              BaseAddress.API, ApiResource.RequestMethod.POST, path, null, options);
+        },
+        EventDestination.class);
+  }
   /** Lists all event destinations. */
   public StripeCollection<EventDestination> list(EventDestinationListParams params)
       throws StripeException {
@@ -101,6 +148,20 @@ public final class EventDestinationService extends ApiService {
             options);
     return this.request(request, new TypeToken<StripeCollection<EventDestination>>() {}.getType());
   }
+  /** Lists all event destinations. */
+  public CompletableFuture<StripeCollection<EventDestination>> listAsync(
+      EventDestinationListParams params, RequestOptions options) {
+    String path = "/v2/core/event_destinations";
+    ApiRequest request =
+        new ApiRequest(
+            BaseAddress.API,
+            ApiResource.RequestMethod.GET,
+            path,
+            ApiRequestParams.paramsToMap(params),
+            options);
+    return this.requestAsync(
+        request, new TypeToken<StripeCollection<EventDestination>>() {}.getType());
+  }
   /** Send a {@code ping} event to an event destination. */
   public Event ping(String id) throws StripeException {
     return ping(id, (RequestOptions) null);
@@ -112,6 +173,17 @@ public final class EventDestinationService extends ApiService {
         new ApiRequest(BaseAddress.API, ApiResource.RequestMethod.POST, path, null, options);
     return this.request(request, Event.class);
   }
+  /** Send a {@code ping} event to an event destination. */
+  public CompletableFuture<Event> pingAsync(String id, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path =
+              String.format("/v2/core/event_destinations/%s/ping", ApiResource.urlEncodeId(id));
+          return new ApiRequest(
+              BaseAddress.API, ApiResource.RequestMethod.POST, path, null, options);
+        },
+        Event.class);
+  }
   /** Retrieves the details of an event destination. */
   public EventDestination retrieve(String id, EventDestinationRetrieveParams params)
       throws StripeException {
@@ -139,6 +211,22 @@ public final class EventDestinationService extends ApiService {
             options);
     return this.request(request, EventDestination.class);
   }
+  /** Retrieves the details of an event destination. */
+  public CompletableFuture<EventDestination> retrieveAsync(
+      String id, EventDestinationRetrieveParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path =
+              String.format("/v2/core/event_destinations/%s", ApiResource.urlEncodeId(id));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.GET,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        EventDestination.class);
+  }
   /** Update the details of an event destination. */
   public EventDestination update(String id, EventDestinationUpdateParams params)
       throws StripeException {
@@ -166,4 +254,20 @@ public final class EventDestinationService extends ApiService {
             options);
     return this.request(request, EventDestination.class);
   }
+  /** Update the details of an event destination. */
+  public CompletableFuture<EventDestination> updateAsync(
+      String id, EventDestinationUpdateParams params, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path =
+              String.format("/v2/core/event_destinations/%s", ApiResource.urlEncodeId(id));
+          return new ApiRequest(
+              BaseAddress.API,
+              ApiResource.RequestMethod.POST,
+              path,
+              ApiRequestParams.paramsToMap(params),
+              options);
+        },
+        EventDestination.class);
+  }
 }
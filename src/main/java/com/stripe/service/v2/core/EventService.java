@@ -13,6 +13,7 @@ import com.stripe.net.BaseAddress;
 import com.stripe.net.RequestOptions;
 import com.stripe.net.StripeResponseGetter;
 import com.stripe.param.v2.core.EventListParams;
+import java.util.concurrent.CompletableFuture;
 
 public final class EventService extends ApiService {
   public EventService(StripeResponseGetter responseGetter) {
@@ -36,6 +37,19 @@ public final class EventService extends ApiService {
             options);
     return this.request(request, new TypeToken<StripeCollection<Event>>() {}.getType());
   }
+  /** List events, going back up to 30 days. */
+  public CompletableFuture<StripeCollection<Event>> listAsync(
+      EventListParams params, RequestOptions options) {
+    String path = "/v2/core/events";
+    ApiRequest request =
+        new ApiRequest(
+            BaseAddress.API,
+            ApiResource.RequestMethod.GET,
+            path,
+            ApiRequestParams.paramsToMap(params),
+            options);
+    return this.requestAsync(request, new TypeToken<StripeCollection<Event>>() {}.getType());
+  }
   /** Retrieves the details of an event. */
   public Event retrieve(String id) throws StripeException {
     return retrieve(id, (RequestOptions) null);
@@ -47,4 +61,14 @@ public final class EventService extends ApiService {
         new ApiRequest(BaseAddress.API, ApiResource.RequestMethod.GET, path, null, options);
     return this.request(request, Event.class);
   }
+  /** Retrieves the details of an event. */
+  public CompletableFuture<Event> retrieveAsync(String id, RequestOptions options) {
+    return this.requestAsync(
+        () -> {
+          String path = String.format("/v2/core/events/%s", ApiResource.urlEncodeId(id));
+          return new ApiRequest(
+              BaseAddress.API, ApiResource.RequestMethod.GET, path, null, options);
+        },
+        Event.class);
+  }
 }
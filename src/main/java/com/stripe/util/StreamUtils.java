@@ -2,6 +2,7 @@ package com.stripe.util;
 
 import static java.util.Objects.requireNonNull;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
@@ -12,6 +13,9 @@ import lombok.Cleanup;
 public final class StreamUtils {
   private static final int DEFAULT_BUF_SIZE = 1024;
 
+  /** The largest expected length for which the content is read into a buffer of that size. */
+  private static final long MAX_PRESIZED_LENGTH = 64 * 1024 * 1024;
+
   /**
    * Reads the provided stream until the end and returns a string encoded with the provided charset.
    *
@@ -34,4 +38,54 @@ public final class StreamUtils {
     }
     return sb.toString();
   }
+
+  /**
+   * Reads the provided stream until the end and returns a string encoded with the provided charset.
+   * When the length of the content is known, e.g. from a {@code Content-Length} header, the bytes
+   * are read into a buffer of that size and decoded once, instead of being copied through growing
+   * buffers.
+   *
+   * @param stream the stream to read
+   * @param charset the charset to use
+   * @param expectedLength the number of bytes expected in the stream, or {@code -1} if unknown
+   * @return a string with the contents of the input stream
+   * @throws NullPointerException if {@code stream} or {@code charset} is {@code null}
+   * @throws IOException if an I/O error occurs
+   */
+  public static String readToEnd(InputStream stream, Charset charset, long expectedLength)
+      throws IOException {
+    requireNonNull(stream);
+    requireNonNull(charset);
+
+    if (expectedLength < 0 || expectedLength > MAX_PRESIZED_LENGTH) {
+      return readToEnd(stream, charset);
+    }
+
+    @Cleanup final InputStream in = stream;
+    final byte[] bytes = new byte[(int) expectedLength];
+    int length = 0;
+    while (length < bytes.length) {
+      int bytesRead = in.read(bytes, length, bytes.length - length);
+      if (bytesRead < 0) {
+        break;
+      }
+      length += bytesRead;
+    }
+    // Reading until the end also lets the connection be reused.
+    int next = (length < bytes.length) ? -1 : in.read();
+    if (next == -1) {
+      return new String(bytes, 0, length, charset);
+    }
+
+    // The stream is longer than expected.
+    ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length * 2 + 1);
+    out.write(bytes, 0, length);
+    out.write(next);
+    final byte[] buffer = new byte[DEFAULT_BUF_SIZE];
+    int bytesRead;
+    while ((bytesRead = in.read(buffer, 0, buffer.length)) > 0) {
+      out.write(buffer, 0, bytesRead);
+    }
+    return new String(out.toByteArray(), charset);
+  }
 }
@@ -4,6 +4,8 @@ import static java.util.Objects.requireNonNull;
 
 import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.regex.Pattern;
 
 public final class StringUtils {
@@ -47,4 +49,44 @@ public final class StringUtils {
         .replaceAll("([a-z0-9])([A-Z])", "$1_$2")
         .toLowerCase();
   }
+
+  /**
+   * Returns a random version 4 UUID as a string. Unlike {@link UUID#randomUUID()}, the random bits
+   * are drawn from a {@link ThreadLocalRandom}, which does not contend between threads, so the UUID
+   * must not be used where it should be unpredictable.
+   *
+   * @return the UUID, e.g. {@code 3b241101-e2bb-4255-8caf-4136c566a962}
+   */
+  public static String randomUuid() {
+    ThreadLocalRandom random = ThreadLocalRandom.current();
+    long mostSigBits = (random.nextLong() & ~0xf000L) | 0x4000L;
+    long leastSigBits = (random.nextLong() & ~(0xcL << 60)) | (0x8L << 60);
+    return new UUID(mostSigBits, leastSigBits).toString();
+  }
+
+  /**
+   * Returns the number of bytes of the UTF-8 encoding of a string, without encoding it.
+   *
+   * @param str the string
+   * @return the number of bytes
+   */
+  public static long utf8Length(String str) {
+    long length = 0;
+    for (int i = 0; i < str.length(); i++) {
+      char c = str.charAt(i);
+      if (c < 0x80) {
+        length += 1;
+      } else if (c < 0x800) {
+        length += 2;
+      } else if (Character.isHighSurrogate(c)
+          && i + 1 < str.length()
+          && Character.isLowSurrogate(str.charAt(i + 1))) {
+        length += 4;
+        i += 1;
+      } else {
+        length += 3;
+      }
+    }
+    return length;
+  }
 }
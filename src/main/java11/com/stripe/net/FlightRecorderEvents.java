@@ -0,0 +1,279 @@
+package com.stripe.net;
+
+import com.stripe.util.StringUtils;
+import java.lang.reflect.Type;
+import java.time.Duration;
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * Emits Java Flight Recorder events for API requests, retries, webhook verifications and
+ * deserializations, so that they can be correlated with garbage collections, lock contention and
+ * other JVM events in the same recording.
+ *
+ * <p>This is the Java 11 version of this class, packaged in the multi-release section of the
+ * library's JAR. The events are in the {@code Stripe} category and, like other custom events, are
+ * enabled in every recording unless its settings disable them, e.g. with {@code
+ * com.stripe.Request#enabled=false}. When no recording is running, beginning an event only checks a
+ * flag and allocates nothing. Runtime images without the {@code jdk.jfr} module record nothing.
+ *
+ * <p>Events that have a duration are begun with a {@code begin} method, which returns an opaque
+ * handle, or {@code null} if the event is not recorded, and completed with the matching {@code
+ * commit} method.
+ */
+final class FlightRecorderEvents {
+  /** Whether the {@code jdk.jfr} module is present, as it may be left out of custom images. */
+  private static final boolean AVAILABLE = ModuleLayer.boot().findModule("jdk.jfr").isPresent();
+
+  private FlightRecorderEvents() {}
+
+  /**
+   * Begins the event of an API request.
+   *
+   * @return the event, or {@code null} if it is not recorded
+   */
+  static Object beginRequest() {
+    if (!AVAILABLE || !EventTypes.REQUEST.isEnabled()) {
+      return null;
+    }
+    RequestEvent event = new RequestEvent();
+    event.begin();
+    return event;
+  }
+
+  /**
+   * Completes the event of an API request.
+   *
+   * @param event the event returned by {@link #beginRequest}, or {@code null}
+   * @param endpoint the endpoint template of the request
+   * @param method the HTTP method of the request
+   * @param statusCode the HTTP status code of the response, or {@code 0} if there is none
+   * @param requestId the ID of the request, or {@code null} if there is no response
+   * @param attempts the number of times the request was sent, or {@code 0} if not known
+   * @param requestBytes the size of the request body in bytes
+   * @param responseBytes the size of the response body in bytes, or {@code -1} if not known
+   */
+  static void commitRequest(
+      Object event,
+      String endpoint,
+      ApiResource.RequestMethod method,
+      int statusCode,
+      String requestId,
+      int attempts,
+      long requestBytes,
+      long responseBytes) {
+    if (event == null) {
+      return;
+    }
+    RequestEvent requestEvent = (RequestEvent) event;
+    requestEvent.end();
+    if (!requestEvent.shouldCommit()) {
+      return;
+    }
+    requestEvent.endpoint = endpoint;
+    requestEvent.method = method.name();
+    requestEvent.statusCode = statusCode;
+    requestEvent.requestId = requestId;
+    requestEvent.attempts = attempts;
+    requestEvent.requestBytes = requestBytes;
+    requestEvent.responseBytes = responseBytes;
+    requestEvent.commit();
+  }
+
+  /**
+   * Records that a request is about to be retried.
+   *
+   * @param request the request
+   * @param retry the number of the retry, starting at 1
+   * @param statusCode the HTTP status code of the failed attempt, or {@code 0} if there is none
+   * @param requestId the ID of the failed attempt, or {@code null} if there is none
+   * @param delay how long to wait before the retry
+   */
+  static void retry(
+      StripeRequest request, int retry, int statusCode, String requestId, Duration delay) {
+    if (!AVAILABLE || !EventTypes.RETRY.isEnabled()) {
+      return;
+    }
+    RetryEvent event = new RetryEvent();
+    event.endpoint = EndpointTemplates.of(request.url().getPath());
+    event.method = request.method().name();
+    event.retry = retry;
+    event.statusCode = statusCode;
+    event.requestId = requestId;
+    event.delay = delay.toNanos();
+    event.commit();
+  }
+
+  /**
+   * Begins the event of a webhook signature verification.
+   *
+   * @return the event, or {@code null} if it is not recorded
+   */
+  static Object beginWebhookVerification() {
+    if (!AVAILABLE || !EventTypes.WEBHOOK_VERIFICATION.isEnabled()) {
+      return null;
+    }
+    WebhookVerificationEvent event = new WebhookVerificationEvent();
+    event.begin();
+    return event;
+  }
+
+  /**
+   * Completes the event of a webhook signature verification.
+   *
+   * @param event the event returned by {@link #beginWebhookVerification}, or {@code null}
+   * @param payload the payload of the webhook
+   * @param verified whether the signature is valid
+   */
+  static void commitWebhookVerification(Object event, String payload, boolean verified) {
+    if (event == null) {
+      return;
+    }
+    WebhookVerificationEvent verificationEvent = (WebhookVerificationEvent) event;
+    verificationEvent.end();
+    if (!verificationEvent.shouldCommit()) {
+      return;
+    }
+    verificationEvent.payloadBytes = (payload != null) ? StringUtils.utf8Length(payload) : 0;
+    verificationEvent.verified = verified;
+    verificationEvent.commit();
+  }
+
+  /**
+   * Begins the event of the deserialization of a Stripe object.
+   *
+   * @return the event, or {@code null} if it is not recorded
+   */
+  static Object beginDeserialization() {
+    if (!AVAILABLE || !EventTypes.DESERIALIZATION.isEnabled()) {
+      return null;
+    }
+    DeserializationEvent event = new DeserializationEvent();
+    event.begin();
+    return event;
+  }
+
+  /**
+   * Completes the event of the deserialization of a Stripe object.
+   *
+   * @param event the event returned by {@link #beginDeserialization}, or {@code null}
+   * @param type the type the payload was deserialized to
+   * @param payload the JSON payload, or {@code null} if it was read from a stream
+   */
+  static void commitDeserialization(Object event, Type type, String payload) {
+    if (event == null) {
+      return;
+    }
+    DeserializationEvent deserializationEvent = (DeserializationEvent) event;
+    deserializationEvent.end();
+    if (!deserializationEvent.shouldCommit()) {
+      return;
+    }
+    deserializationEvent.type = type.getTypeName();
+    deserializationEvent.payloadBytes = (payload != null) ? StringUtils.utf8Length(payload) : 0;
+    deserializationEvent.commit();
+  }
+
+  /**
+   * The types of the events, which are only registered if the {@code jdk.jfr} module is present.
+   */
+  private static final class EventTypes {
+    static final EventType REQUEST = EventType.getEventType(RequestEvent.class);
+    static final EventType RETRY = EventType.getEventType(RetryEvent.class);
+    static final EventType WEBHOOK_VERIFICATION =
+        EventType.getEventType(WebhookVerificationEvent.class);
+    static final EventType DESERIALIZATION = EventType.getEventType(DeserializationEvent.class);
+  }
+
+  @Name("com.stripe.Request")
+  @Label("Stripe Request")
+  @Category("Stripe")
+  @Description("A request to Stripe's API, from the moment it was made until it was processed")
+  @StackTrace(false)
+  private static final class RequestEvent extends Event {
+    @Label("Endpoint")
+    String endpoint;
+
+    @Label("Method")
+    String method;
+
+    @Label("Status Code")
+    int statusCode;
+
+    @Label("Request ID")
+    String requestId;
+
+    @Label("Attempts")
+    int attempts;
+
+    @Label("Request Size")
+    @DataAmount
+    long requestBytes;
+
+    @Label("Response Size")
+    @DataAmount
+    long responseBytes;
+  }
+
+  @Name("com.stripe.Retry")
+  @Label("Stripe Retry")
+  @Category("Stripe")
+  @Description("A request to Stripe's API that is about to be retried")
+  @StackTrace(false)
+  private static final class RetryEvent extends Event {
+    @Label("Endpoint")
+    String endpoint;
+
+    @Label("Method")
+    String method;
+
+    @Label("Retry")
+    int retry;
+
+    @Label("Status Code")
+    @Description("The status code of the failed attempt, or 0 if it received no response")
+    int statusCode;
+
+    @Label("Request ID")
+    String requestId;
+
+    @Label("Delay")
+    @Timespan
+    long delay;
+  }
+
+  @Name("com.stripe.WebhookVerification")
+  @Label("Stripe Webhook Verification")
+  @Category("Stripe")
+  @Description("The verification of the signature of a webhook sent by Stripe")
+  @StackTrace(false)
+  private static final class WebhookVerificationEvent extends Event {
+    @Label("Payload Size")
+    @DataAmount
+    long payloadBytes;
+
+    @Label("Verified")
+    boolean verified;
+  }
+
+  @Name("com.stripe.Deserialization")
+  @Label("Stripe Deserialization")
+  @Category("Stripe")
+  @Description("The deserialization of a Stripe object from JSON")
+  @StackTrace(false)
+  private static final class DeserializationEvent extends Event {
+    @Label("Type")
+    String type;
+
+    @Label("Payload Size")
+    @DataAmount
+    long payloadBytes;
+  }
+}
@@ -0,0 +1,314 @@
+package com.stripe.net;
+
+import com.stripe.Stripe;
+import com.stripe.exception.ApiConnectionException;
+import com.stripe.exception.StripeException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetSocketAddress;
+import java.net.PasswordAuthentication;
+import java.net.Proxy;
+import java.net.ProxySelector;
+import java.net.SocketTimeoutException;
+import java.net.URISyntaxException;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * An {@link HttpClient} backed by the {@code java.net.http.HttpClient} added in Java 11. Concurrent
+ * requests to the same host are multiplexed over a small number of HTTP/2 connections instead of
+ * each occupying its own socket.
+ *
+ * <p>Requests through a SOCKS proxy, which {@code java.net.http.HttpClient} does not support, are
+ * sent with an {@link HttpURLConnectionClient} instead.
+ *
+ * <p>This is the Java 11 version of this class, packaged in the multi-release section of the
+ * library's JAR.
+ */
+public class JdkHttpClient extends HttpClient {
+  /**
+   * The underlying clients, keyed by the settings that {@code java.net.http.HttpClient} only
+   * supports at the client level (connect timeout and proxy). In practice a {@link JdkHttpClient}
+   * holds a single underlying client, and thus a single connection pool, per distinct set of
+   * options.
+   */
+  private final Map<List<Object>, java.net.http.HttpClient> clients = new ConcurrentHashMap<>();
+
+  /**
+   * Sends the requests going through a SOCKS proxy, which {@code java.net.http.HttpClient} does not
+   * support.
+   */
+  private final HttpURLConnectionClient socksClient = new HttpURLConnectionClient();
+
+  /** Initializes a new instance of the {@link JdkHttpClient}. */
+  public JdkHttpClient() {
+    super();
+  }
+
+  /**
+   * Returns whether {@link JdkHttpClient} can be used on the current runtime.
+   *
+   * @return {@code true} if running on Java 11 or later, {@code false} otherwise
+   */
+  public static boolean isSupported() {
+    return true;
+  }
+
+  /**
+   * Sends the given request to Stripe's API, and returns a buffered response.
+   *
+   * @param request the request
+   * @return the response
+   * @throws ApiConnectionException if an error occurs when sending or receiving
+   */
+  @Override
+  public StripeResponse request(StripeRequest request) throws StripeException {
+    if (usesSocksProxy(request.options())) {
+      return this.socksClient.request(request);
+    }
+
+    TimedBodyHandler<String> bodyHandler =
+        new TimedBodyHandler<>(HttpResponse.BodyHandlers.ofString(ApiResource.CHARSET));
+    HttpResponse<String> response = send(request, bodyHandler);
+    StripeResponse stripeResponse =
+        new StripeResponse(
+            response.statusCode(), HttpHeaders.of(response.headers().map()), response.body());
+    stripeResponse.timings(bodyHandler.timings(true));
+    return stripeResponse;
+  }
+
+  /**
+   * Sends the given request to Stripe's API without blocking the calling thread, and returns a
+   * buffered response.
+   *
+   * @param request the request
+   * @return a future completed with the response, or completed exceptionally with an {@link
+   *     ApiConnectionException} if an error occurs when sending or receiving
+   */
+  @Override
+  public CompletableFuture<StripeResponse> requestAsync(StripeRequest request) {
+    if (usesSocksProxy(request.options())) {
+      return this.socksClient.requestAsync(request);
+    }
+
+    HttpRequest httpRequest;
+    try {
+      httpRequest = buildRequest(request);
+    } catch (ApiConnectionException e) {
+      return CompletableFuture.failedFuture(e);
+    }
+
+    TimedBodyHandler<String> bodyHandler =
+        new TimedBodyHandler<>(HttpResponse.BodyHandlers.ofString(ApiResource.CHARSET));
+    return getClient(request.options())
+        .sendAsync(httpRequest, bodyHandler)
+        .handle(
+            (response, e) -> {
+              if (e != null) {
+                Throwable cause = AsyncSupport.unwrap(e);
+                throw new CompletionException(
+                    cause instanceof IOException
+                        ? toConnectionException((IOException) cause)
+                        : cause);
+              }
+              StripeResponse stripeResponse =
+                  new StripeResponse(
+                      response.statusCode(),
+                      HttpHeaders.of(response.headers().map()),
+                      response.body());
+              stripeResponse.timings(bodyHandler.timings(true));
+              return stripeResponse;
+            });
+  }
+
+  /**
+   * Sends the given request to Stripe's API, streaming the response body.
+   *
+   * @param request the request
+   * @return the response
+   * @throws ApiConnectionException if an error occurs when sending or receiving
+   */
+  @Override
+  public StripeResponseStream requestStream(StripeRequest request) throws StripeException {
+    if (usesSocksProxy(request.options())) {
+      return this.socksClient.requestStream(request);
+    }
+
+    TimedBodyHandler<InputStream> bodyHandler =
+        new TimedBodyHandler<>(HttpResponse.BodyHandlers.ofInputStream());
+    HttpResponse<InputStream> response = send(request, bodyHandler);
+    StripeResponseStream stripeResponse =
+        new StripeResponseStream(
+            response.statusCode(), HttpHeaders.of(response.headers().map()), response.body());
+    stripeResponse.timings(bodyHandler.timings(false));
+    return stripeResponse;
+  }
+
+  /**
+   * Caps only the read timeout, which is the timeout of the whole exchange, connection included.
+   * The connect timeout is a setting of the underlying client, so capping it would build a new
+   * client, with its own connection pool, for nearly every attempt.
+   */
+  @Override
+  StripeRequest capTimeouts(StripeRequest request, long remaining) {
+    RequestOptions options = request.options();
+    int readTimeout = capTimeout(options.getReadTimeout(), remaining);
+    return request.withOptions(options.withTimeouts(options.getConnectTimeout(), readTimeout));
+  }
+
+  private <T> HttpResponse<T> send(StripeRequest request, HttpResponse.BodyHandler<T> bodyHandler)
+      throws ApiConnectionException {
+    try {
+      return getClient(request.options()).send(buildRequest(request), bodyHandler);
+    } catch (IOException e) {
+      throw toConnectionException(e);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw buildConnectionException(new IOException("Request interrupted", e));
+    }
+  }
+
+  static HttpRequest buildRequest(StripeRequest request) throws ApiConnectionException {
+    HttpRequest.Builder builder;
+    try {
+      builder = HttpRequest.newBuilder(request.url().toURI());
+    } catch (URISyntaxException e) {
+      throw buildConnectionException(new IOException(e));
+    }
+
+    // As with HttpURLConnection, a timeout of zero is interpreted as an infinite timeout. The
+    // timeout also covers opening the connection, so it bounds the whole attempt.
+    if (request.options().getReadTimeout() > 0) {
+      builder.timeout(Duration.ofMillis(request.options().getReadTimeout()));
+    }
+
+    for (Map.Entry<String, List<String>> entry :
+        HttpURLConnectionClient.getHeaders(request).map().entrySet()) {
+      builder.header(entry.getKey(), String.join(",", entry.getValue()));
+    }
+
+    HttpRequest.BodyPublisher body = HttpRequest.BodyPublishers.noBody();
+    if (request.content() != null) {
+      // V2 requests already carry a Content-Type header, which must be replaced, not repeated.
+      builder.setHeader("Content-Type", request.content().contentType());
+      body = HttpRequest.BodyPublishers.ofByteArray(request.content().byteArrayContent());
+    }
+    builder.method(request.method().name(), body);
+
+    return builder.build();
+  }
+
+  /** Returns the number of underlying clients, each with its own connection pool. */
+  int clientCount() {
+    return this.clients.size();
+  }
+
+  private java.net.http.HttpClient getClient(RequestOptions options) {
+    List<Object> key =
+        Arrays.asList(
+            options.getConnectTimeout(),
+            options.getConnectionProxy(),
+            options.getProxyCredential());
+    return this.clients.computeIfAbsent(key, k -> buildClient(options));
+  }
+
+  private static java.net.http.HttpClient buildClient(RequestOptions options) {
+    java.net.http.HttpClient.Builder builder =
+        java.net.http.HttpClient.newBuilder()
+            .version(java.net.http.HttpClient.Version.HTTP_2)
+            .followRedirects(java.net.http.HttpClient.Redirect.NORMAL);
+
+    if (options.getConnectTimeout() > 0) {
+      builder.connectTimeout(Duration.ofMillis(options.getConnectTimeout()));
+    }
+
+    Proxy proxy = options.getConnectionProxy();
+    if (proxy != null) {
+      if (proxy.type() == Proxy.Type.DIRECT) {
+        builder.proxy(java.net.http.HttpClient.Builder.NO_PROXY);
+      } else {
+        // SOCKS proxies never get here, see usesSocksProxy.
+        builder.proxy(ProxySelector.of((InetSocketAddress) proxy.address()));
+      }
+
+      PasswordAuthentication credential = options.getProxyCredential();
+      if (credential != null) {
+        builder.authenticator(
+            new java.net.Authenticator() {
+              @Override
+              protected PasswordAuthentication getPasswordAuthentication() {
+                return credential;
+              }
+            });
+      }
+    }
+
+    return builder.build();
+  }
+
+  private static boolean usesSocksProxy(RequestOptions options) {
+    Proxy proxy = options.getConnectionProxy();
+    return proxy != null && proxy.type() == Proxy.Type.SOCKS;
+  }
+
+  private static ApiConnectionException toConnectionException(IOException e) {
+    if (e instanceof HttpTimeoutException) {
+      // Surface timeouts the same way HttpURLConnection does, so that they are retried.
+      SocketTimeoutException timeout = new SocketTimeoutException(e.getMessage());
+      timeout.initCause(e);
+      return buildConnectionException(timeout);
+    }
+    return buildConnectionException(e);
+  }
+
+  private static ApiConnectionException buildConnectionException(IOException e) {
+    return new ApiConnectionException(
+        String.format(
+            "IOException during API request to Stripe (%s): %s "
+                + "Please check your internet connection and try again. If this problem persists,"
+                + "you should check Stripe's service status at https://twitter.com/stripestatus,"
+                + " or let us know at support@stripe.com.",
+            Stripe.getApiBase(), e.getMessage()),
+        e);
+  }
+
+  /**
+   * Records when the response headers were received, to time the request. The connection is managed
+   * by {@code java.net.http.HttpClient}, so opening it cannot be timed apart and counts towards the
+   * time to first byte.
+   */
+  private static final class TimedBodyHandler<T> implements HttpResponse.BodyHandler<T> {
+    private final HttpResponse.BodyHandler<T> delegate;
+    private final long startNanos = System.nanoTime();
+    private volatile long headersNanos;
+
+    TimedBodyHandler(HttpResponse.BodyHandler<T> delegate) {
+      this.delegate = delegate;
+    }
+
+    @Override
+    public HttpResponse.BodySubscriber<T> apply(HttpResponse.ResponseInfo responseInfo) {
+      this.headersNanos = System.nanoTime();
+      return this.delegate.apply(responseInfo);
+    }
+
+    /**
+     * Returns the timings of the request, once its response was received.
+     *
+     * @param buffered whether the body has been read, rather than streamed to the caller
+     */
+    RequestTimings timings(boolean buffered) {
+      return RequestTimings.NONE
+          .withTimeToFirstByte(Duration.ofNanos(this.headersNanos - this.startNanos))
+          .withDownload(buffered ? Duration.ofNanos(System.nanoTime() - this.headersNanos) : null);
+    }
+  }
+}
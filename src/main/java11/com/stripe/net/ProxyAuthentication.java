@@ -0,0 +1,36 @@
+package com.stripe.net;
+
+import java.net.Authenticator;
+import java.net.HttpURLConnection;
+import java.net.PasswordAuthentication;
+
+/**
+ * Supplies the proxy credential of a request to the {@code HttpURLConnection} sending it.
+ *
+ * <p>This is the Java 11 version of this class, packaged in the multi-release section of the
+ * library's JAR. The credential is set on the connection itself, so clients with different proxy
+ * credentials do not interfere with each other or with the process-wide default {@link
+ * Authenticator}.
+ */
+final class ProxyAuthentication {
+  private ProxyAuthentication() {}
+
+  /**
+   * Makes the given connection authenticate to its proxy with the given credential.
+   *
+   * @param conn the connection, not yet connected
+   * @param credential the proxy credential, or {@code null} if the proxy requires none
+   */
+  static void apply(HttpURLConnection conn, PasswordAuthentication credential) {
+    if (credential == null) {
+      return;
+    }
+    conn.setAuthenticator(
+        new Authenticator() {
+          @Override
+          protected PasswordAuthentication getPasswordAuthentication() {
+            return (getRequestorType() == RequestorType.PROXY) ? credential : null;
+          }
+        });
+  }
+}
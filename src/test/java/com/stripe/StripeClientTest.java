@@ -9,16 +9,21 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import com.google.gson.Gson;
 import com.google.gson.JsonArray;
 import com.google.gson.JsonObject;
+import com.google.gson.reflect.TypeToken;
 import com.stripe.exception.SignatureVerificationException;
 import com.stripe.exception.StripeException;
+import com.stripe.model.Customer;
 import com.stripe.model.ThinEvent;
 import com.stripe.model.terminal.Reader;
 import com.stripe.net.*;
+import java.lang.reflect.Field;
 import java.lang.reflect.Type;
 import java.security.InvalidKeyException;
 import java.security.NoSuchAlgorithmException;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -98,6 +103,110 @@ public class StripeClientTest extends BaseStripeTest {
     assertTrue(Mockito.mockingDetails(responseGetter).getInvocations().stream().count() > 0);
   }
 
+  @Test
+  public void testWarmUpOpensConnections() throws StripeException {
+    mockClient.warmUp(
+        WarmUpOptions.builder()
+            .setConnectionsPerBaseAddress(2)
+            .setModelClasses(Customer.class)
+            .build());
+
+    Mockito.verify(httpClientSpy, Mockito.times(2))
+        .requestAsync(Mockito.argThat(r -> "/healthcheck".equals(r.url().getPath())));
+  }
+
+  @Test
+  public void testWarmUpBuildsDeserializers() throws Exception {
+    mockClient.warmUp(
+        WarmUpOptions.builder().setModelClasses(com.stripe.model.climate.Supplier.class).build());
+
+    // The adapters must be cached by the Gson instance responses are deserialized with.
+    Field cache = Gson.class.getDeclaredField("typeTokenCache");
+    cache.setAccessible(true);
+    Map<?, ?> adapters = (Map<?, ?>) cache.get(ApiResource.INTERNAL_GSON);
+    assertTrue(adapters.containsKey(TypeToken.get(com.stripe.model.climate.Supplier.class)));
+  }
+
+  @Test
+  public void testRequestTimings() throws StripeException {
+    List<RequestTimings> recorded = new ArrayList<>();
+    StripeClient client =
+        StripeClient.builder()
+            .setApiKey("sk_test_123")
+            .setApiBase(Stripe.getApiBase())
+            .setRequestTimingsListener((request, statusCode, timings) -> recorded.add(timings))
+            .build();
+
+    Customer customer = client.customers().retrieve("cus_123");
+
+    assertEquals(1, recorded.size());
+    RequestTimings timings = recorded.get(0);
+    assertEquals(timings, customer.getLastResponse().timings());
+    assertNotNull(timings.queue());
+    assertNotNull(timings.connect());
+    assertNotNull(timings.timeToFirstByte());
+    assertNotNull(timings.download());
+    assertNotNull(timings.parse());
+    assertTrue(timings.total().compareTo(timings.timeToFirstByte()) >= 0);
+    assertEquals(0, timings.numRetries());
+  }
+
+  @Test
+  public void testMetricsListener() throws StripeException {
+    HistogramMetricsListener metrics = new HistogramMetricsListener();
+    StripeClient client =
+        StripeClient.builder()
+            .setApiKey("sk_test_123")
+            .setApiBase(Stripe.getApiBase())
+            .setMetricsListener(metrics)
+            .build();
+
+    client.customers().retrieve("cus_123");
+    client.customers().retrieve("cus_456");
+
+    HistogramMetricsListener.EndpointStats stats = metrics.getStats().get("GET /v1/customers/{id}");
+    assertEquals(2, stats.getRequests());
+    assertEquals(0, stats.getErrors());
+    assertEquals(0, stats.getRetries());
+    assertTrue(stats.getResponseBytes() > 0);
+    assertEquals(2, stats.getLatency().count());
+  }
+
+  @Test
+  public void testStreamingDeserialization() throws StripeException {
+    StripeClient client =
+        StripeClient.builder()
+            .setApiKey("sk_test_123")
+            .setApiBase(Stripe.getApiBase())
+            .setStreamingDeserialization(true)
+            .build();
+
+    Customer customer = client.customers().retrieve("cus_123");
+
+    assertNotNull(customer.getId());
+    assertEquals(200, customer.getLastResponse().code());
+  }
+
+  @Test
+  public void testLeanResponses() throws StripeException {
+    StripeClient client =
+        StripeClient.builder()
+            .setApiKey("sk_test_123")
+            .setApiBase(Stripe.getApiBase())
+            .setLeanResponses(true)
+            .build();
+
+    Customer customer = client.customers().retrieve("cus_123");
+    assertEquals(200, customer.getLastResponse().code());
+    assertEquals("", customer.getLastResponse().body());
+    assertNull(customer.getRawJsonObject());
+
+    RequestOptions fullResponse = RequestOptions.builder().setLeanResponses(false).build();
+    Customer fullCustomer = client.customers().retrieve("cus_123", fullResponse);
+    assertTrue(fullCustomer.getLastResponse().body().length() > 0);
+    assertNotNull(fullCustomer.getRawJsonObject());
+  }
+
   @Test
   public void clientOptionsDefaults() {
     StripeResponseGetterOptions options = StripeClient.builder().setApiKey("sk_123").buildOptions();
@@ -0,0 +1,91 @@
+package com.stripe.functional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.stripe.BaseStripeTest;
+import com.stripe.StripeClient;
+import com.stripe.exception.InvalidRequestException;
+import com.stripe.model.Customer;
+import com.stripe.model.StripeCollection;
+import com.stripe.net.ApiResource;
+import com.stripe.param.CustomerCreateParams;
+import com.stripe.param.CustomerListParams;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import lombok.Cleanup;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.jupiter.api.Test;
+
+public class AsyncRequestTest extends BaseStripeTest {
+  @Test
+  public void testRetrieveAsync() throws Exception {
+    CompletableFuture<Customer> future =
+        mockClient.customers().retrieveAsync("cus_123", null, null);
+
+    Customer customer = future.get();
+
+    assertNotNull(customer);
+    assertNotNull(customer.getLastResponse());
+  }
+
+  @Test
+  public void testCreateAsync() throws Exception {
+    Customer customer =
+        mockClient
+            .customers()
+            .createAsync(CustomerCreateParams.builder().setEmail("jenny@example.com").build(), null)
+            .get();
+
+    assertNotNull(customer);
+    verifyStripeRequest(
+        (request) -> {
+          assertEquals(ApiResource.RequestMethod.POST, request.method());
+          assertEquals("/v1/customers", request.url().getPath());
+          assertEquals("email=jenny%40example.com", request.content().stringContent());
+        });
+  }
+
+  @Test
+  public void testListAsync() throws Exception {
+    StripeCollection<Customer> customers =
+        mockClient.customers().listAsync(CustomerListParams.builder().build(), null).get();
+
+    assertNotNull(customers);
+    assertNotNull(customers.getData());
+  }
+
+  @Test
+  public void testErrorCompletesExceptionally() throws Exception {
+    @Cleanup MockWebServer server = new MockWebServer();
+    server.enqueue(
+        new MockResponse()
+            .setResponseCode(404)
+            .setBody("{\"error\": {\"message\": \"No such customer\", \"param\": \"id\"}}"));
+    server.start();
+
+    StripeClient client =
+        StripeClient.builder()
+            .setApiKey("sk_test_123")
+            .setApiBase(server.url("").toString())
+            .build();
+
+    CompletableFuture<Customer> future = client.customers().retrieveAsync("cus_404", null, null);
+
+    ExecutionException e = assertThrows(ExecutionException.class, future::get);
+    assertTrue(e.getCause() instanceof InvalidRequestException);
+    assertEquals("id", ((InvalidRequestException) e.getCause()).getParam());
+  }
+
+  @Test
+  public void testInvalidIdCompletesExceptionally() throws Exception {
+    CompletableFuture<Customer> future = mockClient.customers().retrieveAsync(null, null, null);
+
+    ExecutionException e = assertThrows(ExecutionException.class, future::get);
+    assertTrue(e.getCause() instanceof InvalidRequestException);
+    verifyNoRequest();
+  }
+}
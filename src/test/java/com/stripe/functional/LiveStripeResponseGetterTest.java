@@ -1,12 +1,16 @@
 package com.stripe.functional;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import com.google.gson.JsonSyntaxException;
 import com.stripe.BaseStripeTest;
+import com.stripe.StripeClient;
 import com.stripe.exception.ApiException;
+import com.stripe.exception.CardException;
 import com.stripe.exception.IdempotencyException;
 import com.stripe.exception.StripeException;
 import com.stripe.model.Subscription;
@@ -78,4 +82,60 @@ public class LiveStripeResponseGetterTest extends BaseStripeTest {
           Subscription.retrieve("sub_123");
         });
   }
+
+  @Test
+  public void testCardErrorWithoutStackTrace() throws StripeException {
+    HttpClient spy = Mockito.spy(new HttpURLConnectionClient());
+    StripeClient client =
+        StripeClient.builder()
+            .setApiKey("sk_test_123")
+            .setHttpClient(spy)
+            .setStacklessBusinessExceptions(true)
+            .build();
+    StripeResponse response =
+        new StripeResponse(
+            402,
+            HttpHeaders.of(Collections.emptyMap()),
+            "{\"error\": {\"message\": \"Your card was declined.\", \"type\": \"card_error\","
+                + " \"code\": \"card_declined\", \"decline_code\": \"generic_decline\"}}");
+    Mockito.doReturn(response).when(spy).requestWithRetries(Mockito.<StripeRequest>any());
+
+    CardException exception =
+        assertThrows(CardException.class, () -> client.customers().retrieve("cus_123"));
+    assertEquals("card_declined", exception.getCode());
+    assertEquals("generic_decline", exception.getDeclineCode());
+    assertEquals("Your card was declined.", exception.getStripeError().getMessage());
+    assertEquals(0, exception.getStackTrace().length);
+  }
+
+  @Test
+  public void testCardErrorWithStackTraceByDefault() throws StripeException {
+    HttpClient spy = Mockito.spy(new HttpURLConnectionClient());
+    StripeClient client =
+        StripeClient.builder().setApiKey("sk_test_123").setHttpClient(spy).build();
+    StripeResponse response =
+        new StripeResponse(
+            402,
+            HttpHeaders.of(Collections.emptyMap()),
+            "{\"error\": {\"message\": \"Your card was declined.\", \"type\": \"card_error\"}}");
+    Mockito.doReturn(response).when(spy).requestWithRetries(Mockito.<StripeRequest>any());
+
+    CardException exception =
+        assertThrows(CardException.class, () -> client.customers().retrieve("cus_123"));
+    assertNotEquals(0, exception.getStackTrace().length);
+  }
+
+  @Test
+  public void testErrorWithoutErrorField() throws StripeException {
+    HttpClient spy = Mockito.spy(new HttpURLConnectionClient());
+    StripeResponseGetter srg = new LiveStripeResponseGetter(spy);
+    ApiResource.setGlobalResponseGetter(srg);
+    StripeResponse response =
+        new StripeResponse(
+            402, HttpHeaders.of(Collections.emptyMap()), "{\"other\": {\"error\": \"nope\"}}");
+    Mockito.doReturn(response).when(spy).requestWithRetries(Mockito.<StripeRequest>any());
+    Exception exception = assertThrows(ApiException.class, () -> Subscription.retrieve("sub_123"));
+    assertThat(
+        exception.getMessage(), CoreMatchers.containsString("Invalid response object from API"));
+  }
 }
@@ -15,6 +15,7 @@ import com.stripe.net.ApiService;
 import com.stripe.net.BaseAddress;
 import com.stripe.net.HttpHeaders;
 import com.stripe.net.RequestOptions;
+import com.stripe.net.RequestPriority;
 import com.stripe.net.StripeRequest;
 import com.stripe.net.StripeResponse;
 import com.stripe.net.StripeResponseGetter;
@@ -210,6 +211,9 @@ public class StripeCollectionTest extends BaseStripeTest {
 
     // no params needed or wanted with the nextPageUrl
     final Map<String, Object> nextPageParams = new HashMap<>();
+    // Further pages are fetched as bulk work.
+    final RequestOptions bulkOptions =
+        RequestOptions.withDefaultPriority(requestOptions, RequestPriority.BULK);
 
     assertEquals(5, models.size());
 
@@ -220,13 +224,13 @@ public class StripeCollectionTest extends BaseStripeTest {
         ApiResource.RequestMethod.GET,
         "/v2/pageable_models/page_1",
         nextPageParams,
-        requestOptions);
+        bulkOptions);
     verifyRequest(
         BaseAddress.API,
         ApiResource.RequestMethod.GET,
         "/v2/pageable_models/page_2",
         nextPageParams,
-        requestOptions);
+        bulkOptions);
 
     verifyNoMoreInteractions(networkSpy);
   }
@@ -0,0 +1,102 @@
+package com.stripe.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.google.gson.FieldNamingPolicy;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonElement;
+import com.google.gson.reflect.TypeToken;
+import com.stripe.BaseStripeTest;
+import com.stripe.model.billingportal.Session;
+import com.stripe.model.oauth.TokenResponse;
+import com.stripe.net.ApiResource;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+public class ModelTypeAdaptersTest extends BaseStripeTest {
+  /** Returns a Gson like {@link ApiResource#INTERNAL_GSON}, without the generated adapters. */
+  private static Gson createReflectiveGson() {
+    return new GsonBuilder()
+        .setFieldNamingPolicy(FieldNamingPolicy.LOWER_CASE_WITH_UNDERSCORES)
+        .registerTypeAdapter(Event.Data.class, new EventDataDeserializer())
+        .registerTypeAdapter(Event.Request.class, new EventRequestDeserializer())
+        .registerTypeAdapter(ExpandableField.class, new ExpandableFieldDeserializer())
+        .registerTypeAdapter(Instant.class, new InstantDeserializer())
+        .registerTypeAdapterFactory(new BalanceTransactionSourceTypeAdapterFactory())
+        .registerTypeAdapterFactory(new ExternalAccountTypeAdapterFactory())
+        .registerTypeAdapterFactory(new PaymentSourceTypeAdapterFactory())
+        .create();
+  }
+
+  @Test
+  public void testCreatesAdapterOfModelAndNestedClasses() {
+    ModelTypeAdapterFactory factory = new ModelTypeAdapterFactory();
+
+    assertTrue(
+        factory.create(ApiResource.GSON, TypeToken.get(Customer.class))
+            instanceof ModelTypeAdapter);
+    assertTrue(
+        factory.create(ApiResource.GSON, TypeToken.get(Charge.Outcome.class))
+            instanceof ModelTypeAdapter);
+    assertNull(factory.create(ApiResource.GSON, TypeToken.get(StripeCollection.class)));
+    assertNull(factory.create(ApiResource.GSON, TypeToken.get(String.class)));
+  }
+
+  @Test
+  public void testReadsAndWritesLikeReflectiveAdapters() throws Exception {
+    final Map<String, Class<?>> fixtures = new LinkedHashMap<>();
+    fixtures.put("bank_account.json", BankAccount.class);
+    fixtures.put("billingportal/session.json", Session.class);
+    fixtures.put("charge_outcome.json", Charge.Outcome.class);
+    fixtures.put("customer_with_sources_and_tax_ids.json", Customer.class);
+    fixtures.put("event_plan.json", Event.class);
+    fixtures.put("invoice_with_discount_objects.json", Invoice.class);
+    fixtures.put("payment_intent_with_expansions.json", PaymentIntent.class);
+    fixtures.put("setup_attempt.json", SetupAttempt.class);
+    fixtures.put("subscription.json", Subscription.class);
+
+    final Gson reflectiveGson = createReflectiveGson();
+    for (Map.Entry<String, Class<?>> fixture : fixtures.entrySet()) {
+      final String json = getResourceAsString("/api_fixtures/" + fixture.getKey());
+
+      final Object expected = reflectiveGson.fromJson(json, fixture.getValue());
+      final Object actual = ApiResource.INTERNAL_GSON.fromJson(json, fixture.getValue());
+
+      // The trees are compared, as the nested objects do not all implement equals.
+      final JsonElement expectedTree = reflectiveGson.toJsonTree(expected);
+      assertEquals(expectedTree, reflectiveGson.toJsonTree(actual), fixture.getKey());
+      assertEquals(expectedTree, ApiResource.INTERNAL_GSON.toJsonTree(expected), fixture.getKey());
+    }
+  }
+
+  @Test
+  public void testReadsUnknownFieldsAndNullsLikeReflectiveAdapters() {
+    final String json =
+        "{\"id\": \"cus_123\", \"unknown\": {\"nested\": [1, 2]}, \"email\": null,"
+            + " \"balance\": \"42\", \"livemode\": \"true\", \"created\": 1598574431}";
+
+    final Customer expected = createReflectiveGson().fromJson(json, Customer.class);
+    final Customer actual = ApiResource.INTERNAL_GSON.fromJson(json, Customer.class);
+
+    assertEquals(expected, actual);
+    assertEquals(Long.valueOf(42), actual.getBalance());
+    assertEquals(Boolean.TRUE, actual.getLivemode());
+  }
+
+  @Test
+  public void testReadsFieldsWithoutSerializedNameLikeReflectiveAdapters() {
+    final String json =
+        "{\"livemode\": false, \"scope\": \"read_write\", \"stripe_user_id\": \"acct_123\"}";
+
+    final TokenResponse expected = createReflectiveGson().fromJson(json, TokenResponse.class);
+    final TokenResponse actual = ApiResource.INTERNAL_GSON.fromJson(json, TokenResponse.class);
+
+    assertEquals(expected, actual);
+    assertEquals("acct_123", actual.getStripeUserId());
+  }
+}
@@ -262,6 +262,10 @@ public class PagingIteratorTest extends BaseStripeTest {
       models.add(model);
     }
 
+    // Further pages are fetched as bulk work.
+    final RequestOptions bulkOptions =
+        RequestOptions.withDefaultPriority(options, RequestPriority.BULK);
+
     assertEquals(5, models.size());
     assertEquals("pm_123", models.get(0).getId());
     assertEquals("pm_124", models.get(1).getId());
@@ -280,13 +284,13 @@ public class PagingIteratorTest extends BaseStripeTest {
         ApiResource.RequestMethod.GET,
         "/v1/pageable_models",
         page1Params,
-        options);
+        bulkOptions);
     verifyRequest(
         BaseAddress.API,
         ApiResource.RequestMethod.GET,
         "/v1/pageable_models",
         page2Params,
-        options);
+        bulkOptions);
     Mockito.verify(networkSpy).validateRequestOptions(Mockito.<RequestOptions>any());
     verifyNoMoreInteractions(networkSpy);
   }
@@ -151,6 +151,10 @@ public class SearchPagingIteratorTest extends BaseStripeTest {
       models.add(model);
     }
 
+    // Further pages are fetched as bulk work.
+    final RequestOptions bulkOptions =
+        RequestOptions.withDefaultPriority(options, RequestPriority.BULK);
+
     assertEquals(5, models.size());
     assertEquals("pm_123", models.get(0).getId());
     assertEquals("pm_124", models.get(1).getId());
@@ -170,13 +174,13 @@ public class SearchPagingIteratorTest extends BaseStripeTest {
         ApiResource.RequestMethod.GET,
         "/v1/searchable_models",
         page1Params,
-        options);
+        bulkOptions);
     verifyRequest(
         BaseAddress.API,
         ApiResource.RequestMethod.GET,
         "/v1/searchable_models",
         page2Params,
-        options);
+        bulkOptions);
     Mockito.verify(networkSpy).validateRequestOptions(Mockito.<RequestOptions>any());
     verifyNoMoreInteractions(networkSpy);
   }
@@ -0,0 +1,99 @@
+package com.stripe.net;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.stripe.exception.AccountThrottledException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import org.junit.jupiter.api.Test;
+
+public class AccountBulkheadsTest {
+  @Test
+  public void testIsolatesAccounts() throws Exception {
+    AccountBulkheads bulkheads = AccountBulkheads.builder().setMaxInFlightPerAccount(1).build();
+
+    bulkheads.acquire("acct_noisy");
+    CompletableFuture<Void> queued = bulkheads.acquireAsync("acct_noisy");
+    assertFalse(queued.isDone());
+
+    // Other accounts, including the platform, are not held up.
+    bulkheads.acquire("acct_quiet");
+    bulkheads.acquire(null);
+
+    assertEquals(Collections.singleton("acct_noisy"), bulkheads.getThrottledAccounts());
+    assertEquals(1, bulkheads.getThrottledCount("acct_noisy"));
+    assertEquals(0, bulkheads.getThrottledCount("acct_quiet"));
+
+    bulkheads.release("acct_noisy");
+    assertTrue(queued.isDone());
+    assertEquals(1, bulkheads.getInFlight("acct_noisy"));
+    assertTrue(bulkheads.getThrottledAccounts().isEmpty());
+
+    // Idle accounts are forgotten, counts included.
+    bulkheads.release("acct_noisy");
+    assertEquals(0, bulkheads.getThrottledCount("acct_noisy"));
+  }
+
+  @Test
+  public void testRejectsWhenQueueIsFull() throws Exception {
+    AccountBulkheads bulkheads =
+        AccountBulkheads.builder().setMaxInFlightPerAccount(1).setMaxQueuedPerAccount(1).build();
+
+    bulkheads.acquire("acct_123");
+    CompletableFuture<Void> queued = bulkheads.acquireAsync("acct_123");
+    CompletableFuture<Void> rejected = bulkheads.acquireAsync("acct_123");
+
+    assertFalse(queued.isDone());
+    ExecutionException e = assertThrows(ExecutionException.class, rejected::get);
+    assertTrue(e.getCause() instanceof AccountThrottledException);
+    assertEquals("acct_123", ((AccountThrottledException) e.getCause()).getStripeAccount());
+    assertEquals(1, bulkheads.getRejectedCount("acct_123"));
+  }
+
+  @Test
+  public void testRejectsAfterMaxQueueWait() throws Exception {
+    AccountBulkheads bulkheads =
+        AccountBulkheads.builder()
+            .setMaxInFlightPerAccount(1)
+            .setMaxQueueWait(Duration.ofMillis(50))
+            .build();
+
+    bulkheads.acquire("acct_123");
+    assertThrows(AccountThrottledException.class, () -> bulkheads.acquire("acct_123"));
+
+    assertEquals(1, bulkheads.getRejectedCount("acct_123"));
+    assertTrue(bulkheads.getThrottledAccounts().isEmpty());
+    assertEquals(1, bulkheads.getInFlight("acct_123"));
+  }
+
+  @Test
+  public void testWeightedRoundRobin() throws Exception {
+    AccountBulkheads bulkheads =
+        AccountBulkheads.builder().setMaxConcurrentRequests(1).setWeight("acct_big", 2).build();
+
+    bulkheads.acquire(null);
+
+    List<String> accounts =
+        Arrays.asList("acct_big", "acct_big", "acct_big", "acct_small", "acct_small");
+    List<String> order = Collections.synchronizedList(new ArrayList<>());
+    for (String account : accounts) {
+      bulkheads.acquireAsync(account).thenRun(() -> order.add(account));
+    }
+
+    bulkheads.release(null);
+    for (int i = 0; i < 5; i++) {
+      bulkheads.release(order.get(i));
+    }
+
+    assertEquals(
+        Arrays.asList("acct_big", "acct_big", "acct_small", "acct_big", "acct_small"), order);
+  }
+}
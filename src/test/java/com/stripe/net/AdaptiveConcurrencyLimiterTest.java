@@ -0,0 +1,63 @@
+package com.stripe.net;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.stripe.exception.ConcurrencyLimitException;
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+
+public class AdaptiveConcurrencyLimiterTest {
+  @Test
+  public void testRejectsRequestsOverLimit() throws Exception {
+    AdaptiveConcurrencyLimiter limiter =
+        AdaptiveConcurrencyLimiter.builder().setInitialLimit(2).build();
+
+    limiter.acquire();
+    limiter.acquire();
+    assertThrows(ConcurrencyLimitException.class, limiter::acquire);
+
+    assertEquals(2, limiter.getInFlight());
+    assertEquals(1, limiter.getRejectedCount());
+
+    limiter.release(Duration.ofMillis(100), false);
+    limiter.acquire();
+    assertEquals(2, limiter.getInFlight());
+  }
+
+  @Test
+  public void testLimitGrowsWhenBusyAndFast() throws Exception {
+    AdaptiveConcurrencyLimiter limiter =
+        AdaptiveConcurrencyLimiter.builder().setInitialLimit(2).setMaxLimit(3).build();
+
+    limiter.acquire();
+    limiter.acquire();
+    limiter.release(Duration.ofMillis(100), false);
+    assertEquals(3, limiter.getLimit());
+
+    // Never exceeds the maximum.
+    limiter.acquire();
+    limiter.release(Duration.ofMillis(100), false);
+    assertEquals(3, limiter.getLimit());
+  }
+
+  @Test
+  public void testLimitShrinksOnDropsAndSlowResponses() throws Exception {
+    AdaptiveConcurrencyLimiter limiter =
+        AdaptiveConcurrencyLimiter.builder()
+            .setInitialLimit(10)
+            .setBackoffRatio(0.5)
+            .setMinLimit(2)
+            .build();
+
+    limiter.acquire();
+    limiter.release(Duration.ofMillis(100), true);
+    assertEquals(5, limiter.getLimit());
+
+    limiter.acquire();
+    limiter.release(Duration.ofMillis(100), false);
+    limiter.acquire();
+    limiter.release(Duration.ofMillis(500), false);
+    assertEquals(2, limiter.getLimit());
+  }
+}
@@ -0,0 +1,138 @@
+package com.stripe.net;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.stripe.exception.ApiConnectionException;
+import com.stripe.exception.RateLimitException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+public class AdaptiveRateLimiterTest {
+  private static RequestOptions options(String stripeAccount) {
+    return RequestOptions.builder()
+        .setApiKey("sk_test_123")
+        .setStripeAccount(stripeAccount)
+        .build();
+  }
+
+  private static AdaptiveRateLimiter failFastLimiter() {
+    return AdaptiveRateLimiter.builder()
+        .setInitialRate(1)
+        .setMinRate(0.5)
+        .setBurst(1)
+        .setMaxWait(Duration.ZERO)
+        .build();
+  }
+
+  @Test
+  public void testFailsFastWhenRateExceeded() throws Exception {
+    AdaptiveRateLimiter limiter = failFastLimiter();
+
+    limiter.acquire(options(null));
+    RateLimitException e =
+        assertThrows(RateLimitException.class, () -> limiter.acquire(options(null)));
+
+    assertEquals(AdaptiveRateLimiter.ERROR_CODE, e.getCode());
+  }
+
+  @Test
+  public void testBucketsAreKeyedByAccount() throws Exception {
+    AdaptiveRateLimiter limiter = failFastLimiter();
+
+    limiter.acquire(options("acct_1"));
+    limiter.acquire(options("acct_2"));
+
+    assertThrows(RateLimitException.class, () -> limiter.acquire(options("acct_1")));
+  }
+
+  @Test
+  public void testRateAdaptsToResponses() {
+    AdaptiveRateLimiter limiter =
+        AdaptiveRateLimiter.builder()
+            .setInitialRate(20)
+            .setMinRate(5)
+            .setMaxRate(30)
+            .setIncreaseStep(1)
+            .build();
+
+    limiter.onResponse(options(null), 429);
+    assertEquals(10, limiter.getRate("sk_test_123", null), 0.001);
+
+    limiter.onResponse(options(null), 200);
+    assertEquals(11, limiter.getRate("sk_test_123", null), 0.001);
+
+    limiter.onResponse(options(null), 429);
+    limiter.onResponse(options(null), 429);
+    assertEquals(5, limiter.getRate("sk_test_123", null), 0.001);
+
+    // Other accounts are unaffected.
+    assertEquals(20, limiter.getRate("sk_test_123", "acct_1"), 0.001);
+  }
+
+  @Test
+  public void testAcquireAsyncFailsFast() throws Exception {
+    AdaptiveRateLimiter limiter = failFastLimiter();
+
+    limiter.acquireAsync(options(null)).get();
+    CompletableFuture<Void> future = limiter.acquireAsync(options(null));
+
+    ExecutionException e = assertThrows(ExecutionException.class, future::get);
+    assertTrue(e.getCause() instanceof RateLimitException);
+  }
+
+  @Test
+  public void testAcquireAsyncWaitsForPermit() throws Exception {
+    AdaptiveRateLimiter limiter =
+        AdaptiveRateLimiter.builder()
+            .setInitialRate(20)
+            .setBurst(1)
+            .setMaxWait(Duration.ofSeconds(1))
+            .build();
+
+    limiter.acquireAsync(options(null)).get();
+    CompletableFuture<Void> future = limiter.acquireAsync(options(null));
+
+    assertFalse(future.isDone());
+    future.get();
+  }
+
+  @Test
+  public void testInterruptedAcquireFails() throws Exception {
+    AdaptiveRateLimiter limiter =
+        AdaptiveRateLimiter.builder()
+            .setInitialRate(1)
+            .setBurst(1)
+            .setMaxWait(Duration.ofSeconds(5))
+            .build();
+
+    limiter.acquire(options(null));
+    Thread.currentThread().interrupt();
+    try {
+      assertThrows(ApiConnectionException.class, () -> limiter.acquire(options(null)));
+      assertTrue(Thread.currentThread().isInterrupted());
+    } finally {
+      Thread.interrupted();
+    }
+  }
+
+  @Test
+  public void testEvictsIdleBuckets() throws Exception {
+    AdaptiveRateLimiter limiter = failFastLimiter();
+
+    limiter.acquire(options("acct_1"));
+    limiter.acquire(options("acct_2"));
+    limiter.evictIdle(System.nanoTime());
+    assertEquals(2, limiter.bucketCount());
+
+    limiter.evictIdle(System.nanoTime() + TimeUnit.MINUTES.toNanos(2));
+    assertEquals(0, limiter.bucketCount());
+    // The rate starts over, with a full burst.
+    limiter.acquire(options("acct_1"));
+  }
+}
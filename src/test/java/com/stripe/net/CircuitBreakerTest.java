@@ -0,0 +1,108 @@
+package com.stripe.net;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.stripe.exception.CircuitBreakerOpenException;
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+
+public class CircuitBreakerTest {
+  private static void complete(CircuitBreaker breaker, BaseAddress baseAddress, boolean failed)
+      throws Exception {
+    breaker.onComplete(breaker.acquire(baseAddress), failed);
+  }
+
+  @Test
+  public void testOpensOnFailureRate() throws Exception {
+    CircuitBreaker breaker =
+        CircuitBreaker.builder()
+            .setMinimumRequests(4)
+            .setWindowSize(4)
+            .setOpenDuration(Duration.ofMinutes(1))
+            .build();
+
+    complete(breaker, BaseAddress.METER_EVENTS, false);
+    complete(breaker, BaseAddress.METER_EVENTS, true);
+    complete(breaker, BaseAddress.METER_EVENTS, false);
+    assertEquals(CircuitBreaker.State.CLOSED, breaker.getState(BaseAddress.METER_EVENTS));
+
+    complete(breaker, BaseAddress.METER_EVENTS, true);
+    assertEquals(CircuitBreaker.State.OPEN, breaker.getState(BaseAddress.METER_EVENTS));
+
+    CircuitBreakerOpenException e =
+        assertThrows(
+            CircuitBreakerOpenException.class, () -> breaker.acquire(BaseAddress.METER_EVENTS));
+    assertEquals(BaseAddress.METER_EVENTS, e.getBaseAddress());
+
+    // Other base addresses are unaffected.
+    assertEquals(CircuitBreaker.State.CLOSED, breaker.getState(BaseAddress.API));
+    breaker.acquire(BaseAddress.API);
+  }
+
+  @Test
+  public void testHalfOpenProbes() throws Exception {
+    CircuitBreaker breaker =
+        CircuitBreaker.builder()
+            .setMinimumRequests(1)
+            .setOpenDuration(Duration.ZERO)
+            .setHalfOpenRequests(2)
+            .build();
+
+    complete(breaker, BaseAddress.API, true);
+    assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.getState(BaseAddress.API));
+
+    CircuitBreaker.Permit first = breaker.acquire(BaseAddress.API);
+    CircuitBreaker.Permit second = breaker.acquire(BaseAddress.API);
+    assertThrows(CircuitBreakerOpenException.class, () -> breaker.acquire(BaseAddress.API));
+
+    breaker.onComplete(first, false);
+    breaker.onComplete(second, false);
+    assertEquals(CircuitBreaker.State.CLOSED, breaker.getState(BaseAddress.API));
+  }
+
+  @Test
+  public void testFailedProbeReopens() throws Exception {
+    CircuitBreaker breaker =
+        CircuitBreaker.builder()
+            .setMinimumRequests(1)
+            .setOpenDuration(Duration.ofMillis(50))
+            .build();
+
+    complete(breaker, BaseAddress.FILES, true);
+    assertEquals(CircuitBreaker.State.OPEN, breaker.getState(BaseAddress.FILES));
+
+    Thread.sleep(100);
+    assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.getState(BaseAddress.FILES));
+
+    complete(breaker, BaseAddress.FILES, true);
+    assertEquals(CircuitBreaker.State.OPEN, breaker.getState(BaseAddress.FILES));
+  }
+
+  @Test
+  public void testRequestsSentBeforeOpeningAreNotProbes() throws Exception {
+    CircuitBreaker breaker =
+        CircuitBreaker.builder()
+            .setMinimumRequests(1)
+            .setOpenDuration(Duration.ofMillis(50))
+            .setHalfOpenRequests(1)
+            .build();
+
+    CircuitBreaker.Permit slow = breaker.acquire(BaseAddress.API);
+    CircuitBreaker.Permit cancelled = breaker.acquire(BaseAddress.API);
+    complete(breaker, BaseAddress.API, true);
+    Thread.sleep(100);
+    assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.getState(BaseAddress.API));
+
+    // Neither closes the breaker nor frees a probe.
+    breaker.onComplete(slow, false);
+    breaker.onCancel(cancelled);
+    assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.getState(BaseAddress.API));
+
+    CircuitBreaker.Permit probe = breaker.acquire(BaseAddress.API);
+    assertThrows(CircuitBreakerOpenException.class, () -> breaker.acquire(BaseAddress.API));
+
+    breaker.onComplete(probe, false);
+    assertEquals(CircuitBreaker.State.CLOSED, breaker.getState(BaseAddress.API));
+  }
+}
@@ -0,0 +1,196 @@
+package com.stripe.net;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.stripe.exception.ApiConnectionException;
+import com.stripe.exception.StripeException;
+import com.stripe.model.Customer;
+import com.stripe.model.StripeObjectInterface;
+import java.io.InputStream;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class CoalescingStripeResponseGetterTest {
+  /** A getter counting requests, which block until released. */
+  private static class BlockingResponseGetter implements StripeResponseGetter {
+    final AtomicInteger calls = new AtomicInteger();
+    final CountDownLatch release = new CountDownLatch(1);
+    volatile StripeException failure;
+
+    @Override
+    @SuppressWarnings({"TypeParameterUnusedInFormals", "unchecked"})
+    public <T extends StripeObjectInterface> T request(
+        BaseAddress baseAddress,
+        ApiResource.RequestMethod method,
+        String path,
+        Map<String, Object> params,
+        Type typeToken,
+        RequestOptions options,
+        ApiMode apiMode)
+        throws StripeException {
+      this.calls.incrementAndGet();
+      try {
+        this.release.await(5, TimeUnit.SECONDS);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      if (this.failure != null) {
+        throw this.failure;
+      }
+      return (T) new Customer();
+    }
+
+    @Override
+    public InputStream requestStream(
+        BaseAddress baseAddress,
+        ApiResource.RequestMethod method,
+        String path,
+        Map<String, Object> params,
+        RequestOptions options,
+        ApiMode apiMode) {
+      throw new UnsupportedOperationException();
+    }
+  }
+
+  private BlockingResponseGetter delegate;
+  private CoalescingStripeResponseGetter getter;
+  private ExecutorService executor;
+
+  @BeforeEach
+  public void setUp() {
+    this.delegate = new BlockingResponseGetter();
+    this.getter = new CoalescingStripeResponseGetter(this.delegate);
+    this.executor = Executors.newCachedThreadPool();
+  }
+
+  @AfterEach
+  public void tearDown() {
+    this.executor.shutdownNow();
+  }
+
+  private static ApiRequest retrieve(String id, String stripeAccount) {
+    return new ApiRequest(
+        BaseAddress.API,
+        ApiResource.RequestMethod.GET,
+        "/v1/customers/" + id,
+        null,
+        RequestOptions.builder().setStripeAccount(stripeAccount).build());
+  }
+
+  private List<Future<Customer>> sendConcurrently(ApiRequest... requests) throws Exception {
+    List<Future<Customer>> results = new ArrayList<>();
+    for (ApiRequest request : requests) {
+      results.add(this.executor.submit(() -> getter.<Customer>request(request, Customer.class)));
+    }
+    Thread.sleep(200);
+    return results;
+  }
+
+  @Test
+  public void testCoalescesIdenticalRequests() throws Exception {
+    List<Future<Customer>> results =
+        this.sendConcurrently(
+            retrieve("cus_123", null), retrieve("cus_123", null), retrieve("cus_123", null));
+    this.delegate.release.countDown();
+
+    assertEquals(1, this.delegate.calls.get());
+    assertSame(results.get(0).get(), results.get(1).get());
+    assertSame(results.get(0).get(), results.get(2).get());
+  }
+
+  @Test
+  public void testDoesNotCoalesceDifferentRequests() throws Exception {
+    List<Future<Customer>> results =
+        this.sendConcurrently(
+            retrieve("cus_123", null), retrieve("cus_456", null), retrieve("cus_123", "acct_1"));
+    this.delegate.release.countDown();
+
+    for (Future<Customer> result : results) {
+      result.get();
+    }
+    assertEquals(3, this.delegate.calls.get());
+  }
+
+  @Test
+  public void testSharesFailures() throws Exception {
+    this.delegate.failure = new ApiConnectionException("failed");
+    List<Future<Customer>> results =
+        this.sendConcurrently(retrieve("cus_123", null), retrieve("cus_123", null));
+    this.delegate.release.countDown();
+
+    for (Future<Customer> result : results) {
+      Exception e = assertThrows(Exception.class, result::get);
+      assertSame(this.delegate.failure, e.getCause());
+    }
+    assertEquals(1, this.delegate.calls.get());
+  }
+
+  @Test
+  public void testInterruptedCallerDoesNotFailOthers() throws Exception {
+    Future<Customer> first = this.sendConcurrently(retrieve("cus_123", null)).get(0);
+    List<Future<Customer>> waiting =
+        this.sendConcurrently(retrieve("cus_123", null), retrieve("cus_123", null));
+
+    waiting.get(0).cancel(true);
+    Thread.sleep(100);
+    this.delegate.release.countDown();
+
+    assertSame(first.get(), waiting.get(1).get());
+    assertEquals(1, this.delegate.calls.get());
+  }
+
+  @Test
+  public void testDoesNotCacheCompletedRequests() throws Exception {
+    this.delegate.release.countDown();
+
+    this.getter.<Customer>request(retrieve("cus_123", null), Customer.class);
+    this.getter.<Customer>request(retrieve("cus_123", null), Customer.class);
+
+    assertEquals(2, this.delegate.calls.get());
+  }
+
+  @Test
+  public void testCoalescesAsyncRequests() throws Exception {
+    CompletableFuture<Customer> first =
+        this.getter.requestAsync(retrieve("cus_123", null), Customer.class);
+    Thread.sleep(100);
+    CompletableFuture<Customer> second =
+        this.getter.requestAsync(retrieve("cus_123", null), Customer.class);
+    this.delegate.release.countDown();
+
+    assertSame(first.get(), second.get());
+    assertEquals(1, this.delegate.calls.get());
+  }
+
+  @Test
+  public void testDoesNotCoalesceOtherMethods() throws Exception {
+    ApiRequest request =
+        new ApiRequest(
+            BaseAddress.API,
+            ApiResource.RequestMethod.POST,
+            "/v1/customers/cus_123",
+            null,
+            RequestOptions.getDefault());
+    List<Future<Customer>> results = this.sendConcurrently(request, request);
+    this.delegate.release.countDown();
+
+    for (Future<Customer> result : results) {
+      result.get();
+    }
+    assertEquals(2, this.delegate.calls.get());
+  }
+}
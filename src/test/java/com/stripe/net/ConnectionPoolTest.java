@@ -0,0 +1,126 @@
+package com.stripe.net;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.stripe.exception.ApiConnectionException;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.Test;
+
+public class ConnectionPoolTest {
+  private static final class FakeConnection extends HttpURLConnection {
+    boolean disconnected;
+
+    FakeConnection(URL url) {
+      super(url);
+    }
+
+    @Override
+    public void connect() {}
+
+    @Override
+    public void disconnect() {
+      this.disconnected = true;
+    }
+
+    @Override
+    public boolean usingProxy() {
+      return false;
+    }
+  }
+
+  private static URL url(String spec) throws Exception {
+    return new URL(spec);
+  }
+
+  @Test
+  public void testReusesReturnedConnections() throws Exception {
+    ConnectionPool pool = ConnectionPool.builder().build();
+    URL url = url("https://api.stripe.com/v1/customers");
+
+    ConnectionPool.Connection first = pool.lease(url, 0);
+    pool.release(first, new FakeConnection(url), true);
+    ConnectionPool.Connection second = pool.lease(url("https://api.stripe.com:443/v1/charges"), 0);
+
+    assertSame(first, second);
+    assertEquals(new ConnectionPool.Stats(1, 0, 1, 0), pool.getStats());
+
+    // Connections that cannot be reused are closed.
+    FakeConnection conn = new FakeConnection(url);
+    pool.release(second, conn, false);
+    assertTrue(conn.disconnected);
+    assertEquals(new ConnectionPool.Stats(0, 0, 1, 1), pool.getStats());
+  }
+
+  @Test
+  public void testLimitsConnectionsPerHost() throws Exception {
+    ConnectionPool pool = ConnectionPool.builder().setMaxConnectionsPerHost(1).build();
+    URL url = url("https://api.stripe.com/v1/customers");
+
+    ConnectionPool.Connection leased = pool.lease(url, 0);
+    // Other hosts are not affected.
+    pool.lease(url("https://files.stripe.com/v1/files"), 0);
+    assertThrows(ApiConnectionException.class, () -> pool.lease(url, 50));
+
+    CompletableFuture<ConnectionPool.Connection> waiter =
+        AsyncSupport.supplyAsync(() -> pool.lease(url, 0), AsyncSupport.defaultExecutor());
+    Thread.sleep(100);
+    assertFalse(waiter.isDone());
+
+    pool.release(leased, new FakeConnection(url), true);
+    assertSame(leased, waiter.get());
+    assertEquals(new ConnectionPool.Stats(2, 0, 2, 0), pool.getStats());
+  }
+
+  @Test
+  public void testEvictsIdleConnections() throws Exception {
+    ConnectionPool pool = ConnectionPool.builder().setIdleTimeout(Duration.ofMillis(50)).build();
+    URL url = url("https://api.stripe.com/v1/customers");
+    FakeConnection conn = new FakeConnection(url);
+
+    pool.release(pool.lease(url, 0), conn, true);
+    assertEquals(new ConnectionPool.Stats(0, 1, 1, 0), pool.getStats());
+
+    Thread.sleep(100);
+    assertEquals(new ConnectionPool.Stats(0, 0, 1, 1), pool.getStats());
+    assertTrue(conn.disconnected);
+  }
+
+  @Test
+  public void testClosesConnectionsAfterTimeToLive() throws Exception {
+    ConnectionPool pool = ConnectionPool.builder().setTimeToLive(Duration.ZERO).build();
+    URL url = url("https://api.stripe.com/v1/customers");
+    FakeConnection conn = new FakeConnection(url);
+
+    pool.release(pool.lease(url, 0), conn, true);
+
+    assertTrue(conn.disconnected);
+    assertEquals(new ConnectionPool.Stats(0, 0, 1, 1), pool.getStats());
+  }
+
+  @Test
+  public void testReleasesOnceBodyIsClosed() throws Exception {
+    ConnectionPool pool = ConnectionPool.builder().build();
+    URL url = url("https://api.stripe.com/v1/customers");
+    FakeConnection conn = new FakeConnection(url);
+
+    InputStream body =
+        pool.track(pool.lease(url, 0), conn, new ByteArrayInputStream(new byte[] {'{', '}'}));
+    assertEquals(1, pool.getStats().getLeasedSlots());
+
+    while (body.read() != -1) {}
+    body.close();
+    body.close();
+
+    assertFalse(conn.disconnected);
+    assertEquals(new ConnectionPool.Stats(0, 1, 1, 0), pool.getStats());
+  }
+}
@@ -0,0 +1,86 @@
+package com.stripe.net;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.stripe.exception.StripeException;
+import java.time.Duration;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Collections;
+import org.junit.jupiter.api.Test;
+
+public class DefaultRetryPolicyTest {
+  private static HttpHeaders retryAfter(String value) {
+    return HttpHeaders.of(ImmutableMap.of("Retry-After", ImmutableList.of(value)));
+  }
+
+  private static StripeRequest request() throws StripeException {
+    return StripeRequest.create(
+        ApiResource.RequestMethod.GET,
+        "http://example.com/get",
+        null,
+        RequestOptions.builder().setApiKey("sk_test_123").setMaxNetworkRetries(2).build(),
+        ApiMode.V1);
+  }
+
+  @Test
+  public void testParseRetryAfterSeconds() {
+    assertEquals(Duration.ofSeconds(3), DefaultRetryPolicy.parseRetryAfter(retryAfter("3")));
+  }
+
+  @Test
+  public void testParseRetryAfterDate() {
+    String date =
+        DateTimeFormatter.RFC_1123_DATE_TIME.format(
+            ZonedDateTime.now(ZoneOffset.UTC).plusSeconds(30));
+
+    Duration delay = DefaultRetryPolicy.parseRetryAfter(retryAfter(date));
+
+    assertTrue(delay.compareTo(Duration.ofSeconds(25)) > 0);
+    assertTrue(delay.compareTo(Duration.ofSeconds(30)) <= 0);
+  }
+
+  @Test
+  public void testParseRetryAfterInvalid() {
+    assertNull(DefaultRetryPolicy.parseRetryAfter(retryAfter("soon")));
+    assertNull(DefaultRetryPolicy.parseRetryAfter(HttpHeaders.of(Collections.emptyMap())));
+  }
+
+  @Test
+  public void testRetryDelayHonorsRetryAfter() throws StripeException {
+    RetryPolicy policy = DefaultRetryPolicy.builder().setRetryOnRateLimit(true).build();
+
+    Duration delay =
+        policy.retryDelay(
+            new RetryPolicy.Attempt(request(), 0, 429, retryAfter("10"), null, Duration.ZERO));
+
+    assertEquals(Duration.ofSeconds(10), delay);
+  }
+
+  @Test
+  public void testRetryDelayBackoffBounds() throws StripeException {
+    RetryPolicy policy =
+        DefaultRetryPolicy.builder()
+            .setMinDelay(Duration.ofMillis(100))
+            .setMaxDelay(Duration.ofMillis(300))
+            .build();
+    HttpHeaders headers = HttpHeaders.of(Collections.emptyMap());
+
+    Duration first =
+        policy.retryDelay(new RetryPolicy.Attempt(request(), 0, 500, headers, null, Duration.ZERO));
+    Duration second =
+        policy.retryDelay(new RetryPolicy.Attempt(request(), 1, 500, headers, null, Duration.ZERO));
+    Duration exhausted =
+        policy.retryDelay(new RetryPolicy.Attempt(request(), 2, 500, headers, null, Duration.ZERO));
+
+    assertEquals(Duration.ofMillis(100), first);
+    assertTrue(second.compareTo(Duration.ofMillis(150)) >= 0);
+    assertTrue(second.compareTo(Duration.ofMillis(200)) <= 0);
+    assertNull(exhausted);
+  }
+}
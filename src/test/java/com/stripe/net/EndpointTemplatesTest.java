@@ -0,0 +1,32 @@
+package com.stripe.net;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import org.junit.jupiter.api.Test;
+
+public class EndpointTemplatesTest {
+  @Test
+  public void testReplacesIds() {
+    assertEquals("/v1/customers/{id}", EndpointTemplates.of("/v1/customers/cus_123"));
+    assertEquals(
+        "/v1/customers/{id}/sources/{id}",
+        EndpointTemplates.of("/v1/customers/cus_123/sources/card_456"));
+    assertEquals(
+        "/v2/core/event_destinations/{id}/enable",
+        EndpointTemplates.of("/v2/core/event_destinations/ed_61RM8ltWcTW4mbsxf16RJyfa/enable"));
+  }
+
+  @Test
+  public void testKeepsStaticPaths() {
+    String path = "/v1/payment_intents";
+    assertSame(path, EndpointTemplates.of(path));
+    assertEquals("/v1/customers/search", EndpointTemplates.of("/v1/customers/search"));
+  }
+
+  @Test
+  public void testStripsQuery() {
+    assertEquals("/v1/customers", EndpointTemplates.of("/v1/customers?limit=3"));
+    assertEquals("/v1/charges/{id}", EndpointTemplates.of("/v1/charges/ch_123?expand[]=customer"));
+  }
+}
@@ -0,0 +1,101 @@
+package com.stripe.net;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.stripe.exception.StripeException;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+public class ExchangeLogTest {
+  private static StripeRequest request(String path, Map<String, Object> params)
+      throws StripeException {
+    return StripeRequest.create(
+        ApiResource.RequestMethod.POST,
+        "https://api.stripe.com" + path,
+        params,
+        RequestOptions.builder().setApiKey("sk_test_123").build(),
+        ApiMode.V1);
+  }
+
+  private static StripeResponse response(String requestId, String body) {
+    Map<String, List<String>> headers =
+        Collections.singletonMap("Request-Id", Collections.singletonList(requestId));
+    return new StripeResponse(200, HttpHeaders.of(headers), body);
+  }
+
+  @Test
+  public void testRedact() {
+    assertEquals(
+        "amount=100&card[number]=[REDACTED]&card[cvc]=[REDACTED]&description=number",
+        ExchangeLog.redact(
+            "amount=100&card[number]=4242424242424242&card[cvc]=123&description=number"));
+    assertEquals(
+        "{\"id\": \"pi_123\", \"client_secret\": \"[REDACTED]\", "
+            + "\"card\": {\"number\": \"[REDACTED]\"}}",
+        ExchangeLog.redact(
+            "{\"id\": \"pi_123\", \"client_secret\": \"pi_123_secret_456\", "
+                + "\"card\": {\"number\": \"4242\"}}"));
+    assertEquals("key: [REDACTED]", ExchangeLog.redact("key: sk_live_123abc"));
+    assertNull(ExchangeLog.redact(null));
+  }
+
+  @Test
+  public void testSnapshot() throws StripeException {
+    ExchangeLog log = ExchangeLog.builder().build();
+    Map<String, Object> params = new HashMap<>();
+    params.put("amount", 100);
+    params.put("client_secret", "pi_123_secret_456");
+
+    log.record(
+        request("/v1/payment_intents", params),
+        response("req_123", "{\"id\": \"pi_123\"}"),
+        Duration.ofMillis(42));
+    log.record(request("/v1/customers", null), null, Duration.ofMillis(10));
+
+    List<ExchangeLog.Exchange> exchanges = log.snapshot();
+    assertEquals(2, exchanges.size());
+
+    ExchangeLog.Exchange exchange = exchanges.get(0);
+    assertEquals(ApiResource.RequestMethod.POST, exchange.getMethod());
+    assertEquals("/v1/payment_intents", exchange.getPath());
+    assertEquals(200, exchange.getStatusCode());
+    assertEquals("req_123", exchange.getRequestId());
+    assertEquals(Duration.ofMillis(42), exchange.getDuration());
+    assertTrue(exchange.getRequestBody().contains("client_secret=[REDACTED]"));
+    assertFalse(exchange.getRequestBody().contains("secret_456"));
+    assertEquals("{\"id\": \"pi_123\"}", exchange.getResponseBody());
+
+    assertEquals(0, exchanges.get(1).getStatusCode());
+    assertNull(exchanges.get(1).getRequestId());
+    assertTrue(log.dump().contains("POST /v1/customers -> 0"));
+  }
+
+  @Test
+  public void testKeepsLastExchanges() throws StripeException {
+    ExchangeLog log = ExchangeLog.builder().setCapacity(3).setMaxBodyLength(4).build();
+
+    for (int i = 0; i < 5; i++) {
+      log.record(request("/v1/customers", null), response("req_" + i, "{}    "), Duration.ZERO);
+    }
+
+    List<ExchangeLog.Exchange> exchanges = log.snapshot();
+    assertEquals(3, exchanges.size());
+    assertEquals("req_2", exchanges.get(0).getRequestId());
+    assertEquals("req_4", exchanges.get(2).getRequestId());
+    assertEquals("{}  ... (2 more characters)", exchanges.get(2).getResponseBody());
+  }
+
+  @Test
+  public void testBuildWithInvalidCapacity() {
+    assertThrows(
+        IllegalArgumentException.class, () -> ExchangeLog.builder().setCapacity(0).build());
+  }
+}
@@ -0,0 +1,32 @@
+package com.stripe.net;
+
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+
+public class FlightRecorderEventsTest {
+  @Test
+  public void testNothingRecordedWithoutRecording() throws Exception {
+    assertNull(FlightRecorderEvents.beginRequest());
+    assertNull(FlightRecorderEvents.beginWebhookVerification());
+    assertNull(FlightRecorderEvents.beginDeserialization());
+
+    // Completing events that were not begun does nothing.
+    FlightRecorderEvents.commitRequest(
+        null, "/v1/customers", ApiResource.RequestMethod.GET, 200, "req_123", 1, 0, 42);
+    FlightRecorderEvents.commitWebhookVerification(null, "{}", true);
+    FlightRecorderEvents.commitDeserialization(null, String.class, "{}");
+    FlightRecorderEvents.retry(
+        StripeRequest.create(
+            ApiResource.RequestMethod.GET,
+            "https://api.stripe.com/v1/customers",
+            null,
+            RequestOptions.builder().setApiKey("sk_test_123").build(),
+            ApiMode.V1),
+        1,
+        500,
+        "req_123",
+        Duration.ofMillis(500));
+  }
+}
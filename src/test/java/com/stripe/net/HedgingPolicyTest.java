@@ -0,0 +1,258 @@
+package com.stripe.net;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.stripe.StripeClient;
+import com.stripe.exception.ApiConnectionException;
+import com.stripe.exception.StripeException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import lombok.Cleanup;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class HedgingPolicyTest {
+  private StripeRequest request;
+
+  private final List<CompletableFuture<StripeResponse>> sent =
+      Collections.synchronizedList(new ArrayList<>());
+
+  @BeforeEach
+  public void setUpFixtures() throws StripeException {
+    this.request =
+        StripeRequest.create(
+            ApiResource.RequestMethod.GET,
+            "http://example.com/get",
+            null,
+            RequestOptions.builder().setApiKey("sk_test_123").build(),
+            ApiMode.V1);
+  }
+
+  private CompletableFuture<StripeResponse> send(StripeRequest request) {
+    CompletableFuture<StripeResponse> future = new CompletableFuture<>();
+    this.sent.add(future);
+    return future;
+  }
+
+  /** Sends hedges once {@code admission} completes. */
+  private final class TestHedger implements HedgingPolicy.Hedger<StripeResponse> {
+    CompletableFuture<Void> admission = CompletableFuture.completedFuture(null);
+    volatile Thread sentOn;
+    volatile int released;
+
+    @Override
+    public CompletableFuture<Void> admit(StripeRequest request) {
+      return this.admission;
+    }
+
+    @Override
+    public StripeResponse send(StripeRequest request) throws StripeException {
+      this.sentOn = Thread.currentThread();
+      this.released += 1;
+      return AsyncSupport.join(HedgingPolicyTest.this.send(request));
+    }
+
+    @Override
+    public CompletableFuture<StripeResponse> sendAsync(StripeRequest request) {
+      this.released += 1;
+      return HedgingPolicyTest.this.send(request);
+    }
+
+    @Override
+    public void release(StripeRequest request) {
+      this.released += 1;
+    }
+  }
+
+  private final TestHedger hedger = new TestHedger();
+
+  private static StripeResponse response(int code) {
+    return new StripeResponse(code, HttpHeaders.of(Collections.emptyMap()), "{}");
+  }
+
+  @Test
+  public void testFirstResponseWinsAndOtherIsCancelled() throws Exception {
+    HedgingPolicy policy =
+        HedgingPolicy.builder().setDelay(Duration.ofMillis(10)).setMaxHedgeRatio(1).build();
+
+    CompletableFuture<StripeResponse> result = policy.send(this.request, this::send, this.hedger);
+    Thread.sleep(200);
+
+    assertEquals(2, this.sent.size());
+    assertEquals(1, policy.getHedgeCount());
+
+    this.sent.get(1).complete(response(200));
+
+    assertEquals(200, result.get().code());
+    assertTrue(this.sent.get(0).isCancelled());
+  }
+
+  @Test
+  public void testFailsOnlyOnceAllCopiesFailed() throws Exception {
+    HedgingPolicy policy =
+        HedgingPolicy.builder().setDelay(Duration.ofMillis(10)).setMaxHedgeRatio(1).build();
+
+    CompletableFuture<StripeResponse> result = policy.send(this.request, this::send, this.hedger);
+    Thread.sleep(200);
+
+    this.sent.get(0).completeExceptionally(new ApiConnectionException("first"));
+    assertFalse(result.isDone());
+
+    this.sent.get(1).completeExceptionally(new ApiConnectionException("second"));
+    ExecutionException e = assertThrows(ExecutionException.class, result::get);
+    assertTrue(e.getCause() instanceof ApiConnectionException);
+  }
+
+  @Test
+  public void testBudgetCapsHedges() throws Exception {
+    HedgingPolicy policy =
+        HedgingPolicy.builder().setDelay(Duration.ofMillis(10)).setMaxHedgeRatio(0.5).build();
+
+    // With a single request, a hedge would exceed half of the traffic.
+    policy.send(this.request, this::send, this.hedger);
+    Thread.sleep(200);
+    assertEquals(1, this.sent.size());
+
+    policy.send(this.request, this::send, this.hedger);
+    Thread.sleep(200);
+    assertEquals(3, this.sent.size());
+    assertEquals(1, policy.getHedgeCount());
+    assertEquals(2, policy.getRequestCount());
+  }
+
+  @Test
+  public void testFastResponseIsNotHedged() throws Exception {
+    HedgingPolicy policy =
+        HedgingPolicy.builder().setDelay(Duration.ofMillis(50)).setMaxHedgeRatio(1).build();
+
+    CompletableFuture<StripeResponse> result = policy.send(this.request, this::send, this.hedger);
+    this.sent.get(0).complete(response(200));
+    Thread.sleep(200);
+
+    assertEquals(200, result.get().code());
+    assertEquals(1, this.sent.size());
+    assertEquals(0, policy.getHedgeCount());
+  }
+
+  @Test
+  public void testHedgeWaitsForAdmission() throws Exception {
+    HedgingPolicy policy =
+        HedgingPolicy.builder().setDelay(Duration.ofMillis(10)).setMaxHedgeRatio(1).build();
+    this.hedger.admission = new CompletableFuture<>();
+
+    CompletableFuture<StripeResponse> result = policy.send(this.request, this::send, this.hedger);
+    Thread.sleep(200);
+    assertEquals(1, this.sent.size());
+
+    this.hedger.admission.complete(null);
+    assertEquals(2, this.sent.size());
+
+    this.sent.get(1).complete(response(200));
+    assertEquals(200, result.get().code());
+  }
+
+  @Test
+  public void testHedgeAdmittedAfterResponseIsReleased() throws Exception {
+    HedgingPolicy policy =
+        HedgingPolicy.builder().setDelay(Duration.ofMillis(10)).setMaxHedgeRatio(1).build();
+    this.hedger.admission = new CompletableFuture<>();
+
+    CompletableFuture<StripeResponse> result = policy.send(this.request, this::send, this.hedger);
+    Thread.sleep(200);
+    this.sent.get(0).complete(response(200));
+    this.hedger.admission.complete(null);
+
+    assertEquals(200, result.get().code());
+    assertEquals(1, this.sent.size());
+    assertEquals(1, this.hedger.released);
+  }
+
+  @Test
+  public void testSendAndWaitSendsHedgeOnCallingThread() throws Exception {
+    HedgingPolicy policy =
+        HedgingPolicy.builder().setDelay(Duration.ofMillis(10)).setMaxHedgeRatio(1).build();
+
+    // Answer the hedge as soon as it is sent.
+    Thread responder =
+        new Thread(
+            () -> {
+              while (this.sent.size() < 2) {
+                Thread.yield();
+              }
+              this.sent.get(1).complete(response(200));
+            });
+    responder.start();
+
+    StripeResponse response = policy.sendAndWait(this.request, this::send, this.hedger);
+
+    assertEquals(200, response.code());
+    assertEquals(Thread.currentThread(), this.hedger.sentOn);
+    assertTrue(this.sent.get(0).isCancelled());
+    responder.join();
+  }
+
+  @Test
+  public void testSendAndWaitDoesNotWaitForAdmission() throws Exception {
+    HedgingPolicy policy =
+        HedgingPolicy.builder().setDelay(Duration.ofMillis(10)).setMaxHedgeRatio(1).build();
+    this.hedger.admission = new CompletableFuture<>();
+
+    Thread responder =
+        new Thread(
+            () -> {
+              try {
+                Thread.sleep(200);
+              } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+              }
+              this.sent.get(0).complete(response(200));
+            });
+    responder.start();
+
+    StripeResponse response = policy.sendAndWait(this.request, this::send, this.hedger);
+    assertEquals(200, response.code());
+    assertEquals(0, this.hedger.released);
+    responder.join();
+
+    this.hedger.admission.complete(null);
+    assertEquals(1, this.sent.size());
+    assertEquals(1, this.hedger.released);
+  }
+
+  @Test
+  public void testHedgeWaitsForAccountBulkhead() throws Exception {
+    @Cleanup MockWebServer server = new MockWebServer();
+    for (int i = 0; i < 2; i++) {
+      server.enqueue(
+          new MockResponse()
+              .setBody("{\"id\": \"cus_123\", \"object\": \"customer\"}")
+              .setHeadersDelay(300, TimeUnit.MILLISECONDS));
+    }
+    server.start();
+
+    StripeClient client =
+        StripeClient.builder()
+            .setApiKey("sk_test_123")
+            .setApiBase(server.url("").toString())
+            .setHedgingPolicy(
+                HedgingPolicy.builder().setDelay(Duration.ofMillis(10)).setMaxHedgeRatio(1).build())
+            .setAccountBulkheads(AccountBulkheads.builder().setMaxInFlightPerAccount(1).build())
+            .build();
+
+    assertEquals("cus_123", client.customers().retrieve("cus_123").getId());
+    assertEquals("cus_123", client.customers().retrieveAsync("cus_123", null, null).get().getId());
+
+    // The hedges waited for the original requests to leave the bulkhead, and were not sent.
+    assertEquals(2, server.getRequestCount());
+  }
+}
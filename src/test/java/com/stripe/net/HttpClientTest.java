@@ -12,11 +12,16 @@ import com.stripe.BaseStripeTest;
 import com.stripe.Stripe;
 import com.stripe.exception.ApiConnectionException;
 import com.stripe.exception.StripeException;
+import java.lang.reflect.Field;
 import java.net.ConnectException;
 import java.net.SocketTimeoutException;
+import java.time.Duration;
 import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 
 public class HttpClientTest extends BaseStripeTest {
@@ -182,6 +187,165 @@ public class HttpClientTest extends BaseStripeTest {
     assertEquals(1, response.numRetries());
   }
 
+  private static <T> CompletableFuture<T> failedFuture(Throwable e) {
+    CompletableFuture<T> future = new CompletableFuture<>();
+    future.completeExceptionally(e);
+    return future;
+  }
+
+  @Test
+  public void testRequestWithRetriesAsyncConnectException() throws Exception {
+    Mockito.doReturn(
+            failedFuture(
+                new ApiConnectionException("foo", new ConnectException("timeout or something"))))
+        .doReturn(CompletableFuture.completedFuture(new StripeResponse(200, emptyHeaders, "{}")))
+        .when(this.client)
+        .requestAsync(this.request);
+
+    StripeResponse response = this.client.requestWithRetriesAsync(this.request).get();
+
+    assertNotNull(response);
+    assertEquals(200, response.code());
+    assertEquals(1, response.numRetries());
+  }
+
+  @Test
+  public void testRequestWithRetriesAsyncRethrowAfterAllAttempts() throws Exception {
+    Mockito.doReturn(failedFuture(new ApiConnectionException("1", new ConnectException("1"))))
+        .doReturn(failedFuture(new ApiConnectionException("2", new ConnectException("2"))))
+        .doReturn(failedFuture(new ApiConnectionException("3", new ConnectException("3"))))
+        .when(this.client)
+        .requestAsync(this.request);
+
+    ExecutionException e =
+        assertThrows(
+            ExecutionException.class,
+            () -> this.client.requestWithRetriesAsync(this.request).get());
+    assertTrue(e.getCause() instanceof ApiConnectionException);
+    assertEquals("3", e.getCause().getMessage());
+    Mockito.verify(this.client, Mockito.times(3)).requestAsync(this.request);
+  }
+
+  @Test
+  public void testRequestWithRetriesAsyncConflictThenStripeShouldRetryFalse() throws Exception {
+    Mockito.doReturn(CompletableFuture.completedFuture(new StripeResponse(409, emptyHeaders, "{}")))
+        .doReturn(
+            CompletableFuture.completedFuture(
+                new StripeResponse(
+                    500,
+                    HttpHeaders.of(
+                        ImmutableMap.of("Stripe-Should-Retry", ImmutableList.of("false"))),
+                    "{}")))
+        .when(this.client)
+        .requestAsync(this.request);
+
+    StripeResponse response = this.client.requestWithRetriesAsync(this.request).get();
+
+    assertEquals(500, response.code());
+    assertEquals(1, response.numRetries());
+  }
+
+  @Test
+  public void testRequestWithRetriesAsyncDoesNotRetryOtherExceptions() throws Exception {
+    Mockito.doReturn(failedFuture(new IllegalStateException("boom")))
+        .when(this.client)
+        .requestAsync(this.request);
+
+    ExecutionException e =
+        assertThrows(
+            ExecutionException.class,
+            () -> this.client.requestWithRetriesAsync(this.request).get());
+    assertTrue(e.getCause() instanceof IllegalStateException);
+    Mockito.verify(this.client, Mockito.times(1)).requestAsync(this.request);
+  }
+
+  @Test
+  public void testRequestWithRetriesRateLimitedNotRetriedByDefault() throws StripeException {
+    Mockito.when(this.client.request(this.request))
+        .thenReturn(new StripeResponse(429, emptyHeaders, "{}"));
+
+    StripeResponse response = this.client.requestWithRetries(this.request);
+
+    assertEquals(429, response.code());
+    assertEquals(0, response.numRetries());
+  }
+
+  @Test
+  public void testRequestWithRetriesRateLimitedWithPolicy() throws StripeException {
+    StripeRequest request =
+        StripeRequest.create(
+            ApiResource.RequestMethod.GET,
+            "http://example.com/get",
+            null,
+            RequestOptions.builder()
+                .setApiKey("sk_test_123")
+                .setMaxNetworkRetries(2)
+                .setRetryPolicy(DefaultRetryPolicy.builder().setRetryOnRateLimit(true).build())
+                .build(),
+            ApiMode.V1);
+    Mockito.when(this.client.request(request))
+        .thenReturn(
+            new StripeResponse(
+                429, HttpHeaders.of(ImmutableMap.of("Retry-After", ImmutableList.of("1"))), "{}"))
+        .thenReturn(new StripeResponse(200, emptyHeaders, "{}"));
+
+    StripeResponse response = this.client.requestWithRetries(request);
+
+    assertEquals(200, response.code());
+    assertEquals(1, response.numRetries());
+  }
+
+  @Test
+  public void testRequestWithRetriesCustomPolicy() throws StripeException {
+    StripeRequest request =
+        StripeRequest.create(
+            ApiResource.RequestMethod.GET,
+            "http://example.com/get",
+            null,
+            RequestOptions.builder()
+                .setApiKey("sk_test_123")
+                .setMaxNetworkRetries(2)
+                .setRetryPolicy(attempt -> attempt.numRetries() < 4 ? Duration.ZERO : null)
+                .build(),
+            ApiMode.V1);
+    Mockito.when(this.client.request(request))
+        .thenReturn(new StripeResponse(400, emptyHeaders, "{}"));
+
+    StripeResponse response = this.client.requestWithRetries(request);
+
+    assertEquals(400, response.code());
+    assertEquals(4, response.numRetries());
+    Mockito.verify(this.client, Mockito.times(5)).request(request);
+  }
+
+  @Test
+  public void testRequestWithRetriesTotalTimeoutCapsAttemptTimeouts() throws StripeException {
+    StripeRequest request =
+        StripeRequest.create(
+            ApiResource.RequestMethod.GET,
+            "http://example.com/get",
+            null,
+            RequestOptions.builder()
+                .setApiKey("sk_test_123")
+                .setConnectTimeout(30_000)
+                .setReadTimeout(80_000)
+                .setMaxNetworkRetries(2)
+                .setRetryPolicy(
+                    DefaultRetryPolicy.builder().setTotalTimeout(Duration.ofSeconds(5)).build())
+                .build(),
+            ApiMode.V1);
+    ArgumentCaptor<StripeRequest> sent = ArgumentCaptor.forClass(StripeRequest.class);
+    Mockito.when(this.client.request(sent.capture()))
+        .thenReturn(new StripeResponse(200, emptyHeaders, "{}"));
+
+    this.client.requestWithRetries(request);
+
+    RequestOptions options = sent.getValue().options();
+    assertTrue(options.getConnectTimeout() <= 5_000);
+    assertTrue(options.getReadTimeout() <= 5_000);
+    assertEquals(request.headers(), sent.getValue().headers());
+  }
+
   @Test
   public void testV1RequestSetsCorrectUserAgent() throws StripeException {
     StripeRequest request =
@@ -211,4 +375,33 @@ public class HttpClientTest extends BaseStripeTest {
         HttpClient.buildUserAgentString(request),
         String.format("Stripe/v2 JavaBindings/%s", Stripe.VERSION));
   }
+
+  @Test
+  public void testUserAgentFollowsAppInfo() throws Exception {
+    StripeRequest request =
+        StripeRequest.create(
+            ApiResource.RequestMethod.GET,
+            "http://example.com/get",
+            null,
+            RequestOptions.builder().setApiKey("sk_test_123").build(),
+            ApiMode.V1);
+
+    try {
+      Stripe.setAppInfo("MyApp", "1.0");
+      assertEquals(
+          String.format("Stripe/v1 JavaBindings/%s MyApp/1.0", Stripe.VERSION),
+          HttpClient.buildUserAgentString(request));
+
+      // The app info is updated in place.
+      Stripe.setAppInfo("MyApp", "2.0");
+      assertEquals(
+          String.format("Stripe/v1 JavaBindings/%s MyApp/2.0", Stripe.VERSION),
+          HttpClient.buildUserAgentString(request));
+      assertTrue(HttpClient.buildXStripeClientUserAgentString().contains("2.0"));
+    } finally {
+      Field appInfo = Stripe.class.getDeclaredField("appInfo");
+      appInfo.setAccessible(true);
+      appInfo.set(null, null);
+    }
+  }
 }
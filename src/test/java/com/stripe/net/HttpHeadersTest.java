@@ -10,6 +10,7 @@ import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.stripe.BaseStripeTest;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import org.junit.jupiter.api.Test;
@@ -76,6 +77,15 @@ public class HttpHeadersTest extends BaseStripeTest {
         ImmutableList.of("New value", "Another value"), newHeaders.allValues("new-header"));
   }
 
+  @Test
+  public void testWithAdditionalHeaderReplacesHeaderRegardlessOfCase() {
+    HttpHeaders headers = HttpHeaders.of(this.headerMap);
+    HttpHeaders newHeaders = headers.withAdditionalHeader("some-header", "New value");
+    assertEquals(ImmutableList.of("New value"), newHeaders.allValues("Some-Header"));
+    assertEquals(1, newHeaders.map().size());
+    assertEquals(ImmutableList.of("First value", "Second value"), headers.allValues("Some-Header"));
+  }
+
   @Test
   public void testAllValues() {
     HttpHeaders headers = HttpHeaders.of(this.headerMap);
@@ -101,4 +111,38 @@ public class HttpHeadersTest extends BaseStripeTest {
         ImmutableMap.of("Some-Header", ImmutableList.of("First value", "Second value")),
         headers.map());
   }
+
+  @Test
+  public void testMapIsCaseInsensitiveAndUnmodifiable() {
+    HttpHeaders headers = HttpHeaders.of(this.headerMap);
+    Map<String, List<String>> map = headers.map();
+    assertEquals(ImmutableList.of("First value", "Second value"), map.get("SOME-HEADER"));
+    assertTrue(map.containsKey("some-header"));
+    assertEquals(ImmutableList.of("Some-Header"), ImmutableList.copyOf(map.keySet()));
+    assertThrows(UnsupportedOperationException.class, () -> map.remove("Some-Header"));
+    assertThrows(
+        UnsupportedOperationException.class, () -> headers.allValues("Some-Header").add("Value"));
+  }
+
+  @Test
+  public void testEqualsIgnoresCaseOfNames() {
+    HttpHeaders headers = HttpHeaders.of(this.headerMap);
+    HttpHeaders other =
+        HttpHeaders.of(
+            ImmutableMap.of("some-header", ImmutableList.of("First value", "Second value")));
+    assertEquals(headers, other);
+    assertEquals(headers.hashCode(), other.hashCode());
+    assertFalse(headers.equals(headers.withAdditionalHeader("New-Header", "New value")));
+  }
+
+  @Test
+  public void testOfWithStatusLine() {
+    // HttpURLConnection reports the status line under a null name.
+    Map<String, List<String>> map = new HashMap<>(this.headerMap);
+    map.put(null, ImmutableList.of("HTTP/1.1 200 OK"));
+    HttpHeaders headers = HttpHeaders.of(map);
+    assertEquals(ImmutableList.of("HTTP/1.1 200 OK"), headers.allValues(null));
+    assertEquals("First value", headers.firstValue("Some-Header").get());
+    assertEquals(2, headers.map().size());
+  }
 }
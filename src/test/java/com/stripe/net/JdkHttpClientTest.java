@@ -0,0 +1,225 @@
+package com.stripe.net;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.stripe.exception.ApiConnectionException;
+import com.stripe.exception.StripeException;
+import com.stripe.util.StreamUtils;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Proxy;
+import java.net.SocketException;
+import java.net.SocketTimeoutException;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import lombok.Cleanup;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+
+@EnabledForJreRange(min = JRE.JAVA_11)
+public class JdkHttpClientTest {
+  private static StripeRequest buildRequest(
+      ApiResource.RequestMethod method, String url, Map<String, Object> params, int readTimeout)
+      throws StripeException {
+    return StripeRequest.create(
+        method,
+        url,
+        params,
+        RequestOptions.builder()
+            .setApiKey("sk_test_123")
+            .setConnectTimeout(30000)
+            .setReadTimeout(readTimeout)
+            .build(),
+        ApiMode.V1);
+  }
+
+  @Test
+  public void testIsSupported() {
+    assertTrue(JdkHttpClient.isSupported());
+  }
+
+  @Test
+  public void testRequestGet() throws Exception {
+    @Cleanup MockWebServer server = new MockWebServer();
+    server.enqueue(
+        new MockResponse().setBody("{\"id\": \"cus_123\"}").addHeader("Request-Id", "req_123"));
+    server.start();
+
+    StripeResponse response =
+        new JdkHttpClient()
+            .request(
+                buildRequest(
+                    ApiResource.RequestMethod.GET,
+                    server.url("/v1/customers/cus_123").toString(),
+                    null,
+                    80000));
+
+    assertEquals(200, response.code());
+    assertEquals("{\"id\": \"cus_123\"}", response.body());
+    assertEquals("req_123", response.requestId());
+
+    RecordedRequest recorded = server.takeRequest();
+    assertEquals("GET", recorded.getMethod());
+    assertEquals("/v1/customers/cus_123", recorded.getPath());
+    assertEquals("Bearer sk_test_123", recorded.getHeader("Authorization"));
+    assertTrue(recorded.getHeader("User-Agent").startsWith("Stripe/v1 JavaBindings/"));
+  }
+
+  @Test
+  public void testRequestPost() throws Exception {
+    @Cleanup MockWebServer server = new MockWebServer();
+    server.enqueue(new MockResponse().setBody("{}"));
+    server.start();
+
+    Map<String, Object> params = new HashMap<>();
+    params.put("description", "foo");
+    new JdkHttpClient()
+        .request(
+            buildRequest(
+                ApiResource.RequestMethod.POST,
+                server.url("/v1/customers").toString(),
+                params,
+                80000));
+
+    RecordedRequest recorded = server.takeRequest();
+    assertEquals("POST", recorded.getMethod());
+    assertEquals("description=foo", recorded.getBody().readUtf8());
+    assertTrue(recorded.getHeader("Content-Type").startsWith("application/x-www-form-urlencoded"));
+    assertTrue(recorded.getHeader("Idempotency-Key") != null);
+  }
+
+  @Test
+  public void testRequestStream() throws Exception {
+    @Cleanup MockWebServer server = new MockWebServer();
+    server.enqueue(new MockResponse().setBody("this is a pdf"));
+    server.start();
+
+    StripeResponseStream response =
+        new JdkHttpClient()
+            .requestStream(
+                buildRequest(
+                    ApiResource.RequestMethod.GET,
+                    server.url("/v1/quotes/qt_123/pdf").toString(),
+                    null,
+                    80000));
+
+    assertEquals(200, response.code());
+    assertEquals("this is a pdf", StreamUtils.readToEnd(response.body(), ApiResource.CHARSET));
+  }
+
+  @Test
+  public void testReadTimeoutIsRetryable() throws IOException {
+    @Cleanup MockWebServer server = new MockWebServer();
+    server.enqueue(new MockResponse().setBody("{}").setHeadersDelay(1, TimeUnit.SECONDS));
+    server.start();
+
+    ApiConnectionException e =
+        assertThrows(
+            ApiConnectionException.class,
+            () ->
+                new JdkHttpClient()
+                    .request(
+                        buildRequest(
+                            ApiResource.RequestMethod.GET,
+                            server.url("/v1/customers").toString(),
+                            null,
+                            100)));
+    assertTrue(e.getCause() instanceof SocketTimeoutException);
+  }
+
+  @Test
+  public void testRequestV2SendsSingleContentType() throws Exception {
+    @Cleanup MockWebServer server = new MockWebServer();
+    server.enqueue(new MockResponse().setBody("{}"));
+    server.start();
+
+    Map<String, Object> params = new HashMap<>();
+    params.put("description", "foo");
+    new JdkHttpClient()
+        .request(
+            StripeRequest.create(
+                ApiResource.RequestMethod.POST,
+                server.url("/v2/billing/meter_events").toString(),
+                params,
+                RequestOptions.builder()
+                    .setApiKey("sk_test_123")
+                    .setConnectTimeout(30000)
+                    .setReadTimeout(80000)
+                    .build(),
+                ApiMode.V2));
+
+    RecordedRequest recorded = server.takeRequest();
+    assertEquals(1, recorded.getHeaders().values("Content-Type").size());
+    assertTrue(recorded.getHeader("Content-Type").startsWith("application/json"));
+  }
+
+  @Test
+  public void testRequestThroughSocksProxyUsesHttpUrlConnection() throws Exception {
+    // Nothing listens on the proxy's port, so HttpURLConnection fails to connect to it.
+    StripeRequest request =
+        StripeRequest.create(
+            ApiResource.RequestMethod.GET,
+            "http://localhost:12111/v1/customers",
+            null,
+            RequestOptions.builder()
+                .setApiKey("sk_test_123")
+                .setConnectTimeout(30000)
+                .setReadTimeout(80000)
+                .setConnectionProxy(
+                    new Proxy(Proxy.Type.SOCKS, new InetSocketAddress("localhost", 1)))
+                .build(),
+            ApiMode.V1);
+
+    ApiConnectionException e =
+        assertThrows(ApiConnectionException.class, () -> new JdkHttpClient().request(request));
+    assertTrue(e.getCause() instanceof SocketException);
+  }
+
+  @Test
+  public void testTotalTimeoutReusesClient() throws Exception {
+    @Cleanup MockWebServer server = new MockWebServer();
+    server.start();
+
+    RequestOptions options =
+        RequestOptions.builder()
+            .setApiKey("sk_test_123")
+            .setConnectTimeout(30000)
+            .setReadTimeout(80000)
+            .setMaxNetworkRetries(1)
+            .setRetryPolicy(
+                DefaultRetryPolicy.builder()
+                    .setMinDelay(Duration.ofMillis(1))
+                    .setMaxDelay(Duration.ofMillis(10))
+                    .setTotalTimeout(Duration.ofSeconds(10))
+                    .build())
+            .build();
+    JdkHttpClient client = new JdkHttpClient();
+
+    // Each retry starts with a different remaining budget, which is shorter than the timeouts.
+    for (int i = 0; i < 5; i++) {
+      server.enqueue(
+          new MockResponse().setResponseCode(500).setHeadersDelay(i + 1, TimeUnit.MILLISECONDS));
+      server.enqueue(new MockResponse().setBody("{}"));
+      StripeResponse response =
+          client.requestWithRetries(
+              StripeRequest.create(
+                  ApiResource.RequestMethod.GET,
+                  server.url("/v1/customers").toString(),
+                  null,
+                  options,
+                  ApiMode.V1));
+      assertEquals(200, response.code());
+    }
+
+    assertEquals(10, server.getRequestCount());
+    assertEquals(1, client.clientCount());
+  }
+}
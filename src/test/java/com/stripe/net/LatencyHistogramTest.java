@@ -0,0 +1,71 @@
+package com.stripe.net;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.Test;
+
+public class LatencyHistogramTest {
+  @Test
+  public void testBucketsCoverAllValues() {
+    int previous = -1;
+    for (long value = 0; value < 1_000_000; value++) {
+      int index = LatencyHistogram.bucketIndex(value);
+      assertTrue(index == previous || index == previous + 1);
+      assertTrue(LatencyHistogram.bucketUpperBound(index) >= value);
+      previous = index;
+    }
+  }
+
+  @Test
+  public void testEmptySnapshot() {
+    LatencyHistogram.Snapshot snapshot = new LatencyHistogram().snapshot();
+
+    assertEquals(0, snapshot.count());
+    assertEquals(Duration.ZERO, snapshot.p50());
+    assertEquals(Duration.ZERO, snapshot.max());
+  }
+
+  @Test
+  public void testPercentiles() {
+    LatencyHistogram histogram = new LatencyHistogram();
+    for (int i = 1; i <= 1000; i++) {
+      histogram.record(Duration.ofMillis(i));
+    }
+
+    LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+
+    assertEquals(1000, snapshot.count());
+    assertEquals(Duration.ofMillis(1000), snapshot.max());
+    assertEquals(Duration.ofNanos(500_500_000), snapshot.mean());
+    assertWithin(Duration.ofMillis(500), snapshot.p50());
+    assertWithin(Duration.ofMillis(990), snapshot.p99());
+    assertWithin(Duration.ofMillis(999), snapshot.p999());
+  }
+
+  @Test
+  public void testConcurrentRecording() {
+    LatencyHistogram histogram = new LatencyHistogram();
+    CompletableFuture<?>[] futures = new CompletableFuture<?>[4];
+    for (int i = 0; i < futures.length; i++) {
+      futures[i] =
+          CompletableFuture.runAsync(
+              () -> {
+                for (int j = 0; j < 10_000; j++) {
+                  histogram.record(Duration.ofMillis(10));
+                }
+              });
+    }
+    CompletableFuture.allOf(futures).join();
+
+    assertEquals(40_000, histogram.snapshot().count());
+  }
+
+  /** Asserts that the given percentile is within the relative error of the histogram. */
+  private static void assertWithin(Duration expected, Duration actual) {
+    long error = Math.abs(actual.toNanos() - expected.toNanos());
+    assertTrue(error <= expected.toNanos() / 16, actual.toString());
+  }
+}
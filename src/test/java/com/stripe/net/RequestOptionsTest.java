@@ -6,6 +6,7 @@ import com.stripe.net.RequestOptions.RequestOptionsBuilder;
 import java.net.InetSocketAddress;
 import java.net.PasswordAuthentication;
 import java.net.Proxy;
+import java.util.Collections;
 import org.junit.jupiter.api.Test;
 
 public class RequestOptionsTest {
@@ -56,8 +57,11 @@ public class RequestOptionsTest {
                     .setClientId("123")
                     .setIdempotencyKey("123")
                     .setStripeAccount("acct_bar")
+                    .setStripeContext("ctx_baz")
                     .setConnectTimeout(100)
                     .setReadTimeout(100)
+                    .setPriority(RequestPriority.BULK)
+                    .setLeanResponses(true)
                     .setConnectionProxy(
                         new Proxy(Proxy.Type.HTTP, new InetSocketAddress("localhost", 1234)))
                     .setProxyCredential(
@@ -215,4 +219,57 @@ public class RequestOptionsTest {
     assertEquals(null, merged.getIdempotencyKey());
     assertEquals(null, merged.getStripeAccount());
   }
+
+  @Test
+  public void testWithDefaultPriority() {
+    assertEquals(
+        RequestPriority.BULK,
+        RequestOptions.withDefaultPriority(null, RequestPriority.BULK).getPriority());
+
+    RequestOptions opts =
+        RequestOptions.builder().setApiKey("sk_foo").setStripeAccount("acct_bar").build();
+    RequestOptions bulk = RequestOptions.withDefaultPriority(opts, RequestPriority.BULK);
+    assertEquals(RequestPriority.BULK, bulk.getPriority());
+    assertEquals("sk_foo", bulk.getApiKey());
+    assertEquals("acct_bar", bulk.getStripeAccount());
+
+    RequestOptions interactive =
+        RequestOptions.builder().setPriority(RequestPriority.INTERACTIVE).build();
+    assertSame(interactive, RequestOptions.withDefaultPriority(interactive, RequestPriority.BULK));
+  }
+
+  @Test
+  public void testWithTimeoutsKeepsRawRequestOptions() {
+    RawRequestOptions opts =
+        RawRequestOptions.builder()
+            .setApiKey("sk_foo")
+            .setConnectTimeout(30000)
+            .setAdditionalHeaders(Collections.singletonMap("Stripe-Foo", "bar"))
+            .build();
+
+    RequestOptions capped = opts.withTimeouts(1000, 2000);
+    assertTrue(capped instanceof RawRequestOptions);
+    assertEquals(
+        Collections.singletonMap("Stripe-Foo", "bar"),
+        ((RawRequestOptions) capped).getAdditionalHeaders());
+    assertEquals("sk_foo", capped.getApiKey());
+    assertEquals(1000, capped.getConnectTimeout());
+    assertEquals(2000, capped.getReadTimeout());
+  }
+
+  @Test
+  public void testWithDefaultPriorityKeepsRawRequestOptions() {
+    RawRequestOptions opts =
+        RawRequestOptions.builder()
+            .setApiKey("sk_foo")
+            .setAdditionalHeaders(Collections.singletonMap("Stripe-Foo", "bar"))
+            .build();
+
+    RequestOptions bulk = RequestOptions.withDefaultPriority(opts, RequestPriority.BULK);
+    assertTrue(bulk instanceof RawRequestOptions);
+    assertEquals(
+        Collections.singletonMap("Stripe-Foo", "bar"),
+        ((RawRequestOptions) bulk).getAdditionalHeaders());
+    assertEquals(RequestPriority.BULK, bulk.getPriority());
+  }
 }
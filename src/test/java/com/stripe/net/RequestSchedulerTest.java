@@ -0,0 +1,101 @@
+package com.stripe.net;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.stripe.exception.ConcurrencyLimitException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import org.junit.jupiter.api.Test;
+
+public class RequestSchedulerTest {
+  private static final int NO_LIMIT = Integer.MAX_VALUE;
+
+  @Test
+  public void testDispatchesInOrderOfPriority() throws Exception {
+    RequestScheduler scheduler = RequestScheduler.builder().setMaxConcurrentRequests(1).build();
+
+    scheduler.acquire(RequestPriority.DEFAULT, NO_LIMIT);
+    CompletableFuture<Void> bulk = scheduler.acquireAsync(RequestPriority.BULK, NO_LIMIT);
+    CompletableFuture<Void> other = scheduler.acquireAsync(null, NO_LIMIT);
+    CompletableFuture<Void> interactive =
+        scheduler.acquireAsync(RequestPriority.INTERACTIVE, NO_LIMIT);
+    assertEquals(3, scheduler.getQueueLength());
+
+    scheduler.release(NO_LIMIT);
+    assertTrue(interactive.isDone());
+    assertFalse(other.isDone());
+    assertFalse(bulk.isDone());
+
+    scheduler.release(NO_LIMIT);
+    assertTrue(other.isDone());
+    assertFalse(bulk.isDone());
+
+    scheduler.release(NO_LIMIT);
+    assertTrue(bulk.isDone());
+    assertEquals(1, scheduler.getInFlight());
+    assertEquals(0, scheduler.getQueueLength());
+  }
+
+  @Test
+  public void testFollowsConcurrencyLimit() throws Exception {
+    RequestScheduler scheduler = RequestScheduler.builder().setMaxConcurrentRequests(10).build();
+
+    scheduler.acquire(RequestPriority.DEFAULT, 2);
+    scheduler.acquire(RequestPriority.DEFAULT, 2);
+    CompletableFuture<Void> third = scheduler.acquireAsync(RequestPriority.DEFAULT, 2);
+    assertFalse(third.isDone());
+
+    // The limit grew in the meantime, so both waiting requests may proceed.
+    CompletableFuture<Void> fourth = scheduler.acquireAsync(RequestPriority.DEFAULT, 2);
+    scheduler.release(4);
+    assertTrue(third.isDone());
+    assertTrue(fourth.isDone());
+    assertEquals(3, scheduler.getInFlight());
+  }
+
+  @Test
+  public void testRejectsAfterMaxQueueWait() throws Exception {
+    RequestScheduler scheduler =
+        RequestScheduler.builder()
+            .setMaxConcurrentRequests(1)
+            .setMaxQueueWait(Duration.ofMillis(50))
+            .build();
+
+    scheduler.acquire(RequestPriority.DEFAULT, NO_LIMIT);
+    assertThrows(
+        ConcurrencyLimitException.class,
+        () -> scheduler.acquire(RequestPriority.INTERACTIVE, NO_LIMIT));
+
+    CompletableFuture<Void> turn = scheduler.acquireAsync(RequestPriority.BULK, NO_LIMIT);
+    ExecutionException e = assertThrows(ExecutionException.class, turn::get);
+    assertTrue(e.getCause() instanceof ConcurrencyLimitException);
+
+    assertEquals(2, scheduler.getRejectedCount());
+    assertEquals(0, scheduler.getQueueLength());
+    assertEquals(1, scheduler.getInFlight());
+  }
+
+  @Test
+  public void testBlockingWaiterIsDispatched() throws Exception {
+    RequestScheduler scheduler = RequestScheduler.builder().setMaxConcurrentRequests(1).build();
+
+    scheduler.acquire(RequestPriority.DEFAULT, NO_LIMIT);
+    CompletableFuture<Void> waiter =
+        AsyncSupport.supplyAsync(
+            () -> {
+              scheduler.acquire(RequestPriority.DEFAULT, NO_LIMIT);
+              return null;
+            },
+            AsyncSupport.defaultExecutor());
+    Thread.sleep(100);
+    assertFalse(waiter.isDone());
+
+    scheduler.release(NO_LIMIT);
+    waiter.get();
+    assertEquals(1, scheduler.getInFlight());
+  }
+}
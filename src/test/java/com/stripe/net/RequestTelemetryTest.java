@@ -0,0 +1,98 @@
+package com.stripe.net;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.stripe.Stripe;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class RequestTelemetryTest {
+  private final RequestTelemetry telemetry = new RequestTelemetry();
+
+  private boolean originalTelemetry;
+  private double originalSampleRate;
+
+  @BeforeEach
+  public void setUp() {
+    this.originalTelemetry = Stripe.enableTelemetry;
+    this.originalSampleRate = Stripe.telemetrySampleRate;
+    Stripe.enableTelemetry = true;
+    // The queue is shared by all clients, so drain what other tests left in it.
+    while (this.telemetry.pollPayload().isPresent()) {}
+  }
+
+  @AfterEach
+  public void tearDown() {
+    Stripe.enableTelemetry = this.originalTelemetry;
+    Stripe.telemetrySampleRate = this.originalSampleRate;
+  }
+
+  private static StripeResponse response(String requestId) {
+    Map<String, List<String>> headers =
+        Collections.singletonMap("Request-Id", Collections.singletonList(requestId));
+    return new StripeResponse(200, HttpHeaders.of(headers), "{}");
+  }
+
+  @Test
+  public void testSerializePayload() {
+    String payload =
+        RequestTelemetry.serializePayload("req_\"1\"", 42, Arrays.asList("feature_a", "feature_b"));
+    JsonObject metrics =
+        JsonParser.parseString(payload).getAsJsonObject().getAsJsonObject("last_request_metrics");
+
+    assertEquals("req_\"1\"", metrics.get("request_id").getAsString());
+    assertEquals(42, metrics.get("request_duration_ms").getAsLong());
+    assertEquals(2, metrics.getAsJsonArray("usage").size());
+    assertEquals("feature_b", metrics.getAsJsonArray("usage").get(1).getAsString());
+
+    assertFalse(
+        JsonParser.parseString(RequestTelemetry.serializePayload("req_1", 42, null))
+            .getAsJsonObject()
+            .getAsJsonObject("last_request_metrics")
+            .has("usage"));
+  }
+
+  @Test
+  public void testQueueIsFirstInFirstOut() {
+    this.telemetry.maybeEnqueueMetrics(response("req_1"), Duration.ofMillis(10), null);
+    this.telemetry.maybeEnqueueMetrics(response("req_2"), Duration.ofMillis(20), null);
+
+    assertTrue(this.telemetry.pollPayload().get().contains("\"req_1\""));
+    assertTrue(this.telemetry.pollPayload().get().contains("\"req_2\""));
+    assertFalse(this.telemetry.pollPayload().isPresent());
+  }
+
+  @Test
+  public void testQueueIsBounded() {
+    for (int i = 0; i < 1000; i++) {
+      this.telemetry.maybeEnqueueMetrics(response("req_" + i), Duration.ofMillis(10), null);
+    }
+
+    int count = 0;
+    while (this.telemetry.pollPayload().isPresent()) {
+      count += 1;
+    }
+    assertEquals(128, count);
+  }
+
+  @Test
+  public void testSampling() {
+    Stripe.telemetrySampleRate = 0.0;
+
+    for (int i = 0; i < 100; i++) {
+      this.telemetry.maybeEnqueueMetrics(response("req_" + i), Duration.ofMillis(10), null);
+    }
+
+    assertFalse(this.telemetry.pollPayload().isPresent());
+  }
+}
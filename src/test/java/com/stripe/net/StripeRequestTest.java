@@ -184,6 +184,63 @@ public class StripeRequestTest extends BaseStripeTest {
     assertNull(request.content());
   }
 
+  @Test
+  public void testCtorIdempotencyKeyGenerator() throws StripeException {
+    RequestOptions options =
+        RequestOptions.builder()
+            .setApiKey("sk_test_123")
+            .setIdempotencyKeyGenerator((method, url, content) -> method + " " + url.getPath())
+            .build();
+    StripeRequest request =
+        StripeRequest.create(
+            ApiResource.RequestMethod.POST,
+            "http://example.com/post",
+            ImmutableMap.of("key", "value"),
+            options,
+            ApiMode.V1);
+
+    assertEquals("POST /post", request.headers().firstValue("Idempotency-Key").orElse(null));
+  }
+
+  @Test
+  public void testCtorDeterministicIdempotencyKey() throws StripeException {
+    RequestOptions options =
+        RequestOptions.builder()
+            .setApiKey("sk_test_123")
+            .setIdempotencyKeyGenerator(new DeterministicIdempotencyKeyGenerator("order_123"))
+            .build();
+
+    String key1 = createPostRequestIdempotencyKey(options, "value");
+    String key2 = createPostRequestIdempotencyKey(options, "value");
+    String key3 = createPostRequestIdempotencyKey(options, "other value");
+
+    assertTrue(key1.startsWith("order_123-"));
+    assertEquals("order_123-".length() + 64, key1.length());
+    assertEquals(key1, key2);
+    assertNotEquals(key1, key3);
+  }
+
+  @Test
+  public void testCtorRandomIdempotencyKey() throws StripeException {
+    String key1 = createPostRequestIdempotencyKey(options, "value");
+    String key2 = createPostRequestIdempotencyKey(options, "value");
+
+    assertTrue(key1.matches("[0-9a-f]{8}-[0-9a-f]{4}-4[0-9a-f]{3}-[89ab][0-9a-f]{3}-[0-9a-f]{12}"));
+    assertNotEquals(key1, key2);
+  }
+
+  private static String createPostRequestIdempotencyKey(RequestOptions options, String value)
+      throws StripeException {
+    StripeRequest request =
+        StripeRequest.create(
+            ApiResource.RequestMethod.POST,
+            "http://example.com/post",
+            ImmutableMap.of("key", value),
+            options,
+            ApiMode.V1);
+    return request.headers().firstValue("Idempotency-Key").get();
+  }
+
   @Test
   public void testCtorThrowsOnNullApiKey() throws StripeException {
     AuthenticationException e =
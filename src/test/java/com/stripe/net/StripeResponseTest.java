@@ -83,4 +83,22 @@ public class StripeResponseTest extends BaseStripeTest {
     final StripeResponse stripeResponse = new StripeResponse(200, HttpHeaders.of(headerMap), "");
     assertEquals("req_12345", stripeResponse.requestId());
   }
+
+  @Test
+  public void testLean() {
+    HttpHeaders headers =
+        HttpHeaders.of(ImmutableMap.of("request-id", ImmutableList.of("req_12345")))
+            .withAdditionalHeader("Idempotency-Key", "12345")
+            .withAdditionalHeader("Content-Type", "application/json");
+    StripeResponse stripeResponse = new StripeResponse(200, headers, "{}");
+    stripeResponse.numRetries(2);
+
+    StripeResponse lean = stripeResponse.lean();
+    assertEquals(200, lean.code());
+    assertEquals("", lean.body());
+    assertEquals("req_12345", lean.requestId());
+    assertEquals("12345", lean.idempotencyKey());
+    assertEquals(2, lean.numRetries());
+    assertEquals(2, lean.headers().map().size());
+  }
 }
@@ -22,4 +22,26 @@ public class StreamUtilsTest {
     stream = new ByteArrayInputStream(string.getBytes(StandardCharsets.UTF_8));
     assertEquals(string, StreamUtils.readToEnd(stream, StandardCharsets.UTF_8));
   }
+
+  @Test
+  public void testReadToEndWithExpectedLength() throws IOException {
+    String string = "Hello world!";
+    byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+
+    // Exact length
+    InputStream stream = new ByteArrayInputStream(bytes);
+    assertEquals(string, StreamUtils.readToEnd(stream, StandardCharsets.UTF_8, bytes.length));
+
+    // Stream shorter than expected
+    stream = new ByteArrayInputStream(bytes);
+    assertEquals(string, StreamUtils.readToEnd(stream, StandardCharsets.UTF_8, 100));
+
+    // Stream longer than expected
+    stream = new ByteArrayInputStream(bytes);
+    assertEquals(string, StreamUtils.readToEnd(stream, StandardCharsets.UTF_8, 5));
+
+    // Unknown length
+    stream = new ByteArrayInputStream(bytes);
+    assertEquals(string, StreamUtils.readToEnd(stream, StandardCharsets.UTF_8, -1));
+  }
 }